@@ -0,0 +1,7 @@
+create sequence if not exists player_id_seq increment by 50;
+
+select setval('player_id_seq', coalesce((select max(player_id) from players_t), 0) + 1, false);
+
+create sequence if not exists manager_id_seq increment by 50;
+
+select setval('manager_id_seq', coalesce((select max(manager_id) from managers_t), 0) + 1, false);
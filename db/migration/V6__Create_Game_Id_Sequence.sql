@@ -0,0 +1,3 @@
+create sequence if not exists game_id_seq increment by 50;
+
+select setval('game_id_seq', coalesce((select max(game_id) from teamgames_t), 0) + 1, false);
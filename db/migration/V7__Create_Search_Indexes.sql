@@ -0,0 +1,56 @@
+create index if not exists idx_teams_team_id_year
+    on teams_t (team_id, year);
+
+create index if not exists idx_teams_year_conference_division
+    on teams_t (year, conference, division);
+
+create index if not exists idx_managers_manager_id_year
+    on managers_t (manager_id, year);
+
+create index if not exists idx_managers_year_team_id
+    on managers_t (year, team_id);
+
+create index if not exists idx_players_player_id_year
+    on players_t (player_id, year);
+
+create index if not exists idx_players_year_team_id
+    on players_t (year, team_id);
+
+create index if not exists idx_team_offense_year_type_team_id
+    on team_offense_sum_t (year, type, team_id);
+
+create index if not exists idx_team_defense_year_type_team_id
+    on team_defense_sum_t (year, type, team_id);
+
+create index if not exists idx_player_stats_year_type_player_id
+    on player_stats_sum_t (year, type, player_id);
+
+create index if not exists idx_player_stats_year_team_id
+    on player_stats_sum_t (year, team_id);
+
+create index if not exists idx_schedule_year_sequence
+    on schedule_t (year, sequence);
+
+create index if not exists idx_schedule_type_status
+    on schedule_t (type, status);
+
+create index if not exists idx_teamgames_game_id_team_id
+    on teamgames_t (game_id, team_id);
+
+create index if not exists idx_teamgames_year_type_team_id_opponent_win
+    on teamgames_t (year, type, team_id, opponent, win);
+
+create index if not exists idx_playergames_game_id_player_id
+    on playergames_t (game_id, player_id);
+
+create index if not exists idx_playergames_game_id_team_id
+    on playergames_t (game_id, team_id);
+
+create index if not exists idx_playergames_year_type_team_id
+    on playergames_t (year, type, team_id);
+
+create index if not exists idx_playergames_year_player_id
+    on playergames_t (year, player_id);
+
+create index if not exists idx_injuries_game_id_player_id
+    on injuries_t (game_id, player_id);
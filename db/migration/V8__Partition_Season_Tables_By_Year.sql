@@ -0,0 +1,117 @@
+do $$
+declare
+    partitioned_table text;
+    season text;
+begin
+    foreach partitioned_table in array array['players_t', 'playergames_t', 'teamgames_t'] loop
+        execute format('alter table %I rename to %I', partitioned_table, partitioned_table || '_legacy');
+        execute format('create table %I (like %I including defaults) partition by list (year)', partitioned_table, partitioned_table || '_legacy');
+        execute format('create table %I partition of %I default', partitioned_table || '_default', partitioned_table);
+
+        for season in execute format('select distinct year from %I where year ~ ''^[0-9]{4}$''', partitioned_table || '_legacy') loop
+            execute format('create table %I partition of %I for values in (%L)', partitioned_table || '_' || season, partitioned_table, season);
+        end loop;
+
+        execute format('insert into %I select * from %I', partitioned_table, partitioned_table || '_legacy');
+        execute format('drop table %I', partitioned_table || '_legacy');
+    end loop;
+end $$;
+
+create index idx_16410_player_year
+    on players_t (year);
+
+create index idx_16410_player_player_id
+    on players_t (player_id);
+
+create index idx_16410_player_team_id
+    on players_t (team_id);
+
+create index idx_16419_teamgames_game_id
+    on teamgames_t (game_id);
+
+create index idx_teamgames_datestamp_brin
+    on teamgames_t using brin (datestamp);
+
+create index idx_16419_teamgames_year
+    on teamgames_t (year);
+
+create index idx_16407_playergames_penalties
+    on playergames_t (penalties);
+
+create index idx_16407_playergames_turnovers
+    on playergames_t (turnovers);
+
+create index idx_16407_playergames_points
+    on playergames_t (points);
+
+create index idx_16407_playergames_stops
+    on playergames_t (stops);
+
+create index idx_16407_playergames_psa
+    on playergames_t (psa);
+
+create index idx_16407_playergames_psm
+    on playergames_t (psm);
+
+create index idx_playergames_datestamp_brin
+    on playergames_t using brin (datestamp);
+
+create index idx_16407_playergames_goals
+    on playergames_t (goals);
+
+create index idx_16407_playergames_player_id
+    on playergames_t (player_id);
+
+create index idx_16407_playergames_ot_psa
+    on playergames_t (ot_psa);
+
+create index idx_16407_playergames_year
+    on playergames_t (year);
+
+create index idx_16407_playergames_team_id
+    on playergames_t (team_id);
+
+create index idx_16407_playergames_playing_time
+    on playergames_t (playing_time);
+
+create index idx_16407_playergames_game_id
+    on playergames_t (game_id);
+
+create index idx_16407_playergames_ot_psm
+    on playergames_t (ot_psm);
+
+create index idx_16407_playergames_attempts
+    on playergames_t (attempts);
+
+create index idx_16407_playergames_steals
+    on playergames_t (steals);
+
+create index idx_16407_playergames_offense
+    on playergames_t (offense);
+
+create index idx_16407_playergames_assists
+    on playergames_t (assists);
+
+create index idx_players_player_id_year
+    on players_t (player_id, year);
+
+create index idx_players_year_team_id
+    on players_t (year, team_id);
+
+create index idx_teamgames_game_id_team_id
+    on teamgames_t (game_id, team_id);
+
+create index idx_teamgames_year_type_team_id_opponent_win
+    on teamgames_t (year, type, team_id, opponent, win);
+
+create index idx_playergames_game_id_player_id
+    on playergames_t (game_id, player_id);
+
+create index idx_playergames_game_id_team_id
+    on playergames_t (game_id, team_id);
+
+create index idx_playergames_year_type_team_id
+    on playergames_t (year, type, team_id);
+
+create index idx_playergames_year_player_id
+    on playergames_t (year, player_id);
@@ -0,0 +1,14 @@
+drop index if exists idx_team_offense_year_type_team_id;
+
+drop index if exists idx_team_defense_year_type_team_id;
+
+drop index if exists idx_player_stats_year_type_player_id;
+
+create unique index if not exists uidx_team_offense_year_type_team_id
+    on team_offense_sum_t (year, type, team_id);
+
+create unique index if not exists uidx_team_defense_year_type_team_id
+    on team_defense_sum_t (year, type, team_id);
+
+create unique index if not exists uidx_player_stats_year_type_player_id
+    on player_stats_sum_t (year, type, player_id);
@@ -0,0 +1,99 @@
+package org.natc.app.comparator;
+
+import org.natc.app.entity.domain.ManagerStyle;
+import org.natc.app.entity.domain.Player;
+import org.natc.app.entity.domain.PlayerRatingAdjustment;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.natc.app.entity.domain.PlayerRatingAdjustment.*;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlayerComparatorBenchmark {
+
+    private static final int PLAYERS = 600;
+
+    @Param({"OFFENSIVE", "DEFENSIVE", "INTANGIBLE", "PENALTIES", "BALANCED"})
+    public ManagerStyle managerStyle;
+
+    @Param({"NONE", "AGE", "CONFIDENCE", "FATIGUE", "AGE_CONFIDENCE", "AGE_FATIGUE", "CONFIDENCE_FATIGUE", "AGE_CONFIDENCE_FATIGUE"})
+    public String adjustments;
+
+    private PlayerComparator playerComparator;
+    private List<Player> players;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        playerComparator = new PlayerComparatorFactory().getPlayerComparatorForManager(managerStyle, toAdjustments(adjustments));
+        players = generatePlayers(new SplittableRandom(1971));
+    }
+
+    @Benchmark
+    public List<Player> sortPlayers() {
+        final List<Player> sorted = new ArrayList<>(players);
+
+        sorted.sort(playerComparator.reversed());
+
+        return sorted;
+    }
+
+    @Benchmark
+    public double rateEveryPlayer() {
+        double total = 0.0;
+
+        for (final Player player : players) {
+            total += playerComparator.getRating(player);
+        }
+
+        return total;
+    }
+
+    private static PlayerRatingAdjustment[] toAdjustments(final String value) {
+        final List<PlayerRatingAdjustment> result = new ArrayList<>();
+
+        if (value.contains("AGE")) result.add(APPLY_AGE);
+        if (value.contains("CONFIDENCE")) result.add(APPLY_CONFIDENCE);
+        if (value.contains("FATIGUE")) result.add(APPLY_FATIGUE);
+
+        return result.toArray(PlayerRatingAdjustment[]::new);
+    }
+
+    // built field by field rather than with Player.generate so fatigue is set for the APPLY_FATIGUE modes
+    private static List<Player> generatePlayers(final SplittableRandom random) {
+        final List<Player> result = new ArrayList<>(PLAYERS);
+
+        for (int i = 0; i < PLAYERS; ++i) {
+            result.add(Player.builder()
+                    .playerId(i + 1)
+                    .year("2001")
+                    .age(18 + random.nextInt(20))
+                    .scoring(random.nextDouble())
+                    .passing(random.nextDouble())
+                    .blocking(random.nextDouble())
+                    .tackling(random.nextDouble())
+                    .stealing(random.nextDouble())
+                    .presence(random.nextDouble())
+                    .discipline(random.nextDouble())
+                    .penaltyShot(random.nextDouble())
+                    .penaltyOffense(random.nextDouble())
+                    .penaltyDefense(random.nextDouble())
+                    .endurance(random.nextDouble())
+                    .confidence(random.nextDouble())
+                    .vitality(random.nextDouble())
+                    .fatigue(random.nextDouble() * 2.0)
+                    .durability(random.nextDouble())
+                    .build());
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,105 @@
+package org.natc.app.comparator;
+
+import org.natc.app.entity.domain.*;
+import org.natc.app.repository.TeamDefenseSummaryRepository;
+import org.natc.app.repository.TeamGameRepository;
+import org.natc.app.repository.TeamOffenseSummaryRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Example;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TeamComparatorBenchmark {
+
+    private static final String YEAR = "2001";
+    private static final int TEAMS = 40;
+
+    private TeamComparator teamComparator;
+    private List<Team> teams;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final List<HeadToHeadRecord> headToHeadRecords = new ArrayList<>();
+        final List<TeamOffenseSummary> offenseSummaries = new ArrayList<>();
+        final List<TeamDefenseSummary> defenseSummaries = new ArrayList<>();
+
+        teams = new ArrayList<>();
+
+        // every team has the same record so each comparison falls through to head to head and scoring differential
+        for (int teamId = 1; teamId <= TEAMS; ++teamId) {
+            teams.add(Team.builder().teamId(teamId).year(YEAR).division(teamId % 4).games(100).wins(50).divisionWins(10).divisionLosses(10).playoffRank(0).build());
+            offenseSummaries.add(TeamOffenseSummary.builder().year(YEAR).type(GameType.REGULAR_SEASON.getValue()).teamId(teamId).score(1000 + teamId).build());
+            defenseSummaries.add(TeamDefenseSummary.builder().year(YEAR).type(GameType.REGULAR_SEASON.getValue()).teamId(teamId).score(1000 + (teamId * 7) % TEAMS).build());
+
+            for (int opponent = 1; opponent <= TEAMS; ++opponent) {
+                if (opponent != teamId) {
+                    headToHeadRecords.add(new HeadToHeadRecord(teamId, opponent, (long) ((teamId + opponent) % 3)));
+                }
+            }
+        }
+
+        teamComparator = new TeamComparator(
+                stub(TeamGameRepository.class, headToHeadRecords, offenseSummaries),
+                stub(TeamOffenseSummaryRepository.class, offenseSummaries, offenseSummaries),
+                stub(TeamDefenseSummaryRepository.class, defenseSummaries, defenseSummaries)
+        );
+    }
+
+    // live comparator, every comparison goes to the (stubbed) repositories
+    @Benchmark
+    public List<Team> sortTeamsLive() {
+        final List<Team> sorted = new ArrayList<>(teams);
+
+        sorted.sort(teamComparator.reversed());
+
+        return sorted;
+    }
+
+    // snapshot comparator, including the cost of loading the snapshot
+    @Benchmark
+    public List<Team> sortTeamsForYear() {
+        final List<Team> sorted = new ArrayList<>(teams);
+
+        sorted.sort(teamComparator.forYear(YEAR).reversed());
+
+        return sorted;
+    }
+
+    // answers the handful of repository calls the comparator makes, without a database or a mocking framework
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(final Class<T> repository, final List<?> findByYearAndType, final List<?> summaries) {
+        return (T) Proxy.newProxyInstance(repository.getClassLoader(), new Class<?>[] { repository }, (proxy, method, args) ->
+                switch (method.getName()) {
+                    case "findHeadToHeadWinsByYearAndType", "findByYearAndType" -> findByYearAndType;
+                    case "countByYearAndTypeAndTeamIdAndOpponentAndWin" -> (int) ((List<HeadToHeadRecord>) findByYearAndType).stream()
+                            .filter(record -> record.getTeamId().equals(args[2]) && record.getOpponent().equals(args[3]))
+                            .mapToLong(HeadToHeadRecord::getWins)
+                            .sum();
+                    case "findOne" -> findSummary(summaries, args[0]);
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> repository.getSimpleName() + "Stub";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static Optional<Object> findSummary(final List<?> summaries, final Object example) {
+        final Object probe = ((Example<?>) example).getProbe();
+        final Integer teamId = probe instanceof TeamOffenseSummary offense ? offense.getTeamId() : ((TeamDefenseSummary) probe).getTeamId();
+
+        return summaries.stream()
+                .filter(summary -> teamId.equals(summary instanceof TeamOffenseSummary offense ? offense.getTeamId() : ((TeamDefenseSummary) summary).getTeamId()))
+                .map(summary -> (Object) summary)
+                .findFirst();
+    }
+}
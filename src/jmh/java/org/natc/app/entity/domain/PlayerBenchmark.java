@@ -0,0 +1,29 @@
+package org.natc.app.entity.domain;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlayerBenchmark {
+
+    private SplittableRandom random;
+    private int playerId;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        random = new SplittableRandom(1971);
+        playerId = 0;
+    }
+
+    @Benchmark
+    public Player generate() {
+        return Player.generate(random, ++playerId, "2001", "First", "Last");
+    }
+}
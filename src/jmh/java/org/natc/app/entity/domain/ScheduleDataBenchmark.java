@@ -0,0 +1,40 @@
+package org.natc.app.entity.domain;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScheduleDataBenchmark {
+
+    private static final int MATCHES = 20;
+
+    private ScheduleData scheduleData;
+    private String encoded;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        scheduleData = new ScheduleData();
+
+        for (int i = 0; i < MATCHES; ++i) {
+            scheduleData.getMatches().add(new ScheduleData.Match(i + 1, (MATCHES * 2) - i));
+        }
+
+        encoded = scheduleData.toString();
+    }
+
+    @Benchmark
+    public String encode() {
+        return scheduleData.toString();
+    }
+
+    @Benchmark
+    public ScheduleData decode() {
+        return ScheduleData.decode(encoded);
+    }
+}
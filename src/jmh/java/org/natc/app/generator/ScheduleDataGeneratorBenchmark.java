@@ -0,0 +1,51 @@
+package org.natc.app.generator;
+
+import org.natc.app.configuration.LeagueConfiguration;
+import org.natc.app.entity.domain.ScheduleData;
+import org.natc.app.random.RandomNumber;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScheduleDataGeneratorBenchmark {
+
+    private RegularSeasonScheduleDataGenerator regularSeasonScheduleDataGenerator;
+    private PreseasonScheduleDataGenerator preseasonScheduleDataGenerator;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // same league shape as application.yml
+        final LeagueConfiguration leagueConfiguration = new LeagueConfiguration();
+
+        leagueConfiguration.setNumberOfTeams(40);
+        leagueConfiguration.setTeamsPerDivision(10);
+        leagueConfiguration.setTeamsPerConference(20);
+        leagueConfiguration.setGamesPerDay(20);
+        leagueConfiguration.setOutOfConferenceGames(7);
+        leagueConfiguration.setDaysInPreseason(10);
+        leagueConfiguration.setDaysInRegularSeason(100);
+        leagueConfiguration.setSeed(1971L);
+
+        final RandomNumber randomNumber = new RandomNumber(leagueConfiguration);
+
+        regularSeasonScheduleDataGenerator = new RegularSeasonScheduleDataGenerator(leagueConfiguration, randomNumber);
+        preseasonScheduleDataGenerator = new PreseasonScheduleDataGenerator(leagueConfiguration, randomNumber);
+    }
+
+    @Benchmark
+    public List<ScheduleData> generateRegularSeason() {
+        return regularSeasonScheduleDataGenerator.generate("2001");
+    }
+
+    @Benchmark
+    public List<ScheduleData> generatePreseason() {
+        return preseasonScheduleDataGenerator.generate("2001");
+    }
+}
@@ -0,0 +1,98 @@
+package org.natc.app.repository;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.natc.app.entity.domain.Manager;
+import org.natc.app.entity.domain.Player;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkInsertBenchmark {
+
+    private static final int ROWS = 1000;
+
+    private EmbeddedPostgres postgres;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private PlayerBulkRepository playerBulkRepository;
+    private ManagerBulkRepository managerBulkRepository;
+    private List<Player> players;
+    private List<Manager> managers;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        postgres = EmbeddedPostgres.start();
+
+        final DataSource dataSource = postgres.getPostgresDatabase();
+
+        new ResourceDatabasePopulator(new ClassPathResource("application_schema.sql")).execute(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        playerBulkRepository = new PlayerBulkRepositoryImpl(jdbcTemplate);
+        managerBulkRepository = new ManagerBulkRepositoryImpl(jdbcTemplate);
+
+        final SplittableRandom random = new SplittableRandom(1971);
+
+        players = new ArrayList<>(ROWS);
+        managers = new ArrayList<>(ROWS);
+
+        for (int i = 0; i < ROWS; ++i) {
+            players.add(Player.generate(random, i + 1, "2001", "First" + i, "Last" + i));
+            managers.add(Manager.generate(random, i + 1, "2001", "First" + i, "Last" + i));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() {
+        jdbcTemplate.execute("truncate table players_t, managers_t");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        postgres.close();
+    }
+
+    // one op is one row, so the scores are rows/sec; every method writes inside a single transaction
+    // so the difference between them is the batching and not the commits
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void insertAllPlayers() {
+        transactionTemplate.executeWithoutResult(status -> playerBulkRepository.insertAll(players));
+    }
+
+    // the per-row round trips the bulk insert replaced
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void insertEachPlayer() {
+        transactionTemplate.executeWithoutResult(status -> players.forEach(player -> playerBulkRepository.insertAll(List.of(player))));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void insertAllManagers() {
+        transactionTemplate.executeWithoutResult(status -> managerBulkRepository.insertAll(managers));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void insertEachManager() {
+        transactionTemplate.executeWithoutResult(status -> managers.forEach(manager -> managerBulkRepository.insertAll(List.of(manager))));
+    }
+}
@@ -0,0 +1,48 @@
+package org.natc.app.service.analysis;
+
+import org.natc.app.entity.domain.Manager;
+import org.natc.app.entity.domain.ManagerStyle;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ManagerAnalyzerBenchmark {
+
+    private static final int MANAGERS = 80;
+
+    private final ManagerAnalyzer managerAnalyzer = new ManagerAnalyzer();
+    private List<Manager> managers;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final SplittableRandom random = new SplittableRandom(1971);
+
+        managers = new ArrayList<>(MANAGERS);
+
+        for (int i = 0; i < MANAGERS; ++i) {
+            managers.add(Manager.generate(random, i + 1, "2001", "First", "Last"));
+        }
+    }
+
+    @Benchmark
+    public int determineManagerStyles() {
+        int total = 0;
+
+        for (final Manager manager : managers) {
+            final ManagerStyle managerStyle = managerAnalyzer.determineManagerStyle(manager);
+
+            total += managerStyle.getValue();
+        }
+
+        return total;
+    }
+}
@@ -0,0 +1,65 @@
+package org.natc.app.simulation;
+
+import org.natc.app.entity.domain.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameKernelBenchmark {
+
+    private static final int PLAYERS_PER_TEAM = 13;
+
+    @AuxCounters(AuxCounters.Type.OPS)
+    @State(Scope.Thread)
+    public static class Possessions {
+        public long possessions;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            possessions = 0;
+        }
+    }
+
+    private final GameKernel kernel = new GameKernel();
+    private List<Player> homePlayers;
+    private List<Player> roadPlayers;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        random = new SplittableRandom(1971);
+        homePlayers = generatePlayers(1);
+        roadPlayers = generatePlayers(1 + PLAYERS_PER_TEAM);
+    }
+
+    // one op is a full game, the possessions counter turns that into possessions/sec and -prof gc reports
+    // the allocation rate, which should only be the cost of load() since the possession loop allocates nothing
+    @Benchmark
+    public int playGame(final Possessions counter) {
+        kernel.load(homePlayers, roadPlayers);
+        kernel.play(random);
+
+        counter.possessions += kernel.getSequence();
+
+        return kernel.getScore(GameKernel.HOME) - kernel.getScore(GameKernel.ROAD);
+    }
+
+    private List<Player> generatePlayers(final int firstPlayerId) {
+        final List<Player> players = new ArrayList<>();
+
+        for (int i = 0; i < PLAYERS_PER_TEAM; ++i) {
+            players.add(Player.generate(random, firstPlayerId + i, "2001", "First", "Last"));
+        }
+
+        return players;
+    }
+}
@@ -1,13 +1,20 @@
 package org.natc.app;
 
+import org.natc.app.runner.FastForwardRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
 
 @SpringBootApplication
 public class NATCApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(NATCApplication.class, args);
+		final ConfigurableApplicationContext context = SpringApplication.run(NATCApplication.class, args);
+
+		// a fast forward is a one off batch run, once its runner has finished the application shuts down with its exit code
+		if (!context.getBeansOfType(FastForwardRunner.class).isEmpty()) {
+			System.exit(SpringApplication.exit(context));
+		}
 	}
 
 }
@@ -3,38 +3,57 @@ package org.natc.app.comparator;
 import lombok.AccessLevel;
 import lombok.Getter;
 import org.natc.app.entity.domain.Player;
+import org.natc.app.entity.domain.PlayerRating;
 import org.natc.app.entity.domain.PlayerRatingAdjustment;
 
+import java.util.Arrays;
 import java.util.Comparator;
 
+import static org.natc.app.entity.domain.PlayerRatingAdjustment.*;
+
 @Getter(AccessLevel.PROTECTED)
 public class PlayerComparator implements Comparator<Player> {
     protected enum PlayerComparatorMode {
-        OFFENSIVE,
-        DEFENSIVE,
-        INTANGIBLE,
-        PENALTIES,
-        BALANCED
+        OFFENSIVE(PlayerRating.OFFENSIVE),
+        DEFENSIVE(PlayerRating.DEFENSIVE),
+        INTANGIBLE(PlayerRating.INTANGIBLE),
+        PENALTIES(PlayerRating.PENALTY),
+        BALANCED(PlayerRating.PERFORMANCE);
+
+        private final PlayerRating rating;
+
+        PlayerComparatorMode(final PlayerRating rating) {
+            this.rating = rating;
+        }
+
+        public PlayerRating getRating() {
+            return rating;
+        }
     }
 
     private final PlayerComparatorMode mode;
     private final PlayerRatingAdjustment[] adjustments;
+    @Getter(AccessLevel.NONE)
+    private final boolean applyAge;
+    @Getter(AccessLevel.NONE)
+    private final boolean applyConfidence;
+    @Getter(AccessLevel.NONE)
+    private final boolean applyFatigue;
 
     protected PlayerComparator(PlayerComparatorMode mode, PlayerRatingAdjustment... adjustments) {
         this.mode = mode;
         this.adjustments = adjustments;
+        this.applyAge = Arrays.stream(adjustments).anyMatch(adj -> adj == APPLY_AGE);
+        this.applyConfidence = Arrays.stream(adjustments).anyMatch(adj -> adj == APPLY_CONFIDENCE);
+        this.applyFatigue = Arrays.stream(adjustments).anyMatch(adj -> adj == APPLY_FATIGUE);
     }
 
     @Override
     public int compare(final Player p1, final Player p2) {
-        switch (mode) {
-            case OFFENSIVE: return Double.compare(p1.getAdjustedOffensiveRating(adjustments), p2.getAdjustedOffensiveRating(adjustments));
-            case DEFENSIVE: return Double.compare(p1.getAdjustedDefensiveRating(adjustments), p2.getAdjustedDefensiveRating(adjustments));
-            case INTANGIBLE: return Double.compare(p1.getAdjustedIntangibleRating(adjustments), p2.getAdjustedIntangibleRating(adjustments));
-            case PENALTIES: return Double.compare(p1.getAdjustedPenaltyRating(adjustments), p2.getAdjustedPenaltyRating(adjustments));
-            case BALANCED: return Double.compare(p1.getAdjustedPerformanceRating(adjustments), p2.getAdjustedPerformanceRating(adjustments));
-        }
+        return Double.compare(getRating(p1), getRating(p2));
+    }
 
-        return 0;
+    public double getRating(final Player player) {
+        return player.getAdjustedRating(mode.getRating(), applyAge, applyConfidence, applyFatigue);
     }
 }
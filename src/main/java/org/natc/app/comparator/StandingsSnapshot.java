@@ -0,0 +1,43 @@
+package org.natc.app.comparator;
+
+import org.natc.app.entity.domain.HeadToHeadRecord;
+import org.natc.app.entity.domain.TeamDefenseSummary;
+import org.natc.app.entity.domain.TeamOffenseSummary;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+public class StandingsSnapshot {
+
+    private final Map<Integer, Map<Integer, Integer>> headToHeadWins = new HashMap<>();
+    private final Map<Integer, Integer> scoringDifferentials = new HashMap<>();
+
+    public StandingsSnapshot(final List<HeadToHeadRecord> headToHeadRecords, final List<TeamOffenseSummary> offenseSummaries, final List<TeamDefenseSummary> defenseSummaries) {
+        for (final HeadToHeadRecord record : headToHeadRecords) {
+            headToHeadWins.computeIfAbsent(record.getTeamId(), teamId -> new HashMap<>())
+                    .merge(record.getOpponent(), record.getWins().intValue(), Integer::sum);
+        }
+
+        for (final TeamOffenseSummary offenseSummary : offenseSummaries) {
+            scoringDifferentials.merge(offenseSummary.getTeamId(), valueOrZero(offenseSummary.getScore()), Integer::sum);
+        }
+
+        for (final TeamDefenseSummary defenseSummary : defenseSummaries) {
+            scoringDifferentials.merge(defenseSummary.getTeamId(), -valueOrZero(defenseSummary.getScore()), Integer::sum);
+        }
+    }
+
+    public int getHeadToHeadWins(final Integer teamId, final Integer opponent) {
+        return headToHeadWins.getOrDefault(teamId, Map.of()).getOrDefault(opponent, 0);
+    }
+
+    public int getScoringDifferential(final Integer teamId) {
+        return scoringDifferentials.getOrDefault(teamId, 0);
+    }
+
+    private static int valueOrZero(final Integer value) {
+        return Objects.isNull(value) ? 0 : value;
+    }
+}
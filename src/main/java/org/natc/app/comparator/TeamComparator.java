@@ -13,6 +13,8 @@ import org.springframework.stereotype.Component;
 
 import java.util.Comparator;
 import java.util.Objects;
+import java.util.function.ToIntBiFunction;
+import java.util.function.ToIntFunction;
 
 @Component
 public class TeamComparator implements Comparator<Team> {
@@ -30,6 +32,33 @@ public class TeamComparator implements Comparator<Team> {
 
     @Override
     public int compare(final Team t1, final Team t2) {
+        return compare(t1, t2, this::fetchHeadToHeadWinsForTeam, this::fetchScoringDifferentialForTeam);
+    }
+
+    public StandingsSnapshot loadStandingsSnapshot(final String year) {
+        final Integer type = GameType.REGULAR_SEASON.getValue();
+
+        return new StandingsSnapshot(
+                teamGameRepository.findHeadToHeadWinsByYearAndType(year, type),
+                teamOffenseSummaryRepository.findByYearAndType(year, type),
+                teamDefenseSummaryRepository.findByYearAndType(year, type)
+        );
+    }
+
+    public Comparator<Team> forYear(final String year) {
+        return forSnapshot(loadStandingsSnapshot(year));
+    }
+
+    public Comparator<Team> forSnapshot(final StandingsSnapshot snapshot) {
+        return (t1, t2) -> compare(
+                t1,
+                t2,
+                (team, opponent) -> snapshot.getHeadToHeadWins(team.getTeamId(), opponent.getTeamId()),
+                team -> snapshot.getScoringDifferential(team.getTeamId())
+        );
+    }
+
+    private int compare(final Team t1, final Team t2, final ToIntBiFunction<Team, Team> headToHeadWins, final ToIntFunction<Team> scoringDifferential) {
 
         // objects
         if (t1.equals(t2)) return 0;
@@ -57,18 +86,22 @@ public class TeamComparator implements Comparator<Team> {
         }
 
         // head to head
-        final Integer t1Wins = teamGameRepository.countByYearAndTypeAndTeamIdAndOpponentAndWin(t1.getYear(), GameType.REGULAR_SEASON.getValue(), t1.getTeamId(), t2.getTeamId(), 1);
-        final Integer t2Wins = teamGameRepository.countByYearAndTypeAndTeamIdAndOpponentAndWin(t2.getYear(), GameType.REGULAR_SEASON.getValue(), t2.getTeamId(), t1.getTeamId(), 1);
+        final int t1Wins = headToHeadWins.applyAsInt(t1, t2);
+        final int t2Wins = headToHeadWins.applyAsInt(t2, t1);
 
-        if (!t1Wins.equals(t2Wins)) return t1Wins - t2Wins;
+        if (t1Wins != t2Wins) return t1Wins - t2Wins;
 
         // scoring differential
-        final Integer t1ScoringDifferential = fetchScoringDifferentialForTeam(t1);
-        final Integer t2ScoringDifferential = fetchScoringDifferentialForTeam(t2);
+        final int t1ScoringDifferential = scoringDifferential.applyAsInt(t1);
+        final int t2ScoringDifferential = scoringDifferential.applyAsInt(t2);
         
         return t1ScoringDifferential - t2ScoringDifferential;
     }
 
+    private int fetchHeadToHeadWinsForTeam(final Team team, final Team opponent) {
+        return teamGameRepository.countByYearAndTypeAndTeamIdAndOpponentAndWin(team.getYear(), GameType.REGULAR_SEASON.getValue(), team.getTeamId(), opponent.getTeamId(), 1);
+    }
+
     private Double calcWinPercentageForTeam(final Team team) {
         final Integer divisionWins = valueOrZero(team.getDivisionWins());
         final Integer divisionLosses = valueOrZero(team.getDivisionLosses());
@@ -76,7 +109,7 @@ public class TeamComparator implements Comparator<Team> {
         return safeDivide(divisionWins, divisionWins + divisionLosses);
     }
 
-    private Integer fetchScoringDifferentialForTeam(final Team team) {
+    private int fetchScoringDifferentialForTeam(final Team team) {
         final TeamOffenseSummary teamOffenseSummary = fetchTeamOffenseSummaryForTeam(team);
         final TeamDefenseSummary teamDefenseSummary = fetchTeamDefenseSummaryForTeam(team);
 
@@ -0,0 +1,19 @@
+package org.natc.app.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.natc.app.entity.domain.ScheduleType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "natc.fast-forward")
+public class FastForwardConfiguration {
+    private Boolean enabled;
+    private Boolean apiEnabled;
+    private String targetYear;
+    private ScheduleType targetType;
+    private Integer maxEvents;
+}
@@ -0,0 +1,27 @@
+package org.natc.app.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "natc.game-simulation")
+public class GameSimulationConfiguration {
+    private Integer parallelism;
+
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool gameSimulationPool() {
+        if (Objects.isNull(parallelism) || parallelism < 1) {
+            return new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        }
+
+        return new ForkJoinPool(parallelism);
+    }
+}
@@ -29,4 +29,5 @@ public class LeagueConfiguration {
     private Integer maxPlayerManagersPerSeason;
     private Integer playerManagerYearsRetired;
     private Integer newManagerStartingAge;
+    private Long seed;
 }
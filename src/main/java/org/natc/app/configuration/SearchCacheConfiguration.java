@@ -0,0 +1,48 @@
+package org.natc.app.configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.natc.app.repository.ScheduleRepository;
+import org.natc.app.service.search.SearchCacheResolver;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+import static org.natc.app.service.search.SearchCacheResolver.COMPLETED_SEASONS_CACHE;
+import static org.natc.app.service.search.SearchCacheResolver.CURRENT_SEASON_CACHE;
+
+@Configuration
+@EnableCaching(proxyTargetClass = true)
+@ConditionalOnProperty(prefix = "natc.search", name = "cache-enabled", havingValue = "true", matchIfMissing = true)
+public class SearchCacheConfiguration {
+
+    // caches are bound to micrometer at startup, so stats must be recorded for the hit and miss counts to be published
+    @Bean
+    public CacheManager searchCacheManager(final SearchConfiguration searchConfiguration) {
+        final SimpleCacheManager cacheManager = new SimpleCacheManager();
+
+        cacheManager.setCaches(List.of(
+                new CaffeineCache(COMPLETED_SEASONS_CACHE, Caffeine.newBuilder()
+                        .maximumSize(searchConfiguration.getCacheMaximumSize())
+                        .recordStats()
+                        .build()),
+                new CaffeineCache(CURRENT_SEASON_CACHE, Caffeine.newBuilder()
+                        .maximumSize(searchConfiguration.getCacheMaximumSize())
+                        .expireAfterWrite(searchConfiguration.getCurrentSeasonCacheTtl())
+                        .recordStats()
+                        .build())
+        ));
+
+        return cacheManager;
+    }
+
+    @Bean
+    public SearchCacheResolver searchCacheResolver(final CacheManager searchCacheManager, final ScheduleRepository scheduleRepository) {
+        return new SearchCacheResolver(searchCacheManager, scheduleRepository);
+    }
+}
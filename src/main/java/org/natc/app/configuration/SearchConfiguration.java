@@ -0,0 +1,21 @@
+package org.natc.app.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "natc.search")
+public class SearchConfiguration {
+    private Integer defaultPageSize = 100;
+    private Integer maxPageSize = 1000;
+    private Integer streamFetchSize = 500;
+    private Boolean cacheEnabled = true;
+    private Long cacheMaximumSize = 10000L;
+    private Duration currentSeasonCacheTtl = Duration.ofSeconds(30);
+}
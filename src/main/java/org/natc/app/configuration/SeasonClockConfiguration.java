@@ -0,0 +1,16 @@
+package org.natc.app.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "natc.season-clock")
+public class SeasonClockConfiguration {
+    private Boolean enabled;
+    private Integer intervalSeconds;
+    private Integer maxEntriesPerFiring;
+}
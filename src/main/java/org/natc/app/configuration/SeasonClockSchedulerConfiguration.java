@@ -0,0 +1,39 @@
+package org.natc.app.configuration;
+
+import org.natc.app.job.SeasonClockJob;
+import org.quartz.*;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "natc.season-clock", name = "enabled", havingValue = "true")
+public class SeasonClockSchedulerConfiguration {
+
+    public static final String SEASON_CLOCK_JOB = "season-clock-job";
+    public static final String SEASON_CLOCK_TRIGGER = "season-clock-trigger";
+
+    @Bean
+    public JobDetail seasonClockJobDetail() {
+        return JobBuilder.newJob(SeasonClockJob.class)
+                .withIdentity(SEASON_CLOCK_JOB)
+                .storeDurably()
+                .requestRecovery()
+                .build();
+    }
+
+    @Bean
+    public Trigger seasonClockTrigger(final JobDetail seasonClockJobDetail, final SeasonClockConfiguration seasonClockConfiguration) {
+        // a missed firing is not replayed; the next firing catches up on every overdue schedule entry anyway
+        final SimpleScheduleBuilder schedule = SimpleScheduleBuilder.simpleSchedule()
+                .withIntervalInSeconds(seasonClockConfiguration.getIntervalSeconds())
+                .repeatForever()
+                .withMisfireHandlingInstructionNextWithRemainingCount();
+
+        return TriggerBuilder.newTrigger()
+                .forJob(seasonClockJobDetail)
+                .withIdentity(SEASON_CLOCK_TRIGGER)
+                .withSchedule(schedule)
+                .build();
+    }
+}
@@ -0,0 +1,46 @@
+package org.natc.app.configuration;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.natc.app.filter.SqlStatementAsyncInterceptor;
+import org.natc.app.metrics.SqlStatementListener;
+import org.natc.app.metrics.SqlStatementTracker;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class SqlStatementConfiguration {
+
+    // wraps the data source so every statement, whether from hibernate or a JdbcTemplate, is counted against the open scopes
+    @Bean
+    public static BeanPostProcessor sqlStatementDataSourcePostProcessor(final ObjectProvider<SqlStatementTracker> sqlStatementTracker) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) return bean;
+
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(new SqlStatementListener(sqlStatementTracker.getObject()))
+                        .build();
+            }
+        };
+    }
+
+    // streamed responses run on the async executor, outside of SqlStatementFilter's scope
+    @Bean
+    public WebMvcConfigurer sqlStatementAsyncConfigurer(final SqlStatementAsyncInterceptor sqlStatementAsyncInterceptor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void configureAsyncSupport(final AsyncSupportConfigurer configurer) {
+                configurer.registerCallableInterceptors(sqlStatementAsyncInterceptor);
+            }
+        };
+    }
+}
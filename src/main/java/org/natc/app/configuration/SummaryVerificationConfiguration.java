@@ -0,0 +1,15 @@
+package org.natc.app.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "natc.summary-verification")
+public class SummaryVerificationConfiguration {
+    private Boolean enabled;
+    private String cron;
+}
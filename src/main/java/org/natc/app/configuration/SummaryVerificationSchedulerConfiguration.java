@@ -0,0 +1,36 @@
+package org.natc.app.configuration;
+
+import org.natc.app.job.SummaryVerificationJob;
+import org.quartz.*;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "natc.summary-verification", name = "enabled", havingValue = "true")
+public class SummaryVerificationSchedulerConfiguration {
+
+    public static final String SUMMARY_VERIFICATION_JOB = "summary-verification-job";
+    public static final String SUMMARY_VERIFICATION_TRIGGER = "summary-verification-trigger";
+
+    @Bean
+    public JobDetail summaryVerificationJobDetail() {
+        return JobBuilder.newJob(SummaryVerificationJob.class)
+                .withIdentity(SUMMARY_VERIFICATION_JOB)
+                .storeDurably()
+                .build();
+    }
+
+    @Bean
+    public Trigger summaryVerificationTrigger(final JobDetail summaryVerificationJobDetail, final SummaryVerificationConfiguration summaryVerificationConfiguration) {
+        // a missed check is simply skipped, the next one looks at the same season anyway
+        final CronScheduleBuilder schedule = CronScheduleBuilder.cronSchedule(summaryVerificationConfiguration.getCron())
+                .withMisfireHandlingInstructionDoNothing();
+
+        return TriggerBuilder.newTrigger()
+                .forJob(summaryVerificationJobDetail)
+                .withIdentity(SUMMARY_VERIFICATION_TRIGGER)
+                .withSchedule(schedule)
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package org.natc.app.controller;
+
+import org.natc.app.entity.domain.ScheduleType;
+import org.natc.app.entity.response.FastForwardResponse;
+import org.natc.app.entity.response.ResponseEnvelope;
+import org.natc.app.entity.response.ResponseStatus;
+import org.natc.app.exception.FastForwardException;
+import org.natc.app.exception.NATCException;
+import org.natc.app.manager.FastForwardManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.Collections;
+
+@Controller
+@ConditionalOnProperty(prefix = "natc.fast-forward", name = "api-enabled", havingValue = "true")
+@RequestMapping("/api/season")
+public class FastForwardController {
+
+    private final FastForwardManager fastForwardManager;
+
+    @Autowired
+    public FastForwardController(final FastForwardManager fastForwardManager) {
+        this.fastForwardManager = fastForwardManager;
+    }
+
+    @PostMapping("/fast-forward")
+    public ResponseEntity<ResponseEnvelope<FastForwardResponse>> fastForward(@RequestParam(name = "target-year", required = false) final String targetYear,
+                                                                            @RequestParam(name = "target-type", required = false) final ScheduleType targetType,
+                                                                            @RequestParam(name = "max-events", required = false) final Integer maxEvents) throws NATCException {
+        try {
+            final FastForwardResponse response = fastForwardManager.fastForward(targetYear, targetType, maxEvents);
+
+            return ResponseEntity.ok(new ResponseEnvelope<>(Collections.singletonList(response)));
+        }
+        catch (final FastForwardException e) {
+            return ResponseEntity.badRequest().body(new ResponseEnvelope<>(ResponseStatus.FAILURE, null));
+        }
+    }
+}
@@ -3,15 +3,16 @@ package org.natc.app.controller;
 import org.natc.app.entity.request.GameStateSearchRequest;
 import org.natc.app.entity.response.GameStateResponse;
 import org.natc.app.entity.response.ResponseEnvelope;
+import org.natc.app.entity.response.ResponseStatus;
+import org.natc.app.exception.InvalidCursorException;
 import org.natc.app.service.search.NATCSearchService;
+import org.natc.app.service.search.SearchPage;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
-import java.util.List;
-
 @Controller
 @RequestMapping("/api/game-states")
 public class GameStateSearchController {
@@ -25,7 +26,9 @@ public class GameStateSearchController {
 
     @RequestMapping("/search")
     public ResponseEntity<ResponseEnvelope<GameStateResponse>> search(
-            @RequestParam(name = "game-id", required = false) final Integer gameId) {
+            @RequestParam(name = "game-id", required = false) final Integer gameId,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(name = "page-size", required = false) final Integer pageSize) {
         // TODO: Add MCD request id to response
         //  final String requestId = MDC.get(REQUEST_ID_KEY);
 
@@ -33,8 +36,13 @@ public class GameStateSearchController {
                 .gameId(gameId)
                 .build();
 
-        final List<GameStateResponse> gameStateList = service.fetchAll(request);
+        try {
+            final SearchPage<GameStateResponse> page = service.fetchPage(request, cursor, pageSize);
 
-        return ResponseEntity.ok(new ResponseEnvelope<>(gameStateList));
+            return ResponseEntity.ok(new ResponseEnvelope<>(page.getResources(), page.getNextCursor()));
+        }
+        catch (final InvalidCursorException e) {
+            return ResponseEntity.badRequest().body(new ResponseEnvelope<>(ResponseStatus.FAILURE, null));
+        }
     }
 }
@@ -3,15 +3,16 @@ package org.natc.app.controller;
 import org.natc.app.entity.request.InjurySearchRequest;
 import org.natc.app.entity.response.InjuryResponse;
 import org.natc.app.entity.response.ResponseEnvelope;
+import org.natc.app.entity.response.ResponseStatus;
+import org.natc.app.exception.InvalidCursorException;
 import org.natc.app.service.search.NATCSearchService;
+import org.natc.app.service.search.SearchPage;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
-import java.util.List;
-
 @Controller
 @RequestMapping("/api/injuries")
 public class InjurySearchController {
@@ -27,15 +28,22 @@ public class InjurySearchController {
     public ResponseEntity<ResponseEnvelope<InjuryResponse>> search(
             @RequestParam(name = "game-id", required = false) final Integer gameId,
             @RequestParam(name = "player-id", required = false) final Integer playerId,
-            @RequestParam(name = "team-id", required = false) final Integer teamId) {
+            @RequestParam(name = "team-id", required = false) final Integer teamId,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(name = "page-size", required = false) final Integer pageSize) {
         final InjurySearchRequest request = InjurySearchRequest.builder()
                 .gameId(gameId)
                 .playerId(playerId)
                 .teamId(teamId)
                 .build();
 
-        final List<InjuryResponse> injuryList = service.fetchAll(request);
+        try {
+            final SearchPage<InjuryResponse> page = service.fetchPage(request, cursor, pageSize);
 
-        return ResponseEntity.ok(new ResponseEnvelope<>(injuryList));
+            return ResponseEntity.ok(new ResponseEnvelope<>(page.getResources(), page.getNextCursor()));
+        }
+        catch (final InvalidCursorException e) {
+            return ResponseEntity.badRequest().body(new ResponseEnvelope<>(ResponseStatus.FAILURE, null));
+        }
     }
 }
@@ -3,7 +3,10 @@ package org.natc.app.controller;
 import org.natc.app.entity.request.ManagerSearchRequest;
 import org.natc.app.entity.response.ManagerResponse;
 import org.natc.app.entity.response.ResponseEnvelope;
+import org.natc.app.entity.response.ResponseStatus;
+import org.natc.app.exception.InvalidCursorException;
 import org.natc.app.service.search.NATCSearchService;
+import org.natc.app.service.search.SearchPage;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
@@ -11,8 +14,6 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
-import java.util.List;
-
 @Controller
 @RequestMapping("/api/managers")
 public class ManagerSearchController {
@@ -28,7 +29,9 @@ public class ManagerSearchController {
     public ResponseEntity<ResponseEnvelope<ManagerResponse>> search(@RequestParam(name = "manager-id", required = false) final Integer managerId,
                                                                     @RequestParam(name = "team-id", required = false) final Integer teamId,
                                                                     @RequestParam(name = "player-id", required = false) final Integer playerId,
-                                                                    @RequestParam(required = false) final String year) {
+                                                                    @RequestParam(required = false) final String year,
+                                                                    @RequestParam(required = false) final String cursor,
+                                                                    @RequestParam(name = "page-size", required = false) final Integer pageSize) {
         final ManagerSearchRequest request = ManagerSearchRequest.builder()
                 .managerId(managerId)
                 .teamId(teamId)
@@ -36,8 +39,13 @@ public class ManagerSearchController {
                 .year(year)
                 .build();
 
-        final List<ManagerResponse> managerList = service.fetchAll(request);
+        try {
+            final SearchPage<ManagerResponse> page = service.fetchPage(request, cursor, pageSize);
 
-        return ResponseEntity.ok(new ResponseEnvelope<>(managerList));
+            return ResponseEntity.ok(new ResponseEnvelope<>(page.getResources(), page.getNextCursor()));
+        }
+        catch (final InvalidCursorException e) {
+            return ResponseEntity.badRequest().body(new ResponseEnvelope<>(ResponseStatus.FAILURE, null));
+        }
     }
 }
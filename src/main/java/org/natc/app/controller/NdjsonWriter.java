@@ -0,0 +1,35 @@
+package org.natc.app.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+@Component
+public class NdjsonWriter {
+    private static final int NEWLINE = '\n';
+
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public NdjsonWriter(final ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    // each resource is written as soon as it is read so nothing is held beyond the current row
+    public <T> Consumer<T> to(final OutputStream outputStream) {
+        return resource -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(resource));
+                outputStream.write(NEWLINE);
+            }
+            catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+}
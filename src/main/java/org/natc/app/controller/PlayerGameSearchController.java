@@ -4,26 +4,38 @@ import org.natc.app.entity.domain.GameType;
 import org.natc.app.entity.request.PlayerGameSearchRequest;
 import org.natc.app.entity.response.PlayerGameResponse;
 import org.natc.app.entity.response.ResponseEnvelope;
+import org.natc.app.entity.response.ResponseStatus;
+import org.natc.app.exception.InvalidCursorException;
 import org.natc.app.service.search.NATCSearchService;
+import org.natc.app.service.search.NATCStreamingService;
+import org.natc.app.service.search.SearchPage;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
-import java.util.List;
 
 @Controller
 @RequestMapping("/api/player-games")
 public class PlayerGameSearchController {
 
     private final NATCSearchService<PlayerGameResponse, PlayerGameSearchRequest> service;
+    private final NATCStreamingService<PlayerGameResponse, PlayerGameSearchRequest> streamingService;
+    private final NdjsonWriter ndjsonWriter;
 
     @Autowired
-    public PlayerGameSearchController(final NATCSearchService<PlayerGameResponse, PlayerGameSearchRequest> service) {
+    public PlayerGameSearchController(
+            final NATCSearchService<PlayerGameResponse, PlayerGameSearchRequest> service,
+            final NATCStreamingService<PlayerGameResponse, PlayerGameSearchRequest> streamingService,
+            final NdjsonWriter ndjsonWriter) {
         this.service = service;
+        this.streamingService = streamingService;
+        this.ndjsonWriter = ndjsonWriter;
     }
 
     @RequestMapping("/search")
@@ -33,7 +45,9 @@ public class PlayerGameSearchController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate datestamp,
             @RequestParam(required = false) final GameType type,
             @RequestParam(name = "player-id", required = false) final Integer playerId,
-            @RequestParam(name = "team-id", required = false) final Integer teamId) {
+            @RequestParam(name = "team-id", required = false) final Integer teamId,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(name = "page-size", required = false) final Integer pageSize) {
         final PlayerGameSearchRequest request = PlayerGameSearchRequest.builder()
                 .gameId(gameId)
                 .year(year)
@@ -43,8 +57,35 @@ public class PlayerGameSearchController {
                 .teamId(teamId)
                 .build();
 
-        final List<PlayerGameResponse> playerGameList = service.fetchAll(request);
+        try {
+            final SearchPage<PlayerGameResponse> page = service.fetchPage(request, cursor, pageSize);
+
+            return ResponseEntity.ok(new ResponseEnvelope<>(page.getResources(), page.getNextCursor()));
+        }
+        catch (final InvalidCursorException e) {
+            return ResponseEntity.badRequest().body(new ResponseEnvelope<>(ResponseStatus.FAILURE, null));
+        }
+    }
+
+    @RequestMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(name = "game-id", required = false) final Integer gameId,
+            @RequestParam(required = false) final String year,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate datestamp,
+            @RequestParam(required = false) final GameType type,
+            @RequestParam(name = "player-id", required = false) final Integer playerId,
+            @RequestParam(name = "team-id", required = false) final Integer teamId) {
+        final PlayerGameSearchRequest request = PlayerGameSearchRequest.builder()
+                .gameId(gameId)
+                .year(year)
+                .datestamp(datestamp)
+                .type(type)
+                .playerId(playerId)
+                .teamId(teamId)
+                .build();
 
-        return ResponseEntity.ok(new ResponseEnvelope<>(playerGameList));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(outputStream -> streamingService.streamAll(request, ndjsonWriter.to(outputStream)));
     }
 }
@@ -3,7 +3,10 @@ package org.natc.app.controller;
 import org.natc.app.entity.request.PlayerSearchRequest;
 import org.natc.app.entity.response.PlayerResponse;
 import org.natc.app.entity.response.ResponseEnvelope;
+import org.natc.app.entity.response.ResponseStatus;
+import org.natc.app.exception.InvalidCursorException;
 import org.natc.app.service.search.NATCSearchService;
+import org.natc.app.service.search.SearchPage;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
@@ -11,8 +14,6 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
-import java.util.List;
-
 @Controller
 @RequestMapping("/api/players")
 public class PlayerSearchController {
@@ -27,15 +28,22 @@ public class PlayerSearchController {
     @GetMapping("/search")
     public ResponseEntity<ResponseEnvelope<PlayerResponse>> search(@RequestParam(name = "player-id", required = false) final Integer playerId,
                                                                    @RequestParam(name = "team-id", required = false) final Integer teamId,
-                                                                   @RequestParam(required = false) final String year) {
+                                                                   @RequestParam(required = false) final String year,
+                                                                   @RequestParam(required = false) final String cursor,
+                                                                   @RequestParam(name = "page-size", required = false) final Integer pageSize) {
         final PlayerSearchRequest request = PlayerSearchRequest.builder()
                 .playerId(playerId)
                 .teamId(teamId)
                 .year(year)
                 .build();
 
-        final List<PlayerResponse> playerList =  service.fetchAll(request);
+        try {
+            final SearchPage<PlayerResponse> page = service.fetchPage(request, cursor, pageSize);
 
-        return ResponseEntity.ok(new ResponseEnvelope<>(playerList));
+            return ResponseEntity.ok(new ResponseEnvelope<>(page.getResources(), page.getNextCursor()));
+        }
+        catch (final InvalidCursorException e) {
+            return ResponseEntity.badRequest().body(new ResponseEnvelope<>(ResponseStatus.FAILURE, null));
+        }
     }
 }
@@ -4,25 +4,36 @@ import org.natc.app.entity.domain.GameType;
 import org.natc.app.entity.request.PlayerStatsSummarySearchRequest;
 import org.natc.app.entity.response.PlayerStatsSummaryResponse;
 import org.natc.app.entity.response.ResponseEnvelope;
+import org.natc.app.entity.response.ResponseStatus;
+import org.natc.app.exception.InvalidCursorException;
 import org.natc.app.service.search.NATCSearchService;
+import org.natc.app.service.search.NATCStreamingService;
+import org.natc.app.service.search.SearchPage;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Controller
 @RequestMapping("/api/player-stats-summaries")
 public class PlayerStatsSummarySearchController {
 
     private final NATCSearchService<PlayerStatsSummaryResponse, PlayerStatsSummarySearchRequest> service;
+    private final NATCStreamingService<PlayerStatsSummaryResponse, PlayerStatsSummarySearchRequest> streamingService;
+    private final NdjsonWriter ndjsonWriter;
 
     @Autowired
-    public PlayerStatsSummarySearchController(final NATCSearchService<PlayerStatsSummaryResponse, PlayerStatsSummarySearchRequest> service) {
+    public PlayerStatsSummarySearchController(
+            final NATCSearchService<PlayerStatsSummaryResponse, PlayerStatsSummarySearchRequest> service,
+            final NATCStreamingService<PlayerStatsSummaryResponse, PlayerStatsSummarySearchRequest> streamingService,
+            final NdjsonWriter ndjsonWriter) {
         this.service = service;
+        this.streamingService = streamingService;
+        this.ndjsonWriter = ndjsonWriter;
     }
 
     @GetMapping("/search")
@@ -30,7 +41,9 @@ public class PlayerStatsSummarySearchController {
             @RequestParam(required = false) final String year,
             @RequestParam(required = false) final GameType type,
             @RequestParam(name = "player-id", required = false) final Integer playerId,
-            @RequestParam(name = "team-id", required = false) final Integer teamId) {
+            @RequestParam(name = "team-id", required = false) final Integer teamId,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(name = "page-size", required = false) final Integer pageSize) {
         final PlayerStatsSummarySearchRequest request = PlayerStatsSummarySearchRequest.builder()
                 .year(year)
                 .type(type)
@@ -38,8 +51,31 @@ public class PlayerStatsSummarySearchController {
                 .teamId(teamId)
                 .build();
 
-        final List<PlayerStatsSummaryResponse> playerStatsSummaryList = service.fetchAll(request);
+        try {
+            final SearchPage<PlayerStatsSummaryResponse> page = service.fetchPage(request, cursor, pageSize);
+
+            return ResponseEntity.ok(new ResponseEnvelope<>(page.getResources(), page.getNextCursor()));
+        }
+        catch (final InvalidCursorException e) {
+            return ResponseEntity.badRequest().body(new ResponseEnvelope<>(ResponseStatus.FAILURE, null));
+        }
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) final String year,
+            @RequestParam(required = false) final GameType type,
+            @RequestParam(name = "player-id", required = false) final Integer playerId,
+            @RequestParam(name = "team-id", required = false) final Integer teamId) {
+        final PlayerStatsSummarySearchRequest request = PlayerStatsSummarySearchRequest.builder()
+                .year(year)
+                .type(type)
+                .playerId(playerId)
+                .teamId(teamId)
+                .build();
 
-        return ResponseEntity.ok(new ResponseEnvelope<>(playerStatsSummaryList));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(outputStream -> streamingService.streamAll(request, ndjsonWriter.to(outputStream)));
     }
 }
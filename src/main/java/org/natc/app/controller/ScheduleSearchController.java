@@ -2,16 +2,17 @@ package org.natc.app.controller;
 
 import org.natc.app.entity.request.ScheduleSearchRequest;
 import org.natc.app.entity.response.ResponseEnvelope;
+import org.natc.app.entity.response.ResponseStatus;
 import org.natc.app.entity.response.ScheduleResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.natc.app.service.search.NATCSearchService;
+import org.natc.app.service.search.SearchPage;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
-import java.util.List;
-
 @Controller
 @RequestMapping("/api/schedules")
 public class ScheduleSearchController {
@@ -25,14 +26,21 @@ public class ScheduleSearchController {
 
     @RequestMapping("/search")
     public ResponseEntity<ResponseEnvelope<ScheduleResponse>> search(@RequestParam(required = false) final String year,
-                                                                     @RequestParam(required = false) final Integer sequence) {
+                                                                     @RequestParam(required = false) final Integer sequence,
+                                                                     @RequestParam(required = false) final String cursor,
+                                                                     @RequestParam(name = "page-size", required = false) final Integer pageSize) {
         final ScheduleSearchRequest request = ScheduleSearchRequest.builder()
                 .year(year)
                 .sequence(sequence)
                 .build();
 
-        final List<ScheduleResponse> scheduleList = service.fetchAll(request);
+        try {
+            final SearchPage<ScheduleResponse> page = service.fetchPage(request, cursor, pageSize);
 
-        return ResponseEntity.ok(new ResponseEnvelope<>(scheduleList));
+            return ResponseEntity.ok(new ResponseEnvelope<>(page.getResources(), page.getNextCursor()));
+        }
+        catch (final InvalidCursorException e) {
+            return ResponseEntity.badRequest().body(new ResponseEnvelope<>(ResponseStatus.FAILURE, null));
+        }
     }
 }
@@ -0,0 +1,53 @@
+package org.natc.app.controller;
+
+import org.natc.app.metrics.SqlStatementStats;
+import org.natc.app.metrics.SqlStatementTracker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+// headers have to be added before the body is written, by then every statement for the request has run; streamed exports
+// never come through here, their headers go out before their first query, so they only show up in the natc.http.sql metrics
+@ControllerAdvice
+public class SqlStatementHeaderAdvice implements ResponseBodyAdvice<Object> {
+    public static final String SQL_STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String SQL_TIME_HEADER = "X-SQL-Time-Millis";
+
+    private final SqlStatementTracker sqlStatementTracker;
+
+    @Autowired
+    public SqlStatementHeaderAdvice(final SqlStatementTracker sqlStatementTracker) {
+        this.sqlStatementTracker = sqlStatementTracker;
+    }
+
+    @Override
+    public boolean supports(final MethodParameter returnType, final Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            final Object body,
+            final MethodParameter returnType,
+            final MediaType selectedContentType,
+            final Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            final ServerHttpRequest request,
+            final ServerHttpResponse response) {
+        final SqlStatementStats stats = sqlStatementTracker.current();
+
+        if (Objects.nonNull(stats)) {
+            response.getHeaders().set(SQL_STATEMENTS_HEADER, String.valueOf(stats.getStatements()));
+            response.getHeaders().set(SQL_TIME_HEADER, String.valueOf(TimeUnit.NANOSECONDS.toMillis(stats.getElapsedNanos())));
+        }
+
+        return body;
+    }
+}
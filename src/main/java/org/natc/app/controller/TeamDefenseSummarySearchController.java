@@ -3,8 +3,11 @@ package org.natc.app.controller;
 import org.natc.app.entity.domain.GameType;
 import org.natc.app.entity.request.TeamDefenseSummarySearchRequest;
 import org.natc.app.entity.response.ResponseEnvelope;
+import org.natc.app.entity.response.ResponseStatus;
 import org.natc.app.entity.response.TeamDefenseSummaryResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.natc.app.service.search.NATCSearchService;
+import org.natc.app.service.search.SearchPage;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
@@ -12,8 +15,6 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
-import java.util.List;
-
 @Controller
 @RequestMapping("/api/team-defense-summaries")
 public class TeamDefenseSummarySearchController {
@@ -29,15 +30,22 @@ public class TeamDefenseSummarySearchController {
     public ResponseEntity<ResponseEnvelope<TeamDefenseSummaryResponse>> search(
             @RequestParam(required = false) final String year,
             @RequestParam(required = false) final GameType type,
-            @RequestParam(name = "team-id", required = false) final Integer teamId) {
+            @RequestParam(name = "team-id", required = false) final Integer teamId,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(name = "page-size", required = false) final Integer pageSize) {
         final TeamDefenseSummarySearchRequest request = TeamDefenseSummarySearchRequest.builder()
                 .year(year)
                 .type(type)
                 .teamId(teamId)
                 .build();
 
-        final List<TeamDefenseSummaryResponse> teamOffenseSummaryList = searchService.fetchAll(request);
+        try {
+            final SearchPage<TeamDefenseSummaryResponse> page = searchService.fetchPage(request, cursor, pageSize);
 
-        return ResponseEntity.ok(new ResponseEnvelope<>(teamOffenseSummaryList));
+            return ResponseEntity.ok(new ResponseEnvelope<>(page.getResources(), page.getNextCursor()));
+        }
+        catch (final InvalidCursorException e) {
+            return ResponseEntity.badRequest().body(new ResponseEnvelope<>(ResponseStatus.FAILURE, null));
+        }
     }
 }
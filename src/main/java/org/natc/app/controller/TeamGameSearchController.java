@@ -3,27 +3,39 @@ package org.natc.app.controller;
 import org.natc.app.entity.domain.GameType;
 import org.natc.app.entity.request.TeamGameSearchRequest;
 import org.natc.app.entity.response.ResponseEnvelope;
+import org.natc.app.entity.response.ResponseStatus;
 import org.natc.app.entity.response.TeamGameResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.natc.app.service.search.NATCSearchService;
+import org.natc.app.service.search.NATCStreamingService;
+import org.natc.app.service.search.SearchPage;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
-import java.util.List;
 
 @Controller
 @RequestMapping("/api/team-games")
 public class TeamGameSearchController {
 
     private final NATCSearchService<TeamGameResponse, TeamGameSearchRequest> service;
+    private final NATCStreamingService<TeamGameResponse, TeamGameSearchRequest> streamingService;
+    private final NdjsonWriter ndjsonWriter;
 
     @Autowired
-    public TeamGameSearchController(final NATCSearchService<TeamGameResponse, TeamGameSearchRequest> service) {
+    public TeamGameSearchController(
+            final NATCSearchService<TeamGameResponse, TeamGameSearchRequest> service,
+            final NATCStreamingService<TeamGameResponse, TeamGameSearchRequest> streamingService,
+            final NdjsonWriter ndjsonWriter) {
         this.service = service;
+        this.streamingService = streamingService;
+        this.ndjsonWriter = ndjsonWriter;
     }
 
     @RequestMapping("/search")
@@ -33,7 +45,9 @@ public class TeamGameSearchController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate datestamp,
             @RequestParam(required = false) final GameType type,
             @RequestParam(name = "team-id", required = false) final Integer teamId,
-            @RequestParam(required = false) final Integer opponent
+            @RequestParam(required = false) final Integer opponent,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(name = "page-size", required = false) final Integer pageSize
     ) {
         final TeamGameSearchRequest request = TeamGameSearchRequest.builder()
                 .gameId(gameId)
@@ -44,8 +58,35 @@ public class TeamGameSearchController {
                 .opponent(opponent)
                 .build();
 
-        final List<TeamGameResponse> teamGameList = service.fetchAll(request);
+        try {
+            final SearchPage<TeamGameResponse> page = service.fetchPage(request, cursor, pageSize);
 
-        return ResponseEntity.ok(new ResponseEnvelope<>(teamGameList));
+            return ResponseEntity.ok(new ResponseEnvelope<>(page.getResources(), page.getNextCursor()));
+        }
+        catch (final InvalidCursorException e) {
+            return ResponseEntity.badRequest().body(new ResponseEnvelope<>(ResponseStatus.FAILURE, null));
+        }
+    }
+
+    @RequestMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(name = "game-id", required = false) final Integer gameId,
+            @RequestParam(required = false) final String year,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate datestamp,
+            @RequestParam(required = false) final GameType type,
+            @RequestParam(name = "team-id", required = false) final Integer teamId,
+            @RequestParam(required = false) final Integer opponent) {
+        final TeamGameSearchRequest request = TeamGameSearchRequest.builder()
+                .gameId(gameId)
+                .year(year)
+                .datestamp(datestamp)
+                .type(type)
+                .teamId(teamId)
+                .opponent(opponent)
+                .build();
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(outputStream -> streamingService.streamAll(request, ndjsonWriter.to(outputStream)));
     }
 }
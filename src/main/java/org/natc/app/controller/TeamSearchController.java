@@ -2,8 +2,11 @@ package org.natc.app.controller;
 
 import org.natc.app.entity.request.TeamSearchRequest;
 import org.natc.app.entity.response.ResponseEnvelope;
+import org.natc.app.entity.response.ResponseStatus;
 import org.natc.app.entity.response.TeamResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.natc.app.service.search.NATCSearchService;
+import org.natc.app.service.search.SearchPage;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
@@ -11,8 +14,6 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
-import java.util.List;
-
 @Controller
 @RequestMapping("/api/teams")
 public class TeamSearchController {
@@ -29,7 +30,9 @@ public class TeamSearchController {
                                                                  @RequestParam(required = false) final String year,
                                                                  @RequestParam(name = "conference-id", required = false) final Integer conferenceId,
                                                                  @RequestParam(name = "division-id", required = false) final Integer divisionId,
-                                                                 @RequestParam(name = "allstar-team", required = false) final Boolean allstarTeam) {
+                                                                 @RequestParam(name = "allstar-team", required = false) final Boolean allstarTeam,
+                                                                 @RequestParam(required = false) final String cursor,
+                                                                 @RequestParam(name = "page-size", required = false) final Integer pageSize) {
         final TeamSearchRequest request = TeamSearchRequest.builder()
                 .teamId(teamId)
                 .year(year)
@@ -38,8 +41,13 @@ public class TeamSearchController {
                 .allstarTeam(allstarTeam)
                 .build();
 
-        final List<TeamResponse> teamList = service.fetchAll(request);
+        try {
+            final SearchPage<TeamResponse> page = service.fetchPage(request, cursor, pageSize);
 
-        return ResponseEntity.ok(new ResponseEnvelope<>(teamList));
+            return ResponseEntity.ok(new ResponseEnvelope<>(page.getResources(), page.getNextCursor()));
+        }
+        catch (final InvalidCursorException e) {
+            return ResponseEntity.badRequest().body(new ResponseEnvelope<>(ResponseStatus.FAILURE, null));
+        }
     }
 }
@@ -0,0 +1,137 @@
+package org.natc.app.draft;
+
+import org.natc.app.entity.domain.ManagerStyle;
+import org.natc.app.entity.domain.Player;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+public class FreeAgentMarket {
+
+    private static final Comparator<Listing> BEST_FIRST = Comparator.comparingDouble(Listing::rating).reversed().thenComparingInt(Listing::index);
+    private static final Comparator<Listing> WORST_FIRST = Comparator.comparingDouble(Listing::rating).thenComparingInt(Listing::index);
+
+    private final List<Player> players;
+    private final Map<Player, Integer> playerIndexes = new IdentityHashMap<>();
+    private final int[] versions;
+    private final Map<ManagerStyle, double[]> ratings = new EnumMap<>(ManagerStyle.class);
+    private final Map<ManagerStyle, PriorityQueue<Listing>> freeAgentBoards = new EnumMap<>(ManagerStyle.class);
+    private final Map<Integer, PriorityQueue<Listing>> rosterBoards = new HashMap<>();
+    private final Map<Integer, ManagerStyle> rosterBoardStyles = new HashMap<>();
+    private final Map<Integer, Integer> rosterSizes = new HashMap<>();
+    private int freeAgentCount;
+
+    public FreeAgentMarket(final List<Player> players) {
+        this.players = players;
+        this.versions = new int[players.size()];
+
+        for (int i = 0; i < players.size(); i++) {
+            final Player player = players.get(i);
+
+            playerIndexes.put(player, i);
+
+            if (Objects.nonNull(player.getTeamId())) {
+                rosterSizes.merge(player.getTeamId(), 1, Integer::sum);
+            }
+            else if (isFreeAgent(player)) {
+                freeAgentCount++;
+            }
+        }
+    }
+
+    public boolean hasFreeAgents() {
+        return freeAgentCount > 0;
+    }
+
+    public int getRosterSize(final Integer teamId) {
+        return rosterSizes.getOrDefault(teamId, 0);
+    }
+
+    public Optional<Player> getBestFreeAgent(final ManagerStyle managerStyle, final ToDoubleFunction<Player> ratingFunction) {
+        final PriorityQueue<Listing> board = freeAgentBoards.computeIfAbsent(
+                managerStyle, style -> buildBoard(style, ratingFunction, FreeAgentMarket::isFreeAgent, BEST_FIRST)
+        );
+
+        return peekCurrentListing(board);
+    }
+
+    public Optional<Player> getWorstRosterPlayer(final Integer teamId, final ManagerStyle managerStyle, final ToDoubleFunction<Player> ratingFunction) {
+        final PriorityQueue<Listing> board = rosterBoards.computeIfAbsent(teamId, team -> {
+            rosterBoardStyles.put(team, managerStyle);
+
+            return buildBoard(managerStyle, ratingFunction, player -> Objects.equals(team, player.getTeamId()), WORST_FIRST);
+        });
+
+        return peekCurrentListing(board);
+    }
+
+    public void playerSigned(final Player player, final Integer teamId) {
+        final int index = playerIndexes.get(player);
+
+        versions[index]++;
+        freeAgentCount--;
+        rosterSizes.merge(teamId, 1, Integer::sum);
+
+        if (rosterBoards.containsKey(teamId)) {
+            final double rating = ratings.get(rosterBoardStyles.get(teamId))[index];
+
+            rosterBoards.get(teamId).add(new Listing(index, versions[index], rating));
+        }
+    }
+
+    public void playerReleased(final Player player, final Integer teamId) {
+        final int index = playerIndexes.get(player);
+
+        versions[index]++;
+        freeAgentCount++;
+        rosterSizes.merge(teamId, -1, Integer::sum);
+
+        for (final Map.Entry<ManagerStyle, PriorityQueue<Listing>> entry : freeAgentBoards.entrySet()) {
+            entry.getValue().add(new Listing(index, versions[index], ratings.get(entry.getKey())[index]));
+        }
+    }
+
+    private static boolean isFreeAgent(final Player player) {
+        return Objects.isNull(player.getTeamId()) && !Objects.equals(player.getRetired(), 1);
+    }
+
+    private PriorityQueue<Listing> buildBoard(
+            final ManagerStyle managerStyle,
+            final ToDoubleFunction<Player> ratingFunction,
+            final Predicate<Player> filter,
+            final Comparator<Listing> order) {
+        final double[] styleRatings = ratings.computeIfAbsent(managerStyle, style -> rate(ratingFunction));
+        final PriorityQueue<Listing> board = new PriorityQueue<>(order);
+
+        for (int i = 0; i < players.size(); i++) {
+            if (filter.test(players.get(i))) {
+                board.add(new Listing(i, versions[i], styleRatings[i]));
+            }
+        }
+
+        return board;
+    }
+
+    private double[] rate(final ToDoubleFunction<Player> ratingFunction) {
+        final double[] styleRatings = new double[players.size()];
+
+        for (int i = 0; i < players.size(); i++) {
+            styleRatings[i] = ratingFunction.applyAsDouble(players.get(i));
+        }
+
+        return styleRatings;
+    }
+
+    private Optional<Player> peekCurrentListing(final PriorityQueue<Listing> board) {
+        // every signing and release bumps the player's version, so any older listing is stale and can be dropped
+        while (!board.isEmpty() && board.peek().version() != versions[board.peek().index()]) {
+            board.poll();
+        }
+
+        return Optional.ofNullable(board.peek()).map(listing -> players.get(listing.index()));
+    }
+
+    private record Listing(int index, int version, double rating) {
+    }
+}
@@ -0,0 +1,72 @@
+package org.natc.app.draft;
+
+import org.natc.app.entity.domain.Manager;
+
+import java.util.*;
+import java.util.function.ToDoubleFunction;
+
+public class ManagerDraftEngine {
+
+    private final List<Manager> managers;
+    private final PriorityQueue<RatedManager> draftBoard;
+
+    private ManagerDraftEngine(final List<Manager> managers, final ToDoubleFunction<Manager> ratingFunction, final ToDoubleFunction<Manager> tiebreakFunction) {
+        this.managers = managers;
+
+        final List<RatedManager> ratedManagers = new ArrayList<>();
+
+        for (int i = 0; i < managers.size(); i++) {
+            final Manager manager = managers.get(i);
+
+            if (Objects.isNull(manager.getTeamId())) {
+                ratedManagers.add(new RatedManager(i, ratingFunction.applyAsDouble(manager), tiebreakFunction.applyAsDouble(manager)));
+            }
+        }
+
+        this.draftBoard = new PriorityQueue<>(ratedManagers);
+    }
+
+    public static ManagerDraftEngine byOverallRating(final List<Manager> managers) {
+        return new ManagerDraftEngine(managers, Manager::getOverallRating, manager -> 0.0);
+    }
+
+    public static ManagerDraftEngine byPerformanceRating(final List<Manager> managers) {
+        return new ManagerDraftEngine(managers, Manager::getPerformanceRating, Manager::getOverallRating);
+    }
+
+    public Optional<Manager> draftBestManager(final Integer teamId) {
+        final List<RatedManager> skipped = new ArrayList<>();
+        Manager drafted = null;
+
+        while (!draftBoard.isEmpty()) {
+            final RatedManager ratedManager = draftBoard.poll();
+            final Manager manager = managers.get(ratedManager.index);
+
+            // a team won't hire back a manager it let go, set them aside for the teams that follow
+            if (Objects.nonNull(teamId) && teamId.equals(manager.getFormerTeamId())) {
+                skipped.add(ratedManager);
+                continue;
+            }
+
+            drafted = manager;
+            break;
+        }
+
+        draftBoard.addAll(skipped);
+
+        return Optional.ofNullable(drafted);
+    }
+
+    // highest rating first, then the tiebreak rating, remaining ties go to the manager listed first to match Stream.max()
+    private record RatedManager(int index, double rating, double tiebreak) implements Comparable<RatedManager> {
+
+        @Override
+        public int compareTo(final RatedManager other) {
+            int result = Double.compare(other.rating, rating);
+
+            if (result == 0) result = Double.compare(other.tiebreak, tiebreak);
+
+            return result != 0 ? result : Integer.compare(index, other.index);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.natc.app.draft;
+
+import org.natc.app.entity.domain.ManagerStyle;
+import org.natc.app.entity.domain.Player;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+public class PlayerDraftEngine {
+
+    private final List<Player> players;
+    private final Function<ManagerStyle, ToDoubleFunction<Player>> ratingFunctions;
+    private final boolean[] drafted;
+    private final Map<ManagerStyle, PriorityQueue<RatedPlayer>> draftBoards = new EnumMap<>(ManagerStyle.class);
+
+    public PlayerDraftEngine(final List<Player> players, final Function<ManagerStyle, ToDoubleFunction<Player>> ratingFunctions) {
+        this.players = players;
+        this.ratingFunctions = ratingFunctions;
+        this.drafted = new boolean[players.size()];
+
+        for (int i = 0; i < players.size(); i++) {
+            drafted[i] = Objects.nonNull(players.get(i).getTeamId());
+        }
+    }
+
+    public Optional<Player> draftBestPlayer(final ManagerStyle managerStyle) {
+        final PriorityQueue<RatedPlayer> draftBoard = draftBoards.computeIfAbsent(managerStyle, this::buildDraftBoard);
+
+        while (!draftBoard.isEmpty()) {
+            final RatedPlayer ratedPlayer = draftBoard.poll();
+
+            // players taken through another style's board are still queued here, skip them when they surface
+            if (!drafted[ratedPlayer.index]) {
+                drafted[ratedPlayer.index] = true;
+
+                return Optional.of(players.get(ratedPlayer.index));
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    private PriorityQueue<RatedPlayer> buildDraftBoard(final ManagerStyle managerStyle) {
+        final ToDoubleFunction<Player> ratingFunction = ratingFunctions.apply(managerStyle);
+        final List<RatedPlayer> ratedPlayers = new ArrayList<>();
+
+        for (int i = 0; i < players.size(); i++) {
+            if (!drafted[i]) {
+                ratedPlayers.add(new RatedPlayer(i, ratingFunction.applyAsDouble(players.get(i))));
+            }
+        }
+
+        return new PriorityQueue<>(ratedPlayers);
+    }
+
+    // highest rating first, ties go to the player listed first to match Stream.max()
+    private record RatedPlayer(int index, double rating) implements Comparable<RatedPlayer> {
+
+        @Override
+        public int compareTo(final RatedPlayer other) {
+            final int result = Double.compare(other.rating, rating);
+
+            return result != 0 ? result : Integer.compare(index, other.index);
+        }
+    }
+}
@@ -1,14 +1,17 @@
 package org.natc.app.entity.domain;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Id;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.natc.app.random.NameTableListener;
 
 
 @Entity(name = "firstnames_t")
+@EntityListeners(NameTableListener.class)
 @Builder
 @Getter
 @NoArgsConstructor
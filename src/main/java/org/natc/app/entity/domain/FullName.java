@@ -1,10 +1,14 @@
 package org.natc.app.entity.domain;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
 @Builder
 @Getter
+@AllArgsConstructor
+@EqualsAndHashCode
 public class FullName {
 
     private String firstName;
@@ -0,0 +1,17 @@
+package org.natc.app.entity.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Builder
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+public class HeadToHeadRecord {
+
+    private Integer teamId;
+    private Integer opponent;
+    private Long wins;
+}
@@ -1,13 +1,16 @@
 package org.natc.app.entity.domain;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Id;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.natc.app.random.NameTableListener;
 
 @Entity(name = "lastnames_t")
+@EntityListeners(NameTableListener.class)
 @Builder
 @Getter
 @NoArgsConstructor
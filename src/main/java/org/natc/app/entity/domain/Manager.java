@@ -6,6 +6,7 @@ import jakarta.persistence.IdClass;
 import lombok.*;
 
 import java.util.Objects;
+import java.util.random.RandomGenerator;
 
 @Entity(name = "managers_t")
 @IdClass(ManagerId.class)
@@ -42,6 +43,7 @@ public class Manager {
     private Integer totalScore;
 
     public static Manager generate(
+            final RandomGenerator random,
             final Integer managerId,
             final String year,
             final String firstName,
@@ -51,12 +53,12 @@ public class Manager {
                 .year(year)
                 .firstName(firstName)
                 .lastName(lastName)
-                .age((int)Math.floor((Math.random() * 10.0) + 40.0))
-                .offense(Math.random())
-                .defense(Math.random())
-                .intangible(Math.random())
-                .penalties(Math.random())
-                .vitality(Math.random())
+                .age((int)Math.floor((random.nextDouble() * 10.0) + 40.0))
+                .offense(random.nextDouble())
+                .defense(random.nextDouble())
+                .intangible(random.nextDouble())
+                .penalties(random.nextDouble())
+                .vitality(random.nextDouble())
                 .newHire(0)
                 .released(0)
                 .retired(0)
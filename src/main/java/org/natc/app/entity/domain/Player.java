@@ -9,6 +9,8 @@ import lombok.*;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.function.IntToDoubleFunction;
+import java.util.random.RandomGenerator;
 
 import static org.natc.app.entity.domain.PlayerRatingAdjustment.*;
 
@@ -30,6 +32,11 @@ public class Player {
     public static final double MIN_FACTOR = 0.0;
     public static final double FATIGUE_TIRED_POINT = 1.0;
 
+    private static final PlayerRating[] PLAYER_RATINGS = PlayerRating.values();
+    private static final int AGE_FACTOR_INDEX = PLAYER_RATINGS.length;
+    private static final int CONFIDENCE_FACTOR_INDEX = AGE_FACTOR_INDEX + 1;
+    private static final int RATING_VECTOR_SIZE = CONFIDENCE_FACTOR_INDEX + 1;
+
     @Id
     private Integer playerId;
     @Setter
@@ -38,7 +45,6 @@ public class Player {
     private String year;
     private String firstName;
     private String lastName;
-    @Setter
     private Integer age;
     private Double scoring;
     private Double passing;
@@ -76,28 +82,32 @@ public class Player {
     private Integer draftPick;
     private Integer seasonsPlayed;
     private Integer allstarAlternate;
+    // initialised final so it is left out of the builder and the all args constructor
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private final RatingVector ratingVector = new RatingVector();
 
-    public static Player generate(final Integer playerId, final String year, final String firstName, final String lastName) {
+    public static Player generate(final RandomGenerator random, final Integer playerId, final String year, final String firstName, final String lastName) {
         return Player.builder()
                 .playerId(playerId)
                 .year(year)
                 .firstName(firstName)
                 .lastName(lastName)
-                .age((int)Math.floor((Math.random() * AGE_VARIATION) + STARTING_AGE + 1))
-                .scoring(Math.random())
-                .passing(Math.random())
-                .blocking(Math.random())
-                .tackling(Math.random())
-                .stealing(Math.random())
-                .presence(Math.random())
-                .discipline(Math.random())
-                .penaltyShot(Math.random())
-                .penaltyOffense(Math.random())
-                .penaltyDefense(Math.random())
-                .endurance(Math.random())
-                .confidence(Math.random())
-                .vitality(Math.random())
-                .durability(Math.random())
+                .age((int)Math.floor((random.nextDouble() * AGE_VARIATION) + STARTING_AGE + 1))
+                .scoring(random.nextDouble())
+                .passing(random.nextDouble())
+                .blocking(random.nextDouble())
+                .tackling(random.nextDouble())
+                .stealing(random.nextDouble())
+                .presence(random.nextDouble())
+                .discipline(random.nextDouble())
+                .penaltyShot(random.nextDouble())
+                .penaltyOffense(random.nextDouble())
+                .penaltyDefense(random.nextDouble())
+                .endurance(random.nextDouble())
+                .confidence(random.nextDouble())
+                .vitality(random.nextDouble())
+                .durability(random.nextDouble())
                 .rookie(0)
                 .injured(0)
                 .freeAgent(0)
@@ -109,6 +119,11 @@ public class Player {
                 .build();
     }
 
+    public void setAge(final Integer age) {
+        this.age = age;
+        this.ratingVector.clear();
+    }
+
     public Double getOffensiveRating() {
         if (Objects.isNull(scoring)) return MIN_RATING;
         if (Objects.isNull(passing)) return MIN_RATING;
@@ -207,6 +222,42 @@ public class Player {
         return factor > MIN_FACTOR ? factor : MIN_FACTOR;
     }
 
+    public double getAdjustedRating(final PlayerRating rating, final boolean applyAge, final boolean applyConfidence, final boolean applyFatigue) {
+        double value = getRatingVectorValue(rating.ordinal());
+
+        if (applyAge) {
+            value *= getRatingVectorValue(AGE_FACTOR_INDEX);
+        }
+
+        if (applyConfidence) {
+            value *= getRatingVectorValue(CONFIDENCE_FACTOR_INDEX);
+        }
+
+        // fatigue changes from one game to the next so it is never cached
+        if (applyFatigue) {
+            value *= getFatigueFactor();
+        }
+
+        return value;
+    }
+
+    private double getRatingVectorValue(final int index) {
+        return ratingVector.get(index, this::calculateRatingVectorValue);
+    }
+
+    private double calculateRatingVectorValue(final int index) {
+        if (index == AGE_FACTOR_INDEX) return getAgeFactor();
+        if (index == CONFIDENCE_FACTOR_INDEX) return getConfidenceFactor();
+
+        return switch (PLAYER_RATINGS[index]) {
+            case OFFENSIVE -> getOffensiveRating();
+            case DEFENSIVE -> getDefensiveRating();
+            case INTANGIBLE -> getIntangibleRating();
+            case PENALTY -> getPenaltyRating();
+            case PERFORMANCE -> getPerformanceRating();
+        };
+    }
+
     private Double adjustRating(Double rating, PlayerRatingAdjustment... adjustments) {
         if (Arrays.stream(adjustments).anyMatch(adj -> adj == APPLY_AGE)) {
             rating *= getAgeFactor();
@@ -222,4 +273,26 @@ public class Player {
 
         return rating;
     }
+
+    // the values are only allocated once a rating is asked for, players that are never simulated don't pay for them
+    private static class RatingVector {
+        private double[] values;
+
+        private double get(final int index, final IntToDoubleFunction calculation) {
+            if (Objects.isNull(values)) {
+                values = new double[RATING_VECTOR_SIZE];
+                Arrays.fill(values, Double.NaN);
+            }
+
+            if (Double.isNaN(values[index])) {
+                values[index] = calculation.applyAsDouble(index);
+            }
+
+            return values[index];
+        }
+
+        private void clear() {
+            values = null;
+        }
+    }
 }
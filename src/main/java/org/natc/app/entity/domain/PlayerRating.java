@@ -0,0 +1,5 @@
+package org.natc.app.entity.domain;
+
+public enum PlayerRating {
+    OFFENSIVE, DEFENSIVE, INTANGIBLE, PENALTY, PERFORMANCE
+}
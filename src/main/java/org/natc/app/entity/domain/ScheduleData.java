@@ -4,6 +4,7 @@ import lombok.Getter;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 @Getter
 public class ScheduleData {
@@ -25,6 +26,23 @@ public class ScheduleData {
         matches = new ArrayList<>();
     }
 
+    public static ScheduleData decode(final String data) {
+        final ScheduleData scheduleData = new ScheduleData();
+
+        if (Objects.isNull(data) || data.isEmpty()) return scheduleData;
+
+        final int count = decode(data.charAt(0));
+
+        for (int match = 0; match < count; ++match) {
+            final int roadTeam = decode(data.charAt(1 + (match * 2)));
+            final int homeTeam = decode(data.charAt(2 + (match * 2)));
+
+            scheduleData.getMatches().add(new Match(homeTeam, roadTeam));
+        }
+
+        return scheduleData;
+    }
+
     @Override
     public String toString() {
         final StringBuilder buffer = new StringBuilder();
@@ -42,4 +60,8 @@ public class ScheduleData {
     private char encode(final int value) {
         return (char)('0' + value);
     }
+
+    private static int decode(final char value) {
+        return value - '0';
+    }
 }
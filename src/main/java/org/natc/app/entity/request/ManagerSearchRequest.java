@@ -2,14 +2,16 @@ package org.natc.app.entity.request;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
+@EqualsAndHashCode
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class ManagerSearchRequest {
+public class ManagerSearchRequest implements SeasonSearchRequest {
     private Integer managerId;
     private Integer teamId;
     private Integer playerId;
@@ -2,14 +2,16 @@ package org.natc.app.entity.request;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
+@EqualsAndHashCode
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class PlayerSearchRequest {
+public class PlayerSearchRequest implements SeasonSearchRequest {
     private Integer playerId;
     private Integer teamId;
     private String year;
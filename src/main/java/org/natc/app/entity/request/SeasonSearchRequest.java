@@ -0,0 +1,6 @@
+package org.natc.app.entity.request;
+
+// searches that can be narrowed to a single season, a completed season's results never change
+public interface SeasonSearchRequest {
+    String getYear();
+}
@@ -2,15 +2,17 @@ package org.natc.app.entity.request;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.natc.app.entity.domain.GameType;
 
 @Getter
+@EqualsAndHashCode
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class TeamDefenseSummarySearchRequest {
+public class TeamDefenseSummarySearchRequest implements SeasonSearchRequest {
     private String year;
     private GameType type;
     private Integer teamId;
@@ -2,6 +2,7 @@ package org.natc.app.entity.request;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.natc.app.entity.domain.GameType;
@@ -9,10 +10,11 @@ import org.natc.app.entity.domain.GameType;
 import java.time.LocalDate;
 
 @Getter
+@EqualsAndHashCode
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class TeamGameSearchRequest {
+public class TeamGameSearchRequest implements SeasonSearchRequest {
     private Integer gameId;
     private String year;
     private LocalDate datestamp;
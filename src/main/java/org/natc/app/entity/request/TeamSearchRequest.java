@@ -2,14 +2,16 @@ package org.natc.app.entity.request;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
+@EqualsAndHashCode
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class TeamSearchRequest {
+public class TeamSearchRequest implements SeasonSearchRequest {
     private Integer teamId;
     private String year;
     private Integer conferenceId;
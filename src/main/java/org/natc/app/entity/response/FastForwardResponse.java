@@ -0,0 +1,23 @@
+package org.natc.app.entity.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.natc.app.entity.domain.ScheduleType;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FastForwardResponse {
+    private Integer events;
+    private Integer seasons;
+    private Long elapsedMillis;
+    private Double eventsPerSecond;
+    private Double seasonsPerMinute;
+    private String lastYear;
+    private Integer lastSequence;
+    private ScheduleType lastType;
+    private Boolean targetReached;
+}
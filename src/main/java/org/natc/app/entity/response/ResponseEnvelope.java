@@ -1,5 +1,6 @@
 package org.natc.app.entity.response;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 import org.springframework.util.CollectionUtils;
 
@@ -11,6 +12,8 @@ public class ResponseEnvelope<T> {
     private T resource;
     private List<T> resources;
     private List<String> errors;
+    @JsonProperty("next-cursor")
+    private String nextCursor;
 
     // TODO: add requestId to fields and constructor
 
@@ -24,4 +27,10 @@ public class ResponseEnvelope<T> {
 
         status = CollectionUtils.isEmpty(resources) ? ResponseStatus.NOT_FOUND : ResponseStatus.SUCCESS;
     }
+
+    public ResponseEnvelope(final List<T> resources, final String nextCursor) {
+        this(resources);
+
+        this.nextCursor = nextCursor;
+    }
 }
@@ -0,0 +1,19 @@
+package org.natc.app.exception;
+
+public class FastForwardException extends NATCException {
+    public FastForwardException() {
+        super();
+    }
+
+    public FastForwardException(final String message) {
+        super(message);
+    }
+
+    public FastForwardException(final Throwable cause) {
+        super(cause);
+    }
+
+    public FastForwardException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,19 @@
+package org.natc.app.exception;
+
+public class InvalidCursorException extends NATCException {
+    public InvalidCursorException() {
+        super();
+    }
+
+    public InvalidCursorException(final String message) {
+        super(message);
+    }
+
+    public InvalidCursorException(final Throwable cause) {
+        super(cause);
+    }
+
+    public InvalidCursorException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
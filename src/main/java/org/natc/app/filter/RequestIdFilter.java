@@ -2,6 +2,8 @@ package org.natc.app.filter;
 
 import jakarta.servlet.*;
 import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
@@ -10,6 +12,7 @@ import static org.natc.app.filter.RequestIdGenerator.REQUEST_ID_KEY;
 import static org.natc.app.filter.RequestIdGenerator.generateRequestId;
 
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
 public class RequestIdFilter implements Filter {
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
@@ -0,0 +1,40 @@
+package org.natc.app.filter;
+
+import org.natc.app.metrics.LeagueMetrics;
+import org.natc.app.metrics.SqlStatementTracker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+
+// a streamed export runs its queries on the async executor once SqlStatementFilter has already finished with the request,
+// so the statements are counted here, on the thread that runs them, and recorded against the same uri pattern
+@Component
+public class SqlStatementAsyncInterceptor implements CallableProcessingInterceptor {
+
+    private final SqlStatementTracker sqlStatementTracker;
+    private final LeagueMetrics leagueMetrics;
+
+    @Autowired
+    public SqlStatementAsyncInterceptor(final SqlStatementTracker sqlStatementTracker, final LeagueMetrics leagueMetrics) {
+        this.sqlStatementTracker = sqlStatementTracker;
+        this.leagueMetrics = leagueMetrics;
+    }
+
+    @Override
+    public <T> void preProcess(final NativeWebRequest request, final Callable<T> task) {
+        sqlStatementTracker.start();
+    }
+
+    @Override
+    public <T> void postProcess(final NativeWebRequest request, final Callable<T> task, final Object concurrentResult) {
+        final Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+
+        leagueMetrics.recordRequestSqlStatements(Objects.isNull(pattern) ? null : pattern.toString(), sqlStatementTracker.stop());
+    }
+}
@@ -0,0 +1,69 @@
+package org.natc.app.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.natc.app.metrics.LeagueMetrics;
+import org.natc.app.metrics.SqlStatementStats;
+import org.natc.app.metrics.SqlStatementTracker;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class SqlStatementFilter extends OncePerRequestFilter {
+    public static final String SQL_STATEMENTS_KEY = "sql-statements";
+    public static final String SQL_TIME_KEY = "sql-time-ms";
+
+    private final SqlStatementTracker sqlStatementTracker;
+    private final LeagueMetrics leagueMetrics;
+
+    @Autowired
+    public SqlStatementFilter(final SqlStatementTracker sqlStatementTracker, final LeagueMetrics leagueMetrics) {
+        this.sqlStatementTracker = sqlStatementTracker;
+        this.leagueMetrics = leagueMetrics;
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response, final FilterChain filterChain) throws ServletException, IOException {
+        sqlStatementTracker.start();
+
+        try {
+            filterChain.doFilter(request, response);
+        }
+        finally {
+            final SqlStatementStats stats = sqlStatementTracker.stop();
+
+            // a streamed response has not run its queries yet, SqlStatementAsyncInterceptor records it once it has
+            if (!request.isAsyncStarted()) {
+                record(request, stats);
+            }
+        }
+    }
+
+    private void record(final HttpServletRequest request, final SqlStatementStats stats) {
+        final Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+        leagueMetrics.recordRequestSqlStatements(Objects.isNull(pattern) ? null : pattern.toString(), stats);
+
+        if (Objects.nonNull(stats)) {
+            // the request id filter clears the MDC once the request is done
+            MDC.put(SQL_STATEMENTS_KEY, String.valueOf(stats.getStatements()));
+            MDC.put(SQL_TIME_KEY, String.valueOf(TimeUnit.NANOSECONDS.toMillis(stats.getElapsedNanos())));
+
+            log.debug("{} {} issued {} sql statements", request.getMethod(), request.getRequestURI(), stats.getStatements());
+        }
+    }
+}
@@ -2,11 +2,13 @@ package org.natc.app.generator;
 
 import org.natc.app.configuration.LeagueConfiguration;
 import org.natc.app.entity.domain.ScheduleData;
+import org.natc.app.random.RandomNumber;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.random.RandomGenerator;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -14,16 +16,19 @@ import java.util.stream.IntStream;
 public class PreseasonScheduleDataGenerator implements ScheduleDataGenerator {
 
     private final LeagueConfiguration leagueConfiguration;
+    private final RandomNumber randomNumber;
 
-    public PreseasonScheduleDataGenerator(final LeagueConfiguration leagueConfiguration) {
+    public PreseasonScheduleDataGenerator(final LeagueConfiguration leagueConfiguration, final RandomNumber randomNumber) {
         this.leagueConfiguration = leagueConfiguration;
+        this.randomNumber = randomNumber;
     }
 
-    public List<ScheduleData> generate() {
+    public List<ScheduleData> generate(final String year) {
+        final RandomGenerator random = randomNumber.forSeason(year);
         final List<ScheduleData> scheduleDataList = new ArrayList<>();
         final List<Integer> teamIds = IntStream.rangeClosed(1, leagueConfiguration.getNumberOfTeams()).boxed().collect(Collectors.toList());
 
-        Collections.shuffle(teamIds);
+        Collections.shuffle(teamIds, random);
 
         final List<Integer> staticTeams = teamIds.subList(0, leagueConfiguration.getGamesPerDay());
         final List<Integer> floatingTeams = teamIds.subList(leagueConfiguration.getGamesPerDay(), teamIds.size());
@@ -46,7 +51,7 @@ public class PreseasonScheduleDataGenerator implements ScheduleDataGenerator {
             Collections.rotate(floatingTeams, 1);
         }
 
-        Collections.shuffle(scheduleDataList);
+        Collections.shuffle(scheduleDataList, random);
 
         return scheduleDataList;
     }
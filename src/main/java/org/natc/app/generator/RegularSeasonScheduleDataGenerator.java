@@ -2,11 +2,13 @@ package org.natc.app.generator;
 
 import org.natc.app.configuration.LeagueConfiguration;
 import org.natc.app.entity.domain.ScheduleData;
+import org.natc.app.random.RandomNumber;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 @Component("regular-season-schedule-data-generator")
 public class RegularSeasonScheduleDataGenerator implements ScheduleDataGenerator {
@@ -15,12 +17,15 @@ public class RegularSeasonScheduleDataGenerator implements ScheduleDataGenerator
     public static final int DIVISION_ROUNDS = 4;
 
     private final LeagueConfiguration leagueConfiguration;
+    private final RandomNumber randomNumber;
 
-    public RegularSeasonScheduleDataGenerator(final LeagueConfiguration leagueConfiguration) {
+    public RegularSeasonScheduleDataGenerator(final LeagueConfiguration leagueConfiguration, final RandomNumber randomNumber) {
         this.leagueConfiguration = leagueConfiguration;
+        this.randomNumber = randomNumber;
     }
 
-    public List<ScheduleData> generate() {
+    public List<ScheduleData> generate(final String year) {
+        final RandomGenerator random = randomNumber.forSeason(year);
         final Integer numberOfTeams = leagueConfiguration.getNumberOfTeams();
         final Integer teamsPerDivision = leagueConfiguration.getTeamsPerDivision();
         final Integer teamsPerConference = leagueConfiguration.getTeamsPerConference();
@@ -33,10 +38,10 @@ public class RegularSeasonScheduleDataGenerator implements ScheduleDataGenerator
         for ( int i = 0; i < numberOfTeams; ++i ) teams[i] = i + 1;
 
         // Division Series
-        generateRoundRobin(teams, scheduleDataList, teamsPerDivision, DIVISION_ROUNDS);
+        generateRoundRobin(teams, scheduleDataList, teamsPerDivision, DIVISION_ROUNDS, random);
 
         // Conference Series
-        generateRoundRobin(teams, scheduleDataList, teamsPerConference, CONFERENCE_ROUNDS);
+        generateRoundRobin(teams, scheduleDataList, teamsPerConference, CONFERENCE_ROUNDS, random);
 
         // Out of Conference Series
         final int lastIndex = teams.length - 1;
@@ -70,18 +75,18 @@ public class RegularSeasonScheduleDataGenerator implements ScheduleDataGenerator
             rotate( teams, teamsPerConference, teamsPerConference );
         }
 
-        Collections.shuffle( scheduleDataList );
+        Collections.shuffle( scheduleDataList, random );
 
         return scheduleDataList;
     }
 
     private void generateRoundRobin(
-            final int[] teams, final List<ScheduleData> scheduleDataList, final int partitionSize, final int rounds
+            final int[] teams, final List<ScheduleData> scheduleDataList, final int partitionSize, final int rounds, final RandomGenerator random
     ) {
         final int partitions = teams.length / partitionSize;
 
         for (int i = 0; i < partitions; ++i) {
-            shuffle(teams, (i * partitionSize), partitionSize);
+            shuffle(teams, (i * partitionSize), partitionSize, random);
         }
 
         boolean flip = false;
@@ -145,9 +150,9 @@ public class RegularSeasonScheduleDataGenerator implements ScheduleDataGenerator
         array[offset] = x;
     }
 
-    private void shuffle(final int[] array, final int offset, final int length) {
+    private void shuffle(final int[] array, final int offset, final int length, final RandomGenerator random) {
         for (int i = length; i > 1; --i) {
-            final int n = offset + (int) Math.floor(Math.random() * (float) (i - 1));
+            final int n = offset + random.nextInt(i - 1);
             final int m = offset + i - 1;
             final int x;
 
@@ -5,5 +5,5 @@ import org.natc.app.entity.domain.ScheduleData;
 import java.util.List;
 
 public interface ScheduleDataGenerator {
-    List<ScheduleData> generate();
+    List<ScheduleData> generate(String year);
 }
@@ -0,0 +1,48 @@
+package org.natc.app.job;
+
+import org.natc.app.configuration.SeasonClockConfiguration;
+import org.natc.app.exception.NATCException;
+import org.natc.app.manager.SeasonManager;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.quartz.QuartzJobBean;
+
+import java.util.Objects;
+
+@DisallowConcurrentExecution
+public class SeasonClockJob extends QuartzJobBean {
+
+    private final SeasonManager seasonManager;
+    private final SeasonClockConfiguration seasonClockConfiguration;
+
+    @Autowired
+    public SeasonClockJob(final SeasonManager seasonManager, final SeasonClockConfiguration seasonClockConfiguration) {
+        this.seasonManager = seasonManager;
+        this.seasonClockConfiguration = seasonClockConfiguration;
+    }
+
+    @Override
+    protected void executeInternal(final JobExecutionContext context) throws JobExecutionException {
+        try {
+            context.setResult(catchUp());
+        }
+        catch (final NATCException e) {
+            throw new JobExecutionException(e);
+        }
+    }
+
+    // each call to the season manager commits on its own, so a failure only rolls back the entry being processed
+    public int catchUp() throws NATCException {
+        int processed = 0;
+
+        while (processed < seasonClockConfiguration.getMaxEntriesPerFiring()) {
+            if (Objects.isNull(seasonManager.processScheduledEvent())) break;
+
+            processed++;
+        }
+
+        return processed;
+    }
+}
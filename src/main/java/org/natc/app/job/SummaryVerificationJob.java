@@ -0,0 +1,40 @@
+package org.natc.app.job;
+
+import org.natc.app.entity.domain.Schedule;
+import org.natc.app.service.ScheduleService;
+import org.natc.app.service.StatsSummaryService;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.quartz.QuartzJobBean;
+
+import java.util.Objects;
+
+@DisallowConcurrentExecution
+public class SummaryVerificationJob extends QuartzJobBean {
+
+    private final ScheduleService scheduleService;
+    private final StatsSummaryService statsSummaryService;
+
+    @Autowired
+    public SummaryVerificationJob(final ScheduleService scheduleService, final StatsSummaryService statsSummaryService) {
+        this.scheduleService = scheduleService;
+        this.statsSummaryService = statsSummaryService;
+    }
+
+    @Override
+    protected void executeInternal(final JobExecutionContext context) {
+        context.setResult(verify());
+    }
+
+    // checks the season of the last completed schedule entry, since that is the one the game days are folding into
+    public int verify() {
+        final Schedule lastEntry = scheduleService.getLastScheduleEntry();
+
+        if (Objects.isNull(lastEntry)) {
+            return 0;
+        }
+
+        return statsSummaryService.verifySummaries(lastEntry.getYear());
+    }
+}
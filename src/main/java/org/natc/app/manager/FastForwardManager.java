@@ -0,0 +1,149 @@
+package org.natc.app.manager;
+
+import org.natc.app.configuration.SeasonClockSchedulerConfiguration;
+import org.natc.app.entity.domain.Schedule;
+import org.natc.app.entity.domain.ScheduleType;
+import org.natc.app.entity.response.FastForwardResponse;
+import org.natc.app.exception.FastForwardException;
+import org.natc.app.exception.NATCException;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.TriggerKey;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+@Component
+public class FastForwardManager {
+
+    private static final Pattern YEAR_PATTERN = Pattern.compile("\\d{4}");
+    private static final TriggerKey SEASON_CLOCK_TRIGGER = TriggerKey.triggerKey(SeasonClockSchedulerConfiguration.SEASON_CLOCK_TRIGGER);
+
+    private final SeasonManager seasonManager;
+    private final Scheduler scheduler;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Autowired
+    public FastForwardManager(final SeasonManager seasonManager, final Scheduler scheduler) {
+        this.seasonManager = seasonManager;
+        this.scheduler = scheduler;
+    }
+
+    public FastForwardResponse fastForward(final String targetYear, final ScheduleType targetType, final Integer maxEvents) throws NATCException {
+        if (Objects.isNull(targetYear) && Objects.isNull(targetType)) {
+            throw new FastForwardException("A target year or schedule type is required");
+        }
+
+        if (Objects.nonNull(targetYear) && !YEAR_PATTERN.matcher(targetYear).matches()) {
+            throw new FastForwardException("Invalid target year: " + targetYear);
+        }
+
+        if (!running.compareAndSet(false, true)) {
+            throw new FastForwardException("A fast forward is already running");
+        }
+
+        boolean seasonClockPaused = false;
+
+        try {
+            seasonClockPaused = pauseSeasonClock();
+
+            return advance(Objects.isNull(targetYear) ? null : Integer.valueOf(targetYear), targetType, maxEvents);
+        }
+        finally {
+            try {
+                if (seasonClockPaused) resumeSeasonClock();
+            }
+            finally {
+                running.set(false);
+            }
+        }
+    }
+
+    private FastForwardResponse advance(final Integer targetYear, final ScheduleType targetType, final Integer maxEvents) throws NATCException {
+        final int eventLimit = Objects.isNull(maxEvents) ? Integer.MAX_VALUE : maxEvents;
+        final long start = System.nanoTime();
+
+        int events = 0;
+        int seasons = 0;
+        boolean targetReached = false;
+        Schedule lastEntry = null;
+
+        while (events < eventLimit) {
+            // each entry is processed and committed on its own, ignoring the date it is scheduled for
+            final Schedule entry = seasonManager.processScheduledEvent(LocalDate.MAX);
+
+            if (Objects.isNull(entry)) break;
+
+            events++;
+            lastEntry = entry;
+
+            if (ScheduleType.END_OF_SEASON.getValue().equals(entry.getType())) seasons++;
+
+            if (isTargetReached(entry, targetYear, targetType)) {
+                targetReached = true;
+                break;
+            }
+        }
+
+        final long elapsedNanos = System.nanoTime() - start;
+
+        return FastForwardResponse.builder()
+                .events(events)
+                .seasons(seasons)
+                .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                .eventsPerSecond(ratePer(events, elapsedNanos, TimeUnit.SECONDS))
+                .seasonsPerMinute(ratePer(seasons, elapsedNanos, TimeUnit.MINUTES))
+                .lastYear(Objects.isNull(lastEntry) ? null : lastEntry.getYear())
+                .lastSequence(Objects.isNull(lastEntry) ? null : lastEntry.getSequence())
+                .lastType(Objects.isNull(lastEntry) ? null : ScheduleType.getByValue(lastEntry.getType()))
+                .targetReached(targetReached)
+                .build();
+    }
+
+    // the schedule lock already keeps the clock from processing an entry at the same time, pausing it just stops the
+    // two taking turns; a clock that was already paused, or never scheduled, is left as it is
+    private boolean pauseSeasonClock() throws NATCException {
+        try {
+            final Trigger.TriggerState state = scheduler.getTriggerState(SEASON_CLOCK_TRIGGER);
+
+            if (state != Trigger.TriggerState.NORMAL && state != Trigger.TriggerState.BLOCKED) return false;
+
+            scheduler.pauseTrigger(SEASON_CLOCK_TRIGGER);
+
+            return true;
+        }
+        catch (final SchedulerException e) {
+            throw new NATCException(e);
+        }
+    }
+
+    private void resumeSeasonClock() throws NATCException {
+        try {
+            scheduler.resumeTrigger(SEASON_CLOCK_TRIGGER);
+        }
+        catch (final SchedulerException e) {
+            throw new NATCException(e);
+        }
+    }
+
+    private boolean isTargetReached(final Schedule entry, final Integer targetYear, final ScheduleType targetType) {
+        if (Objects.nonNull(targetYear) && Integer.parseInt(entry.getYear()) > targetYear) return true;
+
+        final boolean yearReached = Objects.isNull(targetYear) || targetYear.toString().equals(entry.getYear());
+        final ScheduleType finalType = Objects.isNull(targetType) ? ScheduleType.END_OF_SEASON : targetType;
+
+        return yearReached && finalType.getValue().equals(entry.getType());
+    }
+
+    private Double ratePer(final int count, final long elapsedNanos, final TimeUnit unit) {
+        if (elapsedNanos <= 0) return 0.0;
+
+        return count * (double) unit.toNanos(1) / elapsedNanos;
+    }
+}
@@ -0,0 +1,11 @@
+package org.natc.app.manager;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.natc.app.entity.domain.Schedule;
+
+@Getter
+@AllArgsConstructor
+public class ScheduleEntryProcessedEvent {
+    private final Schedule schedule;
+}
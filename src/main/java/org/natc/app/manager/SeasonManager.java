@@ -6,10 +6,14 @@ import org.natc.app.entity.domain.ScheduleStatus;
 import org.natc.app.entity.domain.ScheduleType;
 import org.natc.app.exception.NATCException;
 import org.natc.app.exception.ScheduleProcessingException;
+import org.natc.app.metrics.LeagueMetrics;
+import org.natc.app.metrics.SqlStatementTracker;
 import org.natc.app.processor.ScheduleProcessor;
+import org.natc.app.repository.ScheduleLockRepository;
 import org.natc.app.service.LeagueService;
 import org.natc.app.service.ScheduleService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,21 +24,37 @@ import java.util.Objects;
 public class SeasonManager {
 
     private final ScheduleService scheduleService;
+    private final ScheduleLockRepository scheduleLockRepository;
     private final ScheduleProcessorManager scheduleProcessorManager;
     private final LeagueService leagueService;
     private final LeagueConfiguration leagueConfiguration;
+    private final LeagueMetrics leagueMetrics;
+    private final SqlStatementTracker sqlStatementTracker;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public SeasonManager(final ScheduleService scheduleService, final ScheduleProcessorManager scheduleProcessorManager, final LeagueService leagueService, final LeagueConfiguration leagueConfiguration) {
+    public SeasonManager(final ScheduleService scheduleService, final ScheduleLockRepository scheduleLockRepository, final ScheduleProcessorManager scheduleProcessorManager, final LeagueService leagueService, final LeagueConfiguration leagueConfiguration, final LeagueMetrics leagueMetrics, final SqlStatementTracker sqlStatementTracker, final ApplicationEventPublisher eventPublisher) {
         this.scheduleService = scheduleService;
+        this.scheduleLockRepository = scheduleLockRepository;
         this.scheduleProcessorManager = scheduleProcessorManager;
         this.leagueService = leagueService;
         this.leagueConfiguration = leagueConfiguration;
+        this.leagueMetrics = leagueMetrics;
+        this.sqlStatementTracker = sqlStatementTracker;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
-    public void processScheduledEvent() throws NATCException {
-        if (Objects.nonNull(scheduleService.getCurrentScheduleEntry())) return;
+    public Schedule processScheduledEvent() throws NATCException {
+        return processScheduledEvent(LocalDate.now());
+    }
+
+    @Transactional
+    public Schedule processScheduledEvent(final LocalDate processThrough) throws NATCException {
+        // the season clock, a fast forward and every other instance advance the same schedule, so only one may look at it at a time
+        scheduleLockRepository.lockSchedule();
+
+        if (Objects.nonNull(scheduleService.getCurrentScheduleEntry())) return null;
 
         final Schedule lastScheduleEntry = scheduleService.getLastScheduleEntry();
 
@@ -53,15 +73,31 @@ public class SeasonManager {
 
         if (Objects.isNull(nextScheduleEntry)) throw new ScheduleProcessingException();
 
-        if (nextScheduleEntry.getScheduled().isAfter(LocalDate.now())) return;
+        if (nextScheduleEntry.getScheduled().isAfter(processThrough)) return null;
 
         nextScheduleEntry.setStatus(ScheduleStatus.IN_PROGRESS.getValue());
 
         scheduleService.updateScheduleEntry(nextScheduleEntry);
 
-        final ScheduleProcessor scheduleProcessor = scheduleProcessorManager
-                .getProcessorFor(ScheduleType.getByValue(nextScheduleEntry.getType()));
+        final ScheduleType scheduleType = ScheduleType.getByValue(nextScheduleEntry.getType());
+        final ScheduleProcessor scheduleProcessor = scheduleProcessorManager.getProcessorFor(scheduleType);
+
+        leagueMetrics.scheduleEntryStarted(nextScheduleEntry);
+
+        final long start = System.nanoTime();
+
+        sqlStatementTracker.start();
+
+        try {
+            scheduleProcessor.process(nextScheduleEntry);
+        }
+        finally {
+            leagueMetrics.recordScheduleSqlStatements(scheduleType, sqlStatementTracker.stop());
+            leagueMetrics.recordScheduleProcessing(scheduleType, System.nanoTime() - start);
+        }
+
+        eventPublisher.publishEvent(new ScheduleEntryProcessedEvent(nextScheduleEntry));
 
-        scheduleProcessor.process(nextScheduleEntry);
+        return nextScheduleEntry;
     }
 }
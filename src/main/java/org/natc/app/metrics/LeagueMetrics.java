@@ -0,0 +1,96 @@
+package org.natc.app.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.natc.app.entity.domain.Schedule;
+import org.natc.app.entity.domain.ScheduleType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class LeagueMetrics {
+    public static final String SCHEDULE_PROCESS_TIMER = "natc.schedule.process";
+    public static final String PLAYERS_COUNTER = "natc.players";
+    public static final String MANAGERS_COUNTER = "natc.managers";
+    public static final String CURRENT_SEASON_GAUGE = "natc.season.current";
+    public static final String SCHEDULE_SEQUENCE_GAUGE = "natc.schedule.sequence";
+    public static final String HTTP_SQL_STATEMENTS_SUMMARY = "natc.http.sql.statements";
+    public static final String HTTP_SQL_TIME_TIMER = "natc.http.sql.time";
+    public static final String SCHEDULE_SQL_STATEMENTS_SUMMARY = "natc.schedule.sql.statements";
+    public static final String SCHEDULE_SQL_TIME_TIMER = "natc.schedule.sql.time";
+
+    public enum LeagueEvent {
+        GENERATED, SIGNED, RELEASED, RETIRED, DRAFTED
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger currentSeason;
+    private final AtomicInteger scheduleSequence;
+
+    @Autowired
+    public LeagueMetrics(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.currentSeason = meterRegistry.gauge(CURRENT_SEASON_GAUGE, new AtomicInteger());
+        this.scheduleSequence = meterRegistry.gauge(SCHEDULE_SEQUENCE_GAUGE, new AtomicInteger());
+    }
+
+    public void scheduleEntryStarted(final Schedule schedule) {
+        currentSeason.set(Integer.parseInt(schedule.getYear()));
+        scheduleSequence.set(schedule.getSequence());
+    }
+
+    public void recordScheduleProcessing(final ScheduleType scheduleType, final long elapsedNanos) {
+        Timer.builder(SCHEDULE_PROCESS_TIMER)
+                .tag("type", Objects.isNull(scheduleType) ? "UNKNOWN" : scheduleType.name())
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRequestSqlStatements(final String uri, final SqlStatementStats stats) {
+        recordSqlStatements(HTTP_SQL_STATEMENTS_SUMMARY, HTTP_SQL_TIME_TIMER, "uri", Objects.isNull(uri) ? "UNKNOWN" : uri, stats);
+    }
+
+    public void recordScheduleSqlStatements(final ScheduleType scheduleType, final SqlStatementStats stats) {
+        recordSqlStatements(SCHEDULE_SQL_STATEMENTS_SUMMARY, SCHEDULE_SQL_TIME_TIMER, "type", Objects.isNull(scheduleType) ? "UNKNOWN" : scheduleType.name(), stats);
+    }
+
+    public void recordPlayers(final LeagueEvent event, final long count) {
+        increment(PLAYERS_COUNTER, event, count);
+    }
+
+    public void recordManagers(final LeagueEvent event, final long count) {
+        increment(MANAGERS_COUNTER, event, count);
+    }
+
+    private void increment(final String name, final LeagueEvent event, final long count) {
+        if (count <= 0) return;
+
+        Counter.builder(name)
+                .tag("event", event.name().toLowerCase())
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    private void recordSqlStatements(final String statementsName, final String timeName, final String tagKey, final String tagValue, final SqlStatementStats stats) {
+        if (Objects.isNull(stats)) return;
+
+        DistributionSummary.builder(statementsName)
+                .tag(tagKey, tagValue)
+                .baseUnit("statements")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getStatements());
+
+        Timer.builder(timeName)
+                .tag(tagKey, tagValue)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getElapsedNanos(), TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,31 @@
+package org.natc.app.metrics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+import java.util.Objects;
+
+public class SqlStatementListener implements QueryExecutionListener {
+    private static final String START_KEY = "natc.sql.start";
+
+    private final SqlStatementTracker sqlStatementTracker;
+
+    public SqlStatementListener(final SqlStatementTracker sqlStatementTracker) {
+        this.sqlStatementTracker = sqlStatementTracker;
+    }
+
+    @Override
+    public void beforeQuery(final ExecutionInfo execInfo, final List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START_KEY, System.nanoTime());
+    }
+
+    // a batch is one round trip to the database, so it counts as a single statement
+    @Override
+    public void afterQuery(final ExecutionInfo execInfo, final List<QueryInfo> queryInfoList) {
+        final Long start = execInfo.getCustomValue(START_KEY, Long.class);
+
+        sqlStatementTracker.record(1, Objects.isNull(start) ? 0L : System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,15 @@
+package org.natc.app.metrics;
+
+import lombok.Getter;
+
+@Getter
+public class SqlStatementStats {
+
+    private int statements;
+    private long elapsedNanos;
+
+    void record(final int statements, final long elapsedNanos) {
+        this.statements += statements;
+        this.elapsedNanos += elapsedNanos;
+    }
+}
@@ -0,0 +1,52 @@
+package org.natc.app.metrics;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+
+@Component
+public class SqlStatementTracker {
+
+    // scopes nest (a schedule event processed during an http request), every open scope on the thread sees each statement
+    private final ThreadLocal<Deque<SqlStatementStats>> scopes = new ThreadLocal<>();
+
+    public void start() {
+        if (Objects.isNull(scopes.get())) {
+            scopes.set(new ArrayDeque<>());
+        }
+
+        scopes.get().push(new SqlStatementStats());
+    }
+
+    public SqlStatementStats current() {
+        final Deque<SqlStatementStats> open = scopes.get();
+
+        return Objects.isNull(open) ? null : open.peek();
+    }
+
+    public SqlStatementStats stop() {
+        final Deque<SqlStatementStats> open = scopes.get();
+
+        if (Objects.isNull(open)) return null;
+
+        final SqlStatementStats stats = open.poll();
+
+        if (open.isEmpty()) {
+            scopes.remove();
+        }
+
+        return stats;
+    }
+
+    public void record(final int statements, final long elapsedNanos) {
+        final Deque<SqlStatementStats> open = scopes.get();
+
+        if (Objects.isNull(open)) return;
+
+        for (final SqlStatementStats stats : open) {
+            stats.record(statements, elapsedNanos);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.natc.app.processor;
+
+import org.natc.app.entity.domain.Schedule;
+import org.natc.app.entity.domain.ScheduleStatus;
+import org.natc.app.entity.domain.ScheduleType;
+import org.natc.app.exception.NATCException;
+import org.natc.app.service.ScheduleService;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+import static org.natc.app.processor.ScheduleValidator.validateScheduleEntry;
+
+// the entries from the end of the preseason through the end of the season have no work of their own yet, the playoffs
+// and all star games included, they are marked completed so the schedule can carry on into the next season
+@Component("bookkeeping-schedule-processor")
+public class BookkeepingScheduleProcessor implements ScheduleProcessor {
+
+    private final ScheduleService scheduleService;
+
+    private final List<ScheduleType> validScheduleTypes = List.of(
+            ScheduleType.END_OF_PRESEASON,
+            ScheduleType.ROSTER_CUT,
+            ScheduleType.END_OF_REGULAR_SEASON,
+            ScheduleType.AWARDS,
+            ScheduleType.POSTSEASON,
+            ScheduleType.DIVISION_PLAYOFF,
+            ScheduleType.DIVISION_CHAMPIONSHIP,
+            ScheduleType.CONFERENCE_CHAMPIONSHIP,
+            ScheduleType.NATC_CHAMPIONSHIP,
+            ScheduleType.END_OF_POSTSEASON,
+            ScheduleType.ALL_STARS,
+            ScheduleType.ALL_STAR_DAY_1,
+            ScheduleType.ALL_STAR_DAY_2,
+            ScheduleType.END_OF_ALLSTAR_GAMES,
+            ScheduleType.END_OF_SEASON
+    );
+
+    public BookkeepingScheduleProcessor(final ScheduleService scheduleService) {
+        this.scheduleService = scheduleService;
+    }
+
+    @Override
+    public void process(final Schedule schedule) throws NATCException {
+        validateScheduleEntry(schedule, validScheduleTypes);
+
+        schedule.setStatus(ScheduleStatus.COMPLETED.getValue());
+
+        scheduleService.updateScheduleEntry(schedule);
+    }
+}
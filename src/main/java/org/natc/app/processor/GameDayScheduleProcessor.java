@@ -0,0 +1,145 @@
+package org.natc.app.processor;
+
+import org.natc.app.entity.domain.*;
+import org.natc.app.exception.NATCException;
+import org.natc.app.exception.ScheduleProcessingException;
+import org.natc.app.random.RandomNumber;
+import org.natc.app.repository.GameStateRepository;
+import org.natc.app.repository.IdSequence;
+import org.natc.app.repository.PlayerGameRepository;
+import org.natc.app.repository.TeamGameRepository;
+import org.natc.app.service.IdBlockAllocator;
+import org.natc.app.service.PlayerService;
+import org.natc.app.service.ScheduleService;
+import org.natc.app.service.StatsSummaryService;
+import org.natc.app.simulation.GameResult;
+import org.natc.app.simulation.GameSetup;
+import org.natc.app.simulation.GameSimulator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.natc.app.processor.ScheduleValidator.validateScheduleEntry;
+
+@Component("game-day-schedule-processor")
+public class GameDayScheduleProcessor implements ScheduleProcessor {
+
+    private final PlayerService playerService;
+    private final ScheduleService scheduleService;
+    private final IdBlockAllocator idBlockAllocator;
+    private final GameSimulator gameSimulator;
+    private final TeamGameRepository teamGameRepository;
+    private final PlayerGameRepository playerGameRepository;
+    private final GameStateRepository gameStateRepository;
+    private final StatsSummaryService statsSummaryService;
+    private final RandomNumber randomNumber;
+    private final ForkJoinPool gameSimulationPool;
+
+    private final List<ScheduleType> validScheduleTypes = List.of(ScheduleType.PRESEASON, ScheduleType.REGULAR_SEASON);
+
+    @Autowired
+    public GameDayScheduleProcessor(
+            final PlayerService playerService,
+            final ScheduleService scheduleService,
+            final IdBlockAllocator idBlockAllocator,
+            final GameSimulator gameSimulator,
+            final TeamGameRepository teamGameRepository,
+            final PlayerGameRepository playerGameRepository,
+            final GameStateRepository gameStateRepository,
+            final StatsSummaryService statsSummaryService,
+            final RandomNumber randomNumber,
+            @Qualifier("gameSimulationPool") final ForkJoinPool gameSimulationPool
+    ) {
+        this.playerService = playerService;
+        this.scheduleService = scheduleService;
+        this.idBlockAllocator = idBlockAllocator;
+        this.gameSimulator = gameSimulator;
+        this.teamGameRepository = teamGameRepository;
+        this.playerGameRepository = playerGameRepository;
+        this.gameStateRepository = gameStateRepository;
+        this.statsSummaryService = statsSummaryService;
+        this.randomNumber = randomNumber;
+        this.gameSimulationPool = gameSimulationPool;
+    }
+
+    @Override
+    public void process(final Schedule schedule) throws NATCException {
+        validateScheduleEntry(schedule, validScheduleTypes);
+
+        final List<ScheduleData.Match> matches = ScheduleData.decode(schedule.getData()).getMatches();
+        final List<GameSetup> setups = buildGameSetups(schedule, matches);
+
+        // each game gets its own generator split off the day's root in match order, so the outcome of a game
+        // never depends on which thread ran it or in what order the games finished
+        final SplittableRandom root = randomNumber.forScheduleEntry(schedule.getYear(), schedule.getSequence());
+        final List<SplittableRandom> randoms = new ArrayList<>(setups.size());
+
+        for (int game = 0; game < setups.size(); ++game) {
+            randoms.add(root.split());
+        }
+
+        final List<GameResult> results = gameSimulationPool.submit(() ->
+                IntStream.range(0, setups.size()).parallel()
+                        .mapToObj(game -> gameSimulator.simulate(setups.get(game), randoms.get(game)))
+                        .toList()
+        ).join();
+
+        final List<TeamGame> teamGames = results.stream().flatMap(result -> result.getTeamGames().stream()).toList();
+        final List<PlayerGame> playerGames = results.stream().flatMap(result -> result.getPlayerGames().stream()).toList();
+
+        teamGameRepository.insertAll(teamGames);
+        playerGameRepository.insertAll(playerGames);
+        gameStateRepository.insertAll(results.stream().map(GameResult::getGameState).toList());
+        statsSummaryService.foldGames(teamGames, playerGames);
+
+        schedule.setStatus(ScheduleStatus.COMPLETED.getValue());
+
+        scheduleService.updateScheduleEntry(schedule);
+    }
+
+    private List<GameSetup> buildGameSetups(final Schedule schedule, final List<ScheduleData.Match> matches) throws ScheduleProcessingException {
+        if (matches.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final Map<Integer, List<Player>> rosters = playerService.getActivePlayersForYear(schedule.getYear()).stream()
+                .filter(player -> Objects.nonNull(player.getTeamId()))
+                .collect(Collectors.groupingBy(Player::getTeamId));
+
+        final GameType gameType = ScheduleType.getByValue(schedule.getType()) == ScheduleType.PRESEASON ? GameType.PRESEASON : GameType.REGULAR_SEASON;
+        final List<Integer> gameIds = idBlockAllocator.allocate(IdSequence.GAME, matches.size());
+        final List<GameSetup> setups = new ArrayList<>(matches.size());
+
+        for (int game = 0; game < matches.size(); ++game) {
+            final ScheduleData.Match match = matches.get(game);
+
+            setups.add(GameSetup.builder()
+                    .gameId(gameIds.get(game))
+                    .year(schedule.getYear())
+                    .datestamp(schedule.getScheduled())
+                    .gameType(gameType)
+                    .homeTeamId(match.getHomeTeam())
+                    .roadTeamId(match.getRoadTeam())
+                    .homePlayers(getRoster(rosters, match.getHomeTeam()))
+                    .roadPlayers(getRoster(rosters, match.getRoadTeam()))
+                    .build());
+        }
+
+        return setups;
+    }
+
+    private List<Player> getRoster(final Map<Integer, List<Player>> rosters, final Integer teamId) throws ScheduleProcessingException {
+        final List<Player> roster = rosters.get(teamId);
+
+        if (Objects.isNull(roster) || roster.isEmpty()) {
+            throw new ScheduleProcessingException(String.format("No active players found for team [%d]", teamId));
+        }
+
+        return roster;
+    }
+}
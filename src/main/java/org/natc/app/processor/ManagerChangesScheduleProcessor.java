@@ -3,6 +3,8 @@ package org.natc.app.processor;
 import org.natc.app.configuration.LeagueConfiguration;
 import org.natc.app.entity.domain.*;
 import org.natc.app.exception.NATCException;
+import org.natc.app.metrics.LeagueMetrics;
+import org.natc.app.random.RandomNumber;
 import org.natc.app.service.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -11,6 +13,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.random.RandomGenerator;
 import java.util.stream.Collectors;
 
 import static org.natc.app.processor.ScheduleValidator.validateScheduleEntry;
@@ -18,12 +21,17 @@ import static org.natc.app.processor.ScheduleValidator.validateScheduleEntry;
 @Component("manager-changes-schedule-processor")
 public class ManagerChangesScheduleProcessor implements ScheduleProcessor {
 
+    // the current season plus the two before it, which is as far back as releasing and drafting managers looks
+    private static final int TEAM_HISTORY_SEASONS = 3;
+
     private final LeagueConfiguration leagueConfiguration;
     private final PlayerService playerService;
     private final ManagerService managerService;
     private final ScheduleService scheduleService;
     private final TeamService teamService;
     private final TeamManagerDraftService teamManagerDraftService;
+    private final RandomNumber randomNumber;
+    private final LeagueMetrics leagueMetrics;
 
     private final List<ScheduleType> validScheduleTypes = Collections.singletonList(ScheduleType.MANAGER_CHANGES);
 
@@ -34,13 +42,17 @@ public class ManagerChangesScheduleProcessor implements ScheduleProcessor {
             final ManagerService managerService,
             final ScheduleService scheduleService,
             final TeamService teamService,
-            final TeamManagerDraftService teamManagerDraftService) {
+            final TeamManagerDraftService teamManagerDraftService,
+            final RandomNumber randomNumber,
+            final LeagueMetrics leagueMetrics) {
         this.leagueConfiguration = leagueConfiguration;
         this.playerService = playerService;
         this.managerService = managerService;
         this.scheduleService = scheduleService;
         this.teamService = teamService;
         this.teamManagerDraftService = teamManagerDraftService;
+        this.randomNumber = randomNumber;
+        this.leagueMetrics = leagueMetrics;
     }
 
     @Override
@@ -53,6 +65,10 @@ public class ManagerChangesScheduleProcessor implements ScheduleProcessor {
         }
 
         final List<Manager> managerList = new ArrayList<>(managerService.getActiveManagersForYear(schedule.getYear()));
+        final TeamSeasonHistory teamSeasonHistory = teamService.getTeamSeasonHistory(schedule.getYear(), TEAM_HISTORY_SEASONS);
+        final RandomGenerator random = randomNumber.forScheduleEntry(schedule.getYear(), schedule.getSequence());
+        int retired = 0;
+        int released = 0;
 
         for (final Manager manager : managerList) {
             manager.setAge(manager.getAge() + 1);
@@ -61,22 +77,27 @@ public class ManagerChangesScheduleProcessor implements ScheduleProcessor {
                 manager.setRetired(1);
                 manager.setFormerTeamId(manager.getTeamId());
                 manager.setTeamId(null);
+                retired++;
             }
 
-            if (Objects.nonNull(manager.getTeamId()) && teamService.willTeamReleaseManager(manager)) {
+            if (Objects.nonNull(manager.getTeamId()) && teamService.willTeamReleaseManager(manager, teamSeasonHistory)) {
                 manager.setReleased(1);
                 manager.setFormerTeamId(manager.getTeamId());
                 manager.setTeamId(null);
+                released++;
             }
         }
 
-        managerList.addAll(generateNewManagers(schedule.getYear()));
+        leagueMetrics.recordManagers(LeagueMetrics.LeagueEvent.RETIRED, retired);
+        leagueMetrics.recordManagers(LeagueMetrics.LeagueEvent.RELEASED, released);
+
+        managerList.addAll(generateNewManagers(schedule.getYear(), random));
 
         final List<Team> teamsWithoutManagers = new ArrayList<>();
 
         for (final Manager manager : managerList) {
             if (Objects.nonNull(manager.getFormerTeamId())) {
-                teamsWithoutManagers.add(teamService.getTeamByTeamIdAndYear(manager.getFormerTeamId(), manager.getYear()));
+                teamsWithoutManagers.add(teamSeasonHistory.getTeam(manager.getFormerTeamId(), manager.getYear()));
             }
         }
 
@@ -85,7 +106,7 @@ public class ManagerChangesScheduleProcessor implements ScheduleProcessor {
                     .filter(manager -> !Objects.equals(manager.getRetired(), 1) && Objects.isNull(manager.getTeamId()))
                     .toList();
 
-            teamManagerDraftService.assignManagersToTeams(teamsWithoutManagers, availableManagers);
+            teamManagerDraftService.assignManagersToTeams(teamsWithoutManagers, availableManagers, teamSeasonHistory, random);
         }
 
         managerService.updateManagers(managerList);
@@ -93,7 +114,7 @@ public class ManagerChangesScheduleProcessor implements ScheduleProcessor {
         completeSchedule(schedule);
     }
 
-    private List<Manager> generateNewManagers(final String year) throws NATCException {
+    private List<Manager> generateNewManagers(final String year, final RandomGenerator random) throws NATCException {
         final Integer newManagerStartingAge = leagueConfiguration.getNewManagerStartingAge();
         final List<Manager> managerList = new ArrayList<>();
         final String playerManagerEligibleSeason = String.valueOf(Integer.parseInt(year) - leagueConfiguration.getPlayerManagerYearsRetired());
@@ -101,12 +122,12 @@ public class ManagerChangesScheduleProcessor implements ScheduleProcessor {
         int managersToGenerate = leagueConfiguration.getNewManagersPerSeason();
 
         for (final Player candidate : playerService.getManagerialCandidates(playerManagerEligibleSeason)) {
-            managerList.add(managerService.generateManagerFromPlayer(year, candidate));
+            managerList.add(managerService.generateManagerFromPlayer(random, year, candidate));
 
             managersToGenerate--;
         }
 
-        for (final Manager manager : managerService.generateManagers(year, managersToGenerate)) {
+        for (final Manager manager : managerService.generateManagers(random, year, managersToGenerate)) {
             manager.setAge(newManagerStartingAge);
             managerList.add(manager);
         }
@@ -3,9 +3,12 @@ package org.natc.app.processor;
 import org.natc.app.comparator.PlayerComparator;
 import org.natc.app.comparator.PlayerComparatorFactory;
 import org.natc.app.configuration.LeagueConfiguration;
+import org.natc.app.draft.FreeAgentMarket;
 import org.natc.app.entity.domain.*;
 import org.natc.app.exception.NATCException;
+import org.natc.app.metrics.LeagueMetrics;
 import org.natc.app.proxy.PlayerRetirementProxy;
+import org.natc.app.random.RandomNumber;
 import org.natc.app.service.ManagerService;
 import org.natc.app.service.PlayerService;
 import org.natc.app.service.ScheduleService;
@@ -15,6 +18,7 @@ import org.springframework.stereotype.Component;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.random.RandomGenerator;
 import java.util.stream.Collectors;
 
 import static org.natc.app.entity.domain.PlayerRatingAdjustment.APPLY_AGE;
@@ -29,6 +33,8 @@ public class PlayerChangesScheduleProcessor implements ScheduleProcessor {
     private final PlayerRetirementProxy playerRetirementProxy;
     private final PlayerComparatorFactory playerComparatorFactory;
     private final LeagueConfiguration leagueConfiguration;
+    private final RandomNumber randomNumber;
+    private final LeagueMetrics leagueMetrics;
 
     private final List<ScheduleType> validScheduleTypes = Collections.singletonList(ScheduleType.PLAYER_CHANGES);
 
@@ -39,13 +45,17 @@ public class PlayerChangesScheduleProcessor implements ScheduleProcessor {
             final ScheduleService scheduleService,
             final PlayerRetirementProxy playerRetirementProxy,
             final PlayerComparatorFactory playerComparatorFactory,
-            final LeagueConfiguration leagueConfiguration) {
+            final LeagueConfiguration leagueConfiguration,
+            final RandomNumber randomNumber,
+            final LeagueMetrics leagueMetrics) {
         this.playerService = playerService;
         this.managerService = managerService;
         this.scheduleService = scheduleService;
         this.playerRetirementProxy = playerRetirementProxy;
         this.playerComparatorFactory = playerComparatorFactory;
         this.leagueConfiguration = leagueConfiguration;
+        this.randomNumber = randomNumber;
+        this.leagueMetrics = leagueMetrics;
     }
 
     @Override
@@ -54,14 +64,17 @@ public class PlayerChangesScheduleProcessor implements ScheduleProcessor {
 
         final List<Player> players = playerService.getActivePlayersForYear(schedule.getYear());
         final List<Manager> managers = managerService.getActiveManagersForYear(schedule.getYear());
+        final RandomGenerator random = randomNumber.forScheduleEntry(schedule.getYear(), schedule.getSequence());
+        int retired = 0;
 
         for (final Player player : players) {
             if (Objects.isNull(player.getTeamId())) continue;
 
-            if (playerRetirementProxy.readyToRetire(player)) {
+            if (playerRetirementProxy.readyToRetire(player, random)) {
                 player.setRetired(1);
                 player.setFormerTeamId(player.getTeamId());
                 player.setTeamId(null);
+                retired++;
             }
         }
 
@@ -69,7 +82,9 @@ public class PlayerChangesScheduleProcessor implements ScheduleProcessor {
                 .filter(manager -> Objects.nonNull(manager.getTeamId()))
                 .collect(Collectors.toList());
 
-        while (checkEachManagerForPlayerChanges(teamManagers, players) > 0);
+        final FreeAgentMarket freeAgentMarket = new FreeAgentMarket(players);
+
+        while (checkEachManagerForPlayerChanges(teamManagers, freeAgentMarket, random) > 0);
 
         for (final Player player : players) {
             if (Objects.nonNull(player.getTeamId()) || Objects.equals(player.getRetired(), 1)) continue;
@@ -77,9 +92,12 @@ public class PlayerChangesScheduleProcessor implements ScheduleProcessor {
             if (playerRetirementProxy.shouldRetire(player)) {
                 player.setRetired(1);
                 player.setReleased(0);
+                retired++;
             }
         }
 
+        leagueMetrics.recordPlayers(LeagueMetrics.LeagueEvent.RETIRED, retired);
+
         playerService.updatePlayers(players);
 
         schedule.setStatus(ScheduleStatus.COMPLETED.getValue());
@@ -87,13 +105,13 @@ public class PlayerChangesScheduleProcessor implements ScheduleProcessor {
         scheduleService.updateScheduleEntry(schedule);
     }
 
-    private int checkEachManagerForPlayerChanges(final List<Manager> managers, final List<Player> players) {
+    private int checkEachManagerForPlayerChanges(final List<Manager> managers, final FreeAgentMarket freeAgentMarket, final RandomGenerator random) {
         int playerChangesMade = 0;
 
-        Collections.shuffle(managers);
+        Collections.shuffle(managers, random);
 
         for (final Manager manager : managers) {
-            if (checkForPlayerChange(manager, players)) {
+            if (checkForPlayerChange(manager, freeAgentMarket)) {
                 playerChangesMade++;
             }
         }
@@ -101,38 +119,26 @@ public class PlayerChangesScheduleProcessor implements ScheduleProcessor {
         return playerChangesMade;
     }
 
-    private boolean checkForPlayerChange(final Manager manager, final List<Player> players) {
+    private boolean checkForPlayerChange(final Manager manager, final FreeAgentMarket freeAgentMarket) {
         final ManagerStyle managerStyle = ManagerStyle.getByValue(manager.getStyle());
 
         final PlayerComparator playerComparator = playerComparatorFactory.getPlayerComparatorForManager(managerStyle, APPLY_AGE);
 
-        final List<Player> freeAgents = players.stream()
-                .filter(player -> Objects.isNull(player.getTeamId()) && !Objects.equals(player.getRetired(), 1))
-                .toList();
-
-        if (freeAgents.isEmpty()) return false;
+        if (!freeAgentMarket.hasFreeAgents()) return false;
 
-        final List<Player> teamPlayers = players.stream()
-                .filter(player -> Objects.equals(manager.getTeamId(), player.getTeamId()))
-                .toList();
+        final Player bestFreeAgent = freeAgentMarket.getBestFreeAgent(managerStyle, playerComparator::getRating).orElseThrow();
 
-        final Player bestFreeAgent = freeAgents.stream()
-                .max(playerComparator)
-                .orElseThrow();
-
-        if (teamPlayers.size() < leagueConfiguration.getPlayersPerTeam()) {
-            signFreeAgentToTeam(bestFreeAgent, manager.getTeamId());
+        if (freeAgentMarket.getRosterSize(manager.getTeamId()) < leagueConfiguration.getPlayersPerTeam()) {
+            signFreeAgentToTeam(freeAgentMarket, bestFreeAgent, manager.getTeamId());
 
             return true;
         }
 
-        final Player worstTeamPlayer = teamPlayers.stream()
-                .min(playerComparator)
-                .orElseThrow();
+        final Player worstTeamPlayer = freeAgentMarket.getWorstRosterPlayer(manager.getTeamId(), managerStyle, playerComparator::getRating).orElseThrow();
 
         if (playerComparator.compare(bestFreeAgent, worstTeamPlayer) > 0) {
-            signFreeAgentToTeam(bestFreeAgent, manager.getTeamId());
-            releasePlayerFromTeam(worstTeamPlayer, manager.getTeamId());
+            signFreeAgentToTeam(freeAgentMarket, bestFreeAgent, manager.getTeamId());
+            releasePlayerFromTeam(freeAgentMarket, worstTeamPlayer, manager.getTeamId());
 
             return true;
         }
@@ -140,13 +146,16 @@ public class PlayerChangesScheduleProcessor implements ScheduleProcessor {
         return false;
     }
     
-    private void signFreeAgentToTeam(final Player player, final Integer teamId) {
+    private void signFreeAgentToTeam(final FreeAgentMarket freeAgentMarket, final Player player, final Integer teamId) {
         player.setTeamId(teamId);
         player.setSigned(1);
         player.setFreeAgent(0);
+
+        freeAgentMarket.playerSigned(player, teamId);
+        leagueMetrics.recordPlayers(LeagueMetrics.LeagueEvent.SIGNED, 1);
     }
     
-    private void releasePlayerFromTeam(final Player player, final Integer teamId) {
+    private void releasePlayerFromTeam(final FreeAgentMarket freeAgentMarket, final Player player, final Integer teamId) {
         player.setTeamId(null);
         player.setReleased(1);
         player.setFreeAgent(1);
@@ -155,5 +164,8 @@ public class PlayerChangesScheduleProcessor implements ScheduleProcessor {
         if (Objects.isNull(player.getFormerTeamId())) {
             player.setFormerTeamId(teamId);
         }
+
+        freeAgentMarket.playerReleased(player, teamId);
+        leagueMetrics.recordPlayers(LeagueMetrics.LeagueEvent.RELEASED, 1);
     }
 }
@@ -1,11 +1,13 @@
 package org.natc.app.processor;
 
-import org.natc.app.comparator.PlayerComparator;
 import org.natc.app.comparator.PlayerComparatorFactory;
 import org.natc.app.comparator.TeamComparator;
 import org.natc.app.configuration.LeagueConfiguration;
+import org.natc.app.draft.PlayerDraftEngine;
 import org.natc.app.entity.domain.*;
 import org.natc.app.exception.NATCException;
+import org.natc.app.metrics.LeagueMetrics;
+import org.natc.app.random.RandomNumber;
 import org.natc.app.service.ManagerService;
 import org.natc.app.service.PlayerService;
 import org.natc.app.service.ScheduleService;
@@ -13,6 +15,7 @@ import org.natc.app.service.TeamService;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
 import java.util.stream.Collectors;
 
 import static org.natc.app.processor.ScheduleValidator.validateScheduleEntry;
@@ -27,6 +30,8 @@ public class RookieDraftScheduleProcessor implements ScheduleProcessor {
     private final ScheduleService scheduleService;
     private final TeamComparator teamComparator;
     private final TeamService teamService;
+    private final RandomNumber randomNumber;
+    private final LeagueMetrics leagueMetrics;
 
     private final List<ScheduleType> validScheduleTypes = List.of(
             ScheduleType.ROOKIE_DRAFT_ROUND_1,
@@ -40,7 +45,9 @@ public class RookieDraftScheduleProcessor implements ScheduleProcessor {
             final PlayerService playerService,
             final ScheduleService scheduleService,
             final TeamComparator teamComparator,
-            final TeamService teamService) {
+            final TeamService teamService,
+            final RandomNumber randomNumber,
+            final LeagueMetrics leagueMetrics) {
         this.leagueConfiguration = leagueConfiguration;
         this.managerService = managerService;
         this.playerComparatorFactory = playerComparatorFactory;
@@ -48,47 +55,50 @@ public class RookieDraftScheduleProcessor implements ScheduleProcessor {
         this.scheduleService = scheduleService;
         this.teamComparator = teamComparator;
         this.teamService = teamService;
+        this.randomNumber = randomNumber;
+        this.leagueMetrics = leagueMetrics;
     }
 
     @Override
     public void process(final Schedule schedule) throws NATCException {
         validateScheduleEntry(schedule, validScheduleTypes);
 
-        final List<Team> teams = retrieveTeams(schedule);
+        final RandomGenerator random = randomNumber.forScheduleEntry(schedule.getYear(), schedule.getSequence());
+        final List<Team> teams = retrieveTeams(schedule, random);
         final Map<Integer, ManagerStyle> managerStyleMap = getManagerStyleMap(schedule);
-        final List<Player> rookies = getRookiePlayers(schedule);
+        final List<Player> rookies = getRookiePlayers(schedule, random);
 
         int draftPickNumber = Objects.equals(schedule.getType(), ScheduleType.ROOKIE_DRAFT_ROUND_1.getValue()) ? 1 : leagueConfiguration.getNumberOfTeams() + 1;
 
-        for (final Team team : teams) {
-            final PlayerComparator playerComparator = playerComparatorFactory.getPlayerComparatorForManager(managerStyleMap.get(team.getTeamId()));
+        final PlayerDraftEngine playerDraftEngine = new PlayerDraftEngine(
+                rookies, managerStyle -> playerComparatorFactory.getPlayerComparatorForManager(managerStyle)::getRating
+        );
 
-            final Player bestRookie = rookies.stream()
-                    .filter(player -> Objects.isNull(player.getTeamId()))
-                    .max(playerComparator)
-                    .orElseThrow();
+        for (final Team team : teams) {
+            final Player bestRookie = playerDraftEngine.draftBestPlayer(managerStyleMap.get(team.getTeamId())).orElseThrow();
 
             bestRookie.setTeamId(team.getTeamId());
             bestRookie.setDraftPick(draftPickNumber++);
         }
 
         playerService.updatePlayers(rookies);
+        leagueMetrics.recordPlayers(LeagueMetrics.LeagueEvent.DRAFTED, teams.size());
 
         schedule.setStatus(ScheduleStatus.COMPLETED.getValue());
 
         scheduleService.updateScheduleEntry(schedule);
     }
 
-    private List<Team> retrieveTeams(final Schedule schedule) {
+    private List<Team> retrieveTeams(final Schedule schedule, final RandomGenerator random) {
         final String previousYear = String.valueOf(Integer.parseInt(schedule.getYear()) - 1);
         List<Team> teams = teamService.getRegularTeamsByYear(previousYear);
 
         if (teams.isEmpty()) {
             teams = teamService.getRegularTeamsByYear(schedule.getYear());
-            Collections.shuffle(teams);
+            Collections.shuffle(teams, random);
         }
         else {
-            teams = teams.stream().sorted(teamComparator).toList();
+            teams = teams.stream().sorted(teamComparator.forYear(previousYear)).toList();
         }
 
         return teams;
@@ -105,12 +115,12 @@ public class RookieDraftScheduleProcessor implements ScheduleProcessor {
                 ));
     }
 
-    private List<Player> getRookiePlayers(final Schedule schedule) throws NATCException {
+    private List<Player> getRookiePlayers(final Schedule schedule, final RandomGenerator random) throws NATCException {
         if (Objects.equals(schedule.getType(), ScheduleType.ROOKIE_DRAFT_ROUND_2.getValue())) {
             return playerService.getUndraftedRookiesForYear(schedule.getYear());
         }
 
-        final List<Player> rookies = playerService.generatePlayers(schedule.getYear(), leagueConfiguration.getNewPlayersPerSeason());
+        final List<Player> rookies = playerService.generatePlayers(random, schedule.getYear(), leagueConfiguration.getNewPlayersPerSeason());
 
         for (final Player player : rookies) {
             player.setRookie(1);
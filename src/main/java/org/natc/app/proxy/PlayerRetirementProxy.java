@@ -1,24 +1,17 @@
 package org.natc.app.proxy;
 
 import org.natc.app.entity.domain.Player;
-import org.natc.app.random.RandomNumber;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.random.RandomGenerator;
+
 import static org.natc.app.entity.domain.Player.MAX_FACTOR;
 
 @Component
 public class PlayerRetirementProxy {
 
-    private final RandomNumber randomNumber;
-
-    @Autowired
-    public PlayerRetirementProxy(final RandomNumber randomNumber) {
-        this.randomNumber = randomNumber;
-    }
-
-    public Boolean readyToRetire(final Player player) {
-        return player.getAgeFactor() < randomNumber.getRandomDouble();
+    public Boolean readyToRetire(final Player player, final RandomGenerator random) {
+        return player.getAgeFactor() < random.nextDouble();
     }
 
     public Boolean shouldRetire(final Player player) {
@@ -0,0 +1,27 @@
+package org.natc.app.random;
+
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreRemove;
+import jakarta.persistence.PreUpdate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class NameTableListener {
+
+    @PrePersist
+    @PreUpdate
+    @PreRemove
+    public void nameTableChanged(final Object entity) {
+        WeightedNameSampler.nameTablesChanged();
+
+        // a rollback undoes the change, so the tables have to be reloaded again once the transaction ends
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    WeightedNameSampler.nameTablesChanged();
+                }
+            });
+        }
+    }
+}
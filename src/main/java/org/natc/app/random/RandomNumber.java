@@ -1,10 +1,57 @@
 package org.natc.app.random;
 
+import org.natc.app.configuration.LeagueConfiguration;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
 @Component
 public class RandomNumber {
-    public Double getRandomDouble() {
-        return Math.random();
+    private static final long SEASON_STREAM = 0x5EA5011L;
+    private static final long SCHEDULE_ENTRY_STREAM = 0x5C4ED01EL;
+
+    private final long seed;
+    private final SplittableRandom root;
+    private final ThreadLocal<SplittableRandom> threadRandom = ThreadLocal.withInitial(this::splitRoot);
+
+    // every stream derives from the league seed, leave it unset for a different league on every run
+    @Autowired
+    public RandomNumber(final LeagueConfiguration leagueConfiguration) {
+        seed = Objects.isNull(leagueConfiguration.getSeed()) ? new SplittableRandom().nextLong() : leagueConfiguration.getSeed();
+        root = new SplittableRandom(seed);
+    }
+
+    public Long getSeed() {
+        return seed;
+    }
+
+    // the calling thread's own stream, its values depend on which thread asks and what it drew before,
+    // so anything that has to replay from the league seed takes forSeason or forScheduleEntry instead
+    public RandomGenerator getGenerator() {
+        return threadRandom.get();
+    }
+
+    public SplittableRandom forSeason(final String year) {
+        return new SplittableRandom(mix(mix(seed ^ SEASON_STREAM) + Long.parseLong(year)));
+    }
+
+    // the same entry gets the same stream no matter which thread processes it or what ran before it
+    public SplittableRandom forScheduleEntry(final String year, final Integer sequence) {
+        return new SplittableRandom(mix(mix(mix(seed ^ SCHEDULE_ENTRY_STREAM) + Long.parseLong(year)) + sequence));
+    }
+
+    private synchronized SplittableRandom splitRoot() {
+        return root.split();
+    }
+
+    // murmur3 finalizer, spreads nearby keys such as consecutive years across the whole seed space
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+
+        return value ^ (value >>> 33);
     }
 }
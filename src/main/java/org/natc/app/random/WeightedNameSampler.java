@@ -0,0 +1,165 @@
+package org.natc.app.random;
+
+import org.natc.app.entity.domain.FirstName;
+import org.natc.app.entity.domain.LastName;
+import org.natc.app.repository.FirstNameRepository;
+import org.natc.app.repository.LastNameRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+@Component
+public class WeightedNameSampler {
+
+    private static final AtomicLong nameTableVersion = new AtomicLong();
+
+    private final FirstNameRepository firstNameRepository;
+    private final LastNameRepository lastNameRepository;
+
+    private volatile AliasTable firstNames;
+    private volatile AliasTable lastNames;
+    private volatile long loadedVersion = -1;
+
+    @Autowired
+    public WeightedNameSampler(
+            final FirstNameRepository firstNameRepository,
+            final LastNameRepository lastNameRepository) {
+        this.firstNameRepository = firstNameRepository;
+        this.lastNameRepository = lastNameRepository;
+    }
+
+    public static void nameTablesChanged() {
+        nameTableVersion.incrementAndGet();
+    }
+
+    public Optional<String> drawFirstName(final RandomGenerator random) {
+        loadIfChanged();
+
+        return firstNames.draw(random.nextDouble());
+    }
+
+    public Optional<String> drawLastName(final RandomGenerator random) {
+        loadIfChanged();
+
+        return lastNames.draw(random.nextDouble());
+    }
+
+    public int getFirstNameCount() {
+        loadIfChanged();
+
+        return firstNames.size();
+    }
+
+    public int getLastNameCount() {
+        loadIfChanged();
+
+        return lastNames.size();
+    }
+
+    public synchronized void refresh() {
+        final long version = nameTableVersion.get();
+
+        firstNames = AliasTable.of(firstNameRepository.findAll(), FirstName::getName, FirstName::getFrequency);
+        lastNames = AliasTable.of(lastNameRepository.findAll(), LastName::getName, LastName::getFrequency);
+        loadedVersion = version;
+    }
+
+    private void loadIfChanged() {
+        if (loadedVersion == nameTableVersion.get()) return;
+
+        synchronized (this) {
+            if (loadedVersion != nameTableVersion.get()) {
+                refresh();
+            }
+        }
+    }
+
+    static class AliasTable {
+        private final String[] names;
+        private final double[] probabilities;
+        private final int[] aliases;
+
+        private AliasTable(final List<String> names, final List<Double> weights) {
+            final int size = names.size();
+
+            this.names = names.toArray(new String[0]);
+            this.probabilities = new double[size];
+            this.aliases = new int[size];
+
+            final double totalWeight = weights.stream().mapToDouble(Double::doubleValue).sum();
+            final double[] scaled = new double[size];
+            final int[] small = new int[size];
+            final int[] large = new int[size];
+            int smallCount = 0;
+            int largeCount = 0;
+
+            for (int i = 0; i < size; i++) {
+                scaled[i] = weights.get(i) * size / totalWeight;
+
+                if (scaled[i] < 1.0) {
+                    small[smallCount++] = i;
+                }
+                else {
+                    large[largeCount++] = i;
+                }
+            }
+
+            while (smallCount > 0 && largeCount > 0) {
+                final int less = small[--smallCount];
+                final int more = large[--largeCount];
+
+                probabilities[less] = scaled[less];
+                aliases[less] = more;
+
+                scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+
+                if (scaled[more] < 1.0) {
+                    small[smallCount++] = more;
+                }
+                else {
+                    large[largeCount++] = more;
+                }
+            }
+
+            // anything left over is only off from 1.0 by rounding error
+            while (largeCount > 0) probabilities[large[--largeCount]] = 1.0;
+            while (smallCount > 0) probabilities[small[--smallCount]] = 1.0;
+        }
+
+        static <T> AliasTable of(final List<T> entries, final Function<T, String> name, final Function<T, Double> frequency) {
+            final List<String> names = new ArrayList<>();
+            final List<Double> weights = new ArrayList<>();
+
+            for (final T entry : entries) {
+                final Double weight = frequency.apply(entry);
+
+                if (Objects.isNull(weight) || weight <= 0.0) continue;
+
+                names.add(name.apply(entry));
+                weights.add(weight);
+            }
+
+            return new AliasTable(names, weights);
+        }
+
+        int size() {
+            return names.length;
+        }
+
+        Optional<String> draw(final double random) {
+            if (names.length == 0) return Optional.empty();
+
+            final double scaled = random * names.length;
+            final int column = Math.min((int) scaled, names.length - 1);
+
+            return Optional.of((scaled - column) < probabilities[column] ? names[column] : names[aliases[column]]);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package org.natc.app.repository;
+
+import org.natc.app.entity.domain.GameState;
+
+import java.util.List;
+
+public interface GameStateBulkRepository {
+
+    void insertAll(List<GameState> gameStates);
+}
@@ -0,0 +1,45 @@
+package org.natc.app.repository;
+
+import org.natc.app.entity.domain.GameState;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+public class GameStateBulkRepositoryImpl implements GameStateBulkRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO gamestate_t (game_id, started, start_time, sequence, period, overtime, time_remaining, clock_stopped, possession, last_event) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public GameStateBulkRepositoryImpl(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertAll(final List<GameState> gameStates) {
+        if (gameStates.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, gameStates.stream().map(this::toRow).toList());
+    }
+
+    private Object[] toRow(final GameState gameState) {
+        return new Object[] {
+                gameState.getGameId(),
+                gameState.getStarted(),
+                gameState.getStartTime(),
+                gameState.getSequence(),
+                gameState.getPeriod(),
+                gameState.getOvertime(),
+                gameState.getTimeRemaining(),
+                gameState.getClockStopped(),
+                gameState.getPossession(),
+                gameState.getLastEvent()
+        };
+    }
+}
@@ -0,0 +1,15 @@
+package org.natc.app.repository;
+
+public enum IdSequence {
+    PLAYER("player_id_seq"), MANAGER("manager_id_seq"), GAME("game_id_seq");
+
+    private final String sequenceName;
+
+    IdSequence(final String sequenceName) {
+        this.sequenceName = sequenceName;
+    }
+
+    public String getSequenceName() {
+        return sequenceName;
+    }
+}
@@ -0,0 +1,20 @@
+package org.natc.app.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class IdSequenceRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public IdSequenceRepository(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public long nextValue(final IdSequence idSequence) {
+        return jdbcTemplate.queryForObject("select nextval('" + idSequence.getSequenceName() + "')", Long.class);
+    }
+}
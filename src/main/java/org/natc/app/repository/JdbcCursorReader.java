@@ -0,0 +1,49 @@
+package org.natc.app.repository;
+
+import org.natc.app.configuration.SearchConfiguration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.function.Consumer;
+
+@Component
+public class JdbcCursorReader {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SearchConfiguration searchConfiguration;
+
+    @Autowired
+    public JdbcCursorReader(final JdbcTemplate jdbcTemplate, final PlatformTransactionManager transactionManager, final SearchConfiguration searchConfiguration) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.searchConfiguration = searchConfiguration;
+
+        transactionTemplate.setReadOnly(true);
+    }
+
+    // postgres only fetches in batches when autocommit is off, outside a transaction the driver buffers the whole result
+    public <T> void read(final String sql, final Object[] args, final RowMapper<T> rowMapper, final Consumer<T> consumer) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(
+                connection -> {
+                    final PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+
+                    statement.setFetchSize(searchConfiguration.getStreamFetchSize());
+
+                    for (int i = 0; i < args.length; i++) {
+                        statement.setObject(i + 1, args[i]);
+                    }
+
+                    return statement;
+                },
+                (RowCallbackHandler) resultSet -> consumer.accept(rowMapper.mapRow(resultSet, resultSet.getRow()))
+        ));
+    }
+}
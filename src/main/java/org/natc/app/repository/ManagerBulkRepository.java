@@ -0,0 +1,10 @@
+package org.natc.app.repository;
+
+import org.natc.app.entity.domain.Manager;
+
+import java.util.List;
+
+public interface ManagerBulkRepository {
+
+    void insertAll(List<Manager> managers);
+}
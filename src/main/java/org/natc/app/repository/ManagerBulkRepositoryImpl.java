@@ -0,0 +1,59 @@
+package org.natc.app.repository;
+
+import org.natc.app.entity.domain.Manager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+public class ManagerBulkRepositoryImpl implements ManagerBulkRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO managers_t (manager_id, team_id, player_id, year, first_name, last_name, age, offense, defense, intangible, penalties, vitality, " +
+            "style, new_hire, released, retired, former_team_id, allstar_team_id, award, seasons, score, total_seasons, total_score) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public ManagerBulkRepositoryImpl(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertAll(final List<Manager> managers) {
+        if (managers.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, managers.stream().map(this::toRow).toList());
+    }
+
+    private Object[] toRow(final Manager manager) {
+        return new Object[] {
+                manager.getManagerId(),
+                manager.getTeamId(),
+                manager.getPlayerId(),
+                manager.getYear(),
+                manager.getFirstName(),
+                manager.getLastName(),
+                manager.getAge(),
+                manager.getOffense(),
+                manager.getDefense(),
+                manager.getIntangible(),
+                manager.getPenalties(),
+                manager.getVitality(),
+                manager.getStyle(),
+                manager.getNewHire(),
+                manager.getReleased(),
+                manager.getRetired(),
+                manager.getFormerTeamId(),
+                manager.getAllstarTeamId(),
+                manager.getAward(),
+                manager.getSeasons(),
+                manager.getScore(),
+                manager.getTotalSeasons(),
+                manager.getTotalScore()
+        };
+    }
+}
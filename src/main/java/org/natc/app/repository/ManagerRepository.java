@@ -1,5 +1,6 @@
 package org.natc.app.repository;
 
+import org.natc.app.entity.domain.FullName;
 import org.natc.app.entity.domain.Manager;
 import org.natc.app.entity.domain.ManagerId;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -7,13 +8,13 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.util.List;
 
 @Repository
-public interface ManagerRepository extends JpaRepository<Manager, ManagerId> {
+public interface ManagerRepository extends JpaRepository<Manager, ManagerId>, ManagerBulkRepository {
 
-    @Query("select max(managerId) from #{#entityName}")
-    Optional<Integer> findMaxManagerId();
+    @Query("select distinct new org.natc.app.entity.domain.FullName(m.firstName, m.lastName) from #{#entityName} m")
+    List<FullName> findAllFullNames();
 
     @Modifying
     @Query(value = "INSERT INTO managers_t (manager_id, team_id, player_id, year, first_name, last_name, age, offense, defense, intangible, penalties, vitality, style, new_hire, released, retired, seasons, score, total_seasons, total_score) " +
@@ -0,0 +1,10 @@
+package org.natc.app.repository;
+
+import org.natc.app.entity.domain.Player;
+
+import java.util.List;
+
+public interface PlayerBulkRepository {
+
+    void insertAll(List<Player> players);
+}
@@ -0,0 +1,70 @@
+package org.natc.app.repository;
+
+import org.natc.app.entity.domain.Player;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+public class PlayerBulkRepositoryImpl implements PlayerBulkRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO players_t (player_id, team_id, year, first_name, last_name, age, scoring, passing, blocking, tackling, stealing, presence, discipline, " +
+            "penalty_shot, penalty_offense, penalty_defense, endurance, confidence, vitality, durability, rookie, injured, return_date, free_agent, signed, " +
+            "released, retired, former_team_id, allstar_team_id, award, draft_pick, seasons_played, allstar_alternate) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public PlayerBulkRepositoryImpl(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertAll(final List<Player> players) {
+        if (players.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, players.stream().map(this::toRow).toList());
+    }
+
+    private Object[] toRow(final Player player) {
+        return new Object[] {
+                player.getPlayerId(),
+                player.getTeamId(),
+                player.getYear(),
+                player.getFirstName(),
+                player.getLastName(),
+                player.getAge(),
+                player.getScoring(),
+                player.getPassing(),
+                player.getBlocking(),
+                player.getTackling(),
+                player.getStealing(),
+                player.getPresence(),
+                player.getDiscipline(),
+                player.getPenaltyShot(),
+                player.getPenaltyOffense(),
+                player.getPenaltyDefense(),
+                player.getEndurance(),
+                player.getConfidence(),
+                player.getVitality(),
+                player.getDurability(),
+                player.getRookie(),
+                player.getInjured(),
+                player.getReturnDate(),
+                player.getFreeAgent(),
+                player.getSigned(),
+                player.getReleased(),
+                player.getRetired(),
+                player.getFormerTeamId(),
+                player.getAllstarTeamId(),
+                player.getAward(),
+                player.getDraftPick(),
+                player.getSeasonsPlayed(),
+                player.getAllstarAlternate()
+        };
+    }
+}
@@ -0,0 +1,14 @@
+package org.natc.app.repository;
+
+import org.natc.app.entity.domain.PlayerGame;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface PlayerGameBulkRepository {
+
+    void insertAll(List<PlayerGame> playerGames);
+
+    // rows are read through a forward-only cursor and handed to the consumer one at a time, ordered by id
+    void streamAll(PlayerGame probe, Consumer<PlayerGame> consumer);
+}
@@ -0,0 +1,112 @@
+package org.natc.app.repository;
+
+import org.natc.app.entity.domain.PlayerGame;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class PlayerGameBulkRepositoryImpl implements PlayerGameBulkRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO playergames_t (game_id, year, datestamp, type, player_id, team_id, injured, started, playing_time, attempts, goals, assists, " +
+            "turnovers, stops, steals, penalties, offensive_penalties, psa, psm, ot_psa, ot_psm, offense, points) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_SQL =
+            "SELECT game_id, year, datestamp, type, player_id, team_id, injured, started, playing_time, attempts, goals, assists, turnovers, stops, " +
+            "steals, penalties, offensive_penalties, psa, psm, ot_psa, ot_psm, offense, points FROM playergames_t";
+
+    private static final String ORDER_BY = " ORDER BY game_id, player_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcCursorReader jdbcCursorReader;
+
+    @Autowired
+    public PlayerGameBulkRepositoryImpl(final JdbcTemplate jdbcTemplate, final JdbcCursorReader jdbcCursorReader) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcCursorReader = jdbcCursorReader;
+    }
+
+    @Override
+    public void insertAll(final List<PlayerGame> playerGames) {
+        if (playerGames.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, playerGames.stream().map(this::toRow).toList());
+    }
+
+    @Override
+    public void streamAll(final PlayerGame probe, final Consumer<PlayerGame> consumer) {
+        final WhereClause where = new WhereClause()
+                .equal("game_id", probe.getGameId())
+                .equal("year", probe.getYear())
+                .equal("datestamp", probe.getDatestamp())
+                .equal("type", probe.getType())
+                .equal("player_id", probe.getPlayerId())
+                .equal("team_id", probe.getTeamId());
+
+        jdbcCursorReader.read(SELECT_SQL + where.toSql() + ORDER_BY, where.getArgs(), this::fromRow, consumer);
+    }
+
+    private Object[] toRow(final PlayerGame playerGame) {
+        return new Object[] {
+                playerGame.getGameId(),
+                playerGame.getYear(),
+                playerGame.getDatestamp(),
+                playerGame.getType(),
+                playerGame.getPlayerId(),
+                playerGame.getTeamId(),
+                playerGame.getInjured(),
+                playerGame.getStarted(),
+                playerGame.getPlayingTime(),
+                playerGame.getAttempts(),
+                playerGame.getGoals(),
+                playerGame.getAssists(),
+                playerGame.getTurnovers(),
+                playerGame.getStops(),
+                playerGame.getSteals(),
+                playerGame.getPenalties(),
+                playerGame.getOffensivePenalties(),
+                playerGame.getPenaltyShotsAttempted(),
+                playerGame.getPenaltyShotsMade(),
+                playerGame.getOvertimePenaltyShotsAttempted(),
+                playerGame.getOvertimePenaltyShotsMade(),
+                playerGame.getOffense(),
+                playerGame.getPoints()
+        };
+    }
+
+    private PlayerGame fromRow(final ResultSet resultSet, final int rowNum) throws SQLException {
+        return PlayerGame.builder()
+                .gameId(resultSet.getObject("game_id", Integer.class))
+                .year(resultSet.getObject("year", String.class))
+                .datestamp(resultSet.getObject("datestamp", LocalDate.class))
+                .type(resultSet.getObject("type", Integer.class))
+                .playerId(resultSet.getObject("player_id", Integer.class))
+                .teamId(resultSet.getObject("team_id", Integer.class))
+                .injured(resultSet.getObject("injured", Integer.class))
+                .started(resultSet.getObject("started", Integer.class))
+                .playingTime(resultSet.getObject("playing_time", Integer.class))
+                .attempts(resultSet.getObject("attempts", Integer.class))
+                .goals(resultSet.getObject("goals", Integer.class))
+                .assists(resultSet.getObject("assists", Integer.class))
+                .turnovers(resultSet.getObject("turnovers", Integer.class))
+                .stops(resultSet.getObject("stops", Integer.class))
+                .steals(resultSet.getObject("steals", Integer.class))
+                .penalties(resultSet.getObject("penalties", Integer.class))
+                .offensivePenalties(resultSet.getObject("offensive_penalties", Integer.class))
+                .penaltyShotsAttempted(resultSet.getObject("psa", Integer.class))
+                .penaltyShotsMade(resultSet.getObject("psm", Integer.class))
+                .overtimePenaltyShotsAttempted(resultSet.getObject("ot_psa", Integer.class))
+                .overtimePenaltyShotsMade(resultSet.getObject("ot_psm", Integer.class))
+                .offense(resultSet.getObject("offense", Integer.class))
+                .points(resultSet.getObject("points", Integer.class))
+                .build();
+    }
+}
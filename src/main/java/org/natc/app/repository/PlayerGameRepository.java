@@ -4,5 +4,5 @@ import org.natc.app.entity.domain.PlayerGame;
 import org.natc.app.entity.domain.PlayerGameId;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface PlayerGameRepository extends JpaRepository<PlayerGame, PlayerGameId> {
+public interface PlayerGameRepository extends JpaRepository<PlayerGame, PlayerGameId>, PlayerGameBulkRepository {
 }
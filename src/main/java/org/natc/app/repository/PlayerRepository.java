@@ -1,5 +1,6 @@
 package org.natc.app.repository;
 
+import org.natc.app.entity.domain.FullName;
 import org.natc.app.entity.domain.Player;
 import org.natc.app.entity.domain.PlayerId;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,13 +9,12 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Optional;
 
 @Repository
-public interface PlayerRepository extends JpaRepository<Player, PlayerId> {
+public interface PlayerRepository extends JpaRepository<Player, PlayerId>, PlayerBulkRepository {
 
-    @Query("select max(playerId) from #{#entityName}")
-    Optional<Integer> findMaxPlayerId();
+    @Query("select distinct new org.natc.app.entity.domain.FullName(p.firstName, p.lastName) from #{#entityName} p")
+    List<FullName> findAllFullNames();
 
     @Modifying
     @Query(value = "INSERT INTO players_t (player_id, team_id, year, first_name, last_name, age, scoring, passing, blocking, tackling, stealing, presence, discipline, penalty_shot, penalty_offense, penalty_defense, endurance, confidence, vitality, durability, rookie, retired, seasons_played) " +
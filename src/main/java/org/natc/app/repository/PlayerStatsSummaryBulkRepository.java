@@ -0,0 +1,18 @@
+package org.natc.app.repository;
+
+import org.natc.app.entity.domain.PlayerStatsSummary;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface PlayerStatsSummaryBulkRepository {
+
+    // rows are read through a forward-only cursor and handed to the consumer one at a time, ordered by id
+    void streamAll(PlayerStatsSummary probe, Consumer<PlayerStatsSummary> consumer);
+
+    // adds the given totals onto any existing summary row with the same id, inserting the row when there is none
+    void upsertAll(List<PlayerStatsSummary> summaries);
+
+    // number of summary rows for the year that differ from a full recompute over the player games
+    int countMismatchedSummaries(String year);
+}
@@ -0,0 +1,138 @@
+package org.natc.app.repository;
+
+import org.natc.app.entity.domain.PlayerStatsSummary;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class PlayerStatsSummaryBulkRepositoryImpl implements PlayerStatsSummaryBulkRepository {
+
+    private static final String SELECT_SQL =
+            "SELECT year, type, player_id, games, games_started, playing_time, attempts, goals, assists, turnovers, stops, steals, penalties, " +
+            "offensive_penalties, psa, psm, ot_psa, ot_psm, team_id FROM player_stats_sum_t";
+
+    private static final String ORDER_BY = " ORDER BY year, type, player_id";
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO player_stats_sum_t AS s (year, type, player_id, games, games_started, playing_time, attempts, goals, assists, turnovers, stops, " +
+            "steals, penalties, offensive_penalties, psa, psm, ot_psa, ot_psm, team_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (year, type, player_id) DO UPDATE SET " +
+            "games = coalesce(s.games, 0) + excluded.games, " +
+            "games_started = coalesce(s.games_started, 0) + excluded.games_started, " +
+            "playing_time = coalesce(s.playing_time, 0) + excluded.playing_time, " +
+            "attempts = coalesce(s.attempts, 0) + excluded.attempts, " +
+            "goals = coalesce(s.goals, 0) + excluded.goals, " +
+            "assists = coalesce(s.assists, 0) + excluded.assists, " +
+            "turnovers = coalesce(s.turnovers, 0) + excluded.turnovers, " +
+            "stops = coalesce(s.stops, 0) + excluded.stops, " +
+            "steals = coalesce(s.steals, 0) + excluded.steals, " +
+            "penalties = coalesce(s.penalties, 0) + excluded.penalties, " +
+            "offensive_penalties = coalesce(s.offensive_penalties, 0) + excluded.offensive_penalties, " +
+            "psa = coalesce(s.psa, 0) + excluded.psa, " +
+            "psm = coalesce(s.psm, 0) + excluded.psm, " +
+            "ot_psa = coalesce(s.ot_psa, 0) + excluded.ot_psa, " +
+            "ot_psm = coalesce(s.ot_psm, 0) + excluded.ot_psm, " +
+            "team_id = excluded.team_id";
+
+    // team_id is left out of the comparison since it only records the player's latest team
+    private static final String COUNT_MISMATCHED_SQL =
+            "WITH recomputed AS (" +
+            "SELECT year, type, player_id, sum(CASE WHEN playing_time > 0 THEN 1 ELSE 0 END) AS games, sum(started) AS games_started, " +
+            "sum(playing_time) AS playing_time, sum(attempts) AS attempts, sum(goals) AS goals, sum(assists) AS assists, sum(turnovers) AS turnovers, " +
+            "sum(stops) AS stops, sum(steals) AS steals, sum(penalties) AS penalties, sum(offensive_penalties) AS offensive_penalties, " +
+            "sum(psa) AS psa, sum(psm) AS psm, sum(ot_psa) AS ot_psa, sum(ot_psm) AS ot_psm " +
+            "FROM playergames_t WHERE year = ? GROUP BY year, type, player_id), " +
+            "stored AS (SELECT * FROM player_stats_sum_t WHERE year = ?) " +
+            "SELECT count(*) FROM recomputed r FULL OUTER JOIN stored s USING (year, type, player_id) " +
+            "WHERE (r.games, r.games_started, r.playing_time, r.attempts, r.goals, r.assists, r.turnovers, r.stops, r.steals, r.penalties, " +
+            "r.offensive_penalties, r.psa, r.psm, r.ot_psa, r.ot_psm) IS DISTINCT FROM " +
+            "(s.games, s.games_started, s.playing_time, s.attempts, s.goals, s.assists, s.turnovers, s.stops, s.steals, s.penalties, " +
+            "s.offensive_penalties, s.psa, s.psm, s.ot_psa, s.ot_psm)";
+
+    private final JdbcCursorReader jdbcCursorReader;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public PlayerStatsSummaryBulkRepositoryImpl(final JdbcCursorReader jdbcCursorReader, final JdbcTemplate jdbcTemplate) {
+        this.jdbcCursorReader = jdbcCursorReader;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void streamAll(final PlayerStatsSummary probe, final Consumer<PlayerStatsSummary> consumer) {
+        final WhereClause where = new WhereClause()
+                .equal("year", probe.getYear())
+                .equal("type", probe.getType())
+                .equal("player_id", probe.getPlayerId())
+                .equal("team_id", probe.getTeamId());
+
+        jdbcCursorReader.read(SELECT_SQL + where.toSql() + ORDER_BY, where.getArgs(), this::fromRow, consumer);
+    }
+
+    @Override
+    public void upsertAll(final List<PlayerStatsSummary> summaries) {
+        if (summaries.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, summaries.stream().map(this::toRow).toList());
+    }
+
+    @Override
+    public int countMismatchedSummaries(final String year) {
+        return jdbcTemplate.queryForObject(COUNT_MISMATCHED_SQL, Integer.class, year, year);
+    }
+
+    private Object[] toRow(final PlayerStatsSummary summary) {
+        return new Object[] {
+                summary.getYear(),
+                summary.getType(),
+                summary.getPlayerId(),
+                summary.getGames(),
+                summary.getGamesStarted(),
+                summary.getPlayingTime(),
+                summary.getAttempts(),
+                summary.getGoals(),
+                summary.getAssists(),
+                summary.getTurnovers(),
+                summary.getStops(),
+                summary.getSteals(),
+                summary.getPenalties(),
+                summary.getOffensivePenalties(),
+                summary.getPenaltyShotsAttempted(),
+                summary.getPenaltyShotsMade(),
+                summary.getOvertimePenaltyShotsAttempted(),
+                summary.getOvertimePenaltyShotsMade(),
+                summary.getTeamId()
+        };
+    }
+
+    private PlayerStatsSummary fromRow(final ResultSet resultSet, final int rowNum) throws SQLException {
+        return PlayerStatsSummary.builder()
+                .year(resultSet.getObject("year", String.class))
+                .type(resultSet.getObject("type", Integer.class))
+                .playerId(resultSet.getObject("player_id", Integer.class))
+                .games(resultSet.getObject("games", Integer.class))
+                .gamesStarted(resultSet.getObject("games_started", Integer.class))
+                .playingTime(resultSet.getObject("playing_time", Integer.class))
+                .attempts(resultSet.getObject("attempts", Integer.class))
+                .goals(resultSet.getObject("goals", Integer.class))
+                .assists(resultSet.getObject("assists", Integer.class))
+                .turnovers(resultSet.getObject("turnovers", Integer.class))
+                .stops(resultSet.getObject("stops", Integer.class))
+                .steals(resultSet.getObject("steals", Integer.class))
+                .penalties(resultSet.getObject("penalties", Integer.class))
+                .offensivePenalties(resultSet.getObject("offensive_penalties", Integer.class))
+                .penaltyShotsAttempted(resultSet.getObject("psa", Integer.class))
+                .penaltyShotsMade(resultSet.getObject("psm", Integer.class))
+                .overtimePenaltyShotsAttempted(resultSet.getObject("ot_psa", Integer.class))
+                .overtimePenaltyShotsMade(resultSet.getObject("ot_psm", Integer.class))
+                .teamId(resultSet.getObject("team_id", Integer.class))
+                .build();
+    }
+}
@@ -6,5 +6,5 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface PlayerStatsSummaryRepository extends JpaRepository<PlayerStatsSummary, PlayerStatsSummaryId> {
+public interface PlayerStatsSummaryRepository extends JpaRepository<PlayerStatsSummary, PlayerStatsSummaryId>, PlayerStatsSummaryBulkRepository {
 }
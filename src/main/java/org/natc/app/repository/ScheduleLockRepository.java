@@ -0,0 +1,26 @@
+package org.natc.app.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class ScheduleLockRepository {
+
+    public static final long SCHEDULE_LOCK_KEY = 0x5C4ED01EL;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public ScheduleLockRepository(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // blocks until no other transaction, on this instance or any other, holds the lock; it is released on commit or rollback
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lockSchedule() {
+        jdbcTemplate.execute("select pg_advisory_xact_lock(" + SCHEDULE_LOCK_KEY + ")");
+    }
+}
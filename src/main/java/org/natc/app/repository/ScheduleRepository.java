@@ -4,9 +4,11 @@ import org.natc.app.entity.domain.Schedule;
 import org.natc.app.entity.domain.ScheduleId;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface ScheduleRepository extends JpaRepository<Schedule, ScheduleId> {
     Optional<Schedule> findFirstByStatusOrderByScheduledDesc(Integer status);
     Optional<Schedule> findByYearAndSequence(String year, Integer sequence);
+    List<Schedule> findByTypeAndStatus(Integer type, Integer status);
 }
@@ -0,0 +1,34 @@
+package org.natc.app.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+@Repository
+public class SeasonPartitionRepository {
+
+    public static final List<String> PARTITIONED_TABLES = List.of("players_t", "playergames_t", "teamgames_t");
+
+    private static final Pattern YEAR_PATTERN = Pattern.compile("\\d{4}");
+    private static final String CREATE_PARTITION_SQL = "CREATE TABLE IF NOT EXISTS %1$s_%2$s PARTITION OF %1$s FOR VALUES IN ('%2$s')";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public SeasonPartitionRepository(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void createPartitionsForYear(final String year) {
+        // DDL cannot take bind parameters, so only plain four digit years are ever put into the statement
+        if (Objects.isNull(year) || !YEAR_PATTERN.matcher(year).matches()) {
+            throw new IllegalArgumentException("Invalid partition year: " + year);
+        }
+
+        PARTITIONED_TABLES.forEach(table -> jdbcTemplate.execute(String.format(CREATE_PARTITION_SQL, table, year)));
+    }
+}
@@ -4,5 +4,9 @@ import org.natc.app.entity.domain.TeamDefenseSummary;
 import org.natc.app.entity.domain.TeamDefenseSummaryId;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface TeamDefenseSummaryRepository extends JpaRepository<TeamDefenseSummary, TeamDefenseSummaryId> {
+import java.util.List;
+
+public interface TeamDefenseSummaryRepository extends JpaRepository<TeamDefenseSummary, TeamDefenseSummaryId>, TeamDefenseSummaryBulkRepository {
+
+    List<TeamDefenseSummary> findByYearAndType(String year, Integer type);
 }
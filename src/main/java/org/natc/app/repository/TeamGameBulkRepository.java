@@ -0,0 +1,14 @@
+package org.natc.app.repository;
+
+import org.natc.app.entity.domain.TeamGame;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface TeamGameBulkRepository {
+
+    void insertAll(List<TeamGame> teamGames);
+
+    // rows are read through a forward-only cursor and handed to the consumer one at a time, ordered by id
+    void streamAll(TeamGame probe, Consumer<TeamGame> consumer);
+}
@@ -0,0 +1,126 @@
+package org.natc.app.repository;
+
+import org.natc.app.entity.domain.TeamGame;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class TeamGameBulkRepositoryImpl implements TeamGameBulkRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO teamgames_t (game_id, year, datestamp, type, playoff_round, team_id, opponent, road, overtime, win, possessions, possession_time, " +
+            "attempts, goals, turnovers, steals, penalties, offensive_penalties, psa, psm, ot_psa, ot_psm, period1_score, period2_score, period3_score, " +
+            "period4_score, period5_score, overtime_score, total_score) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_SQL =
+            "SELECT game_id, year, datestamp, type, playoff_round, team_id, opponent, road, overtime, win, possessions, possession_time, attempts, " +
+            "goals, turnovers, steals, penalties, offensive_penalties, psa, psm, ot_psa, ot_psm, period1_score, period2_score, period3_score, " +
+            "period4_score, period5_score, overtime_score, total_score FROM teamgames_t";
+
+    private static final String ORDER_BY = " ORDER BY game_id, team_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcCursorReader jdbcCursorReader;
+
+    @Autowired
+    public TeamGameBulkRepositoryImpl(final JdbcTemplate jdbcTemplate, final JdbcCursorReader jdbcCursorReader) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcCursorReader = jdbcCursorReader;
+    }
+
+    @Override
+    public void insertAll(final List<TeamGame> teamGames) {
+        if (teamGames.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, teamGames.stream().map(this::toRow).toList());
+    }
+
+    @Override
+    public void streamAll(final TeamGame probe, final Consumer<TeamGame> consumer) {
+        final WhereClause where = new WhereClause()
+                .equal("game_id", probe.getGameId())
+                .equal("year", probe.getYear())
+                .equal("datestamp", probe.getDatestamp())
+                .equal("type", probe.getType())
+                .equal("team_id", probe.getTeamId())
+                .equal("opponent", probe.getOpponent());
+
+        jdbcCursorReader.read(SELECT_SQL + where.toSql() + ORDER_BY, where.getArgs(), this::fromRow, consumer);
+    }
+
+    private Object[] toRow(final TeamGame teamGame) {
+        return new Object[] {
+                teamGame.getGameId(),
+                teamGame.getYear(),
+                teamGame.getDatestamp(),
+                teamGame.getType(),
+                teamGame.getPlayoffRound(),
+                teamGame.getTeamId(),
+                teamGame.getOpponent(),
+                teamGame.getRoad(),
+                teamGame.getOvertime(),
+                teamGame.getWin(),
+                teamGame.getPossessions(),
+                teamGame.getPossessionTime(),
+                teamGame.getAttempts(),
+                teamGame.getGoals(),
+                teamGame.getTurnovers(),
+                teamGame.getSteals(),
+                teamGame.getPenalties(),
+                teamGame.getOffensivePenalties(),
+                teamGame.getPenaltyShotsAttempted(),
+                teamGame.getPenaltyShotsMade(),
+                teamGame.getOvertimePenaltyShotsAttempted(),
+                teamGame.getOvertimePenaltyShotsMade(),
+                teamGame.getPeriod1Score(),
+                teamGame.getPeriod2Score(),
+                teamGame.getPeriod3Score(),
+                teamGame.getPeriod4Score(),
+                teamGame.getPeriod5Score(),
+                teamGame.getOvertimeScore(),
+                teamGame.getTotalScore()
+        };
+    }
+
+    private TeamGame fromRow(final ResultSet resultSet, final int rowNum) throws SQLException {
+        return TeamGame.builder()
+                .gameId(resultSet.getObject("game_id", Integer.class))
+                .year(resultSet.getObject("year", String.class))
+                .datestamp(resultSet.getObject("datestamp", LocalDate.class))
+                .type(resultSet.getObject("type", Integer.class))
+                .playoffRound(resultSet.getObject("playoff_round", Integer.class))
+                .teamId(resultSet.getObject("team_id", Integer.class))
+                .opponent(resultSet.getObject("opponent", Integer.class))
+                .road(resultSet.getObject("road", Integer.class))
+                .overtime(resultSet.getObject("overtime", Integer.class))
+                .win(resultSet.getObject("win", Integer.class))
+                .possessions(resultSet.getObject("possessions", Integer.class))
+                .possessionTime(resultSet.getObject("possession_time", Integer.class))
+                .attempts(resultSet.getObject("attempts", Integer.class))
+                .goals(resultSet.getObject("goals", Integer.class))
+                .turnovers(resultSet.getObject("turnovers", Integer.class))
+                .steals(resultSet.getObject("steals", Integer.class))
+                .penalties(resultSet.getObject("penalties", Integer.class))
+                .offensivePenalties(resultSet.getObject("offensive_penalties", Integer.class))
+                .penaltyShotsAttempted(resultSet.getObject("psa", Integer.class))
+                .penaltyShotsMade(resultSet.getObject("psm", Integer.class))
+                .overtimePenaltyShotsAttempted(resultSet.getObject("ot_psa", Integer.class))
+                .overtimePenaltyShotsMade(resultSet.getObject("ot_psm", Integer.class))
+                .period1Score(resultSet.getObject("period1_score", Integer.class))
+                .period2Score(resultSet.getObject("period2_score", Integer.class))
+                .period3Score(resultSet.getObject("period3_score", Integer.class))
+                .period4Score(resultSet.getObject("period4_score", Integer.class))
+                .period5Score(resultSet.getObject("period5_score", Integer.class))
+                .overtimeScore(resultSet.getObject("overtime_score", Integer.class))
+                .totalScore(resultSet.getObject("total_score", Integer.class))
+                .build();
+    }
+}
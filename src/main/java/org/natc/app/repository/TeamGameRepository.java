@@ -1,12 +1,20 @@
 package org.natc.app.repository;
 
+import org.natc.app.entity.domain.HeadToHeadRecord;
 import org.natc.app.entity.domain.TeamGame;
 import org.natc.app.entity.domain.TeamGameId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
-public interface TeamGameRepository extends JpaRepository<TeamGame, TeamGameId> {
+public interface TeamGameRepository extends JpaRepository<TeamGame, TeamGameId>, TeamGameBulkRepository {
 
     Integer countByYearAndTypeAndTeamIdAndOpponentAndWin(String year, Integer type, Integer teamId, Integer opponent, Integer win);
+
+    @Query("select new org.natc.app.entity.domain.HeadToHeadRecord(tg.teamId, tg.opponent, count(tg)) from #{#entityName} tg " +
+            "where tg.year = :year and tg.type = :type and tg.win = 1 group by tg.teamId, tg.opponent")
+    List<HeadToHeadRecord> findHeadToHeadWinsByYearAndType(String year, Integer type);
 }
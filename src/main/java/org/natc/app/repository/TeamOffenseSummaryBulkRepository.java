@@ -0,0 +1,14 @@
+package org.natc.app.repository;
+
+import org.natc.app.entity.domain.TeamOffenseSummary;
+
+import java.util.List;
+
+public interface TeamOffenseSummaryBulkRepository {
+
+    // adds the given totals onto any existing summary row with the same id, inserting the row when there is none
+    void upsertAll(List<TeamOffenseSummary> summaries);
+
+    // number of summary rows for the year that differ from a full recompute over the team games
+    int countMismatchedSummaries(String year);
+}
@@ -0,0 +1,87 @@
+package org.natc.app.repository;
+
+import org.natc.app.entity.domain.TeamOffenseSummary;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+public class TeamOffenseSummaryBulkRepositoryImpl implements TeamOffenseSummaryBulkRepository {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO team_offense_sum_t AS s (year, type, team_id, games, possessions, possession_time, attempts, goals, turnovers, steals, penalties, " +
+            "offensive_penalties, psa, psm, ot_psa, ot_psm, score) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (year, type, team_id) DO UPDATE SET " +
+            "games = coalesce(s.games, 0) + excluded.games, " +
+            "possessions = coalesce(s.possessions, 0) + excluded.possessions, " +
+            "possession_time = coalesce(s.possession_time, 0) + excluded.possession_time, " +
+            "attempts = coalesce(s.attempts, 0) + excluded.attempts, " +
+            "goals = coalesce(s.goals, 0) + excluded.goals, " +
+            "turnovers = coalesce(s.turnovers, 0) + excluded.turnovers, " +
+            "steals = coalesce(s.steals, 0) + excluded.steals, " +
+            "penalties = coalesce(s.penalties, 0) + excluded.penalties, " +
+            "offensive_penalties = coalesce(s.offensive_penalties, 0) + excluded.offensive_penalties, " +
+            "psa = coalesce(s.psa, 0) + excluded.psa, " +
+            "psm = coalesce(s.psm, 0) + excluded.psm, " +
+            "ot_psa = coalesce(s.ot_psa, 0) + excluded.ot_psa, " +
+            "ot_psm = coalesce(s.ot_psm, 0) + excluded.ot_psm, " +
+            "score = coalesce(s.score, 0) + excluded.score";
+
+    private static final String COUNT_MISMATCHED_SQL =
+            "WITH recomputed AS (" +
+            "SELECT year, type, team_id AS team_id, count(*) AS games, sum(possessions) AS possessions, sum(possession_time) AS possession_time, " +
+            "sum(attempts) AS attempts, sum(goals) AS goals, sum(turnovers) AS turnovers, sum(steals) AS steals, sum(penalties) AS penalties, " +
+            "sum(offensive_penalties) AS offensive_penalties, sum(psa) AS psa, sum(psm) AS psm, sum(ot_psa) AS ot_psa, sum(ot_psm) AS ot_psm, " +
+            "sum(total_score) AS score " +
+            "FROM teamgames_t WHERE year = ? GROUP BY year, type, team_id), " +
+            "stored AS (SELECT * FROM team_offense_sum_t WHERE year = ?) " +
+            "SELECT count(*) FROM recomputed r FULL OUTER JOIN stored s USING (year, type, team_id) " +
+            "WHERE (r.games, r.possessions, r.possession_time, r.attempts, r.goals, r.turnovers, r.steals, r.penalties, r.offensive_penalties, " +
+            "r.psa, r.psm, r.ot_psa, r.ot_psm, r.score) IS DISTINCT FROM " +
+            "(s.games, s.possessions, s.possession_time, s.attempts, s.goals, s.turnovers, s.steals, s.penalties, s.offensive_penalties, " +
+            "s.psa, s.psm, s.ot_psa, s.ot_psm, s.score)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public TeamOffenseSummaryBulkRepositoryImpl(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void upsertAll(final List<TeamOffenseSummary> summaries) {
+        if (summaries.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, summaries.stream().map(this::toRow).toList());
+    }
+
+    @Override
+    public int countMismatchedSummaries(final String year) {
+        return jdbcTemplate.queryForObject(COUNT_MISMATCHED_SQL, Integer.class, year, year);
+    }
+
+    private Object[] toRow(final TeamOffenseSummary summary) {
+        return new Object[] {
+                summary.getYear(),
+                summary.getType(),
+                summary.getTeamId(),
+                summary.getGames(),
+                summary.getPossessions(),
+                summary.getPossessionTime(),
+                summary.getAttempts(),
+                summary.getGoals(),
+                summary.getTurnovers(),
+                summary.getSteals(),
+                summary.getPenalties(),
+                summary.getOffensivePenalties(),
+                summary.getPenaltyShotsAttempted(),
+                summary.getPenaltyShotsMade(),
+                summary.getOvertimePenaltyShotsAttempted(),
+                summary.getOvertimePenaltyShotsMade(),
+                summary.getScore()
+        };
+    }
+}
@@ -4,5 +4,9 @@ import org.natc.app.entity.domain.TeamOffenseSummary;
 import org.natc.app.entity.domain.TeamOffenseSummaryId;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface TeamOffenseSummaryRepository extends JpaRepository<TeamOffenseSummary, TeamOffenseSummaryId> {
+import java.util.List;
+
+public interface TeamOffenseSummaryRepository extends JpaRepository<TeamOffenseSummary, TeamOffenseSummaryId>, TeamOffenseSummaryBulkRepository {
+
+    List<TeamOffenseSummary> findByYearAndType(String year, Integer type);
 }
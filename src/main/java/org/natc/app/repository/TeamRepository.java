@@ -7,6 +7,9 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface TeamRepository extends JpaRepository<Team, TeamId> {
 
@@ -15,4 +18,6 @@ public interface TeamRepository extends JpaRepository<Team, TeamId> {
             "SELECT team_id, :destYear, location, name, abbrev, time_zone, game_time, conference, division, allstar_team, expectation, drought FROM teams_t " +
             "WHERE year = :sourceYear", nativeQuery = true)
     void copyTeamsForNewYear(String sourceYear, String destYear);
+
+    List<Team> findByYearIn(Collection<String> years);
 }
@@ -0,0 +1,28 @@
+package org.natc.app.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+// mirrors query by example, every non-null probe value must match exactly
+class WhereClause {
+    private final List<String> conditions = new ArrayList<>();
+    private final List<Object> args = new ArrayList<>();
+
+    WhereClause equal(final String column, final Object value) {
+        if (Objects.nonNull(value)) {
+            conditions.add(column + " = ?");
+            args.add(value);
+        }
+
+        return this;
+    }
+
+    String toSql() {
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    Object[] getArgs() {
+        return args.toArray();
+    }
+}
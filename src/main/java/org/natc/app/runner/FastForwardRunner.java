@@ -0,0 +1,59 @@
+package org.natc.app.runner;
+
+import lombok.extern.slf4j.Slf4j;
+import org.natc.app.configuration.FastForwardConfiguration;
+import org.natc.app.entity.response.FastForwardResponse;
+import org.natc.app.manager.FastForwardManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "natc.fast-forward", name = "enabled", havingValue = "true")
+public class FastForwardRunner implements ApplicationRunner, ExitCodeGenerator {
+
+    private final FastForwardManager fastForwardManager;
+    private final FastForwardConfiguration fastForwardConfiguration;
+
+    private int exitCode;
+
+    @Autowired
+    public FastForwardRunner(final FastForwardManager fastForwardManager, final FastForwardConfiguration fastForwardConfiguration) {
+        this.fastForwardManager = fastForwardManager;
+        this.fastForwardConfiguration = fastForwardConfiguration;
+    }
+
+    @Override
+    public void run(final ApplicationArguments args) throws Exception {
+        final FastForwardResponse response = fastForwardManager.fastForward(
+                fastForwardConfiguration.getTargetYear(),
+                fastForwardConfiguration.getTargetType(),
+                fastForwardConfiguration.getMaxEvents()
+        );
+
+        log.info(
+                "Fast forward processed {} events and {} seasons in {} ms ({} events/sec, {} seasons/min), stopped at {} {} #{}{}",
+                response.getEvents(),
+                response.getSeasons(),
+                response.getElapsedMillis(),
+                String.format("%.1f", response.getEventsPerSecond()),
+                String.format("%.2f", response.getSeasonsPerMinute()),
+                response.getLastYear(),
+                response.getLastType(),
+                response.getLastSequence(),
+                response.getTargetReached() ? "" : " before reaching the target"
+        );
+
+        exitCode = response.getTargetReached() ? 0 : 1;
+    }
+
+    // picked up by SpringApplication.exit once NATCApplication sees the run is over
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+}
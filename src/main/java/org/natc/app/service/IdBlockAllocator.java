@@ -0,0 +1,57 @@
+package org.natc.app.service;
+
+import org.natc.app.repository.IdSequence;
+import org.natc.app.repository.IdSequenceRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class IdBlockAllocator {
+
+    // must match the increment of the id sequences, each nextval reserves this many ids
+    public static final int BLOCK_SIZE = 50;
+
+    private final IdSequenceRepository idSequenceRepository;
+    private final Map<IdSequence, IdBlock> idBlocks = new EnumMap<>(IdSequence.class);
+
+    @Autowired
+    public IdBlockAllocator(final IdSequenceRepository idSequenceRepository) {
+        this.idSequenceRepository = idSequenceRepository;
+
+        for (final IdSequence idSequence : IdSequence.values()) {
+            idBlocks.put(idSequence, new IdBlock());
+        }
+    }
+
+    public Integer next(final IdSequence idSequence) {
+        return allocate(idSequence, 1).getFirst();
+    }
+
+    public List<Integer> allocate(final IdSequence idSequence, final int count) {
+        final IdBlock idBlock = idBlocks.get(idSequence);
+        final List<Integer> ids = new ArrayList<>(Math.max(count, 0));
+
+        synchronized (idBlock) {
+            while (ids.size() < count) {
+                if (idBlock.next >= idBlock.limit) {
+                    idBlock.next = idSequenceRepository.nextValue(idSequence);
+                    idBlock.limit = idBlock.next + BLOCK_SIZE;
+                }
+
+                ids.add(Math.toIntExact(idBlock.next++));
+            }
+        }
+
+        return ids;
+    }
+
+    private static class IdBlock {
+        private long next;
+        private long limit;
+    }
+}
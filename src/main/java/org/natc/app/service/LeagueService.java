@@ -1,15 +1,22 @@
 package org.natc.app.service;
 
 import org.natc.app.configuration.LeagueConfiguration;
+import org.natc.app.draft.ManagerDraftEngine;
+import org.natc.app.draft.PlayerDraftEngine;
 import org.natc.app.entity.domain.Manager;
 import org.natc.app.entity.domain.ManagerStyle;
 import org.natc.app.entity.domain.Player;
 import org.natc.app.entity.domain.Team;
 import org.natc.app.exception.LeagueProcessingException;
 import org.natc.app.exception.NATCException;
+import org.natc.app.random.RandomNumber;
+import org.natc.app.repository.SeasonPartitionRepository;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.random.RandomGenerator;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,88 +26,102 @@ public class LeagueService {
     private final ManagerService managerService;
     private final PlayerService playerService;
     private final LeagueConfiguration leagueConfiguration;
-    private final Map<ManagerStyle, Comparator<Player>> managerStyleComparatorMap;
+    private final RandomNumber randomNumber;
+    private final SeasonPartitionRepository seasonPartitionRepository;
+    private final Map<ManagerStyle, ToDoubleFunction<Player>> managerStyleRatingMap;
 
     public LeagueService(
             final TeamService teamService,
             final ManagerService managerService,
             final PlayerService playerService,
-            final LeagueConfiguration leagueConfiguration
+            final LeagueConfiguration leagueConfiguration,
+            final RandomNumber randomNumber,
+            final SeasonPartitionRepository seasonPartitionRepository
     ) {
         this.teamService = teamService;
         this.managerService = managerService;
         this.playerService = playerService;
         this.leagueConfiguration = leagueConfiguration;
-
-        this.managerStyleComparatorMap = Map.of(
-                ManagerStyle.OFFENSIVE, Comparator.comparing(Player::getOffensiveRating),
-                ManagerStyle.DEFENSIVE, Comparator.comparing(Player::getDefensiveRating),
-                ManagerStyle.INTANGIBLE, Comparator.comparing(Player::getIntangibleRating),
-                ManagerStyle.PENALTIES, Comparator.comparing(Player::getPenaltyRating),
-                ManagerStyle.BALANCED, Comparator.comparing(Player::getPerformanceRating)
+        this.randomNumber = randomNumber;
+        this.seasonPartitionRepository = seasonPartitionRepository;
+
+        this.managerStyleRatingMap = Map.of(
+                ManagerStyle.OFFENSIVE, Player::getOffensiveRating,
+                ManagerStyle.DEFENSIVE, Player::getDefensiveRating,
+                ManagerStyle.INTANGIBLE, Player::getIntangibleRating,
+                ManagerStyle.PENALTIES, Player::getPenaltyRating,
+                ManagerStyle.BALANCED, Player::getPerformanceRating
         );
     }
 
     public void generateNewLeague() throws NATCException {
+        seasonPartitionRepository.createPartitionsForYear(leagueConfiguration.getFirstSeason());
+
+        // one stream for the whole bootstrap, drawn from in a fixed order so the seed always produces the same league
+        final RandomGenerator random = randomNumber.forSeason(leagueConfiguration.getFirstSeason());
         final List<Team> teams = teamService.generateTeams(leagueConfiguration.getFirstSeason());
-        final List<Manager> managers = managerService.generateManagers(leagueConfiguration.getFirstSeason(), leagueConfiguration.getInitialManagers());
-        final List<Player> players = playerService.generatePlayers(leagueConfiguration.getFirstSeason(), leagueConfiguration.getInitialPlayers());
+        final List<Manager> managers = managerService.generateManagers(random, leagueConfiguration.getFirstSeason(), leagueConfiguration.getInitialManagers());
+        final List<Player> players = playerService.generatePlayers(random, leagueConfiguration.getFirstSeason(), leagueConfiguration.getInitialPlayers());
 
         final List<Team> regularTeams = teams.stream().filter(team -> team.getAllstarTeam().equals(0)).collect(Collectors.toList());
 
-        Collections.shuffle(regularTeams);
+        Collections.shuffle(regularTeams, random);
 
         assignManagersToTeams(regularTeams, managers);
 
-        for (int i = 0; i < leagueConfiguration.getPlayersPerTeam(); ++i) {
-            Collections.reverse(regularTeams);
-
-            assignPlayersToTeams(regularTeams, managers, players);
-        }
+        playerService.updatePlayers(draftPlayers(regularTeams, managers, players));
     }
 
     private void assignManagersToTeams(final List<Team> teams, final List<Manager> managers) throws NATCException {
-        for (final Team team : teams) {
-            final Optional<Manager> managerOpt = managers.stream()
-                    .filter(manager -> Objects.isNull(manager.getTeamId()))
-                    .max(Comparator.comparing(Manager::getOverallRating));
-
-            if (managerOpt.isEmpty()) {
-                throw new LeagueProcessingException();
-            }
+        final ManagerDraftEngine managerDraftEngine = ManagerDraftEngine.byOverallRating(managers);
+        final List<Manager> draftedManagers = new ArrayList<>();
 
-            final Manager manager = managerOpt.get();
+        for (final Team team : teams) {
+            final Manager manager = managerDraftEngine.draftBestManager(team.getTeamId())
+                    .orElseThrow(LeagueProcessingException::new);
 
             manager.setTeamId(team.getTeamId());
             manager.setNewHire(1);
 
-            managerService.updateManager(manager);
+            draftedManagers.add(manager);
         }
+
+        managerService.updateManagers(draftedManagers);
     }
 
-    private void assignPlayersToTeams(final List<Team> teams, final List<Manager> managers, final List<Player> players) throws NATCException {
-        for (final Team team : teams) {
-            final Manager teamManager = managers.stream()
-                    .filter(manager -> team.getTeamId().equals(manager.getTeamId()))
-                    .findFirst().orElseThrow(LeagueProcessingException::new);
+    // snake draft, the team order flips every round, and the picks are returned so they can be saved in one batch
+    private List<Player> draftPlayers(final List<Team> teams, final List<Manager> managers, final List<Player> players) throws NATCException {
+        final PlayerDraftEngine playerDraftEngine = new PlayerDraftEngine(players, managerStyleRatingMap::get);
+        final Map<Integer, Manager> managersByTeam = managers.stream()
+                .filter(manager -> Objects.nonNull(manager.getTeamId()))
+                .collect(Collectors.toMap(Manager::getTeamId, Function.identity()));
+        final List<Player> draftedPlayers = new ArrayList<>();
 
-            final Optional<Player> playerOpt = players.stream()
-                    .filter(player -> Objects.isNull(player.getTeamId()))
-                    .max(managerStyleComparatorMap.get(ManagerStyle.getByValue(teamManager.getStyle())));
+        for (int i = 0; i < leagueConfiguration.getPlayersPerTeam(); ++i) {
+            Collections.reverse(teams);
 
-            if (playerOpt.isEmpty()) {
-                throw new LeagueProcessingException();
-            }
+            for (final Team team : teams) {
+                final Manager teamManager = managersByTeam.get(team.getTeamId());
 
-            final Player player = playerOpt.get();
+                if (Objects.isNull(teamManager)) {
+                    throw new LeagueProcessingException();
+                }
 
-            player.setTeamId(team.getTeamId());
+                final Player player = playerDraftEngine.draftBestPlayer(ManagerStyle.getByValue(teamManager.getStyle()))
+                        .orElseThrow(LeagueProcessingException::new);
 
-            playerService.updatePlayer(player);
+                player.setTeamId(team.getTeamId());
+
+                draftedPlayers.add(player);
+            }
         }
+
+        return draftedPlayers;
     }
 
     public void updateLeagueForNewSeason(final String previousYear, final String newYear) {
+        seasonPartitionRepository.createPartitionsForYear(newYear);
+
         teamService.updateTeamsForNewSeason(previousYear, newYear);
         managerService.updateManagersForNewSeason(previousYear, newYear);
         playerService.updatePlayersForNewSeason(previousYear, newYear);
@@ -5,6 +5,8 @@ import org.natc.app.entity.domain.Manager;
 import org.natc.app.entity.domain.ManagerStyle;
 import org.natc.app.entity.domain.Player;
 import org.natc.app.exception.NATCException;
+import org.natc.app.metrics.LeagueMetrics;
+import org.natc.app.repository.IdSequence;
 import org.natc.app.repository.ManagerRepository;
 import org.natc.app.service.analysis.ManagerAnalyzer;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,6 +16,7 @@ import org.springframework.stereotype.Service;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.random.RandomGenerator;
 
 @Service
 public class ManagerService {
@@ -21,40 +24,47 @@ public class ManagerService {
     private final ManagerRepository managerRepository;
     private final NameService nameService;
     private final ManagerAnalyzer managerAnalyzer;
+    private final IdBlockAllocator idBlockAllocator;
+    private final LeagueMetrics leagueMetrics;
 
     @Autowired
-    public ManagerService(final ManagerRepository managerRepository, final NameService nameService, final ManagerAnalyzer managerAnalyzer) {
+    public ManagerService(
+            final ManagerRepository managerRepository,
+            final NameService nameService,
+            final ManagerAnalyzer managerAnalyzer,
+            final IdBlockAllocator idBlockAllocator,
+            final LeagueMetrics leagueMetrics) {
         this.managerRepository = managerRepository;
         this.nameService = nameService;
         this.managerAnalyzer = managerAnalyzer;
+        this.idBlockAllocator = idBlockAllocator;
+        this.leagueMetrics = leagueMetrics;
     }
 
-    public List<Manager> generateManagers(final String year, final Integer count) throws NATCException {
+    // the caller supplies the stream so the same schedule entry always generates the same managers
+    public List<Manager> generateManagers(final RandomGenerator random, final String year, final Integer count) throws NATCException {
         final List<Manager> managerList = new ArrayList<>();
+        final List<FullName> names = nameService.generateNames(random, count);
+        final List<Integer> managerIds = idBlockAllocator.allocate(IdSequence.MANAGER, names.size());
 
-        int lastManagerId = managerRepository.findMaxManagerId().orElse(0);
-
-        for (int i = 0; i < count; i++) {
-            final FullName name = nameService.generateName();
-            final Manager manager = Manager.generate(++lastManagerId, year, name.getFirstName(), name.getLastName());
+        for (int i = 0; i < names.size(); i++) {
+            final Manager manager = Manager.generate(random, managerIds.get(i), year, names.get(i).getFirstName(), names.get(i).getLastName());
             final ManagerStyle style = managerAnalyzer.determineManagerStyle(manager);
             manager.setStyle(Objects.isNull(style) ? null : style.getValue());
 
-            managerRepository.save(manager);
-
             managerList.add(manager);
         }
 
+        managerRepository.insertAll(managerList);
+        leagueMetrics.recordManagers(LeagueMetrics.LeagueEvent.GENERATED, managerList.size());
+
         return managerList;
     }
 
-    public Manager generateManagerFromPlayer(final String year, final Player player) {
-        final Manager manager = Manager.generate(0, year, player.getFirstName(), player.getLastName());
+    public Manager generateManagerFromPlayer(final RandomGenerator random, final String year, final Player player) {
+        final Manager manager = Manager.generate(random, idBlockAllocator.next(IdSequence.MANAGER), year, player.getFirstName(), player.getLastName());
         final int differenceInYears = Integer.parseInt(year) - Integer.parseInt(player.getYear());
 
-        final int lastManagerId = managerRepository.findMaxManagerId().orElse(0);
-
-        manager.setManagerId(lastManagerId + 1);
         manager.setPlayerId(player.getPlayerId());
         manager.setAge(player.getAge() + differenceInYears);
         manager.setOffense(player.getOffensiveRating());
@@ -67,6 +77,7 @@ public class ManagerService {
         manager.setStyle(Objects.isNull(style) ? null : style.getValue());
 
         managerRepository.save(manager);
+        leagueMetrics.recordManagers(LeagueMetrics.LeagueEvent.GENERATED, 1);
 
         return manager;
     }
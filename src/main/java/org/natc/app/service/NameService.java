@@ -3,59 +3,69 @@ package org.natc.app.service;
 import org.natc.app.entity.domain.*;
 import org.natc.app.exception.NATCException;
 import org.natc.app.exception.NameGenerationException;
-import org.natc.app.repository.FirstNameRepository;
-import org.natc.app.repository.LastNameRepository;
+import org.natc.app.random.WeightedNameSampler;
 import org.natc.app.repository.ManagerRepository;
 import org.natc.app.repository.PlayerRepository;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Example;
 import org.springframework.stereotype.Service;
 
+import java.util.*;
+import java.util.random.RandomGenerator;
+
 @Service
 public class NameService {
 
-    private final FirstNameRepository firstNameRepository;
-    private final LastNameRepository lastNameRepository;
+    private static final int MAX_ATTEMPTS_PER_NAME = 100;
+
+    private final WeightedNameSampler weightedNameSampler;
     private final ManagerRepository managerRepository;
     private final PlayerRepository playerRepository;
 
     @Autowired
     public NameService(
-            final FirstNameRepository firstNameRepository,
-            final LastNameRepository lastNameRepository,
+            final WeightedNameSampler weightedNameSampler,
             final ManagerRepository managerRepository,
             final PlayerRepository playerRepository) {
-        this.firstNameRepository = firstNameRepository;
-        this.lastNameRepository = lastNameRepository;
+        this.weightedNameSampler = weightedNameSampler;
         this.managerRepository = managerRepository;
         this.playerRepository = playerRepository;
     }
 
-    public FullName generateName() throws NATCException {
-        FullName fullName = null;
+    public List<FullName> generateNames(final RandomGenerator random, final Integer count) throws NATCException {
+        if (count <= 0) return new ArrayList<>();
 
-        while (true) {
+        final int firstNameCount = weightedNameSampler.getFirstNameCount();
+        final int lastNameCount = weightedNameSampler.getLastNameCount();
 
-            final FirstName firstName = firstNameRepository.findRandomName().orElseThrow(NameGenerationException::new);
-            final LastName lastName = lastNameRepository.findRandomName().orElseThrow(NameGenerationException::new);
+        if (firstNameCount == 0 || lastNameCount == 0) {
+            throw new NameGenerationException();
+        }
 
-            final Example<Manager> managerExample = Example.of(
-                    Manager.builder().firstName(firstName.getName()).lastName(lastName.getName()).build()
-            );
+        if ((long) firstNameCount * lastNameCount < count) {
+            throw new NameGenerationException(String.format("Not enough names available to generate %d unique names", count));
+        }
 
-            if (managerRepository.findAll(managerExample).size() > 0) continue;
+        final Set<FullName> existingNames = new HashSet<>(managerRepository.findAllFullNames());
+        existingNames.addAll(playerRepository.findAllFullNames());
 
-            final Example<Player> playerExample = Example.of(
-                    Player.builder().firstName(firstName.getName()).lastName(lastName.getName()).build()
-            );
+        final List<FullName> fullNames = new ArrayList<>();
+        final long maxAttempts = (long) count * MAX_ATTEMPTS_PER_NAME;
 
-            if (playerRepository.findAll(playerExample).size() > 0) continue;
+        for (long attempts = 0; fullNames.size() < count; attempts++) {
+            if (attempts >= maxAttempts) {
+                throw new NameGenerationException(String.format("Unable to generate %d unique names", count));
+            }
 
-            fullName = FullName.builder().firstName(firstName.getName()).lastName(lastName.getName()).build();
+            final FullName fullName = FullName.builder()
+                    .firstName(weightedNameSampler.drawFirstName(random).orElseThrow(NameGenerationException::new))
+                    .lastName(weightedNameSampler.drawLastName(random).orElseThrow(NameGenerationException::new))
+                    .build();
 
-            break;
+            if (existingNames.add(fullName)) {
+                fullNames.add(fullName);
+            }
         }
 
-        return fullName;
+        return fullNames;
     }
 }
@@ -4,6 +4,8 @@ import org.natc.app.configuration.LeagueConfiguration;
 import org.natc.app.entity.domain.FullName;
 import org.natc.app.entity.domain.Player;
 import org.natc.app.exception.NATCException;
+import org.natc.app.metrics.LeagueMetrics;
+import org.natc.app.repository.IdSequence;
 import org.natc.app.repository.PlayerRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Example;
@@ -11,6 +13,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 @Service
 public class PlayerService {
@@ -18,28 +21,36 @@ public class PlayerService {
     private final LeagueConfiguration leagueConfiguration;
     private final PlayerRepository playerRepository;
     private final NameService nameService;
+    private final IdBlockAllocator idBlockAllocator;
+    private final LeagueMetrics leagueMetrics;
 
     @Autowired
-    public PlayerService(final LeagueConfiguration leagueConfiguration, final PlayerRepository playerRepository, final NameService nameService) {
+    public PlayerService(
+            final LeagueConfiguration leagueConfiguration,
+            final PlayerRepository playerRepository,
+            final NameService nameService,
+            final IdBlockAllocator idBlockAllocator,
+            final LeagueMetrics leagueMetrics) {
         this.leagueConfiguration = leagueConfiguration;
         this.playerRepository = playerRepository;
         this.nameService = nameService;
+        this.idBlockAllocator = idBlockAllocator;
+        this.leagueMetrics = leagueMetrics;
     }
 
-    public List<Player> generatePlayers(final String year, final Integer count) throws NATCException {
+    // the caller supplies the stream so the same schedule entry always generates the same players
+    public List<Player> generatePlayers(final RandomGenerator random, final String year, final Integer count) throws NATCException {
         final List<Player> players = new ArrayList<>();
+        final List<FullName> names = nameService.generateNames(random, count);
+        final List<Integer> playerIds = idBlockAllocator.allocate(IdSequence.PLAYER, names.size());
 
-        int lastPlayerId = playerRepository.findMaxPlayerId().orElse(0);
-
-        for (int i = 0; i < count; i++) {
-            final FullName fullName = nameService.generateName();
-            final Player player = Player.generate(++lastPlayerId, year, fullName.getFirstName(), fullName.getLastName());
-
-            playerRepository.save(player);
-
-            players.add(player);
+        for (int i = 0; i < names.size(); i++) {
+            players.add(Player.generate(random, playerIds.get(i), year, names.get(i).getFirstName(), names.get(i).getLastName()));
         }
 
+        playerRepository.insertAll(players);
+        leagueMetrics.recordPlayers(LeagueMetrics.LeagueEvent.GENERATED, players.size());
+
         return players;
     }
 
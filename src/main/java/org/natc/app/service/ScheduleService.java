@@ -329,7 +329,7 @@ public class ScheduleService {
         final List<Schedule> scheduleList = new ArrayList<>();
 
         final ScheduleDataGenerator regularSeasonGenerator = scheduleDataGeneratorManager.getGeneratorFor(scheduleType);
-        final List<ScheduleData> regularSeasonScheduleData = regularSeasonGenerator.generate();
+        final List<ScheduleData> regularSeasonScheduleData = regularSeasonGenerator.generate(year);
 
         for (final ScheduleData scheduleData : regularSeasonScheduleData) {
             if (scheduledDate.getDayOfWeek().equals(DayOfWeek.SATURDAY)) scheduledDate = scheduledDate.plusDays(2);
@@ -0,0 +1,220 @@
+package org.natc.app.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.natc.app.entity.domain.PlayerGame;
+import org.natc.app.entity.domain.PlayerStatsSummary;
+import org.natc.app.entity.domain.TeamDefenseSummary;
+import org.natc.app.entity.domain.TeamGame;
+import org.natc.app.entity.domain.TeamOffenseSummary;
+import org.natc.app.repository.PlayerStatsSummaryRepository;
+import org.natc.app.repository.TeamDefenseSummaryRepository;
+import org.natc.app.repository.TeamOffenseSummaryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Slf4j
+@Service
+public class StatsSummaryService {
+
+    private final PlayerStatsSummaryRepository playerStatsSummaryRepository;
+    private final TeamOffenseSummaryRepository teamOffenseSummaryRepository;
+    private final TeamDefenseSummaryRepository teamDefenseSummaryRepository;
+
+    @Autowired
+    public StatsSummaryService(
+            final PlayerStatsSummaryRepository playerStatsSummaryRepository,
+            final TeamOffenseSummaryRepository teamOffenseSummaryRepository,
+            final TeamDefenseSummaryRepository teamDefenseSummaryRepository) {
+        this.playerStatsSummaryRepository = playerStatsSummaryRepository;
+        this.teamOffenseSummaryRepository = teamOffenseSummaryRepository;
+        this.teamDefenseSummaryRepository = teamDefenseSummaryRepository;
+    }
+
+    // the box scores are folded in memory first so each summary row is upserted once per game day, however many games it covers
+    public void foldGames(final List<TeamGame> teamGames, final List<PlayerGame> playerGames) {
+        final Map<SummaryKey, PlayerStatsSummary> playerSummaries = new LinkedHashMap<>();
+        final Map<SummaryKey, TeamOffenseSummary> offenseSummaries = new LinkedHashMap<>();
+        final Map<SummaryKey, TeamDefenseSummary> defenseSummaries = new LinkedHashMap<>();
+
+        for (final PlayerGame playerGame : playerGames) {
+            playerSummaries.merge(new SummaryKey(playerGame.getYear(), playerGame.getType(), playerGame.getPlayerId()), toPlayerStatsSummary(playerGame), this::add);
+        }
+
+        for (final TeamGame teamGame : teamGames) {
+            offenseSummaries.merge(new SummaryKey(teamGame.getYear(), teamGame.getType(), teamGame.getTeamId()), toTeamOffenseSummary(teamGame), this::add);
+            defenseSummaries.merge(new SummaryKey(teamGame.getYear(), teamGame.getType(), teamGame.getOpponent()), toTeamDefenseSummary(teamGame), this::add);
+        }
+
+        playerStatsSummaryRepository.upsertAll(new ArrayList<>(playerSummaries.values()));
+        teamOffenseSummaryRepository.upsertAll(new ArrayList<>(offenseSummaries.values()));
+        teamDefenseSummaryRepository.upsertAll(new ArrayList<>(defenseSummaries.values()));
+    }
+
+    public int verifySummaries(final String year) {
+        final int playerMismatches = playerStatsSummaryRepository.countMismatchedSummaries(year);
+        final int offenseMismatches = teamOffenseSummaryRepository.countMismatchedSummaries(year);
+        final int defenseMismatches = teamDefenseSummaryRepository.countMismatchedSummaries(year);
+        final int mismatches = playerMismatches + offenseMismatches + defenseMismatches;
+
+        if (mismatches > 0) {
+            log.warn("Summaries for year [{}] differ from the games: player stats [{}], team offense [{}], team defense [{}]",
+                    year, playerMismatches, offenseMismatches, defenseMismatches);
+        }
+
+        return mismatches;
+    }
+
+    private PlayerStatsSummary toPlayerStatsSummary(final PlayerGame playerGame) {
+        return PlayerStatsSummary.builder()
+                .year(playerGame.getYear())
+                .type(playerGame.getType())
+                .playerId(playerGame.getPlayerId())
+                .games(valueOrZero(playerGame.getPlayingTime()) > 0 ? 1 : 0)
+                .gamesStarted(playerGame.getStarted())
+                .playingTime(playerGame.getPlayingTime())
+                .attempts(playerGame.getAttempts())
+                .goals(playerGame.getGoals())
+                .assists(playerGame.getAssists())
+                .turnovers(playerGame.getTurnovers())
+                .stops(playerGame.getStops())
+                .steals(playerGame.getSteals())
+                .penalties(playerGame.getPenalties())
+                .offensivePenalties(playerGame.getOffensivePenalties())
+                .penaltyShotsAttempted(playerGame.getPenaltyShotsAttempted())
+                .penaltyShotsMade(playerGame.getPenaltyShotsMade())
+                .overtimePenaltyShotsAttempted(playerGame.getOvertimePenaltyShotsAttempted())
+                .overtimePenaltyShotsMade(playerGame.getOvertimePenaltyShotsMade())
+                .teamId(playerGame.getTeamId())
+                .build();
+    }
+
+    private TeamOffenseSummary toTeamOffenseSummary(final TeamGame teamGame) {
+        return TeamOffenseSummary.builder()
+                .year(teamGame.getYear())
+                .type(teamGame.getType())
+                .teamId(teamGame.getTeamId())
+                .games(1)
+                .possessions(teamGame.getPossessions())
+                .possessionTime(teamGame.getPossessionTime())
+                .attempts(teamGame.getAttempts())
+                .goals(teamGame.getGoals())
+                .turnovers(teamGame.getTurnovers())
+                .steals(teamGame.getSteals())
+                .penalties(teamGame.getPenalties())
+                .offensivePenalties(teamGame.getOffensivePenalties())
+                .penaltyShotsAttempted(teamGame.getPenaltyShotsAttempted())
+                .penaltyShotsMade(teamGame.getPenaltyShotsMade())
+                .overtimePenaltyShotsAttempted(teamGame.getOvertimePenaltyShotsAttempted())
+                .overtimePenaltyShotsMade(teamGame.getOvertimePenaltyShotsMade())
+                .score(teamGame.getTotalScore())
+                .build();
+    }
+
+    // a team's defense is what its opponent did against it
+    private TeamDefenseSummary toTeamDefenseSummary(final TeamGame teamGame) {
+        return TeamDefenseSummary.builder()
+                .year(teamGame.getYear())
+                .type(teamGame.getType())
+                .teamId(teamGame.getOpponent())
+                .games(1)
+                .possessions(teamGame.getPossessions())
+                .possessionTime(teamGame.getPossessionTime())
+                .attempts(teamGame.getAttempts())
+                .goals(teamGame.getGoals())
+                .turnovers(teamGame.getTurnovers())
+                .steals(teamGame.getSteals())
+                .penalties(teamGame.getPenalties())
+                .offensivePenalties(teamGame.getOffensivePenalties())
+                .penaltyShotsAttempted(teamGame.getPenaltyShotsAttempted())
+                .penaltyShotsMade(teamGame.getPenaltyShotsMade())
+                .overtimePenaltyShotsAttempted(teamGame.getOvertimePenaltyShotsAttempted())
+                .overtimePenaltyShotsMade(teamGame.getOvertimePenaltyShotsMade())
+                .score(teamGame.getTotalScore())
+                .build();
+    }
+
+    private PlayerStatsSummary add(final PlayerStatsSummary total, final PlayerStatsSummary game) {
+        return PlayerStatsSummary.builder()
+                .year(total.getYear())
+                .type(total.getType())
+                .playerId(total.getPlayerId())
+                .games(sum(total.getGames(), game.getGames()))
+                .gamesStarted(sum(total.getGamesStarted(), game.getGamesStarted()))
+                .playingTime(sum(total.getPlayingTime(), game.getPlayingTime()))
+                .attempts(sum(total.getAttempts(), game.getAttempts()))
+                .goals(sum(total.getGoals(), game.getGoals()))
+                .assists(sum(total.getAssists(), game.getAssists()))
+                .turnovers(sum(total.getTurnovers(), game.getTurnovers()))
+                .stops(sum(total.getStops(), game.getStops()))
+                .steals(sum(total.getSteals(), game.getSteals()))
+                .penalties(sum(total.getPenalties(), game.getPenalties()))
+                .offensivePenalties(sum(total.getOffensivePenalties(), game.getOffensivePenalties()))
+                .penaltyShotsAttempted(sum(total.getPenaltyShotsAttempted(), game.getPenaltyShotsAttempted()))
+                .penaltyShotsMade(sum(total.getPenaltyShotsMade(), game.getPenaltyShotsMade()))
+                .overtimePenaltyShotsAttempted(sum(total.getOvertimePenaltyShotsAttempted(), game.getOvertimePenaltyShotsAttempted()))
+                .overtimePenaltyShotsMade(sum(total.getOvertimePenaltyShotsMade(), game.getOvertimePenaltyShotsMade()))
+                .teamId(game.getTeamId())
+                .build();
+    }
+
+    private TeamOffenseSummary add(final TeamOffenseSummary total, final TeamOffenseSummary game) {
+        return TeamOffenseSummary.builder()
+                .year(total.getYear())
+                .type(total.getType())
+                .teamId(total.getTeamId())
+                .games(sum(total.getGames(), game.getGames()))
+                .possessions(sum(total.getPossessions(), game.getPossessions()))
+                .possessionTime(sum(total.getPossessionTime(), game.getPossessionTime()))
+                .attempts(sum(total.getAttempts(), game.getAttempts()))
+                .goals(sum(total.getGoals(), game.getGoals()))
+                .turnovers(sum(total.getTurnovers(), game.getTurnovers()))
+                .steals(sum(total.getSteals(), game.getSteals()))
+                .penalties(sum(total.getPenalties(), game.getPenalties()))
+                .offensivePenalties(sum(total.getOffensivePenalties(), game.getOffensivePenalties()))
+                .penaltyShotsAttempted(sum(total.getPenaltyShotsAttempted(), game.getPenaltyShotsAttempted()))
+                .penaltyShotsMade(sum(total.getPenaltyShotsMade(), game.getPenaltyShotsMade()))
+                .overtimePenaltyShotsAttempted(sum(total.getOvertimePenaltyShotsAttempted(), game.getOvertimePenaltyShotsAttempted()))
+                .overtimePenaltyShotsMade(sum(total.getOvertimePenaltyShotsMade(), game.getOvertimePenaltyShotsMade()))
+                .score(sum(total.getScore(), game.getScore()))
+                .build();
+    }
+
+    private TeamDefenseSummary add(final TeamDefenseSummary total, final TeamDefenseSummary game) {
+        return TeamDefenseSummary.builder()
+                .year(total.getYear())
+                .type(total.getType())
+                .teamId(total.getTeamId())
+                .games(sum(total.getGames(), game.getGames()))
+                .possessions(sum(total.getPossessions(), game.getPossessions()))
+                .possessionTime(sum(total.getPossessionTime(), game.getPossessionTime()))
+                .attempts(sum(total.getAttempts(), game.getAttempts()))
+                .goals(sum(total.getGoals(), game.getGoals()))
+                .turnovers(sum(total.getTurnovers(), game.getTurnovers()))
+                .steals(sum(total.getSteals(), game.getSteals()))
+                .penalties(sum(total.getPenalties(), game.getPenalties()))
+                .offensivePenalties(sum(total.getOffensivePenalties(), game.getOffensivePenalties()))
+                .penaltyShotsAttempted(sum(total.getPenaltyShotsAttempted(), game.getPenaltyShotsAttempted()))
+                .penaltyShotsMade(sum(total.getPenaltyShotsMade(), game.getPenaltyShotsMade()))
+                .overtimePenaltyShotsAttempted(sum(total.getOvertimePenaltyShotsAttempted(), game.getOvertimePenaltyShotsAttempted()))
+                .overtimePenaltyShotsMade(sum(total.getOvertimePenaltyShotsMade(), game.getOvertimePenaltyShotsMade()))
+                .score(sum(total.getScore(), game.getScore()))
+                .build();
+    }
+
+    private static Integer sum(final Integer first, final Integer second) {
+        return valueOrZero(first) + valueOrZero(second);
+    }
+
+    private static int valueOrZero(final Integer value) {
+        return Objects.isNull(value) ? 0 : value;
+    }
+
+    private record SummaryKey(String year, Integer type, Integer id) {
+    }
+}
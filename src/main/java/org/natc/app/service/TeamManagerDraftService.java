@@ -1,55 +1,55 @@
 package org.natc.app.service;
 
 import org.natc.app.comparator.TeamComparator;
+import org.natc.app.draft.ManagerDraftEngine;
 import org.natc.app.entity.domain.Manager;
 import org.natc.app.entity.domain.Team;
 import org.natc.app.exception.NATCException;
 import org.natc.app.exception.TeamManagerDraftException;
-import org.natc.app.repository.TeamRepository;
+import org.natc.app.metrics.LeagueMetrics;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Example;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 @Service
 public class TeamManagerDraftService {
 
-    private final TeamRepository teamRepository;
     private final TeamComparator teamComparator;
+    private final LeagueMetrics leagueMetrics;
 
     @Autowired
-    public TeamManagerDraftService(final TeamRepository teamRepository, final TeamComparator teamComparator) {
-        this.teamRepository = teamRepository;
+    public TeamManagerDraftService(final TeamComparator teamComparator, final LeagueMetrics leagueMetrics) {
         this.teamComparator = teamComparator;
+        this.leagueMetrics = leagueMetrics;
     }
 
-    public void assignManagersToTeams(final List<Team> teams, final List<Manager> managers) throws NATCException {
+    public void assignManagersToTeams(final List<Team> teams, final List<Manager> managers, final TeamSeasonHistory teamSeasonHistory, final RandomGenerator random) throws NATCException {
 
         final List<Team> draftTeams = new ArrayList<>();
 
         for (final Team team : teams) {
             final String previousYear = String.valueOf(Integer.parseInt(team.getYear()) - 1);
-            final Example<Team> teamExample = Example.of(Team.builder().teamId(team.getTeamId()).year(previousYear).build());
 
-            teamRepository.findOne(teamExample).ifPresent(draftTeams::add);
+            teamSeasonHistory.findTeam(team.getTeamId(), previousYear).ifPresent(draftTeams::add);
         }
 
         if (draftTeams.isEmpty()) {
             draftTeams.addAll(teams);
-            Collections.shuffle(draftTeams);
+            Collections.shuffle(draftTeams, random);
         }
         else if (draftTeams.size() == teams.size()) {
-            draftTeams.sort(teamComparator);
+            draftTeams.sort(teamComparator.forYear(draftTeams.get(0).getYear()));
         }
         else {
             throw new TeamManagerDraftException();
         }
 
+        final ManagerDraftEngine managerDraftEngine = ManagerDraftEngine.byPerformanceRating(managers);
+
         for (final Team team : draftTeams) {
-            final Manager manager = managers.stream()
-                    .filter(m -> Objects.isNull(m.getTeamId()) && !team.getTeamId().equals(m.getFormerTeamId()))
-                    .max(Comparator.comparing(Manager::getPerformanceRating).thenComparing(Manager::getOverallRating))
+            final Manager manager = managerDraftEngine.draftBestManager(team.getTeamId())
                     .orElseThrow(TeamManagerDraftException::new);
 
             manager.setTeamId(team.getTeamId());
@@ -57,5 +57,7 @@ public class TeamManagerDraftService {
             manager.setScore(0);
             manager.setSeasons(0);
         }
+
+        leagueMetrics.recordManagers(LeagueMetrics.LeagueEvent.DRAFTED, draftTeams.size());
     }
 }
@@ -0,0 +1,28 @@
+package org.natc.app.service;
+
+import org.natc.app.entity.domain.Team;
+import org.natc.app.exception.TeamNotFoundException;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class TeamSeasonHistory {
+
+    private final Map<String, Map<Integer, Team>> teamsByYear = new HashMap<>();
+
+    public TeamSeasonHistory(final List<Team> teams) {
+        for (final Team team : teams) {
+            teamsByYear.computeIfAbsent(team.getYear(), year -> new HashMap<>()).put(team.getTeamId(), team);
+        }
+    }
+
+    public Optional<Team> findTeam(final Integer teamId, final String year) {
+        return Optional.ofNullable(teamsByYear.getOrDefault(year, Map.of()).get(teamId));
+    }
+
+    public Team getTeam(final Integer teamId, final String year) throws TeamNotFoundException {
+        return findTeam(teamId, year).orElseThrow(TeamNotFoundException::new);
+    }
+}
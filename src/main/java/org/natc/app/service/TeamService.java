@@ -8,6 +8,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Example;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -79,14 +80,25 @@ public class TeamService {
         repository.copyTeamsForNewYear(previousYear, newYear);
     }
 
-    public Boolean willTeamReleaseManager(final Manager manager) {
+    // every season from the given year back, loaded in one query so callers can look teams up without going back to the database
+    public TeamSeasonHistory getTeamSeasonHistory(final String year, final int seasons) {
+        final List<String> years = new ArrayList<>();
+
+        for (String season = year; years.size() < seasons; season = decrementYear(season)) {
+            years.add(season);
+        }
+
+        return new TeamSeasonHistory(repository.findByYearIn(years));
+    }
+
+    public Boolean willTeamReleaseManager(final Manager manager, final TeamSeasonHistory teamSeasonHistory) {
         if (manager.getSeasons() < 3) return false;
 
         final String previousYear = decrementYear(manager.getYear());
         final String twoYearsBack = decrementYear(previousYear);
 
-        final Optional<Team> previousYearTeamOpt = repository.findOne(Example.of(Team.builder().teamId(manager.getTeamId()).year(previousYear).build()));
-        final Optional<Team> twoYearsBackTeamOpt = repository.findOne(Example.of(Team.builder().teamId(manager.getTeamId()).year(twoYearsBack).build()));
+        final Optional<Team> previousYearTeamOpt = teamSeasonHistory.findTeam(manager.getTeamId(), previousYear);
+        final Optional<Team> twoYearsBackTeamOpt = teamSeasonHistory.findTeam(manager.getTeamId(), twoYearsBack);
 
         if (previousYearTeamOpt.isEmpty()) return false;
         if (twoYearsBackTeamOpt.isEmpty()) return false;
@@ -3,31 +3,33 @@ package org.natc.app.service.search;
 import org.natc.app.entity.domain.GameState;
 import org.natc.app.entity.request.GameStateSearchRequest;
 import org.natc.app.entity.response.GameStateResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 @Service
 public class GameStateSearchService implements NATCSearchService<GameStateResponse, GameStateSearchRequest> {
 
+    private static final Sort KEYSET = Sort.by("gameId");
+
     private final JpaRepository<GameState, Integer> repository;
+    private final KeysetPaginator keysetPaginator;
 
     @Autowired
-    public GameStateSearchService(final JpaRepository<GameState, Integer> repository) {
+    public GameStateSearchService(final JpaRepository<GameState, Integer> repository, final KeysetPaginator keysetPaginator) {
         this.repository = repository;
+        this.keysetPaginator = keysetPaginator;
     }
 
-    public List<GameStateResponse> fetchAll(final GameStateSearchRequest gameStateSearchRequest) {
+    @Override
+    public SearchPage<GameStateResponse> fetchPage(final GameStateSearchRequest gameStateSearchRequest, final String cursor, final Integer pageSize) throws InvalidCursorException {
         final GameState gameState = GameState.builder()
                 .gameId(gameStateSearchRequest.getGameId())
                 .build();
 
-        final List<GameState> gameStateList = repository.findAll(Example.of(gameState));
-
-        return gameStateList.stream().map(GameStateResponse::new).toList();
+        return keysetPaginator.fetchPage(repository, Example.of(gameState), KEYSET, cursor, pageSize, GameStateResponse::new);
     }
 }
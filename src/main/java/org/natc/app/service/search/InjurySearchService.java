@@ -4,33 +4,35 @@ import org.natc.app.entity.domain.Injury;
 import org.natc.app.entity.domain.InjuryId;
 import org.natc.app.entity.request.InjurySearchRequest;
 import org.natc.app.entity.response.InjuryResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 @Service
 public class InjurySearchService implements NATCSearchService<InjuryResponse, InjurySearchRequest> {
 
+    private static final Sort KEYSET = Sort.by("gameId", "playerId");
+
     private final JpaRepository<Injury, InjuryId> repository;
+    private final KeysetPaginator keysetPaginator;
 
     @Autowired
-    public InjurySearchService(final JpaRepository<Injury, InjuryId> repository) {
+    public InjurySearchService(final JpaRepository<Injury, InjuryId> repository, final KeysetPaginator keysetPaginator) {
         this.repository = repository;
+        this.keysetPaginator = keysetPaginator;
     }
 
-    public List<InjuryResponse> fetchAll(final InjurySearchRequest request) {
+    @Override
+    public SearchPage<InjuryResponse> fetchPage(final InjurySearchRequest request, final String cursor, final Integer pageSize) throws InvalidCursorException {
         final Injury injury = Injury.builder()
                 .gameId(request.getGameId())
                 .playerId(request.getPlayerId())
                 .teamId(request.getTeamId())
                 .build();
 
-        final List<Injury> injuryList = repository.findAll(Example.of(injury));
-
-        return injuryList.stream().map(InjuryResponse::new).toList();
+        return keysetPaginator.fetchPage(repository, Example.of(injury), KEYSET, cursor, pageSize, InjuryResponse::new);
     }
 }
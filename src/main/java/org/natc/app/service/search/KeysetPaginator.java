@@ -0,0 +1,53 @@
+package org.natc.app.service.search;
+
+import org.natc.app.configuration.SearchConfiguration;
+import org.natc.app.exception.InvalidCursorException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.repository.query.QueryByExampleExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+@Component
+public class KeysetPaginator {
+
+    private final SearchConfiguration searchConfiguration;
+
+    @Autowired
+    public KeysetPaginator(final SearchConfiguration searchConfiguration) {
+        this.searchConfiguration = searchConfiguration;
+    }
+
+    // the keyset must be the entity's full id so every row has a unique position to resume from
+    public <D, T> SearchPage<T> fetchPage(
+            final QueryByExampleExecutor<D> repository,
+            final Example<D> example,
+            final Sort keyset,
+            final String cursor,
+            final Integer pageSize,
+            final Function<D, T> mapper) throws InvalidCursorException {
+        final KeysetScrollPosition position = SearchCursor.decode(cursor, example.getProbeType(), keyset);
+        final int limit = resolvePageSize(pageSize);
+
+        final Window<D> window = repository.findBy(example, query -> query.sortBy(keyset).limit(limit).scroll(position));
+
+        final String nextCursor = window.hasNext() && !window.isEmpty() ? SearchCursor.encode(window.positionAt(window.size() - 1)) : null;
+
+        return new SearchPage<>(window.getContent().stream().map(mapper).toList(), nextCursor);
+    }
+
+    public int resolvePageSize(final Integer pageSize) {
+        final int maxPageSize = searchConfiguration.getMaxPageSize();
+
+        if (Objects.isNull(pageSize) || pageSize < 1) {
+            return Math.min(searchConfiguration.getDefaultPageSize(), maxPageSize);
+        }
+
+        return Math.min(pageSize, maxPageSize);
+    }
+}
@@ -4,26 +4,29 @@ import org.natc.app.entity.domain.Manager;
 import org.natc.app.entity.domain.ManagerId;
 import org.natc.app.entity.request.ManagerSearchRequest;
 import org.natc.app.entity.response.ManagerResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 @Service
 public class ManagerSearchService implements NATCSearchService<ManagerResponse, ManagerSearchRequest> {
 
+    private static final Sort KEYSET = Sort.by("managerId", "year");
+
     private final JpaRepository<Manager, ManagerId> repository;
+    private final KeysetPaginator keysetPaginator;
 
     @Autowired
-    public ManagerSearchService(final JpaRepository<Manager, ManagerId> repository) {
+    public ManagerSearchService(final JpaRepository<Manager, ManagerId> repository, final KeysetPaginator keysetPaginator) {
         this.repository = repository;
+        this.keysetPaginator = keysetPaginator;
     }
 
     @Override
-    public List<ManagerResponse> fetchAll(final ManagerSearchRequest request) {
+    public SearchPage<ManagerResponse> fetchPage(final ManagerSearchRequest request, final String cursor, final Integer pageSize) throws InvalidCursorException {
         final Manager manager = Manager.builder()
                 .managerId(request.getManagerId())
                 .teamId(request.getTeamId())
@@ -31,8 +34,6 @@ public class ManagerSearchService implements NATCSearchService<ManagerResponse,
                 .year(request.getYear())
                 .build();
 
-        final List<Manager> managerList = repository.findAll(Example.of(manager));
-
-        return managerList.stream().map(ManagerResponse::new).toList();
+        return keysetPaginator.fetchPage(repository, Example.of(manager), KEYSET, cursor, pageSize, ManagerResponse::new);
     }
 }
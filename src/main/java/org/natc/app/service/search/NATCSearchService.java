@@ -1,7 +1,9 @@
 package org.natc.app.service.search;
 
-import java.util.List;
+import org.natc.app.exception.InvalidCursorException;
+import org.springframework.cache.annotation.Cacheable;
 
 public interface NATCSearchService<T, E> {
-    List<T> fetchAll(E request);
+    @Cacheable(cacheResolver = "searchCacheResolver")
+    SearchPage<T> fetchPage(E request, String cursor, Integer pageSize) throws InvalidCursorException;
 }
@@ -0,0 +1,7 @@
+package org.natc.app.service.search;
+
+import java.util.function.Consumer;
+
+public interface NATCStreamingService<T, E> {
+    void streamAll(E request, Consumer<T> consumer);
+}
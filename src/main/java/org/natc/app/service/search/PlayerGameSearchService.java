@@ -5,25 +5,29 @@ import org.natc.app.entity.domain.PlayerGame;
 import org.natc.app.entity.domain.PlayerGameId;
 import org.natc.app.entity.request.PlayerGameSearchRequest;
 import org.natc.app.entity.response.PlayerGameResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 @Service
 public class PlayerGameSearchService implements NATCSearchService<PlayerGameResponse, PlayerGameSearchRequest> {
 
+    private static final Sort KEYSET = Sort.by("gameId", "playerId");
+
     private final JpaRepository<PlayerGame, PlayerGameId> repository;
+    private final KeysetPaginator keysetPaginator;
 
     @Autowired
-    public PlayerGameSearchService(final JpaRepository<PlayerGame, PlayerGameId> repository) {
+    public PlayerGameSearchService(final JpaRepository<PlayerGame, PlayerGameId> repository, final KeysetPaginator keysetPaginator) {
         this.repository = repository;
+        this.keysetPaginator = keysetPaginator;
     }
 
-    public List<PlayerGameResponse> fetchAll(final PlayerGameSearchRequest request) {
+    @Override
+    public SearchPage<PlayerGameResponse> fetchPage(final PlayerGameSearchRequest request, final String cursor, final Integer pageSize) throws InvalidCursorException {
         final PlayerGame playerGame = PlayerGame.builder()
                 .gameId(request.getGameId())
                 .year(request.getYear())
@@ -33,8 +37,6 @@ public class PlayerGameSearchService implements NATCSearchService<PlayerGameResp
                 .teamId(request.getTeamId())
                 .build();
 
-        final List<PlayerGame> playerGameList = repository.findAll(Example.of(playerGame));
-
-        return playerGameList.stream().map(PlayerGameResponse::new).toList();
+        return keysetPaginator.fetchPage(repository, Example.of(playerGame), KEYSET, cursor, pageSize, PlayerGameResponse::new);
     }
 }
@@ -0,0 +1,36 @@
+package org.natc.app.service.search;
+
+import org.natc.app.entity.domain.GameType;
+import org.natc.app.entity.domain.PlayerGame;
+import org.natc.app.entity.request.PlayerGameSearchRequest;
+import org.natc.app.entity.response.PlayerGameResponse;
+import org.natc.app.repository.PlayerGameRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Consumer;
+
+@Service
+public class PlayerGameStreamingService implements NATCStreamingService<PlayerGameResponse, PlayerGameSearchRequest> {
+
+    private final PlayerGameRepository repository;
+
+    @Autowired
+    public PlayerGameStreamingService(final PlayerGameRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public void streamAll(final PlayerGameSearchRequest request, final Consumer<PlayerGameResponse> consumer) {
+        final PlayerGame playerGame = PlayerGame.builder()
+                .gameId(request.getGameId())
+                .year(request.getYear())
+                .datestamp(request.getDatestamp())
+                .type(GameType.getValueFor(request.getType()))
+                .playerId(request.getPlayerId())
+                .teamId(request.getTeamId())
+                .build();
+
+        repository.streamAll(playerGame, row -> consumer.accept(new PlayerGameResponse(row)));
+    }
+}
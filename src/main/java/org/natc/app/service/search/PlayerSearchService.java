@@ -4,34 +4,35 @@ import org.natc.app.entity.domain.Player;
 import org.natc.app.entity.domain.PlayerId;
 import org.natc.app.entity.request.PlayerSearchRequest;
 import org.natc.app.entity.response.PlayerResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 @Service
 public class PlayerSearchService implements NATCSearchService<PlayerResponse, PlayerSearchRequest> {
 
+    private static final Sort KEYSET = Sort.by("playerId", "year");
+
     private final JpaRepository<Player, PlayerId> repository;
+    private final KeysetPaginator keysetPaginator;
 
     @Autowired
-    public PlayerSearchService(final JpaRepository<Player, PlayerId> repository) {
+    public PlayerSearchService(final JpaRepository<Player, PlayerId> repository, final KeysetPaginator keysetPaginator) {
         this.repository = repository;
+        this.keysetPaginator = keysetPaginator;
     }
 
     @Override
-    public List<PlayerResponse> fetchAll(final PlayerSearchRequest request) {
+    public SearchPage<PlayerResponse> fetchPage(final PlayerSearchRequest request, final String cursor, final Integer pageSize) throws InvalidCursorException {
         final Player player = Player.builder()
                 .playerId(request.getPlayerId())
                 .teamId(request.getTeamId())
                 .year(request.getYear())
                 .build();
 
-        final List<Player> playerList = repository.findAll(Example.of(player));
-
-        return playerList.stream().map(PlayerResponse::new).toList();
+        return keysetPaginator.fetchPage(repository, Example.of(player), KEYSET, cursor, pageSize, PlayerResponse::new);
     }
 }
@@ -5,26 +5,29 @@ import org.natc.app.entity.domain.PlayerStatsSummary;
 import org.natc.app.entity.domain.PlayerStatsSummaryId;
 import org.natc.app.entity.request.PlayerStatsSummarySearchRequest;
 import org.natc.app.entity.response.PlayerStatsSummaryResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 @Service
 public class PlayerStatsSummarySearchService implements NATCSearchService<PlayerStatsSummaryResponse, PlayerStatsSummarySearchRequest> {
 
+    private static final Sort KEYSET = Sort.by("year", "type", "playerId");
+
     private JpaRepository<PlayerStatsSummary, PlayerStatsSummaryId> repository;
+    private final KeysetPaginator keysetPaginator;
 
     @Autowired
-    public PlayerStatsSummarySearchService(final JpaRepository<PlayerStatsSummary, PlayerStatsSummaryId> repository) {
+    public PlayerStatsSummarySearchService(final JpaRepository<PlayerStatsSummary, PlayerStatsSummaryId> repository, final KeysetPaginator keysetPaginator) {
         this.repository = repository;
+        this.keysetPaginator = keysetPaginator;
     }
 
     @Override
-    public List<PlayerStatsSummaryResponse> fetchAll(final PlayerStatsSummarySearchRequest request) {
+    public SearchPage<PlayerStatsSummaryResponse> fetchPage(final PlayerStatsSummarySearchRequest request, final String cursor, final Integer pageSize) throws InvalidCursorException {
         final PlayerStatsSummary playerStatsSummary = PlayerStatsSummary.builder()
                 .year(request.getYear())
                 .type(GameType.getValueFor(request.getType()))
@@ -32,8 +35,6 @@ public class PlayerStatsSummarySearchService implements NATCSearchService<Player
                 .teamId(request.getTeamId())
                 .build();
 
-        final List<PlayerStatsSummary> playerStatsSummaryList = repository.findAll(Example.of(playerStatsSummary));
-
-        return playerStatsSummaryList.stream().map(PlayerStatsSummaryResponse::new).toList();
+        return keysetPaginator.fetchPage(repository, Example.of(playerStatsSummary), KEYSET, cursor, pageSize, PlayerStatsSummaryResponse::new);
     }
 }
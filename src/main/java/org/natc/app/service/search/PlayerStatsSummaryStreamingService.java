@@ -0,0 +1,34 @@
+package org.natc.app.service.search;
+
+import org.natc.app.entity.domain.GameType;
+import org.natc.app.entity.domain.PlayerStatsSummary;
+import org.natc.app.entity.request.PlayerStatsSummarySearchRequest;
+import org.natc.app.entity.response.PlayerStatsSummaryResponse;
+import org.natc.app.repository.PlayerStatsSummaryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Consumer;
+
+@Service
+public class PlayerStatsSummaryStreamingService implements NATCStreamingService<PlayerStatsSummaryResponse, PlayerStatsSummarySearchRequest> {
+
+    private final PlayerStatsSummaryRepository repository;
+
+    @Autowired
+    public PlayerStatsSummaryStreamingService(final PlayerStatsSummaryRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public void streamAll(final PlayerStatsSummarySearchRequest request, final Consumer<PlayerStatsSummaryResponse> consumer) {
+        final PlayerStatsSummary playerStatsSummary = PlayerStatsSummary.builder()
+                .year(request.getYear())
+                .type(GameType.getValueFor(request.getType()))
+                .playerId(request.getPlayerId())
+                .teamId(request.getTeamId())
+                .build();
+
+        repository.streamAll(playerStatsSummary, row -> consumer.accept(new PlayerStatsSummaryResponse(row)));
+    }
+}
@@ -4,32 +4,34 @@ import org.natc.app.entity.domain.Schedule;
 import org.natc.app.entity.domain.ScheduleId;
 import org.natc.app.entity.request.ScheduleSearchRequest;
 import org.natc.app.entity.response.ScheduleResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 @Service
 public class ScheduleSearchService implements NATCSearchService<ScheduleResponse, ScheduleSearchRequest> {
 
+    private static final Sort KEYSET = Sort.by("year", "sequence");
+
     private final JpaRepository<Schedule, ScheduleId> repository;
+    private final KeysetPaginator keysetPaginator;
 
     @Autowired
-    public ScheduleSearchService(final JpaRepository<Schedule, ScheduleId> repository) {
+    public ScheduleSearchService(final JpaRepository<Schedule, ScheduleId> repository, final KeysetPaginator keysetPaginator) {
         this.repository = repository;
+        this.keysetPaginator = keysetPaginator;
     }
 
-    public List<ScheduleResponse> fetchAll(final ScheduleSearchRequest request) {
+    @Override
+    public SearchPage<ScheduleResponse> fetchPage(final ScheduleSearchRequest request, final String cursor, final Integer pageSize) throws InvalidCursorException {
         final Schedule schedule = Schedule.builder()
                 .year(request.getYear())
                 .sequence(request.getSequence())
                 .build();
 
-        final List<Schedule> scheduleList = repository.findAll(Example.of(schedule));
-
-        return scheduleList.stream().map(ScheduleResponse::new).toList();
+        return keysetPaginator.fetchPage(repository, Example.of(schedule), KEYSET, cursor, pageSize, ScheduleResponse::new);
     }
 }
@@ -0,0 +1,78 @@
+package org.natc.app.service.search;
+
+import org.natc.app.entity.domain.Schedule;
+import org.natc.app.entity.domain.ScheduleStatus;
+import org.natc.app.entity.domain.ScheduleType;
+import org.natc.app.entity.request.SeasonSearchRequest;
+import org.natc.app.manager.ScheduleEntryProcessedEvent;
+import org.natc.app.repository.ScheduleRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.CacheOperationInvocationContext;
+import org.springframework.cache.interceptor.CacheResolver;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+public class SearchCacheResolver implements CacheResolver {
+    public static final String COMPLETED_SEASONS_CACHE = "search-completed-seasons";
+    public static final String CURRENT_SEASON_CACHE = "search-current-season";
+
+    private final CacheManager cacheManager;
+    private final ScheduleRepository scheduleRepository;
+
+    private volatile Set<String> completedSeasons;
+
+    public SearchCacheResolver(final CacheManager cacheManager, final ScheduleRepository scheduleRepository) {
+        this.cacheManager = cacheManager;
+        this.scheduleRepository = scheduleRepository;
+    }
+
+    // only a search narrowed to a completed season can be kept until evicted, anything else may still change
+    @Override
+    public Collection<? extends Cache> resolveCaches(final CacheOperationInvocationContext<?> context) {
+        final Object request = context.getArgs()[0];
+
+        if (request instanceof SeasonSearchRequest seasonRequest && isCompletedSeason(seasonRequest.getYear())) {
+            return Collections.singletonList(cacheManager.getCache(COMPLETED_SEASONS_CACHE));
+        }
+
+        return Collections.singletonList(cacheManager.getCache(CURRENT_SEASON_CACHE));
+    }
+
+    // runs after commit so a search in between cannot cache the data that is being replaced
+    @TransactionalEventListener(fallbackExecution = true)
+    public void scheduleEntryProcessed(final ScheduleEntryProcessedEvent event) {
+        final Schedule schedule = event.getSchedule();
+
+        if (ScheduleType.END_OF_SEASON.getValue().equals(schedule.getType()) && ScheduleStatus.COMPLETED.getValue().equals(schedule.getStatus())) {
+            getCompletedSeasons().add(schedule.getYear());
+        }
+
+        cacheManager.getCache(CURRENT_SEASON_CACHE).clear();
+    }
+
+    private boolean isCompletedSeason(final String year) {
+        return Objects.nonNull(year) && getCompletedSeasons().contains(year);
+    }
+
+    private Set<String> getCompletedSeasons() {
+        if (Objects.isNull(completedSeasons)) {
+            synchronized (this) {
+                if (Objects.isNull(completedSeasons)) {
+                    completedSeasons = scheduleRepository.findByTypeAndStatus(ScheduleType.END_OF_SEASON.getValue(), ScheduleStatus.COMPLETED.getValue())
+                            .stream()
+                            .map(Schedule::getYear)
+                            .collect(Collectors.toCollection(ConcurrentHashMap::newKeySet));
+                }
+            }
+        }
+
+        return completedSeasons;
+    }
+}
@@ -0,0 +1,77 @@
+package org.natc.app.service.search;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.natc.app.exception.InvalidCursorException;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.ClassUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// a cursor is the key of the last row returned, as url safe base64 json, so keys keep their integer or string types
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SearchCursor {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<LinkedHashMap<String, Object>> KEYS_TYPE = new TypeReference<>() {};
+
+    public static String encode(final ScrollPosition position) {
+        if (!(position instanceof KeysetScrollPosition keyset)) {
+            throw new IllegalArgumentException("Only keyset positions can be encoded as a cursor");
+        }
+
+        try {
+            final byte[] json = OBJECT_MAPPER.writeValueAsBytes(keyset.getKeys());
+
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        }
+        catch (final JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static KeysetScrollPosition decode(final String cursor, final Class<?> type, final Sort keyset) throws InvalidCursorException {
+        if (Objects.isNull(cursor) || cursor.isBlank()) return ScrollPosition.keyset();
+
+        final Map<String, Object> keys;
+
+        try {
+            keys = OBJECT_MAPPER.readValue(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8), KEYS_TYPE);
+        }
+        catch (final IllegalArgumentException | JsonProcessingException e) {
+            throw new InvalidCursorException("Cursor could not be decoded", e);
+        }
+
+        if (Objects.isNull(keys) || keys.isEmpty()) throw new InvalidCursorException("Cursor has no keys");
+
+        validateKeys(keys, type, keyset);
+
+        return ScrollPosition.forward(keys);
+    }
+
+    // a cursor from another search, or one that has been tampered with, must not reach the query as a keyset
+    private static void validateKeys(final Map<String, Object> keys, final Class<?> type, final Sort keyset) throws InvalidCursorException {
+        final Set<String> properties = keyset.stream().map(Sort.Order::getProperty).collect(Collectors.toSet());
+
+        if (!properties.equals(keys.keySet())) throw new InvalidCursorException("Cursor keys do not match the search");
+
+        for (final Map.Entry<String, Object> key : keys.entrySet()) {
+            final Class<?> propertyType = BeanUtils.findPropertyType(key.getKey(), type);
+
+            if (Objects.isNull(key.getValue()) || !ClassUtils.isAssignableValue(propertyType, key.getValue())) {
+                throw new InvalidCursorException("Cursor key " + key.getKey() + " is not a valid " + propertyType.getSimpleName());
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package org.natc.app.service.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class SearchPage<T> {
+    private List<T> resources;
+    private String nextCursor;
+}
@@ -5,34 +5,35 @@ import org.natc.app.entity.domain.TeamDefenseSummary;
 import org.natc.app.entity.domain.TeamDefenseSummaryId;
 import org.natc.app.entity.request.TeamDefenseSummarySearchRequest;
 import org.natc.app.entity.response.TeamDefenseSummaryResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 @Service
 public class TeamDefenseSummarySearchService implements NATCSearchService<TeamDefenseSummaryResponse, TeamDefenseSummarySearchRequest> {
 
+    private static final Sort KEYSET = Sort.by("year", "type", "teamId");
+
     private final JpaRepository<TeamDefenseSummary, TeamDefenseSummaryId> repository;
+    private final KeysetPaginator keysetPaginator;
 
     @Autowired
-    public TeamDefenseSummarySearchService(final JpaRepository<TeamDefenseSummary, TeamDefenseSummaryId> repository) {
+    public TeamDefenseSummarySearchService(final JpaRepository<TeamDefenseSummary, TeamDefenseSummaryId> repository, final KeysetPaginator keysetPaginator) {
         this.repository = repository;
+        this.keysetPaginator = keysetPaginator;
     }
 
     @Override
-    public List<TeamDefenseSummaryResponse> fetchAll(final TeamDefenseSummarySearchRequest request) {
+    public SearchPage<TeamDefenseSummaryResponse> fetchPage(final TeamDefenseSummarySearchRequest request, final String cursor, final Integer pageSize) throws InvalidCursorException {
         final TeamDefenseSummary teamDefenseSummary = TeamDefenseSummary.builder()
                 .year(request.getYear())
                 .type(GameType.getValueFor(request.getType()))
                 .teamId(request.getTeamId())
                 .build();
 
-        final List<TeamDefenseSummary> teamDefenseSummaryList = repository.findAll(Example.of(teamDefenseSummary));
-
-        return teamDefenseSummaryList.stream().map(TeamDefenseSummaryResponse::new).toList();
+        return keysetPaginator.fetchPage(repository, Example.of(teamDefenseSummary), KEYSET, cursor, pageSize, TeamDefenseSummaryResponse::new);
     }
 }
@@ -5,26 +5,29 @@ import org.natc.app.entity.domain.TeamGame;
 import org.natc.app.entity.domain.TeamGameId;
 import org.natc.app.entity.request.TeamGameSearchRequest;
 import org.natc.app.entity.response.TeamGameResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 @Service
 public class TeamGameSearchService implements NATCSearchService<TeamGameResponse, TeamGameSearchRequest> {
 
+    private static final Sort KEYSET = Sort.by("gameId", "teamId");
+
     private final JpaRepository<TeamGame, TeamGameId> repository;
+    private final KeysetPaginator keysetPaginator;
 
     @Autowired
-    public TeamGameSearchService(final JpaRepository<TeamGame, TeamGameId> repository) {
+    public TeamGameSearchService(final JpaRepository<TeamGame, TeamGameId> repository, final KeysetPaginator keysetPaginator) {
         this.repository = repository;
+        this.keysetPaginator = keysetPaginator;
     }
 
     @Override
-    public List<TeamGameResponse> fetchAll(final TeamGameSearchRequest request) {
+    public SearchPage<TeamGameResponse> fetchPage(final TeamGameSearchRequest request, final String cursor, final Integer pageSize) throws InvalidCursorException {
         final TeamGame teamGame = TeamGame.builder()
                 .gameId(request.getGameId())
                 .year(request.getYear())
@@ -34,8 +37,6 @@ public class TeamGameSearchService implements NATCSearchService<TeamGameResponse
                 .opponent(request.getOpponent())
                 .build();
 
-        final List<TeamGame> teamGameList = repository.findAll(Example.of(teamGame));
-
-        return teamGameList.stream().map(TeamGameResponse::new).toList();
+        return keysetPaginator.fetchPage(repository, Example.of(teamGame), KEYSET, cursor, pageSize, TeamGameResponse::new);
     }
 }
@@ -0,0 +1,36 @@
+package org.natc.app.service.search;
+
+import org.natc.app.entity.domain.GameType;
+import org.natc.app.entity.domain.TeamGame;
+import org.natc.app.entity.request.TeamGameSearchRequest;
+import org.natc.app.entity.response.TeamGameResponse;
+import org.natc.app.repository.TeamGameRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Consumer;
+
+@Service
+public class TeamGameStreamingService implements NATCStreamingService<TeamGameResponse, TeamGameSearchRequest> {
+
+    private final TeamGameRepository repository;
+
+    @Autowired
+    public TeamGameStreamingService(final TeamGameRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public void streamAll(final TeamGameSearchRequest request, final Consumer<TeamGameResponse> consumer) {
+        final TeamGame teamGame = TeamGame.builder()
+                .gameId(request.getGameId())
+                .year(request.getYear())
+                .datestamp(request.getDatestamp())
+                .type(GameType.getValueFor(request.getType()))
+                .teamId(request.getTeamId())
+                .opponent(request.getOpponent())
+                .build();
+
+        repository.streamAll(teamGame, row -> consumer.accept(new TeamGameResponse(row)));
+    }
+}
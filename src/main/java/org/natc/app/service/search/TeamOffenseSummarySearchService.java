@@ -5,34 +5,35 @@ import org.natc.app.entity.domain.TeamOffenseSummary;
 import org.natc.app.entity.domain.TeamOffenseSummaryId;
 import org.natc.app.entity.request.TeamOffenseSummarySearchRequest;
 import org.natc.app.entity.response.TeamOffenseSummaryResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 @Service
 public class TeamOffenseSummarySearchService implements NATCSearchService<TeamOffenseSummaryResponse, TeamOffenseSummarySearchRequest> {
 
+    private static final Sort KEYSET = Sort.by("year", "type", "teamId");
+
     private final JpaRepository<TeamOffenseSummary, TeamOffenseSummaryId> repository;
+    private final KeysetPaginator keysetPaginator;
 
     @Autowired
-    public TeamOffenseSummarySearchService(final JpaRepository<TeamOffenseSummary, TeamOffenseSummaryId> repository) {
+    public TeamOffenseSummarySearchService(final JpaRepository<TeamOffenseSummary, TeamOffenseSummaryId> repository, final KeysetPaginator keysetPaginator) {
         this.repository = repository;
+        this.keysetPaginator = keysetPaginator;
     }
 
     @Override
-    public List<TeamOffenseSummaryResponse> fetchAll(final TeamOffenseSummarySearchRequest request) {
+    public SearchPage<TeamOffenseSummaryResponse> fetchPage(final TeamOffenseSummarySearchRequest request, final String cursor, final Integer pageSize) throws InvalidCursorException {
         final TeamOffenseSummary teamOffenseSummary = TeamOffenseSummary.builder()
                 .year(request.getYear())
                 .type(GameType.getValueFor(request.getType()))
                 .teamId(request.getTeamId())
                 .build();
 
-        final List<TeamOffenseSummary> teamOffenseSummaryList = repository.findAll(Example.of(teamOffenseSummary));
-
-        return teamOffenseSummaryList.stream().map(TeamOffenseSummaryResponse::new).toList();
+        return keysetPaginator.fetchPage(repository, Example.of(teamOffenseSummary), KEYSET, cursor, pageSize, TeamOffenseSummaryResponse::new);
     }
 }
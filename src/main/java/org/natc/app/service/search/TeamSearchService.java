@@ -4,29 +4,33 @@ import org.natc.app.entity.domain.Team;
 import org.natc.app.entity.domain.TeamId;
 import org.natc.app.entity.request.TeamSearchRequest;
 import org.natc.app.entity.response.TeamResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 import static java.lang.Boolean.TRUE;
 
 @Service
 public class TeamSearchService implements NATCSearchService<TeamResponse, TeamSearchRequest> {
 
+    private static final Sort KEYSET = Sort.by("teamId", "year");
+
     private final JpaRepository<Team, TeamId> repository;
+    private final KeysetPaginator keysetPaginator;
 
     @Autowired
-    public TeamSearchService(final JpaRepository<Team, TeamId> repository) {
+    public TeamSearchService(final JpaRepository<Team, TeamId> repository, final KeysetPaginator keysetPaginator) {
         this.repository = repository;
+        this.keysetPaginator = keysetPaginator;
     }
 
     @Override
-    public List<TeamResponse> fetchAll(final TeamSearchRequest request) {
+    public SearchPage<TeamResponse> fetchPage(final TeamSearchRequest request, final String cursor, final Integer pageSize) throws InvalidCursorException {
         final Team team = Team.builder()
                 .teamId(request.getTeamId())
                 .year(request.getYear())
@@ -35,9 +39,7 @@ public class TeamSearchService implements NATCSearchService<TeamResponse, TeamSe
                 .allstarTeam(mapAllstarTeamValue(request.getAllstarTeam()))
                 .build();
 
-        final List<Team> teamList = repository.findAll(Example.of(team));
-
-        return teamList.stream().map(TeamResponse::new).toList();
+        return keysetPaginator.fetchPage(repository, Example.of(team), KEYSET, cursor, pageSize, TeamResponse::new);
     }
 
     private Integer mapAllstarTeamValue(final Boolean allstarTeam) {
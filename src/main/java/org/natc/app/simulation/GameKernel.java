@@ -0,0 +1,533 @@
+package org.natc.app.simulation;
+
+import org.natc.app.entity.domain.Player;
+import org.natc.app.entity.domain.PlayerGame;
+import org.natc.app.entity.domain.PlayerRating;
+import org.natc.app.entity.domain.TeamGame;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+import static org.natc.app.entity.domain.Player.FATIGUE_TIRED_POINT;
+import static org.natc.app.entity.domain.Player.MAX_FACTOR;
+import static org.natc.app.entity.domain.Player.MIN_FACTOR;
+import static org.natc.app.entity.domain.Player.MIN_RATING;
+
+// Reusable, single threaded game engine. Ratings are packed into one double[] and the box score into one int[],
+// both indexed by (side, roster position), so once a game is loaded the possession loop allocates nothing.
+public class GameKernel {
+    public static final int HOME = 0;
+    public static final int ROAD = 1;
+
+    public static final int PERIODS = 5;
+    public static final int SECONDS_PER_PERIOD = 600;
+    public static final int LINEUP_SIZE = 5;
+    public static final int MIN_POSSESSION_SECONDS = 8;
+    public static final int MAX_POSSESSION_SECONDS = 30;
+    public static final int MAX_OVERTIME_POSSESSIONS = 20;
+    public static final int MAX_SHOOTOUT_ROUNDS = 25;
+    public static final double FATIGUE_SECONDS = 900.0;
+    public static final double RECOVERY_RATE = 2.0;
+    public static final double DEFENSIVE_PENALTY_CHANCE = 0.06;
+    public static final double OFFENSIVE_PENALTY_CHANCE = 0.02;
+    public static final double BASE_TURNOVER_CHANCE = 0.12;
+    public static final double STEAL_CHANCE = 0.6;
+    public static final double BASE_GOAL_CHANCE = 0.3;
+    public static final double BASE_PENALTY_SHOT_CHANCE = 0.5;
+    public static final double ASSIST_CHANCE = 0.6;
+
+    static final int OFFENSE = 0;
+    static final int DEFENSE = 1;
+    static final int PENALTY = 2;
+    static final int PERFORMANCE = 3;
+    static final int ENDURANCE = 4;
+    static final int RATING_STRIDE = 5;
+
+    static final int STARTED = 0;
+    static final int PLAYING_TIME = 1;
+    static final int ATTEMPTS = 2;
+    static final int GOALS = 3;
+    static final int ASSISTS = 4;
+    static final int TURNOVERS = 5;
+    static final int STOPS = 6;
+    static final int STEALS = 7;
+    static final int PENALTIES = 8;
+    static final int OFFENSIVE_PENALTIES = 9;
+    static final int PENALTY_SHOTS_ATTEMPTED = 10;
+    static final int PENALTY_SHOTS_MADE = 11;
+    static final int OVERTIME_PENALTY_SHOTS_ATTEMPTED = 12;
+    static final int OVERTIME_PENALTY_SHOTS_MADE = 13;
+    static final int STAT_STRIDE = 14;
+
+    private static final int OVERTIME = PERIODS;
+    private static final int SCORE_STRIDE = PERIODS + 1;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int capacity;
+    private Player[] players;
+    private double[] ratings;
+    private double[] fatigue;
+    private int[] box;
+    private int[] shootoutOrder;
+    private boolean[] onCourt;
+
+    private final int[] lineup = new int[2 * LINEUP_SIZE];
+    private final int[] lineupSize = new int[2];
+    private final int[] rosterSize = new int[2];
+    private final int[] periodScores = new int[2 * SCORE_STRIDE];
+    private final int[] possessions = new int[2];
+    private final int[] possessionTime = new int[2];
+    private int sequence;
+    private boolean overtime;
+
+    public GameKernel() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    public void load(final List<Player> homePlayers, final List<Player> roadPlayers) {
+        final int largestRoster = Math.max(homePlayers.size(), roadPlayers.size());
+
+        if (largestRoster > capacity) {
+            allocate(Math.max(largestRoster, capacity * 2));
+        }
+
+        Arrays.fill(box, 0);
+        Arrays.fill(periodScores, 0);
+        Arrays.fill(possessions, 0);
+        Arrays.fill(possessionTime, 0);
+        sequence = 0;
+        overtime = false;
+
+        loadSide(HOME, homePlayers);
+        loadSide(ROAD, roadPlayers);
+    }
+
+    public void play(final SplittableRandom random) {
+        final int first = random.nextBoolean() ? HOME : ROAD;
+
+        for (int period = 0; period < PERIODS; ++period) {
+            int offense = period % 2 == 0 ? first : 1 - first;
+            int remaining = SECONDS_PER_PERIOD;
+
+            while (remaining > 0) {
+                remaining -= playPossession(offense, period, remaining, random);
+                offense = 1 - offense;
+            }
+        }
+
+        if (getScore(HOME) == getScore(ROAD)) {
+            overtime = true;
+            int offense = 1 - first;
+
+            for (int possession = 0; possession < MAX_OVERTIME_POSSESSIONS && getScore(HOME) == getScore(ROAD); ++possession) {
+                playPossession(offense, OVERTIME, MAX_POSSESSION_SECONDS, random);
+                offense = 1 - offense;
+            }
+
+            if (getScore(HOME) == getScore(ROAD)) {
+                playShootout(random);
+            }
+        }
+    }
+
+    public int getSequence() {
+        return sequence;
+    }
+
+    public boolean isOvertime() {
+        return overtime;
+    }
+
+    public int getScore(final int side) {
+        int score = 0;
+
+        for (int period = 0; period < SCORE_STRIDE; ++period) {
+            score += periodScores[side * SCORE_STRIDE + period];
+        }
+
+        return score;
+    }
+
+    public TeamGame toTeamGame(final GameSetup setup, final int side) {
+        final int opponent = 1 - side;
+
+        return TeamGame.builder()
+                .gameId(setup.getGameId())
+                .year(setup.getYear())
+                .datestamp(setup.getDatestamp())
+                .type(setup.getGameType().getValue())
+                .playoffRound(0)
+                .teamId(side == HOME ? setup.getHomeTeamId() : setup.getRoadTeamId())
+                .opponent(side == HOME ? setup.getRoadTeamId() : setup.getHomeTeamId())
+                .road(side == ROAD ? 1 : 0)
+                .overtime(overtime ? 1 : 0)
+                .win(getScore(side) > getScore(opponent) ? 1 : 0)
+                .possessions(possessions[side])
+                .possessionTime(possessionTime[side])
+                .attempts(sumStat(side, ATTEMPTS))
+                .goals(sumStat(side, GOALS))
+                .turnovers(sumStat(side, TURNOVERS))
+                .steals(sumStat(side, STEALS))
+                .penalties(sumStat(side, PENALTIES))
+                .offensivePenalties(sumStat(side, OFFENSIVE_PENALTIES))
+                .penaltyShotsAttempted(sumStat(side, PENALTY_SHOTS_ATTEMPTED))
+                .penaltyShotsMade(sumStat(side, PENALTY_SHOTS_MADE))
+                .overtimePenaltyShotsAttempted(sumStat(side, OVERTIME_PENALTY_SHOTS_ATTEMPTED))
+                .overtimePenaltyShotsMade(sumStat(side, OVERTIME_PENALTY_SHOTS_MADE))
+                .period1Score(periodScores[side * SCORE_STRIDE])
+                .period2Score(periodScores[side * SCORE_STRIDE + 1])
+                .period3Score(periodScores[side * SCORE_STRIDE + 2])
+                .period4Score(periodScores[side * SCORE_STRIDE + 3])
+                .period5Score(periodScores[side * SCORE_STRIDE + 4])
+                .overtimeScore(periodScores[side * SCORE_STRIDE + OVERTIME])
+                .totalScore(getScore(side))
+                .build();
+    }
+
+    public void addPlayerGames(final GameSetup setup, final int side, final List<PlayerGame> playerGames) {
+        final Integer teamId = side == HOME ? setup.getHomeTeamId() : setup.getRoadTeamId();
+
+        for (int player = 0; player < rosterSize[side]; ++player) {
+            final int goals = stat(side, player, GOALS);
+            final int assists = stat(side, player, ASSISTS);
+
+            playerGames.add(PlayerGame.builder()
+                    .gameId(setup.getGameId())
+                    .year(setup.getYear())
+                    .datestamp(setup.getDatestamp())
+                    .type(setup.getGameType().getValue())
+                    .playerId(players[side * capacity + player].getPlayerId())
+                    .teamId(teamId)
+                    .injured(0)
+                    .started(stat(side, player, STARTED))
+                    .playingTime(stat(side, player, PLAYING_TIME))
+                    .attempts(stat(side, player, ATTEMPTS))
+                    .goals(goals)
+                    .assists(assists)
+                    .turnovers(stat(side, player, TURNOVERS))
+                    .stops(stat(side, player, STOPS))
+                    .steals(stat(side, player, STEALS))
+                    .penalties(stat(side, player, PENALTIES))
+                    .offensivePenalties(stat(side, player, OFFENSIVE_PENALTIES))
+                    .penaltyShotsAttempted(stat(side, player, PENALTY_SHOTS_ATTEMPTED))
+                    .penaltyShotsMade(stat(side, player, PENALTY_SHOTS_MADE))
+                    .overtimePenaltyShotsAttempted(stat(side, player, OVERTIME_PENALTY_SHOTS_ATTEMPTED))
+                    .overtimePenaltyShotsMade(stat(side, player, OVERTIME_PENALTY_SHOTS_MADE))
+                    .offense(goals + assists + stat(side, player, STEALS) - stat(side, player, TURNOVERS))
+                    .points(goals + assists)
+                    .build());
+        }
+    }
+
+    private void allocate(final int newCapacity) {
+        capacity = newCapacity;
+        players = new Player[2 * capacity];
+        ratings = new double[2 * capacity * RATING_STRIDE];
+        fatigue = new double[2 * capacity];
+        box = new int[2 * capacity * STAT_STRIDE];
+        shootoutOrder = new int[2 * capacity];
+        onCourt = new boolean[2 * capacity];
+    }
+
+    private void loadSide(final int side, final List<Player> roster) {
+        final int base = side * capacity;
+        final int size = roster.size();
+
+        // best players first, ties keep player id order so the result does not depend on how the roster was loaded
+        for (int i = 0; i < size; ++i) {
+            final Player player = roster.get(i);
+            final double performance = player.getAdjustedRating(PlayerRating.PERFORMANCE, true, true, false);
+            int position = i;
+
+            while (position > 0 && ranksAhead(player, performance, players[base + position - 1])) {
+                players[base + position] = players[base + position - 1];
+                --position;
+            }
+
+            players[base + position] = player;
+        }
+
+        Arrays.fill(players, base + size, base + capacity, null);
+
+        for (int position = 0; position < size; ++position) {
+            final Player player = players[base + position];
+            final int offset = (base + position) * RATING_STRIDE;
+
+            ratings[offset + OFFENSE] = player.getAdjustedRating(PlayerRating.OFFENSIVE, true, true, false);
+            ratings[offset + DEFENSE] = player.getAdjustedRating(PlayerRating.DEFENSIVE, true, true, false);
+            ratings[offset + PENALTY] = player.getAdjustedRating(PlayerRating.PENALTY, true, true, false);
+            ratings[offset + PERFORMANCE] = player.getAdjustedRating(PlayerRating.PERFORMANCE, true, true, false);
+            ratings[offset + ENDURANCE] = Objects.isNull(player.getEndurance()) ? MIN_RATING : player.getEndurance();
+            fatigue[base + position] = Objects.isNull(player.getFatigue()) ? 0.0 : player.getFatigue();
+
+            int order = position;
+
+            while (order > 0 && ratings[offset + PENALTY] > ratings[(base + shootoutOrder[base + order - 1]) * RATING_STRIDE + PENALTY]) {
+                shootoutOrder[base + order] = shootoutOrder[base + order - 1];
+                --order;
+            }
+
+            shootoutOrder[base + order] = position;
+        }
+
+        rosterSize[side] = size;
+        lineupSize[side] = 0;
+    }
+
+    private static boolean ranksAhead(final Player player, final double performance, final Player other) {
+        final double otherPerformance = other.getAdjustedRating(PlayerRating.PERFORMANCE, true, true, false);
+
+        if (performance != otherPerformance) return performance > otherPerformance;
+
+        return player.getPlayerId() < other.getPlayerId();
+    }
+
+    private int playPossession(final int offense, final int period, final int remaining, final SplittableRandom random) {
+        final int defense = 1 - offense;
+
+        pickLineup(offense);
+        pickLineup(defense);
+
+        if (sequence == 0) {
+            markStarters(offense);
+            markStarters(defense);
+        }
+
+        sequence++;
+
+        final int duration = Math.min(remaining, MIN_POSSESSION_SECONDS + random.nextInt(MAX_POSSESSION_SECONDS - MIN_POSSESSION_SECONDS + 1));
+
+        possessions[offense]++;
+        possessionTime[offense] += duration;
+
+        if (random.nextDouble() < DEFENSIVE_PENALTY_CHANCE * (2.0 - lineupAverage(defense, PENALTY))) {
+            playPenaltyShot(offense, defense, period, random);
+        }
+        else if (random.nextDouble() < OFFENSIVE_PENALTY_CHANCE) {
+            final int fouler = randomInLineup(offense, random);
+
+            box[boxIndex(offense, fouler, PENALTIES)]++;
+            box[boxIndex(offense, fouler, OFFENSIVE_PENALTIES)]++;
+            box[boxIndex(offense, fouler, TURNOVERS)]++;
+        }
+        else {
+            playFromTheField(offense, defense, period, random);
+        }
+
+        addPlayingTime(offense, duration);
+        addPlayingTime(defense, duration);
+
+        return duration;
+    }
+
+    private void playPenaltyShot(final int offense, final int defense, final int period, final SplittableRandom random) {
+        final int fouler = randomInLineup(defense, random);
+        final int shooter = bestInLineup(offense, PENALTY);
+
+        box[boxIndex(defense, fouler, PENALTIES)]++;
+        box[boxIndex(offense, shooter, PENALTY_SHOTS_ATTEMPTED)]++;
+
+        if (random.nextDouble() < clamp(BASE_PENALTY_SHOT_CHANCE + (effectiveRating(offense, shooter, PENALTY) - lineupAverage(defense, PENALTY)) * 0.3)) {
+            box[boxIndex(offense, shooter, PENALTY_SHOTS_MADE)]++;
+            box[boxIndex(offense, shooter, GOALS)]++;
+            periodScores[offense * SCORE_STRIDE + period]++;
+        }
+    }
+
+    private void playFromTheField(final int offense, final int defense, final int period, final SplittableRandom random) {
+        final double offenseRating = lineupAverage(offense, OFFENSE);
+        final double defenseRating = lineupAverage(defense, DEFENSE);
+        final int ballHandler = weightedPick(offense, OFFENSE, random);
+
+        if (random.nextDouble() < clamp(BASE_TURNOVER_CHANCE + (defenseRating - offenseRating) * 0.1)) {
+            box[boxIndex(offense, ballHandler, TURNOVERS)]++;
+
+            if (random.nextDouble() < STEAL_CHANCE) {
+                box[boxIndex(defense, weightedPick(defense, DEFENSE, random), STEALS)]++;
+            }
+
+            return;
+        }
+
+        box[boxIndex(offense, ballHandler, ATTEMPTS)]++;
+
+        if (random.nextDouble() < clamp(BASE_GOAL_CHANCE + (effectiveRating(offense, ballHandler, OFFENSE) - defenseRating) * 0.25)) {
+            box[boxIndex(offense, ballHandler, GOALS)]++;
+            periodScores[offense * SCORE_STRIDE + period]++;
+
+            if (lineupSize[offense] > 1 && random.nextDouble() < ASSIST_CHANCE) {
+                int assist = randomInLineup(offense, random);
+
+                while (assist == ballHandler) {
+                    assist = randomInLineup(offense, random);
+                }
+
+                box[boxIndex(offense, assist, ASSISTS)]++;
+            }
+        }
+        else {
+            box[boxIndex(defense, weightedPick(defense, DEFENSE, random), STOPS)]++;
+        }
+    }
+
+    private void playShootout(final SplittableRandom random) {
+        for (int round = 0; round < MAX_SHOOTOUT_ROUNDS; ++round) {
+            final boolean homeScored = shootoutAttempt(HOME, round, random);
+            final boolean roadScored = shootoutAttempt(ROAD, round, random);
+
+            if (homeScored != roadScored) {
+                periodScores[(homeScored ? HOME : ROAD) * SCORE_STRIDE + OVERTIME]++;
+                return;
+            }
+        }
+
+        periodScores[(random.nextBoolean() ? HOME : ROAD) * SCORE_STRIDE + OVERTIME]++;
+    }
+
+    private boolean shootoutAttempt(final int side, final int round, final SplittableRandom random) {
+        final int opponent = 1 - side;
+        final int shooter = shootoutOrder[side * capacity + round % rosterSize[side]];
+        final double opponentRating = effectiveRating(opponent, shootoutOrder[opponent * capacity], PENALTY);
+
+        box[boxIndex(side, shooter, OVERTIME_PENALTY_SHOTS_ATTEMPTED)]++;
+
+        if (random.nextDouble() < clamp(BASE_PENALTY_SHOT_CHANCE + (effectiveRating(side, shooter, PENALTY) - opponentRating) * 0.3)) {
+            box[boxIndex(side, shooter, OVERTIME_PENALTY_SHOTS_MADE)]++;
+            return true;
+        }
+
+        return false;
+    }
+
+    // the freshest of the best players are on the court, tired starters give way to the bench until they recover
+    private void pickLineup(final int side) {
+        final int base = side * capacity;
+        final int size = Math.min(LINEUP_SIZE, rosterSize[side]);
+
+        Arrays.fill(onCourt, base, base + rosterSize[side], false);
+
+        for (int slot = 0; slot < size; ++slot) {
+            int best = -1;
+            double bestRating = 0.0;
+
+            for (int player = 0; player < rosterSize[side]; ++player) {
+                if (onCourt[base + player]) continue;
+
+                final double rating = effectiveRating(side, player, PERFORMANCE);
+
+                if (best < 0 || rating > bestRating) {
+                    best = player;
+                    bestRating = rating;
+                }
+            }
+
+            lineup[side * LINEUP_SIZE + slot] = best;
+            onCourt[base + best] = true;
+        }
+
+        lineupSize[side] = size;
+    }
+
+    private void markStarters(final int side) {
+        for (int slot = 0; slot < lineupSize[side]; ++slot) {
+            box[boxIndex(side, lineup[side * LINEUP_SIZE + slot], STARTED)] = 1;
+        }
+    }
+
+    private void addPlayingTime(final int side, final int seconds) {
+        final int base = side * capacity;
+
+        for (int player = 0; player < rosterSize[side]; ++player) {
+            if (onCourt[base + player]) {
+                box[boxIndex(side, player, PLAYING_TIME)] += seconds;
+                fatigue[base + player] += seconds / (FATIGUE_SECONDS * (0.5 + ratings[(base + player) * RATING_STRIDE + ENDURANCE]));
+            }
+            else {
+                fatigue[base + player] = Math.max(0.0, fatigue[base + player] - (seconds * RECOVERY_RATE / FATIGUE_SECONDS));
+            }
+        }
+    }
+
+    private double effectiveRating(final int side, final int player, final int rating) {
+        return ratings[(side * capacity + player) * RATING_STRIDE + rating] * fatigueFactor(fatigue[side * capacity + player]);
+    }
+
+    // same curve as Player.getFatigueFactor, kept on primitives so it can run every possession
+    private static double fatigueFactor(final double fatigue) {
+        if (fatigue <= FATIGUE_TIRED_POINT) return MAX_FACTOR;
+
+        return Math.max(MIN_FACTOR, MAX_FACTOR - (fatigue - FATIGUE_TIRED_POINT));
+    }
+
+    private double lineupAverage(final int side, final int rating) {
+        if (lineupSize[side] == 0) return 0.0;
+
+        double total = 0.0;
+
+        for (int slot = 0; slot < lineupSize[side]; ++slot) {
+            total += effectiveRating(side, lineup[side * LINEUP_SIZE + slot], rating);
+        }
+
+        return total / lineupSize[side];
+    }
+
+    private int bestInLineup(final int side, final int rating) {
+        int best = lineup[side * LINEUP_SIZE];
+
+        for (int slot = 1; slot < lineupSize[side]; ++slot) {
+            final int player = lineup[side * LINEUP_SIZE + slot];
+
+            if (effectiveRating(side, player, rating) > effectiveRating(side, best, rating)) best = player;
+        }
+
+        return best;
+    }
+
+    private int randomInLineup(final int side, final SplittableRandom random) {
+        return lineup[side * LINEUP_SIZE + random.nextInt(lineupSize[side])];
+    }
+
+    private int weightedPick(final int side, final int rating, final SplittableRandom random) {
+        double total = 0.0;
+
+        for (int slot = 0; slot < lineupSize[side]; ++slot) {
+            total += effectiveRating(side, lineup[side * LINEUP_SIZE + slot], rating);
+        }
+
+        if (total <= 0.0) return randomInLineup(side, random);
+
+        double target = random.nextDouble() * total;
+
+        for (int slot = 0; slot < lineupSize[side] - 1; ++slot) {
+            target -= effectiveRating(side, lineup[side * LINEUP_SIZE + slot], rating);
+
+            if (target < 0.0) return lineup[side * LINEUP_SIZE + slot];
+        }
+
+        return lineup[side * LINEUP_SIZE + lineupSize[side] - 1];
+    }
+
+    private int boxIndex(final int side, final int player, final int stat) {
+        return (side * capacity + player) * STAT_STRIDE + stat;
+    }
+
+    private int stat(final int side, final int player, final int stat) {
+        return box[boxIndex(side, player, stat)];
+    }
+
+    private int sumStat(final int side, final int stat) {
+        int total = 0;
+
+        for (int player = 0; player < rosterSize[side]; ++player) {
+            total += stat(side, player, stat);
+        }
+
+        return total;
+    }
+
+    private static double clamp(final double chance) {
+        return Math.max(0.02, Math.min(0.9, chance));
+    }
+}
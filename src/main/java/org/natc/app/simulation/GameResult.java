@@ -0,0 +1,17 @@
+package org.natc.app.simulation;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.natc.app.entity.domain.GameState;
+import org.natc.app.entity.domain.PlayerGame;
+import org.natc.app.entity.domain.TeamGame;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class GameResult {
+    private final List<TeamGame> teamGames;
+    private final List<PlayerGame> playerGames;
+    private final GameState gameState;
+}
@@ -0,0 +1,22 @@
+package org.natc.app.simulation;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.natc.app.entity.domain.GameType;
+import org.natc.app.entity.domain.Player;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+public class GameSetup {
+    private final Integer gameId;
+    private final String year;
+    private final LocalDate datestamp;
+    private final GameType gameType;
+    private final Integer homeTeamId;
+    private final Integer roadTeamId;
+    private final List<Player> homePlayers;
+    private final List<Player> roadPlayers;
+}
@@ -0,0 +1,47 @@
+package org.natc.app.simulation;
+
+import org.natc.app.entity.domain.*;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.natc.app.simulation.GameKernel.HOME;
+import static org.natc.app.simulation.GameKernel.ROAD;
+
+@Component
+public class GameSimulator {
+    public static final String FINAL_EVENT = "FINAL";
+
+    // kernels are not thread safe, each worker keeps its own and reuses it for every game it plays
+    private final ThreadLocal<GameKernel> kernels = ThreadLocal.withInitial(GameKernel::new);
+
+    // every random draw comes from the given generator, so a game is fully determined by its setup and seed
+    public GameResult simulate(final GameSetup setup, final SplittableRandom random) {
+        final GameKernel kernel = kernels.get();
+
+        kernel.load(setup.getHomePlayers(), setup.getRoadPlayers());
+        kernel.play(random);
+
+        final List<TeamGame> teamGames = List.of(kernel.toTeamGame(setup, HOME), kernel.toTeamGame(setup, ROAD));
+        final List<PlayerGame> playerGames = new ArrayList<>(setup.getHomePlayers().size() + setup.getRoadPlayers().size());
+
+        kernel.addPlayerGames(setup, HOME, playerGames);
+        kernel.addPlayerGames(setup, ROAD, playerGames);
+
+        final GameState gameState = GameState.builder()
+                .gameId(setup.getGameId())
+                .started(1)
+                .sequence(kernel.getSequence())
+                .period(Period.getValueFor(Period.getByValue(GameKernel.PERIODS)))
+                .overtime(kernel.isOvertime() ? 1 : 0)
+                .timeRemaining(0)
+                .clockStopped(1)
+                .possession(PossessionType.NONE.getValue())
+                .lastEvent(FINAL_EVENT)
+                .build();
+
+        return new GameResult(teamGames, playerGames, gameState);
+    }
+}
@@ -260,4 +260,74 @@ class TeamComparatorIntegrationTest extends NATCServiceIntegrationTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class ForYear {
+
+        @Test
+        void shouldDetermineHeadToHeadResultsFromOnlyRegularSeasonWinsForTheGivenYear() {
+            final Team team1 = Team.builder().teamId(1).year("2000").division(1).games(100).playoffRank(0).wins(46).build();
+            final Team team2 = Team.builder().teamId(2).year("2000").division(2).games(100).playoffRank(0).wins(46).build();
+
+            teamGameRepository.saveAll(List.of(
+                    TeamGame.builder().gameId(1).year("2000").type(GameType.REGULAR_SEASON.getValue()).teamId(team1.getTeamId()).opponent(team2.getTeamId()).win(1).build(),
+                    TeamGame.builder().gameId(2).year("2000").type(GameType.REGULAR_SEASON.getValue()).teamId(team1.getTeamId()).opponent(team2.getTeamId()).win(1).build(),
+                    TeamGame.builder().gameId(3).year("2000").type(GameType.REGULAR_SEASON.getValue()).teamId(team1.getTeamId()).opponent(team2.getTeamId()).win(0).build(),
+                    TeamGame.builder().gameId(4).year("1999").type(GameType.REGULAR_SEASON.getValue()).teamId(team1.getTeamId()).opponent(team2.getTeamId()).win(1).build(),
+                    TeamGame.builder().gameId(5).year("2000").type(GameType.PRESEASON.getValue()).teamId(team1.getTeamId()).opponent(team2.getTeamId()).win(1).build(),
+                    TeamGame.builder().gameId(3).year("2000").type(GameType.REGULAR_SEASON.getValue()).teamId(team2.getTeamId()).opponent(team1.getTeamId()).win(1).build(),
+                    TeamGame.builder().gameId(6).year("2000").type(GameType.REGULAR_SEASON.getValue()).teamId(team1.getTeamId()).opponent(3).win(1).build()
+            ));
+
+            assertEquals(1, teamComparator.forYear("2000").compare(team1, team2));
+            assertEquals(teamComparator.compare(team1, team2), teamComparator.forYear("2000").compare(team1, team2));
+        }
+
+        @Test
+        void shouldDetermineScoringDifferentialFromTeamOffenseAndTeamDefenseSummaryRecords() {
+            final Team team1 = Team.builder().teamId(1).year("2000").division(1).games(100).playoffRank(0).wins(46).build();
+            final Team team2 = Team.builder().teamId(2).year("2000").division(2).games(100).playoffRank(0).wins(46).build();
+
+            teamOffenseSummaryRepository.saveAll(List.of(
+                    TeamOffenseSummary.builder().year(team1.getYear()).type(GameType.REGULAR_SEASON.getValue()).teamId(team1.getTeamId()).score(123).build(),
+                    TeamOffenseSummary.builder().year(team2.getYear()).type(GameType.REGULAR_SEASON.getValue()).teamId(team2.getTeamId()).score(456).build(),
+                    TeamOffenseSummary.builder().year(team2.getYear()).type(GameType.PRESEASON.getValue()).teamId(team1.getTeamId()).score(999).build()
+            ));
+            teamDefenseSummaryRepository.saveAll(List.of(
+                    TeamDefenseSummary.builder().year(team1.getYear()).type(GameType.REGULAR_SEASON.getValue()).teamId(team1.getTeamId()).score(456).build(),
+                    TeamDefenseSummary.builder().year(team2.getYear()).type(GameType.REGULAR_SEASON.getValue()).teamId(team2.getTeamId()).score(123).build(),
+                    TeamDefenseSummary.builder().year("1999").type(GameType.REGULAR_SEASON.getValue()).teamId(team2.getTeamId()).score(999).build()
+            ));
+
+            assertEquals(-666, teamComparator.forYear("2000").compare(team1, team2));
+        }
+
+        @Test
+        void shouldSortTeamsInTheSameOrderAsCompare() {
+            final List<Team> teams = List.of(
+                    Team.builder().teamId(1).year("2000").division(1).games(100).playoffRank(0).wins(46).build(),
+                    Team.builder().teamId(2).year("2000").division(2).games(100).playoffRank(0).wins(46).build(),
+                    Team.builder().teamId(3).year("2000").division(1).games(100).playoffRank(0).wins(50).build(),
+                    Team.builder().teamId(4).year("2000").division(2).games(100).playoffRank(0).wins(46).build()
+            );
+
+            teamGameRepository.saveAll(List.of(
+                    TeamGame.builder().gameId(1).year("2000").type(GameType.REGULAR_SEASON.getValue()).teamId(2).opponent(1).win(1).build(),
+                    TeamGame.builder().gameId(2).year("2000").type(GameType.REGULAR_SEASON.getValue()).teamId(4).opponent(1).win(1).build()
+            ));
+            teamOffenseSummaryRepository.saveAll(List.of(
+                    TeamOffenseSummary.builder().year("2000").type(GameType.REGULAR_SEASON.getValue()).teamId(2).score(300).build(),
+                    TeamOffenseSummary.builder().year("2000").type(GameType.REGULAR_SEASON.getValue()).teamId(4).score(200).build()
+            ));
+            teamDefenseSummaryRepository.saveAll(List.of(
+                    TeamDefenseSummary.builder().year("2000").type(GameType.REGULAR_SEASON.getValue()).teamId(2).score(100).build(),
+                    TeamDefenseSummary.builder().year("2000").type(GameType.REGULAR_SEASON.getValue()).teamId(4).score(100).build()
+            ));
+
+            final List<Integer> expected = teams.stream().sorted(teamComparator).map(Team::getTeamId).toList();
+            final List<Integer> actual = teams.stream().sorted(teamComparator.forYear("2000")).map(Team::getTeamId).toList();
+
+            assertEquals(expected, actual);
+        }
+    }
+}
@@ -15,6 +15,21 @@ public class ScheduleProcessorConfiguration {
         final EnumMap<ScheduleType, String> map = new EnumMap<>(ScheduleType.class);
         map.put(ScheduleType.BEGINNING_OF_SEASON, "dummy-schedule-processor");
         map.put(ScheduleType.REGULAR_SEASON, "dummy-schedule-processor");
+        map.put(ScheduleType.END_OF_PRESEASON, "bookkeeping-schedule-processor");
+        map.put(ScheduleType.ROSTER_CUT, "bookkeeping-schedule-processor");
+        map.put(ScheduleType.END_OF_REGULAR_SEASON, "bookkeeping-schedule-processor");
+        map.put(ScheduleType.AWARDS, "bookkeeping-schedule-processor");
+        map.put(ScheduleType.POSTSEASON, "bookkeeping-schedule-processor");
+        map.put(ScheduleType.DIVISION_PLAYOFF, "bookkeeping-schedule-processor");
+        map.put(ScheduleType.DIVISION_CHAMPIONSHIP, "bookkeeping-schedule-processor");
+        map.put(ScheduleType.CONFERENCE_CHAMPIONSHIP, "bookkeeping-schedule-processor");
+        map.put(ScheduleType.NATC_CHAMPIONSHIP, "bookkeeping-schedule-processor");
+        map.put(ScheduleType.END_OF_POSTSEASON, "bookkeeping-schedule-processor");
+        map.put(ScheduleType.ALL_STARS, "bookkeeping-schedule-processor");
+        map.put(ScheduleType.ALL_STAR_DAY_1, "bookkeeping-schedule-processor");
+        map.put(ScheduleType.ALL_STAR_DAY_2, "bookkeeping-schedule-processor");
+        map.put(ScheduleType.END_OF_ALLSTAR_GAMES, "bookkeeping-schedule-processor");
+        map.put(ScheduleType.END_OF_SEASON, "bookkeeping-schedule-processor");
         return map;
     }
 }
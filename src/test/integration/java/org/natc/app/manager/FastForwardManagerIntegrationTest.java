@@ -0,0 +1,102 @@
+package org.natc.app.manager;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.natc.app.entity.domain.Schedule;
+import org.natc.app.entity.domain.ScheduleStatus;
+import org.natc.app.entity.domain.ScheduleType;
+import org.natc.app.entity.response.FastForwardResponse;
+import org.natc.app.exception.NATCException;
+import org.natc.app.repository.ScheduleRepository;
+import org.natc.app.service.NATCServiceIntegrationTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Example;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FastForwardManagerIntegrationTest extends NATCServiceIntegrationTest {
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private FastForwardManager fastForwardManager;
+
+    @Nested
+    class FastForward {
+
+        @Test
+        void shouldProcessTheRestOfTheSeasonThroughTheEndOfSeason() throws NATCException {
+            seedScheduleAfterTheRegularSeason();
+
+            final FastForwardResponse response = fastForwardManager.fastForward("2001", null, null);
+
+            assertTrue(response.getTargetReached());
+            assertEquals(13, response.getEvents());
+            assertEquals(1, response.getSeasons());
+            assertTrue(response.getSeasonsPerMinute() > 0.0);
+            assertEquals("2001", response.getLastYear());
+            assertEquals(14, response.getLastSequence());
+            assertEquals(ScheduleType.END_OF_SEASON, response.getLastType());
+        }
+
+        @Test
+        void shouldCompleteEveryScheduleEntryThroughTheEndOfSeason() throws NATCException {
+            seedScheduleAfterTheRegularSeason();
+
+            fastForwardManager.fastForward("2001", null, null);
+
+            final List<Schedule> scheduleList = scheduleRepository.findAll(Example.of(Schedule.builder().year("2001").build()));
+
+            assertEquals(14, scheduleList.size());
+            assertTrue(scheduleList.stream().allMatch(schedule -> ScheduleStatus.COMPLETED.getValue().equals(schedule.getStatus())));
+        }
+
+        @Test
+        void shouldStopAtTheEndOfTheTargetSeasonWithoutStartingTheNextOne() throws NATCException {
+            seedScheduleAfterTheRegularSeason();
+
+            fastForwardManager.fastForward("2001", null, null);
+
+            assertTrue(scheduleRepository.findAll(Example.of(Schedule.builder().year("2002").build())).isEmpty());
+        }
+
+        @Test
+        void shouldStopAtTheTargetScheduleType() throws NATCException {
+            seedScheduleAfterTheRegularSeason();
+
+            final FastForwardResponse response = fastForwardManager.fastForward(null, ScheduleType.AWARDS, null);
+
+            assertTrue(response.getTargetReached());
+            assertEquals(2, response.getEvents());
+            assertEquals(0, response.getSeasons());
+            assertEquals(ScheduleType.AWARDS, response.getLastType());
+        }
+    }
+
+    // a regular season that has just finished, followed by every entry the rest of the season is made of
+    private void seedScheduleAfterTheRegularSeason() {
+        final List<Schedule> scheduleList = new ArrayList<>();
+        LocalDate scheduled = LocalDate.of(2001, 8, 1);
+        int sequence = 1;
+
+        scheduleList.add(Schedule.builder().year("2001").sequence(sequence).type(ScheduleType.REGULAR_SEASON.getValue())
+                .scheduled(scheduled).status(ScheduleStatus.COMPLETED.getValue()).build());
+
+        for (final ScheduleType scheduleType : ScheduleType.values()) {
+            if (scheduleType.getValue() <= ScheduleType.REGULAR_SEASON.getValue()) continue;
+
+            scheduled = scheduled.plusDays(1);
+            sequence++;
+
+            scheduleList.add(Schedule.builder().year("2001").sequence(sequence).type(scheduleType.getValue())
+                    .scheduled(scheduled).status(ScheduleStatus.SCHEDULED.getValue()).build());
+        }
+
+        scheduleRepository.saveAll(scheduleList);
+    }
+}
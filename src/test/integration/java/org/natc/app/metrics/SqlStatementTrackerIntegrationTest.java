@@ -0,0 +1,59 @@
+package org.natc.app.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.natc.app.entity.domain.Team;
+import org.natc.app.repository.TeamRepository;
+import org.natc.app.service.NATCServiceIntegrationTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SqlStatementTrackerIntegrationTest extends NATCServiceIntegrationTest {
+
+    @Autowired
+    private SqlStatementTracker sqlStatementTracker;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldCountStatementsIssuedThroughTheRepositories() {
+        sqlStatementTracker.start();
+
+        teamRepository.count();
+        teamRepository.findAll();
+
+        final SqlStatementStats stats = sqlStatementTracker.stop();
+
+        assertEquals(2, stats.getStatements());
+    }
+
+    @Test
+    void shouldCountStatementsIssuedThroughJdbcTemplate() {
+        sqlStatementTracker.start();
+
+        jdbcTemplate.queryForObject("SELECT count(*) FROM teams_t", Integer.class);
+
+        assertEquals(1, sqlStatementTracker.stop().getStatements());
+    }
+
+    @Test
+    void shouldCountABatchAsASingleStatement() {
+        teamRepository.saveAllAndFlush(List.of(
+                Team.builder().teamId(1).year("2001").build(),
+                Team.builder().teamId(2).year("2001").build()
+        ));
+
+        sqlStatementTracker.start();
+
+        jdbcTemplate.batchUpdate("UPDATE teams_t SET wins = 1 WHERE team_id = ?", List.of(new Object[] { 1 }, new Object[] { 2 }));
+
+        assertEquals(1, sqlStatementTracker.stop().getStatements());
+    }
+}
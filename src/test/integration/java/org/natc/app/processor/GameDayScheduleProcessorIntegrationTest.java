@@ -0,0 +1,157 @@
+package org.natc.app.processor;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.natc.app.entity.domain.*;
+import org.natc.app.exception.NATCException;
+import org.natc.app.repository.GameStateRepository;
+import org.natc.app.repository.PlayerGameRepository;
+import org.natc.app.repository.PlayerRepository;
+import org.natc.app.repository.PlayerStatsSummaryRepository;
+import org.natc.app.repository.ScheduleRepository;
+import org.natc.app.repository.TeamDefenseSummaryRepository;
+import org.natc.app.repository.TeamGameRepository;
+import org.natc.app.repository.TeamOffenseSummaryRepository;
+import org.natc.app.service.NATCServiceIntegrationTest;
+import org.natc.app.service.StatsSummaryService;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameDayScheduleProcessorIntegrationTest extends NATCServiceIntegrationTest {
+
+    private static final int TEAMS = 6;
+    private static final int PLAYERS_PER_TEAM = 8;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private TeamGameRepository teamGameRepository;
+
+    @Autowired
+    private PlayerGameRepository playerGameRepository;
+
+    @Autowired
+    private GameStateRepository gameStateRepository;
+
+    @Autowired
+    private PlayerStatsSummaryRepository playerStatsSummaryRepository;
+
+    @Autowired
+    private TeamOffenseSummaryRepository teamOffenseSummaryRepository;
+
+    @Autowired
+    private TeamDefenseSummaryRepository teamDefenseSummaryRepository;
+
+    @Autowired
+    private StatsSummaryService statsSummaryService;
+
+    @Autowired
+    private GameDayScheduleProcessor processor;
+
+    @Nested
+    class Process {
+
+        @Test
+        void shouldUpdateTheGivenScheduleStatusToCompleted() throws NATCException {
+            final Schedule schedule = saveSchedule();
+
+            processor.process(schedule);
+
+            final List<Schedule> scheduleList = scheduleRepository.findAll();
+
+            assertEquals(1, scheduleList.size());
+            assertEquals(ScheduleStatus.COMPLETED.getValue(), scheduleList.getFirst().getStatus());
+        }
+
+        @Test
+        void shouldPersistTheResultsOfEveryGame() throws NATCException {
+            processor.process(saveSchedule());
+
+            assertEquals(TEAMS, teamGameRepository.count());
+            assertEquals(TEAMS * PLAYERS_PER_TEAM, playerGameRepository.count());
+            assertEquals(TEAMS / 2, gameStateRepository.count());
+        }
+
+        @Test
+        void shouldPersistOneWinnerPerGame() throws NATCException {
+            processor.process(saveSchedule());
+
+            final List<TeamGame> teamGames = teamGameRepository.findAll();
+
+            assertEquals(TEAMS / 2, teamGames.stream().filter(teamGame -> teamGame.getWin() == 1).count());
+
+            for (final GameState gameState : gameStateRepository.findAll()) {
+                final List<TeamGame> game = teamGames.stream().filter(teamGame -> teamGame.getGameId().equals(gameState.getGameId())).toList();
+
+                assertEquals(2, game.size());
+                assertNotEquals(game.get(0).getTotalScore(), game.get(1).getTotalScore());
+                assertEquals(LocalDate.of(2005, 4, 1), game.get(0).getDatestamp());
+                assertEquals(GameType.REGULAR_SEASON.getValue(), game.get(0).getType());
+            }
+        }
+
+        @Test
+        void shouldPersistThePlayerStatsForEachGame() throws NATCException {
+            processor.process(saveSchedule());
+
+            for (final TeamGame teamGame : teamGameRepository.findAll()) {
+                final List<PlayerGame> playerGames = playerGameRepository.findAll().stream()
+                        .filter(playerGame -> playerGame.getGameId().equals(teamGame.getGameId()) && playerGame.getTeamId().equals(teamGame.getTeamId()))
+                        .toList();
+
+                assertEquals(PLAYERS_PER_TEAM, playerGames.size());
+                assertEquals(teamGame.getGoals(), playerGames.stream().mapToInt(PlayerGame::getGoals).sum());
+            }
+        }
+
+        @Test
+        void shouldFoldTheGamesIntoSummariesThatMatchAFullRecompute() throws NATCException {
+            processor.process(saveSchedule());
+
+            assertEquals(TEAMS * PLAYERS_PER_TEAM, playerStatsSummaryRepository.count());
+            assertEquals(TEAMS, teamOffenseSummaryRepository.count());
+            assertEquals(TEAMS, teamDefenseSummaryRepository.count());
+            assertEquals(0, statsSummaryService.verifySummaries("2005"));
+        }
+    }
+
+    private Schedule saveSchedule() {
+        final List<Player> players = new ArrayList<>();
+        final ScheduleData scheduleData = new ScheduleData();
+        final SplittableRandom random = new SplittableRandom(1971);
+
+        for (int team = 1; team <= TEAMS; ++team) {
+            for (int i = 0; i < PLAYERS_PER_TEAM; ++i) {
+                final Player player = Player.generate(random, team * 100 + i, "2005", "First" + i, "Last" + i);
+
+                player.setTeamId(team);
+                players.add(player);
+            }
+
+            if (team % 2 == 0) {
+                scheduleData.getMatches().add(new ScheduleData.Match(team - 1, team));
+            }
+        }
+
+        playerRepository.insertAll(players);
+
+        return scheduleRepository.save(Schedule.builder()
+                .year("2005")
+                .sequence(12)
+                .type(ScheduleType.REGULAR_SEASON.getValue())
+                .data(scheduleData.toString())
+                .status(ScheduleStatus.IN_PROGRESS.getValue())
+                .scheduled(LocalDate.of(2005, 4, 1))
+                .build());
+    }
+}
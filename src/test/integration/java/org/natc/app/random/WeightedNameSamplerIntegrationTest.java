@@ -0,0 +1,128 @@
+package org.natc.app.random;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.natc.app.entity.domain.FirstName;
+import org.natc.app.entity.domain.LastName;
+import org.natc.app.repository.FirstNameRepository;
+import org.natc.app.repository.LastNameRepository;
+import org.natc.app.service.NATCServiceIntegrationTest;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WeightedNameSamplerIntegrationTest extends NATCServiceIntegrationTest {
+
+    // chi-square critical value for 4 degrees of freedom at p = 0.001
+    private static final double CRITICAL_VALUE = 18.467;
+
+    private static final int SQL_DRAWS = 2000;
+    private static final int SAMPLER_DRAWS = 20000;
+
+    @Autowired
+    private FirstNameRepository firstNameRepository;
+
+    @Autowired
+    private LastNameRepository lastNameRepository;
+
+    @Autowired
+    private WeightedNameSampler weightedNameSampler;
+
+    private final SplittableRandom random = new SplittableRandom(1971);
+
+    @Nested
+    class DrawFirstName {
+
+        @Test
+        void shouldPickUpNamesSavedAfterThePreviousDraw() {
+            firstNameRepository.save(FirstName.builder().name("Joe").frequency(1.0).build());
+
+            assertEquals("Joe", weightedNameSampler.drawFirstName(random).orElseThrow());
+
+            firstNameRepository.delete(FirstName.builder().name("Joe").build());
+            firstNameRepository.save(FirstName.builder().name("Bob").frequency(1.0).build());
+
+            assertEquals("Bob", weightedNameSampler.drawFirstName(random).orElseThrow());
+        }
+
+        @Test
+        void shouldMatchTheDistributionOfTheDatabaseSampler() {
+            firstNameRepository.saveAll(List.of(
+                    FirstName.builder().name("James").frequency(3.318).build(),
+                    FirstName.builder().name("John").frequency(3.271).build(),
+                    FirstName.builder().name("Robert").frequency(1.5).build(),
+                    FirstName.builder().name("Michael").frequency(0.6).build(),
+                    FirstName.builder().name("William").frequency(0.3).build()
+            ));
+
+            final Map<String, Integer> sqlCounts = new HashMap<>();
+            final Map<String, Integer> samplerCounts = new HashMap<>();
+
+            for (int i = 0; i < SQL_DRAWS; i++) {
+                sqlCounts.merge(firstNameRepository.findRandomName().orElseThrow().getName(), 1, Integer::sum);
+            }
+
+            for (int i = 0; i < SAMPLER_DRAWS; i++) {
+                samplerCounts.merge(weightedNameSampler.drawFirstName(random).orElseThrow(), 1, Integer::sum);
+            }
+
+            assertTrue(chiSquareHomogeneity(sqlCounts, SQL_DRAWS, samplerCounts, SAMPLER_DRAWS) < CRITICAL_VALUE);
+        }
+    }
+
+    @Nested
+    class DrawLastName {
+
+        @Test
+        void shouldMatchTheDistributionOfTheDatabaseSampler() {
+            lastNameRepository.saveAll(List.of(
+                    LastName.builder().name("Smith").frequency(1.006).build(),
+                    LastName.builder().name("Johnson").frequency(0.81).build(),
+                    LastName.builder().name("Williams").frequency(0.699).build(),
+                    LastName.builder().name("Jones").frequency(0.621).build(),
+                    LastName.builder().name("Brown").frequency(0.1).build()
+            ));
+
+            final Map<String, Integer> sqlCounts = new HashMap<>();
+            final Map<String, Integer> samplerCounts = new HashMap<>();
+
+            for (int i = 0; i < SQL_DRAWS; i++) {
+                sqlCounts.merge(lastNameRepository.findRandomName().orElseThrow().getName(), 1, Integer::sum);
+            }
+
+            for (int i = 0; i < SAMPLER_DRAWS; i++) {
+                samplerCounts.merge(weightedNameSampler.drawLastName(random).orElseThrow(), 1, Integer::sum);
+            }
+
+            assertTrue(chiSquareHomogeneity(sqlCounts, SQL_DRAWS, samplerCounts, SAMPLER_DRAWS) < CRITICAL_VALUE);
+        }
+    }
+
+    private double chiSquareHomogeneity(
+            final Map<String, Integer> firstSample, final int firstTotal,
+            final Map<String, Integer> secondSample, final int secondTotal) {
+        final double grandTotal = firstTotal + secondTotal;
+
+        double chiSquare = 0.0;
+
+        for (final String name : secondSample.keySet()) {
+            final int firstObserved = firstSample.getOrDefault(name, 0);
+            final int secondObserved = secondSample.getOrDefault(name, 0);
+            final double nameTotal = firstObserved + secondObserved;
+
+            final double firstExpected = nameTotal * firstTotal / grandTotal;
+            final double secondExpected = nameTotal * secondTotal / grandTotal;
+
+            chiSquare += Math.pow(firstObserved - firstExpected, 2) / firstExpected;
+            chiSquare += Math.pow(secondObserved - secondExpected, 2) / secondExpected;
+        }
+
+        return chiSquare;
+    }
+}
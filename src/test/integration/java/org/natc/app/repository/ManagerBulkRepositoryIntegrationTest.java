@@ -0,0 +1,89 @@
+package org.natc.app.repository;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.natc.app.entity.domain.Manager;
+import org.natc.app.service.NATCServiceIntegrationTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Example;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ManagerBulkRepositoryIntegrationTest extends NATCServiceIntegrationTest {
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    private final SplittableRandom random = new SplittableRandom(1971);
+
+    @Nested
+    class InsertAll {
+
+        @Test
+        void shouldInsertEveryGivenManager() {
+            final List<Manager> managers = generateManagers(1, 80, "2001");
+
+            managerRepository.insertAll(managers);
+
+            assertEquals(80, managerRepository.count());
+        }
+
+        @Test
+        void shouldDoNothingGivenAnEmptyList() {
+            managerRepository.insertAll(Collections.emptyList());
+
+            assertEquals(0, managerRepository.count());
+        }
+
+        @Test
+        void shouldPersistAllManagerValues() {
+            final Manager manager = Manager.generate(random, 123, "2001", "John", "Doe");
+
+            manager.setTeamId(4);
+            manager.setPlayerId(55);
+            manager.setStyle(2);
+            manager.setFormerTeamId(9);
+            manager.setAward(1);
+
+            managerRepository.insertAll(List.of(manager));
+
+            final Manager persistedManager = managerRepository.findOne(Example.of(Manager.builder().managerId(123).year("2001").build())).orElseThrow();
+
+            assertEquals(manager.getTeamId(), persistedManager.getTeamId());
+            assertEquals(manager.getPlayerId(), persistedManager.getPlayerId());
+            assertEquals(manager.getFirstName(), persistedManager.getFirstName());
+            assertEquals(manager.getLastName(), persistedManager.getLastName());
+            assertEquals(manager.getAge(), persistedManager.getAge());
+            assertEquals(manager.getOffense(), persistedManager.getOffense());
+            assertEquals(manager.getDefense(), persistedManager.getDefense());
+            assertEquals(manager.getIntangible(), persistedManager.getIntangible());
+            assertEquals(manager.getPenalties(), persistedManager.getPenalties());
+            assertEquals(manager.getVitality(), persistedManager.getVitality());
+            assertEquals(manager.getStyle(), persistedManager.getStyle());
+            assertEquals(manager.getNewHire(), persistedManager.getNewHire());
+            assertEquals(manager.getReleased(), persistedManager.getReleased());
+            assertEquals(manager.getRetired(), persistedManager.getRetired());
+            assertEquals(manager.getFormerTeamId(), persistedManager.getFormerTeamId());
+            assertEquals(manager.getAward(), persistedManager.getAward());
+            assertEquals(manager.getSeasons(), persistedManager.getSeasons());
+            assertEquals(manager.getScore(), persistedManager.getScore());
+            assertEquals(manager.getTotalSeasons(), persistedManager.getTotalSeasons());
+            assertEquals(manager.getTotalScore(), persistedManager.getTotalScore());
+        }
+    }
+
+    private List<Manager> generateManagers(final int firstManagerId, final int count, final String year) {
+        final List<Manager> managers = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            managers.add(Manager.generate(random, firstManagerId + i, year, "First" + i, "Last" + i));
+        }
+
+        return managers;
+    }
+}
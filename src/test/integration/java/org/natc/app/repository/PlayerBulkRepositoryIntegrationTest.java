@@ -0,0 +1,139 @@
+package org.natc.app.repository;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.natc.app.entity.domain.Player;
+import org.natc.app.service.NATCServiceIntegrationTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Example;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerBulkRepositoryIntegrationTest extends NATCServiceIntegrationTest {
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    private final SplittableRandom random = new SplittableRandom(1971);
+
+    @Nested
+    class InsertAll {
+
+        @Test
+        void shouldInsertEveryGivenPlayer() {
+            final List<Player> players = generatePlayers(1, 250, "2001");
+
+            playerRepository.insertAll(players);
+
+            assertEquals(250, playerRepository.count());
+        }
+
+        @Test
+        void shouldDoNothingGivenAnEmptyList() {
+            playerRepository.insertAll(Collections.emptyList());
+
+            assertEquals(0, playerRepository.count());
+        }
+
+        @Test
+        void shouldPersistAllPlayerValues() {
+            final Player player = Player.generate(random, 123, "2001", "John", "Doe");
+
+            player.setTeamId(4);
+            player.setRookie(1);
+            player.setFreeAgent(0);
+            player.setSigned(1);
+            player.setReleased(0);
+            player.setRetired(0);
+            player.setFormerTeamId(9);
+            player.setDraftPick(7);
+
+            playerRepository.insertAll(List.of(player));
+
+            final Player persistedPlayer = playerRepository.findOne(Example.of(Player.builder().playerId(123).year("2001").build())).orElseThrow();
+
+            assertEquals(player.getTeamId(), persistedPlayer.getTeamId());
+            assertEquals(player.getFirstName(), persistedPlayer.getFirstName());
+            assertEquals(player.getLastName(), persistedPlayer.getLastName());
+            assertEquals(player.getAge(), persistedPlayer.getAge());
+            assertEquals(player.getScoring(), persistedPlayer.getScoring());
+            assertEquals(player.getPassing(), persistedPlayer.getPassing());
+            assertEquals(player.getBlocking(), persistedPlayer.getBlocking());
+            assertEquals(player.getTackling(), persistedPlayer.getTackling());
+            assertEquals(player.getStealing(), persistedPlayer.getStealing());
+            assertEquals(player.getPresence(), persistedPlayer.getPresence());
+            assertEquals(player.getDiscipline(), persistedPlayer.getDiscipline());
+            assertEquals(player.getPenaltyShot(), persistedPlayer.getPenaltyShot());
+            assertEquals(player.getPenaltyOffense(), persistedPlayer.getPenaltyOffense());
+            assertEquals(player.getPenaltyDefense(), persistedPlayer.getPenaltyDefense());
+            assertEquals(player.getEndurance(), persistedPlayer.getEndurance());
+            assertEquals(player.getConfidence(), persistedPlayer.getConfidence());
+            assertEquals(player.getVitality(), persistedPlayer.getVitality());
+            assertEquals(player.getDurability(), persistedPlayer.getDurability());
+            assertEquals(player.getRookie(), persistedPlayer.getRookie());
+            assertEquals(player.getInjured(), persistedPlayer.getInjured());
+            assertEquals(player.getFreeAgent(), persistedPlayer.getFreeAgent());
+            assertEquals(player.getSigned(), persistedPlayer.getSigned());
+            assertEquals(player.getReleased(), persistedPlayer.getReleased());
+            assertEquals(player.getRetired(), persistedPlayer.getRetired());
+            assertEquals(player.getFormerTeamId(), persistedPlayer.getFormerTeamId());
+            assertEquals(player.getDraftPick(), persistedPlayer.getDraftPick());
+            assertEquals(player.getSeasonsPlayed(), persistedPlayer.getSeasonsPlayed());
+        }
+
+        @Test
+        void shouldPersistNullValues() {
+            final Player player = Player.builder().playerId(123).year("2001").returnDate(null).build();
+
+            playerRepository.insertAll(List.of(player));
+
+            final Player persistedPlayer = playerRepository.findOne(Example.of(Player.builder().playerId(123).year("2001").build())).orElseThrow();
+
+            assertNull(persistedPlayer.getTeamId());
+            assertNull(persistedPlayer.getReturnDate());
+        }
+
+        @Test
+        void shouldPersistTheReturnDate() {
+            final Player player = Player.builder().playerId(123).year("2001").returnDate(LocalDate.of(2001, 5, 12)).build();
+
+            playerRepository.insertAll(List.of(player));
+
+            final Player persistedPlayer = playerRepository.findOne(Example.of(Player.builder().playerId(123).year("2001").build())).orElseThrow();
+
+            assertEquals(LocalDate.of(2001, 5, 12), persistedPlayer.getReturnDate());
+        }
+
+        @Test
+        void shouldAllowInsertedPlayersToBeUpdatedThroughTheEntityManager() {
+            playerRepository.insertAll(List.of(Player.generate(random, 123, "2001", "John", "Doe")));
+
+            final Player player = playerRepository.findOne(Example.of(Player.builder().playerId(123).year("2001").build())).orElseThrow();
+
+            player.setTeamId(17);
+
+            playerRepository.saveAndFlush(player);
+
+            final List<Player> players = playerRepository.findAll();
+
+            assertEquals(1, players.size());
+            assertEquals(17, players.getFirst().getTeamId());
+        }
+    }
+
+    private List<Player> generatePlayers(final int firstPlayerId, final int count, final String year) {
+        final List<Player> players = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            players.add(Player.generate(random, firstPlayerId + i, year, "First" + i, "Last" + i));
+        }
+
+        return players;
+    }
+}
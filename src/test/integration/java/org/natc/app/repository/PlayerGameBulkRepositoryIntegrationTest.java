@@ -0,0 +1,80 @@
+package org.natc.app.repository;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.natc.app.entity.domain.PlayerGame;
+import org.natc.app.service.NATCServiceIntegrationTest;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PlayerGameBulkRepositoryIntegrationTest extends NATCServiceIntegrationTest {
+
+    @Autowired
+    private PlayerGameRepository playerGameRepository;
+
+    @Nested
+    class StreamAll {
+
+        @Test
+        void shouldPassEveryRowToTheConsumerOrderedById() {
+            playerGameRepository.saveAllAndFlush(List.of(
+                    PlayerGame.builder().gameId(2).year("2001").type(1).playerId(1).teamId(10).goals(3).build(),
+                    PlayerGame.builder().gameId(1).year("2001").type(1).playerId(2).teamId(20).goals(1).build(),
+                    PlayerGame.builder().gameId(1).year("2001").type(1).playerId(1).teamId(10).goals(2).build(),
+                    PlayerGame.builder().gameId(3).year("2002").type(1).playerId(1).teamId(10).goals(4).build()
+            ));
+
+            final List<String> keys = new ArrayList<>();
+
+            playerGameRepository.streamAll(new PlayerGame(), row -> keys.add(row.getGameId() + ":" + row.getPlayerId()));
+
+            assertEquals(List.of("1:1", "1:2", "2:1", "3:1"), keys);
+        }
+
+        @Test
+        void shouldOnlyPassRowsMatchingEveryNonNullValueOfTheProbe() {
+            playerGameRepository.saveAllAndFlush(List.of(
+                    PlayerGame.builder().gameId(2).year("2001").type(1).playerId(1).teamId(10).goals(3).build(),
+                    PlayerGame.builder().gameId(1).year("2001").type(1).playerId(2).teamId(20).goals(1).build(),
+                    PlayerGame.builder().gameId(1).year("2001").type(1).playerId(1).teamId(10).goals(2).build(),
+                    PlayerGame.builder().gameId(3).year("2002").type(1).playerId(1).teamId(10).goals(4).build()
+            ));
+
+            final List<String> keys = new ArrayList<>();
+
+            playerGameRepository.streamAll(PlayerGame.builder().year("2001").teamId(10).build(), row -> keys.add(row.getGameId() + ":" + row.getPlayerId()));
+
+            assertEquals(List.of("1:1", "2:1"), keys);
+        }
+
+        @Test
+        void shouldMapTheColumnsOfEachRow() {
+            final PlayerGame expected = PlayerGame.builder().gameId(2).year("2001").type(1).playerId(1).teamId(10).goals(3).build();
+
+            playerGameRepository.saveAndFlush(expected);
+
+            final List<PlayerGame> rows = new ArrayList<>();
+
+            playerGameRepository.streamAll(new PlayerGame(), rows::add);
+
+            assertEquals(1, rows.size());
+            assertEquals(expected.getYear(), rows.getFirst().getYear());
+            assertEquals(expected.getType(), rows.getFirst().getType());
+            assertEquals(expected.getTeamId(), rows.getFirst().getTeamId());
+            assertEquals(expected.getGoals(), rows.getFirst().getGoals());
+        }
+
+        @Test
+        void shouldNotCallTheConsumerWhenThereAreNoRows() {
+            final List<PlayerGame> rows = new ArrayList<>();
+
+            playerGameRepository.streamAll(new PlayerGame(), rows::add);
+
+            assertEquals(0, rows.size());
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package org.natc.app.repository;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.natc.app.entity.domain.PlayerStatsSummary;
+import org.natc.app.service.NATCServiceIntegrationTest;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PlayerStatsSummaryBulkRepositoryIntegrationTest extends NATCServiceIntegrationTest {
+
+    @Autowired
+    private PlayerStatsSummaryRepository playerStatsSummaryRepository;
+
+    @Nested
+    class StreamAll {
+
+        @Test
+        void shouldPassEveryRowToTheConsumerOrderedById() {
+            playerStatsSummaryRepository.saveAllAndFlush(List.of(
+                    PlayerStatsSummary.builder().year("2002").type(1).playerId(1).teamId(10).goals(3).build(),
+                    PlayerStatsSummary.builder().year("2001").type(2).playerId(1).teamId(10).goals(1).build(),
+                    PlayerStatsSummary.builder().year("2001").type(1).playerId(2).teamId(20).goals(2).build(),
+                    PlayerStatsSummary.builder().year("2001").type(1).playerId(1).teamId(10).goals(4).build()
+            ));
+
+            final List<String> keys = new ArrayList<>();
+
+            playerStatsSummaryRepository.streamAll(new PlayerStatsSummary(), row -> keys.add(row.getYear() + ":" + row.getType() + ":" + row.getPlayerId()));
+
+            assertEquals(List.of("2001:1:1", "2001:1:2", "2001:2:1", "2002:1:1"), keys);
+        }
+
+        @Test
+        void shouldOnlyPassRowsMatchingEveryNonNullValueOfTheProbe() {
+            playerStatsSummaryRepository.saveAllAndFlush(List.of(
+                    PlayerStatsSummary.builder().year("2002").type(1).playerId(1).teamId(10).goals(3).build(),
+                    PlayerStatsSummary.builder().year("2001").type(2).playerId(1).teamId(10).goals(1).build(),
+                    PlayerStatsSummary.builder().year("2001").type(1).playerId(2).teamId(20).goals(2).build(),
+                    PlayerStatsSummary.builder().year("2001").type(1).playerId(1).teamId(10).goals(4).build()
+            ));
+
+            final List<String> keys = new ArrayList<>();
+
+            playerStatsSummaryRepository.streamAll(PlayerStatsSummary.builder().year("2001").teamId(10).build(), row -> keys.add(row.getYear() + ":" + row.getType() + ":" + row.getPlayerId()));
+
+            assertEquals(List.of("2001:1:1", "2001:2:1"), keys);
+        }
+
+        @Test
+        void shouldMapTheColumnsOfEachRow() {
+            final PlayerStatsSummary expected = PlayerStatsSummary.builder().year("2002").type(1).playerId(1).teamId(10).goals(3).build();
+
+            playerStatsSummaryRepository.saveAndFlush(expected);
+
+            final List<PlayerStatsSummary> rows = new ArrayList<>();
+
+            playerStatsSummaryRepository.streamAll(new PlayerStatsSummary(), rows::add);
+
+            assertEquals(1, rows.size());
+            assertEquals(expected.getYear(), rows.getFirst().getYear());
+            assertEquals(expected.getType(), rows.getFirst().getType());
+            assertEquals(expected.getTeamId(), rows.getFirst().getTeamId());
+            assertEquals(expected.getGoals(), rows.getFirst().getGoals());
+        }
+
+        @Test
+        void shouldNotCallTheConsumerWhenThereAreNoRows() {
+            final List<PlayerStatsSummary> rows = new ArrayList<>();
+
+            playerStatsSummaryRepository.streamAll(new PlayerStatsSummary(), rows::add);
+
+            assertEquals(0, rows.size());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package org.natc.app.repository;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.natc.app.service.NATCServiceIntegrationTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScheduleLockRepositoryIntegrationTest extends NATCServiceIntegrationTest {
+
+    @Autowired
+    private ScheduleLockRepository scheduleLockRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Nested
+    class LockSchedule {
+
+        @Test
+        void shouldKeepOtherSessionsFromTakingTheLockUntilTheTransactionEnds() throws SQLException {
+            scheduleLockRepository.lockSchedule();
+
+            assertFalse(tryLockFromAnotherSession());
+        }
+
+        @Test
+        void shouldReleaseTheLockWhenTheTransactionEnds() throws SQLException {
+            final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+            transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            transactionTemplate.executeWithoutResult(status -> scheduleLockRepository.lockSchedule());
+
+            assertTrue(tryLockFromAnotherSession());
+        }
+
+        @Test
+        void shouldRefuseToLockOutsideOfATransaction() {
+            final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+            transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+
+            assertThrows(IllegalTransactionStateException.class, () -> transactionTemplate.executeWithoutResult(status -> scheduleLockRepository.lockSchedule()));
+        }
+    }
+
+    // a connection of its own, outside of the test transaction
+    private boolean tryLockFromAnotherSession() throws SQLException {
+        try (final Connection connection = dataSource.getConnection()) {
+            final JdbcTemplate otherSession = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+
+            return Boolean.TRUE.equals(otherSession.queryForObject(
+                    "select pg_try_advisory_xact_lock(?)", Boolean.class, ScheduleLockRepository.SCHEDULE_LOCK_KEY
+            ));
+        }
+    }
+}
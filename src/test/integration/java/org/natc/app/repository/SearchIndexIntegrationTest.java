@@ -0,0 +1,132 @@
+package org.natc.app.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.natc.app.service.NATCServiceIntegrationTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class SearchIndexIntegrationTest extends NATCServiceIntegrationTest {
+
+    private static final int SEED_ROWS = 100000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update(
+                "insert into playergames_t (game_id, year, type, player_id, team_id, goals) " +
+                "select i / 20, (2000 + i % 20)::text, 1 + i % 3, i % 2000, 1 + i % 40, i % 7 from generate_series(1, ?) as i",
+                SEED_ROWS
+        );
+        jdbcTemplate.update(
+                "insert into teamgames_t (game_id, year, type, team_id, opponent, win, goals) " +
+                "select i / 2, (2000 + i % 20)::text, 1 + i % 3, 1 + i % 40, 1 + (i + 7) % 40, i % 2, i % 9 from generate_series(1, ?) as i",
+                SEED_ROWS
+        );
+        jdbcTemplate.update(
+                "insert into players_t (player_id, year, team_id) " +
+                "select i / 20, (2000 + i % 20)::text, 1 + i % 40 from generate_series(1, ?) as i",
+                SEED_ROWS
+        );
+        jdbcTemplate.update(
+                "insert into player_stats_sum_t (year, type, player_id, team_id, goals) " +
+                "select (2000 + i % 20)::text, 1 + i % 3, i / 60, 1 + i % 40, i % 11 from generate_series(1, ?) as i",
+                SEED_ROWS
+        );
+        jdbcTemplate.update(
+                "insert into team_offense_sum_t (year, type, team_id, goals) " +
+                "select (2000 + i % 2000)::text, 1 + i % 3, i / 6000, i % 11 from generate_series(1, ?) as i",
+                SEED_ROWS
+        );
+
+        jdbcTemplate.execute("analyze playergames_t, teamgames_t, players_t, player_stats_sum_t, team_offense_sum_t");
+    }
+
+    @Nested
+    class PlayerGames {
+
+        @Test
+        void shouldUseAnIndexWhenSearchingByYearTypeAndTeam() {
+            assertNoSequentialScan("select * from playergames_t where year = '2005' and type = 1 and team_id = 6 order by game_id, player_id limit 101");
+        }
+
+        @Test
+        void shouldUseAnIndexWhenSearchingByYearAndPlayer() {
+            assertNoSequentialScan("select * from playergames_t where year = '2005' and player_id = 105 order by game_id, player_id limit 101");
+        }
+
+        @Test
+        void shouldUseAnIndexWhenSearchingByGameAndTeam() {
+            assertNoSequentialScan("select * from playergames_t where game_id = 2500 and team_id = 1 order by game_id, player_id limit 101");
+        }
+    }
+
+    @Nested
+    class TeamGames {
+
+        @Test
+        void shouldUseAnIndexWhenSearchingByYearTypeAndTeam() {
+            assertNoSequentialScan("select * from teamgames_t where year = '2005' and type = 1 and team_id = 6 order by game_id, team_id limit 101");
+        }
+
+        @Test
+        void shouldUseAnIndexWhenSearchingByGameAndTeam() {
+            assertNoSequentialScan("select * from teamgames_t where game_id = 2500 and team_id = 1 order by game_id, team_id limit 101");
+        }
+
+        @Test
+        void shouldUseAnIndexWhenCountingWinsAgainstAnOpponent() {
+            assertNoSequentialScan("select count(*) from teamgames_t where year = '2005' and type = 1 and team_id = 6 and opponent = 13 and win = 1");
+        }
+    }
+
+    @Nested
+    class Players {
+
+        @Test
+        void shouldUseAnIndexWhenSearchingByYearAndTeam() {
+            assertNoSequentialScan("select * from players_t where year = '2005' and team_id = 6 order by player_id, year limit 101");
+        }
+
+        @Test
+        void shouldUseAnIndexWhenSearchingByPlayer() {
+            assertNoSequentialScan("select * from players_t where player_id = 250 order by player_id, year limit 101");
+        }
+    }
+
+    @Nested
+    class PlayerStatsSummaries {
+
+        @Test
+        void shouldUseAnIndexWhenSearchingByYearTypeAndPlayer() {
+            assertNoSequentialScan("select * from player_stats_sum_t where year = '2005' and type = 1 and player_id = 100 order by year, type, player_id limit 101");
+        }
+
+        @Test
+        void shouldUseAnIndexWhenSearchingByYearAndTeam() {
+            assertNoSequentialScan("select * from player_stats_sum_t where year = '2005' and team_id = 6 order by year, type, player_id limit 101");
+        }
+    }
+
+    @Nested
+    class TeamOffenseSummaries {
+
+        @Test
+        void shouldUseAnIndexWhenSearchingByYearAndType() {
+            assertNoSequentialScan("select * from team_offense_sum_t where year = '2005' and type = 1 order by year, type, team_id");
+        }
+    }
+
+    private void assertNoSequentialScan(final String sql) {
+        final List<String> plan = jdbcTemplate.queryForList("explain " + sql, String.class);
+
+        assertFalse(plan.stream().anyMatch(line -> line.contains("Seq Scan")), () -> String.join("\n", plan));
+    }
+}
@@ -0,0 +1,102 @@
+package org.natc.app.repository;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.natc.app.entity.domain.Player;
+import org.natc.app.entity.domain.PlayerGame;
+import org.natc.app.entity.domain.TeamGame;
+import org.natc.app.service.NATCServiceIntegrationTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeasonPartitionRepositoryIntegrationTest extends NATCServiceIntegrationTest {
+
+    @Autowired
+    private SeasonPartitionRepository seasonPartitionRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private PlayerGameRepository playerGameRepository;
+
+    @Autowired
+    private TeamGameRepository teamGameRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Nested
+    class CreatePartitionsForYear {
+
+        @Test
+        void shouldCreateAPartitionOfEachSeasonTableForTheYear() {
+            seasonPartitionRepository.createPartitionsForYear("2099");
+
+            for (final String table : SeasonPartitionRepository.PARTITIONED_TABLES) {
+                final Integer partitions = jdbcTemplate.queryForObject(
+                        "select count(*) from pg_inherits where inhparent = ?::regclass and inhrelid = ?::regclass",
+                        Integer.class,
+                        table,
+                        table + "_2099"
+                );
+
+                assertEquals(1, partitions);
+            }
+        }
+
+        @Test
+        void shouldRouteRowsForTheYearIntoItsPartition() {
+            seasonPartitionRepository.createPartitionsForYear("2099");
+
+            playerRepository.saveAndFlush(Player.builder().playerId(1).year("2099").build());
+            playerGameRepository.saveAndFlush(PlayerGame.builder().gameId(1).year("2099").playerId(1).build());
+            teamGameRepository.saveAndFlush(TeamGame.builder().gameId(1).year("2099").teamId(1).build());
+
+            assertEquals("players_t_2099", partitionOf("players_t", "2099"));
+            assertEquals("playergames_t_2099", partitionOf("playergames_t", "2099"));
+            assertEquals("teamgames_t_2099", partitionOf("teamgames_t", "2099"));
+        }
+
+        @Test
+        void shouldLeaveRowsForOtherYearsInTheDefaultPartition() {
+            seasonPartitionRepository.createPartitionsForYear("2099");
+
+            playerRepository.saveAndFlush(Player.builder().playerId(1).year("2098").build());
+
+            assertEquals("players_t_default", partitionOf("players_t", "2098"));
+        }
+
+        @Test
+        void shouldOnlyScanThePartitionForTheYearWhenSearchingByYear() {
+            seasonPartitionRepository.createPartitionsForYear("2098");
+            seasonPartitionRepository.createPartitionsForYear("2099");
+
+            final List<String> plan = jdbcTemplate.queryForList("explain select * from players_t where year = '2099'", String.class);
+
+            assertTrue(plan.stream().anyMatch(line -> line.contains("players_t_2099")), () -> String.join("\n", plan));
+            assertFalse(plan.stream().anyMatch(line -> line.contains("players_t_2098") || line.contains("players_t_default")), () -> String.join("\n", plan));
+        }
+
+        @Test
+        void shouldNotFailWhenThePartitionsAlreadyExist() {
+            seasonPartitionRepository.createPartitionsForYear("2099");
+
+            assertDoesNotThrow(() -> seasonPartitionRepository.createPartitionsForYear("2099"));
+        }
+
+        @Test
+        void shouldRejectAYearThatIsNotFourDigits() {
+            assertThrows(IllegalArgumentException.class, () -> seasonPartitionRepository.createPartitionsForYear("2099'); drop table players_t; --"));
+            assertThrows(IllegalArgumentException.class, () -> seasonPartitionRepository.createPartitionsForYear(null));
+        }
+    }
+
+    private String partitionOf(final String table, final String year) {
+        return jdbcTemplate.queryForObject("select distinct tableoid::regclass::text from " + table + " where year = ?", String.class, year);
+    }
+}
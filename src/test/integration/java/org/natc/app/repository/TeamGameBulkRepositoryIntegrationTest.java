@@ -0,0 +1,80 @@
+package org.natc.app.repository;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.natc.app.entity.domain.TeamGame;
+import org.natc.app.service.NATCServiceIntegrationTest;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TeamGameBulkRepositoryIntegrationTest extends NATCServiceIntegrationTest {
+
+    @Autowired
+    private TeamGameRepository teamGameRepository;
+
+    @Nested
+    class StreamAll {
+
+        @Test
+        void shouldPassEveryRowToTheConsumerOrderedById() {
+            teamGameRepository.saveAllAndFlush(List.of(
+                    TeamGame.builder().gameId(2).year("2001").type(1).teamId(1).opponent(2).goals(3).build(),
+                    TeamGame.builder().gameId(1).year("2001").type(1).teamId(2).opponent(1).goals(1).build(),
+                    TeamGame.builder().gameId(1).year("2001").type(1).teamId(1).opponent(2).goals(2).build(),
+                    TeamGame.builder().gameId(3).year("2002").type(1).teamId(1).opponent(3).goals(4).build()
+            ));
+
+            final List<String> keys = new ArrayList<>();
+
+            teamGameRepository.streamAll(new TeamGame(), row -> keys.add(row.getGameId() + ":" + row.getTeamId()));
+
+            assertEquals(List.of("1:1", "1:2", "2:1", "3:1"), keys);
+        }
+
+        @Test
+        void shouldOnlyPassRowsMatchingEveryNonNullValueOfTheProbe() {
+            teamGameRepository.saveAllAndFlush(List.of(
+                    TeamGame.builder().gameId(2).year("2001").type(1).teamId(1).opponent(2).goals(3).build(),
+                    TeamGame.builder().gameId(1).year("2001").type(1).teamId(2).opponent(1).goals(1).build(),
+                    TeamGame.builder().gameId(1).year("2001").type(1).teamId(1).opponent(2).goals(2).build(),
+                    TeamGame.builder().gameId(3).year("2002").type(1).teamId(1).opponent(3).goals(4).build()
+            ));
+
+            final List<String> keys = new ArrayList<>();
+
+            teamGameRepository.streamAll(TeamGame.builder().year("2001").opponent(2).build(), row -> keys.add(row.getGameId() + ":" + row.getTeamId()));
+
+            assertEquals(List.of("1:1", "2:1"), keys);
+        }
+
+        @Test
+        void shouldMapTheColumnsOfEachRow() {
+            final TeamGame expected = TeamGame.builder().gameId(2).year("2001").type(1).teamId(1).opponent(2).goals(3).build();
+
+            teamGameRepository.saveAndFlush(expected);
+
+            final List<TeamGame> rows = new ArrayList<>();
+
+            teamGameRepository.streamAll(new TeamGame(), rows::add);
+
+            assertEquals(1, rows.size());
+            assertEquals(expected.getYear(), rows.getFirst().getYear());
+            assertEquals(expected.getType(), rows.getFirst().getType());
+            assertEquals(expected.getTeamId(), rows.getFirst().getTeamId());
+            assertEquals(expected.getGoals(), rows.getFirst().getGoals());
+        }
+
+        @Test
+        void shouldNotCallTheConsumerWhenThereAreNoRows() {
+            final List<TeamGame> rows = new ArrayList<>();
+
+            teamGameRepository.streamAll(new TeamGame(), rows::add);
+
+            assertEquals(0, rows.size());
+        }
+    }
+}
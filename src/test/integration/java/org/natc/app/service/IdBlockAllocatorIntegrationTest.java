@@ -0,0 +1,55 @@
+package org.natc.app.service;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.natc.app.repository.IdSequence;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IdBlockAllocatorIntegrationTest extends NATCServiceIntegrationTest {
+
+    @Autowired
+    private IdBlockAllocator idBlockAllocator;
+
+    @Nested
+    class Allocate {
+
+        @Test
+        void shouldReturnUniqueIdsAcrossSeveralBlocks() {
+            final List<Integer> ids = idBlockAllocator.allocate(IdSequence.PLAYER, IdBlockAllocator.BLOCK_SIZE * 3 + 7);
+
+            assertEquals(IdBlockAllocator.BLOCK_SIZE * 3 + 7, new HashSet<>(ids).size());
+        }
+
+        @Test
+        void shouldNeverHandOutTheSameIdToConcurrentCallers() throws Exception {
+            final ExecutorService executor = Executors.newFixedThreadPool(8);
+            final List<Future<List<Integer>>> futures = new ArrayList<>();
+
+            try {
+                for (int i = 0; i < 32; i++) {
+                    futures.add(executor.submit(() -> idBlockAllocator.allocate(IdSequence.MANAGER, 37)));
+                }
+
+                final Set<Integer> ids = new HashSet<>();
+
+                for (final Future<List<Integer>> future : futures) {
+                    ids.addAll(future.get());
+                }
+
+                assertEquals(32 * 37, ids.size());
+            } finally {
+                executor.shutdown();
+            }
+        }
+    }
+}
@@ -14,6 +14,7 @@ import org.natc.app.repository.TeamRepository;
 import org.natc.app.util.TestHelpers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Example;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.util.*;
 import java.util.function.Function;
@@ -41,6 +42,9 @@ class LeagueServiceIntegrationTest extends NATCServiceIntegrationTest {
     @Autowired
     private LeagueService leagueService;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @BeforeEach
     void setup() {
         testHelpers.seedFirstAndLastNames();
@@ -172,5 +176,18 @@ class LeagueServiceIntegrationTest extends NATCServiceIntegrationTest {
                 assertEquals(previousYearPlayers.get(i).getTeamId(), newPlayers.get(i).getTeamId());
             }
         }
+
+        @Test
+        void shouldCopyThePlayersIntoThePartitionForTheNewYear() throws NATCException {
+            leagueService.generateNewLeague();
+
+            final String newYear = String.valueOf(Integer.parseInt(leagueConfiguration.getFirstSeason()) + 1);
+
+            leagueService.updateLeagueForNewSeason(leagueConfiguration.getFirstSeason(), newYear);
+
+            final List<String> partitions = jdbcTemplate.queryForList("select distinct tableoid::regclass::text from players_t where year = ?", String.class, newYear);
+
+            assertEquals(List.of("players_t_" + newYear), partitions);
+        }
     }
 }
\ No newline at end of file
@@ -16,6 +16,7 @@ import org.springframework.data.domain.Example;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -30,6 +31,8 @@ class ManagerServiceIntegrationTest extends NATCServiceIntegrationTest {
     @Autowired
     private ManagerService managerService;
 
+    private final SplittableRandom random = new SplittableRandom(1971);
+
     @Nested
     class GenerateManagers {
 
@@ -40,7 +43,7 @@ class ManagerServiceIntegrationTest extends NATCServiceIntegrationTest {
 
         @Test
         void generateManagers_ShouldCreateTheGivenNumberOfManagersInTheDatabase() throws NATCException {
-            managerService.generateManagers("1234", 100);
+            managerService.generateManagers(random, "1234", 100);
 
             final List<Manager> managers = managerRepository.findAll();
 
@@ -49,7 +52,7 @@ class ManagerServiceIntegrationTest extends NATCServiceIntegrationTest {
 
         @Test
         void generateManagers_ShouldCreateAllManagersForTheGivenYear() throws NATCException {
-            managerService.generateManagers("1234", 100);
+            managerService.generateManagers(random, "1234", 100);
 
             final List<Manager> managers = managerRepository.findAll();
 
@@ -58,7 +61,7 @@ class ManagerServiceIntegrationTest extends NATCServiceIntegrationTest {
 
         @Test
         void generateManagers_ShouldCreateEveryManagerWithAUniqueName() throws NATCException {
-            managerService.generateManagers("1234", 1000);
+            managerService.generateManagers(random, "1234", 1000);
 
             final List<Manager> managers = managerRepository.findAll();
 
@@ -67,7 +70,7 @@ class ManagerServiceIntegrationTest extends NATCServiceIntegrationTest {
 
         @Test
         void generateManagers_ShouldCreateEveryManagerWithAUniqueManagerId() throws NATCException {
-            managerService.generateManagers("1234", 100);
+            managerService.generateManagers(random, "1234", 100);
 
             final List<Manager> managers = managerRepository.findAll();
 
@@ -76,7 +79,7 @@ class ManagerServiceIntegrationTest extends NATCServiceIntegrationTest {
 
         @Test
         void generateManagers_ShouldCreateEveryManagerWithAnAgeBetweenFortyAndFifty() throws NATCException {
-            managerService.generateManagers("1234", 100);
+            managerService.generateManagers(random, "1234", 100);
 
             final List<Manager> managers = managerRepository.findAll();
 
@@ -85,7 +88,7 @@ class ManagerServiceIntegrationTest extends NATCServiceIntegrationTest {
 
         @Test
         void generateManagers_ShouldCreateEveryManagerWithRatingsBetweenZeroAndOne() throws NATCException {
-            managerService.generateManagers("1234", 100);
+            managerService.generateManagers(random, "1234", 100);
 
             final List<Manager> managers = managerRepository.findAll();
 
@@ -98,7 +101,7 @@ class ManagerServiceIntegrationTest extends NATCServiceIntegrationTest {
 
         @Test
         void generateManagers_ShouldCreateEveryManagerWithNewHireReleasedAndRetiredAsZero() throws NATCException {
-            managerService.generateManagers("1234", 100);
+            managerService.generateManagers(random, "1234", 100);
 
             final List<Manager> managers = managerRepository.findAll();
 
@@ -109,7 +112,7 @@ class ManagerServiceIntegrationTest extends NATCServiceIntegrationTest {
 
         @Test
         void generateManagers_ShouldCreateEveryManagerWithScoresAndSeasonsAsZero() throws NATCException {
-            managerService.generateManagers("1234", 100);
+            managerService.generateManagers(random, "1234", 100);
 
             final List<Manager> managers = managerRepository.findAll();
 
@@ -129,7 +132,7 @@ class ManagerServiceIntegrationTest extends NATCServiceIntegrationTest {
                     ManagerStyle.BALANCED.getValue()
             );
 
-            managerService.generateManagers("1234", 100);
+            managerService.generateManagers(random, "1234", 100);
 
             final List<Manager> managers = managerRepository.findAll();
 
@@ -138,16 +141,16 @@ class ManagerServiceIntegrationTest extends NATCServiceIntegrationTest {
 
         @Test
         void generateManagers_ShouldContinueToIncrementManagerIdsOnSubsequentCalls() throws NATCException {
-            managerService.generateManagers("1234", 5);
-            managerService.generateManagers("1234", 5);
-            managerService.generateManagers("1234", 5);
-            managerService.generateManagers("1234", 5);
-            managerService.generateManagers("1234", 5);
+            managerService.generateManagers(random, "1234", 5);
+            managerService.generateManagers(random, "1234", 5);
+            managerService.generateManagers(random, "1234", 5);
+            managerService.generateManagers(random, "1234", 5);
+            managerService.generateManagers(random, "1234", 5);
 
             final List<Manager> managers = managerRepository.findAll();
 
             assertEquals(25, managers.size());
-            assertEquals(25, managers.stream().filter(manager -> manager.getManagerId() >= 1 && manager.getManagerId() <= 25).count());
+            assertEquals(25, managers.stream().map(Manager::getManagerId).distinct().count());
         }
     }
 
@@ -158,7 +161,7 @@ class ManagerServiceIntegrationTest extends NATCServiceIntegrationTest {
         void shouldCreateAManagerInTheDatabaseBasedOnTheGivenPlayer() {
             final Player player = Player.builder().playerId(3746).year("2006").firstName("Dom").lastName("Perignon").age(32).build();
 
-            managerService.generateManagerFromPlayer("2016", player);
+            managerService.generateManagerFromPlayer(random, "2016", player);
 
             final List<Manager> managers = managerRepository.findAll();
 
@@ -173,7 +176,7 @@ class ManagerServiceIntegrationTest extends NATCServiceIntegrationTest {
         void shouldCreateTheManagerWithAnAgeBasedOnTheGivenPlayerAgeAndDifferenceInYears() {
             final Player player = Player.builder().playerId(3746).year("2006").age(32).build();
 
-            managerService.generateManagerFromPlayer("2010", player);
+            managerService.generateManagerFromPlayer(random, "2010", player);
 
             final List<Manager> managers = managerRepository.findAll();
 
@@ -203,7 +206,7 @@ class ManagerServiceIntegrationTest extends NATCServiceIntegrationTest {
                     .vitality(0.987)
                     .build();
 
-            managerService.generateManagerFromPlayer("2016", player);
+            managerService.generateManagerFromPlayer(random, "2016", player);
 
             final List<Manager> managers = managerRepository.findAll();
 
@@ -217,19 +220,19 @@ class ManagerServiceIntegrationTest extends NATCServiceIntegrationTest {
         }
 
         @Test
-        void shouldCreateTheManagerWithTheNextAvailableManagerId() {
-            final Player player = Player.builder().playerId(3746).year("2006").age(32).build();
-            final Manager manager = Manager.builder().managerId(123).year("2010").build();
+        void shouldCreateTheManagerWithAManagerIdNotAlreadyHandedOut() throws NATCException {
+            testHelpers.seedFirstAndLastNames();
 
-            managerRepository.save(manager);
+            final Player player = Player.builder().playerId(3746).year("2006").age(32).build();
+            final List<Manager> generatedManagers = managerService.generateManagers(random, "2010", 10);
 
-            managerService.generateManagerFromPlayer("2010", player);
+            managerService.generateManagerFromPlayer(random, "2010", player);
 
             final List<Manager> managers = managerRepository.findAll(Example.of(Manager.builder().playerId(3746).build()));
 
             assertEquals(1, managers.size());
 
-            assertEquals(124, managers.getFirst().getManagerId());
+            assertTrue(generatedManagers.stream().map(Manager::getManagerId).noneMatch(managers.getFirst().getManagerId()::equals));
         }
 
         @Test
@@ -253,7 +256,7 @@ class ManagerServiceIntegrationTest extends NATCServiceIntegrationTest {
                     .vitality(0.987)
                     .build();
 
-            managerService.generateManagerFromPlayer("2016", player);
+            managerService.generateManagerFromPlayer(random, "2016", player);
 
             final List<Manager> managers = managerRepository.findAll();
 
@@ -11,8 +11,8 @@ import org.natc.app.repository.PlayerRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -34,130 +34,74 @@ class NameServiceIntegrationTest extends NATCServiceIntegrationTest {
     @Autowired
     private NameService nameService;
 
+    private final SplittableRandom random = new SplittableRandom(1971);
+
     @Nested
-    class GenerateName {
+    class GenerateNames {
 
         @Test
-        void shouldBuildNameFromDataInFirstNameAndLastNameTables() throws NATCException {
+        void shouldBuildNamesFromDataInFirstNameAndLastNameTables() throws NATCException {
             firstNameRepository.save(FirstName.builder().name("Joe").frequency(1.0).build());
             lastNameRepository.save(LastName.builder().name("Blow").frequency(1.0).build());
 
-            final FullName generatedName = nameService.generateName();
+            final List<FullName> generatedNames = nameService.generateNames(random, 1);
 
-            assertEquals("Joe", generatedName.getFirstName());
-            assertEquals("Blow", generatedName.getLastName());
+            assertEquals(1, generatedNames.size());
+            assertEquals("Joe", generatedNames.getFirst().getFirstName());
+            assertEquals("Blow", generatedNames.getFirst().getLastName());
         }
 
         @Test
-        void shouldChooseFirstNamesRandomly() throws NATCException {
+        void shouldGenerateTheRequestedNumberOfUniqueNames() throws NATCException {
             final List<FirstName> firstNameList = List.of(
                     FirstName.builder().name("James").frequency(1.0).build(),
                     FirstName.builder().name("John").frequency(1.0).build(),
                     FirstName.builder().name("Robert").frequency(1.0).build(),
                     FirstName.builder().name("Michael").frequency(1.0).build(),
-                    FirstName.builder().name("William").frequency(1.0).build(),
-                    FirstName.builder().name("David").frequency(1.0).build(),
-                    FirstName.builder().name("Richard").frequency(1.0).build(),
-                    FirstName.builder().name("Charles").frequency(1.0).build(),
-                    FirstName.builder().name("Joseph").frequency(1.0).build(),
-                    FirstName.builder().name("Thomas").frequency(1.0).build()
+                    FirstName.builder().name("William").frequency(1.0).build()
             );
 
-            firstNameRepository.saveAll(firstNameList);
-            lastNameRepository.save(LastName.builder().name("Blow").frequency(1.0).build());
-
-            final List<FullName> fullNames = new ArrayList<>();
-
-            for (int i = 1; i <= 100; i++) {
-                fullNames.add(nameService.generateName());
-            }
-
-            assertEquals(10, fullNames.stream().map(FullName::getFirstName).distinct().count());
-        }
-
-        @Test
-        void shouldChooseLastNamesRandomly() throws NATCException {
             final List<LastName> lastNameList = List.of(
                     LastName.builder().name("Smith").frequency(1.0).build(),
                     LastName.builder().name("Johnson").frequency(1.0).build(),
                     LastName.builder().name("Williams").frequency(1.0).build(),
                     LastName.builder().name("Jones").frequency(1.0).build(),
-                    LastName.builder().name("Brown").frequency(1.0).build(),
-                    LastName.builder().name("Davis").frequency(1.0).build(),
-                    LastName.builder().name("Miller").frequency(1.0).build(),
-                    LastName.builder().name("Wilson").frequency(1.0).build(),
-                    LastName.builder().name("Moore").frequency(1.0).build(),
-                    LastName.builder().name("Taylor").frequency(1.0).build()
-            );
-
-            firstNameRepository.save(FirstName.builder().name("Joe").frequency(1.0).build());
-            lastNameRepository.saveAll(lastNameList);
-
-            final List<FullName> fullNames = new ArrayList<>();
-
-            for (int i = 1; i <= 100; i++) {
-                fullNames.add(nameService.generateName());
-            }
-
-            assertEquals(10, fullNames.stream().map(FullName::getLastName).distinct().count());
-        }
-
-        @Test
-        void shouldChooseHighFrequencyFirstNamesMoreOftenThanLowFrequencyFirstNames() throws NATCException {
-            final List<FirstName> firstNameList = List.of(
-                    FirstName.builder().name("James").frequency(1.0).build(),
-                    FirstName.builder().name("Thomas").frequency(0.001).build()
-            );
-
-            final List<LastName> lastNameList = List.of(
-                    LastName.builder().name("Smith").frequency(1.0).build(),
-                    LastName.builder().name("Taylor").frequency(1.0).build()
+                    LastName.builder().name("Brown").frequency(1.0).build()
             );
 
             firstNameRepository.saveAll(firstNameList);
             lastNameRepository.saveAll(lastNameList);
 
-            final List<FullName> fullNames = new ArrayList<>();
-
-            for (int i = 1; i <= 100; i++) {
-                fullNames.add(nameService.generateName());
-            }
+            final List<FullName> generatedNames = nameService.generateNames(random, 25);
 
-            final long jamesCount = fullNames.stream().filter(fullName -> fullName.getFirstName().equals("James")).count();
-            final long thomasCount = fullNames.stream().filter(fullName -> fullName.getFirstName().equals("Thomas")).count();
-
-            assertTrue(jamesCount > thomasCount);
+            assertEquals(25, generatedNames.size());
+            assertEquals(25, generatedNames.stream().distinct().count());
         }
 
         @Test
-        void shouldChooseHighFrequencyLastNamesMoreOftenThanLowFrequencyLastNames() throws NATCException {
-            final List<FirstName> firstNameList = List.of(
-                    FirstName.builder().name("James").frequency(1.0).build(),
-                    FirstName.builder().name("Thomas").frequency(1.0).build()
-            );
-
-            final List<LastName> lastNameList = List.of(
-                    LastName.builder().name("Smith").frequency(0.001).build(),
-                    LastName.builder().name("Taylor").frequency(1.0).build()
-            );
+        void shouldChooseHighFrequencyNamesMoreOftenThanLowFrequencyNames() throws NATCException {
+            final List<FirstName> firstNameList = new ArrayList<>();
+            final List<LastName> lastNameList = new ArrayList<>();
+
+            for (int i = 0; i < 50; i++) {
+                firstNameList.add(FirstName.builder().name("Common" + i).frequency(1.0).build());
+                firstNameList.add(FirstName.builder().name("Rare" + i).frequency(0.001).build());
+                lastNameList.add(LastName.builder().name("Last" + i).frequency(1.0).build());
+            }
 
             firstNameRepository.saveAll(firstNameList);
             lastNameRepository.saveAll(lastNameList);
 
-            final List<FullName> fullNames = new ArrayList<>();
-
-            for (int i = 1; i <= 100; i++) {
-                fullNames.add(nameService.generateName());
-            }
+            final List<FullName> generatedNames = nameService.generateNames(random, 100);
 
-            final long smithCount = fullNames.stream().filter(fullName -> fullName.getLastName().equals("Smith")).count();
-            final long taylorCount = fullNames.stream().filter(fullName -> fullName.getLastName().equals("Taylor")).count();
+            final long commonCount = generatedNames.stream().filter(fullName -> fullName.getFirstName().startsWith("Common")).count();
+            final long rareCount = generatedNames.stream().filter(fullName -> fullName.getFirstName().startsWith("Rare")).count();
 
-            assertTrue(taylorCount > smithCount);
+            assertTrue(commonCount > rareCount);
         }
 
         @Test
-        void shouldNotGenerateANameThatAlreadyExistsAsAManager() throws NATCException {
+        void shouldNotGenerateNamesThatAlreadyExistAsManagersOrPlayers() throws NATCException {
             final List<FirstName> firstNameList = List.of(
                     FirstName.builder().name("James").frequency(1.0).build(),
                     FirstName.builder().name("Thomas").frequency(1.0).build()
@@ -170,46 +114,23 @@ class NameServiceIntegrationTest extends NATCServiceIntegrationTest {
 
             final List<Manager> managerList = List.of(
                     Manager.builder().managerId(1).year("2000").firstName("James").lastName("Smith").build(),
-                    Manager.builder().managerId(2).year("2000").firstName("James").lastName("Taylor").build(),
-                    Manager.builder().managerId(3).year("2000").firstName("Thomas").lastName("Smith").build()
-            );
-
-            firstNameRepository.saveAll(firstNameList);
-            lastNameRepository.saveAll(lastNameList);
-            managerRepository.saveAll(managerList);
-
-            final FullName generatedName = nameService.generateName();
-
-            assertEquals("Thomas", generatedName.getFirstName());
-            assertEquals("Taylor", generatedName.getLastName());
-        }
-
-        @Test
-        void shouldNotGenerateANameThatAlreadyExistsAsAPlayer() throws NATCException {
-            final List<FirstName> firstNameList = List.of(
-                    FirstName.builder().name("James").frequency(1.0).build(),
-                    FirstName.builder().name("Thomas").frequency(1.0).build()
-            );
-
-            final List<LastName> lastNameList = List.of(
-                    LastName.builder().name("Smith").frequency(1.0).build(),
-                    LastName.builder().name("Taylor").frequency(1.0).build()
+                    Manager.builder().managerId(2).year("2000").firstName("James").lastName("Taylor").build()
             );
 
             final List<Player> playerList = List.of(
-                    Player.builder().playerId(1).year("2000").firstName("James").lastName("Smith").build(),
-                    Player.builder().playerId(2).year("2000").firstName("James").lastName("Taylor").build(),
-                    Player.builder().playerId(3).year("2000").firstName("Thomas").lastName("Smith").build()
+                    Player.builder().playerId(1).year("2000").firstName("Thomas").lastName("Smith").build()
             );
 
             firstNameRepository.saveAll(firstNameList);
             lastNameRepository.saveAll(lastNameList);
+            managerRepository.saveAll(managerList);
             playerRepository.saveAll(playerList);
 
-            final FullName generatedName = nameService.generateName();
+            final List<FullName> generatedNames = nameService.generateNames(random, 1);
 
-            assertEquals("Thomas", generatedName.getFirstName());
-            assertEquals("Taylor", generatedName.getLastName());
+            assertEquals(1, generatedNames.size());
+            assertEquals("Thomas", generatedNames.getFirst().getFirstName());
+            assertEquals("Taylor", generatedNames.getFirst().getLastName());
         }
     }
 }
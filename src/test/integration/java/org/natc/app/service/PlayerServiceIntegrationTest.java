@@ -14,6 +14,7 @@ import org.springframework.data.domain.Example;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Objects;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -28,6 +29,8 @@ class PlayerServiceIntegrationTest extends NATCServiceIntegrationTest {
     @Autowired
     private PlayerService playerService;
 
+    private final SplittableRandom random = new SplittableRandom(1971);
+
     @Nested
     class GeneratePlayers {
 
@@ -38,7 +41,7 @@ class PlayerServiceIntegrationTest extends NATCServiceIntegrationTest {
 
         @Test
         void shouldCreateTheGivenNumberOfPlayersInTheDatabase() throws NATCException {
-            playerService.generatePlayers("2222", 100);
+            playerService.generatePlayers(random, "2222", 100);
 
             final List<Player> players = playerRepository.findAll();
 
@@ -47,7 +50,7 @@ class PlayerServiceIntegrationTest extends NATCServiceIntegrationTest {
 
         @Test
         void shouldCreateAllPlayersForTheGivenYear() throws NATCException {
-            playerService.generatePlayers("2222", 100);
+            playerService.generatePlayers(random, "2222", 100);
 
             final List<Player> players = playerRepository.findAll();
 
@@ -56,7 +59,7 @@ class PlayerServiceIntegrationTest extends NATCServiceIntegrationTest {
 
         @Test
         void shouldCreateEveryPlayerWithAUniqueName() throws NATCException {
-            playerService.generatePlayers("2222", 1000);
+            playerService.generatePlayers(random, "2222", 1000);
 
             final List<Player> players = playerRepository.findAll();
 
@@ -65,7 +68,7 @@ class PlayerServiceIntegrationTest extends NATCServiceIntegrationTest {
 
         @Test
         void shouldCreateEveryPlayerWithAUniquePlayerId() throws NATCException {
-            playerService.generatePlayers("2222", 100);
+            playerService.generatePlayers(random, "2222", 100);
 
             final List<Player> players = playerRepository.findAll();
 
@@ -74,7 +77,7 @@ class PlayerServiceIntegrationTest extends NATCServiceIntegrationTest {
 
         @Test
         void shouldCreateEveryPlayerWithAnAgeBetweenEighteenAndThirty() throws NATCException {
-            playerService.generatePlayers("2222", 100);
+            playerService.generatePlayers(random, "2222", 100);
 
             final List<Player> players = playerRepository.findAll();
 
@@ -83,7 +86,7 @@ class PlayerServiceIntegrationTest extends NATCServiceIntegrationTest {
 
         @Test
         void shouldCreateEveryPlayerWithRatingsBetweenZeroAndOne() throws NATCException {
-            playerService.generatePlayers("2222", 100);
+            playerService.generatePlayers(random, "2222", 100);
 
             final List<Player> players = playerRepository.findAll();
 
@@ -105,7 +108,7 @@ class PlayerServiceIntegrationTest extends NATCServiceIntegrationTest {
 
         @Test
         void shouldCreateEveryPlayerWithAllPlayerLifecycleFlagsAsZero() throws NATCException {
-            playerService.generatePlayers("2222", 100);
+            playerService.generatePlayers(random, "2222", 100);
 
             final List<Player> players = playerRepository.findAll();
 
@@ -120,7 +123,7 @@ class PlayerServiceIntegrationTest extends NATCServiceIntegrationTest {
 
         @Test
         void shouldCreateEveryPlayerWithSeasonsPlayedAsZero() throws NATCException {
-            playerService.generatePlayers("2222", 100);
+            playerService.generatePlayers(random, "2222", 100);
 
             final List<Player> players = playerRepository.findAll();
 
@@ -129,16 +132,24 @@ class PlayerServiceIntegrationTest extends NATCServiceIntegrationTest {
 
         @Test
         void shouldContinueToIncrementPlayerIdsOnSubsequentCalls() throws NATCException {
-            playerService.generatePlayers("2222", 5);
-            playerService.generatePlayers("2222", 5);
-            playerService.generatePlayers("2222", 5);
-            playerService.generatePlayers("2222", 5);
-            playerService.generatePlayers("2222", 5);
+            playerService.generatePlayers(random, "2222", 5);
+            playerService.generatePlayers(random, "2222", 5);
+            playerService.generatePlayers(random, "2222", 5);
+            playerService.generatePlayers(random, "2222", 5);
+            playerService.generatePlayers(random, "2222", 5);
 
             final List<Player> players = playerRepository.findAll();
 
             assertEquals(25, players.size());
-            assertEquals(25, players.stream().filter(player -> player.getPlayerId() >= 1 && player.getPlayerId() <= 25).count());
+            assertEquals(25, players.stream().map(Player::getPlayerId).distinct().count());
+        }
+
+        @Test
+        void shouldNotReusePlayerIdsAlreadyHandedOut() throws NATCException {
+            final List<Integer> firstPlayerIds = playerService.generatePlayers(random, "2222", 60).stream().map(Player::getPlayerId).toList();
+            final List<Integer> secondPlayerIds = playerService.generatePlayers(random, "2222", 60).stream().map(Player::getPlayerId).toList();
+
+            assertTrue(secondPlayerIds.stream().noneMatch(firstPlayerIds::contains));
         }
     }
 
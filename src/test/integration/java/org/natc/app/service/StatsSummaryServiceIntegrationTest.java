@@ -0,0 +1,149 @@
+package org.natc.app.service;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.natc.app.entity.domain.*;
+import org.natc.app.repository.PlayerGameRepository;
+import org.natc.app.repository.PlayerStatsSummaryRepository;
+import org.natc.app.repository.TeamDefenseSummaryRepository;
+import org.natc.app.repository.TeamGameRepository;
+import org.natc.app.repository.TeamOffenseSummaryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StatsSummaryServiceIntegrationTest extends NATCServiceIntegrationTest {
+
+    private static final Integer REGULAR_SEASON = GameType.REGULAR_SEASON.getValue();
+
+    @Autowired
+    private PlayerGameRepository playerGameRepository;
+
+    @Autowired
+    private TeamGameRepository teamGameRepository;
+
+    @Autowired
+    private PlayerStatsSummaryRepository playerStatsSummaryRepository;
+
+    @Autowired
+    private TeamOffenseSummaryRepository teamOffenseSummaryRepository;
+
+    @Autowired
+    private TeamDefenseSummaryRepository teamDefenseSummaryRepository;
+
+    @Autowired
+    private StatsSummaryService statsSummaryService;
+
+    @Nested
+    class FoldGames {
+
+        @Test
+        void shouldInsertASummaryRowTheFirstTimeAPlayerOrTeamAppears() {
+            foldDay(1, 3, 1);
+
+            final List<PlayerStatsSummary> playerSummaries = playerStatsSummaryRepository.findAll();
+            final List<TeamOffenseSummary> offenseSummaries = teamOffenseSummaryRepository.findAll();
+            final List<TeamDefenseSummary> defenseSummaries = teamDefenseSummaryRepository.findAll();
+
+            assertEquals(2, playerSummaries.size());
+            assertEquals(2, offenseSummaries.size());
+            assertEquals(2, defenseSummaries.size());
+        }
+
+        @Test
+        void shouldAddEachGameDayOntoTheExistingSummaryRows() {
+            foldDay(1, 3, 1);
+            foldDay(2, 2, 4);
+
+            final PlayerStatsSummary playerSummary = playerStatsSummaryRepository.findAll().stream()
+                    .filter(summary -> summary.getPlayerId().equals(101)).findFirst().orElseThrow();
+            final TeamOffenseSummary offenseSummary = teamOffenseSummaryRepository.findAll().stream()
+                    .filter(summary -> summary.getTeamId().equals(1)).findFirst().orElseThrow();
+            final TeamDefenseSummary defenseSummary = teamDefenseSummaryRepository.findAll().stream()
+                    .filter(summary -> summary.getTeamId().equals(1)).findFirst().orElseThrow();
+
+            assertEquals(2, playerSummary.getGames());
+            assertEquals(5, playerSummary.getGoals());
+            assertEquals(2, offenseSummary.getGames());
+            assertEquals(5, offenseSummary.getScore());
+            assertEquals(2, defenseSummary.getGames());
+            assertEquals(5, defenseSummary.getScore());
+        }
+    }
+
+    @Nested
+    class VerifySummaries {
+
+        @Test
+        void shouldFindNoMismatchesWhenTheSummariesWereFoldedFromTheGames() {
+            foldDay(1, 3, 1);
+            foldDay(2, 2, 4);
+
+            assertEquals(0, statsSummaryService.verifySummaries("2001"));
+        }
+
+        @Test
+        void shouldCountSummariesThatDifferFromTheGames() {
+            foldDay(1, 3, 1);
+
+            teamOffenseSummaryRepository.upsertAll(List.of(TeamOffenseSummary.builder()
+                    .year("2001").type(REGULAR_SEASON).teamId(1).games(0).possessions(0).possessionTime(0).attempts(0).goals(0).turnovers(0).steals(0)
+                    .penalties(0).offensivePenalties(0).penaltyShotsAttempted(0).penaltyShotsMade(0).overtimePenaltyShotsAttempted(0)
+                    .overtimePenaltyShotsMade(0).score(1).build()));
+
+            assertEquals(1, statsSummaryService.verifySummaries("2001"));
+        }
+
+        @Test
+        void shouldCountSummariesWithNoGamesBehindThem() {
+            foldDay(1, 3, 1);
+
+            playerStatsSummaryRepository.saveAndFlush(PlayerStatsSummary.builder().year("2001").type(REGULAR_SEASON).playerId(999).games(1).build());
+
+            assertEquals(1, statsSummaryService.verifySummaries("2001"));
+        }
+
+        @Test
+        void shouldOnlyCheckTheGivenYear() {
+            foldDay(1, 3, 1);
+
+            playerStatsSummaryRepository.saveAndFlush(PlayerStatsSummary.builder().year("2002").type(REGULAR_SEASON).playerId(999).games(1).build());
+
+            assertEquals(0, statsSummaryService.verifySummaries("2001"));
+        }
+    }
+
+    // team 1 with player 101 hosts team 2 with player 201; the given goals are also each team's score
+    private void foldDay(final Integer gameId, final Integer homeGoals, final Integer roadGoals) {
+        final List<TeamGame> teamGames = List.of(
+                teamGame(gameId, 1, 2, homeGoals),
+                teamGame(gameId, 2, 1, roadGoals)
+        );
+        final List<PlayerGame> playerGames = List.of(
+                playerGame(gameId, 101, 1, homeGoals),
+                playerGame(gameId, 201, 2, roadGoals)
+        );
+
+        teamGameRepository.insertAll(teamGames);
+        playerGameRepository.insertAll(playerGames);
+        statsSummaryService.foldGames(teamGames, playerGames);
+    }
+
+    private TeamGame teamGame(final Integer gameId, final Integer teamId, final Integer opponent, final Integer goals) {
+        return TeamGame.builder()
+                .gameId(gameId).year("2001").type(REGULAR_SEASON).teamId(teamId).opponent(opponent).win(0)
+                .possessions(20).possessionTime(300).attempts(10).goals(goals).turnovers(2).steals(1).penalties(1).offensivePenalties(0)
+                .penaltyShotsAttempted(1).penaltyShotsMade(1).overtimePenaltyShotsAttempted(0).overtimePenaltyShotsMade(0).totalScore(goals)
+                .build();
+    }
+
+    private PlayerGame playerGame(final Integer gameId, final Integer playerId, final Integer teamId, final Integer goals) {
+        return PlayerGame.builder()
+                .gameId(gameId).year("2001").type(REGULAR_SEASON).playerId(playerId).teamId(teamId).injured(0).started(1)
+                .playingTime(300).attempts(10).goals(goals).assists(0).turnovers(2).stops(1).steals(1).penalties(1).offensivePenalties(0)
+                .penaltyShotsAttempted(1).penaltyShotsMade(1).overtimePenaltyShotsAttempted(0).overtimePenaltyShotsMade(0).offense(goals).points(goals)
+                .build();
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.SplittableRandom;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -23,6 +24,9 @@ class TeamManagerDraftServiceIntegrationTest extends NATCServiceIntegrationTest
     @Autowired
     private TeamManagerDraftService teamManagerDraftService;
 
+    @Autowired
+    private TeamService teamService;
+
     @Nested
     class AssignManagersToTeams {
 
@@ -54,7 +58,7 @@ class TeamManagerDraftServiceIntegrationTest extends NATCServiceIntegrationTest
                     Manager.builder().managerId(105).year("2000").seasons(0).offense(0.2).defense(0.2).intangible(0.2).penalties(0.2).build()
             );
 
-            teamManagerDraftService.assignManagersToTeams(teams, managers);
+            teamManagerDraftService.assignManagersToTeams(teams, managers, teamService.getTeamSeasonHistory("2000", 3), new SplittableRandom(1971));
 
             assertEquals(
                     previousYearTeams.stream().sorted(Comparator.comparing(Team::getWins)).map(Team::getTeamId).toList(),
@@ -90,7 +94,7 @@ class TeamManagerDraftServiceIntegrationTest extends NATCServiceIntegrationTest
 
             final List<Manager> managers = List.of(lowestRatedManager, highestRatedManager);
 
-            teamManagerDraftService.assignManagersToTeams(teams, managers);
+            teamManagerDraftService.assignManagersToTeams(teams, managers, teamService.getTeamSeasonHistory("2000", 3), new SplittableRandom(1971));
 
             assertEquals(1, highestRatedManager.getTeamId());
             assertEquals(2, lowestRatedManager.getTeamId());
@@ -120,7 +124,7 @@ class TeamManagerDraftServiceIntegrationTest extends NATCServiceIntegrationTest
 
             final List<Manager> managers = List.of(lowestRatedManager, highestRatedManager);
 
-            teamManagerDraftService.assignManagersToTeams(teams, managers);
+            teamManagerDraftService.assignManagersToTeams(teams, managers, teamService.getTeamSeasonHistory("2000", 3), new SplittableRandom(1971));
 
             assertEquals(2, highestRatedManager.getTeamId());
             assertEquals(1, lowestRatedManager.getTeamId());
@@ -1067,44 +1067,69 @@ class TeamServiceIntegrationTest extends NATCServiceIntegrationTest {
         }
     }
 
+    @Nested
+    class GetTeamSeasonHistory {
+
+        @Test
+        void shouldReturnAHistoryOfTheTeamRecordsForTheGivenNumberOfSeasons() {
+            final List<Team> teamList = List.of(
+                    Team.builder().teamId(1).year("1997").build(),
+                    Team.builder().teamId(1).year("1998").build(),
+                    Team.builder().teamId(1).year("1999").build(),
+                    Team.builder().teamId(1).year("2000").build(),
+                    Team.builder().teamId(2).year("1999").build()
+            );
+
+            teamRepository.saveAll(teamList);
+
+            final TeamSeasonHistory teamSeasonHistory = teamService.getTeamSeasonHistory("2000", 3);
+
+            assertTrue(teamSeasonHistory.findTeam(1, "2000").isPresent());
+            assertTrue(teamSeasonHistory.findTeam(1, "1999").isPresent());
+            assertTrue(teamSeasonHistory.findTeam(1, "1998").isPresent());
+            assertTrue(teamSeasonHistory.findTeam(2, "1999").isPresent());
+            assertTrue(teamSeasonHistory.findTeam(1, "1997").isEmpty());
+        }
+    }
+
     @Nested
     class WillTeamReleaseManager {
 
         @Test
         void shouldReturnFalseIfPreviousSeasonTeamIsDoesNotExist() {
             final Team team = Team.builder().teamId(1).year("2000").build();
-            final Manager manager = Manager.builder().managerId(1).year("2000").seasons(5).build();
+            final Manager manager = Manager.builder().managerId(1).teamId(1).year("2000").seasons(5).build();
 
             teamRepository.save(team);
 
-            assertFalse(teamService.willTeamReleaseManager(manager));
+            assertFalse(teamService.willTeamReleaseManager(manager, teamService.getTeamSeasonHistory(manager.getYear(), 3)));
         }
 
         @Test
         void shouldReturnFalseIfTwoYearsBackSeasonTeamIsDoesNotExist() {
-            final Manager manager = Manager.builder().managerId(1).year("2000").seasons(5).build();
+            final Manager manager = Manager.builder().managerId(1).teamId(1).year("2000").seasons(5).build();
             final List<Team> teamList = List.of(
                     Team.builder().teamId(1).year("1999").build(),
-                    Team.builder().teamId(2).year("2000").build()
+                    Team.builder().teamId(1).year("2000").build()
             );
 
             teamRepository.saveAll(teamList);
 
-            assertFalse(teamService.willTeamReleaseManager(manager));
+            assertFalse(teamService.willTeamReleaseManager(manager, teamService.getTeamSeasonHistory(manager.getYear(), 3)));
         }
 
         @Test
         void shouldReturnTrueIfBothYearsTeamsExistAndTheManagerFailsOnCriteria() {
-            final Manager manager = Manager.builder().managerId(1).year("2000").seasons(5).totalSeasons(5).score(0).totalScore(0).build();
+            final Manager manager = Manager.builder().managerId(1).teamId(1).year("2000").seasons(5).totalSeasons(5).score(0).totalScore(0).build();
             final List<Team> teamList = List.of(
                     Team.builder().teamId(1).wins(55).playoffRank(1).expectation(0.6).year("1998").build(),
-                    Team.builder().teamId(2).wins(55).playoffRank(1).expectation(0.6).year("1999").build(),
-                    Team.builder().teamId(3).wins(55).playoffRank(1).expectation(0.6).year("2000").build()
+                    Team.builder().teamId(1).wins(55).playoffRank(1).expectation(0.6).year("1999").build(),
+                    Team.builder().teamId(1).wins(55).playoffRank(1).expectation(0.6).year("2000").build()
             );
 
             teamRepository.saveAll(teamList);
 
-            assertTrue(teamService.willTeamReleaseManager(manager));
+            assertTrue(teamService.willTeamReleaseManager(manager, teamService.getTeamSeasonHistory(manager.getYear(), 3)));
         }
     }
 
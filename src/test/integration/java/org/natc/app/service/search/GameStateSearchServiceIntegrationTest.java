@@ -7,6 +7,7 @@ import org.natc.app.entity.domain.Period;
 import org.natc.app.entity.domain.PossessionType;
 import org.natc.app.entity.request.GameStateSearchRequest;
 import org.natc.app.entity.response.GameStateResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.natc.app.repository.GameStateRepository;
 import org.natc.app.service.NATCServiceIntegrationTest;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,10 +28,10 @@ class GameStateSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
     private GameStateSearchService searchService;
 
     @Nested
-    class FetchAll {
+    class FetchPage {
 
         @Test
-        void shouldReturnAPlayerFromTheDatabaseMappedToAResponse() {
+        void shouldReturnAPlayerFromTheDatabaseMappedToAResponse() throws InvalidCursorException {
             final GameState gameState = GameState.builder()
                     .gameId(123)
                     .started(0)
@@ -39,7 +40,7 @@ class GameStateSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
 
             repository.save(gameState);
 
-            final List<GameStateResponse> result = searchService.fetchAll(new GameStateSearchRequest());
+            final List<GameStateResponse> result = searchService.fetchPage(new GameStateSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -51,7 +52,7 @@ class GameStateSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
         }
 
         @Test
-        void shouldMapAllGameStateFieldsToTheGameStateResponse() {
+        void shouldMapAllGameStateFieldsToTheGameStateResponse() throws InvalidCursorException {
             final GameState gameState = GameState.builder()
                     .gameId(123)
                     .started(1)
@@ -67,7 +68,7 @@ class GameStateSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
 
             repository.save(gameState);
 
-            final List<GameStateResponse> result = searchService.fetchAll(new GameStateSearchRequest());
+            final List<GameStateResponse> result = searchService.fetchPage(new GameStateSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -86,7 +87,7 @@ class GameStateSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
         }
 
         @Test
-        void shouldReturnAllEntriesWhenSearchingWithoutValues() {
+        void shouldReturnAllEntriesWhenSearchingWithoutValues() throws InvalidCursorException {
             final List<GameState> gameStateList = List.of(
                     GameState.builder().gameId(1).build(),
                     GameState.builder().gameId(2).build(),
@@ -95,20 +96,20 @@ class GameStateSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
 
             repository.saveAll(gameStateList);
 
-            final List<GameStateResponse> result = searchService.fetchAll(new GameStateSearchRequest());
+            final List<GameStateResponse> result = searchService.fetchPage(new GameStateSearchRequest(), null, null).getResources();
 
             assertEquals(3, result.size());
         }
 
         @Test
-        void shouldReturnNoEntriesWhenSearchingGivenNoDataInTheDatabase() {
-            final List<GameStateResponse> result = searchService.fetchAll(new GameStateSearchRequest());
+        void shouldReturnNoEntriesWhenSearchingGivenNoDataInTheDatabase() throws InvalidCursorException {
+            final List<GameStateResponse> result = searchService.fetchPage(new GameStateSearchRequest(), null, null).getResources();
 
             assertEquals(0, result.size());
         }
 
         @Test
-        void shouldReturnAllEntriesForGameWhenSearchingByGameId() {
+        void shouldReturnAllEntriesForGameWhenSearchingByGameId() throws InvalidCursorException {
             final List<GameState> gameStateList = Collections.singletonList(
                     // Game ID is the key field, so only one record is possible
                     GameState.builder().gameId(1).build()
@@ -118,13 +119,13 @@ class GameStateSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
 
             final GameStateSearchRequest request = GameStateSearchRequest.builder().gameId(1).build();
 
-            final List<GameStateResponse> result = searchService.fetchAll(request);
+            final List<GameStateResponse> result = searchService.fetchPage(request, null, null).getResources();
 
             assertEquals(1, result.size());
         }
 
         @Test
-        void shouldReturnOnlyEntriesForGameWhenSearchingByGameId() {
+        void shouldReturnOnlyEntriesForGameWhenSearchingByGameId() throws InvalidCursorException {
             final List<GameState> gameStateList = List.of(
                     GameState.builder().gameId(1).build(),
                     GameState.builder().gameId(2).build(),
@@ -135,7 +136,7 @@ class GameStateSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
 
             final GameStateSearchRequest request = GameStateSearchRequest.builder().gameId(1).build();
 
-            final List<GameStateResponse> result = searchService.fetchAll(request);
+            final List<GameStateResponse> result = searchService.fetchPage(request, null, null).getResources();
 
             assertEquals(1, result.size());
             assertEquals(1, result.stream().filter(t -> t.getGameId().equals(1)).count());
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.natc.app.entity.domain.Injury;
 import org.natc.app.entity.request.InjurySearchRequest;
 import org.natc.app.entity.response.InjuryResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.natc.app.repository.InjuryRepository;
 import org.natc.app.service.NATCServiceIntegrationTest;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,10 +25,10 @@ class InjurySearchServiceIntegrationTest extends NATCServiceIntegrationTest {
     private InjurySearchService injurySearchService;
 
     @Nested
-    class FetchAll {
+    class FetchPage {
 
         @Test
-        void shouldReturnAnInjuryFromTheDatabaseMappedToAResponse() {
+        void shouldReturnAnInjuryFromTheDatabaseMappedToAResponse() throws InvalidCursorException {
             final Injury injury = Injury.builder()
                     .gameId(123)
                     .playerId(4321)
@@ -35,7 +36,7 @@ class InjurySearchServiceIntegrationTest extends NATCServiceIntegrationTest {
 
             injuryRepository.save(injury);
 
-            final List<InjuryResponse> result = injurySearchService.fetchAll(new InjurySearchRequest());
+            final List<InjuryResponse> result = injurySearchService.fetchPage(new InjurySearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -46,7 +47,7 @@ class InjurySearchServiceIntegrationTest extends NATCServiceIntegrationTest {
         }
 
         @Test
-        void shouldMapAllScheduleFieldsToTheInjuryResponse() {
+        void shouldMapAllScheduleFieldsToTheInjuryResponse() throws InvalidCursorException {
             final Injury injury = Injury.builder()
                     .gameId(123)
                     .playerId(4321)
@@ -56,7 +57,7 @@ class InjurySearchServiceIntegrationTest extends NATCServiceIntegrationTest {
 
             injuryRepository.save(injury);
 
-            final List<InjuryResponse> result = injurySearchService.fetchAll(new InjurySearchRequest());
+            final List<InjuryResponse> result = injurySearchService.fetchPage(new InjurySearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -69,8 +70,8 @@ class InjurySearchServiceIntegrationTest extends NATCServiceIntegrationTest {
         }
 
         @Test
-        void shouldReturnNoEntriesWhenSearchingGivenNoDataInTheDatabase() {
-            final List<InjuryResponse> result = injurySearchService.fetchAll(new InjurySearchRequest());
+        void shouldReturnNoEntriesWhenSearchingGivenNoDataInTheDatabase() throws InvalidCursorException {
+            final List<InjuryResponse> result = injurySearchService.fetchPage(new InjurySearchRequest(), null, null).getResources();
 
             assertEquals(0, result.size());
         }
@@ -79,7 +80,7 @@ class InjurySearchServiceIntegrationTest extends NATCServiceIntegrationTest {
         class WithOneSearchParameter {
 
             @Test
-            void shouldReturnAllEntriesForGameWhenSearchingByGameId() {
+            void shouldReturnAllEntriesForGameWhenSearchingByGameId() throws InvalidCursorException {
                 final List<Injury> injuryList = List.of(
                         Injury.builder().gameId(1).playerId(1).teamId(1).build(),
                         Injury.builder().gameId(1).playerId(2).teamId(2).build(),
@@ -92,13 +93,13 @@ class InjurySearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .gameId(1)
                         .build();
 
-                final List<InjuryResponse> result = injurySearchService.fetchAll(request);
+                final List<InjuryResponse> result = injurySearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameWhenSearchingByGameId() {
+            void shouldOnlyReturnEntriesForGameWhenSearchingByGameId() throws InvalidCursorException {
                 final List<Injury> injuryList = List.of(
                         Injury.builder().gameId(1).playerId(1).teamId(1).build(),
                         Injury.builder().gameId(2).playerId(2).teamId(1).build(),
@@ -113,14 +114,14 @@ class InjurySearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .gameId(1)
                         .build();
 
-                final List<InjuryResponse> result = injurySearchService.fetchAll(request);
+                final List<InjuryResponse> result = injurySearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getGameId().equals(1)).count());
             }
 
             @Test
-            void shouldReturnAllEntriesForPlayerWhenSearchingByPlayerId() {
+            void shouldReturnAllEntriesForPlayerWhenSearchingByPlayerId() throws InvalidCursorException {
                 final List<Injury> injuryList = List.of(
                         Injury.builder().gameId(1).playerId(1).teamId(1).build(),
                         Injury.builder().gameId(2).playerId(1).teamId(2).build(),
@@ -133,13 +134,13 @@ class InjurySearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .playerId(1)
                         .build();
 
-                final List<InjuryResponse> result = injurySearchService.fetchAll(request);
+                final List<InjuryResponse> result = injurySearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForPlayerWhenSearchingByPlayerId() {
+            void shouldOnlyReturnEntriesForPlayerWhenSearchingByPlayerId() throws InvalidCursorException {
                 final List<Injury> injuryList = List.of(
                         Injury.builder().gameId(1).playerId(1).teamId(1).build(),
                         Injury.builder().gameId(2).playerId(2).teamId(1).build(),
@@ -154,14 +155,14 @@ class InjurySearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .playerId(1)
                         .build();
 
-                final List<InjuryResponse> result = injurySearchService.fetchAll(request);
+                final List<InjuryResponse> result = injurySearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getPlayerId().equals(1)).count());
             }
 
             @Test
-            void shouldReturnAllEntriesForTeamWhenSearchingByTeamId() {
+            void shouldReturnAllEntriesForTeamWhenSearchingByTeamId() throws InvalidCursorException {
                 final List<Injury> injuryList = List.of(
                         Injury.builder().gameId(1).playerId(1).teamId(1).build(),
                         Injury.builder().gameId(2).playerId(2).teamId(1).build(),
@@ -174,13 +175,13 @@ class InjurySearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<InjuryResponse> result = injurySearchService.fetchAll(request);
+                final List<InjuryResponse> result = injurySearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTeamWhenSearchingByTeamId() {
+            void shouldOnlyReturnEntriesForTeamWhenSearchingByTeamId() throws InvalidCursorException {
                 final List<Injury> injuryList = List.of(
                         Injury.builder().gameId(1).playerId(1).teamId(1).build(),
                         Injury.builder().gameId(2).playerId(1).teamId(2).build(),
@@ -195,7 +196,7 @@ class InjurySearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<InjuryResponse> result = injurySearchService.fetchAll(request);
+                final List<InjuryResponse> result = injurySearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getTeamId().equals(1)).count());
@@ -206,7 +207,7 @@ class InjurySearchServiceIntegrationTest extends NATCServiceIntegrationTest {
         class WithTwoSearchParameters {
 
             @Test
-            void shouldReturnAllEntriesForGameAndPlayerWhenSearchingByGameIdAndPlayerId() {
+            void shouldReturnAllEntriesForGameAndPlayerWhenSearchingByGameIdAndPlayerId() throws InvalidCursorException {
                 final List<Injury> injuryList = Collections.singletonList(
                         // GameId & PlayerId are the key fields, so only one record is possible
                         Injury.builder().gameId(1).playerId(1).teamId(1).build()
@@ -219,13 +220,13 @@ class InjurySearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .playerId(1)
                         .build();
 
-                final List<InjuryResponse> result = injurySearchService.fetchAll(request);
+                final List<InjuryResponse> result = injurySearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameAndPlayerWhenSearchingByGameIdAndPlayerId() {
+            void shouldOnlyReturnEntriesForGameAndPlayerWhenSearchingByGameIdAndPlayerId() throws InvalidCursorException {
                 final List<Injury> injuryList = List.of(
                         Injury.builder().gameId(1).playerId(1).teamId(1).build(),
                         Injury.builder().gameId(2).playerId(1).teamId(1).build(),
@@ -240,7 +241,7 @@ class InjurySearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .playerId(1)
                         .build();
 
-                final List<InjuryResponse> result = injurySearchService.fetchAll(request);
+                final List<InjuryResponse> result = injurySearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -249,7 +250,7 @@ class InjurySearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForGameAndTeamWhenSearchingByGameIdAndTeamId() {
+            void shouldReturnAllEntriesForGameAndTeamWhenSearchingByGameIdAndTeamId() throws InvalidCursorException {
                 final List<Injury> injuryList = List.of(
                         Injury.builder().gameId(1).playerId(1).teamId(1).build(),
                         Injury.builder().gameId(1).playerId(2).teamId(1).build(),
@@ -263,13 +264,13 @@ class InjurySearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<InjuryResponse> result = injurySearchService.fetchAll(request);
+                final List<InjuryResponse> result = injurySearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameAndTeamWhenSearchingByGameIdAndTeamId() {
+            void shouldOnlyReturnEntriesForGameAndTeamWhenSearchingByGameIdAndTeamId() throws InvalidCursorException {
                 final List<Injury> injuryList = List.of(
                         Injury.builder().gameId(1).playerId(1).teamId(1).build(),
                         Injury.builder().gameId(2).playerId(2).teamId(1).build(),
@@ -287,7 +288,7 @@ class InjurySearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<InjuryResponse> result = injurySearchService.fetchAll(request);
+                final List<InjuryResponse> result = injurySearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -296,7 +297,7 @@ class InjurySearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForPlayerAndTeamWhenSearchingByPlayerIdAndTeamId() {
+            void shouldReturnAllEntriesForPlayerAndTeamWhenSearchingByPlayerIdAndTeamId() throws InvalidCursorException {
                 final List<Injury> injuryList = List.of(
                         Injury.builder().gameId(1).playerId(1).teamId(1).build(),
                         Injury.builder().gameId(2).playerId(1).teamId(1).build(),
@@ -310,13 +311,13 @@ class InjurySearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<InjuryResponse> result = injurySearchService.fetchAll(request);
+                final List<InjuryResponse> result = injurySearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForPlayerAndTeamWhenSearchingByPlayerIdAndTeamId() {
+            void shouldOnlyReturnEntriesForPlayerAndTeamWhenSearchingByPlayerIdAndTeamId() throws InvalidCursorException {
                 final List<Injury> injuryList = List.of(
                         Injury.builder().gameId(1).playerId(1).teamId(1).build(),
                         Injury.builder().gameId(2).playerId(2).teamId(1).build(),
@@ -334,7 +335,7 @@ class InjurySearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<InjuryResponse> result = injurySearchService.fetchAll(request);
+                final List<InjuryResponse> result = injurySearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -344,7 +345,7 @@ class InjurySearchServiceIntegrationTest extends NATCServiceIntegrationTest {
         }
 
         @Test
-        void shouldReturnMatchingEntryWhenSearchingByAllParameters() {
+        void shouldReturnMatchingEntryWhenSearchingByAllParameters() throws InvalidCursorException {
             final List<Injury> injuryList = Collections.singletonList(
                     // GameId & PlayerId are the key fields, so only one record is possible
                     Injury.builder().gameId(1).playerId(1).teamId(1).build()
@@ -358,13 +359,13 @@ class InjurySearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                     .teamId(1)
                     .build();
 
-            final List<InjuryResponse> result = injurySearchService.fetchAll(request);
+            final List<InjuryResponse> result = injurySearchService.fetchPage(request, null, null).getResources();
 
             assertEquals(1, result.size());
         }
 
         @Test
-        void shouldOnlyReturnMatchingEntryWhenSearchingByAllParameters() {
+        void shouldOnlyReturnMatchingEntryWhenSearchingByAllParameters() throws InvalidCursorException {
             final List<Injury> injuryList = List.of(
                     Injury.builder().gameId(1).playerId(1).teamId(1).build(),
                     Injury.builder().gameId(2).playerId(1).teamId(1).build(),
@@ -380,7 +381,7 @@ class InjurySearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                     .teamId(1)
                     .build();
 
-            final List<InjuryResponse> result = injurySearchService.fetchAll(request);
+            final List<InjuryResponse> result = injurySearchService.fetchPage(request, null, null).getResources();
 
             assertEquals(1, result.size());
             assertEquals(1, result.stream().filter(t ->
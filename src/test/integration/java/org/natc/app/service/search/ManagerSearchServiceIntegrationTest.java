@@ -7,6 +7,7 @@ import org.natc.app.entity.domain.ManagerAward;
 import org.natc.app.entity.domain.ManagerStyle;
 import org.natc.app.entity.request.ManagerSearchRequest;
 import org.natc.app.entity.response.ManagerResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.natc.app.repository.ManagerRepository;
 import org.natc.app.service.NATCServiceIntegrationTest;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,10 +29,10 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
     private ManagerSearchService managerSearchService;
 
     @Nested
-    class FetchAll {
+    class FetchPage {
 
         @Test
-        void shouldReturnAManagerFromTheDatabaseMappedToAResponse() {
+        void shouldReturnAManagerFromTheDatabaseMappedToAResponse() throws InvalidCursorException {
             final Manager manager = Manager.builder()
                     .managerId(1)
                     .year("1998")
@@ -42,7 +43,7 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
 
             managerRepository.save(manager);
 
-            final List<ManagerResponse> result = managerSearchService.fetchAll(new ManagerSearchRequest());
+            final List<ManagerResponse> result = managerSearchService.fetchPage(new ManagerSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -56,7 +57,7 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
         }
 
         @Test
-        void shouldMapAllManagerFieldsToTheManagerResponse() {
+        void shouldMapAllManagerFieldsToTheManagerResponse() throws InvalidCursorException {
             final Manager manager = Manager.builder()
                     .managerId(123)
                     .teamId(321)
@@ -85,7 +86,7 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
 
             managerRepository.save(manager);
 
-            final List<ManagerResponse> result = managerSearchService.fetchAll(new ManagerSearchRequest());
+            final List<ManagerResponse> result = managerSearchService.fetchPage(new ManagerSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -117,7 +118,7 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
         }
 
         @Test
-        void shouldReturnAllEntriesWhenSearchingWithoutValues() {
+        void shouldReturnAllEntriesWhenSearchingWithoutValues() throws InvalidCursorException {
             final List<Manager> managerList = List.of(
                     Manager.builder().managerId(1).year("2000").teamId(2).playerId(3).build(),
                     Manager.builder().managerId(2).year("2001").teamId(3).playerId(4).build(),
@@ -128,16 +129,16 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
 
             final ManagerSearchRequest request = ManagerSearchRequest.builder().build();
 
-            final List<ManagerResponse> result = managerSearchService.fetchAll(request);
+            final List<ManagerResponse> result = managerSearchService.fetchPage(request, null, null).getResources();
 
             assertEquals(3, result.size());
         }
 
         @Test
-        void shouldReturnNoEntriesWhenSearchingGivenNoDataInTheDatabase() {
+        void shouldReturnNoEntriesWhenSearchingGivenNoDataInTheDatabase() throws InvalidCursorException {
             final ManagerSearchRequest request = ManagerSearchRequest.builder().build();
 
-            final List<ManagerResponse> result = managerSearchService.fetchAll(request);
+            final List<ManagerResponse> result = managerSearchService.fetchPage(request, null, null).getResources();
 
             assertEquals(0, result.size());
         }
@@ -146,7 +147,7 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
         class WithOneSearchParameter {
 
             @Test
-            void shouldReturnAllEntriesForManagerWhenSearchingByManagerId() {
+            void shouldReturnAllEntriesForManagerWhenSearchingByManagerId() throws InvalidCursorException {
                 final List<Manager> managerList = List.of(
                         Manager.builder().managerId(1).year("2000").teamId(1).playerId(1).build(),
                         Manager.builder().managerId(1).year("2001").teamId(2).playerId(2).build(),
@@ -159,13 +160,13 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .managerId(1)
                         .build();
 
-                final List<ManagerResponse> result = managerSearchService.fetchAll(request);
+                final List<ManagerResponse> result = managerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForManagerWhenSearchingByManagerId() {
+            void shouldOnlyReturnEntriesForManagerWhenSearchingByManagerId() throws InvalidCursorException {
                 final List<Manager> managerList = List.of(
                         Manager.builder().managerId(1).year("2000").teamId(1).playerId(1).build(),
                         Manager.builder().managerId(2).year("2000").teamId(1).playerId(1).build(),
@@ -180,14 +181,14 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .managerId(1)
                         .build();
 
-                final List<ManagerResponse> result = managerSearchService.fetchAll(request);
+                final List<ManagerResponse> result = managerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getManagerId().equals(1)).count());
             }
 
             @Test
-            void shouldReturnAllEntriesForYearWhenSearchingByYear() {
+            void shouldReturnAllEntriesForYearWhenSearchingByYear() throws InvalidCursorException {
                 final List<Manager> managerList = List.of(
                         Manager.builder().managerId(1).year("2000").teamId(1).playerId(1).build(),
                         Manager.builder().managerId(2).year("2000").teamId(2).playerId(2).build(),
@@ -200,13 +201,13 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .year("2000")
                         .build();
 
-                final List<ManagerResponse> result = managerSearchService.fetchAll(request);
+                final List<ManagerResponse> result = managerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearWhenSearchingByYear() {
+            void shouldOnlyReturnEntriesForYearWhenSearchingByYear() throws InvalidCursorException {
                 final List<Manager> managerList = List.of(
                         Manager.builder().managerId(1).year("2000").teamId(1).playerId(1).build(),
                         Manager.builder().managerId(1).year("2001").teamId(1).playerId(1).build(),
@@ -221,14 +222,14 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .year("2000")
                         .build();
 
-                final List<ManagerResponse> result = managerSearchService.fetchAll(request);
+                final List<ManagerResponse> result = managerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getYear().equals("2000")).count());
             }
 
             @Test
-            void shouldReturnAllEntriesForTeamWhenSearchingByTeamId() {
+            void shouldReturnAllEntriesForTeamWhenSearchingByTeamId() throws InvalidCursorException {
                 final List<Manager> managerList = List.of(
                         Manager.builder().managerId(1).year("2000").teamId(1).playerId(1).build(),
                         Manager.builder().managerId(2).year("2001").teamId(1).playerId(2).build(),
@@ -241,13 +242,13 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<ManagerResponse> result = managerSearchService.fetchAll(request);
+                final List<ManagerResponse> result = managerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTeamWhenSearchingByTeamId() {
+            void shouldOnlyReturnEntriesForTeamWhenSearchingByTeamId() throws InvalidCursorException {
                 final List<Manager> managerList = List.of(
                         Manager.builder().managerId(1).year("2000").teamId(1).playerId(1).build(),
                         Manager.builder().managerId(2).year("2000").teamId(2).playerId(1).build(),
@@ -262,14 +263,14 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<ManagerResponse> result = managerSearchService.fetchAll(request);
+                final List<ManagerResponse> result = managerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getTeamId().equals(1)).count());
             }
 
             @Test
-            void shouldReturnAllEntriesForPlayerWhenSearchingByPlayerId() {
+            void shouldReturnAllEntriesForPlayerWhenSearchingByPlayerId() throws InvalidCursorException {
                 final List<Manager> managerList = List.of(
                         Manager.builder().managerId(1).year("2000").teamId(1).playerId(1).build(),
                         Manager.builder().managerId(2).year("2001").teamId(2).playerId(1).build(),
@@ -282,13 +283,13 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .playerId(1)
                         .build();
 
-                final List<ManagerResponse> result = managerSearchService.fetchAll(request);
+                final List<ManagerResponse> result = managerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForPlayerWhenSearchingByPlayerId() {
+            void shouldOnlyReturnEntriesForPlayerWhenSearchingByPlayerId() throws InvalidCursorException {
                 final List<Manager> managerList = List.of(
                         Manager.builder().managerId(1).year("2000").teamId(1).playerId(1).build(),
                         Manager.builder().managerId(2).year("2000").teamId(1).playerId(2).build(),
@@ -303,7 +304,7 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .playerId(1)
                         .build();
 
-                final List<ManagerResponse> result = managerSearchService.fetchAll(request);
+                final List<ManagerResponse> result = managerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getPlayerId().equals(1)).count());
@@ -314,7 +315,7 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
         class WithTwoSearchParameters {
 
             @Test
-            void shouldReturnAllEntriesForManagerAndYearWhenSearchingByManagerIdAndYear() {
+            void shouldReturnAllEntriesForManagerAndYearWhenSearchingByManagerIdAndYear() throws InvalidCursorException {
                 final List<Manager> managerList = Collections.singletonList(
                         // Manager ID & Year are the key fields, so only one record is possible
                         Manager.builder().managerId(1).year("2000").teamId(2).playerId(3).build()
@@ -327,13 +328,13 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .year("2000")
                         .build();
 
-                final List<ManagerResponse> result = managerSearchService.fetchAll(request);
+                final List<ManagerResponse> result = managerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForManagerAndYearWhenSearchingByManagerIdAndYear() {
+            void shouldOnlyReturnEntriesForManagerAndYearWhenSearchingByManagerIdAndYear() throws InvalidCursorException {
                 final List<Manager> managerList = List.of(
                         Manager.builder().managerId(1).year("2000").teamId(3).playerId(4).build(),
                         Manager.builder().managerId(2).year("2001").teamId(3).playerId(4).build(),
@@ -347,7 +348,7 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .year("2000")
                         .build();
 
-                final List<ManagerResponse> result = managerSearchService.fetchAll(request);
+                final List<ManagerResponse> result = managerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -356,7 +357,7 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForManagerAndTeamWhenSearchingByManagerIdAndTeamId() {
+            void shouldReturnAllEntriesForManagerAndTeamWhenSearchingByManagerIdAndTeamId() throws InvalidCursorException {
                 final List<Manager> managerList = List.of(
                         Manager.builder().managerId(1).year("2000").teamId(1).playerId(1).build(),
                         Manager.builder().managerId(1).year("2001").teamId(1).playerId(2).build(),
@@ -370,13 +371,13 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<ManagerResponse> result = managerSearchService.fetchAll(request);
+                final List<ManagerResponse> result = managerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForManagerAndTeamWhenSearchingByManagerIdAndTeamId() {
+            void shouldOnlyReturnEntriesForManagerAndTeamWhenSearchingByManagerIdAndTeamId() throws InvalidCursorException {
                 final List<Manager> managerList = List.of(
                         Manager.builder().managerId(1).year("2000").teamId(1).playerId(1).build(),
                         Manager.builder().managerId(2).year("2001").teamId(1).playerId(1).build(),
@@ -394,7 +395,7 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<ManagerResponse> result = managerSearchService.fetchAll(request);
+                final List<ManagerResponse> result = managerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -403,7 +404,7 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForManagerAndPlayerWhenSearchingByManagerIdAndPlayerId() {
+            void shouldReturnAllEntriesForManagerAndPlayerWhenSearchingByManagerIdAndPlayerId() throws InvalidCursorException {
                 final List<Manager> managerList = List.of(
                         Manager.builder().managerId(1).year("2000").teamId(1).playerId(1).build(),
                         Manager.builder().managerId(1).year("2001").teamId(2).playerId(1).build(),
@@ -417,13 +418,13 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .playerId(1)
                         .build();
 
-                final List<ManagerResponse> result = managerSearchService.fetchAll(request);
+                final List<ManagerResponse> result = managerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForManagerAndPlayerWhenSearchingByManagerIdAndPlayerId() {
+            void shouldOnlyReturnEntriesForManagerAndPlayerWhenSearchingByManagerIdAndPlayerId() throws InvalidCursorException {
                 final List<Manager> managerList = List.of(
                         Manager.builder().managerId(1).year("2000").teamId(1).playerId(1).build(),
                         Manager.builder().managerId(2).year("2001").teamId(1).playerId(1).build(),
@@ -441,7 +442,7 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .playerId(1)
                         .build();
 
-                final List<ManagerResponse> result = managerSearchService.fetchAll(request);
+                final List<ManagerResponse> result = managerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -450,7 +451,7 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForYearAndTeamWhenSearchingByYearAndTeamId() {
+            void shouldReturnAllEntriesForYearAndTeamWhenSearchingByYearAndTeamId() throws InvalidCursorException {
                 final List<Manager> managerList = List.of(
                         Manager.builder().managerId(1).year("2000").teamId(1).playerId(1).build(),
                         Manager.builder().managerId(2).year("2000").teamId(1).playerId(2).build(),
@@ -464,13 +465,13 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<ManagerResponse> result = managerSearchService.fetchAll(request);
+                final List<ManagerResponse> result = managerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearAndTeamWhenSearchingByYearAndTeamId() {
+            void shouldOnlyReturnEntriesForYearAndTeamWhenSearchingByYearAndTeamId() throws InvalidCursorException {
                 final List<Manager> managerList = List.of(
                         Manager.builder().managerId(1).year("2000").teamId(1).playerId(1).build(),
                         Manager.builder().managerId(2).year("2001").teamId(1).playerId(1).build(),
@@ -488,7 +489,7 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<ManagerResponse> result = managerSearchService.fetchAll(request);
+                final List<ManagerResponse> result = managerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -497,7 +498,7 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForYearAndPlayerWhenSearchingByYearAndPlayerId() {
+            void shouldReturnAllEntriesForYearAndPlayerWhenSearchingByYearAndPlayerId() throws InvalidCursorException {
                 final List<Manager> managerList = List.of(
                         Manager.builder().managerId(1).year("2000").teamId(1).playerId(1).build(),
                         Manager.builder().managerId(2).year("2000").teamId(2).playerId(1).build(),
@@ -511,13 +512,13 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .playerId(1)
                         .build();
 
-                final List<ManagerResponse> result = managerSearchService.fetchAll(request);
+                final List<ManagerResponse> result = managerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearAndPlayerWhenSearchingByYearAndPlayerId() {
+            void shouldOnlyReturnEntriesForYearAndPlayerWhenSearchingByYearAndPlayerId() throws InvalidCursorException {
                 final List<Manager> managerList = List.of(
                         Manager.builder().managerId(1).year("2000").teamId(1).playerId(1).build(),
                         Manager.builder().managerId(2).year("2001").teamId(1).playerId(1).build(),
@@ -535,7 +536,7 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .playerId(1)
                         .build();
 
-                final List<ManagerResponse> result = managerSearchService.fetchAll(request);
+                final List<ManagerResponse> result = managerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -544,7 +545,7 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForTeamAndPlayerWhenSearchingByTeamIdAndPlayerId() {
+            void shouldReturnAllEntriesForTeamAndPlayerWhenSearchingByTeamIdAndPlayerId() throws InvalidCursorException {
                 final List<Manager> managerList = List.of(
                         Manager.builder().managerId(1).year("2000").teamId(1).playerId(1).build(),
                         Manager.builder().managerId(2).year("2001").teamId(1).playerId(1).build(),
@@ -558,13 +559,13 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .playerId(1)
                         .build();
 
-                final List<ManagerResponse> result = managerSearchService.fetchAll(request);
+                final List<ManagerResponse> result = managerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTeamAndPlayerWhenSearchingByTeamIdAndPlayerId() {
+            void shouldOnlyReturnEntriesForTeamAndPlayerWhenSearchingByTeamIdAndPlayerId() throws InvalidCursorException {
                 final List<Manager> managerList = List.of(
                         Manager.builder().managerId(1).year("2000").teamId(1).playerId(1).build(),
                         Manager.builder().managerId(2).year("2000").teamId(2).playerId(1).build(),
@@ -582,7 +583,7 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .playerId(1)
                         .build();
 
-                final List<ManagerResponse> result = managerSearchService.fetchAll(request);
+                final List<ManagerResponse> result = managerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -595,7 +596,7 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
         class WithThreeSearchParameters {
 
             @Test
-            void shouldReturnAllEntriesForManagerYearAndTeamWhenSearchingByManagerIdYearAndTeamId() {
+            void shouldReturnAllEntriesForManagerYearAndTeamWhenSearchingByManagerIdYearAndTeamId() throws InvalidCursorException {
                 final List<Manager> managerList = Collections.singletonList(
                         // Manager ID & Year are the key fields, so only one record is possible
                         Manager.builder().managerId(1).year("2000").teamId(2).playerId(3).build()
@@ -609,13 +610,13 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(2)
                         .build();
 
-                final List<ManagerResponse> result = managerSearchService.fetchAll(request);
+                final List<ManagerResponse> result = managerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForManagerYearAndTeamWhenSearchingByManagerIdYearAndTeamId() {
+            void shouldOnlyReturnEntriesForManagerYearAndTeamWhenSearchingByManagerIdYearAndTeamId() throws InvalidCursorException {
                 final List<Manager> managerList = List.of(
                         Manager.builder().managerId(1).year("2000").teamId(3).playerId(4).build(),
                         Manager.builder().managerId(2).year("2001").teamId(4).playerId(5).build(),
@@ -630,7 +631,7 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(3)
                         .build();
 
-                final List<ManagerResponse> result = managerSearchService.fetchAll(request);
+                final List<ManagerResponse> result = managerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -639,7 +640,7 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnNoEntriesForManagerYearAndTeamWhenSearchingByManagerIdYearAndTeamIdAndTeamIdIsDifferent() {
+            void shouldReturnNoEntriesForManagerYearAndTeamWhenSearchingByManagerIdYearAndTeamIdAndTeamIdIsDifferent() throws InvalidCursorException {
                 final List<Manager> managerList = List.of(
                         Manager.builder().managerId(1).year("2000").teamId(3).playerId(4).build(),
                         Manager.builder().managerId(2).year("2001").teamId(4).playerId(5).build(),
@@ -654,13 +655,13 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<ManagerResponse> result = managerSearchService.fetchAll(request);
+                final List<ManagerResponse> result = managerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnAllEntriesForManagerYearAndPlayerWhenSearchingByManagerIdYearAndPlayerId() {
+            void shouldReturnAllEntriesForManagerYearAndPlayerWhenSearchingByManagerIdYearAndPlayerId() throws InvalidCursorException {
                 final List<Manager> managerList = Collections.singletonList(
                         // Manager ID & Year are the key fields, so only one record is possible
                         Manager.builder().managerId(1).year("2000").teamId(2).playerId(3).build()
@@ -674,13 +675,13 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .playerId(3)
                         .build();
 
-                final List<ManagerResponse> result = managerSearchService.fetchAll(request);
+                final List<ManagerResponse> result = managerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForManagerYearAndPlayerWhenSearchingByManagerIdYearAndPlayerId() {
+            void shouldOnlyReturnEntriesForManagerYearAndPlayerWhenSearchingByManagerIdYearAndPlayerId() throws InvalidCursorException {
                 final List<Manager> managerList = List.of(
                         Manager.builder().managerId(1).year("2000").teamId(3).playerId(4).build(),
                         Manager.builder().managerId(2).year("2001").teamId(4).playerId(5).build(),
@@ -695,7 +696,7 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .playerId(4)
                         .build();
 
-                final List<ManagerResponse> result = managerSearchService.fetchAll(request);
+                final List<ManagerResponse> result = managerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -704,7 +705,7 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnNoEntriesForManagerYearAndPlayerWhenSearchingByManagerIdYearAndPlayerIdAndPlayerIdIsDifferent() {
+            void shouldReturnNoEntriesForManagerYearAndPlayerWhenSearchingByManagerIdYearAndPlayerIdAndPlayerIdIsDifferent() throws InvalidCursorException {
                 final List<Manager> managerList = List.of(
                         Manager.builder().managerId(1).year("2000").teamId(3).playerId(4).build(),
                         Manager.builder().managerId(2).year("2001").teamId(4).playerId(5).build(),
@@ -719,13 +720,13 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .playerId(1)
                         .build();
 
-                final List<ManagerResponse> result = managerSearchService.fetchAll(request);
+                final List<ManagerResponse> result = managerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnAllEntriesForManagerTeamAndPlayerWhenSearchingByManagerIdTeamIdAndPlayerId() {
+            void shouldReturnAllEntriesForManagerTeamAndPlayerWhenSearchingByManagerIdTeamIdAndPlayerId() throws InvalidCursorException {
                 final List<Manager> managerList = List.of(
                         Manager.builder().managerId(1).year("2000").teamId(1).playerId(1).build(),
                         Manager.builder().managerId(1).year("2001").teamId(1).playerId(1).build(),
@@ -740,13 +741,13 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .playerId(1)
                         .build();
 
-                final List<ManagerResponse> result = managerSearchService.fetchAll(request);
+                final List<ManagerResponse> result = managerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForManagerTeamAndPlayerWhenSearchingByManagerIdTeamIdAndPlayerId() {
+            void shouldOnlyReturnEntriesForManagerTeamAndPlayerWhenSearchingByManagerIdTeamIdAndPlayerId() throws InvalidCursorException {
                 final List<Manager> managerList = List.of(
                         Manager.builder().managerId(1).year("2000").teamId(1).playerId(1).build(),
                         Manager.builder().managerId(2).year("2001").teamId(1).playerId(1).build(),
@@ -767,7 +768,7 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .playerId(1)
                         .build();
 
-                final List<ManagerResponse> result = managerSearchService.fetchAll(request);
+                final List<ManagerResponse> result = managerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -776,7 +777,7 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForYearTeamAndPlayerWhenSearchingByYearTeamIdAndPlayerId() {
+            void shouldReturnAllEntriesForYearTeamAndPlayerWhenSearchingByYearTeamIdAndPlayerId() throws InvalidCursorException {
                 final List<Manager> managerList = List.of(
                         Manager.builder().managerId(1).year("2000").teamId(1).playerId(1).build(),
                         Manager.builder().managerId(2).year("2000").teamId(1).playerId(1).build(),
@@ -791,13 +792,13 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .playerId(1)
                         .build();
 
-                final List<ManagerResponse> result = managerSearchService.fetchAll(request);
+                final List<ManagerResponse> result = managerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearTeamAndPlayerWhenSearchingByYearTeamIdAndPlayerId() {
+            void shouldOnlyReturnEntriesForYearTeamAndPlayerWhenSearchingByYearTeamIdAndPlayerId() throws InvalidCursorException {
                 final List<Manager> managerList = List.of(
                         Manager.builder().managerId(1).year("2000").teamId(1).playerId(1).build(),
                         Manager.builder().managerId(2).year("2001").teamId(1).playerId(1).build(),
@@ -818,7 +819,7 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .playerId(1)
                         .build();
 
-                final List<ManagerResponse> result = managerSearchService.fetchAll(request);
+                final List<ManagerResponse> result = managerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -828,7 +829,7 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
         }
 
         @Test
-        void shouldReturnMatchingEntryWhenSearchingByAllParameters() {
+        void shouldReturnMatchingEntryWhenSearchingByAllParameters() throws InvalidCursorException {
             final List<Manager> managerList = Collections.singletonList(
                     Manager.builder().managerId(1).year("2000").teamId(2).playerId(3).build()
             );
@@ -842,13 +843,13 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                     .playerId(3)
                     .build();
 
-            final List<ManagerResponse> result = managerSearchService.fetchAll(request);
+            final List<ManagerResponse> result = managerSearchService.fetchPage(request, null, null).getResources();
 
             assertEquals(1, result.size());
         }
 
         @Test
-        void shouldOnlyReturnMatchingEntryWhenSearchingByAllParameters() {
+        void shouldOnlyReturnMatchingEntryWhenSearchingByAllParameters() throws InvalidCursorException {
             final List<Manager> managerList = List.of(
                     Manager.builder().managerId(1).year("2000").teamId(1).playerId(1).build(),
                     Manager.builder().managerId(2).year("2000").teamId(1).playerId(1).build(),
@@ -866,7 +867,7 @@ class ManagerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                     .playerId(1)
                     .build();
 
-            final List<ManagerResponse> result = managerSearchService.fetchAll(request);
+            final List<ManagerResponse> result = managerSearchService.fetchPage(request, null, null).getResources();
 
             assertEquals(1, result.size());
             assertEquals(1, result.stream().filter(t ->
@@ -6,6 +6,7 @@ import org.natc.app.entity.domain.GameType;
 import org.natc.app.entity.domain.PlayerGame;
 import org.natc.app.entity.request.PlayerGameSearchRequest;
 import org.natc.app.entity.response.PlayerGameResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.natc.app.repository.PlayerGameRepository;
 import org.natc.app.service.NATCServiceIntegrationTest;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,10 +28,10 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
     private PlayerGameSearchService searchService;
 
     @Nested
-    class FetchAll {
+    class FetchPage {
 
         @Test
-        void shouldReturnAPlayerGameFromTheDatabaseMappedToAResponse() {
+        void shouldReturnAPlayerGameFromTheDatabaseMappedToAResponse() throws InvalidCursorException {
             final PlayerGame playerGame = PlayerGame.builder()
                     .gameId(12345)
                     .year("2015")
@@ -46,7 +47,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
 
             repository.save(playerGame);
 
-            final List<PlayerGameResponse> result = searchService.fetchAll(new PlayerGameSearchRequest());
+            final List<PlayerGameResponse> result = searchService.fetchPage(new PlayerGameSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -65,7 +66,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
         }
 
         @Test
-        void shouldMapAllPlayerGameFieldsToTheResponse() {
+        void shouldMapAllPlayerGameFieldsToTheResponse() throws InvalidCursorException {
             final PlayerGame playerGame = PlayerGame.builder()
                     .gameId(12345)
                     .year("2002")
@@ -94,7 +95,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
 
             repository.save(playerGame);
 
-            final List<PlayerGameResponse> result = searchService.fetchAll(new PlayerGameSearchRequest());
+            final List<PlayerGameResponse> result = searchService.fetchPage(new PlayerGameSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -126,7 +127,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
         }
 
         @Test
-        void shouldReturnAllEntriesWhenSearchingWithoutValues() {
+        void shouldReturnAllEntriesWhenSearchingWithoutValues() throws InvalidCursorException {
             final List<PlayerGame> playerGameList = List.of(
                     PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                     PlayerGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2001-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(2).teamId(2).build(),
@@ -135,14 +136,14 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
 
             repository.saveAll(playerGameList);
 
-            final List<PlayerGameResponse> result = searchService.fetchAll(new PlayerGameSearchRequest());
+            final List<PlayerGameResponse> result = searchService.fetchPage(new PlayerGameSearchRequest(), null, null).getResources();
 
             assertEquals(3, result.size());
         }
 
         @Test
-        void shouldReturnNoEntriesWhenSearchingGivenNoDataInTheDatabase() {
-            final List<PlayerGameResponse> result = searchService.fetchAll(new PlayerGameSearchRequest());
+        void shouldReturnNoEntriesWhenSearchingGivenNoDataInTheDatabase() throws InvalidCursorException {
+            final List<PlayerGameResponse> result = searchService.fetchPage(new PlayerGameSearchRequest(), null, null).getResources();
 
             assertEquals(0, result.size());
         }
@@ -151,7 +152,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
         class WithOneSearchParameter {
 
             @Test
-            void shouldReturnAllEntriesForGameWhenSearchingByGameId() {
+            void shouldReturnAllEntriesForGameWhenSearchingByGameId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(1).year("2001").datestamp(LocalDate.parse("2001-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(2).teamId(2).build(),
@@ -164,13 +165,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .gameId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameWhenSearchingByGameId() {
+            void shouldOnlyReturnEntriesForGameWhenSearchingByGameId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -185,14 +186,14 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .gameId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getGameId().equals(1)).count());
             }
 
             @Test
-            void shouldReturnAllEntriesForYearWhenSearchingByYear() {
+            void shouldReturnAllEntriesForYearWhenSearchingByYear() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2001-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(2).teamId(2).build(),
@@ -205,13 +206,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .year("2000")
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearWhenSearchingByYear() {
+            void shouldOnlyReturnEntriesForYearWhenSearchingByYear() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -226,14 +227,14 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .year("2000")
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getYear().equals("2000")).count());
             }
 
             @Test
-            void shouldReturnAllEntriesForDatestampWhenSearchingByDatestamp() {
+            void shouldReturnAllEntriesForDatestampWhenSearchingByDatestamp() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(2).teamId(2).build(),
@@ -246,13 +247,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .datestamp(LocalDate.parse("2000-03-16"))
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForDatestampWhenSearchingByDatestamp() {
+            void shouldOnlyReturnEntriesForDatestampWhenSearchingByDatestamp() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -267,14 +268,14 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .datestamp(LocalDate.parse("2000-03-16"))
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getDatestamp().equals(LocalDate.parse("2000-03-16"))).count());
             }
 
             @Test
-            void shouldReturnAllEntriesForTypeWhenSearchingByType() {
+            void shouldReturnAllEntriesForTypeWhenSearchingByType() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2001-03-16")).type(GameType.PRESEASON.getValue()).playerId(2).teamId(2).build(),
@@ -287,13 +288,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTypeWhenSearchingByType() {
+            void shouldOnlyReturnEntriesForTypeWhenSearchingByType() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(1).teamId(1).build(),
@@ -308,14 +309,14 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getType().equals(GameType.PRESEASON)).count());
             }
 
             @Test
-            void shouldReturnAllEntriesForPlayerWhenSearchingByPlayerId() {
+            void shouldReturnAllEntriesForPlayerWhenSearchingByPlayerId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2001-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(1).teamId(2).build(),
@@ -328,13 +329,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForPlayerWhenSearchingByPlayerId() {
+            void shouldOnlyReturnEntriesForPlayerWhenSearchingByPlayerId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(2).teamId(1).build(),
@@ -349,14 +350,14 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getPlayerId().equals(1)).count());
             }
 
             @Test
-            void shouldReturnAllEntriesForTeamWhenSearchingByTeamId() {
+            void shouldReturnAllEntriesForTeamWhenSearchingByTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2001-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(2).teamId(1).build(),
@@ -369,13 +370,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTeamWhenSearchingByTeamId() {
+            void shouldOnlyReturnEntriesForTeamWhenSearchingByTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(2).build(),
@@ -390,7 +391,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getTeamId().equals(1)).count());
@@ -401,7 +402,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
         class WithTwoSearchParameters {
 
             @Test
-            void shouldReturnAllEntriesForGameAndYearWhenSearchingByGameIdAndYear() {
+            void shouldReturnAllEntriesForGameAndYearWhenSearchingByGameIdAndYear() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2001-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(2).teamId(2).build(),
@@ -415,13 +416,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .year("2000")
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameAndYearWhenSearchingByGameIdAndYear() {
+            void shouldOnlyReturnEntriesForGameAndYearWhenSearchingByGameIdAndYear() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(2).teamId(1).build(),
@@ -439,7 +440,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .year("2000")
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -448,7 +449,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForGameAndDatestampWhenSearchingByGameIdAndDatestamp() {
+            void shouldReturnAllEntriesForGameAndDatestampWhenSearchingByGameIdAndDatestamp() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(1).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(2).teamId(2).build(),
@@ -462,13 +463,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .datestamp(LocalDate.parse("2000-03-16"))
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameAndDatestampWhenSearchingByGameIdAndDatestamp() {
+            void shouldOnlyReturnEntriesForGameAndDatestampWhenSearchingByGameIdAndDatestamp() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(2).teamId(1).build(),
@@ -486,7 +487,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .datestamp(LocalDate.parse("2000-03-16"))
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -495,7 +496,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForGameAndTypeWhenSearchingByGameIdAndType() {
+            void shouldReturnAllEntriesForGameAndTypeWhenSearchingByGameIdAndType() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(1).year("2001").datestamp(LocalDate.parse("2001-03-16")).type(GameType.PRESEASON.getValue()).playerId(2).teamId(2).build(),
@@ -509,13 +510,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameAndTypeWhenSearchingByGameIdAndType() {
+            void shouldOnlyReturnEntriesForGameAndTypeWhenSearchingByGameIdAndType() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(2).teamId(1).build(),
@@ -533,7 +534,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -542,7 +543,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForGameAndPlayerWhenSearchingByGameIdAndPlayerId() {
+            void shouldReturnAllEntriesForGameAndPlayerWhenSearchingByGameIdAndPlayerId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = Collections.singletonList(
                         // Game ID & Player ID are the key fields, so only one record is possible
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build()
@@ -555,13 +556,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameAndPlayerWhenSearchingByGameIdAndPlayerId() {
+            void shouldOnlyReturnEntriesForGameAndPlayerWhenSearchingByGameIdAndPlayerId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -576,7 +577,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -585,7 +586,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForGameAndTeamWhenSearchingByGameIdAndTeamId() {
+            void shouldReturnAllEntriesForGameAndTeamWhenSearchingByGameIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(1).year("2001").datestamp(LocalDate.parse("2001-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(2).teamId(1).build(),
@@ -599,13 +600,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameAndTeamWhenSearchingByGameIdAndTeamId() {
+            void shouldOnlyReturnEntriesForGameAndTeamWhenSearchingByGameIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(2).teamId(1).build(),
@@ -623,7 +624,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -632,7 +633,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForYearAndDatestampWhenSearchingByYearAndDatestamp() {
+            void shouldReturnAllEntriesForYearAndDatestampWhenSearchingByYearAndDatestamp() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(2).teamId(2).build(),
@@ -646,13 +647,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .datestamp(LocalDate.parse("2000-03-16"))
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearAndDatestampWhenSearchingByYearAndDatestamp() {
+            void shouldOnlyReturnEntriesForYearAndDatestampWhenSearchingByYearAndDatestamp() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -670,7 +671,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .datestamp(LocalDate.parse("2000-03-16"))
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -679,7 +680,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForYearAndTypeWhenSearchingByYearAndType() {
+            void shouldReturnAllEntriesForYearAndTypeWhenSearchingByYearAndType() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2001-03-16")).type(GameType.PRESEASON.getValue()).playerId(2).teamId(2).build(),
@@ -693,13 +694,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearAndTypeWhenSearchingByYearAndType() {
+            void shouldOnlyReturnEntriesForYearAndTypeWhenSearchingByYearAndType() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -717,7 +718,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -726,7 +727,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForYearAndPlayerWhenSearchingByYearAndPlayerId() {
+            void shouldReturnAllEntriesForYearAndPlayerWhenSearchingByYearAndPlayerId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2001-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(1).teamId(2).build(),
@@ -740,13 +741,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearAndPlayerWhenSearchingByYearAndPlayerId() {
+            void shouldOnlyReturnEntriesForYearAndPlayerWhenSearchingByYearAndPlayerId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -764,7 +765,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -773,7 +774,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForYearAndTeamWhenSearchingByYearAndTeamId() {
+            void shouldReturnAllEntriesForYearAndTeamWhenSearchingByYearAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2001-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(2).teamId(1).build(),
@@ -787,13 +788,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearAndTeamWhenSearchingByYearAndTeamId() {
+            void shouldOnlyReturnEntriesForYearAndTeamWhenSearchingByYearAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -811,7 +812,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -820,7 +821,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForDatestampAndTypeWhenSearchingByDatestampAndType() {
+            void shouldReturnAllEntriesForDatestampAndTypeWhenSearchingByDatestampAndType() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(2).teamId(2).build(),
@@ -834,13 +835,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForDatestampAndTypeWhenSearchingByDatestampAndType() {
+            void shouldOnlyReturnEntriesForDatestampAndTypeWhenSearchingByDatestampAndType() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2001-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -858,7 +859,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -867,7 +868,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForDatestampAndPlayerWhenSearchingByDatestampAndPlayerId() {
+            void shouldReturnAllEntriesForDatestampAndPlayerWhenSearchingByDatestampAndPlayerId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(1).teamId(2).build(),
@@ -881,13 +882,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForDatestampAndPlayerWhenSearchingByDatestampAndPlayerId() {
+            void shouldOnlyReturnEntriesForDatestampAndPlayerWhenSearchingByDatestampAndPlayerId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2001-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -905,7 +906,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -914,7 +915,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForDatestampAndTeamWhenSearchingByDatestampAndTeamId() {
+            void shouldReturnAllEntriesForDatestampAndTeamWhenSearchingByDatestampAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(2).teamId(1).build(),
@@ -928,13 +929,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForDatestampAndTeamWhenSearchingByDatestampAndTeamId() {
+            void shouldOnlyReturnEntriesForDatestampAndTeamWhenSearchingByDatestampAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2001-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -952,7 +953,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -961,7 +962,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForTypeAndPlayerWhenSearchingByTypeAndPlayerId() {
+            void shouldReturnAllEntriesForTypeAndPlayerWhenSearchingByTypeAndPlayerId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2001-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(2).build(),
@@ -975,13 +976,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTypeAndPlayerWhenSearchingByTypeAndPlayerId() {
+            void shouldOnlyReturnEntriesForTypeAndPlayerWhenSearchingByTypeAndPlayerId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(1).teamId(1).build(),
@@ -999,7 +1000,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1008,7 +1009,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForTypeAndTeamWhenSearchingByTypeAndTeamId() {
+            void shouldReturnAllEntriesForTypeAndTeamWhenSearchingByTypeAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2001-03-16")).type(GameType.PRESEASON.getValue()).playerId(2).teamId(1).build(),
@@ -1022,13 +1023,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTypeAndTeamWhenSearchingByTypeAndTeamId() {
+            void shouldOnlyReturnEntriesForTypeAndTeamWhenSearchingByTypeAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(1).teamId(1).build(),
@@ -1046,7 +1047,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1055,7 +1056,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForPlayerAndTeamWhenSearchingByPlayerIdAndTeamId() {
+            void shouldReturnAllEntriesForPlayerAndTeamWhenSearchingByPlayerIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2001-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(1).teamId(1).build(),
@@ -1069,13 +1070,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForPlayerAndTeamWhenSearchingByPlayerIdAndTeamId() {
+            void shouldOnlyReturnEntriesForPlayerAndTeamWhenSearchingByPlayerIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(2).teamId(1).build(),
@@ -1093,7 +1094,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1106,7 +1107,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
         class WithThreeSearchParameters {
 
             @Test
-            void shouldReturnAllEntriesForGameYearAndDatestampWhenSearchingByGameIdYearAndDatestamp() {
+            void shouldReturnAllEntriesForGameYearAndDatestampWhenSearchingByGameIdYearAndDatestamp() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(2).teamId(2).build(),
@@ -1121,13 +1122,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .datestamp(LocalDate.parse("2000-03-16"))
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameYearAndDatestampWhenSearchingByGameIdYearAndDatestamp() {
+            void shouldOnlyReturnEntriesForGameYearAndDatestampWhenSearchingByGameIdYearAndDatestamp() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(2).teamId(1).build(),
@@ -1148,7 +1149,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .datestamp(LocalDate.parse("2000-03-16"))
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1157,7 +1158,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForGameYearAndTypeWhenSearchingByGameIdYearAndType() {
+            void shouldReturnAllEntriesForGameYearAndTypeWhenSearchingByGameIdYearAndType() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2001-03-16")).type(GameType.PRESEASON.getValue()).playerId(2).teamId(2).build(),
@@ -1172,13 +1173,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameYearAndTypeWhenSearchingByGameIdYearAndType() {
+            void shouldOnlyReturnEntriesForGameYearAndTypeWhenSearchingByGameIdYearAndType() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(2).teamId(1).build(),
@@ -1199,7 +1200,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1208,7 +1209,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForGameYearAndPlayerWhenSearchingByGameIdYearAndPlayerId() {
+            void shouldReturnAllEntriesForGameYearAndPlayerWhenSearchingByGameIdYearAndPlayerId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = Collections.singletonList(
                         // Game ID & Player ID are the key fields, so only one record is possible
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build()
@@ -1222,13 +1223,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameYearAndPlayerWhenSearchingByGameIdYearAndPlayerId() {
+            void shouldOnlyReturnEntriesForGameYearAndPlayerWhenSearchingByGameIdYearAndPlayerId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -1244,7 +1245,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -1253,7 +1254,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnNoEntriesForGameYearAndTeamWhenSearchingByGameIdYearAndTeamIdAndYearIsDifferent() {
+            void shouldReturnNoEntriesForGameYearAndTeamWhenSearchingByGameIdYearAndTeamIdAndYearIsDifferent() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2002").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -1268,13 +1269,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnAllEntriesForGameYearAndTeamWhenSearchingByGameIdYearAndTeamId() {
+            void shouldReturnAllEntriesForGameYearAndTeamWhenSearchingByGameIdYearAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2001-03-16")).type(GameType.PRESEASON.getValue()).playerId(2).teamId(1).build(),
@@ -1289,13 +1290,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameYearAndTeamWhenSearchingByGameIdYearAndTeamId() {
+            void shouldOnlyReturnEntriesForGameYearAndTeamWhenSearchingByGameIdYearAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(2).teamId(1).build(),
@@ -1316,7 +1317,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1325,7 +1326,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForGameDatestampAndTypeWhenSearchingByGameIdDatestampAndType() {
+            void shouldReturnAllEntriesForGameDatestampAndTypeWhenSearchingByGameIdDatestampAndType() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(1).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(2).teamId(2).build(),
@@ -1340,13 +1341,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameDatestampAndTypeWhenSearchingByGameIdDatestampAndType() {
+            void shouldOnlyReturnEntriesForGameDatestampAndTypeWhenSearchingByGameIdDatestampAndType() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(2).teamId(1).build(),
@@ -1367,7 +1368,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1376,7 +1377,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForGameDatestampAndPlayerWhenSearchingByGameIdDatestampAndPlayerId() {
+            void shouldReturnAllEntriesForGameDatestampAndPlayerWhenSearchingByGameIdDatestampAndPlayerId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = Collections.singletonList(
                         // Game ID & Player ID are the key fields, so only one record is possible
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build()
@@ -1390,13 +1391,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameDatestampAndPlayerWhenSearchingByGameIdDatestampAndPlayerId() {
+            void shouldOnlyReturnEntriesForGameDatestampAndPlayerWhenSearchingByGameIdDatestampAndPlayerId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -1412,7 +1413,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -1421,7 +1422,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnNoEntriesForGameDatestampAndPlayerWhenSearchingByGameIdDatestampAndPlayerIdAndDatestampIsDifferent() {
+            void shouldReturnNoEntriesForGameDatestampAndPlayerWhenSearchingByGameIdDatestampAndPlayerIdAndDatestampIsDifferent() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-04-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-04-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -1436,13 +1437,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnAllEntriesForGameDatestampAndTeamWhenSearchingByGameIdDatestampAndTeamId() {
+            void shouldReturnAllEntriesForGameDatestampAndTeamWhenSearchingByGameIdDatestampAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(1).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(2).teamId(1).build(),
@@ -1457,13 +1458,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameDatestampAndTeamWhenSearchingByGameIdDatestampAndTeamId() {
+            void shouldOnlyReturnEntriesForGameDatestampAndTeamWhenSearchingByGameIdDatestampAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(2).teamId(1).build(),
@@ -1484,7 +1485,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1493,7 +1494,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForGameTypeAndPlayerWhenSearchingByGameIdTypeAndPlayerId() {
+            void shouldReturnAllEntriesForGameTypeAndPlayerWhenSearchingByGameIdTypeAndPlayerId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = Collections.singletonList(
                         // Game ID & Player ID are the key fields, so only one record is possible
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build()
@@ -1507,13 +1508,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameTypeAndPlayerWhenSearchingByGameIdTypeAndPlayerId() {
+            void shouldOnlyReturnEntriesForGameTypeAndPlayerWhenSearchingByGameIdTypeAndPlayerId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -1529,7 +1530,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -1538,7 +1539,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnNoEntriesForGameTypeAndPlayerWhenSearchingByGameIdTypeAndPlayerIdAndTypeIsDifferent() {
+            void shouldReturnNoEntriesForGameTypeAndPlayerWhenSearchingByGameIdTypeAndPlayerIdAndTypeIsDifferent() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(1).teamId(1).build(),
@@ -1553,13 +1554,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnAllEntriesForGameTypeAndTeamWhenSearchingByGameIdTypeAndTeamId() {
+            void shouldReturnAllEntriesForGameTypeAndTeamWhenSearchingByGameIdTypeAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(1).year("2001").datestamp(LocalDate.parse("2001-03-16")).type(GameType.PRESEASON.getValue()).playerId(2).teamId(1).build(),
@@ -1574,13 +1575,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameTypeAndTeamWhenSearchingByGameIdTypeAndTeamId() {
+            void shouldOnlyReturnEntriesForGameTypeAndTeamWhenSearchingByGameIdTypeAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(2).teamId(1).build(),
@@ -1601,7 +1602,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1610,7 +1611,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForGamePlayerAndTeamWhenSearchingByGameIdPlayerIdAndTeamId() {
+            void shouldReturnAllEntriesForGamePlayerAndTeamWhenSearchingByGameIdPlayerIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = Collections.singletonList(
                         // Game ID & Player ID are the key fields, so only one record is possible
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build()
@@ -1624,13 +1625,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGamePlayerAndTeamWhenSearchingByGameIdPlayerIdAndTeamId() {
+            void shouldOnlyReturnEntriesForGamePlayerAndTeamWhenSearchingByGameIdPlayerIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -1646,7 +1647,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -1655,7 +1656,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnNoEntriesForGamePlayerAndTeamWhenSearchingByGameIdPlayerIdAndTeamAndTeamIdIsDifferent() {
+            void shouldReturnNoEntriesForGamePlayerAndTeamWhenSearchingByGameIdPlayerIdAndTeamAndTeamIdIsDifferent() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(2).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(2).build(),
@@ -1670,13 +1671,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnAllEntriesForYearDatestampAndTypeWhenSearchingByYearDatestampAndType() {
+            void shouldReturnAllEntriesForYearDatestampAndTypeWhenSearchingByYearDatestampAndType() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(2).teamId(2).build(),
@@ -1691,13 +1692,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearDatestampAndTypeWhenSearchingByYearDatestampAndType() {
+            void shouldOnlyReturnEntriesForYearDatestampAndTypeWhenSearchingByYearDatestampAndType() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -1718,7 +1719,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1727,7 +1728,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForYearDatestampAndPlayerWhenSearchingByYearDatestampAndPlayerId() {
+            void shouldReturnAllEntriesForYearDatestampAndPlayerWhenSearchingByYearDatestampAndPlayerId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(1).teamId(2).build(),
@@ -1742,13 +1743,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearDatestampAndPlayerWhenSearchingByYearDatestampAndPlayerId() {
+            void shouldOnlyReturnEntriesForYearDatestampAndPlayerWhenSearchingByYearDatestampAndPlayerId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -1769,7 +1770,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1778,7 +1779,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForYearDatestampAndTeamWhenSearchingByYearDatestampAndTeamId() {
+            void shouldReturnAllEntriesForYearDatestampAndTeamWhenSearchingByYearDatestampAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(2).teamId(1).build(),
@@ -1793,13 +1794,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearDatestampAndTeamWhenSearchingByYearDatestampAndTeamId() {
+            void shouldOnlyReturnEntriesForYearDatestampAndTeamWhenSearchingByYearDatestampAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -1820,7 +1821,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1829,7 +1830,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForYearTypeAndPlayerWhenSearchingByYearTypeAndPlayerId() {
+            void shouldReturnAllEntriesForYearTypeAndPlayerWhenSearchingByYearTypeAndPlayerId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-04-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(2).build(),
@@ -1844,13 +1845,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearTypeAndPlayerWhenSearchingByYearTypeAndPlayerId() {
+            void shouldOnlyReturnEntriesForYearTypeAndPlayerWhenSearchingByYearTypeAndPlayerId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -1871,7 +1872,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1880,7 +1881,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForYearTypeAndTeamWhenSearchingByYearTypeAndTeamId() {
+            void shouldReturnAllEntriesForYearTypeAndTeamWhenSearchingByYearTypeAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-04-16")).type(GameType.PRESEASON.getValue()).playerId(2).teamId(1).build(),
@@ -1895,13 +1896,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearTypeAndTeamWhenSearchingByYearTypeAndTeamId() {
+            void shouldOnlyReturnEntriesForYearTypeAndTeamWhenSearchingByYearTypeAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -1922,7 +1923,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1931,7 +1932,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForYearPlayerAndTeamWhenSearchingByYearPlayerIdAndTeamId() {
+            void shouldReturnAllEntriesForYearPlayerAndTeamWhenSearchingByYearPlayerIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-04-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(1).teamId(1).build(),
@@ -1946,13 +1947,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearPlayerAndTeamWhenSearchingByYearPlayerIdAndTeamId() {
+            void shouldOnlyReturnEntriesForYearPlayerAndTeamWhenSearchingByYearPlayerIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -1973,7 +1974,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1982,7 +1983,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForDatestampTypeAndPlayerWhenSearchingByDatestampTypeAndPlayerId() {
+            void shouldReturnAllEntriesForDatestampTypeAndPlayerWhenSearchingByDatestampTypeAndPlayerId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2002").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(2).build(),
@@ -1997,13 +1998,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForDatestampTypeAndPlayerWhenSearchingByDatestampTypeAndPlayerId() {
+            void shouldOnlyReturnEntriesForDatestampTypeAndPlayerWhenSearchingByDatestampTypeAndPlayerId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2001-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -2024,7 +2025,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -2033,7 +2034,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForDatestampTypeAndTeamWhenSearchingByDatestampTypeAndTeamId() {
+            void shouldReturnAllEntriesForDatestampTypeAndTeamWhenSearchingByDatestampTypeAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2002").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(2).teamId(1).build(),
@@ -2048,13 +2049,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForDatestampTypeAndTeamWhenSearchingByDatestampTypeAndTeamId() {
+            void shouldOnlyReturnEntriesForDatestampTypeAndTeamWhenSearchingByDatestampTypeAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2001-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -2075,7 +2076,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -2084,7 +2085,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForDatestampPlayerAndTeamWhenSearchingByDatestampPlayerIdAndTeamId() {
+            void shouldReturnAllEntriesForDatestampPlayerAndTeamWhenSearchingByDatestampPlayerIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2002").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(1).teamId(1).build(),
@@ -2099,13 +2100,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForDatestampPlayerAndTeamWhenSearchingByDatestampPlayerIdAndTeamId() {
+            void shouldOnlyReturnEntriesForDatestampPlayerAndTeamWhenSearchingByDatestampPlayerIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2001-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -2126,7 +2127,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -2135,7 +2136,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForTypePlayerAndTeamWhenSearchingByTypePlayerIdAndTeamId() {
+            void shouldReturnAllEntriesForTypePlayerAndTeamWhenSearchingByTypePlayerIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2002").datestamp(LocalDate.parse("2001-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -2150,13 +2151,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTypePlayerAndTeamWhenSearchingByTypePlayerIdAndTeamId() {
+            void shouldOnlyReturnEntriesForTypePlayerAndTeamWhenSearchingByTypePlayerIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(1).teamId(1).build(),
@@ -2177,7 +2178,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -2190,7 +2191,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
         class WithFourSearchParameters {
 
             @Test
-            void shouldReturnAllEntriesForGameYearDatestampAndTypeWhenSearchingByGameYearDatestampAndType() {
+            void shouldReturnAllEntriesForGameYearDatestampAndTypeWhenSearchingByGameYearDatestampAndType() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(2).teamId(2).build(),
@@ -2206,13 +2207,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameYearDatestampAndTypeWhenSearchingByGameYearDatestampAndType() {
+            void shouldOnlyReturnEntriesForGameYearDatestampAndTypeWhenSearchingByGameYearDatestampAndType() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(2).teamId(1).build(),
@@ -2236,7 +2237,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -2248,7 +2249,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForGameYearDatestampAndPlayerWhenSearchingByGameIdYearDatestampAndPlayerId() {
+            void shouldReturnAllEntriesForGameYearDatestampAndPlayerWhenSearchingByGameIdYearDatestampAndPlayerId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = Collections.singletonList(
                         // Game ID & Player ID are the key fields, so only one record is possible
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build()
@@ -2263,13 +2264,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameYearDatestampAndPlayerWhenSearchingByGameIdYearDatestampAndPlayerId() {
+            void shouldOnlyReturnEntriesForGameYearDatestampAndPlayerWhenSearchingByGameIdYearDatestampAndPlayerId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -2286,7 +2287,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -2298,7 +2299,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnNoEntriesForGameYearDatestampAndPlayerWhenSearchingByGameIdYearDatestampAndPlayerIdAndYearIsDifferent() {
+            void shouldReturnNoEntriesForGameYearDatestampAndPlayerWhenSearchingByGameIdYearDatestampAndPlayerIdAndYearIsDifferent() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -2315,13 +2316,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnNoEntriesForGameYearDatestampAndPlayerWhenSearchingByGameIdYearDatestampAndPlayerIdAndDatestampIsDifferent() {
+            void shouldReturnNoEntriesForGameYearDatestampAndPlayerWhenSearchingByGameIdYearDatestampAndPlayerIdAndDatestampIsDifferent() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2001-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2001-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -2338,13 +2339,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnAllEntriesForGameYearDatestampAndTeamWhenSearchingByGameIdYearDatestampAndTeamId() {
+            void shouldReturnAllEntriesForGameYearDatestampAndTeamWhenSearchingByGameIdYearDatestampAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(2).teamId(1).build(),
@@ -2360,13 +2361,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameYearDatestampAndTeamWhenSearchingByGameIdYearDatestampAndTeamId() {
+            void shouldOnlyReturnEntriesForGameYearDatestampAndTeamWhenSearchingByGameIdYearDatestampAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(2).teamId(1).build(),
@@ -2390,7 +2391,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -2402,7 +2403,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForGameYearTypeAndPlayerWhenSearchingByGameIdYearTypeAndPlayerId() {
+            void shouldReturnAllEntriesForGameYearTypeAndPlayerWhenSearchingByGameIdYearTypeAndPlayerId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = Collections.singletonList(
                         // Game ID & Player ID are the key fields, so only one record is possible
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build()
@@ -2417,13 +2418,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameYearTypeAndPlayerWhenSearchingByGameIdYearTypeAndPlayerId() {
+            void shouldOnlyReturnEntriesForGameYearTypeAndPlayerWhenSearchingByGameIdYearTypeAndPlayerId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -2440,7 +2441,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -2452,7 +2453,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnNoEntriesForGameYearTypeAndPlayerWhenSearchingByGameIdYearTypeAndPlayerIdAndYearIsDifferent() {
+            void shouldReturnNoEntriesForGameYearTypeAndPlayerWhenSearchingByGameIdYearTypeAndPlayerIdAndYearIsDifferent() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -2469,13 +2470,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnNoEntriesForGameYearTypeAndPlayerWhenSearchingByGameIdYearTypeAndPlayerIdAndTypeIsDifferent() {
+            void shouldReturnNoEntriesForGameYearTypeAndPlayerWhenSearchingByGameIdYearTypeAndPlayerIdAndTypeIsDifferent() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(1).teamId(1).build(),
@@ -2492,13 +2493,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnAllEntriesForGameYearTypeAndTeamWhenSearchingByGameIdYearTypeAndTeamId() {
+            void shouldReturnAllEntriesForGameYearTypeAndTeamWhenSearchingByGameIdYearTypeAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2001-03-16")).type(GameType.PRESEASON.getValue()).playerId(2).teamId(1).build(),
@@ -2514,13 +2515,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameYearTypeAndTeamWhenSearchingByGameIdYearTypeAndTeamId() {
+            void shouldOnlyReturnEntriesForGameYearTypeAndTeamWhenSearchingByGameIdYearTypeAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(2).teamId(1).build(),
@@ -2544,7 +2545,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -2556,7 +2557,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForGameYearPlayerAndTeamWhenSearchingByGameIdYearPlayerIdAndTeamId() {
+            void shouldReturnAllEntriesForGameYearPlayerAndTeamWhenSearchingByGameIdYearPlayerIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = Collections.singletonList(
                         // Game ID & Player ID are the key fields, so only one record is possible
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build()
@@ -2571,13 +2572,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameYearPlayerAndTeamWhenSearchingByGameIdYearPlayerIdAndTeamId() {
+            void shouldOnlyReturnEntriesForGameYearPlayerAndTeamWhenSearchingByGameIdYearPlayerIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -2594,7 +2595,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -2606,7 +2607,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnNoEntriesForGameYearPlayerAndTeamWhenSearchingByGameIdYearPlayerIdAndTeamAndYearIsDifferent() {
+            void shouldReturnNoEntriesForGameYearPlayerAndTeamWhenSearchingByGameIdYearPlayerIdAndTeamAndYearIsDifferent() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -2623,13 +2624,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnNoEntriesForGameYearPlayerAndTeamWhenSearchingByGameIdYearPlayerIdAndTeamAndTeamIdIsDifferent() {
+            void shouldReturnNoEntriesForGameYearPlayerAndTeamWhenSearchingByGameIdYearPlayerIdAndTeamAndTeamIdIsDifferent() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(2).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(2).build(),
@@ -2646,13 +2647,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnAllEntriesForGameDatestampTypeAndPlayerWhenSearchingByGameIdDatestampTypeAndPlayerId() {
+            void shouldReturnAllEntriesForGameDatestampTypeAndPlayerWhenSearchingByGameIdDatestampTypeAndPlayerId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = Collections.singletonList(
                         // Game ID & Player ID are the key fields, so only one record is possible
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build()
@@ -2667,13 +2668,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameDatestampTypeAndPlayerWhenSearchingByGameIdDatestampTypeAndPlayerId() {
+            void shouldOnlyReturnEntriesForGameDatestampTypeAndPlayerWhenSearchingByGameIdDatestampTypeAndPlayerId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -2690,7 +2691,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -2702,7 +2703,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnNoEntriesForGameDatestampTypeAndPlayerWhenSearchingByGameIdDatestampTypeAndPlayerIdAndDatestampIsDifferent() {
+            void shouldReturnNoEntriesForGameDatestampTypeAndPlayerWhenSearchingByGameIdDatestampTypeAndPlayerIdAndDatestampIsDifferent() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2001-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2001-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -2719,13 +2720,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnNoEntriesForGameDatestampTypeAndPlayerWhenSearchingByGameIdDatestampTypeAndPlayerIdAndTypeIsDifferent() {
+            void shouldReturnNoEntriesForGameDatestampTypeAndPlayerWhenSearchingByGameIdDatestampTypeAndPlayerIdAndTypeIsDifferent() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(1).teamId(1).build(),
@@ -2742,13 +2743,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnAllEntriesForGameDatestampTypeAndTeamWhenSearchingByGameIdDatestampTypeAndTeamId() {
+            void shouldReturnAllEntriesForGameDatestampTypeAndTeamWhenSearchingByGameIdDatestampTypeAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(1).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(2).teamId(1).build(),
@@ -2764,13 +2765,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameDatestampTypeAndTeamWhenSearchingByGameIdDatestampTypeAndTeamId() {
+            void shouldOnlyReturnEntriesForGameDatestampTypeAndTeamWhenSearchingByGameIdDatestampTypeAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(2).teamId(1).build(),
@@ -2794,7 +2795,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -2806,7 +2807,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForGameDatestampPlayerAndTeamWhenSearchingByGameIdDatestampPlayerIdAndTeamId() {
+            void shouldReturnAllEntriesForGameDatestampPlayerAndTeamWhenSearchingByGameIdDatestampPlayerIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = Collections.singletonList(
                         // Game ID & Player ID are the key fields, so only one record is possible
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build()
@@ -2821,13 +2822,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameDatestampPlayerAndTeamWhenSearchingByGameIdDatestampPlayerIdAndTeamId() {
+            void shouldOnlyReturnEntriesForGameDatestampPlayerAndTeamWhenSearchingByGameIdDatestampPlayerIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -2844,7 +2845,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -2856,7 +2857,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnNoEntriesForGameDatestampPlayerAndTeamWhenSearchingByGameIdDatestampPlayerIdAndTeamAndDatestampIsDifferent() {
+            void shouldReturnNoEntriesForGameDatestampPlayerAndTeamWhenSearchingByGameIdDatestampPlayerIdAndTeamAndDatestampIsDifferent() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2001-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2001-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -2873,13 +2874,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnNoEntriesForGameDatestampPlayerAndTeamWhenSearchingByGameIdDatestampPlayerIdAndTeamAndTeamIdIsDifferent() {
+            void shouldReturnNoEntriesForGameDatestampPlayerAndTeamWhenSearchingByGameIdDatestampPlayerIdAndTeamAndTeamIdIsDifferent() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(2).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(2).build(),
@@ -2896,13 +2897,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnAllEntriesForGameTypePlayerAndTeamWhenSearchingByGameIdTypePlayerIdAndTeamId() {
+            void shouldReturnAllEntriesForGameTypePlayerAndTeamWhenSearchingByGameIdTypePlayerIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = Collections.singletonList(
                         // Game ID & Player ID are the key fields, so only one record is possible
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build()
@@ -2917,13 +2918,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameTypePlayerAndTeamWhenSearchingByGameIdTypePlayerIdAndTeamId() {
+            void shouldOnlyReturnEntriesForGameTypePlayerAndTeamWhenSearchingByGameIdTypePlayerIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -2940,7 +2941,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -2952,7 +2953,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnNoEntriesForGameTypePlayerAndTeamWhenSearchingByGameIdTypePlayerIdAndTeamAndTypeIsDifferent() {
+            void shouldReturnNoEntriesForGameTypePlayerAndTeamWhenSearchingByGameIdTypePlayerIdAndTeamAndTypeIsDifferent() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(1).teamId(1).build(),
@@ -2969,13 +2970,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnNoEntriesForGameTypePlayerAndTeamWhenSearchingByGameIdTypePlayerIdAndTeamAndTeamIdIsDifferent() {
+            void shouldReturnNoEntriesForGameTypePlayerAndTeamWhenSearchingByGameIdTypePlayerIdAndTeamAndTeamIdIsDifferent() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(2).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(2).build(),
@@ -2992,13 +2993,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnAllEntriesForYearDatestampTypeAndPlayerWhenSearchingByYearDatestampTypeAndPlayerId() {
+            void shouldReturnAllEntriesForYearDatestampTypeAndPlayerWhenSearchingByYearDatestampTypeAndPlayerId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(2).build(),
@@ -3014,13 +3015,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearDatestampTypeAndPlayerWhenSearchingByYearDatestampTypeAndPlayerId() {
+            void shouldOnlyReturnEntriesForYearDatestampTypeAndPlayerWhenSearchingByYearDatestampTypeAndPlayerId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -3044,7 +3045,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -3056,7 +3057,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForYearDatestampTypeAndTeamWhenSearchingByYearDatestampTypeAndTeamId() {
+            void shouldReturnAllEntriesForYearDatestampTypeAndTeamWhenSearchingByYearDatestampTypeAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(2).teamId(1).build(),
@@ -3072,13 +3073,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearDatestampTypeAndTeamWhenSearchingByYearDatestampTypeAndTeamId() {
+            void shouldOnlyReturnEntriesForYearDatestampTypeAndTeamWhenSearchingByYearDatestampTypeAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -3102,7 +3103,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -3114,7 +3115,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForYearDatestampPlayerAndTeamWhenSearchingByYearDatestampPlayerIdAndTeamId() {
+            void shouldReturnAllEntriesForYearDatestampPlayerAndTeamWhenSearchingByYearDatestampPlayerIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(1).teamId(1).build(),
@@ -3130,13 +3131,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearDatestampPlayerAndTeamWhenSearchingByYearDatestampPlayerIdAndTeamId() {
+            void shouldOnlyReturnEntriesForYearDatestampPlayerAndTeamWhenSearchingByYearDatestampPlayerIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -3160,7 +3161,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -3172,7 +3173,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForYearTypePlayerAndTeamWhenSearchingByYearTypePlayerIdAndTeamId() {
+            void shouldReturnAllEntriesForYearTypePlayerAndTeamWhenSearchingByYearTypePlayerIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-04-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -3188,13 +3189,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearTypePlayerAndTeamWhenSearchingByYearTypePlayerIdAndTeamId() {
+            void shouldOnlyReturnEntriesForYearTypePlayerAndTeamWhenSearchingByYearTypePlayerIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -3218,7 +3219,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -3230,7 +3231,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForDatestampTypePlayerAndTeamWhenSearchingByDatestampTypePlayerIdAndTeamId() {
+            void shouldReturnAllEntriesForDatestampTypePlayerAndTeamWhenSearchingByDatestampTypePlayerIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -3246,13 +3247,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForDatestampTypePlayerAndTeamWhenSearchingByDatestampTypePlayerIdAndTeamId() {
+            void shouldOnlyReturnEntriesForDatestampTypePlayerAndTeamWhenSearchingByDatestampTypePlayerIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-04-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -3276,7 +3277,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -3292,7 +3293,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
         class WithFiveSearchParameters {
 
             @Test
-            void shouldReturnAllEntriesForGameYearDatestampTypeAndPlayerWhenSearchingByGameIdYearDatestampTypeAndPlayerId() {
+            void shouldReturnAllEntriesForGameYearDatestampTypeAndPlayerWhenSearchingByGameIdYearDatestampTypeAndPlayerId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = Collections.singletonList(
                         // Game ID & Player ID are the key fields, so only one record is possible
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build()
@@ -3308,13 +3309,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameYearDatestampTypeAndPlayerWhenSearchingByGameIdYearDatestampTypeAndPlayerId() {
+            void shouldOnlyReturnEntriesForGameYearDatestampTypeAndPlayerWhenSearchingByGameIdYearDatestampTypeAndPlayerId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -3332,7 +3333,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -3345,7 +3346,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnNoEntriesForGameYearDatestampTypeAndPlayerWhenSearchingByGameIdYearDatestampTypeAndPlayerIdAndYearIsDifferent() {
+            void shouldReturnNoEntriesForGameYearDatestampTypeAndPlayerWhenSearchingByGameIdYearDatestampTypeAndPlayerIdAndYearIsDifferent() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -3363,13 +3364,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnNoEntriesForGameYearDatestampTypeAndPlayerWhenSearchingByGameIdYearDatestampTypeAndPlayerIdAndDatestampIsDifferent() {
+            void shouldReturnNoEntriesForGameYearDatestampTypeAndPlayerWhenSearchingByGameIdYearDatestampTypeAndPlayerIdAndDatestampIsDifferent() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-04-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-04-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -3387,13 +3388,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnNoEntriesForGameYearDatestampTypeAndPlayerWhenSearchingByGameIdYearDatestampTypeAndPlayerIdAndTypeIsDifferent() {
+            void shouldReturnNoEntriesForGameYearDatestampTypeAndPlayerWhenSearchingByGameIdYearDatestampTypeAndPlayerIdAndTypeIsDifferent() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(1).teamId(1).build(),
@@ -3411,13 +3412,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .playerId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnAllEntriesForGameYearDatestampTypeAndTeamWhenSearchingByGameIdYearDatestampTypeAndTeamId() {
+            void shouldReturnAllEntriesForGameYearDatestampTypeAndTeamWhenSearchingByGameIdYearDatestampTypeAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(2).teamId(1).build(),
@@ -3434,13 +3435,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameYearDatestampTypeAndTeamWhenSearchingByGameIdYearDatestampTypeAndTeamId() {
+            void shouldOnlyReturnEntriesForGameYearDatestampTypeAndTeamWhenSearchingByGameIdYearDatestampTypeAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(2).teamId(1).build(),
@@ -3467,7 +3468,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -3480,7 +3481,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnAllEntriesForGameYearDatestampPlayerAndTeamWhenSearchingByGameIdYearDatestampPlayerIdAndTeamId() {
+            void shouldReturnAllEntriesForGameYearDatestampPlayerAndTeamWhenSearchingByGameIdYearDatestampPlayerIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = Collections.singletonList(
                         // Game ID & Player ID are the key fields, so only one record is possible
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build()
@@ -3496,13 +3497,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameYearDatestampPlayerAndTeamWhenSearchingByGameIdYearDatestampPlayerIdAndTeamId() {
+            void shouldOnlyReturnEntriesForGameYearDatestampPlayerAndTeamWhenSearchingByGameIdYearDatestampPlayerIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -3520,7 +3521,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -3533,7 +3534,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnNoEntriesForGameYearDatestampPlayerAndTeamWhenSearchingByGameIdYearDatestampPlayerIdAndTeamAndYearIsDifferent() {
+            void shouldReturnNoEntriesForGameYearDatestampPlayerAndTeamWhenSearchingByGameIdYearDatestampPlayerIdAndTeamAndYearIsDifferent() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -3551,13 +3552,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnNoEntriesForGameYearDatestampPlayerAndTeamWhenSearchingByGameIdYearDatestampPlayerIdAndTeamAndDatestampIsDifferent() {
+            void shouldReturnNoEntriesForGameYearDatestampPlayerAndTeamWhenSearchingByGameIdYearDatestampPlayerIdAndTeamAndDatestampIsDifferent() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-04-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-04-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -3575,13 +3576,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnNoEntriesForGameYearDatestampPlayerAndTeamWhenSearchingByGameIdYearDatestampPlayerIdAndTeamIdAndTeamIdIsDifferent() {
+            void shouldReturnNoEntriesForGameYearDatestampPlayerAndTeamWhenSearchingByGameIdYearDatestampPlayerIdAndTeamIdAndTeamIdIsDifferent() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(2).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(2).build(),
@@ -3599,13 +3600,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnAllEntriesForGameYearTypePlayerAndTeamWhenSearchingByGameIdYearTypePlayerIdAndTeamId() {
+            void shouldReturnAllEntriesForGameYearTypePlayerAndTeamWhenSearchingByGameIdYearTypePlayerIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = Collections.singletonList(
                         // Game ID & Player ID are the key fields, so only one record is possible
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build()
@@ -3621,13 +3622,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameYearTypePlayerAndTeamWhenSearchingByGameIdYearTypePlayerIdAndTeamId() {
+            void shouldOnlyReturnEntriesForGameYearTypePlayerAndTeamWhenSearchingByGameIdYearTypePlayerIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -3645,7 +3646,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -3658,7 +3659,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnNoEntriesForGameYearTypePlayerAndTeamWhenSearchingByGameIdYearTypePlayerIdAndTeamIdAndYearIsDifferent() {
+            void shouldReturnNoEntriesForGameYearTypePlayerAndTeamWhenSearchingByGameIdYearTypePlayerIdAndTeamIdAndYearIsDifferent() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -3676,13 +3677,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnNoEntriesForGameYearTypePlayerAndTeamWhenSearchingByGameIdYearTypePlayerIdAndTeamIdAndTypeIsDifferent() {
+            void shouldReturnNoEntriesForGameYearTypePlayerAndTeamWhenSearchingByGameIdYearTypePlayerIdAndTeamIdAndTypeIsDifferent() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(1).teamId(1).build(),
@@ -3700,13 +3701,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnNoEntriesForGameYearTypePlayerAndTeamWhenSearchingByGameIdYearTypePlayerIdAndTeamIdAndTeamIdIsDifferent() {
+            void shouldReturnNoEntriesForGameYearTypePlayerAndTeamWhenSearchingByGameIdYearTypePlayerIdAndTeamIdAndTeamIdIsDifferent() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(2).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(2).build(),
@@ -3724,13 +3725,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnAllEntriesForGameDatestampTypePlayerAndTeamWhenSearchingByGameIdDatestampTypePlayerIdAndTeamId() {
+            void shouldReturnAllEntriesForGameDatestampTypePlayerAndTeamWhenSearchingByGameIdDatestampTypePlayerIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = Collections.singletonList(
                         // Game ID & Player ID are the key fields, so only one record is possible
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build()
@@ -3746,13 +3747,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameDatestampTypePlayerAndTeamWhenSearchingByGameIdDatestampTypePlayerIdAndTeamId() {
+            void shouldOnlyReturnEntriesForGameDatestampTypePlayerAndTeamWhenSearchingByGameIdDatestampTypePlayerIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -3770,7 +3771,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -3783,7 +3784,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
             }
 
             @Test
-            void shouldReturnNoEntriesForGameDatestampTypePlayerAndTeamWhenSearchingByGameIdDatestampTypePlayerIdAndTeamIdAndDatestampIsDifferent() {
+            void shouldReturnNoEntriesForGameDatestampTypePlayerAndTeamWhenSearchingByGameIdDatestampTypePlayerIdAndTeamIdAndDatestampIsDifferent() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-04-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-04-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -3801,13 +3802,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnNoEntriesForGameDatestampTypePlayerAndTeamWhenSearchingByGameIdDatestampTypePlayerIdAndTeamIdAndTypeIsDifferent() {
+            void shouldReturnNoEntriesForGameDatestampTypePlayerAndTeamWhenSearchingByGameIdDatestampTypePlayerIdAndTeamIdAndTypeIsDifferent() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(1).teamId(1).build(),
@@ -3825,13 +3826,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnNoEntriesForGameDatestampTypePlayerAndTeamWhenSearchingByGameIdDatestampTypePlayerIdAndTeamIdAndTeamIdIsDifferent() {
+            void shouldReturnNoEntriesForGameDatestampTypePlayerAndTeamWhenSearchingByGameIdDatestampTypePlayerIdAndTeamIdAndTeamIdIsDifferent() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(2).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(2).build(),
@@ -3849,13 +3850,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnAllEntriesForYearDatestampTypePlayerAndTeamWhenSearchingByYearDatestampTypePlayerIdAndTeamId() {
+            void shouldReturnAllEntriesForYearDatestampTypePlayerAndTeamWhenSearchingByYearDatestampTypePlayerIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -3872,13 +3873,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearDatestampTypePlayerAndTeamWhenSearchingByYearDatestampTypePlayerIdAndTeamId() {
+            void shouldOnlyReturnEntriesForYearDatestampTypePlayerAndTeamWhenSearchingByYearDatestampTypePlayerIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerGame> playerGameList = List.of(
                         PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -3905,7 +3906,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                         .teamId(1)
                         .build();
 
-                final List<PlayerGameResponse> result = searchService.fetchAll(request);
+                final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -3919,7 +3920,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
         }
 
         @Test
-        void shouldReturnMatchingEntryWhenSearchingByAllParameters() {
+        void shouldReturnMatchingEntryWhenSearchingByAllParameters() throws InvalidCursorException {
             final List<PlayerGame> playerGameList = Collections.singletonList(
                     // Game ID & Player ID are the key fields, so only one record is possible
                     PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build()
@@ -3936,13 +3937,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                     .teamId(1)
                     .build();
 
-            final List<PlayerGameResponse> result = searchService.fetchAll(request);
+            final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
             assertEquals(1, result.size());
         }
 
         @Test
-        void shouldOnlyReturnMatchingEntryWhenSearchingByAllParameters() {
+        void shouldOnlyReturnMatchingEntryWhenSearchingByAllParameters() throws InvalidCursorException {
             final List<PlayerGame> playerGameList = List.of(
                     PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                     PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -3961,7 +3962,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                     .teamId(1)
                     .build();
 
-            final List<PlayerGameResponse> result = searchService.fetchAll(request);
+            final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
             assertEquals(1, result.size());
             assertEquals(1, result.stream().filter(t ->
@@ -3975,7 +3976,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
         }
 
         @Test
-        void shouldNotReturnMatchingEntriyWhenSearchingByAllParametersAndYearIsDifferent() {
+        void shouldNotReturnMatchingEntriyWhenSearchingByAllParametersAndYearIsDifferent() throws InvalidCursorException {
             final List<PlayerGame> playerGameList = List.of(
                     PlayerGame.builder().gameId(1).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                     PlayerGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -3994,13 +3995,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                     .teamId(1)
                     .build();
 
-            final List<PlayerGameResponse> result = searchService.fetchAll(request);
+            final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
             assertEquals(0, result.size());
         }
 
         @Test
-        void shouldNotReturnMatchingEntriyWhenSearchingByAllParametersAndDatestampIsDifferent() {
+        void shouldNotReturnMatchingEntriyWhenSearchingByAllParametersAndDatestampIsDifferent() throws InvalidCursorException {
             final List<PlayerGame> playerGameList = List.of(
                     PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-04-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                     PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-04-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -4019,13 +4020,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                     .teamId(1)
                     .build();
 
-            final List<PlayerGameResponse> result = searchService.fetchAll(request);
+            final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
             assertEquals(0, result.size());
         }
 
         @Test
-        void shouldNotReturnMatchingEntriyWhenSearchingByAllParametersAndTypeIsDifferent() {
+        void shouldNotReturnMatchingEntriyWhenSearchingByAllParametersAndTypeIsDifferent() throws InvalidCursorException {
             final List<PlayerGame> playerGameList = List.of(
                     PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(1).teamId(1).build(),
                     PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).playerId(1).teamId(1).build(),
@@ -4044,13 +4045,13 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                     .teamId(1)
                     .build();
 
-            final List<PlayerGameResponse> result = searchService.fetchAll(request);
+            final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
             assertEquals(0, result.size());
         }
 
         @Test
-        void shouldNotReturnMatchingEntriyWhenSearchingByAllParametersAndTeamIdIsDifferent() {
+        void shouldNotReturnMatchingEntriyWhenSearchingByAllParametersAndTeamIdIsDifferent() throws InvalidCursorException {
             final List<PlayerGame> playerGameList = List.of(
                     PlayerGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(2).build(),
                     PlayerGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).playerId(1).teamId(2).build(),
@@ -4069,7 +4070,7 @@ class PlayerGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest
                     .teamId(1)
                     .build();
 
-            final List<PlayerGameResponse> result = searchService.fetchAll(request);
+            final List<PlayerGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
             assertEquals(0, result.size());
         }
@@ -2,10 +2,14 @@ package org.natc.app.service.search;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.natc.app.entity.domain.Manager;
 import org.natc.app.entity.domain.Player;
 import org.natc.app.entity.domain.PlayerAward;
+import org.natc.app.entity.request.ManagerSearchRequest;
 import org.natc.app.entity.request.PlayerSearchRequest;
 import org.natc.app.entity.response.PlayerResponse;
+import org.natc.app.exception.InvalidCursorException;
+import org.natc.app.repository.ManagerRepository;
 import org.natc.app.repository.PlayerRepository;
 import org.natc.app.service.NATCServiceIntegrationTest;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,6 +21,8 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class PlayerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
 
@@ -26,11 +32,17 @@ class PlayerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
     @Autowired
     private PlayerSearchService playerSearchService;
 
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    @Autowired
+    private ManagerSearchService managerSearchService;
+
     @Nested
-    class FetchAll {
+    class FetchPage {
 
         @Test
-        void shouldReturnAPlayerFromTheDatabaseMappedToAResponse() {
+        void shouldReturnAPlayerFromTheDatabaseMappedToAResponse() throws InvalidCursorException {
             final Player player = Player.builder()
                     .playerId(1)
                     .year("2020")
@@ -41,7 +53,7 @@ class PlayerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
 
             playerRepository.save(player);
 
-            final List<PlayerResponse> result = playerSearchService.fetchAll(new PlayerSearchRequest());
+            final List<PlayerResponse> result = playerSearchService.fetchPage(new PlayerSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -55,7 +67,7 @@ class PlayerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
         }
 
         @Test
-        void shouldMapAllPlayerFieldsToThePlayerResponse() {
+        void shouldMapAllPlayerFieldsToThePlayerResponse() throws InvalidCursorException {
             final Player player = Player.builder()
                     .playerId(123)
                     .teamId(321)
@@ -94,7 +106,7 @@ class PlayerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
 
             playerRepository.save(player);
 
-            final List<PlayerResponse> result = playerSearchService.fetchAll(new PlayerSearchRequest());
+            final List<PlayerResponse> result = playerSearchService.fetchPage(new PlayerSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -136,7 +148,7 @@ class PlayerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
         }
 
         @Test
-        void shouldReturnAllEntriesWhenSearchingWithoutValues() {
+        void shouldReturnAllEntriesWhenSearchingWithoutValues() throws InvalidCursorException {
             final List<Player> playerList = List.of(
                     Player.builder().playerId(1).year("2000").teamId(1).build(),
                     Player.builder().playerId(2).year("2001").teamId(2).build(),
@@ -147,25 +159,72 @@ class PlayerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
 
             final PlayerSearchRequest request = PlayerSearchRequest.builder().build();
 
-            final List<PlayerResponse> result = playerSearchService.fetchAll(request);
+            final List<PlayerResponse> result = playerSearchService.fetchPage(request, null, null).getResources();
 
             assertEquals(3, result.size());
         }
 
         @Test
-        void shouldReturnNoEntriesWhenSearchingGivenNoDataInTheDatabase() {
+        void shouldReturnNoEntriesWhenSearchingGivenNoDataInTheDatabase() throws InvalidCursorException {
             final PlayerSearchRequest request = PlayerSearchRequest.builder().build();
 
-            final List<PlayerResponse> result = playerSearchService.fetchAll(request);
+            final List<PlayerResponse> result = playerSearchService.fetchPage(request, null, null).getResources();
 
             assertEquals(0, result.size());
         }
 
+        @Test
+        void shouldReturnEntriesOrderedByIdOnePageAtATime() throws InvalidCursorException {
+            final List<Player> playerList = List.of(
+                    Player.builder().playerId(2).year("2001").build(),
+                    Player.builder().playerId(1).year("2001").build(),
+                    Player.builder().playerId(2).year("2000").build(),
+                    Player.builder().playerId(3).year("2000").build(),
+                    Player.builder().playerId(1).year("2000").build()
+            );
+
+            playerRepository.saveAll(playerList);
+
+            final PlayerSearchRequest request = PlayerSearchRequest.builder().build();
+
+            final SearchPage<PlayerResponse> first = playerSearchService.fetchPage(request, null, 2);
+            final SearchPage<PlayerResponse> second = playerSearchService.fetchPage(request, first.getNextCursor(), 2);
+            final SearchPage<PlayerResponse> third = playerSearchService.fetchPage(request, second.getNextCursor(), 2);
+
+            assertEquals(List.of("1:2000", "1:2001"), first.getResources().stream().map(p -> p.getPlayerId() + ":" + p.getYear()).toList());
+            assertEquals(List.of("2:2000", "2:2001"), second.getResources().stream().map(p -> p.getPlayerId() + ":" + p.getYear()).toList());
+            assertEquals(List.of("3:2000"), third.getResources().stream().map(p -> p.getPlayerId() + ":" + p.getYear()).toList());
+            assertNotNull(first.getNextCursor());
+            assertNotNull(second.getNextCursor());
+            assertNull(third.getNextCursor());
+        }
+
+        @Test
+        void shouldThrowInvalidCursorExceptionGivenACursorThatCannotBeDecoded() {
+            final PlayerSearchRequest request = PlayerSearchRequest.builder().build();
+
+            assertThrows(InvalidCursorException.class, () -> playerSearchService.fetchPage(request, "not-a-cursor!", null));
+        }
+
+        @Test
+        void shouldThrowInvalidCursorExceptionGivenACursorFromAnotherSearch() throws InvalidCursorException {
+            managerRepository.saveAll(List.of(
+                    Manager.builder().managerId(1).year("2000").build(),
+                    Manager.builder().managerId(2).year("2000").build()
+            ));
+
+            final String managerCursor = managerSearchService.fetchPage(ManagerSearchRequest.builder().build(), null, 1).getNextCursor();
+            final PlayerSearchRequest request = PlayerSearchRequest.builder().build();
+
+            assertNotNull(managerCursor);
+            assertThrows(InvalidCursorException.class, () -> playerSearchService.fetchPage(request, managerCursor, null));
+        }
+
         @Nested
         class WithOneSearchParameter {
 
             @Test
-            void shouldReturnAllEntriesForPlayerWhenSearchingByPlayerId() {
+            void shouldReturnAllEntriesForPlayerWhenSearchingByPlayerId() throws InvalidCursorException {
                 final List<Player> playerList = List.of(
                         Player.builder().playerId(1).year("2000").teamId(1).build(),
                         Player.builder().playerId(1).year("2001").teamId(2).build(),
@@ -178,13 +237,13 @@ class PlayerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .playerId(1)
                         .build();
 
-                final List<PlayerResponse> result = playerSearchService.fetchAll(request);
+                final List<PlayerResponse> result = playerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForPlayerWhenSearchingByPlayerId() {
+            void shouldOnlyReturnEntriesForPlayerWhenSearchingByPlayerId() throws InvalidCursorException {
                 final List<Player> playerList = List.of(
                         Player.builder().playerId(1).year("2000").teamId(1).build(),
                         Player.builder().playerId(2).year("2000").teamId(1).build(),
@@ -199,14 +258,14 @@ class PlayerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .playerId(1)
                         .build();
 
-                final List<PlayerResponse> result = playerSearchService.fetchAll(request);
+                final List<PlayerResponse> result = playerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getPlayerId().equals(1)).count());
             }
 
             @Test
-            void shouldReturnAllEntriesForYearWhenSearchingByYear() {
+            void shouldReturnAllEntriesForYearWhenSearchingByYear() throws InvalidCursorException {
                 final List<Player> playerList = List.of(
                         Player.builder().playerId(1).year("2000").teamId(1).build(),
                         Player.builder().playerId(2).year("2000").teamId(2).build(),
@@ -219,13 +278,13 @@ class PlayerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .year("2000")
                         .build();
 
-                final List<PlayerResponse> result = playerSearchService.fetchAll(request);
+                final List<PlayerResponse> result = playerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearWhenSearchingByYear() {
+            void shouldOnlyReturnEntriesForYearWhenSearchingByYear() throws InvalidCursorException {
                 final List<Player> playerList = List.of(
                         Player.builder().playerId(1).year("2000").teamId(1).build(),
                         Player.builder().playerId(1).year("2001").teamId(1).build(),
@@ -240,14 +299,14 @@ class PlayerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .year("2000")
                         .build();
 
-                final List<PlayerResponse> result = playerSearchService.fetchAll(request);
+                final List<PlayerResponse> result = playerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getYear().equals("2000")).count());
             }
 
             @Test
-            void shouldReturnAllEntriesForTeamWhenSearchingByTeamId() {
+            void shouldReturnAllEntriesForTeamWhenSearchingByTeamId() throws InvalidCursorException {
                 final List<Player> playerList = List.of(
                         Player.builder().playerId(1).year("2000").teamId(1).build(),
                         Player.builder().playerId(2).year("2001").teamId(1).build(),
@@ -260,13 +319,13 @@ class PlayerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<PlayerResponse> result = playerSearchService.fetchAll(request);
+                final List<PlayerResponse> result = playerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTeamWhenSearchingByTeamId() {
+            void shouldOnlyReturnEntriesForTeamWhenSearchingByTeamId() throws InvalidCursorException {
                 final List<Player> playerList = List.of(
                         Player.builder().playerId(1).year("2000").teamId(1).build(),
                         Player.builder().playerId(1).year("2001").teamId(2).build(),
@@ -281,7 +340,7 @@ class PlayerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<PlayerResponse> result = playerSearchService.fetchAll(request);
+                final List<PlayerResponse> result = playerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getTeamId().equals(1)).count());
@@ -292,7 +351,7 @@ class PlayerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
         class WithTwoSearchParameters {
 
             @Test
-            void shouldReturnAllEntriesForPlayerAndYearWhenSearchingByPlayerIdAndYear() {
+            void shouldReturnAllEntriesForPlayerAndYearWhenSearchingByPlayerIdAndYear() throws InvalidCursorException {
                 final List<Player> playerList = Collections.singletonList(
                         // Player ID & Year are the key fields, so only one record is possible
                         Player.builder().playerId(1).year("2000").teamId(2).build()
@@ -305,13 +364,13 @@ class PlayerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .year("2000")
                         .build();
 
-                final List<PlayerResponse> result = playerSearchService.fetchAll(request);
+                final List<PlayerResponse> result = playerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldReturnOnlyEntriesForPlayerAndYearWhenSearchingByPlayerIdAndYear() {
+            void shouldReturnOnlyEntriesForPlayerAndYearWhenSearchingByPlayerIdAndYear() throws InvalidCursorException {
                 final List<Player> playerList = List.of(
                         Player.builder().playerId(1).year("2000").teamId(2).build(),
                         Player.builder().playerId(2).year("2000").teamId(2).build(),
@@ -325,7 +384,7 @@ class PlayerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .year("2000")
                         .build();
 
-                final List<PlayerResponse> result = playerSearchService.fetchAll(request);
+                final List<PlayerResponse> result = playerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -334,7 +393,7 @@ class PlayerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForPlayerAndTeamWhenSearchingByPlayerIdAndTeamId() {
+            void shouldReturnAllEntriesForPlayerAndTeamWhenSearchingByPlayerIdAndTeamId() throws InvalidCursorException {
                 final List<Player> playerList = List.of(
                         Player.builder().playerId(1).year("2000").teamId(1).build(),
                         Player.builder().playerId(1).year("2001").teamId(1).build(),
@@ -348,13 +407,13 @@ class PlayerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<PlayerResponse> result = playerSearchService.fetchAll(request);
+                final List<PlayerResponse> result = playerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForPlayerAndTeamWhenSearchingByPlayerIdAndTeamId() {
+            void shouldOnlyReturnEntriesForPlayerAndTeamWhenSearchingByPlayerIdAndTeamId() throws InvalidCursorException {
                 final List<Player> playerList = List.of(
                         Player.builder().playerId(1).year("2000").teamId(1).build(),
                         Player.builder().playerId(2).year("2001").teamId(1).build(),
@@ -372,7 +431,7 @@ class PlayerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<PlayerResponse> result = playerSearchService.fetchAll(request);
+                final List<PlayerResponse> result = playerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -381,7 +440,7 @@ class PlayerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForYearAndTeamWhenSearchingByYearAndTeamId() {
+            void shouldReturnAllEntriesForYearAndTeamWhenSearchingByYearAndTeamId() throws InvalidCursorException {
                 final List<Player> playerList = List.of(
                         Player.builder().playerId(1).year("2000").teamId(1).build(),
                         Player.builder().playerId(2).year("2000").teamId(1).build(),
@@ -395,13 +454,13 @@ class PlayerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<PlayerResponse> result = playerSearchService.fetchAll(request);
+                final List<PlayerResponse> result = playerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearAndTeamWhenSearchingByYearAndTeamId() {
+            void shouldOnlyReturnEntriesForYearAndTeamWhenSearchingByYearAndTeamId() throws InvalidCursorException {
                 final List<Player> playerList = List.of(
                         Player.builder().playerId(1).year("2000").teamId(1).build(),
                         Player.builder().playerId(2).year("2001").teamId(1).build(),
@@ -419,7 +478,7 @@ class PlayerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<PlayerResponse> result = playerSearchService.fetchAll(request);
+                final List<PlayerResponse> result = playerSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -429,7 +488,7 @@ class PlayerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
         }
 
         @Test
-        void shouldReturnMatchingEntryWhenSearchingByAllParameters() {
+        void shouldReturnMatchingEntryWhenSearchingByAllParameters() throws InvalidCursorException {
             final List<Player> playerList = Collections.singletonList(
                     Player.builder().playerId(1).year("2000").teamId(2).build()
             );
@@ -442,13 +501,13 @@ class PlayerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                     .teamId(2)
                     .build();
 
-            final List<PlayerResponse> result = playerSearchService.fetchAll(request);
+            final List<PlayerResponse> result = playerSearchService.fetchPage(request, null, null).getResources();
 
             assertEquals(1, result.size());
         }
 
         @Test
-        void shouldOnlyReturnMatchingEntryWhenSearchingByAllParameters() {
+        void shouldOnlyReturnMatchingEntryWhenSearchingByAllParameters() throws InvalidCursorException {
             final List<Player> playerList = List.of(
                     Player.builder().playerId(1).year("2000").teamId(3).build(),
                     Player.builder().playerId(2).year("2000").teamId(3).build(),
@@ -464,7 +523,7 @@ class PlayerSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                     .teamId(3)
                     .build();
 
-            final List<PlayerResponse> result = playerSearchService.fetchAll(request);
+            final List<PlayerResponse> result = playerSearchService.fetchPage(request, null, null).getResources();
 
             assertEquals(1, result.size());
             assertEquals(1, result.stream().filter(t ->
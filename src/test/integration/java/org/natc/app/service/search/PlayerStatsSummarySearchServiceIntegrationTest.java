@@ -6,6 +6,7 @@ import org.natc.app.entity.domain.GameType;
 import org.natc.app.entity.domain.PlayerStatsSummary;
 import org.natc.app.entity.request.PlayerStatsSummarySearchRequest;
 import org.natc.app.entity.response.PlayerStatsSummaryResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.natc.app.repository.PlayerStatsSummaryRepository;
 import org.natc.app.service.NATCServiceIntegrationTest;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,10 +27,10 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
     private PlayerStatsSummarySearchService service;
 
     @Nested
-    class FetchAll {
+    class FetchPage {
 
         @Test
-        void shouldReturnAPlayerStatsSummaryFromTheDatabaseMappedToAResponse() {
+        void shouldReturnAPlayerStatsSummaryFromTheDatabaseMappedToAResponse() throws InvalidCursorException {
             final PlayerStatsSummary playerStatsSummary = PlayerStatsSummary.builder()
                     .year("2014")
                     .type(GameType.REGULAR_SEASON.getValue())
@@ -44,7 +45,7 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
 
             repository.save(playerStatsSummary);
 
-            final List<PlayerStatsSummaryResponse> result = service.fetchAll(new PlayerStatsSummarySearchRequest());
+            final List<PlayerStatsSummaryResponse> result = service.fetchPage(new PlayerStatsSummarySearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -62,7 +63,7 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
         }
 
         @Test
-        void shouldMapAllPlayerFieldsToTheResponse() {
+        void shouldMapAllPlayerFieldsToTheResponse() throws InvalidCursorException {
             final PlayerStatsSummary playerStatsSummary = PlayerStatsSummary.builder()
                     .year("2002")
                     .type(GameType.PRESEASON.getValue())
@@ -87,7 +88,7 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
 
             repository.save(playerStatsSummary);
 
-            final List<PlayerStatsSummaryResponse> result = service.fetchAll(new PlayerStatsSummarySearchRequest());
+            final List<PlayerStatsSummaryResponse> result = service.fetchPage(new PlayerStatsSummarySearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -115,7 +116,7 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
         }
 
         @Test
-        void shouldReturnAllEntriesWhenSearchingWithoutValues() {
+        void shouldReturnAllEntriesWhenSearchingWithoutValues() throws InvalidCursorException {
             final List<PlayerStatsSummary> playerStatsSummaries = List.of(
                     PlayerStatsSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                     PlayerStatsSummary.builder().year("2001").type(GameType.REGULAR_SEASON.getValue()).playerId(2).teamId(2).build(),
@@ -124,14 +125,14 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
 
             repository.saveAll(playerStatsSummaries);
 
-            final List<PlayerStatsSummaryResponse> result = service.fetchAll(new PlayerStatsSummarySearchRequest());
+            final List<PlayerStatsSummaryResponse> result = service.fetchPage(new PlayerStatsSummarySearchRequest(), null, null).getResources();
 
             assertEquals(3, result.size());
         }
 
         @Test
-        void shouldReturnNoEntriesWhenSearchingGivenNoDataInTheDatabase() {
-            final List<PlayerStatsSummaryResponse> result = service.fetchAll(new PlayerStatsSummarySearchRequest());
+        void shouldReturnNoEntriesWhenSearchingGivenNoDataInTheDatabase() throws InvalidCursorException {
+            final List<PlayerStatsSummaryResponse> result = service.fetchPage(new PlayerStatsSummarySearchRequest(), null, null).getResources();
 
             assertEquals(0, result.size());
         }
@@ -140,7 +141,7 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
         class WithOneSearchParameter {
 
             @Test
-            void shouldReturnAllEntriesForYearWhenSearchingByYear() {
+            void shouldReturnAllEntriesForYearWhenSearchingByYear() throws InvalidCursorException {
                 final List<PlayerStatsSummary> playerStatsSummaries = List.of(
                         PlayerStatsSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerStatsSummary.builder().year("2000").type(GameType.REGULAR_SEASON.getValue()).playerId(2).teamId(2).build(),
@@ -153,13 +154,13 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .year("2000")
                         .build();
 
-                final List<PlayerStatsSummaryResponse> result = service.fetchAll(request);
+                final List<PlayerStatsSummaryResponse> result = service.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearWhenSearchingByYear() {
+            void shouldOnlyReturnEntriesForYearWhenSearchingByYear() throws InvalidCursorException {
                 final List<PlayerStatsSummary> playerStatsSummaries = List.of(
                         PlayerStatsSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerStatsSummary.builder().year("2001").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -174,14 +175,14 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .year("2000")
                         .build();
 
-                final List<PlayerStatsSummaryResponse> result = service.fetchAll(request);
+                final List<PlayerStatsSummaryResponse> result = service.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getYear().equals("2000")).count());
             }
 
             @Test
-            void shouldReturnAllEntriesForTypeWhenSearchingByType() {
+            void shouldReturnAllEntriesForTypeWhenSearchingByType() throws InvalidCursorException {
                 final List<PlayerStatsSummary> playerStatsSummaries = List.of(
                         PlayerStatsSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerStatsSummary.builder().year("2001").type(GameType.PRESEASON.getValue()).playerId(2).teamId(2).build(),
@@ -194,13 +195,13 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<PlayerStatsSummaryResponse> result = service.fetchAll(request);
+                final List<PlayerStatsSummaryResponse> result = service.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTypeWhenSearchingByType() {
+            void shouldOnlyReturnEntriesForTypeWhenSearchingByType() throws InvalidCursorException {
                 final List<PlayerStatsSummary> playerStatsSummaries = List.of(
                         PlayerStatsSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerStatsSummary.builder().year("2000").type(GameType.REGULAR_SEASON.getValue()).playerId(1).teamId(1).build(),
@@ -215,14 +216,14 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<PlayerStatsSummaryResponse> result = service.fetchAll(request);
+                final List<PlayerStatsSummaryResponse> result = service.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getType().equals(GameType.PRESEASON)).count());
             }
 
             @Test
-            void shouldReturnAllEntriesForPlayerWhenSearchingByPlayerId() {
+            void shouldReturnAllEntriesForPlayerWhenSearchingByPlayerId() throws InvalidCursorException {
                 final List<PlayerStatsSummary> playerStatsSummaries = List.of(
                         PlayerStatsSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerStatsSummary.builder().year("2001").type(GameType.REGULAR_SEASON.getValue()).playerId(1).teamId(2).build(),
@@ -235,13 +236,13 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .playerId(1)
                         .build();
 
-                final List<PlayerStatsSummaryResponse> result = service.fetchAll(request);
+                final List<PlayerStatsSummaryResponse> result = service.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForPlayerWhenSearchingByPlayerId() {
+            void shouldOnlyReturnEntriesForPlayerWhenSearchingByPlayerId() throws InvalidCursorException {
                 final List<PlayerStatsSummary> playerStatsSummaries = List.of(
                         PlayerStatsSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerStatsSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).playerId(2).teamId(1).build(),
@@ -256,14 +257,14 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .playerId(1)
                         .build();
 
-                final List<PlayerStatsSummaryResponse> result = service.fetchAll(request);
+                final List<PlayerStatsSummaryResponse> result = service.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getPlayerId().equals(1)).count());
             }
 
             @Test
-            void shouldReturnAllEntriesForTeamWhenSearchingByTeamId() {
+            void shouldReturnAllEntriesForTeamWhenSearchingByTeamId() throws InvalidCursorException {
                 final List<PlayerStatsSummary> playerStatsSummaries = List.of(
                         PlayerStatsSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerStatsSummary.builder().year("2001").type(GameType.REGULAR_SEASON.getValue()).playerId(2).teamId(1).build(),
@@ -276,13 +277,13 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .teamId(1)
                         .build();
 
-                final List<PlayerStatsSummaryResponse> result = service.fetchAll(request);
+                final List<PlayerStatsSummaryResponse> result = service.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTeamWhenSearchingByTeamId() {
+            void shouldOnlyReturnEntriesForTeamWhenSearchingByTeamId() throws InvalidCursorException {
                 final List<PlayerStatsSummary> playerStatsSummaries = List.of(
                         PlayerStatsSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerStatsSummary.builder().year("2001").type(GameType.PRESEASON.getValue()).playerId(1).teamId(2).build(),
@@ -297,7 +298,7 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .teamId(1)
                         .build();
 
-                final List<PlayerStatsSummaryResponse> result = service.fetchAll(request);
+                final List<PlayerStatsSummaryResponse> result = service.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getTeamId().equals(1)).count());
@@ -308,7 +309,7 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
         class WithTwoSearchParameters {
 
             @Test
-            void shouldReturnAllEntriesForYearAndTypeWhenSearchingByYearAndType() {
+            void shouldReturnAllEntriesForYearAndTypeWhenSearchingByYearAndType() throws InvalidCursorException {
                 final List<PlayerStatsSummary> playerStatsSummaries = List.of(
                         PlayerStatsSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerStatsSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).playerId(2).teamId(2).build(),
@@ -322,13 +323,13 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<PlayerStatsSummaryResponse> result = service.fetchAll(request);
+                final List<PlayerStatsSummaryResponse> result = service.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearAndTypeWhenSearchingByYearAndType() {
+            void shouldOnlyReturnEntriesForYearAndTypeWhenSearchingByYearAndType() throws InvalidCursorException {
                 final List<PlayerStatsSummary> playerStatsSummaries = List.of(
                         PlayerStatsSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerStatsSummary.builder().year("2001").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -346,7 +347,7 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<PlayerStatsSummaryResponse> result = service.fetchAll(request);
+                final List<PlayerStatsSummaryResponse> result = service.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -355,7 +356,7 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
             }
 
             @Test
-            void shouldReturnAllEntriesForYearAndPlayerWhenSearchingByYearAndPlayerId() {
+            void shouldReturnAllEntriesForYearAndPlayerWhenSearchingByYearAndPlayerId() throws InvalidCursorException {
                 final List<PlayerStatsSummary> playerStatsSummaries = List.of(
                         PlayerStatsSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerStatsSummary.builder().year("2000").type(GameType.REGULAR_SEASON.getValue()).playerId(1).teamId(2).build(),
@@ -369,13 +370,13 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .playerId(1)
                         .build();
 
-                final List<PlayerStatsSummaryResponse> result = service.fetchAll(request);
+                final List<PlayerStatsSummaryResponse> result = service.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearAndPlayerWhenSearchingByYearAndPlayerId() {
+            void shouldOnlyReturnEntriesForYearAndPlayerWhenSearchingByYearAndPlayerId() throws InvalidCursorException {
                 final List<PlayerStatsSummary> playerStatsSummaries = List.of(
                         PlayerStatsSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerStatsSummary.builder().year("2001").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -393,7 +394,7 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .playerId(1)
                         .build();
 
-                final List<PlayerStatsSummaryResponse> result = service.fetchAll(request);
+                final List<PlayerStatsSummaryResponse> result = service.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -402,7 +403,7 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
             }
 
             @Test
-            void shouldReturnAllEntriesForYearAndTeamWhenSearchingByYearAndTeamId() {
+            void shouldReturnAllEntriesForYearAndTeamWhenSearchingByYearAndTeamId() throws InvalidCursorException {
                 final List<PlayerStatsSummary> playerStatsSummaries = List.of(
                         PlayerStatsSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerStatsSummary.builder().year("2000").type(GameType.REGULAR_SEASON.getValue()).playerId(2).teamId(1).build(),
@@ -416,13 +417,13 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .teamId(1)
                         .build();
 
-                final List<PlayerStatsSummaryResponse> result = service.fetchAll(request);
+                final List<PlayerStatsSummaryResponse> result = service.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearAndTeamWhenSearchingByYearAndTeamId() {
+            void shouldOnlyReturnEntriesForYearAndTeamWhenSearchingByYearAndTeamId() throws InvalidCursorException {
                 final List<PlayerStatsSummary> playerStatsSummaries = List.of(
                         PlayerStatsSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerStatsSummary.builder().year("2001").type(GameType.PRESEASON.getValue()).playerId(2).teamId(1).build(),
@@ -440,7 +441,7 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .teamId(1)
                         .build();
 
-                final List<PlayerStatsSummaryResponse> result = service.fetchAll(request);
+                final List<PlayerStatsSummaryResponse> result = service.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -449,7 +450,7 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
             }
 
             @Test
-            void shouldReturnAllEntriesForTypeAndPlayerWhenSearchingByTypeAndPlayerId() {
+            void shouldReturnAllEntriesForTypeAndPlayerWhenSearchingByTypeAndPlayerId() throws InvalidCursorException {
                 final List<PlayerStatsSummary> playerStatsSummaries = List.of(
                         PlayerStatsSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerStatsSummary.builder().year("2001").type(GameType.PRESEASON.getValue()).playerId(1).teamId(2).build(),
@@ -463,13 +464,13 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .playerId(1)
                         .build();
 
-                final List<PlayerStatsSummaryResponse> result = service.fetchAll(request);
+                final List<PlayerStatsSummaryResponse> result = service.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTypeAndPlayerWhenSearchingByTypeAndPlayerId() {
+            void shouldOnlyReturnEntriesForTypeAndPlayerWhenSearchingByTypeAndPlayerId() throws InvalidCursorException {
                 final List<PlayerStatsSummary> playerStatsSummaries = List.of(
                         PlayerStatsSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerStatsSummary.builder().year("2000").type(GameType.REGULAR_SEASON.getValue()).playerId(1).teamId(1).build(),
@@ -487,7 +488,7 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .playerId(1)
                         .build();
 
-                final List<PlayerStatsSummaryResponse> result = service.fetchAll(request);
+                final List<PlayerStatsSummaryResponse> result = service.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -496,7 +497,7 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
             }
 
             @Test
-            void shouldReturnAllEntriesForTypeAndTeamWhenSearchingByTypeAndTeamId() {
+            void shouldReturnAllEntriesForTypeAndTeamWhenSearchingByTypeAndTeamId() throws InvalidCursorException {
                 final List<PlayerStatsSummary> playerStatsSummaries = List.of(
                         PlayerStatsSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerStatsSummary.builder().year("2001").type(GameType.PRESEASON.getValue()).playerId(2).teamId(1).build(),
@@ -510,13 +511,13 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .teamId(1)
                         .build();
 
-                final List<PlayerStatsSummaryResponse> result = service.fetchAll(request);
+                final List<PlayerStatsSummaryResponse> result = service.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTypeAndTeamWhenSearchingByTypeAndTeamId() {
+            void shouldOnlyReturnEntriesForTypeAndTeamWhenSearchingByTypeAndTeamId() throws InvalidCursorException {
                 final List<PlayerStatsSummary> playerStatsSummaries = List.of(
                         PlayerStatsSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerStatsSummary.builder().year("2000").type(GameType.REGULAR_SEASON.getValue()).playerId(2).teamId(1).build(),
@@ -534,7 +535,7 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .teamId(1)
                         .build();
 
-                final List<PlayerStatsSummaryResponse> result = service.fetchAll(request);
+                final List<PlayerStatsSummaryResponse> result = service.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -543,7 +544,7 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
             }
 
             @Test
-            void shouldReturnAllEntriesForPlayerAndTeamWhenSearchingByPlayerIdAndTeamId() {
+            void shouldReturnAllEntriesForPlayerAndTeamWhenSearchingByPlayerIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerStatsSummary> playerStatsSummaries = List.of(
                         PlayerStatsSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerStatsSummary.builder().year("2001").type(GameType.REGULAR_SEASON.getValue()).playerId(1).teamId(1).build(),
@@ -557,13 +558,13 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .teamId(1)
                         .build();
 
-                final List<PlayerStatsSummaryResponse> result = service.fetchAll(request);
+                final List<PlayerStatsSummaryResponse> result = service.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForPlayerAndTeamWhenSearchingByPlayerIdAndTeamId() {
+            void shouldOnlyReturnEntriesForPlayerAndTeamWhenSearchingByPlayerIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerStatsSummary> playerStatsSummaries = List.of(
                         PlayerStatsSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerStatsSummary.builder().year("2001").type(GameType.PRESEASON.getValue()).playerId(2).teamId(1).build(),
@@ -581,7 +582,7 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .teamId(1)
                         .build();
 
-                final List<PlayerStatsSummaryResponse> result = service.fetchAll(request);
+                final List<PlayerStatsSummaryResponse> result = service.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -594,7 +595,7 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
         class WithThreeSearchParameters {
 
             @Test
-            void shouldReturnAllEntriesForYearTypeAndPlayerWhenSearchingByYearTypeAndPlayerId() {
+            void shouldReturnAllEntriesForYearTypeAndPlayerWhenSearchingByYearTypeAndPlayerId() throws InvalidCursorException {
                 final List<PlayerStatsSummary> playerStatsSummaries = Collections.singletonList(
                         // Year, Type and Player Id are the key fields, so only one record is possible
                         PlayerStatsSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build()
@@ -608,13 +609,13 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .playerId(1)
                         .build();
 
-                final List<PlayerStatsSummaryResponse> result = service.fetchAll(request);
+                final List<PlayerStatsSummaryResponse> result = service.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearTypeAndPlayerWhenSearchingByYearTypeAndPlayerId() {
+            void shouldOnlyReturnEntriesForYearTypeAndPlayerWhenSearchingByYearTypeAndPlayerId() throws InvalidCursorException {
                 final List<PlayerStatsSummary> playerStatsSummaries = List.of(
                         PlayerStatsSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerStatsSummary.builder().year("2001").type(GameType.PRESEASON.getValue()).playerId(1).teamId(2).build(),
@@ -630,7 +631,7 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .playerId(1)
                         .build();
 
-                final List<PlayerStatsSummaryResponse> result = service.fetchAll(request);
+                final List<PlayerStatsSummaryResponse> result = service.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -639,7 +640,7 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
             }
 
             @Test
-            void shouldReturnAllEntriesForYearTypeAndTeamWhenSearchingByYearTypeAndTeamId() {
+            void shouldReturnAllEntriesForYearTypeAndTeamWhenSearchingByYearTypeAndTeamId() throws InvalidCursorException {
                 final List<PlayerStatsSummary> playerStatsSummaries = List.of(
                         PlayerStatsSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerStatsSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).playerId(2).teamId(1).build(),
@@ -654,13 +655,13 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .teamId(1)
                         .build();
 
-                final List<PlayerStatsSummaryResponse> result = service.fetchAll(request);
+                final List<PlayerStatsSummaryResponse> result = service.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearTypeAndTeamWhenSearchingByYearTypeAndTeamId() {
+            void shouldOnlyReturnEntriesForYearTypeAndTeamWhenSearchingByYearTypeAndTeamId() throws InvalidCursorException {
                 final List<PlayerStatsSummary> playerStatsSummaries = List.of(
                         PlayerStatsSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerStatsSummary.builder().year("2001").type(GameType.PRESEASON.getValue()).playerId(2).teamId(1).build(),
@@ -681,7 +682,7 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .teamId(1)
                         .build();
 
-                final List<PlayerStatsSummaryResponse> result = service.fetchAll(request);
+                final List<PlayerStatsSummaryResponse> result = service.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -690,7 +691,7 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
             }
 
             @Test
-            void shouldReturnAllEntriesForYearPlayerAndTeamWhenSearchingByYearPlayerIdAndTeamId() {
+            void shouldReturnAllEntriesForYearPlayerAndTeamWhenSearchingByYearPlayerIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerStatsSummary> playerStatsSummaries = List.of(
                         PlayerStatsSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerStatsSummary.builder().year("2000").type(GameType.REGULAR_SEASON.getValue()).playerId(1).teamId(1).build(),
@@ -705,13 +706,13 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .teamId(1)
                         .build();
 
-                final List<PlayerStatsSummaryResponse> result = service.fetchAll(request);
+                final List<PlayerStatsSummaryResponse> result = service.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearPlayerAndTeamWhenSearchingByYearPlayerIdAndTeamId() {
+            void shouldOnlyReturnEntriesForYearPlayerAndTeamWhenSearchingByYearPlayerIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerStatsSummary> playerStatsSummaries = List.of(
                         PlayerStatsSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerStatsSummary.builder().year("2001").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -732,7 +733,7 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .teamId(1)
                         .build();
 
-                final List<PlayerStatsSummaryResponse> result = service.fetchAll(request);
+                final List<PlayerStatsSummaryResponse> result = service.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -741,7 +742,7 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
             }
 
             @Test
-            void shouldReturnAllEntriesForTypePlayerAndTeamWhenSearchingByTypePlayerIdAndTeamId() {
+            void shouldReturnAllEntriesForTypePlayerAndTeamWhenSearchingByTypePlayerIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerStatsSummary> playerStatsSummaries = List.of(
                         PlayerStatsSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerStatsSummary.builder().year("2001").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -756,13 +757,13 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .teamId(1)
                         .build();
 
-                final List<PlayerStatsSummaryResponse> result = service.fetchAll(request);
+                final List<PlayerStatsSummaryResponse> result = service.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTypePlayerAndTeamWhenSearchingByTypePlayerIdAndTeamId() {
+            void shouldOnlyReturnEntriesForTypePlayerAndTeamWhenSearchingByTypePlayerIdAndTeamId() throws InvalidCursorException {
                 final List<PlayerStatsSummary> playerStatsSummaries = List.of(
                         PlayerStatsSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                         PlayerStatsSummary.builder().year("2001").type(GameType.REGULAR_SEASON.getValue()).playerId(1).teamId(1).build(),
@@ -783,7 +784,7 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .teamId(1)
                         .build();
 
-                final List<PlayerStatsSummaryResponse> result = service.fetchAll(request);
+                final List<PlayerStatsSummaryResponse> result = service.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -793,7 +794,7 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
         }
 
         @Test
-        void shouldReturnMatchingEntryWhenSearchingByAllParameters() {
+        void shouldReturnMatchingEntryWhenSearchingByAllParameters() throws InvalidCursorException {
             final List<PlayerStatsSummary> playerStatsSummaries = Collections.singletonList(
                     PlayerStatsSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build()
             );
@@ -807,13 +808,13 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                     .teamId(1)
                     .build();
 
-            final List<PlayerStatsSummaryResponse> result = service.fetchAll(request);
+            final List<PlayerStatsSummaryResponse> result = service.fetchPage(request, null, null).getResources();
 
             assertEquals(1, result.size());
         }
 
         @Test
-        void shouldOnlyReturnMatchingEntryWhenSearchingByAllParameters() {
+        void shouldOnlyReturnMatchingEntryWhenSearchingByAllParameters() throws InvalidCursorException {
             final List<PlayerStatsSummary> playerStatsSummaries = List.of(
                     PlayerStatsSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                     PlayerStatsSummary.builder().year("2001").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
@@ -830,7 +831,7 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                     .teamId(1)
                     .build();
 
-            final List<PlayerStatsSummaryResponse> result = service.fetchAll(request);
+            final List<PlayerStatsSummaryResponse> result = service.fetchPage(request, null, null).getResources();
 
             assertEquals(1, result.size());
             assertEquals(1, result.stream().filter(t ->
@@ -842,7 +843,7 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
         }
 
         @Test
-        void shouldNotReturnAnyRecordsWhenSearchingByAllParametersAndTeamIdDoesNotMatch() {
+        void shouldNotReturnAnyRecordsWhenSearchingByAllParametersAndTeamIdDoesNotMatch() throws InvalidCursorException {
             final List<PlayerStatsSummary> playerStatsSummaries = List.of(
                     PlayerStatsSummary.builder().year("2001").type(GameType.PRESEASON.getValue()).playerId(1).teamId(1).build(),
                     PlayerStatsSummary.builder().year("2000").type(GameType.REGULAR_SEASON.getValue()).playerId(1).teamId(1).build(),
@@ -859,7 +860,7 @@ class PlayerStatsSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                     .teamId(1)
                     .build();
 
-            final List<PlayerStatsSummaryResponse> result = service.fetchAll(request);
+            final List<PlayerStatsSummaryResponse> result = service.fetchPage(request, null, null).getResources();
 
             assertEquals(0, result.size());
         }
@@ -8,6 +8,7 @@ import org.natc.app.entity.domain.ScheduleStatus;
 import org.natc.app.entity.domain.ScheduleType;
 import org.natc.app.entity.request.ScheduleSearchRequest;
 import org.natc.app.entity.response.ScheduleResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.natc.app.repository.ScheduleRepository;
 import org.natc.app.service.NATCServiceIntegrationTest;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -29,10 +30,10 @@ class ScheduleSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
     private ScheduleSearchService scheduleSearchService;
 
     @Nested
-    class FetchAll {
+    class FetchPage {
 
         @Test
-        void shouldReturnAScheduleFromTheDatabaseMappedToAResponse() {
+        void shouldReturnAScheduleFromTheDatabaseMappedToAResponse() throws InvalidCursorException {
             final Schedule schedule = Schedule.builder()
                     .year("2002")
                     .sequence(12)
@@ -42,7 +43,7 @@ class ScheduleSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
 
             scheduleRepository.save(schedule);
 
-            final List<ScheduleResponse> result = scheduleSearchService.fetchAll(new ScheduleSearchRequest());
+            final List<ScheduleResponse> result = scheduleSearchService.fetchPage(new ScheduleSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -55,7 +56,7 @@ class ScheduleSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
         }
 
         @Test
-        void shouldMapAllScheduleFieldsToTheScheduleResponse() {
+        void shouldMapAllScheduleFieldsToTheScheduleResponse() throws InvalidCursorException {
             final Schedule schedule = Schedule.builder()
                     .year("2002")
                     .sequence(12)
@@ -67,7 +68,7 @@ class ScheduleSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
 
             scheduleRepository.save(schedule);
 
-            final List<ScheduleResponse> result = scheduleSearchService.fetchAll(new ScheduleSearchRequest());
+            final List<ScheduleResponse> result = scheduleSearchService.fetchPage(new ScheduleSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -82,8 +83,8 @@ class ScheduleSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
         }
 
         @Test
-        void shouldReturnNoEntriesWhenSearchingGivenNoDataInTheDatabase() {
-            final List<ScheduleResponse> result = scheduleSearchService.fetchAll(new ScheduleSearchRequest());
+        void shouldReturnNoEntriesWhenSearchingGivenNoDataInTheDatabase() throws InvalidCursorException {
+            final List<ScheduleResponse> result = scheduleSearchService.fetchPage(new ScheduleSearchRequest(), null, null).getResources();
 
             assertEquals(0, result.size());
         }
@@ -92,7 +93,7 @@ class ScheduleSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
         class WithOneSearchParameter {
 
             @Test
-            void shouldReturnAllEntriesForYearWhenSearchingByYear() {
+            void shouldReturnAllEntriesForYearWhenSearchingByYear() throws InvalidCursorException {
                 final List<Schedule> scheduleList = List.of(
                         Schedule.builder().year("2000").sequence(1).build(),
                         Schedule.builder().year("2000").sequence(2).build(),
@@ -105,13 +106,13 @@ class ScheduleSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .year("2000")
                         .build();
 
-                final List<ScheduleResponse> result = scheduleSearchService.fetchAll(request);
+                final List<ScheduleResponse> result = scheduleSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearWhenSearchingByYear() {
+            void shouldOnlyReturnEntriesForYearWhenSearchingByYear() throws InvalidCursorException {
                 final List<Schedule> scheduleList = List.of(
                         Schedule.builder().year("2000").sequence(1).build(),
                         Schedule.builder().year("2001").sequence(1).build(),
@@ -126,14 +127,14 @@ class ScheduleSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .year("2000")
                         .build();
 
-                final List<ScheduleResponse> result = scheduleSearchService.fetchAll(request);
+                final List<ScheduleResponse> result = scheduleSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getYear().equals("2000")).count());
             }
 
             @Test
-            void shouldReturnAllEntriesForSequenceWhenSearchingBySequence() {
+            void shouldReturnAllEntriesForSequenceWhenSearchingBySequence() throws InvalidCursorException {
                 final List<Schedule> scheduleList = List.of(
                         Schedule.builder().year("2000").sequence(1).build(),
                         Schedule.builder().year("2001").sequence(1).build(),
@@ -146,13 +147,13 @@ class ScheduleSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .sequence(1)
                         .build();
 
-                final List<ScheduleResponse> result = scheduleSearchService.fetchAll(request);
+                final List<ScheduleResponse> result = scheduleSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForSequenceWhenSearchingBySequence() {
+            void shouldOnlyReturnEntriesForSequenceWhenSearchingBySequence() throws InvalidCursorException {
                 final List<Schedule> scheduleList = List.of(
                         Schedule.builder().year("2000").sequence(1).build(),
                         Schedule.builder().year("2000").sequence(2).build(),
@@ -167,7 +168,7 @@ class ScheduleSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .sequence(1)
                         .build();
 
-                final List<ScheduleResponse> result = scheduleSearchService.fetchAll(request);
+                final List<ScheduleResponse> result = scheduleSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getSequence().equals(1)).count());
@@ -178,7 +179,7 @@ class ScheduleSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
         class WithTwoSearchParameters {
 
             @Test
-            void shouldReturnAllEntriesForYearAndSequenceWhenSearchingByYearAndSequence() {
+            void shouldReturnAllEntriesForYearAndSequenceWhenSearchingByYearAndSequence() throws InvalidCursorException {
                 final List<Schedule> scheduleList = Collections.singletonList(
                         // Year & Sequence are the key fields, so only one record is possible
                         Schedule.builder().year("2000").sequence(1).build()
@@ -191,13 +192,13 @@ class ScheduleSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .sequence(1)
                         .build();
 
-                final List<ScheduleResponse> result = scheduleSearchService.fetchAll(request);
+                final List<ScheduleResponse> result = scheduleSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldReturnOnlyEntriesForYearAndSequenceWhenSearchingByYearAndSequence() {
+            void shouldReturnOnlyEntriesForYearAndSequenceWhenSearchingByYearAndSequence() throws InvalidCursorException {
                 final List<Schedule> scheduleList = List.of(
                         Schedule.builder().year("2000").sequence(1).build(),
                         Schedule.builder().year("2001").sequence(1).build(),
@@ -211,7 +212,7 @@ class ScheduleSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .sequence(1)
                         .build();
 
-                final List<ScheduleResponse> result = scheduleSearchService.fetchAll(request);
+                final List<ScheduleResponse> result = scheduleSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
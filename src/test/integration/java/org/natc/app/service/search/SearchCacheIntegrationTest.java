@@ -0,0 +1,102 @@
+package org.natc.app.service.search;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.natc.app.entity.domain.Player;
+import org.natc.app.entity.domain.Schedule;
+import org.natc.app.entity.domain.ScheduleStatus;
+import org.natc.app.entity.domain.ScheduleType;
+import org.natc.app.entity.request.PlayerSearchRequest;
+import org.natc.app.exception.InvalidCursorException;
+import org.natc.app.repository.PlayerRepository;
+import org.natc.app.repository.ScheduleRepository;
+import org.natc.app.service.NATCServiceIntegrationTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.natc.app.service.search.SearchCacheResolver.COMPLETED_SEASONS_CACHE;
+import static org.natc.app.service.search.SearchCacheResolver.CURRENT_SEASON_CACHE;
+
+@TestPropertySource(properties = "natc.search.cache-enabled=true")
+class SearchCacheIntegrationTest extends NATCServiceIntegrationTest {
+    private static final String COMPLETED_SEASON = "2001";
+    private static final String CURRENT_SEASON = "2002";
+
+    @Autowired
+    private PlayerSearchService playerSearchService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private CacheManager searchCacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setupSeasons() {
+        searchCacheManager.getCache(COMPLETED_SEASONS_CACHE).clear();
+        searchCacheManager.getCache(CURRENT_SEASON_CACHE).clear();
+
+        scheduleRepository.saveAndFlush(Schedule.builder()
+                .year(COMPLETED_SEASON)
+                .sequence(1)
+                .type(ScheduleType.END_OF_SEASON.getValue())
+                .scheduled(LocalDate.now())
+                .status(ScheduleStatus.COMPLETED.getValue())
+                .build());
+    }
+
+    @Test
+    void shouldServeACompletedSeasonFromTheCacheOnceItHasBeenSearched() throws InvalidCursorException {
+        final PlayerSearchRequest request = PlayerSearchRequest.builder().year(COMPLETED_SEASON).build();
+
+        playerRepository.saveAndFlush(Player.builder().playerId(1).year(COMPLETED_SEASON).build());
+
+        assertEquals(1, playerSearchService.fetchPage(request, null, null).getResources().size());
+
+        playerRepository.saveAndFlush(Player.builder().playerId(2).year(COMPLETED_SEASON).build());
+
+        assertEquals(1, playerSearchService.fetchPage(request, null, null).getResources().size());
+        assertEquals(2, playerSearchService.fetchPage(PlayerSearchRequest.builder().year(COMPLETED_SEASON).build(), null, 10).getResources().size());
+    }
+
+    @Test
+    void shouldKeepSearchesOfOtherSeasonsInTheCurrentSeasonCache() throws InvalidCursorException {
+        playerSearchService.fetchPage(PlayerSearchRequest.builder().year(CURRENT_SEASON).build(), null, null);
+        playerSearchService.fetchPage(new PlayerSearchRequest(), null, null);
+
+        assertEquals(2, estimatedSize(CURRENT_SEASON_CACHE));
+        assertEquals(0, estimatedSize(COMPLETED_SEASONS_CACHE));
+    }
+
+    @Test
+    void shouldPublishHitsAndMissesForTheSearchCaches() throws InvalidCursorException {
+        final double hits = cacheGets(COMPLETED_SEASONS_CACHE, "hit");
+        final double misses = cacheGets(COMPLETED_SEASONS_CACHE, "miss");
+        final PlayerSearchRequest request = PlayerSearchRequest.builder().year(COMPLETED_SEASON).build();
+
+        playerSearchService.fetchPage(request, null, null);
+        playerSearchService.fetchPage(request, null, null);
+
+        assertEquals(hits + 1, cacheGets(COMPLETED_SEASONS_CACHE, "hit"));
+        assertEquals(misses + 1, cacheGets(COMPLETED_SEASONS_CACHE, "miss"));
+    }
+
+    private long estimatedSize(final String cacheName) {
+        return ((com.github.benmanes.caffeine.cache.Cache<?, ?>) searchCacheManager.getCache(cacheName).getNativeCache()).estimatedSize();
+    }
+
+    private double cacheGets(final String cacheName, final String result) {
+        return meterRegistry.get("cache.gets").tag("cache", cacheName).tag("result", result).functionCounter().count();
+    }
+}
@@ -6,6 +6,7 @@ import org.natc.app.entity.domain.GameType;
 import org.natc.app.entity.domain.TeamDefenseSummary;
 import org.natc.app.entity.request.TeamDefenseSummarySearchRequest;
 import org.natc.app.entity.response.TeamDefenseSummaryResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.natc.app.repository.TeamDefenseSummaryRepository;
 import org.natc.app.service.NATCServiceIntegrationTest;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,10 +27,10 @@ class TeamDefenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
     private TeamDefenseSummarySearchService searchService;
 
     @Nested
-    class FetchAll {
+    class FetchPage {
 
         @Test
-        void shouldReturnATeamDefenseSummaryFromTheDatabaseMappedToAResponse() {
+        void shouldReturnATeamDefenseSummaryFromTheDatabaseMappedToAResponse() throws InvalidCursorException {
             final TeamDefenseSummary teamDefenseSummary = TeamDefenseSummary.builder()
                     .year("2020")
                     .teamId(32)
@@ -42,7 +43,7 @@ class TeamDefenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
 
             repository.save(teamDefenseSummary);
 
-            final List<TeamDefenseSummaryResponse> result = searchService.fetchAll(new TeamDefenseSummarySearchRequest());
+            final List<TeamDefenseSummaryResponse> result = searchService.fetchPage(new TeamDefenseSummarySearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -58,7 +59,7 @@ class TeamDefenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
         }
 
         @Test
-        void shouldMapAllTeamFieldsToTheResponse() {
+        void shouldMapAllTeamFieldsToTheResponse() throws InvalidCursorException {
             final TeamDefenseSummary teamDefenseSummary = TeamDefenseSummary.builder()
                     .year("1997")
                     .type(GameType.REGULAR_SEASON.getValue())
@@ -81,7 +82,7 @@ class TeamDefenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
 
             repository.save(teamDefenseSummary);
 
-            final List<TeamDefenseSummaryResponse> result = searchService.fetchAll(new TeamDefenseSummarySearchRequest());
+            final List<TeamDefenseSummaryResponse> result = searchService.fetchPage(new TeamDefenseSummarySearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -107,7 +108,7 @@ class TeamDefenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
         }
 
         @Test
-        void shouldReturnAllEntriesWhenSearchingWithoutValues() {
+        void shouldReturnAllEntriesWhenSearchingWithoutValues() throws InvalidCursorException {
             final List<TeamDefenseSummary> teamDefenseSummaries = List.of(
                     TeamDefenseSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).teamId(1).build(),
                     TeamDefenseSummary.builder().year("2001").type(GameType.REGULAR_SEASON.getValue()).teamId(2).build(),
@@ -116,14 +117,14 @@ class TeamDefenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
 
             repository.saveAll(teamDefenseSummaries);
 
-            final List<TeamDefenseSummaryResponse> result = searchService.fetchAll(new TeamDefenseSummarySearchRequest());
+            final List<TeamDefenseSummaryResponse> result = searchService.fetchPage(new TeamDefenseSummarySearchRequest(), null, null).getResources();
 
             assertEquals(3, result.size());
         }
 
         @Test
-        void shouldReturnNoEntriesWhenSearchingGivenNoDataInTheDatabase() {
-            final List<TeamDefenseSummaryResponse> result = searchService.fetchAll(new TeamDefenseSummarySearchRequest());
+        void shouldReturnNoEntriesWhenSearchingGivenNoDataInTheDatabase() throws InvalidCursorException {
+            final List<TeamDefenseSummaryResponse> result = searchService.fetchPage(new TeamDefenseSummarySearchRequest(), null, null).getResources();
 
             assertEquals(0, result.size());
         }
@@ -132,7 +133,7 @@ class TeamDefenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
         class WithOneSearchParameter {
 
             @Test
-            void shouldReturnAllEntriesForYearWhenSearchingByYear() {
+            void shouldReturnAllEntriesForYearWhenSearchingByYear() throws InvalidCursorException {
                 final List<TeamDefenseSummary> teamDefenseSummaries = List.of(
                         TeamDefenseSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).teamId(1).build(),
                         TeamDefenseSummary.builder().year("2000").type(GameType.REGULAR_SEASON.getValue()).teamId(2).build(),
@@ -145,13 +146,13 @@ class TeamDefenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .year("2000")
                         .build();
 
-                final List<TeamDefenseSummaryResponse> result = searchService.fetchAll(request);
+                final List<TeamDefenseSummaryResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearWhenSearchingByYear() {
+            void shouldOnlyReturnEntriesForYearWhenSearchingByYear() throws InvalidCursorException {
                 final List<TeamDefenseSummary> teamDefenseSummaries = List.of(
                         TeamDefenseSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).teamId(1).build(),
                         TeamDefenseSummary.builder().year("2001").type(GameType.PRESEASON.getValue()).teamId(1).build(),
@@ -166,14 +167,14 @@ class TeamDefenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .year("2000")
                         .build();
 
-                final List<TeamDefenseSummaryResponse> result = searchService.fetchAll(request);
+                final List<TeamDefenseSummaryResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getYear().equals("2000")).count());
             }
 
             @Test
-            void shouldReturnAllEntriesForTypeWhenSearchingByType() {
+            void shouldReturnAllEntriesForTypeWhenSearchingByType() throws InvalidCursorException {
                 final List<TeamDefenseSummary> teamDefenseSummaries = List.of(
                         TeamDefenseSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).teamId(1).build(),
                         TeamDefenseSummary.builder().year("2001").type(GameType.PRESEASON.getValue()).teamId(2).build(),
@@ -186,13 +187,13 @@ class TeamDefenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<TeamDefenseSummaryResponse> result = searchService.fetchAll(request);
+                final List<TeamDefenseSummaryResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTypeWhenSearchingByType() {
+            void shouldOnlyReturnEntriesForTypeWhenSearchingByType() throws InvalidCursorException {
                 final List<TeamDefenseSummary> teamDefenseSummaries = List.of(
                         TeamDefenseSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).teamId(1).build(),
                         TeamDefenseSummary.builder().year("2000").type(GameType.REGULAR_SEASON.getValue()).teamId(1).build(),
@@ -207,14 +208,14 @@ class TeamDefenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<TeamDefenseSummaryResponse> result = searchService.fetchAll(request);
+                final List<TeamDefenseSummaryResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getType().equals(GameType.PRESEASON)).count());
             }
 
             @Test
-            void shouldReturnAllEntriesForTeamWhenSearchingByTeamId() {
+            void shouldReturnAllEntriesForTeamWhenSearchingByTeamId() throws InvalidCursorException {
                 final List<TeamDefenseSummary> teamDefenseSummaries = List.of(
                         TeamDefenseSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).teamId(1).build(),
                         TeamDefenseSummary.builder().year("2001").type(GameType.REGULAR_SEASON.getValue()).teamId(1).build(),
@@ -227,13 +228,13 @@ class TeamDefenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .teamId(1)
                         .build();
 
-                final List<TeamDefenseSummaryResponse> result = searchService.fetchAll(request);
+                final List<TeamDefenseSummaryResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTeamWhenSearchingByTeamId() {
+            void shouldOnlyReturnEntriesForTeamWhenSearchingByTeamId() throws InvalidCursorException {
                 final List<TeamDefenseSummary> teamDefenseSummaries = List.of(
                         TeamDefenseSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).teamId(1).build(),
                         TeamDefenseSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).teamId(2).build(),
@@ -248,7 +249,7 @@ class TeamDefenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .teamId(1)
                         .build();
 
-                final List<TeamDefenseSummaryResponse> result = searchService.fetchAll(request);
+                final List<TeamDefenseSummaryResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getTeamId().equals(1)).count());
@@ -259,7 +260,7 @@ class TeamDefenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
         class WithTwoSearchParameters {
 
             @Test
-            void shouldReturnAllEntriesForYearAndTypeWhenSearchingByYearAndType() {
+            void shouldReturnAllEntriesForYearAndTypeWhenSearchingByYearAndType() throws InvalidCursorException {
                 final List<TeamDefenseSummary> teamDefenseSummaries = List.of(
                         TeamDefenseSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).teamId(1).build(),
                         TeamDefenseSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).teamId(2).build(),
@@ -273,13 +274,13 @@ class TeamDefenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<TeamDefenseSummaryResponse> result = searchService.fetchAll(request);
+                final List<TeamDefenseSummaryResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearAndTypeWhenSearchingByYearAndType() {
+            void shouldOnlyReturnEntriesForYearAndTypeWhenSearchingByYearAndType() throws InvalidCursorException {
                 final List<TeamDefenseSummary> teamDefenseSummaries = List.of(
                         TeamDefenseSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).teamId(1).build(),
                         TeamDefenseSummary.builder().year("2001").type(GameType.PRESEASON.getValue()).teamId(1).build(),
@@ -297,7 +298,7 @@ class TeamDefenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<TeamDefenseSummaryResponse> result = searchService.fetchAll(request);
+                final List<TeamDefenseSummaryResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -306,7 +307,7 @@ class TeamDefenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
             }
 
             @Test
-            void shouldReturnAllEntriesForYearAndTeamWhenSearchingByYearAndTeamId() {
+            void shouldReturnAllEntriesForYearAndTeamWhenSearchingByYearAndTeamId() throws InvalidCursorException {
                 final List<TeamDefenseSummary> teamDefenseSummaries = List.of(
                         TeamDefenseSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).teamId(1).build(),
                         TeamDefenseSummary.builder().year("2000").type(GameType.REGULAR_SEASON.getValue()).teamId(1).build(),
@@ -320,13 +321,13 @@ class TeamDefenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .teamId(1)
                         .build();
 
-                final List<TeamDefenseSummaryResponse> result = searchService.fetchAll(request);
+                final List<TeamDefenseSummaryResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearAndTeamWhenSearchingByYearAndTeamId() {
+            void shouldOnlyReturnEntriesForYearAndTeamWhenSearchingByYearAndTeamId() throws InvalidCursorException {
                 final List<TeamDefenseSummary> teamDefenseSummaries = List.of(
                         TeamDefenseSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).teamId(1).build(),
                         TeamDefenseSummary.builder().year("2001").type(GameType.PRESEASON.getValue()).teamId(1).build(),
@@ -344,7 +345,7 @@ class TeamDefenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .teamId(1)
                         .build();
 
-                final List<TeamDefenseSummaryResponse> result = searchService.fetchAll(request);
+                final List<TeamDefenseSummaryResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -353,7 +354,7 @@ class TeamDefenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
             }
 
             @Test
-            void shouldReturnAllEntriesForTypeAndTeamWhenSearchingByTypeAndTeamId() {
+            void shouldReturnAllEntriesForTypeAndTeamWhenSearchingByTypeAndTeamId() throws InvalidCursorException {
                 final List<TeamDefenseSummary> teamDefenseSummaries = List.of(
                         TeamDefenseSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).teamId(1).build(),
                         TeamDefenseSummary.builder().year("2001").type(GameType.PRESEASON.getValue()).teamId(1).build(),
@@ -367,13 +368,13 @@ class TeamDefenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .teamId(1)
                         .build();
 
-                final List<TeamDefenseSummaryResponse> result = searchService.fetchAll(request);
+                final List<TeamDefenseSummaryResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTypeAndTeamWhenSearchingByTypeAndTeamId() {
+            void shouldOnlyReturnEntriesForTypeAndTeamWhenSearchingByTypeAndTeamId() throws InvalidCursorException {
                 final List<TeamDefenseSummary> teamDefenseSummaries = List.of(
                         TeamDefenseSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).teamId(1).build(),
                         TeamDefenseSummary.builder().year("2000").type(GameType.REGULAR_SEASON.getValue()).teamId(1).build(),
@@ -391,7 +392,7 @@ class TeamDefenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .teamId(1)
                         .build();
 
-                final List<TeamDefenseSummaryResponse> result = searchService.fetchAll(request);
+                final List<TeamDefenseSummaryResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -401,7 +402,7 @@ class TeamDefenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
         }
 
         @Test
-        void shouldReturnMatchingEntryWhenSearchingByAllParameters() {
+        void shouldReturnMatchingEntryWhenSearchingByAllParameters() throws InvalidCursorException {
             final List<TeamDefenseSummary> teamDefenseSummaries = Collections.singletonList(
                     TeamDefenseSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).teamId(1).build()
             );
@@ -414,13 +415,13 @@ class TeamDefenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                     .teamId(1)
                     .build();
 
-            final List<TeamDefenseSummaryResponse> result = searchService.fetchAll(request);
+            final List<TeamDefenseSummaryResponse> result = searchService.fetchPage(request, null, null).getResources();
 
             assertEquals(1, result.size());
         }
 
         @Test
-        void shouldOnlyReturnMatchingEntryWhenSearchingByAllParameters() {
+        void shouldOnlyReturnMatchingEntryWhenSearchingByAllParameters() throws InvalidCursorException {
             final List<TeamDefenseSummary> teamDefenseSummaries = List.of(
                     TeamDefenseSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).teamId(1).build(),
                     TeamDefenseSummary.builder().year("2001").type(GameType.PRESEASON.getValue()).teamId(1).build(),
@@ -437,7 +438,7 @@ class TeamDefenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                     .teamId(1)
                     .build();
 
-            final List<TeamDefenseSummaryResponse> result = searchService.fetchAll(request);
+            final List<TeamDefenseSummaryResponse> result = searchService.fetchPage(request, null, null).getResources();
 
             assertEquals(1, result.size());
             assertEquals(1, result.stream().filter(t ->
@@ -6,6 +6,7 @@ import org.natc.app.entity.domain.GameType;
 import org.natc.app.entity.domain.TeamGame;
 import org.natc.app.entity.request.TeamGameSearchRequest;
 import org.natc.app.entity.response.TeamGameResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.natc.app.repository.TeamGameRepository;
 import org.natc.app.service.NATCServiceIntegrationTest;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,10 +28,10 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
     private TeamGameSearchService searchService;
 
     @Nested
-    class FetchAll {
+    class FetchPage {
 
         @Test
-        void shouldReturnATeamGameFromTheDatabaseMappedToAResponse() {
+        void shouldReturnATeamGameFromTheDatabaseMappedToAResponse() throws InvalidCursorException {
             final TeamGame teamGame = TeamGame.builder()
                     .gameId(12345)
                     .year("2015")
@@ -46,7 +47,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
 
             repository.save(teamGame);
 
-            final List<TeamGameResponse> result = searchService.fetchAll(new TeamGameSearchRequest());
+            final List<TeamGameResponse> result = searchService.fetchPage(new TeamGameSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -65,7 +66,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
         }
 
         @Test
-        void shouldMapAllTeamGameFieldsToTheResponse() {
+        void shouldMapAllTeamGameFieldsToTheResponse() throws InvalidCursorException {
             final TeamGame teamGame = TeamGame.builder()
                     .gameId(1234)
                     .year("1984")
@@ -100,7 +101,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
 
             repository.save(teamGame);
 
-            final List<TeamGameResponse> result = searchService.fetchAll(new TeamGameSearchRequest());
+            final List<TeamGameResponse> result = searchService.fetchPage(new TeamGameSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -138,7 +139,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
         }
 
         @Test
-        void shouldReturnAllEntriesWhenSearchingWithoutValues() {
+        void shouldReturnAllEntriesWhenSearchingWithoutValues() throws InvalidCursorException {
             final List<TeamGame> teamGameList = List.of(
                     TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                     TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2001-03-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(2).opponent(2).build(),
@@ -147,14 +148,14 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
 
             repository.saveAll(teamGameList);
 
-            final List<TeamGameResponse> result = searchService.fetchAll(new TeamGameSearchRequest());
+            final List<TeamGameResponse> result = searchService.fetchPage(new TeamGameSearchRequest(), null, null).getResources();
 
             assertEquals(3, result.size());
         }
 
         @Test
-        void shouldReturnNoEntriesWhenSearchingGivenNoDataInTheDatabase() {
-            final List<TeamGameResponse> result = searchService.fetchAll(new TeamGameSearchRequest());
+        void shouldReturnNoEntriesWhenSearchingGivenNoDataInTheDatabase() throws InvalidCursorException {
+            final List<TeamGameResponse> result = searchService.fetchPage(new TeamGameSearchRequest(), null, null).getResources();
 
             assertEquals(0, result.size());
         }
@@ -163,7 +164,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
         class WithOneSearchParameter {
 
             @Test
-            void shouldReturnAllEntriesForGameWhenSearchingByGameId() {
+            void shouldReturnAllEntriesForGameWhenSearchingByGameId() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(1).year("2001").datestamp(LocalDate.parse("2001-03-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(2).opponent(2).build(),
@@ -176,13 +177,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .gameId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameWhenSearchingByGameId() {
+            void shouldOnlyReturnEntriesForGameWhenSearchingByGameId() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -197,14 +198,14 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .gameId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getGameId().equals(1)).count());
             }
 
             @Test
-            void shouldReturnAllEntriesForYearWhenSearchingByYear() {
+            void shouldReturnAllEntriesForYearWhenSearchingByYear() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2001-03-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(2).opponent(2).build(),
@@ -217,13 +218,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .year("2000")
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearWhenSearchingByYear() {
+            void shouldOnlyReturnEntriesForYearWhenSearchingByYear() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -238,14 +239,14 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .year("2000")
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getYear().equals("2000")).count());
             }
 
             @Test
-            void shouldReturnAllEntriesForDatestampWhenSearchingByDatestamp() {
+            void shouldReturnAllEntriesForDatestampWhenSearchingByDatestamp() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(2).opponent(2).build(),
@@ -258,13 +259,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .datestamp(LocalDate.parse("2000-03-16"))
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForDatestampWhenSearchingByDatestamp() {
+            void shouldOnlyReturnEntriesForDatestampWhenSearchingByDatestamp() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -279,14 +280,14 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .datestamp(LocalDate.parse("2000-03-16"))
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getDatestamp().equals(LocalDate.parse("2000-03-16"))).count());
             }
 
             @Test
-            void shouldReturnAllEntriesForTypeWhenSearchingByType() {
+            void shouldReturnAllEntriesForTypeWhenSearchingByType() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2001-03-16")).type(GameType.PRESEASON.getValue()).teamId(2).opponent(2).build(),
@@ -299,13 +300,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTypeWhenSearchingByType() {
+            void shouldOnlyReturnEntriesForTypeWhenSearchingByType() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(1).opponent(1).build(),
@@ -320,14 +321,14 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getType().equals(GameType.PRESEASON)).count());
             }
 
             @Test
-            void shouldReturnAllEntriesForTeamWhenSearchingByTeamId() {
+            void shouldReturnAllEntriesForTeamWhenSearchingByTeamId() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2001-03-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(1).opponent(2).build(),
@@ -340,13 +341,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTeamWhenSearchingByTeamId() {
+            void shouldOnlyReturnEntriesForTeamWhenSearchingByTeamId() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(2).opponent(1).build(),
@@ -361,14 +362,14 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getTeamId().equals(1)).count());
             }
 
             @Test
-            void shouldReturnAllEntriesForOpponentWhenSearchingByOpponent() {
+            void shouldReturnAllEntriesForOpponentWhenSearchingByOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2001-03-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(2).opponent(1).build(),
@@ -381,13 +382,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForOpponentWhenSearchingByOpponent() {
+            void shouldOnlyReturnEntriesForOpponentWhenSearchingByOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(2).build(),
@@ -402,7 +403,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getOpponent().equals(1)).count());
@@ -413,7 +414,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
         class WithTwoSearchParameters {
 
             @Test
-            void shouldReturnAllEntriesForGameAndYearWhenSearchingByGameIdAndYear() {
+            void shouldReturnAllEntriesForGameAndYearWhenSearchingByGameIdAndYear() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2001-03-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(2).opponent(2).build(),
@@ -427,13 +428,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .year("2000")
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameAndYearWhenSearchingByGameIdAndYear() {
+            void shouldOnlyReturnEntriesForGameAndYearWhenSearchingByGameIdAndYear() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(2).opponent(1).build(),
@@ -451,7 +452,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .year("2000")
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -460,7 +461,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForGameAndDatestampWhenSearchingByGameIdAndDatestamp() {
+            void shouldReturnAllEntriesForGameAndDatestampWhenSearchingByGameIdAndDatestamp() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(1).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(2).opponent(2).build(),
@@ -474,13 +475,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .datestamp(LocalDate.parse("2000-03-16"))
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameAndDatestampWhenSearchingByGameIdAndDatestamp() {
+            void shouldOnlyReturnEntriesForGameAndDatestampWhenSearchingByGameIdAndDatestamp() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(2).opponent(1).build(),
@@ -498,7 +499,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .datestamp(LocalDate.parse("2000-03-16"))
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -507,7 +508,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForGameAndTypeWhenSearchingByGameIdAndType() {
+            void shouldReturnAllEntriesForGameAndTypeWhenSearchingByGameIdAndType() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(1).year("2001").datestamp(LocalDate.parse("2001-03-16")).type(GameType.PRESEASON.getValue()).teamId(2).opponent(2).build(),
@@ -521,13 +522,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameAndTypeWhenSearchingByGameIdAndType() {
+            void shouldOnlyReturnEntriesForGameAndTypeWhenSearchingByGameIdAndType() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(2).opponent(1).build(),
@@ -545,7 +546,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -554,7 +555,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForGameAndTeamWhenSearchingByGameIdAndTeamId() {
+            void shouldReturnAllEntriesForGameAndTeamWhenSearchingByGameIdAndTeamId() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = Collections.singletonList(
                         // Game ID & Team ID are the key fields, so only one record is possible
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build()
@@ -567,13 +568,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameAndTeamWhenSearchingByGameIdAndTeamId() {
+            void shouldOnlyReturnEntriesForGameAndTeamWhenSearchingByGameIdAndTeamId() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -588,7 +589,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -597,7 +598,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForGameAndOpponentWhenSearchingByGameIdAndOpponent() {
+            void shouldReturnAllEntriesForGameAndOpponentWhenSearchingByGameIdAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(1).year("2001").datestamp(LocalDate.parse("2001-03-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(2).opponent(1).build(),
@@ -611,13 +612,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameAndOpponentWhenSearchingByGameIdAndOpponent() {
+            void shouldOnlyReturnEntriesForGameAndOpponentWhenSearchingByGameIdAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(2).opponent(1).build(),
@@ -635,7 +636,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -644,7 +645,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForYearAndDatestampWhenSearchingByYearAndDatestamp() {
+            void shouldReturnAllEntriesForYearAndDatestampWhenSearchingByYearAndDatestamp() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(2).opponent(2).build(),
@@ -658,13 +659,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .datestamp(LocalDate.parse("2000-03-16"))
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearAndDatestampWhenSearchingByYearAndDatestamp() {
+            void shouldOnlyReturnEntriesForYearAndDatestampWhenSearchingByYearAndDatestamp() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -682,7 +683,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .datestamp(LocalDate.parse("2000-03-16"))
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -691,7 +692,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForYearAndTypeWhenSearchingByYearAndType() {
+            void shouldReturnAllEntriesForYearAndTypeWhenSearchingByYearAndType() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.PRESEASON.getValue()).teamId(2).opponent(2).build(),
@@ -705,13 +706,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearAndTypeWhenSearchingByYearAndType() {
+            void shouldOnlyReturnEntriesForYearAndTypeWhenSearchingByYearAndType() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -729,7 +730,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -738,7 +739,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForYearAndTeamWhenSearchingByYearAndTeamId() {
+            void shouldReturnAllEntriesForYearAndTeamWhenSearchingByYearAndTeamId() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.REGULAR_SEASON.getValue()).teamId(1).opponent(2).build(),
@@ -752,13 +753,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearAndTeamWhenSearchingByYearAndTeamId() {
+            void shouldOnlyReturnEntriesForYearAndTeamWhenSearchingByYearAndTeamId() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -776,7 +777,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -785,7 +786,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForYearAndOpponentWhenSearchingByYearAndOpponent() {
+            void shouldReturnAllEntriesForYearAndOpponentWhenSearchingByYearAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.REGULAR_SEASON.getValue()).teamId(2).opponent(1).build(),
@@ -799,13 +800,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearAndOpponentWhenSearchingByYearAndOpponent() {
+            void shouldOnlyReturnEntriesForYearAndOpponentWhenSearchingByYearAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -823,7 +824,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -832,7 +833,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForDatestampAndTypeWhenSearchingByDatestampAndType() {
+            void shouldReturnAllEntriesForDatestampAndTypeWhenSearchingByDatestampAndType() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(2).opponent(2).build(),
@@ -846,13 +847,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForDatestampAndTypeWhenSearchingByDatestampAndType() {
+            void shouldOnlyReturnEntriesForDatestampAndTypeWhenSearchingByDatestampAndType() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -870,7 +871,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -879,7 +880,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForDatestampAndTeamWhenSearchingByDatestampAndTeamId() {
+            void shouldReturnAllEntriesForDatestampAndTeamWhenSearchingByDatestampAndTeamId() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(1).opponent(2).build(),
@@ -893,13 +894,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForDatestampAndTeamWhenSearchingByDatestampAndTeamId() {
+            void shouldOnlyReturnEntriesForDatestampAndTeamWhenSearchingByDatestampAndTeamId() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -917,7 +918,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -926,7 +927,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForDatestampAndOpponentWhenSearchingByDatestampAndOpponent() {
+            void shouldReturnAllEntriesForDatestampAndOpponentWhenSearchingByDatestampAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(2).opponent(1).build(),
@@ -940,13 +941,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForDatestampAndOpponentWhenSearchingByDatestampAndOpponent() {
+            void shouldOnlyReturnEntriesForDatestampAndOpponentWhenSearchingByDatestampAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -964,7 +965,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -973,7 +974,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForTypeAndTeamWhenSearchingByTypeAndTeamId() {
+            void shouldReturnAllEntriesForTypeAndTeamWhenSearchingByTypeAndTeamId() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2001-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(2).build(),
@@ -987,13 +988,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTypeAndTeamWhenSearchingByTypeAndTeamId() {
+            void shouldOnlyReturnEntriesForTypeAndTeamWhenSearchingByTypeAndTeamId() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(1).opponent(1).build(),
@@ -1011,7 +1012,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1020,7 +1021,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForTypeAndOpponentWhenSearchingByTypeAndOpponent() {
+            void shouldReturnAllEntriesForTypeAndOpponentWhenSearchingByTypeAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2001-03-16")).type(GameType.PRESEASON.getValue()).teamId(2).opponent(1).build(),
@@ -1034,13 +1035,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTypeAndOpponentWhenSearchingByTypeAndOpponent() {
+            void shouldOnlyReturnEntriesForTypeAndOpponentWhenSearchingByTypeAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(1).opponent(1).build(),
@@ -1058,7 +1059,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1067,7 +1068,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForTeamAndOpponentWhenSearchingByTeamIdAndOpponent() {
+            void shouldReturnAllEntriesForTeamAndOpponentWhenSearchingByTeamIdAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2001-03-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(1).opponent(1).build(),
@@ -1081,13 +1082,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTeamAndOpponentWhenSearchingByTeamIdAndOpponent() {
+            void shouldOnlyReturnEntriesForTeamAndOpponentWhenSearchingByTeamIdAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(2).opponent(1).build(),
@@ -1105,7 +1106,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1118,7 +1119,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
         class WithThreeSearchParameters {
 
             @Test
-            void shouldReturnAllEntriesForGameYearAndDatestampWhenSearchingByGameIdYearAndDatestamp() {
+            void shouldReturnAllEntriesForGameYearAndDatestampWhenSearchingByGameIdYearAndDatestamp() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(2).opponent(2).build(),
@@ -1133,13 +1134,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .datestamp(LocalDate.parse("2000-03-16"))
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameYearAndDatestampWhenSearchingByGameIdYearAndDatestamp() {
+            void shouldOnlyReturnEntriesForGameYearAndDatestampWhenSearchingByGameIdYearAndDatestamp() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(2).opponent(1).build(),
@@ -1160,7 +1161,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .datestamp(LocalDate.parse("2000-03-16"))
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1169,7 +1170,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForGameYearAndTypeWhenSearchingByGameIdYearAndType() {
+            void shouldReturnAllEntriesForGameYearAndTypeWhenSearchingByGameIdYearAndType() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.PRESEASON.getValue()).teamId(2).opponent(2).build(),
@@ -1184,13 +1185,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameYearAndTypeWhenSearchingByGameIdYearAndType() {
+            void shouldOnlyReturnEntriesForGameYearAndTypeWhenSearchingByGameIdYearAndType() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(2).opponent(1).build(),
@@ -1211,7 +1212,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1220,7 +1221,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForGameYearAndTeamWhenSearchingByGameIdYearAndTeamId() {
+            void shouldReturnAllEntriesForGameYearAndTeamWhenSearchingByGameIdYearAndTeamId() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = Collections.singletonList(
                         // Game ID & Team ID are the key fields, so only one record is possible
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build()
@@ -1234,13 +1235,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameYearAndTeamWhenSearchingByGameIdYearAndTeamId() {
+            void shouldOnlyReturnEntriesForGameYearAndTeamWhenSearchingByGameIdYearAndTeamId() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -1256,7 +1257,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -1265,7 +1266,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnNoEntriesForGameYearAndTeamWhenSearchingByGameIdYearAndTeamIdAndYearIsDifferent() {
+            void shouldReturnNoEntriesForGameYearAndTeamWhenSearchingByGameIdYearAndTeamIdAndYearIsDifferent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -1280,13 +1281,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnAllEntriesForGameYearAndOpponentWhenSearchingByGameIdYearAndOpponent() {
+            void shouldReturnAllEntriesForGameYearAndOpponentWhenSearchingByGameIdYearAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.REGULAR_SEASON.getValue()).teamId(2).opponent(1).build(),
@@ -1301,13 +1302,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameYearAndOpponentWhenSearchingByGameIdYearAndOpponent() {
+            void shouldOnlyReturnEntriesForGameYearAndOpponentWhenSearchingByGameIdYearAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(2).opponent(1).build(),
@@ -1328,7 +1329,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1337,7 +1338,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForGameDatestampAndTypeWhenSearchingByGameIdDatestampAndType() {
+            void shouldReturnAllEntriesForGameDatestampAndTypeWhenSearchingByGameIdDatestampAndType() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(1).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(2).opponent(2).build(),
@@ -1352,13 +1353,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameDatestampAndTypeWhenSearchingByGameIdDatestampAndType() {
+            void shouldOnlyReturnEntriesForGameDatestampAndTypeWhenSearchingByGameIdDatestampAndType() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(2).opponent(1).build(),
@@ -1379,7 +1380,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1388,7 +1389,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForGameDatestampAndTeamWhenSearchingByGameIdDatestampAndTeamId() {
+            void shouldReturnAllEntriesForGameDatestampAndTeamWhenSearchingByGameIdDatestampAndTeamId() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = Collections.singletonList(
                         // Game ID & Team ID are the key fields, so only one record is possible
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build()
@@ -1402,13 +1403,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameDatestampAndTeamWhenSearchingByGameIdDatestampAndTeamId() {
+            void shouldOnlyReturnEntriesForGameDatestampAndTeamWhenSearchingByGameIdDatestampAndTeamId() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -1424,7 +1425,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -1433,7 +1434,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnNoEntriesForGameDatestampAndTeamWhenSearchingByGameIdDatestampAndTeamIdAndDatestampIsDifferent() {
+            void shouldReturnNoEntriesForGameDatestampAndTeamWhenSearchingByGameIdDatestampAndTeamIdAndDatestampIsDifferent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2001").datestamp(LocalDate.parse("2000-04-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-04-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -1448,13 +1449,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnAllEntriesForGameDatestampAndOpponentWhenSearchingByGameIdDatestampAndOpponent() {
+            void shouldReturnAllEntriesForGameDatestampAndOpponentWhenSearchingByGameIdDatestampAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(1).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(2).opponent(1).build(),
@@ -1469,13 +1470,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameDatestampAndOpponentWhenSearchingByGameIdDatestampAndOpponent() {
+            void shouldOnlyReturnEntriesForGameDatestampAndOpponentWhenSearchingByGameIdDatestampAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(2).opponent(1).build(),
@@ -1496,7 +1497,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1505,7 +1506,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForGameTypeAndTeamWhenSearchingByGameIdTypeAndTeamId() {
+            void shouldReturnAllEntriesForGameTypeAndTeamWhenSearchingByGameIdTypeAndTeamId() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = Collections.singletonList(
                         // Game ID & Team ID are the key fields, so only one record is possible
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build()
@@ -1519,13 +1520,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameTypeAndTeamWhenSearchingByGameIdTypeAndTeamId() {
+            void shouldOnlyReturnEntriesForGameTypeAndTeamWhenSearchingByGameIdTypeAndTeamId() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -1541,7 +1542,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -1550,7 +1551,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnNoEntriesForGameTypeAndTeamWhenSearchingByGameIdTypeAndTeamIdAndTypeIsDifferent() {
+            void shouldReturnNoEntriesForGameTypeAndTeamWhenSearchingByGameIdTypeAndTeamIdAndTypeIsDifferent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2001").datestamp(LocalDate.parse("2000-04-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-04-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(1).opponent(1).build(),
@@ -1565,13 +1566,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnAllEntriesForGameTypeAndOpponentWhenSearchingByGameIdTypeAndOpponent() {
+            void shouldReturnAllEntriesForGameTypeAndOpponentWhenSearchingByGameIdTypeAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(1).year("2001").datestamp(LocalDate.parse("2000-03-17")).type(GameType.PRESEASON.getValue()).teamId(2).opponent(1).build(),
@@ -1586,13 +1587,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameTypeAndOpponentWhenSearchingByGameIdTypeAndOpponent() {
+            void shouldOnlyReturnEntriesForGameTypeAndOpponentWhenSearchingByGameIdTypeAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(2).opponent(1).build(),
@@ -1613,7 +1614,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1622,7 +1623,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForGameTeamAndOpponentWhenSearchingByGameIdTeamIdAndOpponent() {
+            void shouldReturnAllEntriesForGameTeamAndOpponentWhenSearchingByGameIdTeamIdAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = Collections.singletonList(
                         // Game ID & Team ID are the key fields, so only one record is possible
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build()
@@ -1636,13 +1637,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameTeamAndOpponentWhenSearchingByGameIdTeamIdAndOpponent() {
+            void shouldOnlyReturnEntriesForGameTeamAndOpponentWhenSearchingByGameIdTeamIdAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -1658,7 +1659,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -1667,7 +1668,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnNoEntriesForGameTeamAndOpponentWhenSearchingByGameIdTeamIdAndOpponentAndOpponentIsDifferent() {
+            void shouldReturnNoEntriesForGameTeamAndOpponentWhenSearchingByGameIdTeamIdAndOpponentAndOpponentIsDifferent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2001").datestamp(LocalDate.parse("2000-04-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(1).opponent(2).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-04-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(1).opponent(2).build(),
@@ -1682,13 +1683,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnAllEntriesForYearDatestampAndTypeWhenSearchingByYearDatestampAndType() {
+            void shouldReturnAllEntriesForYearDatestampAndTypeWhenSearchingByYearDatestampAndType() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(2).opponent(2).build(),
@@ -1703,13 +1704,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearDatestampAndTypeWhenSearchingByYearDatestampAndType() {
+            void shouldOnlyReturnEntriesForYearDatestampAndTypeWhenSearchingByYearDatestampAndType() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -1730,7 +1731,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1739,7 +1740,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForYearDatestampAndTeamWhenSearchingByYearDatestampAndTeamId() {
+            void shouldReturnAllEntriesForYearDatestampAndTeamWhenSearchingByYearDatestampAndTeamId() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(1).opponent(2).build(),
@@ -1754,13 +1755,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearDatestampAndTeamWhenSearchingByYearDatestampAndTeamId() {
+            void shouldOnlyReturnEntriesForYearDatestampAndTeamWhenSearchingByYearDatestampAndTeamId() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -1781,7 +1782,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1790,7 +1791,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForYearDatestampAndOpponentWhenSearchingByYearDatestampAndOpponent() {
+            void shouldReturnAllEntriesForYearDatestampAndOpponentWhenSearchingByYearDatestampAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(2).opponent(1).build(),
@@ -1805,13 +1806,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearDatestampAndOpponentWhenSearchingByYearDatestampAndOpponent() {
+            void shouldOnlyReturnEntriesForYearDatestampAndOpponentWhenSearchingByYearDatestampAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -1832,7 +1833,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1841,7 +1842,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForYearTypeAndTeamWhenSearchingByYearTypeAndTeamId() {
+            void shouldReturnAllEntriesForYearTypeAndTeamWhenSearchingByYearTypeAndTeamId() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(2).build(),
@@ -1856,13 +1857,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearTypeAndTeamWhenSearchingByYearTypeAndTeamId() {
+            void shouldOnlyReturnEntriesForYearTypeAndTeamWhenSearchingByYearTypeAndTeamId() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -1883,7 +1884,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1892,7 +1893,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForYearTypeAndOpponentWhenSearchingByYearTypeAndOpponent() {
+            void shouldReturnAllEntriesForYearTypeAndOpponentWhenSearchingByYearTypeAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.PRESEASON.getValue()).teamId(2).opponent(1).build(),
@@ -1907,13 +1908,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearTypeAndTeamWhenSearchingByYearTypeAndOpponent() {
+            void shouldOnlyReturnEntriesForYearTypeAndTeamWhenSearchingByYearTypeAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -1934,7 +1935,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1943,7 +1944,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForYearTeamAndOpponentWhenSearchingByYearTeamIdAndOpponent() {
+            void shouldReturnAllEntriesForYearTeamAndOpponentWhenSearchingByYearTeamIdAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.REGULAR_SEASON.getValue()).teamId(1).opponent(1).build(),
@@ -1958,13 +1959,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearTeamAndOpponentWhenSearchingByYearTeamIdAndOpponent() {
+            void shouldOnlyReturnEntriesForYearTeamAndOpponentWhenSearchingByYearTeamIdAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -1985,7 +1986,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1994,7 +1995,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForDatestampTypeAndTeamWhenSearchingByDatestampTypeAndTeamId() {
+            void shouldReturnAllEntriesForDatestampTypeAndTeamWhenSearchingByDatestampTypeAndTeamId() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(2).build(),
@@ -2009,13 +2010,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForDatestampTypeAndTeamWhenSearchingByDatestampTypeAndTeamId() {
+            void shouldOnlyReturnEntriesForDatestampTypeAndTeamWhenSearchingByDatestampTypeAndTeamId() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -2036,7 +2037,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -2045,7 +2046,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForDatestampTypeAndOpponentWhenSearchingByDatestampTypeAndOpponent() {
+            void shouldReturnAllEntriesForDatestampTypeAndOpponentWhenSearchingByDatestampTypeAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(2).opponent(1).build(),
@@ -2060,13 +2061,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForDatestampTypeAndOpponentWhenSearchingByDatestampTypeAndOpponent() {
+            void shouldOnlyReturnEntriesForDatestampTypeAndOpponentWhenSearchingByDatestampTypeAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -2087,7 +2088,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -2096,7 +2097,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForDatestampTeamAndOpponentWhenSearchingByDatestampTeamIdAndOpponent() {
+            void shouldReturnAllEntriesForDatestampTeamAndOpponentWhenSearchingByDatestampTeamIdAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(1).opponent(1).build(),
@@ -2111,13 +2112,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForDatestampTeamAndOpponentWhenSearchingByDatestampTeamIdAndOpponent() {
+            void shouldOnlyReturnEntriesForDatestampTeamAndOpponentWhenSearchingByDatestampTeamIdAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -2138,7 +2139,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -2147,7 +2148,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForTypeTeamAndOpponentWhenSearchingByTypeTeamIdAndOpponent() {
+            void shouldReturnAllEntriesForTypeTeamAndOpponentWhenSearchingByTypeTeamIdAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2001-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -2162,13 +2163,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTypeTeamAndOpponentWhenSearchingByTypeTeamIdAndOpponent() {
+            void shouldOnlyReturnEntriesForTypeTeamAndOpponentWhenSearchingByTypeTeamIdAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(1).opponent(1).build(),
@@ -2189,7 +2190,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -2202,7 +2203,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
         class WithFourSearchParameters {
 
             @Test
-            void shouldReturnAllEntriesForGameYearDatestampAndTypeWhenSearchingByGameYearDatestampAndType() {
+            void shouldReturnAllEntriesForGameYearDatestampAndTypeWhenSearchingByGameYearDatestampAndType() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(2).opponent(2).build(),
@@ -2218,13 +2219,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameYearDatestampAndTypeWhenSearchingByGameYearDatestampAndType() {
+            void shouldOnlyReturnEntriesForGameYearDatestampAndTypeWhenSearchingByGameYearDatestampAndType() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(2).opponent(1).build(),
@@ -2248,7 +2249,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -2260,7 +2261,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForGameYearDatestampAndTeamWhenSearchingByGameIdYearDatestampAndTeamId() {
+            void shouldReturnAllEntriesForGameYearDatestampAndTeamWhenSearchingByGameIdYearDatestampAndTeamId() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = Collections.singletonList(
                         // Game ID & Team ID are the key fields, so only one record is possible
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build()
@@ -2275,13 +2276,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameYearDatestampAndTeamWhenSearchingByGameIdYearDatestampAndTeamId() {
+            void shouldOnlyReturnEntriesForGameYearDatestampAndTeamWhenSearchingByGameIdYearDatestampAndTeamId() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -2298,7 +2299,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -2310,7 +2311,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnNoEntriesForGameYearDatestampAndTeamWhenSearchingByGameIdYearDatestampAndTeamIdAndYearIsDifferent() {
+            void shouldReturnNoEntriesForGameYearDatestampAndTeamWhenSearchingByGameIdYearDatestampAndTeamIdAndYearIsDifferent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -2327,13 +2328,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnNoEntriesForGameYearDatestampAndTeamWhenSearchingByGameIdYearDatestampAndTeamIdAndDatestampIsDifferent() {
+            void shouldReturnNoEntriesForGameYearDatestampAndTeamWhenSearchingByGameIdYearDatestampAndTeamIdAndDatestampIsDifferent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -2350,13 +2351,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnAllEntriesForGameYearDatestampAndOpponentWhenSearchingByGameYearDatestampAndOpponent() {
+            void shouldReturnAllEntriesForGameYearDatestampAndOpponentWhenSearchingByGameYearDatestampAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(2).opponent(1).build(),
@@ -2372,13 +2373,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameYearDatestampAndOpponentWhenSearchingByGameYearDatestampAndOpponent() {
+            void shouldOnlyReturnEntriesForGameYearDatestampAndOpponentWhenSearchingByGameYearDatestampAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(2).opponent(1).build(),
@@ -2402,7 +2403,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -2414,7 +2415,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForGameYearTypeAndTeamWhenSearchingByGameIdYearTypeAndTeamId() {
+            void shouldReturnAllEntriesForGameYearTypeAndTeamWhenSearchingByGameIdYearTypeAndTeamId() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = Collections.singletonList(
                         // Game ID & Team ID are the key fields, so only one record is possible
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build()
@@ -2429,13 +2430,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameYearTypeAndTeamWhenSearchingByGameIdYearTypeAndTeamId() {
+            void shouldOnlyReturnEntriesForGameYearTypeAndTeamWhenSearchingByGameIdYearTypeAndTeamId() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -2452,7 +2453,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -2464,7 +2465,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnNoEntriesForGameYearTypeAndTeamWhenSearchingByGameIdYearTypeAndTeamIdAndYearIsDifferent() {
+            void shouldReturnNoEntriesForGameYearTypeAndTeamWhenSearchingByGameIdYearTypeAndTeamIdAndYearIsDifferent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -2481,13 +2482,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnNoEntriesForGameYearTypeAndTeamWhenSearchingByGameIdYearTypeAndTeamIdAndTypeIsDifferent() {
+            void shouldReturnNoEntriesForGameYearTypeAndTeamWhenSearchingByGameIdYearTypeAndTeamIdAndTypeIsDifferent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.REGULAR_SEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.REGULAR_SEASON.getValue()).teamId(1).opponent(1).build(),
@@ -2504,13 +2505,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnAllEntriesForGameYearTypeAndOpponentWhenSearchingByGameYearTypeAndOpponent() {
+            void shouldReturnAllEntriesForGameYearTypeAndOpponentWhenSearchingByGameYearTypeAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.PRESEASON.getValue()).teamId(2).opponent(1).build(),
@@ -2526,13 +2527,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameYearTypeAndOpponentWhenSearchingByGameYearTypeAndOpponent() {
+            void shouldOnlyReturnEntriesForGameYearTypeAndOpponentWhenSearchingByGameYearTypeAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(2).opponent(1).build(),
@@ -2556,7 +2557,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -2568,7 +2569,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForGameYearTeamAndOpponentWhenSearchingByGameIdYearTeamIdAndOpponent() {
+            void shouldReturnAllEntriesForGameYearTeamAndOpponentWhenSearchingByGameIdYearTeamIdAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = Collections.singletonList(
                         // Game ID & Team ID are the key fields, so only one record is possible
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build()
@@ -2583,13 +2584,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameYearTeamAndOpponentWhenSearchingByGameIdYearTeamIdAndOpponent() {
+            void shouldOnlyReturnEntriesForGameYearTeamAndOpponentWhenSearchingByGameIdYearTeamIdAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -2606,7 +2607,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -2618,7 +2619,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnNoEntriesForGameYearTeamAndOpponentWhenSearchingByGameIdYearTeamIdAndOpponentAndYearIsDifferent() {
+            void shouldReturnNoEntriesForGameYearTeamAndOpponentWhenSearchingByGameIdYearTeamIdAndOpponentAndYearIsDifferent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -2635,13 +2636,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnNoEntriesForGameYearTeamAndOpponentWhenSearchingByGameIdYearTeamIdAndOpponentAndOpponentIsDifferent() {
+            void shouldReturnNoEntriesForGameYearTeamAndOpponentWhenSearchingByGameIdYearTeamIdAndOpponentAndOpponentIsDifferent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(2).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(2).build(),
@@ -2658,13 +2659,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnAllEntriesForGameDatestampTypeAndTeamWhenSearchingByGameIdDatestampTypeAndTeamId() {
+            void shouldReturnAllEntriesForGameDatestampTypeAndTeamWhenSearchingByGameIdDatestampTypeAndTeamId() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = Collections.singletonList(
                         // Game ID & Team ID are the key fields, so only one record is possible
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build()
@@ -2679,13 +2680,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameDatestampTypeAndTeamWhenSearchingByGameIdDatestampTypeAndTeamId() {
+            void shouldOnlyReturnEntriesForGameDatestampTypeAndTeamWhenSearchingByGameIdDatestampTypeAndTeamId() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -2702,7 +2703,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -2714,7 +2715,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnNoEntriesForGameDatestampTypeAndTeamWhenSearchingByGameIdDatestampTypeAndTeamIdAndDatestampIsDifferent() {
+            void shouldReturnNoEntriesForGameDatestampTypeAndTeamWhenSearchingByGameIdDatestampTypeAndTeamIdAndDatestampIsDifferent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -2731,13 +2732,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnNoEntriesForGameDatestampTypeAndTeamWhenSearchingByGameIdDatestampTypeAndTeamIdAndTypeIsDifferent() {
+            void shouldReturnNoEntriesForGameDatestampTypeAndTeamWhenSearchingByGameIdDatestampTypeAndTeamIdAndTypeIsDifferent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.REGULAR_SEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.REGULAR_SEASON.getValue()).teamId(1).opponent(1).build(),
@@ -2754,13 +2755,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnAllEntriesForGameDatestampTypeAndOpponentWhenSearchingByGameDatestampTypeAndOpponent() {
+            void shouldReturnAllEntriesForGameDatestampTypeAndOpponentWhenSearchingByGameDatestampTypeAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(1).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(2).opponent(1).build(),
@@ -2776,13 +2777,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameDatestampTypeAndOpponentWhenSearchingByGameDatestampTypeAndOpponent() {
+            void shouldOnlyReturnEntriesForGameDatestampTypeAndOpponentWhenSearchingByGameDatestampTypeAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(2).opponent(1).build(),
@@ -2806,7 +2807,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -2818,7 +2819,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForGameDatestampTeamAndOpponentWhenSearchingByGameIdDatestampTeamIdAndOpponent() {
+            void shouldReturnAllEntriesForGameDatestampTeamAndOpponentWhenSearchingByGameIdDatestampTeamIdAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = Collections.singletonList(
                         // Game ID & Team ID are the key fields, so only one record is possible
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build()
@@ -2833,13 +2834,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameDatestampTeamAndOpponentWhenSearchingByGameIdDatestampTeamIdAndOpponent() {
+            void shouldOnlyReturnEntriesForGameDatestampTeamAndOpponentWhenSearchingByGameIdDatestampTeamIdAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -2856,7 +2857,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -2868,7 +2869,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnNoEntriesForGameDatestampTeamAndOpponentWhenSearchingByGameIdDatestampTeamIdAndOpponentAndDatestampIsDifferent() {
+            void shouldReturnNoEntriesForGameDatestampTeamAndOpponentWhenSearchingByGameIdDatestampTeamIdAndOpponentAndDatestampIsDifferent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -2885,13 +2886,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnNoEntriesForGameDatestampTeamAndOpponentWhenSearchingByGameIdDatestampTeamIdAndOpponentAndOpponentIsDifferent() {
+            void shouldReturnNoEntriesForGameDatestampTeamAndOpponentWhenSearchingByGameIdDatestampTeamIdAndOpponentAndOpponentIsDifferent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(2).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(2).build(),
@@ -2908,13 +2909,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnAllEntriesForGameTypeTeamAndOpponentWhenSearchingByGameIdTypeTeamIdAndOpponent() {
+            void shouldReturnAllEntriesForGameTypeTeamAndOpponentWhenSearchingByGameIdTypeTeamIdAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = Collections.singletonList(
                         // Game ID & Team ID are the key fields, so only one record is possible
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build()
@@ -2929,13 +2930,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameTypeTeamAndOpponentWhenSearchingByGameIdTypeTeamIdAndOpponent() {
+            void shouldOnlyReturnEntriesForGameTypeTeamAndOpponentWhenSearchingByGameIdTypeTeamIdAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -2952,7 +2953,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -2964,7 +2965,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnNoEntriesForGameTypeTeamAndOpponentWhenSearchingByGameIdTypeTeamIdAndOpponentAndTypeIsDifferent() {
+            void shouldReturnNoEntriesForGameTypeTeamAndOpponentWhenSearchingByGameIdTypeTeamIdAndOpponentAndTypeIsDifferent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(1).opponent(1).build(),
@@ -2981,13 +2982,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnNoEntriesForGameTypeTeamAndOpponentWhenSearchingByGameIdTypeTeamIdAndOpponentAndOpponentIsDifferent() {
+            void shouldReturnNoEntriesForGameTypeTeamAndOpponentWhenSearchingByGameIdTypeTeamIdAndOpponentAndOpponentIsDifferent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(2).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(2).build(),
@@ -3004,13 +3005,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnAllEntriesForYearDatestampTypeAndTeamWhenSearchingByYearDatestampTypeAndTeamId() {
+            void shouldReturnAllEntriesForYearDatestampTypeAndTeamWhenSearchingByYearDatestampTypeAndTeamId() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(2).build(),
@@ -3026,13 +3027,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearDatestampTypeAndTeamWhenSearchingByYearDatestampTypeAndTeamId() {
+            void shouldOnlyReturnEntriesForYearDatestampTypeAndTeamWhenSearchingByYearDatestampTypeAndTeamId() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -3056,7 +3057,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -3068,7 +3069,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForYearDatestampTypeAndOpponentWhenSearchingByYearDatestampTypeAndOpponent() {
+            void shouldReturnAllEntriesForYearDatestampTypeAndOpponentWhenSearchingByYearDatestampTypeAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(2).opponent(1).build(),
@@ -3084,13 +3085,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearDatestampTypeAndOpponentWhenSearchingByYearDatestampTypeAndOpponent() {
+            void shouldOnlyReturnEntriesForYearDatestampTypeAndOpponentWhenSearchingByYearDatestampTypeAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -3114,7 +3115,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -3126,7 +3127,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForYearDatestampTeamAndOpponentWhenSearchingByYearDatestampTeamIdAndOpponent() {
+            void shouldReturnAllEntriesForYearDatestampTeamAndOpponentWhenSearchingByYearDatestampTeamIdAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(1).opponent(1).build(),
@@ -3142,13 +3143,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearDatestampTeamAndOpponentWhenSearchingByYearDatestampTeamIdAndOpponent() {
+            void shouldOnlyReturnEntriesForYearDatestampTeamAndOpponentWhenSearchingByYearDatestampTeamIdAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -3172,7 +3173,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -3184,7 +3185,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForYearTypeTeamAndOpponentWhenSearchingByYearTypeTeamIdAndOpponent() {
+            void shouldReturnAllEntriesForYearTypeTeamAndOpponentWhenSearchingByYearTypeTeamIdAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -3200,13 +3201,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearTypeTeamAndOpponentWhenSearchingByYearTypeTeamIdAndOpponent() {
+            void shouldOnlyReturnEntriesForYearTypeTeamAndOpponentWhenSearchingByYearTypeTeamIdAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -3230,7 +3231,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -3242,7 +3243,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForDatestampTypeTeamAndOpponentWhenSearchingByDatestampTypeTeamIdAndOpponent() {
+            void shouldReturnAllEntriesForDatestampTypeTeamAndOpponentWhenSearchingByDatestampTypeTeamIdAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -3258,13 +3259,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForDatestampTypeTeamAndOpponentWhenSearchingByDatestampTypeTeamIdAndOpponent() {
+            void shouldOnlyReturnEntriesForDatestampTypeTeamAndOpponentWhenSearchingByDatestampTypeTeamIdAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -3288,7 +3289,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -3304,7 +3305,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
         class WithFiveSearchParameters {
 
             @Test
-            void shouldReturnAllEntriesForGameYearDatestampTypeAndTeamWhenSearchingByGameIdYearDatestampTypeAndTeamId() {
+            void shouldReturnAllEntriesForGameYearDatestampTypeAndTeamWhenSearchingByGameIdYearDatestampTypeAndTeamId() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = Collections.singletonList(
                         // Game ID & Team ID are the key fields, so only one record is possible
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build()
@@ -3320,13 +3321,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameYearDatestampTypeAndTeamWhenSearchingByGameIdYearDatestampTypeAndTeamId() {
+            void shouldOnlyReturnEntriesForGameYearDatestampTypeAndTeamWhenSearchingByGameIdYearDatestampTypeAndTeamId() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -3344,7 +3345,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -3357,7 +3358,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnNoEntriesForGameYearDatestampTypeAndTeamWhenSearchingByGameIdYearDatestampTypeAndTeamIdAndYearIsDifferent() {
+            void shouldReturnNoEntriesForGameYearDatestampTypeAndTeamWhenSearchingByGameIdYearDatestampTypeAndTeamIdAndYearIsDifferent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -3375,13 +3376,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnNoEntriesForGameYearDatestampTypeAndTeamWhenSearchingByGameIdYearDatestampTypeAndTeamIdAndDatestampIsDifferent() {
+            void shouldReturnNoEntriesForGameYearDatestampTypeAndTeamWhenSearchingByGameIdYearDatestampTypeAndTeamIdAndDatestampIsDifferent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -3399,13 +3400,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnNoEntriesForGameYearDatestampTypeAndTeamWhenSearchingByGameIdYearDatestampTypeAndTeamIdAndTypeIsDifferent() {
+            void shouldReturnNoEntriesForGameYearDatestampTypeAndTeamWhenSearchingByGameIdYearDatestampTypeAndTeamIdAndTypeIsDifferent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(1).opponent(1).build(),
@@ -3423,13 +3424,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnAllEntriesForGameYearDatestampTypeAndOpponentWhenSearchingByGameIdYearDatestampTypeAndOpponent() {
+            void shouldReturnAllEntriesForGameYearDatestampTypeAndOpponentWhenSearchingByGameIdYearDatestampTypeAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(2).opponent(1).build(),
@@ -3446,13 +3447,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameYearDatestampTypeAndOpponentWhenSearchingByGameIdYearDatestampTypeAndOpponent() {
+            void shouldOnlyReturnEntriesForGameYearDatestampTypeAndOpponentWhenSearchingByGameIdYearDatestampTypeAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(2).opponent(1).build(),
@@ -3479,7 +3480,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -3492,7 +3493,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForGameYearDatestampTeamAndOpponentWhenSearchingByGameIdYearDatestampTeamIdAndOpponent() {
+            void shouldReturnAllEntriesForGameYearDatestampTeamAndOpponentWhenSearchingByGameIdYearDatestampTeamIdAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = Collections.singletonList(
                         // Game ID & Team ID are the key fields, so only one record is possible
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build()
@@ -3508,13 +3509,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameYearDatestampTeamAndOpponentWhenSearchingByGameIdYearDatestampTeamIdAndOpponent() {
+            void shouldOnlyReturnEntriesForGameYearDatestampTeamAndOpponentWhenSearchingByGameIdYearDatestampTeamIdAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -3532,7 +3533,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -3545,7 +3546,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnNoEntriesForGameYearDatestampTeamAndOpponentWhenSearchingByGameIdYearDatestampTeamIdAndOpponentAndYearIsDifferent() {
+            void shouldReturnNoEntriesForGameYearDatestampTeamAndOpponentWhenSearchingByGameIdYearDatestampTeamIdAndOpponentAndYearIsDifferent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -3563,13 +3564,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnNoEntriesForGameYearDatestampTeamAndOpponentWhenSearchingByGameIdYearDatestampTeamIdAndOpponentAndDatestampIsDifferent() {
+            void shouldReturnNoEntriesForGameYearDatestampTeamAndOpponentWhenSearchingByGameIdYearDatestampTeamIdAndOpponentAndDatestampIsDifferent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -3587,13 +3588,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnNoEntriesForGameYearDatestampTeamAndOpponentWhenSearchingByGameIdYearDatestampTeamIdAndOpponentAndOpponentIsDifferent() {
+            void shouldReturnNoEntriesForGameYearDatestampTeamAndOpponentWhenSearchingByGameIdYearDatestampTeamIdAndOpponentAndOpponentIsDifferent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(2).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(2).build(),
@@ -3611,13 +3612,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnAllEntriesForGameYearTypeTeamAndOpponentWhenSearchingByGameIdYearTypeTeamIdAndOpponent() {
+            void shouldReturnAllEntriesForGameYearTypeTeamAndOpponentWhenSearchingByGameIdYearTypeTeamIdAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = Collections.singletonList(
                         // Game ID & Team ID are the key fields, so only one record is possible
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build()
@@ -3633,13 +3634,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameYearTypeTeamAndOpponentWhenSearchingByGameIdYearTypeTeamIdAndOpponent() {
+            void shouldOnlyReturnEntriesForGameYearTypeTeamAndOpponentWhenSearchingByGameIdYearTypeTeamIdAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -3657,7 +3658,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -3670,7 +3671,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnNoEntriesForGameYearTypeTeamAndOpponentWhenSearchingByGameIdYearTypeTeamIdAndOpponentAndYearIsDifferent() {
+            void shouldReturnNoEntriesForGameYearTypeTeamAndOpponentWhenSearchingByGameIdYearTypeTeamIdAndOpponentAndYearIsDifferent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -3688,13 +3689,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnNoEntriesForGameYearTypeTeamAndOpponentWhenSearchingByGameIdYearTypeTeamIdAndOpponentAndTypeIsDifferent() {
+            void shouldReturnNoEntriesForGameYearTypeTeamAndOpponentWhenSearchingByGameIdYearTypeTeamIdAndOpponentAndTypeIsDifferent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(1).opponent(1).build(),
@@ -3712,13 +3713,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnNoEntriesForGameYearTypeTeamAndOpponentWhenSearchingByGameIdYearTypeTeamIdAndOpponentAndOpponentIsDifferent() {
+            void shouldReturnNoEntriesForGameYearTypeTeamAndOpponentWhenSearchingByGameIdYearTypeTeamIdAndOpponentAndOpponentIsDifferent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(2).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(2).build(),
@@ -3736,13 +3737,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnAllEntriesForGameDatestampTypeTeamAndOpponentWhenSearchingByGameIdDatestampTypeTeamIdAndOpponent() {
+            void shouldReturnAllEntriesForGameDatestampTypeTeamAndOpponentWhenSearchingByGameIdDatestampTypeTeamIdAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = Collections.singletonList(
                         // Game ID & Team ID are the key fields, so only one record is possible
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build()
@@ -3758,13 +3759,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForGameDatestampTypeTeamAndOpponentWhenSearchingByGameIdDatestampTypeTeamIdAndOpponent() {
+            void shouldOnlyReturnEntriesForGameDatestampTypeTeamAndOpponentWhenSearchingByGameIdDatestampTypeTeamIdAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -3782,7 +3783,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -3795,7 +3796,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnNoEntriesForGameDatestampTypeTeamAndOpponentWhenSearchingByGameIdDatestampTypeTeamIdAndOpponentAndDatestampIsDifferent() {
+            void shouldReturnNoEntriesForGameDatestampTypeTeamAndOpponentWhenSearchingByGameIdDatestampTypeTeamIdAndOpponentAndDatestampIsDifferent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -3813,13 +3814,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnNoEntriesForGameDatestampTypeTeamAndOpponentWhenSearchingByGameIdDatestampTypeTeamIdAndOpponentAndTypeIsDifferent() {
+            void shouldReturnNoEntriesForGameDatestampTypeTeamAndOpponentWhenSearchingByGameIdDatestampTypeTeamIdAndOpponentAndTypeIsDifferent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(1).opponent(1).build(),
@@ -3837,13 +3838,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnNoEntriesForGameDatestampTypeTeamAndOpponentWhenSearchingByGameIdDatestampTypeTeamIdAndOpponentAndOpponentIsDifferent() {
+            void shouldReturnNoEntriesForGameDatestampTypeTeamAndOpponentWhenSearchingByGameIdDatestampTypeTeamIdAndOpponentAndOpponentIsDifferent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(2).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(2).build(),
@@ -3861,13 +3862,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnAllEntriesForYearDatestampTypeTeamAndOpponentWhenSearchingByYearDatestampTypeTeamIdAndOpponent() {
+            void shouldReturnAllEntriesForYearDatestampTypeTeamAndOpponentWhenSearchingByYearDatestampTypeTeamIdAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -3884,13 +3885,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearDatestampTypeTeamAndOpponentWhenSearchingByYearDatestampTypeTeamIdAndOpponent() {
+            void shouldOnlyReturnEntriesForYearDatestampTypeTeamAndOpponentWhenSearchingByYearDatestampTypeTeamIdAndOpponent() throws InvalidCursorException {
                 final List<TeamGame> teamGameList = List.of(
                         TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                         TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -3917,7 +3918,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .opponent(1)
                         .build();
 
-                final List<TeamGameResponse> result = searchService.fetchAll(request);
+                final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -3931,7 +3932,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
         }
 
         @Test
-        void shouldReturnMatchingEntryWhenSearchingByAllParameters() {
+        void shouldReturnMatchingEntryWhenSearchingByAllParameters() throws InvalidCursorException {
             final List<TeamGame> teamGameList = Collections.singletonList(
                     // Game ID & Team ID are the key fields, so only one record is possible
                     TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build()
@@ -3948,13 +3949,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                     .opponent(1)
                     .build();
 
-            final List<TeamGameResponse> result = searchService.fetchAll(request);
+            final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
             assertEquals(1, result.size());
         }
 
         @Test
-        void shouldOnlyReturnMatchingEntryWhenSearchingByAllParameters() {
+        void shouldOnlyReturnMatchingEntryWhenSearchingByAllParameters() throws InvalidCursorException {
             final List<TeamGame> teamGameList = List.of(
                     TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                     TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -3973,7 +3974,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                     .opponent(1)
                     .build();
 
-            final List<TeamGameResponse> result = searchService.fetchAll(request);
+            final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
             assertEquals(1, result.size());
             assertEquals(1, result.stream().filter(t ->
@@ -3987,7 +3988,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
         }
 
         @Test
-        void shouldNotReturnMatchingEntriyWhenSearchingByAllParametersAndYearIsDifferent() {
+        void shouldNotReturnMatchingEntriyWhenSearchingByAllParametersAndYearIsDifferent() throws InvalidCursorException {
             final List<TeamGame> teamGameList = List.of(
                     TeamGame.builder().gameId(1).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                     TeamGame.builder().gameId(2).year("2001").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -4006,13 +4007,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                     .opponent(1)
                     .build();
 
-            final List<TeamGameResponse> result = searchService.fetchAll(request);
+            final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
             assertEquals(0, result.size());
         }
 
         @Test
-        void shouldNotReturnMatchingEntriyWhenSearchingByAllParametersAndDatestampIsDifferent() {
+        void shouldNotReturnMatchingEntriyWhenSearchingByAllParametersAndDatestampIsDifferent() throws InvalidCursorException {
             final List<TeamGame> teamGameList = List.of(
                     TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
                     TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-17")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(1).build(),
@@ -4031,13 +4032,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                     .opponent(1)
                     .build();
 
-            final List<TeamGameResponse> result = searchService.fetchAll(request);
+            final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
             assertEquals(0, result.size());
         }
 
         @Test
-        void shouldNotReturnMatchingEntriyWhenSearchingByAllParametersAndTypeIsDifferent() {
+        void shouldNotReturnMatchingEntriyWhenSearchingByAllParametersAndTypeIsDifferent() throws InvalidCursorException {
             final List<TeamGame> teamGameList = List.of(
                     TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(1).opponent(1).build(),
                     TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.REGULAR_SEASON.getValue()).teamId(1).opponent(1).build(),
@@ -4056,13 +4057,13 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                     .opponent(1)
                     .build();
 
-            final List<TeamGameResponse> result = searchService.fetchAll(request);
+            final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
             assertEquals(0, result.size());
         }
 
         @Test
-        void shouldNotReturnMatchingEntriyWhenSearchingByAllParametersAndOpponentIsDifferent() {
+        void shouldNotReturnMatchingEntriyWhenSearchingByAllParametersAndOpponentIsDifferent() throws InvalidCursorException {
             final List<TeamGame> teamGameList = List.of(
                     TeamGame.builder().gameId(1).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(2).build(),
                     TeamGame.builder().gameId(2).year("2000").datestamp(LocalDate.parse("2000-03-16")).type(GameType.PRESEASON.getValue()).teamId(1).opponent(2).build(),
@@ -4081,7 +4082,7 @@ class TeamGameSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                     .opponent(1)
                     .build();
 
-            final List<TeamGameResponse> result = searchService.fetchAll(request);
+            final List<TeamGameResponse> result = searchService.fetchPage(request, null, null).getResources();
 
             assertEquals(0, result.size());
         }
@@ -6,6 +6,7 @@ import org.natc.app.entity.domain.GameType;
 import org.natc.app.entity.domain.TeamOffenseSummary;
 import org.natc.app.entity.request.TeamOffenseSummarySearchRequest;
 import org.natc.app.entity.response.TeamOffenseSummaryResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.natc.app.repository.TeamOffenseSummaryRepository;
 import org.natc.app.service.NATCServiceIntegrationTest;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,10 +27,10 @@ class TeamOffenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
     private TeamOffenseSummarySearchService searchService;
 
     @Nested
-    class FetchAll {
+    class FetchPage {
 
         @Test
-        void shouldReturnATeamOffenseSummaryFromTheDatabaseMappedToAResponse() {
+        void shouldReturnATeamOffenseSummaryFromTheDatabaseMappedToAResponse() throws InvalidCursorException {
             final TeamOffenseSummary teamOffenseSummary = TeamOffenseSummary.builder()
                     .year("2004")
                     .teamId(16)
@@ -42,7 +43,7 @@ class TeamOffenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
 
             repository.save(teamOffenseSummary);
 
-            final List<TeamOffenseSummaryResponse> result = searchService.fetchAll(new TeamOffenseSummarySearchRequest());
+            final List<TeamOffenseSummaryResponse> result = searchService.fetchPage(new TeamOffenseSummarySearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -58,7 +59,7 @@ class TeamOffenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
         }
 
         @Test
-        void shouldMapAllTeamFieldsToTheResponse() {
+        void shouldMapAllTeamFieldsToTheResponse() throws InvalidCursorException {
             final TeamOffenseSummary teamOffenseSummary = TeamOffenseSummary.builder()
                     .year("2016")
                     .type(GameType.REGULAR_SEASON.getValue())
@@ -81,7 +82,7 @@ class TeamOffenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
 
             repository.save(teamOffenseSummary);
 
-            final List<TeamOffenseSummaryResponse> result = searchService.fetchAll(new TeamOffenseSummarySearchRequest());
+            final List<TeamOffenseSummaryResponse> result = searchService.fetchPage(new TeamOffenseSummarySearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -107,7 +108,7 @@ class TeamOffenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
         }
 
         @Test
-        void shouldReturnAllEntriesWhenSearchingWithoutValues() {
+        void shouldReturnAllEntriesWhenSearchingWithoutValues() throws InvalidCursorException {
             final List<TeamOffenseSummary> teamOffenseSummaries = List.of(
                     TeamOffenseSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).teamId(1).build(),
                     TeamOffenseSummary.builder().year("2001").type(GameType.REGULAR_SEASON.getValue()).teamId(2).build(),
@@ -116,14 +117,14 @@ class TeamOffenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
 
             repository.saveAll(teamOffenseSummaries);
 
-            final List<TeamOffenseSummaryResponse> result = searchService.fetchAll(new TeamOffenseSummarySearchRequest());
+            final List<TeamOffenseSummaryResponse> result = searchService.fetchPage(new TeamOffenseSummarySearchRequest(), null, null).getResources();
 
             assertEquals(3, result.size());
         }
 
         @Test
-        void shouldReturnNoEntriesWhenSearchingGivenNoDataInTheDatabase() {
-            final List<TeamOffenseSummaryResponse> result = searchService.fetchAll(new TeamOffenseSummarySearchRequest());
+        void shouldReturnNoEntriesWhenSearchingGivenNoDataInTheDatabase() throws InvalidCursorException {
+            final List<TeamOffenseSummaryResponse> result = searchService.fetchPage(new TeamOffenseSummarySearchRequest(), null, null).getResources();
 
             assertEquals(0, result.size());
         }
@@ -132,7 +133,7 @@ class TeamOffenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
         class WithOneSearchParameter {
 
             @Test
-            void shouldReturnAllEntriesForYearWhenSearchingByYear() {
+            void shouldReturnAllEntriesForYearWhenSearchingByYear() throws InvalidCursorException {
                 final List<TeamOffenseSummary> teamOffenseSummaries = List.of(
                         TeamOffenseSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).teamId(1).build(),
                         TeamOffenseSummary.builder().year("2000").type(GameType.REGULAR_SEASON.getValue()).teamId(2).build(),
@@ -145,13 +146,13 @@ class TeamOffenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .year("2000")
                         .build();
 
-                final List<TeamOffenseSummaryResponse> result = searchService.fetchAll(request);
+                final List<TeamOffenseSummaryResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearWhenSearchingByYear() {
+            void shouldOnlyReturnEntriesForYearWhenSearchingByYear() throws InvalidCursorException {
                 final List<TeamOffenseSummary> teamOffenseSummaries = List.of(
                         TeamOffenseSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).teamId(1).build(),
                         TeamOffenseSummary.builder().year("2001").type(GameType.PRESEASON.getValue()).teamId(1).build(),
@@ -166,14 +167,14 @@ class TeamOffenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .year("2000")
                         .build();
 
-                final List<TeamOffenseSummaryResponse> result = searchService.fetchAll(request);
+                final List<TeamOffenseSummaryResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getYear().equals("2000")).count());
             }
 
             @Test
-            void shouldReturnAllEntriesForTypeWhenSearchingByType() {
+            void shouldReturnAllEntriesForTypeWhenSearchingByType() throws InvalidCursorException {
                 final List<TeamOffenseSummary> teamOffenseSummaries = List.of(
                         TeamOffenseSummary.builder().year("2000").type(GameType.REGULAR_SEASON.getValue()).teamId(1).build(),
                         TeamOffenseSummary.builder().year("2001").type(GameType.REGULAR_SEASON.getValue()).teamId(2).build(),
@@ -186,13 +187,13 @@ class TeamOffenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .type(GameType.REGULAR_SEASON)
                         .build();
 
-                final List<TeamOffenseSummaryResponse> result = searchService.fetchAll(request);
+                final List<TeamOffenseSummaryResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTypeWhenSearchingByType() {
+            void shouldOnlyReturnEntriesForTypeWhenSearchingByType() throws InvalidCursorException {
                 final List<TeamOffenseSummary> teamOffenseSummaries = List.of(
                         TeamOffenseSummary.builder().year("2000").type(GameType.REGULAR_SEASON.getValue()).teamId(1).build(),
                         TeamOffenseSummary.builder().year("2000").type(GameType.POSTSEASON.getValue()).teamId(1).build(),
@@ -207,14 +208,14 @@ class TeamOffenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .type(GameType.REGULAR_SEASON)
                         .build();
 
-                final List<TeamOffenseSummaryResponse> result = searchService.fetchAll(request);
+                final List<TeamOffenseSummaryResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getType().equals(GameType.REGULAR_SEASON)).count());
             }
 
             @Test
-            void shouldReturnAllEntriesForTeamWhenSearchingByTeamId() {
+            void shouldReturnAllEntriesForTeamWhenSearchingByTeamId() throws InvalidCursorException {
                 final List<TeamOffenseSummary> teamOffenseSummaries = List.of(
                         TeamOffenseSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).teamId(1).build(),
                         TeamOffenseSummary.builder().year("2001").type(GameType.REGULAR_SEASON.getValue()).teamId(1).build(),
@@ -227,13 +228,13 @@ class TeamOffenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .teamId(1)
                         .build();
 
-                final List<TeamOffenseSummaryResponse> result = searchService.fetchAll(request);
+                final List<TeamOffenseSummaryResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTeamWhenSearchingByTeamId() {
+            void shouldOnlyReturnEntriesForTeamWhenSearchingByTeamId() throws InvalidCursorException {
                 final List<TeamOffenseSummary> teamOffenseSummaries = List.of(
                         TeamOffenseSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).teamId(1).build(),
                         TeamOffenseSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).teamId(2).build(),
@@ -248,7 +249,7 @@ class TeamOffenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .teamId(1)
                         .build();
 
-                final List<TeamOffenseSummaryResponse> result = searchService.fetchAll(request);
+                final List<TeamOffenseSummaryResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getTeamId().equals(1)).count());
@@ -259,7 +260,7 @@ class TeamOffenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
         class WithTwoSearchParameters {
 
             @Test
-            void shouldReturnAllEntriesForYearAndTypeWhenSearchingByYearAndType() {
+            void shouldReturnAllEntriesForYearAndTypeWhenSearchingByYearAndType() throws InvalidCursorException {
                 final List<TeamOffenseSummary> teamOffenseSummaries = List.of(
                         TeamOffenseSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).teamId(1).build(),
                         TeamOffenseSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).teamId(2).build(),
@@ -273,13 +274,13 @@ class TeamOffenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<TeamOffenseSummaryResponse> result = searchService.fetchAll(request);
+                final List<TeamOffenseSummaryResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearAndTypeWhenSearchingByYearAndType() {
+            void shouldOnlyReturnEntriesForYearAndTypeWhenSearchingByYearAndType() throws InvalidCursorException {
                 final List<TeamOffenseSummary> teamOffenseSummaries = List.of(
                         TeamOffenseSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).teamId(1).build(),
                         TeamOffenseSummary.builder().year("2001").type(GameType.PRESEASON.getValue()).teamId(1).build(),
@@ -297,7 +298,7 @@ class TeamOffenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<TeamOffenseSummaryResponse> result = searchService.fetchAll(request);
+                final List<TeamOffenseSummaryResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -306,7 +307,7 @@ class TeamOffenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
             }
 
             @Test
-            void shouldReturnAllEntriesForYearAndTeamWhenSearchingByYearAndTeamId() {
+            void shouldReturnAllEntriesForYearAndTeamWhenSearchingByYearAndTeamId() throws InvalidCursorException {
                 final List<TeamOffenseSummary> teamOffenseSummaries = List.of(
                         TeamOffenseSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).teamId(1).build(),
                         TeamOffenseSummary.builder().year("2000").type(GameType.REGULAR_SEASON.getValue()).teamId(1).build(),
@@ -320,13 +321,13 @@ class TeamOffenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .teamId(1)
                         .build();
 
-                final List<TeamOffenseSummaryResponse> result = searchService.fetchAll(request);
+                final List<TeamOffenseSummaryResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearAndTeamWhenSearchingByYearAndTeamId() {
+            void shouldOnlyReturnEntriesForYearAndTeamWhenSearchingByYearAndTeamId() throws InvalidCursorException {
                 final List<TeamOffenseSummary> teamOffenseSummaries = List.of(
                         TeamOffenseSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).teamId(1).build(),
                         TeamOffenseSummary.builder().year("2001").type(GameType.PRESEASON.getValue()).teamId(1).build(),
@@ -344,7 +345,7 @@ class TeamOffenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .teamId(1)
                         .build();
 
-                final List<TeamOffenseSummaryResponse> result = searchService.fetchAll(request);
+                final List<TeamOffenseSummaryResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -353,7 +354,7 @@ class TeamOffenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
             }
 
             @Test
-            void shouldReturnAllEntriesForTypeAndTeamWhenSearchingByTypeAndTeamId() {
+            void shouldReturnAllEntriesForTypeAndTeamWhenSearchingByTypeAndTeamId() throws InvalidCursorException {
                 final List<TeamOffenseSummary> teamOffenseSummaries = List.of(
                         TeamOffenseSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).teamId(1).build(),
                         TeamOffenseSummary.builder().year("2001").type(GameType.PRESEASON.getValue()).teamId(1).build(),
@@ -367,13 +368,13 @@ class TeamOffenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<TeamOffenseSummaryResponse> result = searchService.fetchAll(request);
+                final List<TeamOffenseSummaryResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTypeAndTeamWhenSearchingByTypeAndTeamId() {
+            void shouldOnlyReturnEntriesForTypeAndTeamWhenSearchingByTypeAndTeamId() throws InvalidCursorException {
                 final List<TeamOffenseSummary> teamOffenseSummaries = List.of(
                         TeamOffenseSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).teamId(1).build(),
                         TeamOffenseSummary.builder().year("2000").type(GameType.REGULAR_SEASON.getValue()).teamId(1).build(),
@@ -391,7 +392,7 @@ class TeamOffenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                         .type(GameType.PRESEASON)
                         .build();
 
-                final List<TeamOffenseSummaryResponse> result = searchService.fetchAll(request);
+                final List<TeamOffenseSummaryResponse> result = searchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -401,7 +402,7 @@ class TeamOffenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
         }
 
         @Test
-        void shouldReturnMatchingEntryWhenSearchingByAllParameters() {
+        void shouldReturnMatchingEntryWhenSearchingByAllParameters() throws InvalidCursorException {
             final List<TeamOffenseSummary> teamOffenseSummaries = Collections.singletonList(
                     TeamOffenseSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).teamId(1).build()
             );
@@ -414,13 +415,13 @@ class TeamOffenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                     .teamId(1)
                     .build();
 
-            final List<TeamOffenseSummaryResponse> result = searchService.fetchAll(request);
+            final List<TeamOffenseSummaryResponse> result = searchService.fetchPage(request, null, null).getResources();
 
             assertEquals(1, result.size());
         }
 
         @Test
-        void shouldOnlyReturnMatchingEntryWhenSearchingByAllParameters() {
+        void shouldOnlyReturnMatchingEntryWhenSearchingByAllParameters() throws InvalidCursorException {
             final List<TeamOffenseSummary> teamOffenseSummaries = List.of(
                     TeamOffenseSummary.builder().year("2000").type(GameType.PRESEASON.getValue()).teamId(1).build(),
                     TeamOffenseSummary.builder().year("2001").type(GameType.PRESEASON.getValue()).teamId(1).build(),
@@ -436,7 +437,7 @@ class TeamOffenseSummarySearchServiceIntegrationTest extends NATCServiceIntegrat
                     .teamId(1)
                     .build();
 
-            final List<TeamOffenseSummaryResponse> result = searchService.fetchAll(request);
+            final List<TeamOffenseSummaryResponse> result = searchService.fetchPage(request, null, null).getResources();
 
             assertEquals(1, result.size());
             assertEquals(1, result.stream().filter(t ->
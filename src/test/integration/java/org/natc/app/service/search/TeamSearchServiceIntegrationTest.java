@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.natc.app.entity.domain.Team;
 import org.natc.app.entity.request.TeamSearchRequest;
 import org.natc.app.entity.response.TeamResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.natc.app.repository.TeamRepository;
 import org.natc.app.service.NATCServiceIntegrationTest;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,10 +26,10 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
     private TeamSearchService teamSearchService;
 
     @Nested
-    class FetchAll {
+    class FetchPage {
 
         @Test
-        void shouldReturnATeamFromTheDatabaseMappedToAResponse() {
+        void shouldReturnATeamFromTheDatabaseMappedToAResponse() throws InvalidCursorException {
             final Team team = Team.builder()
                     .teamId(1)
                     .year("1994")
@@ -39,7 +40,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
 
             teamRepository.save(team);
 
-            final List<TeamResponse> result = teamSearchService.fetchAll(new TeamSearchRequest());
+            final List<TeamResponse> result = teamSearchService.fetchPage(new TeamSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -53,7 +54,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
         }
 
         @Test
-        void shouldMapAllTeamFieldsToTheTeamResponse() {
+        void shouldMapAllTeamFieldsToTheTeamResponse() throws InvalidCursorException {
             final Team team = Team.builder()
                     .teamId(123)
                     .year("1999")
@@ -93,7 +94,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
 
             teamRepository.save(team);
 
-            final List<TeamResponse> result = teamSearchService.fetchAll(new TeamSearchRequest());
+            final List<TeamResponse> result = teamSearchService.fetchPage(new TeamSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -136,7 +137,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
         }
 
         @Test
-        void shouldReturnAllEntriesWhenSearchingWithoutValues() {
+        void shouldReturnAllEntriesWhenSearchingWithoutValues() throws InvalidCursorException {
             final List<Team> teamList = List.of(
                     Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                     Team.builder().teamId(2).year("2001").division(2).conference(2).allstarTeam(1).build(),
@@ -147,16 +148,16 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
 
             final TeamSearchRequest request = TeamSearchRequest.builder().build();
 
-            final List<TeamResponse> result = teamSearchService.fetchAll(request);
+            final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
             assertEquals(3, result.size());
         }
 
         @Test
-        void shouldReturnNoEntriesWhenSearchingGivenNoDataInTheDatabase() {
+        void shouldReturnNoEntriesWhenSearchingGivenNoDataInTheDatabase() throws InvalidCursorException {
             final TeamSearchRequest request = TeamSearchRequest.builder().build();
 
-            final List<TeamResponse> result = teamSearchService.fetchAll(request);
+            final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
             assertEquals(0, result.size());
         }
@@ -165,7 +166,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
         class WithOneSearchParameter {
 
             @Test
-            void shouldReturnAllEntriesForTeamWhenSearchingByTeamId() {
+            void shouldReturnAllEntriesForTeamWhenSearchingByTeamId() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(1).year("2001").division(2).conference(2).allstarTeam(1).build(),
@@ -178,13 +179,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTeamWhenSearchingByTeamId() {
+            void shouldOnlyReturnEntriesForTeamWhenSearchingByTeamId() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2000").division(1).conference(1).allstarTeam(0).build(),
@@ -199,14 +200,14 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .teamId(1)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getTeamId().equals(1)).count());
             }
 
             @Test
-            void shouldReturnAllEntriesForYearWhenSearchingByYear() {
+            void shouldReturnAllEntriesForYearWhenSearchingByYear() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2000").division(2).conference(2).allstarTeam(1).build(),
@@ -219,13 +220,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .year("2000")
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearWhenSearchingByYear() {
+            void shouldOnlyReturnEntriesForYearWhenSearchingByYear() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(1).year("2001").division(1).conference(1).allstarTeam(0).build(),
@@ -240,14 +241,14 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .year("2000")
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getYear().equals("2000")).count());
             }
 
             @Test
-            void shouldReturnAllEntriesForConferenceWhenSearchingByConferenceId() {
+            void shouldReturnAllEntriesForConferenceWhenSearchingByConferenceId() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2002").division(2).conference(1).allstarTeam(1).build(),
@@ -260,13 +261,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .conferenceId(1)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForConferenceWhenSearchingByConferenceId() {
+            void shouldOnlyReturnEntriesForConferenceWhenSearchingByConferenceId() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(1).year("2001").division(1).conference(2).allstarTeam(0).build(),
@@ -281,14 +282,14 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .conferenceId(1)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getConferenceId().equals(1)).count());
             }
 
             @Test
-            void shouldReturnAllEntriesForDivisionWhenSearchingByDivisionId() {
+            void shouldReturnAllEntriesForDivisionWhenSearchingByDivisionId() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2002").division(1).conference(2).allstarTeam(1).build(),
@@ -301,13 +302,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .divisionId(1)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForDivisionWhenSearchingByDivisionId() {
+            void shouldOnlyReturnEntriesForDivisionWhenSearchingByDivisionId() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(1).year("2001").division(2).conference(1).allstarTeam(0).build(),
@@ -322,14 +323,14 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .divisionId(1)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> t.getDivisionId().equals(1)).count());
             }
 
             @Test
-            void shouldReturnAllEntriesForAllstarTeamWhenSearchingByAllstarTeam() {
+            void shouldReturnAllEntriesForAllstarTeamWhenSearchingByAllstarTeam() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2002").division(2).conference(2).allstarTeam(0).build(),
@@ -342,13 +343,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .allstarTeam(false)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForAllstarTeamWhenSearchingByAllstarTeam() {
+            void shouldOnlyReturnEntriesForAllstarTeamWhenSearchingByAllstarTeam() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(1).year("2001").division(1).conference(1).allstarTeam(1).build(),
@@ -363,7 +364,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .allstarTeam(false)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t -> !t.getAllstarTeam()).count());
@@ -374,7 +375,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
         class WithTwoSearchParameters {
 
             @Test
-            void shouldReturnAllEntriesForTeamAndYearWhenSearchingByTeamIdAndYear() {
+            void shouldReturnAllEntriesForTeamAndYearWhenSearchingByTeamIdAndYear() throws InvalidCursorException {
                 final List<Team> teamList = Collections.singletonList(
                         // Team ID & Year are the key fields, so only one record is possible
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build()
@@ -387,13 +388,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .year("2000")
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTeamAndYearWhenSearchingByTeamIdAndYear() {
+            void shouldOnlyReturnEntriesForTeamAndYearWhenSearchingByTeamIdAndYear() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2000").division(1).conference(1).allstarTeam(0).build(),
@@ -407,7 +408,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .year("2000")
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -416,7 +417,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForTeamAndConferenceWhenSearchingByTeamIdAndConferenceId() {
+            void shouldReturnAllEntriesForTeamAndConferenceWhenSearchingByTeamIdAndConferenceId() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(1).year("2001").division(2).conference(1).allstarTeam(1).build(),
@@ -430,13 +431,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .conferenceId(1)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTeamAndConferenceWhenSearchingByTeamIdAndConferenceId() {
+            void shouldOnlyReturnEntriesForTeamAndConferenceWhenSearchingByTeamIdAndConferenceId() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2001").division(1).conference(1).allstarTeam(0).build(),
@@ -454,7 +455,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .conferenceId(1)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -463,7 +464,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForTeamAndDivisionWhenSearchingByTeamIdAndDivisionId() {
+            void shouldReturnAllEntriesForTeamAndDivisionWhenSearchingByTeamIdAndDivisionId() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(1).year("2001").division(1).conference(2).allstarTeam(1).build(),
@@ -477,13 +478,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .divisionId(1)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTeamAndDivisionWhenSearchingByTeamIdAndDivisionId() {
+            void shouldOnlyReturnEntriesForTeamAndDivisionWhenSearchingByTeamIdAndDivisionId() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2001").division(1).conference(1).allstarTeam(0).build(),
@@ -501,7 +502,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .divisionId(1)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -510,7 +511,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForTeamAndAllstarTeamWhenSearchingByTeamIdAndAllstarTeam() {
+            void shouldReturnAllEntriesForTeamAndAllstarTeamWhenSearchingByTeamIdAndAllstarTeam() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(1).year("2001").division(2).conference(2).allstarTeam(0).build(),
@@ -524,13 +525,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .allstarTeam(false)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTeamAndAllstarTeamWhenSearchingByTeamIdAndAllstarTeam() {
+            void shouldOnlyReturnEntriesForTeamAndAllstarTeamWhenSearchingByTeamIdAndAllstarTeam() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2001").division(1).conference(1).allstarTeam(0).build(),
@@ -548,7 +549,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .allstarTeam(false)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -557,7 +558,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForYearAndConferenceWhenSearchingByYearAndConferenceId() {
+            void shouldReturnAllEntriesForYearAndConferenceWhenSearchingByYearAndConferenceId() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2000").division(2).conference(1).allstarTeam(1).build(),
@@ -571,13 +572,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .conferenceId(1)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearAndConferenceWhenSearchingByYearAndConferenceId() {
+            void shouldOnlyReturnEntriesForYearAndConferenceWhenSearchingByYearAndConferenceId() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2001").division(1).conference(1).allstarTeam(0).build(),
@@ -595,7 +596,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .conferenceId(1)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -604,7 +605,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForYearAndDivisionWhenSearchingByYearAndDivisionId() {
+            void shouldReturnAllEntriesForYearAndDivisionWhenSearchingByYearAndDivisionId() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2000").division(1).conference(2).allstarTeam(1).build(),
@@ -618,13 +619,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .divisionId(1)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearAndDivisionWhenSearchingByYearAndDivisionId() {
+            void shouldOnlyReturnEntriesForYearAndDivisionWhenSearchingByYearAndDivisionId() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2001").division(1).conference(1).allstarTeam(0).build(),
@@ -642,7 +643,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .divisionId(1)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -651,7 +652,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForYearAndAllstarTeamWhenSearchingByYearAndAllstarTeam() {
+            void shouldReturnAllEntriesForYearAndAllstarTeamWhenSearchingByYearAndAllstarTeam() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2000").division(2).conference(2).allstarTeam(0).build(),
@@ -665,13 +666,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .allstarTeam(false)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearAndAllstarTeamWhenSearchingByYearAndAllstarTeam() {
+            void shouldOnlyReturnEntriesForYearAndAllstarTeamWhenSearchingByYearAndAllstarTeam() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2001").division(1).conference(1).allstarTeam(0).build(),
@@ -689,7 +690,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .allstarTeam(false)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -698,7 +699,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForConferenceAndDivisionWhenSearchingByConferenceIdAndDivisionId() {
+            void shouldReturnAllEntriesForConferenceAndDivisionWhenSearchingByConferenceIdAndDivisionId() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2001").division(1).conference(1).allstarTeam(1).build(),
@@ -712,13 +713,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .divisionId(1)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForConferenceAndDivisionWhenSearchingByConferenceIdAndDivisionId() {
+            void shouldOnlyReturnEntriesForConferenceAndDivisionWhenSearchingByConferenceIdAndDivisionId() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(1).year("2001").division(2).conference(1).allstarTeam(0).build(),
@@ -736,7 +737,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .divisionId(1)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -745,7 +746,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForConferenceAndAllstarTeamWhenSearchingByConferenceIdAndAllstarTeam() {
+            void shouldReturnAllEntriesForConferenceAndAllstarTeamWhenSearchingByConferenceIdAndAllstarTeam() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2001").division(2).conference(1).allstarTeam(0).build(),
@@ -759,13 +760,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .allstarTeam(false)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForConferenceAndAllstarTeamWhenSearchingByConferenceIdAndAllstarTeam() {
+            void shouldOnlyReturnEntriesForConferenceAndAllstarTeamWhenSearchingByConferenceIdAndAllstarTeam() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(1).year("2001").division(1).conference(2).allstarTeam(0).build(),
@@ -783,7 +784,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .allstarTeam(false)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -792,7 +793,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForDivisionAndAllstarTeamWhenSearchingByDivisionIdAndAllstarTeam() {
+            void shouldReturnAllEntriesForDivisionAndAllstarTeamWhenSearchingByDivisionIdAndAllstarTeam() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2001").division(1).conference(2).allstarTeam(0).build(),
@@ -806,13 +807,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .allstarTeam(false)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForDivisionAndAllstarTeamWhenSearchingByDivisionIdAndAllstarTeam() {
+            void shouldOnlyReturnEntriesForDivisionAndAllstarTeamWhenSearchingByDivisionIdAndAllstarTeam() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(1).year("2001").division(2).conference(1).allstarTeam(0).build(),
@@ -830,7 +831,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .allstarTeam(false)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -843,7 +844,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
         class WithThreeSearchParameters {
 
             @Test
-            void shouldReturnAllEntriesForTeamYearAndConferenceWhenSearchingByTeamIdYearAndConferenceId() {
+            void shouldReturnAllEntriesForTeamYearAndConferenceWhenSearchingByTeamIdYearAndConferenceId() throws InvalidCursorException {
                 final List<Team> teamList = Collections.singletonList(
                         // Team ID & Year are the key fields, so only one record is possible
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build()
@@ -857,13 +858,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .conferenceId(1)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTeamYearAndConferenceWhenSearchingByTeamIdYearAndConferenceId() {
+            void shouldOnlyReturnEntriesForTeamYearAndConferenceWhenSearchingByTeamIdYearAndConferenceId() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2000").division(1).conference(1).allstarTeam(0).build(),
@@ -878,7 +879,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .conferenceId(1)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -887,7 +888,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnNoEntriesForTeamYearAndConferenceWhenSearchingByTeamIdYearAndConferenceIdAndConferenceIsDifferent() {
+            void shouldReturnNoEntriesForTeamYearAndConferenceWhenSearchingByTeamIdYearAndConferenceIdAndConferenceIsDifferent() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(2).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2000").division(1).conference(2).allstarTeam(0).build(),
@@ -904,13 +905,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .conferenceId(1)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnAllEntriesForTeamYearAndDivisionWhenSearchingByTeamIdYearAndDivisionId() {
+            void shouldReturnAllEntriesForTeamYearAndDivisionWhenSearchingByTeamIdYearAndDivisionId() throws InvalidCursorException {
                 final List<Team> teamList = Collections.singletonList(
                         // Team ID & Year are the key fields, so only one record is possible
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build()
@@ -924,13 +925,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .divisionId(1)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTeamYearAndDivisionWhenSearchingByTeamIdYearAndDivisionId() {
+            void shouldOnlyReturnEntriesForTeamYearAndDivisionWhenSearchingByTeamIdYearAndDivisionId() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2000").division(1).conference(1).allstarTeam(0).build(),
@@ -947,7 +948,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .divisionId(1)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -956,7 +957,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnNoEntriesForTeamYearAndDivisionWhenSearchingByTeamIdYearAndDivisionIdAndDivisionIsDifferent() {
+            void shouldReturnNoEntriesForTeamYearAndDivisionWhenSearchingByTeamIdYearAndDivisionIdAndDivisionIsDifferent() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(2).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2000").division(2).conference(1).allstarTeam(0).build(),
@@ -973,13 +974,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .divisionId(1)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnAllEntriesForTeamYearAndAllstarTeamWhenSearchingByTeamIdYearAndAllstarTeam() {
+            void shouldReturnAllEntriesForTeamYearAndAllstarTeamWhenSearchingByTeamIdYearAndAllstarTeam() throws InvalidCursorException {
                 final List<Team> teamList = Collections.singletonList(
                         // Team ID & Year are the key fields, so only one record is possible
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build()
@@ -993,13 +994,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .allstarTeam(false)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTeamYearAndAllstarTeamWhenSearchingByTeamIdYearAndAllstarTeam() {
+            void shouldOnlyReturnEntriesForTeamYearAndAllstarTeamWhenSearchingByTeamIdYearAndAllstarTeam() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2000").division(1).conference(1).allstarTeam(0).build(),
@@ -1016,7 +1017,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .allstarTeam(false)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -1025,7 +1026,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnNoEntriesForTeamYearAndAllstarTeamWhenSearchingByTeamIdYearAndAllstarTeamIdAndAllstarTeamIsDifferent() {
+            void shouldReturnNoEntriesForTeamYearAndAllstarTeamWhenSearchingByTeamIdYearAndAllstarTeamIdAndAllstarTeamIsDifferent() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(1).build(),
                         Team.builder().teamId(2).year("2000").division(1).conference(1).allstarTeam(1).build(),
@@ -1042,13 +1043,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .allstarTeam(false)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnAllEntriesForTeamConferenceAndDivisionWhenSearchingByTeamIdConferenceIdAndDivisionId() {
+            void shouldReturnAllEntriesForTeamConferenceAndDivisionWhenSearchingByTeamIdConferenceIdAndDivisionId() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(1).year("2001").division(1).conference(1).allstarTeam(1).build(),
@@ -1063,13 +1064,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .divisionId(1)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTeamConferenceAndDivisionWhenSearchingByTeamIdConferenceIdAndDivisionId() {
+            void shouldOnlyReturnEntriesForTeamConferenceAndDivisionWhenSearchingByTeamIdConferenceIdAndDivisionId() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2001").division(1).conference(1).allstarTeam(0).build(),
@@ -1090,7 +1091,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .divisionId(1)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1099,7 +1100,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForTeamConferenceAndAllstarTeamWhenSearchingByTeamIdConferenceIdAndAllstarTeam() {
+            void shouldReturnAllEntriesForTeamConferenceAndAllstarTeamWhenSearchingByTeamIdConferenceIdAndAllstarTeam() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(1).year("2001").division(2).conference(1).allstarTeam(0).build(),
@@ -1114,13 +1115,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .allstarTeam(false)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTeamConferenceAndAllstarTeamWhenSearchingByTeamIdConferenceIdAndAllstarTeam() {
+            void shouldOnlyReturnEntriesForTeamConferenceAndAllstarTeamWhenSearchingByTeamIdConferenceIdAndAllstarTeam() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2001").division(1).conference(1).allstarTeam(0).build(),
@@ -1141,7 +1142,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .allstarTeam(false)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1150,7 +1151,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForTeamDivisionAndAllstarTeamWhenSearchingByTeamIdDivisionIdAndAllstarTeam() {
+            void shouldReturnAllEntriesForTeamDivisionAndAllstarTeamWhenSearchingByTeamIdDivisionIdAndAllstarTeam() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(1).year("2001").division(1).conference(2).allstarTeam(0).build(),
@@ -1165,13 +1166,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .allstarTeam(false)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTeamDivisionAndAllstarTeamWhenSearchingByTeamIdDivisionIdAndAllstarTeam() {
+            void shouldOnlyReturnEntriesForTeamDivisionAndAllstarTeamWhenSearchingByTeamIdDivisionIdAndAllstarTeam() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2001").division(1).conference(1).allstarTeam(0).build(),
@@ -1192,7 +1193,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .allstarTeam(false)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1201,7 +1202,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForYearConferenceAndDivisionWhenSearchingByYearConferenceIdAndDivisionId() {
+            void shouldReturnAllEntriesForYearConferenceAndDivisionWhenSearchingByYearConferenceIdAndDivisionId() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2000").division(1).conference(1).allstarTeam(1).build(),
@@ -1216,13 +1217,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .divisionId(1)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearConferenceAndDivisionWhenSearchingByYearConferenceIdAndDivisionId() {
+            void shouldOnlyReturnEntriesForYearConferenceAndDivisionWhenSearchingByYearConferenceIdAndDivisionId() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2002").division(1).conference(1).allstarTeam(0).build(),
@@ -1243,7 +1244,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .divisionId(1)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1252,7 +1253,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForYearConferenceAndAllstarTeamWhenSearchingByYearConferenceIdAndAllstarTeam() {
+            void shouldReturnAllEntriesForYearConferenceAndAllstarTeamWhenSearchingByYearConferenceIdAndAllstarTeam() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2000").division(2).conference(1).allstarTeam(0).build(),
@@ -1267,13 +1268,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .allstarTeam(false)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearConferenceAndAllstarTeamWhenSearchingByYearConferenceIdAndAllstarTeam() {
+            void shouldOnlyReturnEntriesForYearConferenceAndAllstarTeamWhenSearchingByYearConferenceIdAndAllstarTeam() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2002").division(1).conference(1).allstarTeam(0).build(),
@@ -1294,7 +1295,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .allstarTeam(false)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1303,7 +1304,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForYearDivisionAndAllstarTeamWhenSearchingByYearDivisionIdAndAllstarTeam() {
+            void shouldReturnAllEntriesForYearDivisionAndAllstarTeamWhenSearchingByYearDivisionIdAndAllstarTeam() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2000").division(1).conference(2).allstarTeam(0).build(),
@@ -1318,13 +1319,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .allstarTeam(false)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearDivisionAndAllstarTeamWhenSearchingByYearDivisionIdAndAllstarTeam() {
+            void shouldOnlyReturnEntriesForYearDivisionAndAllstarTeamWhenSearchingByYearDivisionIdAndAllstarTeam() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2002").division(1).conference(1).allstarTeam(0).build(),
@@ -1345,7 +1346,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .allstarTeam(false)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1354,7 +1355,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForConferenceDivisionAndAllstarTeamWhenSearchingByConferenceIdDivisionIdAndAllstarTeam() {
+            void shouldReturnAllEntriesForConferenceDivisionAndAllstarTeamWhenSearchingByConferenceIdDivisionIdAndAllstarTeam() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2001").division(1).conference(1).allstarTeam(0).build(),
@@ -1369,13 +1370,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .allstarTeam(false)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForConferenceDivisionAndAllstarTeamWhenSearchingByConferenceIdDivisionIdAndAllstarTeam() {
+            void shouldOnlyReturnEntriesForConferenceDivisionAndAllstarTeamWhenSearchingByConferenceIdDivisionIdAndAllstarTeam() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2000").division(2).conference(1).allstarTeam(0).build(),
@@ -1396,7 +1397,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .allstarTeam(false)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1409,7 +1410,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
         class WithFourSearchParameters {
 
             @Test
-            void shouldReturnAllEntriesForTeamYearConferenceAndDivisionWhenSearchingByTeamIdYearConferenceIdAndDivisionId() {
+            void shouldReturnAllEntriesForTeamYearConferenceAndDivisionWhenSearchingByTeamIdYearConferenceIdAndDivisionId() throws InvalidCursorException {
                 final List<Team> teamList = Collections.singletonList(
                         // Team ID & Year are the key fields, so only one record is possible
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build()
@@ -1424,13 +1425,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .divisionId(1)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTeamYearConferenceAndDivisionWhenSearchingByTeamIdYearConferenceIdAndDivisionId() {
+            void shouldOnlyReturnEntriesForTeamYearConferenceAndDivisionWhenSearchingByTeamIdYearConferenceIdAndDivisionId() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2000").division(1).conference(1).allstarTeam(0).build(),
@@ -1448,7 +1449,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .divisionId(1)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -1460,7 +1461,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnNoEntriesForTeamYearConferenceAndDivisionWhenSearchingByTeamIdYearConferenceIdAndDivisionIdAndConferenceIsDifferent() {
+            void shouldReturnNoEntriesForTeamYearConferenceAndDivisionWhenSearchingByTeamIdYearConferenceIdAndDivisionIdAndConferenceIsDifferent() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(2).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2000").division(1).conference(2).allstarTeam(0).build(),
@@ -1478,13 +1479,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .divisionId(1)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnNoEntriesForTeamYearConferenceAndDivisionWhenSearchingByTeamIdYearConferenceIdAndDivisionIdAndDivisionIsDifferent() {
+            void shouldReturnNoEntriesForTeamYearConferenceAndDivisionWhenSearchingByTeamIdYearConferenceIdAndDivisionIdAndDivisionIsDifferent() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(2).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2000").division(2).conference(1).allstarTeam(0).build(),
@@ -1502,13 +1503,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .divisionId(1)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnAllEntriesForTeamYearConferenceAndAllstarTeamWhenSearchingByTeamIdYearConferenceIdAllstarTeam() {
+            void shouldReturnAllEntriesForTeamYearConferenceAndAllstarTeamWhenSearchingByTeamIdYearConferenceIdAllstarTeam() throws InvalidCursorException {
                 final List<Team> teamList = Collections.singletonList(
                         // Team ID & Year are the key fields, so only one record is possible
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build()
@@ -1523,13 +1524,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .allstarTeam(false)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTeamYearConferenceAndAllstarTeamWhenSearchingByTeamIdYearConferenceIdAllstarTeam() {
+            void shouldOnlyReturnEntriesForTeamYearConferenceAndAllstarTeamWhenSearchingByTeamIdYearConferenceIdAllstarTeam() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2000").division(1).conference(1).allstarTeam(0).build(),
@@ -1547,7 +1548,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .allstarTeam(false)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -1559,7 +1560,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnNoEntriesForTeamYearConferenceAndAllstarTeamWhenSearchingByTeamIdYearConferenceIdAllstarTeamAndConferenceIsDifferent() {
+            void shouldReturnNoEntriesForTeamYearConferenceAndAllstarTeamWhenSearchingByTeamIdYearConferenceIdAllstarTeamAndConferenceIsDifferent() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(2).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2000").division(1).conference(2).allstarTeam(0).build(),
@@ -1577,13 +1578,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .allstarTeam(false)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnNoEntriesForTeamYearConferenceAndAllstarTeamWhenSearchingByTeamIdYearConferenceIdAllstarTeamAndAllstarTeamIsDifferent() {
+            void shouldReturnNoEntriesForTeamYearConferenceAndAllstarTeamWhenSearchingByTeamIdYearConferenceIdAllstarTeamAndAllstarTeamIsDifferent() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(1).build(),
                         Team.builder().teamId(2).year("2000").division(1).conference(1).allstarTeam(1).build(),
@@ -1601,13 +1602,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .allstarTeam(false)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnAllEntriesForTeamYearDivisionAndAllstarTeamWhenSearchingByTeamIdYearDivisionIdAllstarTeam() {
+            void shouldReturnAllEntriesForTeamYearDivisionAndAllstarTeamWhenSearchingByTeamIdYearDivisionIdAllstarTeam() throws InvalidCursorException {
                 final List<Team> teamList = Collections.singletonList(
                         // Team ID & Year are the key fields, so only one record is possible
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build()
@@ -1622,13 +1623,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .allstarTeam(false)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTeamYearDivisionAndAllstarTeamWhenSearchingByTeamIdYearDivisionIdAllstarTeam() {
+            void shouldOnlyReturnEntriesForTeamYearDivisionAndAllstarTeamWhenSearchingByTeamIdYearDivisionIdAllstarTeam() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2000").division(1).conference(1).allstarTeam(0).build(),
@@ -1646,7 +1647,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .allstarTeam(false)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(1, result.size());
                 assertEquals(1, result.stream().filter(t ->
@@ -1658,7 +1659,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnNoEntriesForTeamYearDivisionAndAllstarTeamWhenSearchingByTeamIdYearDivisionIdAllstarTeamAndDivisionIsDifferent() {
+            void shouldReturnNoEntriesForTeamYearDivisionAndAllstarTeamWhenSearchingByTeamIdYearDivisionIdAllstarTeamAndDivisionIsDifferent() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(2).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2000").division(2).conference(1).allstarTeam(0).build(),
@@ -1676,13 +1677,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .allstarTeam(false)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnNoEntriesForTeamDivisionAndAllstarTeamWhenSearchingByTeamIdYearDivisionIdAllstarTeamAndAllstarTeamIsDifferent() {
+            void shouldReturnNoEntriesForTeamDivisionAndAllstarTeamWhenSearchingByTeamIdYearDivisionIdAllstarTeamAndAllstarTeamIsDifferent() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(1).build(),
                         Team.builder().teamId(2).year("2000").division(1).conference(1).allstarTeam(1).build(),
@@ -1700,13 +1701,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .allstarTeam(false)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(0, result.size());
             }
 
             @Test
-            void shouldReturnAllEntriesForTeamConferenceDivisionAndAllstarTeamWhenSearchingByTeamIdConferenceIdDivisionIdAllstarTeam() {
+            void shouldReturnAllEntriesForTeamConferenceDivisionAndAllstarTeamWhenSearchingByTeamIdConferenceIdDivisionIdAllstarTeam() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(1).year("2001").division(1).conference(1).allstarTeam(0).build(),
@@ -1722,13 +1723,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .allstarTeam(false)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForTeamConferenceDivisionAndAllstarTeamWhenSearchingByTeamIdConferenceIdDivisionIdAllstarTeam() {
+            void shouldOnlyReturnEntriesForTeamConferenceDivisionAndAllstarTeamWhenSearchingByTeamIdConferenceIdDivisionIdAllstarTeam() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2001").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2002").division(1).conference(1).allstarTeam(0).build(),
@@ -1752,7 +1753,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .allstarTeam(false)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1764,7 +1765,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
             }
 
             @Test
-            void shouldReturnAllEntriesForYearConferenceDivisionAndAllstarTeamWhenSearchingByYearConferenceIdDivisionIdAllstarTeam() {
+            void shouldReturnAllEntriesForYearConferenceDivisionAndAllstarTeamWhenSearchingByYearConferenceIdDivisionIdAllstarTeam() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2000").division(1).conference(1).allstarTeam(0).build(),
@@ -1780,13 +1781,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .allstarTeam(false)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
             }
 
             @Test
-            void shouldOnlyReturnEntriesForYearConferenceDivisionAndAllstarTeamWhenSearchingByYearConferenceIdDivisionIdAllstarTeam() {
+            void shouldOnlyReturnEntriesForYearConferenceDivisionAndAllstarTeamWhenSearchingByYearConferenceIdDivisionIdAllstarTeam() throws InvalidCursorException {
                 final List<Team> teamList = List.of(
                         Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                         Team.builder().teamId(2).year("2002").division(1).conference(1).allstarTeam(0).build(),
@@ -1810,7 +1811,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                         .allstarTeam(false)
                         .build();
 
-                final List<TeamResponse> result = teamSearchService.fetchAll(request);
+                final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
                 assertEquals(3, result.size());
                 assertEquals(3, result.stream().filter(t ->
@@ -1823,7 +1824,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
         }
 
         @Test
-        void shouldReturnMatchingEntryWhenSearchingByAllParameters() {
+        void shouldReturnMatchingEntryWhenSearchingByAllParameters() throws InvalidCursorException {
             final List<Team> teamList = Collections.singletonList(
                     Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build()
             );
@@ -1838,13 +1839,13 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                     .allstarTeam(false)
                     .build();
 
-            final List<TeamResponse> result = teamSearchService.fetchAll(request);
+            final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
             assertEquals(1, result.size());
         }
 
         @Test
-        void shouldOnlyReturnMatchingEntryWhenSearchingByAllParameters() {
+        void shouldOnlyReturnMatchingEntryWhenSearchingByAllParameters() throws InvalidCursorException {
             final List<Team> teamList = List.of(
                     Team.builder().teamId(1).year("2000").division(1).conference(1).allstarTeam(0).build(),
                     Team.builder().teamId(2).year("2000").division(1).conference(1).allstarTeam(0).build(),
@@ -1864,7 +1865,7 @@ class TeamSearchServiceIntegrationTest extends NATCServiceIntegrationTest {
                     .allstarTeam(false)
                     .build();
 
-            final List<TeamResponse> result = teamSearchService.fetchAll(request);
+            final List<TeamResponse> result = teamSearchService.fetchPage(request, null, null).getResources();
 
             assertEquals(1, result.size());
             assertEquals(1, result.stream().filter(t ->
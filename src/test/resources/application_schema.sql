@@ -128,7 +128,10 @@ create table if not exists players_t
     draft_pick bigint,
     seasons_played bigint,
     allstar_alternate bigint
-);
+) partition by list (year);
+
+create table if not exists players_t_default
+    partition of players_t default;
 
 create index if not exists idx_16410_player_year
     on players_t (year);
@@ -269,13 +272,16 @@ create table if not exists teamgames_t
     period5_score bigint,
     overtime_score bigint,
     total_score bigint
-);
+) partition by list (year);
+
+create table if not exists teamgames_t_default
+    partition of teamgames_t default;
 
 create index if not exists idx_16419_teamgames_game_id
     on teamgames_t (game_id);
 
-create index if not exists idx_16419_teamgames_datestamp
-    on teamgames_t (datestamp);
+create index if not exists idx_teamgames_datestamp_brin
+    on teamgames_t using brin (datestamp);
 
 create index if not exists idx_16419_teamgames_year
     on teamgames_t (year);
@@ -305,7 +311,10 @@ create table if not exists playergames_t
     ot_psm bigint,
     offense bigint,
     points bigint
-);
+) partition by list (year);
+
+create table if not exists playergames_t_default
+    partition of playergames_t default;
 
 create index if not exists idx_16407_playergames_penalties
     on playergames_t (penalties);
@@ -325,8 +334,8 @@ create index if not exists idx_16407_playergames_psa
 create index if not exists idx_16407_playergames_psm
     on playergames_t (psm);
 
-create index if not exists idx_16407_playergames_datestamp
-    on playergames_t (datestamp);
+create index if not exists idx_playergames_datestamp_brin
+    on playergames_t using brin (datestamp);
 
 create index if not exists idx_16407_playergames_goals
     on playergames_t (goals);
@@ -398,3 +407,217 @@ create table if not exists gamestate_t
 create index if not exists idx_16395_gamestate_game_id
     on gamestate_t (game_id);
 
+
+create sequence if not exists player_id_seq increment by 50 start with 1000001;
+
+create sequence if not exists manager_id_seq increment by 50 start with 1000001;
+
+create table if not exists qrtz_job_details (
+    sched_name        varchar(120) not null,
+    job_name          varchar(200) not null,
+    job_group         varchar(200) not null,
+    description       varchar(250),
+    job_class_name    varchar(250) not null,
+    is_durable        bool         not null,
+    is_nonconcurrent  bool         not null,
+    is_update_data    bool         not null,
+    requests_recovery bool         not null,
+    job_data          bytea,
+    primary key (sched_name, job_name, job_group)
+);
+
+create table if not exists qrtz_triggers (
+    sched_name     varchar(120) not null,
+    trigger_name   varchar(200) not null,
+    trigger_group  varchar(200) not null,
+    job_name       varchar(200) not null,
+    job_group      varchar(200) not null,
+    description    varchar(250),
+    next_fire_time bigint,
+    prev_fire_time bigint,
+    priority       integer,
+    trigger_state  varchar(16)  not null,
+    trigger_type   varchar(8)   not null,
+    start_time     bigint       not null,
+    end_time       bigint,
+    calendar_name  varchar(200),
+    misfire_instr  smallint,
+    job_data       bytea,
+    primary key (sched_name, trigger_name, trigger_group),
+    foreign key (sched_name, job_name, job_group) references qrtz_job_details (sched_name, job_name, job_group)
+);
+
+create table if not exists qrtz_simple_triggers (
+    sched_name      varchar(120) not null,
+    trigger_name    varchar(200) not null,
+    trigger_group   varchar(200) not null,
+    repeat_count    bigint       not null,
+    repeat_interval bigint       not null,
+    times_triggered bigint       not null,
+    primary key (sched_name, trigger_name, trigger_group),
+    foreign key (sched_name, trigger_name, trigger_group) references qrtz_triggers (sched_name, trigger_name, trigger_group)
+);
+
+create table if not exists qrtz_cron_triggers (
+    sched_name      varchar(120) not null,
+    trigger_name    varchar(200) not null,
+    trigger_group   varchar(200) not null,
+    cron_expression varchar(120) not null,
+    time_zone_id    varchar(80),
+    primary key (sched_name, trigger_name, trigger_group),
+    foreign key (sched_name, trigger_name, trigger_group) references qrtz_triggers (sched_name, trigger_name, trigger_group)
+);
+
+create table if not exists qrtz_simprop_triggers (
+    sched_name    varchar(120)   not null,
+    trigger_name  varchar(200)   not null,
+    trigger_group varchar(200)   not null,
+    str_prop_1    varchar(512),
+    str_prop_2    varchar(512),
+    str_prop_3    varchar(512),
+    int_prop_1    int,
+    int_prop_2    int,
+    long_prop_1   bigint,
+    long_prop_2   bigint,
+    dec_prop_1    numeric(13, 4),
+    dec_prop_2    numeric(13, 4),
+    bool_prop_1   bool,
+    bool_prop_2   bool,
+    primary key (sched_name, trigger_name, trigger_group),
+    foreign key (sched_name, trigger_name, trigger_group) references qrtz_triggers (sched_name, trigger_name, trigger_group)
+);
+
+create table if not exists qrtz_blob_triggers (
+    sched_name    varchar(120) not null,
+    trigger_name  varchar(200) not null,
+    trigger_group varchar(200) not null,
+    blob_data     bytea,
+    primary key (sched_name, trigger_name, trigger_group),
+    foreign key (sched_name, trigger_name, trigger_group) references qrtz_triggers (sched_name, trigger_name, trigger_group)
+);
+
+create table if not exists qrtz_calendars (
+    sched_name    varchar(120) not null,
+    calendar_name varchar(200) not null,
+    calendar      bytea        not null,
+    primary key (sched_name, calendar_name)
+);
+
+create table if not exists qrtz_paused_trigger_grps (
+    sched_name    varchar(120) not null,
+    trigger_group varchar(200) not null,
+    primary key (sched_name, trigger_group)
+);
+
+create table if not exists qrtz_fired_triggers (
+    sched_name        varchar(120) not null,
+    entry_id          varchar(95)  not null,
+    trigger_name      varchar(200) not null,
+    trigger_group     varchar(200) not null,
+    instance_name     varchar(200) not null,
+    fired_time        bigint       not null,
+    sched_time        bigint       not null,
+    priority          integer      not null,
+    state             varchar(16)  not null,
+    job_name          varchar(200),
+    job_group         varchar(200),
+    is_nonconcurrent  bool,
+    requests_recovery bool,
+    primary key (sched_name, entry_id)
+);
+
+create table if not exists qrtz_scheduler_state (
+    sched_name        varchar(120) not null,
+    instance_name     varchar(200) not null,
+    last_checkin_time bigint       not null,
+    checkin_interval  bigint       not null,
+    primary key (sched_name, instance_name)
+);
+
+create table if not exists qrtz_locks (
+    sched_name varchar(120) not null,
+    lock_name  varchar(40)  not null,
+    primary key (sched_name, lock_name)
+);
+
+create index if not exists idx_qrtz_j_req_recovery on qrtz_job_details (sched_name, requests_recovery);
+create index if not exists idx_qrtz_j_grp on qrtz_job_details (sched_name, job_group);
+
+create index if not exists idx_qrtz_t_j on qrtz_triggers (sched_name, job_name, job_group);
+create index if not exists idx_qrtz_t_jg on qrtz_triggers (sched_name, job_group);
+create index if not exists idx_qrtz_t_c on qrtz_triggers (sched_name, calendar_name);
+create index if not exists idx_qrtz_t_g on qrtz_triggers (sched_name, trigger_group);
+create index if not exists idx_qrtz_t_state on qrtz_triggers (sched_name, trigger_state);
+create index if not exists idx_qrtz_t_n_state on qrtz_triggers (sched_name, trigger_name, trigger_group, trigger_state);
+create index if not exists idx_qrtz_t_n_g_state on qrtz_triggers (sched_name, trigger_group, trigger_state);
+create index if not exists idx_qrtz_t_next_fire_time on qrtz_triggers (sched_name, next_fire_time);
+create index if not exists idx_qrtz_t_nft_st on qrtz_triggers (sched_name, trigger_state, next_fire_time);
+create index if not exists idx_qrtz_t_nft_misfire on qrtz_triggers (sched_name, misfire_instr, next_fire_time);
+create index if not exists idx_qrtz_t_nft_st_misfire on qrtz_triggers (sched_name, misfire_instr, next_fire_time, trigger_state);
+create index if not exists idx_qrtz_t_nft_st_misfire_grp on qrtz_triggers (sched_name, misfire_instr, next_fire_time, trigger_group, trigger_state);
+
+create index if not exists idx_qrtz_ft_trig_inst_name on qrtz_fired_triggers (sched_name, instance_name);
+create index if not exists idx_qrtz_ft_inst_job_req_rcvry on qrtz_fired_triggers (sched_name, instance_name, requests_recovery);
+create index if not exists idx_qrtz_ft_j_g on qrtz_fired_triggers (sched_name, job_name, job_group);
+create index if not exists idx_qrtz_ft_jg on qrtz_fired_triggers (sched_name, job_group);
+create index if not exists idx_qrtz_ft_t_g on qrtz_fired_triggers (sched_name, trigger_name, trigger_group);
+create index if not exists idx_qrtz_ft_tg on qrtz_fired_triggers (sched_name, trigger_group);
+
+create sequence if not exists game_id_seq increment by 50 start with 1000001;
+
+create index if not exists idx_teams_team_id_year
+    on teams_t (team_id, year);
+
+create index if not exists idx_teams_year_conference_division
+    on teams_t (year, conference, division);
+
+create index if not exists idx_managers_manager_id_year
+    on managers_t (manager_id, year);
+
+create index if not exists idx_managers_year_team_id
+    on managers_t (year, team_id);
+
+create index if not exists idx_players_player_id_year
+    on players_t (player_id, year);
+
+create index if not exists idx_players_year_team_id
+    on players_t (year, team_id);
+
+create unique index if not exists uidx_team_offense_year_type_team_id
+    on team_offense_sum_t (year, type, team_id);
+
+create unique index if not exists uidx_team_defense_year_type_team_id
+    on team_defense_sum_t (year, type, team_id);
+
+create unique index if not exists uidx_player_stats_year_type_player_id
+    on player_stats_sum_t (year, type, player_id);
+
+create index if not exists idx_player_stats_year_team_id
+    on player_stats_sum_t (year, team_id);
+
+create index if not exists idx_schedule_year_sequence
+    on schedule_t (year, sequence);
+
+create index if not exists idx_schedule_type_status
+    on schedule_t (type, status);
+
+create index if not exists idx_teamgames_game_id_team_id
+    on teamgames_t (game_id, team_id);
+
+create index if not exists idx_teamgames_year_type_team_id_opponent_win
+    on teamgames_t (year, type, team_id, opponent, win);
+
+create index if not exists idx_playergames_game_id_player_id
+    on playergames_t (game_id, player_id);
+
+create index if not exists idx_playergames_game_id_team_id
+    on playergames_t (game_id, team_id);
+
+create index if not exists idx_playergames_year_type_team_id
+    on playergames_t (year, type, team_id);
+
+create index if not exists idx_playergames_year_player_id
+    on playergames_t (year, player_id);
+
+create index if not exists idx_injuries_game_id_player_id
+    on injuries_t (game_id, player_id);
@@ -5,13 +5,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.natc.app.entity.domain.Player;
+import org.natc.app.entity.domain.PlayerRating;
 import org.natc.app.entity.domain.PlayerRatingAdjustment;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.natc.app.comparator.PlayerComparator.PlayerComparatorMode.*;
 import static org.natc.app.entity.domain.PlayerRatingAdjustment.*;
 
@@ -31,8 +34,8 @@ class PlayerComparatorTest {
 
                 playerComparator.compare(player1, player2);
 
-                verify(player1).getAdjustedOffensiveRating(any(PlayerRatingAdjustment[].class));
-                verify(player2).getAdjustedOffensiveRating(any(PlayerRatingAdjustment[].class));
+                verify(player1).getAdjustedRating(eq(PlayerRating.OFFENSIVE), anyBoolean(), anyBoolean(), anyBoolean());
+                verify(player2).getAdjustedRating(eq(PlayerRating.OFFENSIVE), anyBoolean(), anyBoolean(), anyBoolean());
             }
 
             @Test
@@ -44,8 +47,8 @@ class PlayerComparatorTest {
 
                 playerComparator.compare(player1, player2);
 
-                verify(player1).getAdjustedOffensiveRating(adjustments);
-                verify(player2).getAdjustedOffensiveRating(adjustments);
+                verify(player1).getAdjustedRating(PlayerRating.OFFENSIVE, true, true, false);
+                verify(player2).getAdjustedRating(PlayerRating.OFFENSIVE, true, true, false);
             }
 
             @Test
@@ -158,8 +161,8 @@ class PlayerComparatorTest {
 
                 playerComparator.compare(player1, player2);
 
-                verify(player1).getAdjustedDefensiveRating(any(PlayerRatingAdjustment[].class));
-                verify(player2).getAdjustedDefensiveRating(any(PlayerRatingAdjustment[].class));
+                verify(player1).getAdjustedRating(eq(PlayerRating.DEFENSIVE), anyBoolean(), anyBoolean(), anyBoolean());
+                verify(player2).getAdjustedRating(eq(PlayerRating.DEFENSIVE), anyBoolean(), anyBoolean(), anyBoolean());
             }
 
             @Test
@@ -171,8 +174,8 @@ class PlayerComparatorTest {
 
                 playerComparator.compare(player1, player2);
 
-                verify(player1).getAdjustedDefensiveRating(adjustments);
-                verify(player2).getAdjustedDefensiveRating(adjustments);
+                verify(player1).getAdjustedRating(PlayerRating.DEFENSIVE, false, true, true);
+                verify(player2).getAdjustedRating(PlayerRating.DEFENSIVE, false, true, true);
             }
 
             @Test
@@ -285,8 +288,8 @@ class PlayerComparatorTest {
 
                 playerComparator.compare(player1, player2);
 
-                verify(player1).getAdjustedIntangibleRating(any(PlayerRatingAdjustment[].class));
-                verify(player2).getAdjustedIntangibleRating(any(PlayerRatingAdjustment[].class));
+                verify(player1).getAdjustedRating(eq(PlayerRating.INTANGIBLE), anyBoolean(), anyBoolean(), anyBoolean());
+                verify(player2).getAdjustedRating(eq(PlayerRating.INTANGIBLE), anyBoolean(), anyBoolean(), anyBoolean());
             }
 
             @Test
@@ -298,8 +301,8 @@ class PlayerComparatorTest {
 
                 playerComparator.compare(player1, player2);
 
-                verify(player1).getAdjustedIntangibleRating(adjustments);
-                verify(player2).getAdjustedIntangibleRating(adjustments);
+                verify(player1).getAdjustedRating(PlayerRating.INTANGIBLE, true, false, true);
+                verify(player2).getAdjustedRating(PlayerRating.INTANGIBLE, true, false, true);
             }
 
             @Test
@@ -412,8 +415,8 @@ class PlayerComparatorTest {
 
                 playerComparator.compare(player1, player2);
 
-                verify(player1).getAdjustedPenaltyRating(any(PlayerRatingAdjustment[].class));
-                verify(player2).getAdjustedPenaltyRating(any(PlayerRatingAdjustment[].class));
+                verify(player1).getAdjustedRating(eq(PlayerRating.PENALTY), anyBoolean(), anyBoolean(), anyBoolean());
+                verify(player2).getAdjustedRating(eq(PlayerRating.PENALTY), anyBoolean(), anyBoolean(), anyBoolean());
             }
 
             @Test
@@ -425,8 +428,8 @@ class PlayerComparatorTest {
 
                 playerComparator.compare(player1, player2);
 
-                verify(player1).getAdjustedPenaltyRating(adjustments);
-                verify(player2).getAdjustedPenaltyRating(adjustments);
+                verify(player1).getAdjustedRating(PlayerRating.PENALTY, true, true, true);
+                verify(player2).getAdjustedRating(PlayerRating.PENALTY, true, true, true);
             }
 
             @Test
@@ -539,8 +542,8 @@ class PlayerComparatorTest {
 
                 playerComparator.compare(player1, player2);
 
-                verify(player1).getAdjustedPerformanceRating(any(PlayerRatingAdjustment[].class));
-                verify(player2).getAdjustedPerformanceRating(any(PlayerRatingAdjustment[].class));
+                verify(player1).getAdjustedRating(eq(PlayerRating.PERFORMANCE), anyBoolean(), anyBoolean(), anyBoolean());
+                verify(player2).getAdjustedRating(eq(PlayerRating.PERFORMANCE), anyBoolean(), anyBoolean(), anyBoolean());
             }
 
             @Test
@@ -552,8 +555,8 @@ class PlayerComparatorTest {
 
                 playerComparator.compare(player1, player2);
 
-                verify(player1).getAdjustedPerformanceRating(adjustments);
-                verify(player2).getAdjustedPerformanceRating(adjustments);
+                verify(player1).getAdjustedRating(PlayerRating.PERFORMANCE, true, false, false);
+                verify(player2).getAdjustedRating(PlayerRating.PERFORMANCE, true, false, false);
             }
 
             @Test
@@ -656,4 +659,69 @@ class PlayerComparatorTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class GetRating {
+
+        @Test
+        void shouldReturnTheAdjustedOffensiveRatingWhenInOffensiveMode() {
+            final PlayerRatingAdjustment[] adjustments = {APPLY_AGE, APPLY_CONFIDENCE};
+            final PlayerComparator playerComparator = new PlayerComparator(OFFENSIVE, adjustments);
+            final Player player = mock(Player.class);
+
+            when(player.getAdjustedRating(PlayerRating.OFFENSIVE, true, true, false)).thenReturn(0.55);
+
+            assertEquals(0.55, playerComparator.getRating(player));
+        }
+
+        @Test
+        void shouldReturnTheAdjustedDefensiveRatingWhenInDefensiveMode() {
+            final PlayerComparator playerComparator = new PlayerComparator(DEFENSIVE);
+            final Player player = mock(Player.class);
+
+            when(player.getAdjustedRating(eq(PlayerRating.DEFENSIVE), anyBoolean(), anyBoolean(), anyBoolean())).thenReturn(0.44);
+
+            assertEquals(0.44, playerComparator.getRating(player));
+        }
+
+        @Test
+        void shouldReturnTheAdjustedIntangibleRatingWhenInIntangibleMode() {
+            final PlayerComparator playerComparator = new PlayerComparator(INTANGIBLE);
+            final Player player = mock(Player.class);
+
+            when(player.getAdjustedRating(eq(PlayerRating.INTANGIBLE), anyBoolean(), anyBoolean(), anyBoolean())).thenReturn(0.33);
+
+            assertEquals(0.33, playerComparator.getRating(player));
+        }
+
+        @Test
+        void shouldReturnTheAdjustedPenaltyRatingWhenInPenaltiesMode() {
+            final PlayerComparator playerComparator = new PlayerComparator(PENALTIES);
+            final Player player = mock(Player.class);
+
+            when(player.getAdjustedRating(eq(PlayerRating.PENALTY), anyBoolean(), anyBoolean(), anyBoolean())).thenReturn(0.22);
+
+            assertEquals(0.22, playerComparator.getRating(player));
+        }
+
+        @Test
+        void shouldReturnTheAdjustedPerformanceRatingWhenInBalancedMode() {
+            final PlayerComparator playerComparator = new PlayerComparator(BALANCED);
+            final Player player = mock(Player.class);
+
+            when(player.getAdjustedRating(eq(PlayerRating.PERFORMANCE), anyBoolean(), anyBoolean(), anyBoolean())).thenReturn(0.11);
+
+            assertEquals(0.11, playerComparator.getRating(player));
+        }
+
+        @Test
+        void shouldOrderPlayersTheSameWayAsCompare() {
+            final PlayerComparator playerComparator = new PlayerComparator(OFFENSIVE);
+            final Player player1 = Player.builder().scoring(0.9).passing(0.9).blocking(0.9).build();
+            final Player player2 = Player.builder().scoring(0.1).passing(0.1).blocking(0.1).build();
+
+            assertTrue(playerComparator.getRating(player1) > playerComparator.getRating(player2));
+            assertTrue(playerComparator.compare(player1, player2) > 0);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package org.natc.app.comparator;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.natc.app.entity.domain.HeadToHeadRecord;
+import org.natc.app.entity.domain.TeamDefenseSummary;
+import org.natc.app.entity.domain.TeamOffenseSummary;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StandingsSnapshotTest {
+
+    @Nested
+    class GetHeadToHeadWins {
+
+        @Test
+        void shouldReturnTheWinsForTheTeamAgainstTheOpponent() {
+            final StandingsSnapshot snapshot = new StandingsSnapshot(
+                    List.of(
+                            HeadToHeadRecord.builder().teamId(1).opponent(2).wins(4L).build(),
+                            HeadToHeadRecord.builder().teamId(2).opponent(1).wins(3L).build(),
+                            HeadToHeadRecord.builder().teamId(1).opponent(3).wins(7L).build()
+                    ),
+                    Collections.emptyList(),
+                    Collections.emptyList()
+            );
+
+            assertEquals(4, snapshot.getHeadToHeadWins(1, 2));
+            assertEquals(3, snapshot.getHeadToHeadWins(2, 1));
+            assertEquals(7, snapshot.getHeadToHeadWins(1, 3));
+        }
+
+        @Test
+        void shouldReturnZeroWhenTheTeamHasNoWinsAgainstTheOpponent() {
+            final StandingsSnapshot snapshot = new StandingsSnapshot(
+                    List.of(HeadToHeadRecord.builder().teamId(1).opponent(2).wins(4L).build()),
+                    Collections.emptyList(),
+                    Collections.emptyList()
+            );
+
+            assertEquals(0, snapshot.getHeadToHeadWins(2, 1));
+            assertEquals(0, snapshot.getHeadToHeadWins(1, 3));
+        }
+    }
+
+    @Nested
+    class GetScoringDifferential {
+
+        @Test
+        void shouldReturnOffenseScoreMinusDefenseScore() {
+            final StandingsSnapshot snapshot = new StandingsSnapshot(
+                    Collections.emptyList(),
+                    List.of(TeamOffenseSummary.builder().teamId(1).score(500).build()),
+                    List.of(TeamDefenseSummary.builder().teamId(1).score(350).build())
+            );
+
+            assertEquals(150, snapshot.getScoringDifferential(1));
+        }
+
+        @Test
+        void shouldTreatMissingSummaryRecordsAsAScoreOfZero() {
+            final StandingsSnapshot snapshot = new StandingsSnapshot(
+                    Collections.emptyList(),
+                    List.of(TeamOffenseSummary.builder().teamId(1).score(500).build()),
+                    List.of(TeamDefenseSummary.builder().teamId(2).score(350).build())
+            );
+
+            assertEquals(500, snapshot.getScoringDifferential(1));
+            assertEquals(-350, snapshot.getScoringDifferential(2));
+            assertEquals(0, snapshot.getScoringDifferential(3));
+        }
+    }
+}
@@ -9,6 +9,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.natc.app.entity.domain.GameType;
+import org.natc.app.entity.domain.HeadToHeadRecord;
 import org.natc.app.entity.domain.Team;
 import org.natc.app.entity.domain.TeamDefenseSummary;
 import org.natc.app.entity.domain.TeamOffenseSummary;
@@ -17,6 +18,8 @@ import org.natc.app.repository.TeamGameRepository;
 import org.natc.app.repository.TeamOffenseSummaryRepository;
 import org.springframework.data.domain.Example;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -491,4 +494,93 @@ class TeamComparatorTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class LoadStandingsSnapshot {
+
+        @Test
+        void shouldLoadHeadToHeadWinsForTheRegularSeasonOfTheGivenYear() {
+            teamComparator.loadStandingsSnapshot("2000");
+
+            verify(teamGameRepository).findHeadToHeadWinsByYearAndType("2000", GameType.REGULAR_SEASON.getValue());
+        }
+
+        @Test
+        void shouldLoadOffenseAndDefenseSummariesForTheRegularSeasonOfTheGivenYear() {
+            teamComparator.loadStandingsSnapshot("2000");
+
+            verify(teamOffenseSummaryRepository).findByYearAndType("2000", GameType.REGULAR_SEASON.getValue());
+            verify(teamDefenseSummaryRepository).findByYearAndType("2000", GameType.REGULAR_SEASON.getValue());
+        }
+
+        @Test
+        void shouldBuildSnapshotFromTheAggregateResults() {
+            when(teamGameRepository.findHeadToHeadWinsByYearAndType(any(), any())).thenReturn(List.of(
+                    HeadToHeadRecord.builder().teamId(1).opponent(2).wins(4L).build()
+            ));
+            when(teamOffenseSummaryRepository.findByYearAndType(any(), any())).thenReturn(List.of(
+                    TeamOffenseSummary.builder().teamId(1).score(500).build()
+            ));
+            when(teamDefenseSummaryRepository.findByYearAndType(any(), any())).thenReturn(List.of(
+                    TeamDefenseSummary.builder().teamId(1).score(450).build()
+            ));
+
+            final StandingsSnapshot snapshot = teamComparator.loadStandingsSnapshot("2000");
+
+            assertEquals(4, snapshot.getHeadToHeadWins(1, 2));
+            assertEquals(50, snapshot.getScoringDifferential(1));
+        }
+    }
+
+    @Nested
+    class ForSnapshot {
+
+        @Test
+        void shouldUseSnapshotHeadToHeadWinsInsteadOfQueryingTheRepository() {
+            final Team team1 = Team.builder().teamId(1).year("2000").division(1).games(100).playoffRank(0).wins(46).build();
+            final Team team2 = Team.builder().teamId(2).year("2000").division(2).games(100).playoffRank(0).wins(46).build();
+            final StandingsSnapshot snapshot = new StandingsSnapshot(
+                    List.of(
+                            HeadToHeadRecord.builder().teamId(1).opponent(2).wins(4L).build(),
+                            HeadToHeadRecord.builder().teamId(2).opponent(1).wins(1L).build()
+                    ),
+                    Collections.emptyList(),
+                    Collections.emptyList()
+            );
+
+            assertEquals(3, teamComparator.forSnapshot(snapshot).compare(team1, team2));
+
+            verifyNoInteractions(teamGameRepository, teamOffenseSummaryRepository, teamDefenseSummaryRepository);
+        }
+
+        @Test
+        void shouldUseSnapshotScoringDifferentialsWhenHeadToHeadWinsAreEqual() {
+            final Team team1 = Team.builder().teamId(1).year("2000").division(1).games(100).playoffRank(0).wins(46).build();
+            final Team team2 = Team.builder().teamId(2).year("2000").division(2).games(100).playoffRank(0).wins(46).build();
+            final StandingsSnapshot snapshot = new StandingsSnapshot(
+                    Collections.emptyList(),
+                    List.of(
+                            TeamOffenseSummary.builder().teamId(1).score(500).build(),
+                            TeamOffenseSummary.builder().teamId(2).score(450).build()
+                    ),
+                    List.of(
+                            TeamDefenseSummary.builder().teamId(1).score(400).build(),
+                            TeamDefenseSummary.builder().teamId(2).score(450).build()
+                    )
+            );
+
+            assertEquals(100, teamComparator.forSnapshot(snapshot).compare(team1, team2));
+
+            verifyNoInteractions(teamGameRepository, teamOffenseSummaryRepository, teamDefenseSummaryRepository);
+        }
+
+        @Test
+        void shouldApplyTheSameTiebreakersAsCompareBeforeHeadToHead() {
+            final Team team1 = Team.builder().teamId(1).year("2000").games(100).playoffRank(2).wins(40).build();
+            final Team team2 = Team.builder().teamId(2).year("2000").games(100).playoffRank(0).wins(46).build();
+            final StandingsSnapshot snapshot = new StandingsSnapshot(Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+
+            assertEquals(teamComparator.compare(team1, team2), teamComparator.forSnapshot(snapshot).compare(team1, team2));
+        }
+    }
+}
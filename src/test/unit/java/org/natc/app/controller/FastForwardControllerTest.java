@@ -0,0 +1,68 @@
+package org.natc.app.controller;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.natc.app.entity.domain.ScheduleType;
+import org.natc.app.entity.response.FastForwardResponse;
+import org.natc.app.entity.response.ResponseEnvelope;
+import org.natc.app.entity.response.ResponseStatus;
+import org.natc.app.exception.FastForwardException;
+import org.natc.app.exception.NATCException;
+import org.natc.app.manager.FastForwardManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FastForwardControllerTest {
+
+    @Mock
+    private FastForwardManager fastForwardManager;
+
+    @InjectMocks
+    private FastForwardController fastForwardController;
+
+    @Nested
+    class FastForward {
+
+        @Test
+        void shouldCallFastForwardManagerWithRequestParameters() throws NATCException {
+            when(fastForwardManager.fastForward(any(), any(), any())).thenReturn(FastForwardResponse.builder().build());
+
+            fastForwardController.fastForward("1980", ScheduleType.END_OF_SEASON, 500);
+
+            verify(fastForwardManager).fastForward("1980", ScheduleType.END_OF_SEASON, 500);
+        }
+
+        @Test
+        void shouldReturnOKResponseWithTheFastForwardResults() throws NATCException {
+            final FastForwardResponse result = FastForwardResponse.builder().events(12).build();
+
+            when(fastForwardManager.fastForward(any(), any(), any())).thenReturn(result);
+
+            final ResponseEntity<ResponseEnvelope<FastForwardResponse>> response = fastForwardController.fastForward("1980", null, null);
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals(ResponseStatus.SUCCESS, response.getBody().getStatus());
+            assertEquals(result, response.getBody().getResources().getFirst());
+        }
+
+        @Test
+        void shouldReturnBadRequestWhenTheFastForwardTargetIsInvalid() throws NATCException {
+            when(fastForwardManager.fastForward(any(), any(), any())).thenThrow(new FastForwardException());
+
+            final ResponseEntity<ResponseEnvelope<FastForwardResponse>> response = fastForwardController.fastForward(null, null, null);
+
+            assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+            assertEquals(ResponseStatus.FAILURE, response.getBody().getStatus());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.natc.app.controller;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,7 +12,9 @@ import org.natc.app.entity.request.GameStateSearchRequest;
 import org.natc.app.entity.response.GameStateResponse;
 import org.natc.app.entity.response.ResponseEnvelope;
 import org.natc.app.entity.response.ResponseStatus;
+import org.natc.app.exception.InvalidCursorException;
 import org.natc.app.service.search.NATCSearchService;
+import org.natc.app.service.search.SearchPage;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -20,6 +23,8 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -32,38 +37,43 @@ class GameStateSearchControllerTest {
     @InjectMocks
     private GameStateSearchController gameStateSearchController;
 
+    @BeforeEach
+    void setup() throws InvalidCursorException {
+        lenient().when(gameStateSearchService.fetchPage(any(), any(), any())).thenReturn(new SearchPage<>(Collections.emptyList(), null));
+    }
+
     @Nested
     class Search {
 
         @Test
         void shouldReturnOKResponse() {
-            final ResponseEntity<ResponseEnvelope<GameStateResponse>> response = gameStateSearchController.search(null);
+            final ResponseEntity<ResponseEnvelope<GameStateResponse>> response = gameStateSearchController.search(null, null, null);
 
             assertEquals(HttpStatus.OK, response.getStatusCode());
         }
 
         @Test
         void shouldReturnEnvelopeWithNotFoundStatusWhenNoRecordsAreFound() {
-            final ResponseEntity<ResponseEnvelope<GameStateResponse>> response = gameStateSearchController.search(null);
+            final ResponseEntity<ResponseEnvelope<GameStateResponse>> response = gameStateSearchController.search(null, null, null);
 
             assertEquals(ResponseStatus.NOT_FOUND, response.getBody().getStatus());
         }
 
         @Test
-        void shouldCallGameStateSearchService() {
-            gameStateSearchController.search(null);
+        void shouldCallGameStateSearchService() throws InvalidCursorException {
+            gameStateSearchController.search(null, null, null);
 
-            verify(gameStateSearchService).fetchAll(any(GameStateSearchRequest.class));
+            verify(gameStateSearchService).fetchPage(any(GameStateSearchRequest.class), any(), any());
         }
 
         @Test
-        void shouldConstructRequestObjectForGameStateSearchServiceUsingRequestParameters() {
+        void shouldConstructRequestObjectForGameStateSearchServiceUsingRequestParameters() throws InvalidCursorException {
             final Integer gameId = 123;
             final ArgumentCaptor<GameStateSearchRequest> captor = ArgumentCaptor.forClass(GameStateSearchRequest.class);
 
-            gameStateSearchController.search(gameId);
+            gameStateSearchController.search(gameId, null, null);
 
-            verify(gameStateSearchService).fetchAll(captor.capture());
+            verify(gameStateSearchService).fetchPage(captor.capture(), any(), any());
 
             final GameStateSearchRequest request = captor.getValue();
 
@@ -71,25 +81,53 @@ class GameStateSearchControllerTest {
         }
 
         @Test
-        void shouldRespondWithEnvelopContainingGameStatesReturnedBySearchService() {
+        void shouldRespondWithEnvelopContainingGameStatesReturnedBySearchService() throws InvalidCursorException {
             final List<GameStateResponse> gameStateList = Collections.singletonList(new GameStateResponse());
 
-            when(gameStateSearchService.fetchAll(any(GameStateSearchRequest.class))).thenReturn(gameStateList);
+            when(gameStateSearchService.fetchPage(any(GameStateSearchRequest.class), any(), any())).thenReturn(new SearchPage<>(gameStateList, null));
 
-            final ResponseEntity<ResponseEnvelope<GameStateResponse>> response = gameStateSearchController.search(null);
+            final ResponseEntity<ResponseEnvelope<GameStateResponse>> response = gameStateSearchController.search(null, null, null);
 
             assertEquals(gameStateList, response.getBody().getResources());
         }
 
         @Test
-        void shouldReturnEnvelopeWithSuccessStatusWhenRecordsAreFound() {
+        void shouldReturnEnvelopeWithSuccessStatusWhenRecordsAreFound() throws InvalidCursorException {
             final List<GameStateResponse> gameStateList = Collections.singletonList(new GameStateResponse());
 
-            when(gameStateSearchService.fetchAll(any(GameStateSearchRequest.class))).thenReturn(gameStateList);
+            when(gameStateSearchService.fetchPage(any(GameStateSearchRequest.class), any(), any())).thenReturn(new SearchPage<>(gameStateList, null));
 
-            final ResponseEntity<ResponseEnvelope<GameStateResponse>> response = gameStateSearchController.search(null);
+            final ResponseEntity<ResponseEnvelope<GameStateResponse>> response = gameStateSearchController.search(null, null, null);
 
             assertEquals(ResponseStatus.SUCCESS, response.getBody().getStatus());
         }
+
+        @Test
+        void shouldPassCursorAndPageSizeToSearchService() throws InvalidCursorException {
+            gameStateSearchController.search(null, "cursor", 25);
+
+            verify(gameStateSearchService).fetchPage(any(GameStateSearchRequest.class), eq("cursor"), eq(25));
+        }
+
+        @Test
+        void shouldRespondWithEnvelopeContainingNextCursorReturnedBySearchService() throws InvalidCursorException {
+            final List<GameStateResponse> resources = Collections.singletonList(new GameStateResponse());
+
+            when(gameStateSearchService.fetchPage(any(GameStateSearchRequest.class), any(), any())).thenReturn(new SearchPage<>(resources, "next"));
+
+            final ResponseEntity<ResponseEnvelope<GameStateResponse>> response = gameStateSearchController.search(null, null, null);
+
+            assertEquals("next", response.getBody().getNextCursor());
+        }
+
+        @Test
+        void shouldReturnBadRequestResponseWhenCursorIsInvalid() throws InvalidCursorException {
+            when(gameStateSearchService.fetchPage(any(GameStateSearchRequest.class), any(), any())).thenThrow(new InvalidCursorException());
+
+            final ResponseEntity<ResponseEnvelope<GameStateResponse>> response = gameStateSearchController.search(null, "bad", null);
+
+            assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+            assertEquals(ResponseStatus.FAILURE, response.getBody().getStatus());
+        }
     }
 }
\ No newline at end of file
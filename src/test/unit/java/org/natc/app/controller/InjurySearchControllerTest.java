@@ -1,5 +1,6 @@
 package org.natc.app.controller;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,7 +12,9 @@ import org.natc.app.entity.request.InjurySearchRequest;
 import org.natc.app.entity.response.InjuryResponse;
 import org.natc.app.entity.response.ResponseEnvelope;
 import org.natc.app.entity.response.ResponseStatus;
+import org.natc.app.exception.InvalidCursorException;
 import org.natc.app.service.search.NATCSearchService;
+import org.natc.app.service.search.SearchPage;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -20,6 +23,8 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -32,40 +37,45 @@ class InjurySearchControllerTest {
     @InjectMocks
     private InjurySearchController injurySearchController;
 
+    @BeforeEach
+    void setup() throws InvalidCursorException {
+        lenient().when(injurySearchService.fetchPage(any(), any(), any())).thenReturn(new SearchPage<>(Collections.emptyList(), null));
+    }
+
     @Nested
     class Search {
 
         @Test
         void shouldReturnOKResponse() {
-            final ResponseEntity<ResponseEnvelope<InjuryResponse>> response = injurySearchController.search(null, null, null);
+            final ResponseEntity<ResponseEnvelope<InjuryResponse>> response = injurySearchController.search(null, null, null, null, null);
 
             assertEquals(HttpStatus.OK, response.getStatusCode());
         }
 
         @Test
         void shouldReturnEnvelopeWithNotFoundStatusWhenNoRecordsAreFound() {
-            final ResponseEntity<ResponseEnvelope<InjuryResponse>> response = injurySearchController.search(null, null, null);
+            final ResponseEntity<ResponseEnvelope<InjuryResponse>> response = injurySearchController.search(null, null, null, null, null);
 
             assertEquals(ResponseStatus.NOT_FOUND, response.getBody().getStatus());
         }
 
         @Test
-        void shouldCallInjurySearchService() {
-            injurySearchController.search(null, null, null);
+        void shouldCallInjurySearchService() throws InvalidCursorException {
+            injurySearchController.search(null, null, null, null, null);
 
-            verify(injurySearchService).fetchAll(any(InjurySearchRequest.class));
+            verify(injurySearchService).fetchPage(any(InjurySearchRequest.class), any(), any());
         }
 
         @Test
-        void shouldConstructRequestObjectForInjurySearchServiceUsingRequestParameters() {
+        void shouldConstructRequestObjectForInjurySearchServiceUsingRequestParameters() throws InvalidCursorException {
             final Integer gameId = 123;
             final Integer playerId = 4321;
             final Integer teamId = 56;
             final ArgumentCaptor<InjurySearchRequest> captor = ArgumentCaptor.forClass(InjurySearchRequest.class);
 
-            injurySearchController.search(gameId, playerId, teamId);
+            injurySearchController.search(gameId, playerId, teamId, null, null);
 
-            verify(injurySearchService).fetchAll(captor.capture());
+            verify(injurySearchService).fetchPage(captor.capture(), any(), any());
 
             final InjurySearchRequest request = captor.getValue();
 
@@ -75,25 +85,53 @@ class InjurySearchControllerTest {
         }
 
         @Test
-        void shouldRespondWithEnvelopContainingInjuriesReturnedBySearchService() {
+        void shouldRespondWithEnvelopContainingInjuriesReturnedBySearchService() throws InvalidCursorException {
             final List<InjuryResponse> injuryList = Collections.singletonList(new InjuryResponse());
 
-            when(injurySearchService.fetchAll(any(InjurySearchRequest.class))).thenReturn(injuryList);
+            when(injurySearchService.fetchPage(any(InjurySearchRequest.class), any(), any())).thenReturn(new SearchPage<>(injuryList, null));
 
-            final ResponseEntity<ResponseEnvelope<InjuryResponse>> response = injurySearchController.search(null, null, null);
+            final ResponseEntity<ResponseEnvelope<InjuryResponse>> response = injurySearchController.search(null, null, null, null, null);
 
             assertEquals(injuryList, response.getBody().getResources());
         }
 
         @Test
-        void shouldReturnEnvelopeWithSuccessStatusWhenRecordsAreFound() {
+        void shouldReturnEnvelopeWithSuccessStatusWhenRecordsAreFound() throws InvalidCursorException {
             final List<InjuryResponse> injuryList = Collections.singletonList(new InjuryResponse());
 
-            when(injurySearchService.fetchAll(any(InjurySearchRequest.class))).thenReturn(injuryList);
+            when(injurySearchService.fetchPage(any(InjurySearchRequest.class), any(), any())).thenReturn(new SearchPage<>(injuryList, null));
 
-            final ResponseEntity<ResponseEnvelope<InjuryResponse>> response = injurySearchController.search(null, null, null);
+            final ResponseEntity<ResponseEnvelope<InjuryResponse>> response = injurySearchController.search(null, null, null, null, null);
 
             assertEquals(ResponseStatus.SUCCESS, response.getBody().getStatus());
         }
+
+        @Test
+        void shouldPassCursorAndPageSizeToSearchService() throws InvalidCursorException {
+            injurySearchController.search(null, null, null, "cursor", 25);
+
+            verify(injurySearchService).fetchPage(any(InjurySearchRequest.class), eq("cursor"), eq(25));
+        }
+
+        @Test
+        void shouldRespondWithEnvelopeContainingNextCursorReturnedBySearchService() throws InvalidCursorException {
+            final List<InjuryResponse> resources = Collections.singletonList(new InjuryResponse());
+
+            when(injurySearchService.fetchPage(any(InjurySearchRequest.class), any(), any())).thenReturn(new SearchPage<>(resources, "next"));
+
+            final ResponseEntity<ResponseEnvelope<InjuryResponse>> response = injurySearchController.search(null, null, null, null, null);
+
+            assertEquals("next", response.getBody().getNextCursor());
+        }
+
+        @Test
+        void shouldReturnBadRequestResponseWhenCursorIsInvalid() throws InvalidCursorException {
+            when(injurySearchService.fetchPage(any(InjurySearchRequest.class), any(), any())).thenThrow(new InvalidCursorException());
+
+            final ResponseEntity<ResponseEnvelope<InjuryResponse>> response = injurySearchController.search(null, null, null, "bad", null);
+
+            assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+            assertEquals(ResponseStatus.FAILURE, response.getBody().getStatus());
+        }
     }
 }
\ No newline at end of file
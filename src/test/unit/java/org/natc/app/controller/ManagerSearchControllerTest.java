@@ -1,5 +1,6 @@
 package org.natc.app.controller;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,7 +12,9 @@ import org.natc.app.entity.request.ManagerSearchRequest;
 import org.natc.app.entity.response.ManagerResponse;
 import org.natc.app.entity.response.ResponseEnvelope;
 import org.natc.app.entity.response.ResponseStatus;
+import org.natc.app.exception.InvalidCursorException;
 import org.natc.app.service.search.NATCSearchService;
+import org.natc.app.service.search.SearchPage;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -20,6 +23,8 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -32,41 +37,46 @@ class ManagerSearchControllerTest {
     @InjectMocks
     private ManagerSearchController managerSearchController;
 
+    @BeforeEach
+    void setup() throws InvalidCursorException {
+        lenient().when(managerSearchService.fetchPage(any(), any(), any())).thenReturn(new SearchPage<>(Collections.emptyList(), null));
+    }
+
     @Nested
     class Search {
 
         @Test
         void shouldReturnOKResponse() {
-            final ResponseEntity<ResponseEnvelope<ManagerResponse>> response = managerSearchController.search(null, null, null, null);
+            final ResponseEntity<ResponseEnvelope<ManagerResponse>> response = managerSearchController.search(null, null, null, null, null, null);
 
             assertEquals(HttpStatus.OK, response.getStatusCode());
         }
 
         @Test
         void shouldReturnEnvelopeWithNotFoundStatusWhenNoRecordsAreFound() {
-            final ResponseEntity<ResponseEnvelope<ManagerResponse>> response = managerSearchController.search(null, null, null, null);
+            final ResponseEntity<ResponseEnvelope<ManagerResponse>> response = managerSearchController.search(null, null, null, null, null, null);
 
             assertEquals(ResponseStatus.NOT_FOUND, response.getBody().getStatus());
         }
 
         @Test
-        void shouldCallManagerSearchService() {
-            managerSearchController.search(null, null, null, null);
+        void shouldCallManagerSearchService() throws InvalidCursorException {
+            managerSearchController.search(null, null, null, null, null, null);
 
-            verify(managerSearchService).fetchAll(any());
+            verify(managerSearchService).fetchPage(any(), any(), any());
         }
 
         @Test
-        void shouldConstructRequestObjectForManagerSearchServiceUsingRequestParameters() {
+        void shouldConstructRequestObjectForManagerSearchServiceUsingRequestParameters() throws InvalidCursorException {
             final Integer managerId = 123;
             final Integer teamId = 321;
             final Integer playerId = 555;
             final String year = "1919";
             final ArgumentCaptor<ManagerSearchRequest> captor = ArgumentCaptor.forClass(ManagerSearchRequest.class);
 
-            managerSearchController.search(managerId, teamId, playerId, year);
+            managerSearchController.search(managerId, teamId, playerId, year, null, null);
 
-            verify(managerSearchService).fetchAll(captor.capture());
+            verify(managerSearchService).fetchPage(captor.capture(), any(), any());
 
             final ManagerSearchRequest request = captor.getValue();
 
@@ -77,25 +87,53 @@ class ManagerSearchControllerTest {
         }
 
         @Test
-        void shouldRespondWithEnvelopContainingManagersReturnedBySearchService() {
+        void shouldRespondWithEnvelopContainingManagersReturnedBySearchService() throws InvalidCursorException {
             final List<ManagerResponse> managerList = Collections.singletonList(new ManagerResponse());
 
-            when(managerSearchService.fetchAll(any(ManagerSearchRequest.class))).thenReturn(managerList);
+            when(managerSearchService.fetchPage(any(ManagerSearchRequest.class), any(), any())).thenReturn(new SearchPage<>(managerList, null));
 
-            final ResponseEntity<ResponseEnvelope<ManagerResponse>> response = managerSearchController.search(null, null, null, null);
+            final ResponseEntity<ResponseEnvelope<ManagerResponse>> response = managerSearchController.search(null, null, null, null, null, null);
 
             assertEquals(managerList, response.getBody().getResources());
         }
 
         @Test
-        void shouldReturnEnvelopeWithSuccessStatusWhenRecordsAreFound() {
+        void shouldReturnEnvelopeWithSuccessStatusWhenRecordsAreFound() throws InvalidCursorException {
             final List<ManagerResponse> managerList = Collections.singletonList(new ManagerResponse());
 
-            when(managerSearchService.fetchAll(any(ManagerSearchRequest.class))).thenReturn(managerList);
+            when(managerSearchService.fetchPage(any(ManagerSearchRequest.class), any(), any())).thenReturn(new SearchPage<>(managerList, null));
 
-            final ResponseEntity<ResponseEnvelope<ManagerResponse>> response = managerSearchController.search(null, null, null, null);
+            final ResponseEntity<ResponseEnvelope<ManagerResponse>> response = managerSearchController.search(null, null, null, null, null, null);
 
             assertEquals(ResponseStatus.SUCCESS, response.getBody().getStatus());
         }
+
+        @Test
+        void shouldPassCursorAndPageSizeToSearchService() throws InvalidCursorException {
+            managerSearchController.search(null, null, null, null, "cursor", 25);
+
+            verify(managerSearchService).fetchPage(any(ManagerSearchRequest.class), eq("cursor"), eq(25));
+        }
+
+        @Test
+        void shouldRespondWithEnvelopeContainingNextCursorReturnedBySearchService() throws InvalidCursorException {
+            final List<ManagerResponse> resources = Collections.singletonList(new ManagerResponse());
+
+            when(managerSearchService.fetchPage(any(ManagerSearchRequest.class), any(), any())).thenReturn(new SearchPage<>(resources, "next"));
+
+            final ResponseEntity<ResponseEnvelope<ManagerResponse>> response = managerSearchController.search(null, null, null, null, null, null);
+
+            assertEquals("next", response.getBody().getNextCursor());
+        }
+
+        @Test
+        void shouldReturnBadRequestResponseWhenCursorIsInvalid() throws InvalidCursorException {
+            when(managerSearchService.fetchPage(any(ManagerSearchRequest.class), any(), any())).thenThrow(new InvalidCursorException());
+
+            final ResponseEntity<ResponseEnvelope<ManagerResponse>> response = managerSearchController.search(null, null, null, null, "bad", null);
+
+            assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+            assertEquals(ResponseStatus.FAILURE, response.getBody().getStatus());
+        }
     }
 }
\ No newline at end of file
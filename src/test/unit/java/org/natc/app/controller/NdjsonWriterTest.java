@@ -0,0 +1,57 @@
+package org.natc.app.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class NdjsonWriterTest {
+
+    private final NdjsonWriter ndjsonWriter = new NdjsonWriter(new ObjectMapper());
+
+    @Nested
+    class To {
+
+        @Test
+        void shouldWriteEachResourceAsJsonFollowedByANewline() {
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            final Consumer<Map<String, Object>> consumer = ndjsonWriter.to(outputStream);
+
+            consumer.accept(Map.of("player-id", 1));
+            consumer.accept(Map.of("player-id", 2));
+
+            assertEquals("{\"player-id\":1}\n{\"player-id\":2}\n", outputStream.toString(StandardCharsets.UTF_8));
+        }
+
+        @Test
+        void shouldWriteNothingWhenThereAreNoResources() {
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+            ndjsonWriter.to(outputStream);
+
+            assertEquals(0, outputStream.size());
+        }
+
+        @Test
+        void shouldThrowUncheckedIOExceptionWhenTheClientHasGoneAway() {
+            final OutputStream outputStream = new OutputStream() {
+                @Override
+                public void write(final int b) throws IOException {
+                    throw new IOException("Broken pipe");
+                }
+            };
+
+            assertThrows(UncheckedIOException.class, () -> ndjsonWriter.to(outputStream).accept(Map.of("player-id", 1)));
+        }
+    }
+}
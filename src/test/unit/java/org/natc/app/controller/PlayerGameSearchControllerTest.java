@@ -1,5 +1,6 @@
 package org.natc.app.controller;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,17 +13,28 @@ import org.natc.app.entity.request.PlayerGameSearchRequest;
 import org.natc.app.entity.response.PlayerGameResponse;
 import org.natc.app.entity.response.ResponseEnvelope;
 import org.natc.app.entity.response.ResponseStatus;
+import org.natc.app.exception.InvalidCursorException;
+import org.natc.app.service.search.NATCStreamingService;
 import org.natc.app.service.search.PlayerGameSearchService;
+import org.natc.app.service.search.SearchPage;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,35 +43,46 @@ class PlayerGameSearchControllerTest {
     @Mock
     private PlayerGameSearchService searchService;
 
+    @Mock
+    private NATCStreamingService streamingService;
+
+    @Mock
+    private NdjsonWriter ndjsonWriter;
+
     @InjectMocks
     private PlayerGameSearchController controller;
 
+    @BeforeEach
+    void setup() throws InvalidCursorException {
+        lenient().when(searchService.fetchPage(any(), any(), any())).thenReturn(new SearchPage<>(Collections.emptyList(), null));
+    }
+
     @Nested
     class Search {
 
         @Test
         void shouldReturnOKResponse() {
-            final ResponseEntity<ResponseEnvelope<PlayerGameResponse>> response = controller.search(null, null, null, null, null, null);
+            final ResponseEntity<ResponseEnvelope<PlayerGameResponse>> response = controller.search(null, null, null, null, null, null, null, null);
 
             assertEquals(HttpStatus.OK, response.getStatusCode());
         }
 
         @Test
         void shouldReturnEnvelopeWithNotFoundStatusWhenNoRecordsAreFound() {
-            final ResponseEntity<ResponseEnvelope<PlayerGameResponse>> response = controller.search(null, null, null, null, null, null);
+            final ResponseEntity<ResponseEnvelope<PlayerGameResponse>> response = controller.search(null, null, null, null, null, null, null, null);
 
             assertEquals(ResponseStatus.NOT_FOUND, response.getBody().getStatus());
         }
 
         @Test
-        void shouldCallTeamGameSearchService() {
-            controller.search(null, null, null, null, null, null);
+        void shouldCallTeamGameSearchService() throws InvalidCursorException {
+            controller.search(null, null, null, null, null, null, null, null);
 
-            verify(searchService).fetchAll(any(PlayerGameSearchRequest.class));
+            verify(searchService).fetchPage(any(PlayerGameSearchRequest.class), any(), any());
         }
 
         @Test
-        void shouldConstructRequestObjectForSearchServiceUsingRequestParameters() {
+        void shouldConstructRequestObjectForSearchServiceUsingRequestParameters() throws InvalidCursorException {
             final Integer gameId = 5338;
             final String year = "2003";
             final LocalDate datestamp = LocalDate.now();
@@ -68,9 +91,9 @@ class PlayerGameSearchControllerTest {
             final Integer teamId = 14;
             final ArgumentCaptor<PlayerGameSearchRequest> captor = ArgumentCaptor.forClass(PlayerGameSearchRequest.class);
 
-            controller.search(gameId, year, datestamp, type, playerId, teamId);
+            controller.search(gameId, year, datestamp, type, playerId, teamId, null, null);
 
-            verify(searchService).fetchAll(captor.capture());
+            verify(searchService).fetchPage(captor.capture(), any(), any());
 
             final PlayerGameSearchRequest request = captor.getValue();
 
@@ -83,25 +106,108 @@ class PlayerGameSearchControllerTest {
         }
 
         @Test
-        void shouldRespondWithEnvelopContainingResponsesReturnedBySearchService() {
+        void shouldRespondWithEnvelopContainingResponsesReturnedBySearchService() throws InvalidCursorException {
             final List<PlayerGameResponse> playerGameList = Collections.singletonList(new PlayerGameResponse());
 
-            when(searchService.fetchAll(any(PlayerGameSearchRequest.class))).thenReturn(playerGameList);
+            when(searchService.fetchPage(any(PlayerGameSearchRequest.class), any(), any())).thenReturn(new SearchPage<>(playerGameList, null));
 
-            final ResponseEntity<ResponseEnvelope<PlayerGameResponse>> response = controller.search(null, null, null, null, null, null);
+            final ResponseEntity<ResponseEnvelope<PlayerGameResponse>> response = controller.search(null, null, null, null, null, null, null, null);
 
             assertEquals(playerGameList, response.getBody().getResources());
         }
 
         @Test
-        void shouldReturnEnvelopeWithSuccessStatusWhenRecordsAreFound() {
+        void shouldReturnEnvelopeWithSuccessStatusWhenRecordsAreFound() throws InvalidCursorException {
             final List<PlayerGameResponse> playerGameList = Collections.singletonList(new PlayerGameResponse());
 
-            when(searchService.fetchAll(any(PlayerGameSearchRequest.class))).thenReturn(playerGameList);
+            when(searchService.fetchPage(any(PlayerGameSearchRequest.class), any(), any())).thenReturn(new SearchPage<>(playerGameList, null));
 
-            final ResponseEntity<ResponseEnvelope<PlayerGameResponse>> response = controller.search(null, null, null, null, null, null);
+            final ResponseEntity<ResponseEnvelope<PlayerGameResponse>> response = controller.search(null, null, null, null, null, null, null, null);
 
             assertEquals(ResponseStatus.SUCCESS, response.getBody().getStatus());
         }
+
+        @Test
+        void shouldPassCursorAndPageSizeToSearchService() throws InvalidCursorException {
+            controller.search(null, null, null, null, null, null, "cursor", 25);
+
+            verify(searchService).fetchPage(any(PlayerGameSearchRequest.class), eq("cursor"), eq(25));
+        }
+
+        @Test
+        void shouldRespondWithEnvelopeContainingNextCursorReturnedBySearchService() throws InvalidCursorException {
+            final List<PlayerGameResponse> resources = Collections.singletonList(new PlayerGameResponse());
+
+            when(searchService.fetchPage(any(PlayerGameSearchRequest.class), any(), any())).thenReturn(new SearchPage<>(resources, "next"));
+
+            final ResponseEntity<ResponseEnvelope<PlayerGameResponse>> response = controller.search(null, null, null, null, null, null, null, null);
+
+            assertEquals("next", response.getBody().getNextCursor());
+        }
+
+        @Test
+        void shouldReturnBadRequestResponseWhenCursorIsInvalid() throws InvalidCursorException {
+            when(searchService.fetchPage(any(PlayerGameSearchRequest.class), any(), any())).thenThrow(new InvalidCursorException());
+
+            final ResponseEntity<ResponseEnvelope<PlayerGameResponse>> response = controller.search(null, null, null, null, null, null, "bad", null);
+
+            assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+            assertEquals(ResponseStatus.FAILURE, response.getBody().getStatus());
+        }
+    }
+
+    @Nested
+    class Export {
+
+        @Test
+        void shouldReturnOKResponseWithNdjsonContentType() {
+            final ResponseEntity<StreamingResponseBody> response = controller.export(null, null, null, null, null, null);
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        }
+
+        @Test
+        void shouldNotCallStreamingServiceUntilTheBodyIsWritten() {
+            controller.export(null, null, null, null, null, null);
+
+            verifyNoInteractions(streamingService);
+        }
+
+        @Test
+        void shouldStreamToTheResponseOutputStreamThroughTheNdjsonWriter() throws IOException {
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            final Consumer<Object> consumer = resource -> {};
+
+            when(ndjsonWriter.to(outputStream)).thenReturn(consumer);
+
+            controller.export(null, null, null, null, null, null).getBody().writeTo(outputStream);
+
+            verify(streamingService).streamAll(any(PlayerGameSearchRequest.class), eq(consumer));
+        }
+
+        @Test
+        void shouldConstructRequestObjectForStreamingServiceUsingRequestParameters() throws IOException {
+            final Integer gameId = 5338;
+            final String year = "2003";
+            final LocalDate datestamp = LocalDate.now();
+            final GameType type = GameType.PRESEASON;
+            final Integer playerId = 1234;
+            final Integer teamId = 14;
+            final ArgumentCaptor<PlayerGameSearchRequest> captor = ArgumentCaptor.forClass(PlayerGameSearchRequest.class);
+
+            controller.export(gameId, year, datestamp, type, playerId, teamId).getBody().writeTo(new ByteArrayOutputStream());
+
+            verify(streamingService).streamAll(captor.capture(), any());
+
+            final PlayerGameSearchRequest request = captor.getValue();
+
+            assertEquals(gameId, request.getGameId());
+            assertEquals(year, request.getYear());
+            assertEquals(datestamp, request.getDatestamp());
+            assertEquals(type, request.getType());
+            assertEquals(playerId, request.getPlayerId());
+            assertEquals(teamId, request.getTeamId());
+        }
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package org.natc.app.controller;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,7 +12,9 @@ import org.natc.app.entity.request.PlayerSearchRequest;
 import org.natc.app.entity.response.PlayerResponse;
 import org.natc.app.entity.response.ResponseEnvelope;
 import org.natc.app.entity.response.ResponseStatus;
+import org.natc.app.exception.InvalidCursorException;
 import org.natc.app.service.search.NATCSearchService;
+import org.natc.app.service.search.SearchPage;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -21,6 +24,8 @@ import java.util.List;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -33,40 +38,45 @@ class PlayerSearchControllerTest {
     @InjectMocks
     private PlayerSearchController playerSearchController;
 
+    @BeforeEach
+    void setup() throws InvalidCursorException {
+        lenient().when(playerSearchService.fetchPage(any(), any(), any())).thenReturn(new SearchPage<>(Collections.emptyList(), null));
+    }
+
     @Nested
     class Search {
 
         @Test
         void shouldReturnOKResponse() {
-            final ResponseEntity<ResponseEnvelope<PlayerResponse>> response = playerSearchController.search(null, null, null);
+            final ResponseEntity<ResponseEnvelope<PlayerResponse>> response = playerSearchController.search(null, null, null, null, null);
 
             assertEquals(HttpStatus.OK, response.getStatusCode());
         }
 
         @Test
         void shouldReturnEnvelopeWithNotFoundStatusWhenNoRecordsAreFound() {
-            final ResponseEntity<ResponseEnvelope<PlayerResponse>> response = playerSearchController.search(null, null, null);
+            final ResponseEntity<ResponseEnvelope<PlayerResponse>> response = playerSearchController.search(null, null, null, null, null);
 
             assertEquals(ResponseStatus.NOT_FOUND, response.getBody().getStatus());
         }
 
         @Test
-        void shouldCallPlayerSearchService() {
-            playerSearchController.search(null, null, null);
+        void shouldCallPlayerSearchService() throws InvalidCursorException {
+            playerSearchController.search(null, null, null, null, null);
 
-            verify(playerSearchService).fetchAll(any());
+            verify(playerSearchService).fetchPage(any(), any(), any());
         }
 
         @Test
-        void shouldConstructRequestObjectForPlayerSearchServiceUsingRequestParameters() {
+        void shouldConstructRequestObjectForPlayerSearchServiceUsingRequestParameters() throws InvalidCursorException {
             final Integer playerId = 123;
             final Integer teamId = 321;
             final String year = "1991";
             final ArgumentCaptor<PlayerSearchRequest> captor = ArgumentCaptor.forClass(PlayerSearchRequest.class);
 
-            playerSearchController.search(playerId, teamId, year);
+            playerSearchController.search(playerId, teamId, year, null, null);
 
-            verify(playerSearchService).fetchAll(captor.capture());
+            verify(playerSearchService).fetchPage(captor.capture(), any(), any());
 
             final PlayerSearchRequest request = captor.getValue();
 
@@ -76,25 +86,53 @@ class PlayerSearchControllerTest {
         }
 
         @Test
-        void shouldRespondWithEnvelopContainingPlayersReturnedBySearchService() {
+        void shouldRespondWithEnvelopContainingPlayersReturnedBySearchService() throws InvalidCursorException {
             final List<PlayerResponse> playerList = Collections.singletonList(new PlayerResponse());
 
-            when(playerSearchService.fetchAll(any(PlayerSearchRequest.class))).thenReturn(playerList);
+            when(playerSearchService.fetchPage(any(PlayerSearchRequest.class), any(), any())).thenReturn(new SearchPage<>(playerList, null));
 
-            final ResponseEntity<ResponseEnvelope<PlayerResponse>> response = playerSearchController.search(null, null, null);
+            final ResponseEntity<ResponseEnvelope<PlayerResponse>> response = playerSearchController.search(null, null, null, null, null);
 
             assertSame(playerList, response.getBody().getResources());
         }
 
         @Test
-        void shouldReturnEnvelopeWithSuccessStatusWhenRecordsAreFound() {
+        void shouldReturnEnvelopeWithSuccessStatusWhenRecordsAreFound() throws InvalidCursorException {
             final List<PlayerResponse> playerList = Collections.singletonList(new PlayerResponse());
 
-            when(playerSearchService.fetchAll(any(PlayerSearchRequest.class))).thenReturn(playerList);
+            when(playerSearchService.fetchPage(any(PlayerSearchRequest.class), any(), any())).thenReturn(new SearchPage<>(playerList, null));
 
-            final ResponseEntity<ResponseEnvelope<PlayerResponse>> response = playerSearchController.search(null, null, null);
+            final ResponseEntity<ResponseEnvelope<PlayerResponse>> response = playerSearchController.search(null, null, null, null, null);
 
             assertEquals(ResponseStatus.SUCCESS, response.getBody().getStatus());
         }
+
+        @Test
+        void shouldPassCursorAndPageSizeToSearchService() throws InvalidCursorException {
+            playerSearchController.search(null, null, null, "cursor", 25);
+
+            verify(playerSearchService).fetchPage(any(PlayerSearchRequest.class), eq("cursor"), eq(25));
+        }
+
+        @Test
+        void shouldRespondWithEnvelopeContainingNextCursorReturnedBySearchService() throws InvalidCursorException {
+            final List<PlayerResponse> resources = Collections.singletonList(new PlayerResponse());
+
+            when(playerSearchService.fetchPage(any(PlayerSearchRequest.class), any(), any())).thenReturn(new SearchPage<>(resources, "next"));
+
+            final ResponseEntity<ResponseEnvelope<PlayerResponse>> response = playerSearchController.search(null, null, null, null, null);
+
+            assertEquals("next", response.getBody().getNextCursor());
+        }
+
+        @Test
+        void shouldReturnBadRequestResponseWhenCursorIsInvalid() throws InvalidCursorException {
+            when(playerSearchService.fetchPage(any(PlayerSearchRequest.class), any(), any())).thenThrow(new InvalidCursorException());
+
+            final ResponseEntity<ResponseEnvelope<PlayerResponse>> response = playerSearchController.search(null, null, null, "bad", null);
+
+            assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+            assertEquals(ResponseStatus.FAILURE, response.getBody().getStatus());
+        }
     }
 }
\ No newline at end of file
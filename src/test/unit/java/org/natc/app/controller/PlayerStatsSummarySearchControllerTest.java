@@ -1,5 +1,6 @@
 package org.natc.app.controller;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,16 +13,27 @@ import org.natc.app.entity.request.PlayerStatsSummarySearchRequest;
 import org.natc.app.entity.response.PlayerStatsSummaryResponse;
 import org.natc.app.entity.response.ResponseEnvelope;
 import org.natc.app.entity.response.ResponseStatus;
+import org.natc.app.exception.InvalidCursorException;
 import org.natc.app.service.search.NATCSearchService;
+import org.natc.app.service.search.NATCStreamingService;
+import org.natc.app.service.search.SearchPage;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,44 +42,55 @@ class PlayerStatsSummarySearchControllerTest {
     @Mock
     private NATCSearchService searchService;
 
+    @Mock
+    private NATCStreamingService streamingService;
+
+    @Mock
+    private NdjsonWriter ndjsonWriter;
+
     @InjectMocks
     private PlayerStatsSummarySearchController controller;
 
+    @BeforeEach
+    void setup() throws InvalidCursorException {
+        lenient().when(searchService.fetchPage(any(), any(), any())).thenReturn(new SearchPage<>(Collections.emptyList(), null));
+    }
+
     @Nested
     class Search {
 
         @Test
         void shouldReturnOKResponse() {
-            final ResponseEntity<ResponseEnvelope<PlayerStatsSummaryResponse>> response = controller.search(null, null, null, null);
+            final ResponseEntity<ResponseEnvelope<PlayerStatsSummaryResponse>> response = controller.search(null, null, null, null, null, null);
 
             assertEquals(HttpStatus.OK, response.getStatusCode());
         }
 
         @Test
         void shouldReturnEnvelopeWithNotFoundStatusWhenNoRecordsAreFound() {
-            final ResponseEntity<ResponseEnvelope<PlayerStatsSummaryResponse>> response = controller.search(null, null, null, null);
+            final ResponseEntity<ResponseEnvelope<PlayerStatsSummaryResponse>> response = controller.search(null, null, null, null, null, null);
 
             assertEquals(ResponseStatus.NOT_FOUND, response.getBody().getStatus());
         }
 
         @Test
-        void shouldCallPlayerStatsSummarySearchService() {
-            controller.search(null, null, null, null);
+        void shouldCallPlayerStatsSummarySearchService() throws InvalidCursorException {
+            controller.search(null, null, null, null, null, null);
 
-            verify(searchService).fetchAll(any());
+            verify(searchService).fetchPage(any(), any(), any());
         }
 
         @Test
-        void shouldConstructRequestObjectForSearchServiceUsingRequestParameters() {
+        void shouldConstructRequestObjectForSearchServiceUsingRequestParameters() throws InvalidCursorException {
             final String year = "1997";
             final GameType type = GameType.ALLSTAR;
             final Integer playerId = 123;
             final Integer teamId = 45;
             final ArgumentCaptor<PlayerStatsSummarySearchRequest> captor = ArgumentCaptor.forClass(PlayerStatsSummarySearchRequest.class);
 
-            controller.search(year, type, playerId, teamId);
+            controller.search(year, type, playerId, teamId, null, null);
 
-            verify(searchService).fetchAll(captor.capture());
+            verify(searchService).fetchPage(captor.capture(), any(), any());
 
             final PlayerStatsSummarySearchRequest request = captor.getValue();
 
@@ -78,25 +101,104 @@ class PlayerStatsSummarySearchControllerTest {
         }
 
         @Test
-        void shouldRespondWithEnvelopContainingResponsesReturnedBySearchService() {
+        void shouldRespondWithEnvelopContainingResponsesReturnedBySearchService() throws InvalidCursorException {
             final List<PlayerStatsSummaryResponse> playerStatsSummaryList = Collections.singletonList(new PlayerStatsSummaryResponse());
 
-            when(searchService.fetchAll(any(PlayerStatsSummarySearchRequest.class))).thenReturn(playerStatsSummaryList);
+            when(searchService.fetchPage(any(PlayerStatsSummarySearchRequest.class), any(), any())).thenReturn(new SearchPage<>(playerStatsSummaryList, null));
 
-            final ResponseEntity<ResponseEnvelope<PlayerStatsSummaryResponse>> response = controller.search(null, null, null, null);
+            final ResponseEntity<ResponseEnvelope<PlayerStatsSummaryResponse>> response = controller.search(null, null, null, null, null, null);
 
             assertEquals(playerStatsSummaryList, response.getBody().getResources());
         }
 
         @Test
-        void shouldReturnEnvelopeWithSuccessStatusWhenRecordsAreFound() {
+        void shouldReturnEnvelopeWithSuccessStatusWhenRecordsAreFound() throws InvalidCursorException {
             final List<PlayerStatsSummaryResponse> playerStatsSummaryList = Collections.singletonList(new PlayerStatsSummaryResponse());
 
-            when(searchService.fetchAll(any(PlayerStatsSummarySearchRequest.class))).thenReturn(playerStatsSummaryList);
+            when(searchService.fetchPage(any(PlayerStatsSummarySearchRequest.class), any(), any())).thenReturn(new SearchPage<>(playerStatsSummaryList, null));
 
-            final ResponseEntity<ResponseEnvelope<PlayerStatsSummaryResponse>> response = controller.search(null, null, null, null);
+            final ResponseEntity<ResponseEnvelope<PlayerStatsSummaryResponse>> response = controller.search(null, null, null, null, null, null);
 
             assertEquals(ResponseStatus.SUCCESS, response.getBody().getStatus());
         }
+
+        @Test
+        void shouldPassCursorAndPageSizeToSearchService() throws InvalidCursorException {
+            controller.search(null, null, null, null, "cursor", 25);
+
+            verify(searchService).fetchPage(any(PlayerStatsSummarySearchRequest.class), eq("cursor"), eq(25));
+        }
+
+        @Test
+        void shouldRespondWithEnvelopeContainingNextCursorReturnedBySearchService() throws InvalidCursorException {
+            final List<PlayerStatsSummaryResponse> resources = Collections.singletonList(new PlayerStatsSummaryResponse());
+
+            when(searchService.fetchPage(any(PlayerStatsSummarySearchRequest.class), any(), any())).thenReturn(new SearchPage<>(resources, "next"));
+
+            final ResponseEntity<ResponseEnvelope<PlayerStatsSummaryResponse>> response = controller.search(null, null, null, null, null, null);
+
+            assertEquals("next", response.getBody().getNextCursor());
+        }
+
+        @Test
+        void shouldReturnBadRequestResponseWhenCursorIsInvalid() throws InvalidCursorException {
+            when(searchService.fetchPage(any(PlayerStatsSummarySearchRequest.class), any(), any())).thenThrow(new InvalidCursorException());
+
+            final ResponseEntity<ResponseEnvelope<PlayerStatsSummaryResponse>> response = controller.search(null, null, null, null, "bad", null);
+
+            assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+            assertEquals(ResponseStatus.FAILURE, response.getBody().getStatus());
+        }
+    }
+
+    @Nested
+    class Export {
+
+        @Test
+        void shouldReturnOKResponseWithNdjsonContentType() {
+            final ResponseEntity<StreamingResponseBody> response = controller.export(null, null, null, null);
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        }
+
+        @Test
+        void shouldNotCallStreamingServiceUntilTheBodyIsWritten() {
+            controller.export(null, null, null, null);
+
+            verifyNoInteractions(streamingService);
+        }
+
+        @Test
+        void shouldStreamToTheResponseOutputStreamThroughTheNdjsonWriter() throws IOException {
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            final Consumer<Object> consumer = resource -> {};
+
+            when(ndjsonWriter.to(outputStream)).thenReturn(consumer);
+
+            controller.export(null, null, null, null).getBody().writeTo(outputStream);
+
+            verify(streamingService).streamAll(any(PlayerStatsSummarySearchRequest.class), eq(consumer));
+        }
+
+        @Test
+        void shouldConstructRequestObjectForStreamingServiceUsingRequestParameters() throws IOException {
+            final String year = "2003";
+            final GameType type = GameType.REGULAR_SEASON;
+            final Integer playerId = 1234;
+            final Integer teamId = 14;
+            final ArgumentCaptor<PlayerStatsSummarySearchRequest> captor = ArgumentCaptor.forClass(PlayerStatsSummarySearchRequest.class);
+
+            controller.export(year, type, playerId, teamId).getBody().writeTo(new ByteArrayOutputStream());
+
+            verify(streamingService).streamAll(captor.capture(), any());
+
+            final PlayerStatsSummarySearchRequest request = captor.getValue();
+
+            assertEquals(year, request.getYear());
+            assertEquals(type, request.getType());
+            assertEquals(playerId, request.getPlayerId());
+            assertEquals(teamId, request.getTeamId());
+        }
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package org.natc.app.controller;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,7 +12,9 @@ import org.natc.app.entity.request.ScheduleSearchRequest;
 import org.natc.app.entity.response.ResponseEnvelope;
 import org.natc.app.entity.response.ResponseStatus;
 import org.natc.app.entity.response.ScheduleResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.natc.app.service.search.NATCSearchService;
+import org.natc.app.service.search.SearchPage;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -20,6 +23,8 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -32,39 +37,44 @@ class ScheduleSearchControllerTest {
     @InjectMocks
     private ScheduleSearchController scheduleSearchController;
 
+    @BeforeEach
+    void setup() throws InvalidCursorException {
+        lenient().when(scheduleSearchService.fetchPage(any(), any(), any())).thenReturn(new SearchPage<>(Collections.emptyList(), null));
+    }
+
     @Nested
     class Search {
 
         @Test
         void shouldReturnOKResponse() {
-            final ResponseEntity<ResponseEnvelope<ScheduleResponse>> response = scheduleSearchController.search(null, null);
+            final ResponseEntity<ResponseEnvelope<ScheduleResponse>> response = scheduleSearchController.search(null, null, null, null);
 
             assertEquals(HttpStatus.OK, response.getStatusCode());
         }
 
         @Test
         void shouldReturnEnvelopeWithNotFoundStatusWhenNoRecordsAreFound() {
-            final ResponseEntity<ResponseEnvelope<ScheduleResponse>> response = scheduleSearchController.search(null, null);
+            final ResponseEntity<ResponseEnvelope<ScheduleResponse>> response = scheduleSearchController.search(null, null, null, null);
 
             assertEquals(ResponseStatus.NOT_FOUND, response.getBody().getStatus());
         }
 
         @Test
-        void shouldCallScheduleSearchService() {
-            scheduleSearchController.search(null, null);
+        void shouldCallScheduleSearchService() throws InvalidCursorException {
+            scheduleSearchController.search(null, null, null, null);
 
-            verify(scheduleSearchService).fetchAll(any(ScheduleSearchRequest.class));
+            verify(scheduleSearchService).fetchPage(any(ScheduleSearchRequest.class), any(), any());
         }
 
         @Test
-        void shouldConstructRequestObjectForScheduleSearchServiceUsingRequestParameters() {
+        void shouldConstructRequestObjectForScheduleSearchServiceUsingRequestParameters() throws InvalidCursorException {
             final String year = "1992";
             final Integer sequence = 35;
             final ArgumentCaptor<ScheduleSearchRequest> captor = ArgumentCaptor.forClass(ScheduleSearchRequest.class);
 
-            scheduleSearchController.search(year, sequence);
+            scheduleSearchController.search(year, sequence, null, null);
 
-            verify(scheduleSearchService).fetchAll(captor.capture());
+            verify(scheduleSearchService).fetchPage(captor.capture(), any(), any());
 
             final ScheduleSearchRequest request = captor.getValue();
 
@@ -73,25 +83,53 @@ class ScheduleSearchControllerTest {
         }
 
         @Test
-        void shouldRespondWithEnvelopContainingSchedulesReturnedBySearchService() {
+        void shouldRespondWithEnvelopContainingSchedulesReturnedBySearchService() throws InvalidCursorException {
             final List<ScheduleResponse> scheduleList = Collections.singletonList(new ScheduleResponse());
 
-            when(scheduleSearchService.fetchAll(any(ScheduleSearchRequest.class))).thenReturn(scheduleList);
+            when(scheduleSearchService.fetchPage(any(ScheduleSearchRequest.class), any(), any())).thenReturn(new SearchPage<>(scheduleList, null));
 
-            final ResponseEntity<ResponseEnvelope<ScheduleResponse>> response = scheduleSearchController.search(null, null);
+            final ResponseEntity<ResponseEnvelope<ScheduleResponse>> response = scheduleSearchController.search(null, null, null, null);
 
             assertEquals(scheduleList, response.getBody().getResources());
         }
 
         @Test
-        void shouldReturnEnvelopeWithSuccessStatusWhenRecordsAreFound() {
+        void shouldReturnEnvelopeWithSuccessStatusWhenRecordsAreFound() throws InvalidCursorException {
             final List<ScheduleResponse> scheduleList = Collections.singletonList(new ScheduleResponse());
 
-            when(scheduleSearchService.fetchAll(any(ScheduleSearchRequest.class))).thenReturn(scheduleList);
+            when(scheduleSearchService.fetchPage(any(ScheduleSearchRequest.class), any(), any())).thenReturn(new SearchPage<>(scheduleList, null));
 
-            final ResponseEntity<ResponseEnvelope<ScheduleResponse>> response = scheduleSearchController.search(null, null);
+            final ResponseEntity<ResponseEnvelope<ScheduleResponse>> response = scheduleSearchController.search(null, null, null, null);
 
             assertEquals(ResponseStatus.SUCCESS, response.getBody().getStatus());
         }
+
+        @Test
+        void shouldPassCursorAndPageSizeToSearchService() throws InvalidCursorException {
+            scheduleSearchController.search(null, null, "cursor", 25);
+
+            verify(scheduleSearchService).fetchPage(any(ScheduleSearchRequest.class), eq("cursor"), eq(25));
+        }
+
+        @Test
+        void shouldRespondWithEnvelopeContainingNextCursorReturnedBySearchService() throws InvalidCursorException {
+            final List<ScheduleResponse> resources = Collections.singletonList(new ScheduleResponse());
+
+            when(scheduleSearchService.fetchPage(any(ScheduleSearchRequest.class), any(), any())).thenReturn(new SearchPage<>(resources, "next"));
+
+            final ResponseEntity<ResponseEnvelope<ScheduleResponse>> response = scheduleSearchController.search(null, null, null, null);
+
+            assertEquals("next", response.getBody().getNextCursor());
+        }
+
+        @Test
+        void shouldReturnBadRequestResponseWhenCursorIsInvalid() throws InvalidCursorException {
+            when(scheduleSearchService.fetchPage(any(ScheduleSearchRequest.class), any(), any())).thenThrow(new InvalidCursorException());
+
+            final ResponseEntity<ResponseEnvelope<ScheduleResponse>> response = scheduleSearchController.search(null, null, "bad", null);
+
+            assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+            assertEquals(ResponseStatus.FAILURE, response.getBody().getStatus());
+        }
     }
 }
\ No newline at end of file
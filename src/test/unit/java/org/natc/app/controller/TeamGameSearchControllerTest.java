@@ -1,5 +1,6 @@
 package org.natc.app.controller;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,17 +13,28 @@ import org.natc.app.entity.request.TeamGameSearchRequest;
 import org.natc.app.entity.response.ResponseEnvelope;
 import org.natc.app.entity.response.ResponseStatus;
 import org.natc.app.entity.response.TeamGameResponse;
+import org.natc.app.exception.InvalidCursorException;
+import org.natc.app.service.search.NATCStreamingService;
+import org.natc.app.service.search.SearchPage;
 import org.natc.app.service.search.TeamGameSearchService;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,35 +43,46 @@ class TeamGameSearchControllerTest {
     @Mock
     private TeamGameSearchService searchService;
 
+    @Mock
+    private NATCStreamingService streamingService;
+
+    @Mock
+    private NdjsonWriter ndjsonWriter;
+
     @InjectMocks
     private TeamGameSearchController controller;
 
+    @BeforeEach
+    void setup() throws InvalidCursorException {
+        lenient().when(searchService.fetchPage(any(), any(), any())).thenReturn(new SearchPage<>(Collections.emptyList(), null));
+    }
+
     @Nested
     class Search {
 
         @Test
         void shouldReturnOKResponse() {
-            final ResponseEntity<ResponseEnvelope<TeamGameResponse>> response = controller.search(null, null, null, null, null, null);
+            final ResponseEntity<ResponseEnvelope<TeamGameResponse>> response = controller.search(null, null, null, null, null, null, null, null);
 
             assertEquals(HttpStatus.OK, response.getStatusCode());
         }
 
         @Test
         void shouldReturnEnvelopeWithNotFoundStatusWhenNoRecordsAreFound() {
-            final ResponseEntity<ResponseEnvelope<TeamGameResponse>> response = controller.search(null, null, null, null, null, null);
+            final ResponseEntity<ResponseEnvelope<TeamGameResponse>> response = controller.search(null, null, null, null, null, null, null, null);
 
             assertEquals(ResponseStatus.NOT_FOUND, response.getBody().getStatus());
         }
 
         @Test
-        void shouldCallTeamGameSearchService() {
-            controller.search(null, null, null, null, null, null);
+        void shouldCallTeamGameSearchService() throws InvalidCursorException {
+            controller.search(null, null, null, null, null, null, null, null);
 
-            verify(searchService).fetchAll(any(TeamGameSearchRequest.class));
+            verify(searchService).fetchPage(any(TeamGameSearchRequest.class), any(), any());
         }
 
         @Test
-        void shouldConstructRequestObjectForSearchServiceUsingRequestParameters() {
+        void shouldConstructRequestObjectForSearchServiceUsingRequestParameters() throws InvalidCursorException {
             final Integer gameId = 24;
             final String year = "1998";
             final LocalDate datestamp = LocalDate.now();
@@ -68,9 +91,9 @@ class TeamGameSearchControllerTest {
             final Integer opponent = 33;
             final ArgumentCaptor<TeamGameSearchRequest> captor = ArgumentCaptor.forClass(TeamGameSearchRequest.class);
 
-            controller.search(gameId, year, datestamp, type, teamId, opponent);
+            controller.search(gameId, year, datestamp, type, teamId, opponent, null, null);
 
-            verify(searchService).fetchAll(captor.capture());
+            verify(searchService).fetchPage(captor.capture(), any(), any());
 
             final TeamGameSearchRequest request = captor.getValue();
 
@@ -83,25 +106,108 @@ class TeamGameSearchControllerTest {
         }
 
         @Test
-        void shouldRespondWithEnvelopContainingResponsesReturnedBySearchService() {
+        void shouldRespondWithEnvelopContainingResponsesReturnedBySearchService() throws InvalidCursorException {
             final List<TeamGameResponse> teamGameList = Collections.singletonList(new TeamGameResponse());
 
-            when(searchService.fetchAll(any(TeamGameSearchRequest.class))).thenReturn(teamGameList);
+            when(searchService.fetchPage(any(TeamGameSearchRequest.class), any(), any())).thenReturn(new SearchPage<>(teamGameList, null));
 
-            final ResponseEntity<ResponseEnvelope<TeamGameResponse>> response = controller.search(null, null, null, null, null, null);
+            final ResponseEntity<ResponseEnvelope<TeamGameResponse>> response = controller.search(null, null, null, null, null, null, null, null);
 
             assertEquals(teamGameList, response.getBody().getResources());
         }
 
         @Test
-        void shouldReturnEnvelopeWithSuccessStatusWhenRecordsAreFound() {
+        void shouldReturnEnvelopeWithSuccessStatusWhenRecordsAreFound() throws InvalidCursorException {
             final List<TeamGameResponse> teamGameList = Collections.singletonList(new TeamGameResponse());
 
-            when(searchService.fetchAll(any(TeamGameSearchRequest.class))).thenReturn(teamGameList);
+            when(searchService.fetchPage(any(TeamGameSearchRequest.class), any(), any())).thenReturn(new SearchPage<>(teamGameList, null));
 
-            final ResponseEntity<ResponseEnvelope<TeamGameResponse>> response = controller.search(null, null, null, null, null, null);
+            final ResponseEntity<ResponseEnvelope<TeamGameResponse>> response = controller.search(null, null, null, null, null, null, null, null);
 
             assertEquals(ResponseStatus.SUCCESS, response.getBody().getStatus());
         }
+
+        @Test
+        void shouldPassCursorAndPageSizeToSearchService() throws InvalidCursorException {
+            controller.search(null, null, null, null, null, null, "cursor", 25);
+
+            verify(searchService).fetchPage(any(TeamGameSearchRequest.class), eq("cursor"), eq(25));
+        }
+
+        @Test
+        void shouldRespondWithEnvelopeContainingNextCursorReturnedBySearchService() throws InvalidCursorException {
+            final List<TeamGameResponse> resources = Collections.singletonList(new TeamGameResponse());
+
+            when(searchService.fetchPage(any(TeamGameSearchRequest.class), any(), any())).thenReturn(new SearchPage<>(resources, "next"));
+
+            final ResponseEntity<ResponseEnvelope<TeamGameResponse>> response = controller.search(null, null, null, null, null, null, null, null);
+
+            assertEquals("next", response.getBody().getNextCursor());
+        }
+
+        @Test
+        void shouldReturnBadRequestResponseWhenCursorIsInvalid() throws InvalidCursorException {
+            when(searchService.fetchPage(any(TeamGameSearchRequest.class), any(), any())).thenThrow(new InvalidCursorException());
+
+            final ResponseEntity<ResponseEnvelope<TeamGameResponse>> response = controller.search(null, null, null, null, null, null, "bad", null);
+
+            assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+            assertEquals(ResponseStatus.FAILURE, response.getBody().getStatus());
+        }
+    }
+
+    @Nested
+    class Export {
+
+        @Test
+        void shouldReturnOKResponseWithNdjsonContentType() {
+            final ResponseEntity<StreamingResponseBody> response = controller.export(null, null, null, null, null, null);
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        }
+
+        @Test
+        void shouldNotCallStreamingServiceUntilTheBodyIsWritten() {
+            controller.export(null, null, null, null, null, null);
+
+            verifyNoInteractions(streamingService);
+        }
+
+        @Test
+        void shouldStreamToTheResponseOutputStreamThroughTheNdjsonWriter() throws IOException {
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            final Consumer<Object> consumer = resource -> {};
+
+            when(ndjsonWriter.to(outputStream)).thenReturn(consumer);
+
+            controller.export(null, null, null, null, null, null).getBody().writeTo(outputStream);
+
+            verify(streamingService).streamAll(any(TeamGameSearchRequest.class), eq(consumer));
+        }
+
+        @Test
+        void shouldConstructRequestObjectForStreamingServiceUsingRequestParameters() throws IOException {
+            final Integer gameId = 5338;
+            final String year = "2003";
+            final LocalDate datestamp = LocalDate.now();
+            final GameType type = GameType.PRESEASON;
+            final Integer teamId = 14;
+            final Integer opponent = 21;
+            final ArgumentCaptor<TeamGameSearchRequest> captor = ArgumentCaptor.forClass(TeamGameSearchRequest.class);
+
+            controller.export(gameId, year, datestamp, type, teamId, opponent).getBody().writeTo(new ByteArrayOutputStream());
+
+            verify(streamingService).streamAll(captor.capture(), any());
+
+            final TeamGameSearchRequest request = captor.getValue();
+
+            assertEquals(gameId, request.getGameId());
+            assertEquals(year, request.getYear());
+            assertEquals(datestamp, request.getDatestamp());
+            assertEquals(type, request.getType());
+            assertEquals(teamId, request.getTeamId());
+            assertEquals(opponent, request.getOpponent());
+        }
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package org.natc.app.controller;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,7 +13,9 @@ import org.natc.app.entity.request.TeamOffenseSummarySearchRequest;
 import org.natc.app.entity.response.ResponseEnvelope;
 import org.natc.app.entity.response.ResponseStatus;
 import org.natc.app.entity.response.TeamOffenseSummaryResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.natc.app.service.search.NATCSearchService;
+import org.natc.app.service.search.SearchPage;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -21,6 +24,8 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -33,40 +38,45 @@ class TeamOffenseSummarySearchControllerTest {
     @InjectMocks
     private TeamOffenseSummarySearchController controller;
 
+    @BeforeEach
+    void setup() throws InvalidCursorException {
+        lenient().when(searchService.fetchPage(any(), any(), any())).thenReturn(new SearchPage<>(Collections.emptyList(), null));
+    }
+
     @Nested
     class Search {
 
         @Test
         void shouldReturnOKResponse() {
-            final ResponseEntity<ResponseEnvelope<TeamOffenseSummaryResponse>> response = controller.search(null, null, null);
+            final ResponseEntity<ResponseEnvelope<TeamOffenseSummaryResponse>> response = controller.search(null, null, null, null, null);
 
             assertEquals(HttpStatus.OK, response.getStatusCode());
         }
 
         @Test
         void shouldReturnEnvelopeWithNotFoundStatusWhenNoRecordsAreFound() {
-            final ResponseEntity<ResponseEnvelope<TeamOffenseSummaryResponse>> response = controller.search(null, null, null);
+            final ResponseEntity<ResponseEnvelope<TeamOffenseSummaryResponse>> response = controller.search(null, null, null, null, null);
 
             assertEquals(ResponseStatus.NOT_FOUND, response.getBody().getStatus());
         }
 
         @Test
-        void shouldCallTeamOffenseSummarySearchService() {
-            controller.search(null, null, null);
+        void shouldCallTeamOffenseSummarySearchService() throws InvalidCursorException {
+            controller.search(null, null, null, null, null);
 
-            verify(searchService).fetchAll(any(TeamOffenseSummarySearchRequest.class));
+            verify(searchService).fetchPage(any(TeamOffenseSummarySearchRequest.class), any(), any());
         }
 
         @Test
-        void shouldConstructRequestObjectForSearchServiceUsingRequestParameters() {
+        void shouldConstructRequestObjectForSearchServiceUsingRequestParameters() throws InvalidCursorException {
             final String year = "2004";
             final GameType type = GameType.POSTSEASON;
             final Integer teamId = 20;
             final ArgumentCaptor<TeamOffenseSummarySearchRequest> captor = ArgumentCaptor.forClass(TeamOffenseSummarySearchRequest.class);
 
-            controller.search(year, type, teamId);
+            controller.search(year, type, teamId, null, null);
 
-            verify(searchService).fetchAll(captor.capture());
+            verify(searchService).fetchPage(captor.capture(), any(), any());
 
             final TeamOffenseSummarySearchRequest request = captor.getValue();
 
@@ -76,25 +86,53 @@ class TeamOffenseSummarySearchControllerTest {
         }
 
         @Test
-        void shouldRespondWithEnvelopContainingResponsesReturnedBySearchService() {
+        void shouldRespondWithEnvelopContainingResponsesReturnedBySearchService() throws InvalidCursorException {
             final List<TeamOffenseSummaryResponse> teamOffenseSummaryList = Collections.singletonList(new TeamOffenseSummaryResponse());
 
-            when(searchService.fetchAll(any(TeamOffenseSummarySearchRequest.class))).thenReturn(teamOffenseSummaryList);
+            when(searchService.fetchPage(any(TeamOffenseSummarySearchRequest.class), any(), any())).thenReturn(new SearchPage<>(teamOffenseSummaryList, null));
 
-            final ResponseEntity<ResponseEnvelope<TeamOffenseSummaryResponse>> response = controller.search(null, null, null);
+            final ResponseEntity<ResponseEnvelope<TeamOffenseSummaryResponse>> response = controller.search(null, null, null, null, null);
 
             assertEquals(teamOffenseSummaryList, response.getBody().getResources());
         }
 
         @Test
-        void shouldReturnEnvelopeWithSuccessStatusWhenRecordsAreFound() {
+        void shouldReturnEnvelopeWithSuccessStatusWhenRecordsAreFound() throws InvalidCursorException {
             final List<TeamOffenseSummaryResponse> teamOffenseSummaryList = Collections.singletonList(new TeamOffenseSummaryResponse());
 
-            when(searchService.fetchAll(any(TeamOffenseSummarySearchRequest.class))).thenReturn(teamOffenseSummaryList);
+            when(searchService.fetchPage(any(TeamOffenseSummarySearchRequest.class), any(), any())).thenReturn(new SearchPage<>(teamOffenseSummaryList, null));
 
-            final ResponseEntity<ResponseEnvelope<TeamOffenseSummaryResponse>> response = controller.search(null, null, null);
+            final ResponseEntity<ResponseEnvelope<TeamOffenseSummaryResponse>> response = controller.search(null, null, null, null, null);
 
             assertEquals(ResponseStatus.SUCCESS, response.getBody().getStatus());
         }
+
+        @Test
+        void shouldPassCursorAndPageSizeToSearchService() throws InvalidCursorException {
+            controller.search(null, null, null, "cursor", 25);
+
+            verify(searchService).fetchPage(any(TeamOffenseSummarySearchRequest.class), eq("cursor"), eq(25));
+        }
+
+        @Test
+        void shouldRespondWithEnvelopeContainingNextCursorReturnedBySearchService() throws InvalidCursorException {
+            final List<TeamOffenseSummaryResponse> resources = Collections.singletonList(new TeamOffenseSummaryResponse());
+
+            when(searchService.fetchPage(any(TeamOffenseSummarySearchRequest.class), any(), any())).thenReturn(new SearchPage<>(resources, "next"));
+
+            final ResponseEntity<ResponseEnvelope<TeamOffenseSummaryResponse>> response = controller.search(null, null, null, null, null);
+
+            assertEquals("next", response.getBody().getNextCursor());
+        }
+
+        @Test
+        void shouldReturnBadRequestResponseWhenCursorIsInvalid() throws InvalidCursorException {
+            when(searchService.fetchPage(any(TeamOffenseSummarySearchRequest.class), any(), any())).thenThrow(new InvalidCursorException());
+
+            final ResponseEntity<ResponseEnvelope<TeamOffenseSummaryResponse>> response = controller.search(null, null, null, "bad", null);
+
+            assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+            assertEquals(ResponseStatus.FAILURE, response.getBody().getStatus());
+        }
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package org.natc.app.controller;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,7 +12,9 @@ import org.natc.app.entity.request.TeamSearchRequest;
 import org.natc.app.entity.response.ResponseEnvelope;
 import org.natc.app.entity.response.ResponseStatus;
 import org.natc.app.entity.response.TeamResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.natc.app.service.search.NATCSearchService;
+import org.natc.app.service.search.SearchPage;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -20,6 +23,8 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -32,32 +37,37 @@ class TeamSearchControllerTest {
     @InjectMocks
     private TeamSearchController teamSearchController;
 
+    @BeforeEach
+    void setup() throws InvalidCursorException {
+        lenient().when(teamSearchService.fetchPage(any(), any(), any())).thenReturn(new SearchPage<>(Collections.emptyList(), null));
+    }
+
     @Nested
     class Search {
 
         @Test
         void shouldReturnOKResponse() {
-            final ResponseEntity<ResponseEnvelope<TeamResponse>> response = teamSearchController.search(null, null, null, null, null);
+            final ResponseEntity<ResponseEnvelope<TeamResponse>> response = teamSearchController.search(null, null, null, null, null, null, null);
 
             assertEquals(HttpStatus.OK, response.getStatusCode());
         }
 
         @Test
         void shouldReturnEnvelopeWithNotFoundStatusWhenNoRecordsAreFound() {
-            final ResponseEntity<ResponseEnvelope<TeamResponse>> response = teamSearchController.search(null, null, null, null, null);
+            final ResponseEntity<ResponseEnvelope<TeamResponse>> response = teamSearchController.search(null, null, null, null, null, null, null);
 
             assertEquals(ResponseStatus.NOT_FOUND, response.getBody().getStatus());
         }
 
         @Test
-        void shouldCallTeamSearchService() {
-            teamSearchController.search(null, null, null, null, null);
+        void shouldCallTeamSearchService() throws InvalidCursorException {
+            teamSearchController.search(null, null, null, null, null, null, null);
 
-            verify(teamSearchService).fetchAll(any(TeamSearchRequest.class));
+            verify(teamSearchService).fetchPage(any(TeamSearchRequest.class), any(), any());
         }
 
         @Test
-        void shouldConstructRequestObjectForTeamSearchServiceUsingRequestParameters() {
+        void shouldConstructRequestObjectForTeamSearchServiceUsingRequestParameters() throws InvalidCursorException {
             final Integer teamId = 123;
             final String year = "1999";
             final Integer conferenceId = 1;
@@ -65,9 +75,9 @@ class TeamSearchControllerTest {
             final Boolean allstarTeam = true;
             final ArgumentCaptor<TeamSearchRequest> captor = ArgumentCaptor.forClass(TeamSearchRequest.class);
 
-            teamSearchController.search(teamId, year, conferenceId, divisionId, allstarTeam);
+            teamSearchController.search(teamId, year, conferenceId, divisionId, allstarTeam, null, null);
 
-            verify(teamSearchService).fetchAll(captor.capture());
+            verify(teamSearchService).fetchPage(captor.capture(), any(), any());
 
             final TeamSearchRequest request = captor.getValue();
 
@@ -79,25 +89,53 @@ class TeamSearchControllerTest {
         }
 
         @Test
-        void shouldRespondWithEnvelopContainingTeamsReturnedBySearchService() {
+        void shouldRespondWithEnvelopContainingTeamsReturnedBySearchService() throws InvalidCursorException {
             final List<TeamResponse> teamList = Collections.singletonList(new TeamResponse());
 
-            when(teamSearchService.fetchAll(any(TeamSearchRequest.class))).thenReturn(teamList);
+            when(teamSearchService.fetchPage(any(TeamSearchRequest.class), any(), any())).thenReturn(new SearchPage<>(teamList, null));
 
-            final ResponseEntity<ResponseEnvelope<TeamResponse>> response = teamSearchController.search(null, null, null, null, null);
+            final ResponseEntity<ResponseEnvelope<TeamResponse>> response = teamSearchController.search(null, null, null, null, null, null, null);
 
             assertEquals(teamList, response.getBody().getResources());
         }
 
         @Test
-        void shouldReturnEnvelopeWithSuccessStatusWhenRecordsAreFound() {
+        void shouldReturnEnvelopeWithSuccessStatusWhenRecordsAreFound() throws InvalidCursorException {
             final List<TeamResponse> teamList = Collections.singletonList(new TeamResponse());
 
-            when(teamSearchService.fetchAll(any(TeamSearchRequest.class))).thenReturn(teamList);
+            when(teamSearchService.fetchPage(any(TeamSearchRequest.class), any(), any())).thenReturn(new SearchPage<>(teamList, null));
 
-            final ResponseEntity<ResponseEnvelope<TeamResponse>> response = teamSearchController.search(null, null, null, null, null);
+            final ResponseEntity<ResponseEnvelope<TeamResponse>> response = teamSearchController.search(null, null, null, null, null, null, null);
 
             assertEquals(ResponseStatus.SUCCESS, response.getBody().getStatus());
         }
+
+        @Test
+        void shouldPassCursorAndPageSizeToSearchService() throws InvalidCursorException {
+            teamSearchController.search(null, null, null, null, null, "cursor", 25);
+
+            verify(teamSearchService).fetchPage(any(TeamSearchRequest.class), eq("cursor"), eq(25));
+        }
+
+        @Test
+        void shouldRespondWithEnvelopeContainingNextCursorReturnedBySearchService() throws InvalidCursorException {
+            final List<TeamResponse> resources = Collections.singletonList(new TeamResponse());
+
+            when(teamSearchService.fetchPage(any(TeamSearchRequest.class), any(), any())).thenReturn(new SearchPage<>(resources, "next"));
+
+            final ResponseEntity<ResponseEnvelope<TeamResponse>> response = teamSearchController.search(null, null, null, null, null, null, null);
+
+            assertEquals("next", response.getBody().getNextCursor());
+        }
+
+        @Test
+        void shouldReturnBadRequestResponseWhenCursorIsInvalid() throws InvalidCursorException {
+            when(teamSearchService.fetchPage(any(TeamSearchRequest.class), any(), any())).thenThrow(new InvalidCursorException());
+
+            final ResponseEntity<ResponseEnvelope<TeamResponse>> response = teamSearchController.search(null, null, null, null, null, "bad", null);
+
+            assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+            assertEquals(ResponseStatus.FAILURE, response.getBody().getStatus());
+        }
     }
 }
\ No newline at end of file
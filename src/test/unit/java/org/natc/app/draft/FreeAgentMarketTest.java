@@ -0,0 +1,275 @@
+package org.natc.app.draft;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.natc.app.entity.domain.ManagerStyle;
+import org.natc.app.entity.domain.Player;
+
+import java.util.*;
+import java.util.function.ToDoubleFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FreeAgentMarketTest {
+
+    private static final ToDoubleFunction<Player> OFFENSE = Player::getOffensiveRating;
+    private static final ToDoubleFunction<Player> DEFENSE = Player::getDefensiveRating;
+
+    @Nested
+    class HasFreeAgents {
+
+        @Test
+        void shouldReturnFalseWhenThereAreNoPlayers() {
+            assertFalse(new FreeAgentMarket(Collections.emptyList()).hasFreeAgents());
+        }
+
+        @Test
+        void shouldReturnTrueWhenAPlayerHasNoTeam() {
+            assertTrue(new FreeAgentMarket(List.of(generatePlayer(1, null, 0.5))).hasFreeAgents());
+        }
+
+        @Test
+        void shouldNotCountRetiredPlayersAsFreeAgents() {
+            final Player player = generatePlayer(1, null, 0.5);
+
+            player.setRetired(1);
+
+            assertFalse(new FreeAgentMarket(List.of(player)).hasFreeAgents());
+        }
+
+        @Test
+        void shouldReturnFalseOnceTheLastFreeAgentSigns() {
+            final Player player = generatePlayer(1, null, 0.5);
+            final FreeAgentMarket market = new FreeAgentMarket(List.of(player));
+
+            player.setTeamId(3);
+            market.playerSigned(player, 3);
+
+            assertFalse(market.hasFreeAgents());
+        }
+    }
+
+    @Nested
+    class GetRosterSize {
+
+        @Test
+        void shouldCountThePlayersOnEachTeam() {
+            final FreeAgentMarket market = new FreeAgentMarket(List.of(
+                    generatePlayer(1, 1, 0.5),
+                    generatePlayer(2, 1, 0.5),
+                    generatePlayer(3, 2, 0.5),
+                    generatePlayer(4, null, 0.5)
+            ));
+
+            assertEquals(2, market.getRosterSize(1));
+            assertEquals(1, market.getRosterSize(2));
+            assertEquals(0, market.getRosterSize(3));
+        }
+
+        @Test
+        void shouldUpdateRosterSizesOnSigningsAndReleases() {
+            final Player teamPlayer = generatePlayer(1, 1, 0.5);
+            final Player freeAgent = generatePlayer(2, null, 0.5);
+            final FreeAgentMarket market = new FreeAgentMarket(List.of(teamPlayer, freeAgent));
+
+            freeAgent.setTeamId(2);
+            market.playerSigned(freeAgent, 2);
+            teamPlayer.setTeamId(null);
+            market.playerReleased(teamPlayer, 1);
+
+            assertEquals(0, market.getRosterSize(1));
+            assertEquals(1, market.getRosterSize(2));
+        }
+    }
+
+    @Nested
+    class GetBestFreeAgent {
+
+        @Test
+        void shouldReturnEmptyWhenThereAreNoFreeAgents() {
+            final FreeAgentMarket market = new FreeAgentMarket(List.of(generatePlayer(1, 1, 0.5)));
+
+            assertTrue(market.getBestFreeAgent(ManagerStyle.OFFENSIVE, OFFENSE).isEmpty());
+        }
+
+        @Test
+        void shouldReturnTheHighestRatedFreeAgentForTheStyle() {
+            final Player offensivePlayer = Player.builder().playerId(1).scoring(0.9).passing(0.9).blocking(0.9).tackling(0.1).stealing(0.1).presence(0.1).build();
+            final Player defensivePlayer = Player.builder().playerId(2).scoring(0.1).passing(0.1).blocking(0.1).tackling(0.9).stealing(0.9).presence(0.9).build();
+            final FreeAgentMarket market = new FreeAgentMarket(List.of(offensivePlayer, defensivePlayer));
+
+            assertSame(offensivePlayer, market.getBestFreeAgent(ManagerStyle.OFFENSIVE, OFFENSE).orElseThrow());
+            assertSame(defensivePlayer, market.getBestFreeAgent(ManagerStyle.DEFENSIVE, DEFENSE).orElseThrow());
+        }
+
+        @Test
+        void shouldPreferTheEarliestPlayerInTheListOnTies() {
+            final List<Player> players = List.of(generatePlayer(5, null, 0.5), generatePlayer(2, null, 0.5));
+            final FreeAgentMarket market = new FreeAgentMarket(players);
+
+            assertSame(players.get(0), market.getBestFreeAgent(ManagerStyle.OFFENSIVE, OFFENSE).orElseThrow());
+        }
+
+        @Test
+        void shouldNotReturnAPlayerThatHasSigned() {
+            final Player betterPlayer = generatePlayer(1, null, 0.9);
+            final Player worsePlayer = generatePlayer(2, null, 0.1);
+            final FreeAgentMarket market = new FreeAgentMarket(List.of(betterPlayer, worsePlayer));
+
+            market.getBestFreeAgent(ManagerStyle.OFFENSIVE, OFFENSE);
+
+            betterPlayer.setTeamId(1);
+            market.playerSigned(betterPlayer, 1);
+
+            assertSame(worsePlayer, market.getBestFreeAgent(ManagerStyle.OFFENSIVE, OFFENSE).orElseThrow());
+        }
+
+        @Test
+        void shouldReturnAPlayerThatHasBeenReleased() {
+            final Player teamPlayer = generatePlayer(1, 1, 0.9);
+            final Player freeAgent = generatePlayer(2, null, 0.1);
+            final FreeAgentMarket market = new FreeAgentMarket(List.of(teamPlayer, freeAgent));
+
+            assertSame(freeAgent, market.getBestFreeAgent(ManagerStyle.OFFENSIVE, OFFENSE).orElseThrow());
+
+            teamPlayer.setTeamId(null);
+            market.playerReleased(teamPlayer, 1);
+
+            assertSame(teamPlayer, market.getBestFreeAgent(ManagerStyle.OFFENSIVE, OFFENSE).orElseThrow());
+        }
+
+        @Test
+        void shouldOnlyRateEachPlayerOncePerStyle() {
+            final int[] ratingCalls = {0};
+            final ToDoubleFunction<Player> countingRating = player -> {
+                ratingCalls[0]++;
+                return player.getOffensiveRating();
+            };
+            final List<Player> players = List.of(generatePlayer(1, null, 0.9), generatePlayer(2, 1, 0.5), generatePlayer(3, null, 0.1));
+            final FreeAgentMarket market = new FreeAgentMarket(players);
+
+            market.getBestFreeAgent(ManagerStyle.OFFENSIVE, countingRating);
+            market.getWorstRosterPlayer(1, ManagerStyle.OFFENSIVE, countingRating);
+            market.getBestFreeAgent(ManagerStyle.OFFENSIVE, countingRating);
+
+            assertEquals(3, ratingCalls[0]);
+        }
+    }
+
+    @Nested
+    class GetWorstRosterPlayer {
+
+        @Test
+        void shouldReturnEmptyWhenTheTeamHasNoPlayers() {
+            final FreeAgentMarket market = new FreeAgentMarket(List.of(generatePlayer(1, 2, 0.5)));
+
+            assertTrue(market.getWorstRosterPlayer(1, ManagerStyle.OFFENSIVE, OFFENSE).isEmpty());
+        }
+
+        @Test
+        void shouldReturnTheLowestRatedPlayerOnTheTeam() {
+            final List<Player> players = List.of(
+                    generatePlayer(1, 1, 0.5),
+                    generatePlayer(2, 1, 0.2),
+                    generatePlayer(3, 2, 0.1),
+                    generatePlayer(4, null, 0.0)
+            );
+            final FreeAgentMarket market = new FreeAgentMarket(players);
+
+            assertSame(players.get(1), market.getWorstRosterPlayer(1, ManagerStyle.OFFENSIVE, OFFENSE).orElseThrow());
+        }
+
+        @Test
+        void shouldPreferTheEarliestPlayerInTheListOnTies() {
+            final List<Player> players = List.of(generatePlayer(5, 1, 0.5), generatePlayer(2, 1, 0.5));
+            final FreeAgentMarket market = new FreeAgentMarket(players);
+
+            assertSame(players.get(0), market.getWorstRosterPlayer(1, ManagerStyle.OFFENSIVE, OFFENSE).orElseThrow());
+        }
+
+        @Test
+        void shouldIncludePlayersSignedToTheTeam() {
+            final Player teamPlayer = generatePlayer(1, 1, 0.5);
+            final Player freeAgent = generatePlayer(2, null, 0.1);
+            final FreeAgentMarket market = new FreeAgentMarket(List.of(teamPlayer, freeAgent));
+
+            assertSame(teamPlayer, market.getWorstRosterPlayer(1, ManagerStyle.OFFENSIVE, OFFENSE).orElseThrow());
+
+            freeAgent.setTeamId(1);
+            market.playerSigned(freeAgent, 1);
+
+            assertSame(freeAgent, market.getWorstRosterPlayer(1, ManagerStyle.OFFENSIVE, OFFENSE).orElseThrow());
+        }
+
+        @Test
+        void shouldNotReturnAPlayerReleasedFromTheTeam() {
+            final Player worsePlayer = generatePlayer(1, 1, 0.1);
+            final Player betterPlayer = generatePlayer(2, 1, 0.9);
+            final FreeAgentMarket market = new FreeAgentMarket(List.of(worsePlayer, betterPlayer));
+
+            assertSame(worsePlayer, market.getWorstRosterPlayer(1, ManagerStyle.OFFENSIVE, OFFENSE).orElseThrow());
+
+            worsePlayer.setTeamId(null);
+            market.playerReleased(worsePlayer, 1);
+
+            assertSame(betterPlayer, market.getWorstRosterPlayer(1, ManagerStyle.OFFENSIVE, OFFENSE).orElseThrow());
+        }
+    }
+
+    @Nested
+    class Equivalence {
+
+        @Test
+        void shouldMakeTheSameChoicesAsFilteringTheWholePlayerList() {
+            final Random random = new Random(4321L);
+            final List<Player> marketPlayers = new ArrayList<>();
+            final List<Player> listPlayers = new ArrayList<>();
+
+            for (int i = 0; i < 200; i++) {
+                final Integer teamId = i < 120 ? i % 10 : null;
+                final double rating = Math.round(random.nextDouble() * 20.0) / 20.0;
+
+                marketPlayers.add(generatePlayer(i, teamId, rating));
+                listPlayers.add(generatePlayer(i, teamId, rating));
+            }
+
+            final FreeAgentMarket market = new FreeAgentMarket(marketPlayers);
+
+            for (int check = 0; check < 500; check++) {
+                final int teamId = random.nextInt(10);
+                final Comparator<Player> comparator = Comparator.comparingDouble(OFFENSE);
+
+                final Player expectedFreeAgent = listPlayers.stream().filter(player -> Objects.isNull(player.getTeamId())).max(comparator).orElseThrow();
+                final Player expectedWorst = listPlayers.stream().filter(player -> Objects.equals(teamId, player.getTeamId())).min(comparator).orElseThrow();
+
+                final Player actualFreeAgent = market.getBestFreeAgent(ManagerStyle.OFFENSIVE, OFFENSE).orElseThrow();
+                final Player actualWorst = market.getWorstRosterPlayer(teamId, ManagerStyle.OFFENSIVE, OFFENSE).orElseThrow();
+
+                assertEquals(expectedFreeAgent.getPlayerId(), actualFreeAgent.getPlayerId());
+                assertEquals(expectedWorst.getPlayerId(), actualWorst.getPlayerId());
+
+                // swap the two players so that the market sees a signing and a release every time
+                expectedFreeAgent.setTeamId(teamId);
+                expectedWorst.setTeamId(null);
+
+                actualFreeAgent.setTeamId(teamId);
+                market.playerSigned(actualFreeAgent, teamId);
+                actualWorst.setTeamId(null);
+                market.playerReleased(actualWorst, teamId);
+            }
+        }
+    }
+
+    private Player generatePlayer(final int playerId, final Integer teamId, final double rating) {
+        return Player.builder()
+                .playerId(playerId)
+                .teamId(teamId)
+                .scoring(rating)
+                .passing(rating)
+                .blocking(rating)
+                .tackling(rating)
+                .stealing(rating)
+                .presence(rating)
+                .build();
+    }
+}
@@ -0,0 +1,184 @@
+package org.natc.app.draft;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.natc.app.entity.domain.Manager;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ManagerDraftEngineTest {
+
+    @Nested
+    class ByOverallRating {
+
+        @Test
+        void shouldReturnEmptyWhenThereAreNoManagers() {
+            final ManagerDraftEngine engine = ManagerDraftEngine.byOverallRating(Collections.emptyList());
+
+            assertTrue(engine.draftBestManager(1).isEmpty());
+        }
+
+        @Test
+        void shouldReturnTheManagerWithTheHighestOverallRating() {
+            final Manager lowRatedManager = generateManager(1, 0.3);
+            final Manager highRatedManager = generateManager(2, 0.8);
+            final ManagerDraftEngine engine = ManagerDraftEngine.byOverallRating(List.of(lowRatedManager, highRatedManager));
+
+            assertSame(highRatedManager, engine.draftBestManager(1).orElseThrow());
+        }
+
+        @Test
+        void shouldNeverReturnTheSameManagerTwice() {
+            final List<Manager> managers = List.of(
+                    generateManager(1, 0.9),
+                    generateManager(2, 0.5),
+                    generateManager(3, 0.1)
+            );
+            final ManagerDraftEngine engine = ManagerDraftEngine.byOverallRating(managers);
+
+            assertSame(managers.get(0), engine.draftBestManager(1).orElseThrow());
+            assertSame(managers.get(1), engine.draftBestManager(2).orElseThrow());
+            assertSame(managers.get(2), engine.draftBestManager(3).orElseThrow());
+            assertTrue(engine.draftBestManager(4).isEmpty());
+        }
+
+        @Test
+        void shouldIgnoreManagersThatAlreadyHaveATeam() {
+            final Manager hiredManager = generateManager(1, 0.9);
+            final Manager freeManager = generateManager(2, 0.1);
+
+            hiredManager.setTeamId(5);
+
+            final ManagerDraftEngine engine = ManagerDraftEngine.byOverallRating(List.of(hiredManager, freeManager));
+
+            assertSame(freeManager, engine.draftBestManager(1).orElseThrow());
+            assertTrue(engine.draftBestManager(2).isEmpty());
+        }
+
+        @Test
+        void shouldReturnTheFirstListedManagerWhenRatingsAreTied() {
+            final Manager firstManager = generateManager(1, 0.5);
+            final Manager secondManager = generateManager(2, 0.5);
+            final ManagerDraftEngine engine = ManagerDraftEngine.byOverallRating(List.of(firstManager, secondManager));
+
+            assertSame(firstManager, engine.draftBestManager(1).orElseThrow());
+        }
+    }
+
+    @Nested
+    class ByPerformanceRating {
+
+        @Test
+        void shouldReturnTheManagerWithTheHighestPerformanceRating() {
+            final Manager highRatedManager = generateManager(1, 0.3, 5, 5);
+            final Manager lowRatedManager = generateManager(2, 0.8, 5, 2);
+            final ManagerDraftEngine engine = ManagerDraftEngine.byPerformanceRating(List.of(lowRatedManager, highRatedManager));
+
+            assertSame(highRatedManager, engine.draftBestManager(1).orElseThrow());
+        }
+
+        @Test
+        void shouldReturnTheManagerWithTheHighestOverallRatingWhenPerformanceRatingsAreTied() {
+            final Manager lowRatedManager = generateManager(1, 0.3, 0, 0);
+            final Manager highRatedManager = generateManager(2, 0.8, 0, 0);
+            final ManagerDraftEngine engine = ManagerDraftEngine.byPerformanceRating(List.of(lowRatedManager, highRatedManager));
+
+            assertSame(highRatedManager, engine.draftBestManager(1).orElseThrow());
+        }
+    }
+
+    @Nested
+    class DraftBestManager {
+
+        @Test
+        void shouldNotReturnAManagerToTheTeamThatReleasedTheManager() {
+            final Manager releasedManager = generateManager(1, 0.9);
+            final Manager otherManager = generateManager(2, 0.1);
+
+            releasedManager.setFormerTeamId(7);
+
+            final ManagerDraftEngine engine = ManagerDraftEngine.byOverallRating(List.of(releasedManager, otherManager));
+
+            assertSame(otherManager, engine.draftBestManager(7).orElseThrow());
+        }
+
+        @Test
+        void shouldKeepSkippedManagersAvailableForTheFollowingTeams() {
+            final Manager releasedManager = generateManager(1, 0.9);
+            final Manager otherManager = generateManager(2, 0.1);
+
+            releasedManager.setFormerTeamId(7);
+
+            final ManagerDraftEngine engine = ManagerDraftEngine.byOverallRating(List.of(releasedManager, otherManager));
+
+            engine.draftBestManager(7);
+
+            assertSame(releasedManager, engine.draftBestManager(8).orElseThrow());
+        }
+
+        @Test
+        void shouldReturnEmptyWhenOnlyManagersReleasedByTheTeamAreLeft() {
+            final Manager releasedManager = generateManager(1, 0.9);
+
+            releasedManager.setFormerTeamId(7);
+
+            final ManagerDraftEngine engine = ManagerDraftEngine.byOverallRating(List.of(releasedManager));
+
+            assertTrue(engine.draftBestManager(7).isEmpty());
+            assertSame(releasedManager, engine.draftBestManager(8).orElseThrow());
+        }
+
+        @Test
+        void shouldMatchTheOrderOfRepeatedStreamMaxSelection() {
+            final Random random = new Random(42);
+            final List<Manager> managers = new ArrayList<>();
+
+            for (int i = 0; i < 50; i++) {
+                final Manager manager = generateManager(i, Math.round(random.nextDouble() * 10) / 10.0, random.nextInt(4), random.nextInt(10));
+
+                manager.setFormerTeamId(random.nextInt(10));
+                managers.add(manager);
+            }
+
+            final List<Manager> expected = new ArrayList<>();
+            final Set<Manager> taken = Collections.newSetFromMap(new IdentityHashMap<>());
+
+            for (int teamId = 0; teamId < 10; teamId++) {
+                final Integer team = teamId;
+                final Manager best = managers.stream()
+                        .filter(manager -> !taken.contains(manager) && !team.equals(manager.getFormerTeamId()))
+                        .max(Comparator.comparing(Manager::getPerformanceRating).thenComparing(Manager::getOverallRating))
+                        .orElseThrow();
+
+                taken.add(best);
+                expected.add(best);
+            }
+
+            final ManagerDraftEngine engine = ManagerDraftEngine.byPerformanceRating(managers);
+
+            for (int teamId = 0; teamId < 10; teamId++) {
+                assertSame(expected.get(teamId), engine.draftBestManager(teamId).orElseThrow());
+            }
+        }
+    }
+
+    private Manager generateManager(final int managerId, final double rating) {
+        return Manager.builder().managerId(managerId).offense(rating).defense(rating).intangible(rating).penalties(rating).build();
+    }
+
+    private Manager generateManager(final int managerId, final double rating, final int seasons, final int score) {
+        return Manager.builder()
+                .managerId(managerId)
+                .offense(rating)
+                .defense(rating)
+                .intangible(rating)
+                .penalties(rating)
+                .seasons(seasons)
+                .score(score)
+                .totalSeasons(seasons)
+                .totalScore(score)
+                .build();
+    }
+}
@@ -0,0 +1,182 @@
+package org.natc.app.draft;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.natc.app.entity.domain.ManagerStyle;
+import org.natc.app.entity.domain.Player;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerDraftEngineTest {
+
+    private static final Function<ManagerStyle, ToDoubleFunction<Player>> RATINGS = managerStyle -> switch (managerStyle) {
+        case OFFENSIVE -> Player::getOffensiveRating;
+        case DEFENSIVE -> Player::getDefensiveRating;
+        case INTANGIBLE -> Player::getIntangibleRating;
+        case PENALTIES -> Player::getPenaltyRating;
+        case BALANCED -> Player::getPerformanceRating;
+    };
+
+    @Nested
+    class DraftBestPlayer {
+
+        @Test
+        void shouldReturnEmptyWhenThereAreNoPlayers() {
+            final PlayerDraftEngine engine = new PlayerDraftEngine(Collections.emptyList(), RATINGS);
+
+            assertTrue(engine.draftBestPlayer(ManagerStyle.OFFENSIVE).isEmpty());
+        }
+
+        @Test
+        void shouldReturnThePlayerWithTheHighestRatingForTheGivenStyle() {
+            final Player offensivePlayer = Player.builder().playerId(1).scoring(0.9).passing(0.9).blocking(0.9).tackling(0.1).stealing(0.1).presence(0.1).build();
+            final Player defensivePlayer = Player.builder().playerId(2).scoring(0.1).passing(0.1).blocking(0.1).tackling(0.9).stealing(0.9).presence(0.9).build();
+
+            final PlayerDraftEngine offensiveEngine = new PlayerDraftEngine(List.of(offensivePlayer, defensivePlayer), RATINGS);
+            final PlayerDraftEngine defensiveEngine = new PlayerDraftEngine(List.of(offensivePlayer, defensivePlayer), RATINGS);
+
+            assertSame(offensivePlayer, offensiveEngine.draftBestPlayer(ManagerStyle.OFFENSIVE).orElseThrow());
+            assertSame(defensivePlayer, defensiveEngine.draftBestPlayer(ManagerStyle.DEFENSIVE).orElseThrow());
+        }
+
+        @Test
+        void shouldNeverReturnTheSamePlayerTwice() {
+            final List<Player> players = List.of(
+                    generatePlayer(1, 0.9),
+                    generatePlayer(2, 0.5),
+                    generatePlayer(3, 0.1)
+            );
+            final PlayerDraftEngine engine = new PlayerDraftEngine(players, RATINGS);
+
+            assertSame(players.get(0), engine.draftBestPlayer(ManagerStyle.BALANCED).orElseThrow());
+            assertSame(players.get(1), engine.draftBestPlayer(ManagerStyle.BALANCED).orElseThrow());
+            assertSame(players.get(2), engine.draftBestPlayer(ManagerStyle.BALANCED).orElseThrow());
+            assertTrue(engine.draftBestPlayer(ManagerStyle.BALANCED).isEmpty());
+        }
+
+        @Test
+        void shouldSkipPlayersDraftedByAnotherManagerStyle() {
+            final Player offensivePlayer = Player.builder().playerId(1).scoring(0.9).passing(0.9).blocking(0.9).tackling(0.8).stealing(0.8).presence(0.8).build();
+            final Player defensivePlayer = Player.builder().playerId(2).scoring(0.1).passing(0.1).blocking(0.1).tackling(0.5).stealing(0.5).presence(0.5).build();
+            final PlayerDraftEngine engine = new PlayerDraftEngine(List.of(offensivePlayer, defensivePlayer), RATINGS);
+
+            assertSame(offensivePlayer, engine.draftBestPlayer(ManagerStyle.OFFENSIVE).orElseThrow());
+            assertSame(defensivePlayer, engine.draftBestPlayer(ManagerStyle.DEFENSIVE).orElseThrow());
+        }
+
+        @Test
+        void shouldIgnorePlayersThatAlreadyHaveATeam() {
+            final Player signedPlayer = generatePlayer(1, 0.9);
+            final Player freePlayer = generatePlayer(2, 0.1);
+
+            signedPlayer.setTeamId(5);
+
+            final PlayerDraftEngine engine = new PlayerDraftEngine(List.of(signedPlayer, freePlayer), RATINGS);
+
+            assertSame(freePlayer, engine.draftBestPlayer(ManagerStyle.BALANCED).orElseThrow());
+            assertTrue(engine.draftBestPlayer(ManagerStyle.BALANCED).isEmpty());
+        }
+
+        @Test
+        void shouldPickTheEarliestPlayerInTheListWhenRatingsAreTied() {
+            final List<Player> players = List.of(
+                    generatePlayer(7, 0.5),
+                    generatePlayer(3, 0.5),
+                    generatePlayer(9, 0.5)
+            );
+            final PlayerDraftEngine engine = new PlayerDraftEngine(players, RATINGS);
+
+            assertEquals(7, engine.draftBestPlayer(ManagerStyle.PENALTIES).orElseThrow().getPlayerId());
+            assertEquals(3, engine.draftBestPlayer(ManagerStyle.PENALTIES).orElseThrow().getPlayerId());
+            assertEquals(9, engine.draftBestPlayer(ManagerStyle.PENALTIES).orElseThrow().getPlayerId());
+        }
+
+        @Test
+        void shouldOnlyRateEachPlayerOncePerManagerStyle() {
+            final Map<ManagerStyle, Integer> ratingCalls = new EnumMap<>(ManagerStyle.class);
+            final Function<ManagerStyle, ToDoubleFunction<Player>> countingRatings = managerStyle -> player -> {
+                ratingCalls.merge(managerStyle, 1, Integer::sum);
+                return RATINGS.apply(managerStyle).applyAsDouble(player);
+            };
+            final List<Player> players = new ArrayList<>();
+
+            for (int i = 0; i < 20; i++) {
+                players.add(generatePlayer(i, Math.random()));
+            }
+
+            final PlayerDraftEngine engine = new PlayerDraftEngine(players, countingRatings);
+
+            for (int i = 0; i < 5; i++) {
+                engine.draftBestPlayer(ManagerStyle.OFFENSIVE);
+                engine.draftBestPlayer(ManagerStyle.DEFENSIVE);
+            }
+
+            assertEquals(20, ratingCalls.get(ManagerStyle.OFFENSIVE));
+            assertEquals(19, ratingCalls.get(ManagerStyle.DEFENSIVE));
+        }
+
+        @Test
+        void shouldDraftTheSamePlayersAsRepeatedlyTakingTheMaxOfTheUndraftedPlayers() {
+            final List<ManagerStyle> draftOrder = List.of(
+                    ManagerStyle.OFFENSIVE, ManagerStyle.BALANCED, ManagerStyle.DEFENSIVE, ManagerStyle.PENALTIES, ManagerStyle.INTANGIBLE
+            );
+            final List<Player> enginePlayers = new ArrayList<>();
+            final List<Player> streamPlayers = new ArrayList<>();
+            final Random random = new Random(1234L);
+
+            for (int i = 0; i < 100; i++) {
+                final double[] ratings = random.doubles(11).map(value -> Math.round(value * 10.0) / 10.0).toArray();
+
+                enginePlayers.add(generatePlayer(i, ratings));
+                streamPlayers.add(generatePlayer(i, ratings));
+            }
+
+            final PlayerDraftEngine engine = new PlayerDraftEngine(enginePlayers, RATINGS);
+
+            for (int pick = 0; pick < 100; pick++) {
+                final ManagerStyle managerStyle = draftOrder.get(pick % draftOrder.size());
+                final ToDoubleFunction<Player> rating = RATINGS.apply(managerStyle);
+
+                final Player engineChoice = engine.draftBestPlayer(managerStyle).orElseThrow();
+                final Player streamChoice = streamPlayers.stream()
+                        .filter(player -> Objects.isNull(player.getTeamId()))
+                        .max(Comparator.comparingDouble(rating))
+                        .orElseThrow();
+
+                engineChoice.setTeamId(pick);
+                streamChoice.setTeamId(pick);
+
+                assertEquals(streamChoice.getPlayerId(), engineChoice.getPlayerId());
+            }
+        }
+    }
+
+    private Player generatePlayer(final int playerId, final double rating) {
+        final double[] ratings = new double[11];
+
+        Arrays.fill(ratings, rating);
+
+        return generatePlayer(playerId, ratings);
+    }
+
+    private Player generatePlayer(final int playerId, final double[] ratings) {
+        return Player.builder()
+                .playerId(playerId)
+                .scoring(ratings[0])
+                .passing(ratings[1])
+                .blocking(ratings[2])
+                .tackling(ratings[3])
+                .stealing(ratings[4])
+                .presence(ratings[5])
+                .discipline(ratings[6])
+                .endurance(ratings[7])
+                .penaltyShot(ratings[8])
+                .penaltyOffense(ratings[9])
+                .penaltyDefense(ratings[10])
+                .build();
+    }
+}
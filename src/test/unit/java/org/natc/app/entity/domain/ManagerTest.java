@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.natc.app.util.BooleanHelper.valueOf;
@@ -14,30 +15,42 @@ class ManagerTest {
     @Nested
     class Generate {
 
+        private final SplittableRandom random = new SplittableRandom(1971);
+
+        @Test
+        void shouldReturnTheManagerGivenTheSameSeed() {
+            final Manager first = Manager.generate(new SplittableRandom(1971), 1, "2001", "John", "Doe");
+            final Manager second = Manager.generate(new SplittableRandom(1971), 1, "2001", "John", "Doe");
+
+            assertEquals(first.getAge(), second.getAge());
+            assertEquals(first.getOffense(), second.getOffense());
+            assertEquals(first.getVitality(), second.getVitality());
+        }
+
         @Test
         void ShouldReturnAManager() {
-            final Manager manager = Manager.generate(null, null, null, null);
+            final Manager manager = Manager.generate(random, null, null, null, null);
 
             assertNotNull(manager);
         }
 
         @Test
         void ShouldReturnAManagerWithTheGivenManagerId() {
-            final Manager manager = Manager.generate(123, null, null, null);
+            final Manager manager = Manager.generate(random, 123, null, null, null);
 
             assertEquals(123, manager.getManagerId());
         }
 
         @Test
         void ShouldReturnAManagerWithTheGivenYear() {
-            final Manager manager = Manager.generate(123, "1999", null, null);
+            final Manager manager = Manager.generate(random, 123, "1999", null, null);
 
             assertEquals("1999", manager.getYear());
         }
 
         @Test
         void ShouldReturnAManagerWithTheGivenName() {
-            final Manager manager = Manager.generate(123, null, "Stan", "Powell");
+            final Manager manager = Manager.generate(random, 123, null, "Stan", "Powell");
 
             assertEquals("Stan", manager.getFirstName());
             assertEquals("Powell", manager.getLastName());
@@ -45,7 +58,7 @@ class ManagerTest {
 
         @Test
         void ShouldReturnAManagerWithAnAgeBetweenFortyAndFifty() {
-            final Manager manager = Manager.generate(null, null, null, null);
+            final Manager manager = Manager.generate(random, null, null, null, null);
 
             assertTrue(manager.getAge() >= 40 && manager.getAge() <= 50);
         }
@@ -55,7 +68,7 @@ class ManagerTest {
             final List<Manager> managers = new ArrayList<>();
 
             for (int i = 1; i <= 100; i++) {
-                managers.add(Manager.generate(null, null, null, null));
+                managers.add(Manager.generate(random, null, null, null, null));
             }
 
             assertEquals(10, managers.stream().map(Manager::getAge).distinct().count());
@@ -63,7 +76,7 @@ class ManagerTest {
 
         @Test
         void ShouldReturnAManagerWithAnOffensiveRatingBetweenZeroAndOne() {
-            final Manager manager = Manager.generate(null, null, null, null);
+            final Manager manager = Manager.generate(random, null, null, null, null);
 
             assertTrue(manager.getOffense() >= 0.0 && manager.getOffense() <= 1.0);
         }
@@ -73,7 +86,7 @@ class ManagerTest {
             final List<Manager> managers = new ArrayList<>();
 
             for (int i = 1; i <= 100; i++) {
-                managers.add(Manager.generate(null, null, null, null));
+                managers.add(Manager.generate(random, null, null, null, null));
             }
 
             assertTrue(managers.stream().map(Manager::getOffense).distinct().count() >= 85);
@@ -81,7 +94,7 @@ class ManagerTest {
 
         @Test
         void ShouldReturnAManagerWithADefensiveRatingBetweenZeroAndOne() {
-            final Manager manager = Manager.generate(null, null, null, null);
+            final Manager manager = Manager.generate(random, null, null, null, null);
 
             assertTrue(manager.getDefense() >= 0.0 && manager.getDefense() <= 1.0);
         }
@@ -91,7 +104,7 @@ class ManagerTest {
             final List<Manager> managers = new ArrayList<>();
 
             for (int i = 1; i <= 100; i++) {
-                managers.add(Manager.generate(null, null, null, null));
+                managers.add(Manager.generate(random, null, null, null, null));
             }
 
             assertTrue(managers.stream().map(Manager::getDefense).distinct().count() >= 85);
@@ -99,7 +112,7 @@ class ManagerTest {
 
         @Test
         void ShouldReturnAManagerWithAnIntangibleRatingBetweenZeroAndOne() {
-            final Manager manager = Manager.generate(null, null, null, null);
+            final Manager manager = Manager.generate(random, null, null, null, null);
 
             assertTrue(manager.getIntangible() >= 0.0 && manager.getIntangible() <= 1.0);
         }
@@ -109,7 +122,7 @@ class ManagerTest {
             final List<Manager> managers = new ArrayList<>();
 
             for (int i = 1; i <= 100; i++) {
-                managers.add(Manager.generate(null, null, null, null));
+                managers.add(Manager.generate(random, null, null, null, null));
             }
 
             assertTrue(managers.stream().map(Manager::getIntangible).distinct().count() >= 85);
@@ -117,7 +130,7 @@ class ManagerTest {
 
         @Test
         void ShouldReturnAManagerWithAPenaltiesRatingBetweenZeroAndOne() {
-            final Manager manager = Manager.generate(null, null, null, null);
+            final Manager manager = Manager.generate(random, null, null, null, null);
 
             assertTrue(manager.getPenalties() >= 0.0 && manager.getPenalties() <= 1.0);
         }
@@ -127,7 +140,7 @@ class ManagerTest {
             final List<Manager> managers = new ArrayList<>();
 
             for (int i = 1; i <= 100; i++) {
-                managers.add(Manager.generate(null, null, null, null));
+                managers.add(Manager.generate(random, null, null, null, null));
             }
 
             assertTrue(managers.stream().map(Manager::getPenalties).distinct().count() >= 85);
@@ -135,7 +148,7 @@ class ManagerTest {
 
         @Test
         void ShouldReturnAManagerWithAVitalityRatingBetweenZeroAndOne() {
-            final Manager manager = Manager.generate(null, null, null, null);
+            final Manager manager = Manager.generate(random, null, null, null, null);
 
             assertTrue(manager.getVitality() >= 0.0 && manager.getVitality() <= 1.0);
         }
@@ -145,7 +158,7 @@ class ManagerTest {
             final List<Manager> managers = new ArrayList<>();
 
             for (int i = 1; i <= 100; i++) {
-                managers.add(Manager.generate(null, null, null, null));
+                managers.add(Manager.generate(random, null, null, null, null));
             }
 
             assertTrue(managers.stream().map(Manager::getVitality).distinct().count() >= 85);
@@ -153,49 +166,49 @@ class ManagerTest {
 
         @Test
         void ShouldReturnAManagerThatIsNotANewHire() {
-            final Manager manager = Manager.generate(null, null, null, null);
+            final Manager manager = Manager.generate(random, null, null, null, null);
 
             assertFalse(valueOf(manager.getNewHire()));
         }
 
         @Test
         void ShouldReturnAManagerThatIsNotReleased() {
-            final Manager manager = Manager.generate(null, null, null, null);
+            final Manager manager = Manager.generate(random, null, null, null, null);
 
             assertFalse(valueOf(manager.getReleased()));
         }
 
         @Test
         void ShouldReturnAManagerThatIsNotRetired() {
-            final Manager manager = Manager.generate(null, null, null, null);
+            final Manager manager = Manager.generate(random, null, null, null, null);
 
             assertFalse(valueOf(manager.getRetired()));
         }
 
         @Test
         void ShouldReturnAManagerThatHasZeroSeasons() {
-            final Manager manager = Manager.generate(null, null, null, null);
+            final Manager manager = Manager.generate(random, null, null, null, null);
 
             assertEquals(0, manager.getSeasons());
         }
 
         @Test
         void ShouldReturnAManagerWithAScoreOfZero() {
-            final Manager manager = Manager.generate(null, null, null, null);
+            final Manager manager = Manager.generate(random, null, null, null, null);
 
             assertEquals(0, manager.getScore());
         }
 
         @Test
         void ShouldReturnAManagerThatHasZeroTotalSeasons() {
-            final Manager manager = Manager.generate(null, null, null, null);
+            final Manager manager = Manager.generate(random, null, null, null, null);
 
             assertEquals(0, manager.getTotalSeasons());
         }
 
         @Test
         void ShouldReturnAManagerWithATotalScoreOfZero() {
-            final Manager manager = Manager.generate(null, null, null, null);
+            final Manager manager = Manager.generate(random, null, null, null, null);
 
             assertEquals(0, manager.getTotalScore());
         }
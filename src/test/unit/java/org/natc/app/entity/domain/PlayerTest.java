@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.natc.app.entity.domain.Player.*;
@@ -793,6 +794,72 @@ class PlayerTest {
         }
     }
 
+    @Nested
+    class GetAdjustedRating {
+        private Player buildPlayer() {
+            return Player.builder()
+                    .age(36)
+                    .scoring(0.6)
+                    .passing(0.5)
+                    .blocking(0.4)
+                    .tackling(0.7)
+                    .stealing(0.3)
+                    .presence(0.8)
+                    .discipline(0.2)
+                    .endurance(0.9)
+                    .penaltyShot(0.45)
+                    .penaltyOffense(0.55)
+                    .penaltyDefense(0.65)
+                    .vitality(0.3)
+                    .confidence(0.7)
+                    .fatigue(1.2)
+                    .seasonsPlayed(3)
+                    .build();
+        }
+
+        @Test
+        void shouldMatchTheAdjustedOffensiveRatingForEveryCombinationOfAdjustments() {
+            final Player player = buildPlayer();
+
+            assertEquals(player.getAdjustedOffensiveRating(), player.getAdjustedRating(PlayerRating.OFFENSIVE, false, false, false));
+            assertEquals(player.getAdjustedOffensiveRating(APPLY_AGE), player.getAdjustedRating(PlayerRating.OFFENSIVE, true, false, false));
+            assertEquals(player.getAdjustedOffensiveRating(APPLY_CONFIDENCE), player.getAdjustedRating(PlayerRating.OFFENSIVE, false, true, false));
+            assertEquals(player.getAdjustedOffensiveRating(APPLY_FATIGUE), player.getAdjustedRating(PlayerRating.OFFENSIVE, false, false, true));
+            assertEquals(player.getAdjustedOffensiveRating(APPLY_AGE, APPLY_CONFIDENCE, APPLY_FATIGUE), player.getAdjustedRating(PlayerRating.OFFENSIVE, true, true, true));
+        }
+
+        @Test
+        void shouldMatchTheAdjustedRatingMethodsForEveryRating() {
+            final Player player = buildPlayer();
+
+            assertEquals(player.getAdjustedDefensiveRating(APPLY_AGE, APPLY_CONFIDENCE), player.getAdjustedRating(PlayerRating.DEFENSIVE, true, true, false));
+            assertEquals(player.getAdjustedIntangibleRating(APPLY_AGE, APPLY_FATIGUE), player.getAdjustedRating(PlayerRating.INTANGIBLE, true, false, true));
+            assertEquals(player.getAdjustedPenaltyRating(APPLY_CONFIDENCE, APPLY_FATIGUE), player.getAdjustedRating(PlayerRating.PENALTY, false, true, true));
+            assertEquals(player.getAdjustedPerformanceRating(APPLY_AGE, APPLY_CONFIDENCE, APPLY_FATIGUE), player.getAdjustedRating(PlayerRating.PERFORMANCE, true, true, true));
+        }
+
+        @Test
+        void shouldReturnTheSameValueWhenCalledRepeatedly() {
+            final Player player = buildPlayer();
+
+            final double first = player.getAdjustedRating(PlayerRating.PERFORMANCE, true, true, false);
+
+            assertEquals(first, player.getAdjustedRating(PlayerRating.PERFORMANCE, true, true, false));
+        }
+
+        @Test
+        void shouldRecalculateTheAgeAdjustmentWhenThePlayerAgeChanges() {
+            final Player player = buildPlayer();
+
+            final double before = player.getAdjustedRating(PlayerRating.PERFORMANCE, true, false, false);
+
+            player.setAge(40);
+
+            assertTrue(before > player.getAdjustedRating(PlayerRating.PERFORMANCE, true, false, false));
+            assertEquals(player.getAdjustedPerformanceRating(APPLY_AGE), player.getAdjustedRating(PlayerRating.PERFORMANCE, true, false, false));
+        }
+    }
+
     @Nested
     class GetAgeFactor {
         @Test
@@ -960,30 +1027,42 @@ class PlayerTest {
     @Nested
     class Generate {
 
+        private final SplittableRandom random = new SplittableRandom(1971);
+
+        @Test
+        void shouldReturnThePlayerGivenTheSameSeed() {
+            final Player first = Player.generate(new SplittableRandom(1971), 1, "2001", "John", "Doe");
+            final Player second = Player.generate(new SplittableRandom(1971), 1, "2001", "John", "Doe");
+
+            assertEquals(first.getAge(), second.getAge());
+            assertEquals(first.getScoring(), second.getScoring());
+            assertEquals(first.getDurability(), second.getDurability());
+        }
+
         @Test
         void shouldReturnAPlayer() {
-            final Player player = Player.generate(null, null, null, null);
+            final Player player = Player.generate(random, null, null, null, null);
 
             assertNotNull(player);
         }
 
         @Test
         void shouldReturnAPlayerWithTheGivenPlayerId() {
-            final Player player = Player.generate(321, null, null, null);
+            final Player player = Player.generate(random, 321, null, null, null);
 
             assertEquals(321, player.getPlayerId());
         }
 
         @Test
         void shouldReturnAPlayerWithTheGivenYear() {
-            final Player player = Player.generate(null, "2020", null, null);
+            final Player player = Player.generate(random, null, "2020", null, null);
 
             assertEquals("2020", player.getYear());
         }
 
         @Test
         void shouldReturnAPlayerWithTheGivenName() {
-            final Player player = Player.generate(null, null, "David", "Montgomery");
+            final Player player = Player.generate(random, null, null, "David", "Montgomery");
 
             assertEquals("David", player.getFirstName());
             assertEquals("Montgomery", player.getLastName());
@@ -991,7 +1070,7 @@ class PlayerTest {
 
         @Test
         void shouldReturnAPlayerWithWithAnAgeBetweenEighteenAndThirty() {
-            final Player player = Player.generate(null, null, null, null);
+            final Player player = Player.generate(random, null, null, null, null);
 
             assertTrue(player.getAge() >= 18 && player.getAge() <= 30);
         }
@@ -1001,7 +1080,7 @@ class PlayerTest {
             final List<Player> players = new ArrayList<>();
 
             for (int i = 0; i <= 100; i++) {
-                players.add(Player.generate(null, null, null, null));
+                players.add(Player.generate(random, null, null, null, null));
             }
 
             assertEquals(12, players.stream().map(Player::getAge).distinct().count());
@@ -1009,7 +1088,7 @@ class PlayerTest {
 
         @Test
         void shouldReturnAPlayerWithAScoringRatingBetweenZeroAndOne() {
-            final Player player = Player.generate(null, null, null, null);
+            final Player player = Player.generate(random, null, null, null, null);
 
             assertTrue(player.getScoring() >= 0.0 && player.getScoring() <= 1.0);
         }
@@ -1019,7 +1098,7 @@ class PlayerTest {
             final List<Player> players = new ArrayList<>();
 
             for (int i = 0; i <= 100; i++) {
-                players.add(Player.generate(null, null, null, null));
+                players.add(Player.generate(random, null, null, null, null));
             }
 
             assertTrue(players.stream().map(Player::getScoring).distinct().count() >= 85);
@@ -1027,7 +1106,7 @@ class PlayerTest {
 
         @Test
         void shouldReturnAPlayerWithAPassingRatingBetweenZeroAndOne() {
-            final Player player = Player.generate(null, null, null, null);
+            final Player player = Player.generate(random, null, null, null, null);
 
             assertTrue(player.getPassing() >= 0.0 && player.getPassing() <= 1.0);
         }
@@ -1037,7 +1116,7 @@ class PlayerTest {
             final List<Player> players = new ArrayList<>();
 
             for (int i = 0; i <= 100; i++) {
-                players.add(Player.generate(null, null, null, null));
+                players.add(Player.generate(random, null, null, null, null));
             }
 
             assertTrue(players.stream().map(Player::getPassing).distinct().count() >= 85);
@@ -1045,7 +1124,7 @@ class PlayerTest {
 
         @Test
         void shouldReturnAPlayerWithABlockingRatingBetweenZeroAndOne() {
-            final Player player = Player.generate(null, null, null, null);
+            final Player player = Player.generate(random, null, null, null, null);
 
             assertTrue(player.getBlocking() >= 0.0 && player.getBlocking() <= 1.0);
         }
@@ -1055,7 +1134,7 @@ class PlayerTest {
             final List<Player> players = new ArrayList<>();
 
             for (int i = 0; i <= 100; i++) {
-                players.add(Player.generate(null, null, null, null));
+                players.add(Player.generate(random, null, null, null, null));
             }
 
             assertTrue(players.stream().map(Player::getBlocking).distinct().count() >= 85);
@@ -1063,7 +1142,7 @@ class PlayerTest {
 
         @Test
         void shouldReturnAPlayerWithATacklingRatingBetweenZeroAndOne() {
-            final Player player = Player.generate(null, null, null, null);
+            final Player player = Player.generate(random, null, null, null, null);
 
             assertTrue(player.getTackling() >= 0.0 && player.getTackling() <= 1.0);
         }
@@ -1073,7 +1152,7 @@ class PlayerTest {
             final List<Player> players = new ArrayList<>();
 
             for (int i = 0; i <= 100; i++) {
-                players.add(Player.generate(null, null, null, null));
+                players.add(Player.generate(random, null, null, null, null));
             }
 
             assertTrue(players.stream().map(Player::getTackling).distinct().count() >= 85);
@@ -1081,7 +1160,7 @@ class PlayerTest {
 
         @Test
         void shouldReturnAPlayerWithAStealingRatingBetweenZeroAndOne() {
-            final Player player = Player.generate(null, null, null, null);
+            final Player player = Player.generate(random, null, null, null, null);
 
             assertTrue(player.getStealing() >= 0.0 && player.getStealing() <= 1.0);
         }
@@ -1091,7 +1170,7 @@ class PlayerTest {
             final List<Player> players = new ArrayList<>();
 
             for (int i = 0; i <= 100; i++) {
-                players.add(Player.generate(null, null, null, null));
+                players.add(Player.generate(random, null, null, null, null));
             }
 
             assertTrue(players.stream().map(Player::getStealing).distinct().count() >= 85);
@@ -1099,7 +1178,7 @@ class PlayerTest {
 
         @Test
         void shouldReturnAPlayerWithAPresenceRatingBetweenZeroAndOne() {
-            final Player player = Player.generate(null, null, null, null);
+            final Player player = Player.generate(random, null, null, null, null);
 
             assertTrue(player.getPresence() >= 0.0 && player.getPresence() <= 1.0);
         }
@@ -1109,7 +1188,7 @@ class PlayerTest {
             final List<Player> players = new ArrayList<>();
 
             for (int i = 0; i <= 100; i++) {
-                players.add(Player.generate(null, null, null, null));
+                players.add(Player.generate(random, null, null, null, null));
             }
 
             assertTrue(players.stream().map(Player::getPresence).distinct().count() >= 85);
@@ -1117,7 +1196,7 @@ class PlayerTest {
 
         @Test
         void shouldReturnAPlayerWithADisciplineRatingBetweenZeroAndOne() {
-            final Player player = Player.generate(null, null, null, null);
+            final Player player = Player.generate(random, null, null, null, null);
 
             assertTrue(player.getDiscipline() >= 0.0 && player.getDiscipline() <= 1.0);
         }
@@ -1127,7 +1206,7 @@ class PlayerTest {
             final List<Player> players = new ArrayList<>();
 
             for (int i = 0; i <= 100; i++) {
-                players.add(Player.generate(null, null, null, null));
+                players.add(Player.generate(random, null, null, null, null));
             }
 
             assertTrue(players.stream().map(Player::getDiscipline).distinct().count() >= 85);
@@ -1135,7 +1214,7 @@ class PlayerTest {
 
         @Test
         void shouldReturnAPlayerWithAPenaltyShotRatingBetweenZeroAndOne() {
-            final Player player = Player.generate(null, null, null, null);
+            final Player player = Player.generate(random, null, null, null, null);
 
             assertTrue(player.getPenaltyShot() >= 0.0 && player.getPenaltyShot() <= 1.0);
         }
@@ -1145,7 +1224,7 @@ class PlayerTest {
             final List<Player> players = new ArrayList<>();
 
             for (int i = 0; i <= 100; i++) {
-                players.add(Player.generate(null, null, null, null));
+                players.add(Player.generate(random, null, null, null, null));
             }
 
             assertTrue(players.stream().map(Player::getPenaltyShot).distinct().count() >= 85);
@@ -1153,7 +1232,7 @@ class PlayerTest {
 
         @Test
         void shouldReturnAPlayerWithAPenaltyOffenseRatingBetweenZeroAndOne() {
-            final Player player = Player.generate(null, null, null, null);
+            final Player player = Player.generate(random, null, null, null, null);
 
             assertTrue(player.getPenaltyOffense() >= 0.0 && player.getPenaltyOffense() <= 1.0);
         }
@@ -1163,7 +1242,7 @@ class PlayerTest {
             final List<Player> players = new ArrayList<>();
 
             for (int i = 0; i <= 100; i++) {
-                players.add(Player.generate(null, null, null, null));
+                players.add(Player.generate(random, null, null, null, null));
             }
 
             assertTrue(players.stream().map(Player::getPenaltyOffense).distinct().count() >= 85);
@@ -1171,7 +1250,7 @@ class PlayerTest {
 
         @Test
         void shouldReturnAPlayerWithAPenaltyDefenseRatingBetweenZeroAndOne() {
-            final Player player = Player.generate(null, null, null, null);
+            final Player player = Player.generate(random, null, null, null, null);
 
             assertTrue(player.getPenaltyDefense() >= 0.0 && player.getPenaltyDefense() <= 1.0);
         }
@@ -1181,7 +1260,7 @@ class PlayerTest {
             final List<Player> players = new ArrayList<>();
 
             for (int i = 0; i <= 100; i++) {
-                players.add(Player.generate(null, null, null, null));
+                players.add(Player.generate(random, null, null, null, null));
             }
 
             assertTrue(players.stream().map(Player::getPenaltyDefense).distinct().count() >= 85);
@@ -1189,7 +1268,7 @@ class PlayerTest {
 
         @Test
         void shouldReturnAPlayerWithAnEnduranceRatingBetweenZeroAndOne() {
-            final Player player = Player.generate(null, null, null, null);
+            final Player player = Player.generate(random, null, null, null, null);
 
             assertTrue(player.getEndurance() >= 0.0 && player.getEndurance() <= 1.0);
         }
@@ -1199,7 +1278,7 @@ class PlayerTest {
             final List<Player> players = new ArrayList<>();
 
             for (int i = 0; i <= 100; i++) {
-                players.add(Player.generate(null, null, null, null));
+                players.add(Player.generate(random, null, null, null, null));
             }
 
             assertTrue(players.stream().map(Player::getEndurance).distinct().count() >= 85);
@@ -1207,7 +1286,7 @@ class PlayerTest {
 
         @Test
         void shouldReturnAPlayerWithAConfidenceRatingBetweenZeroAndOne() {
-            final Player player = Player.generate(null, null, null, null);
+            final Player player = Player.generate(random, null, null, null, null);
 
             assertTrue(player.getConfidence() >= 0.0 && player.getConfidence() <= 1.0);
         }
@@ -1217,7 +1296,7 @@ class PlayerTest {
             final List<Player> players = new ArrayList<>();
 
             for (int i = 0; i <= 100; i++) {
-                players.add(Player.generate(null, null, null, null));
+                players.add(Player.generate(random, null, null, null, null));
             }
 
             assertTrue(players.stream().map(Player::getConfidence).distinct().count() >= 85);
@@ -1225,7 +1304,7 @@ class PlayerTest {
 
         @Test
         void shouldReturnAPlayerWithAVitalityRatingBetweenZeroAndOne() {
-            final Player player = Player.generate(null, null, null, null);
+            final Player player = Player.generate(random, null, null, null, null);
 
             assertTrue(player.getVitality() >= 0.0 && player.getVitality() <= 1.0);
         }
@@ -1235,7 +1314,7 @@ class PlayerTest {
             final List<Player> players = new ArrayList<>();
 
             for (int i = 0; i <= 100; i++) {
-                players.add(Player.generate(null, null, null, null));
+                players.add(Player.generate(random, null, null, null, null));
             }
 
             assertTrue(players.stream().map(Player::getVitality).distinct().count() >= 85);
@@ -1243,7 +1322,7 @@ class PlayerTest {
 
         @Test
         void shouldReturnAPlayerWithADurabilityRatingBetweenZeroAndOne() {
-            final Player player = Player.generate(null, null, null, null);
+            final Player player = Player.generate(random, null, null, null, null);
 
             assertTrue(player.getDurability() >= 0.0 && player.getDurability() <= 1.0);
         }
@@ -1253,7 +1332,7 @@ class PlayerTest {
             final List<Player> players = new ArrayList<>();
 
             for (int i = 0; i <= 100; i++) {
-                players.add(Player.generate(null, null, null, null));
+                players.add(Player.generate(random, null, null, null, null));
             }
 
             assertTrue(players.stream().map(Player::getDurability).distinct().count() >= 85);
@@ -1261,56 +1340,56 @@ class PlayerTest {
 
         @Test
         void shouldReturnAPlayerThatIsNotARookie() {
-            final Player player = Player.generate(null, null, null, null);
+            final Player player = Player.generate(random, null, null, null, null);
 
             assertFalse(valueOf(player.getRookie()));
         }
 
         @Test
         void shouldReturnAPlayerThatIsNotInjured() {
-            final Player player = Player.generate(null, null, null, null);
+            final Player player = Player.generate(random, null, null, null, null);
 
             assertFalse(valueOf(player.getInjured()));
         }
 
         @Test
         void shouldReturnAPlayerThatIsNotAFreeAgent() {
-            final Player player = Player.generate(null, null, null, null);
+            final Player player = Player.generate(random, null, null, null, null);
 
             assertFalse(valueOf(player.getFreeAgent()));
         }
 
         @Test
         void shouldReturnAPlayerThatIsNotSignedToATeam() {
-            final Player player = Player.generate(null, null, null, null);
+            final Player player = Player.generate(random, null, null, null, null);
 
             assertFalse(valueOf(player.getSigned()));
         }
 
         @Test
         void shouldReturnAPlayerThatIsNotReleased() {
-            final Player player = Player.generate(null, null, null, null);
+            final Player player = Player.generate(random, null, null, null, null);
 
             assertFalse(valueOf(player.getReleased()));
         }
 
         @Test
         void shouldReturnAPlayerThatIsNotRetired() {
-            final Player player = Player.generate(null, null, null, null);
+            final Player player = Player.generate(random, null, null, null, null);
 
             assertFalse(valueOf(player.getRetired()));
         }
 
         @Test
         void shouldReturnAPlayerThatIsNotAnAllstarAlternate() {
-            final Player player = Player.generate(null, null, null, null);
+            final Player player = Player.generate(random, null, null, null, null);
 
             assertFalse(valueOf(player.getAllstarAlternate()));
         }
 
         @Test
         void shouldReturnAPlayerThatHasZeroSeasonsPlayed() {
-            final Player player = Player.generate(null, null, null, null);
+            final Player player = Player.generate(random, null, null, null, null);
 
             assertEquals(0, player.getSeasonsPlayed());
         }
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ScheduleDataTest {
 
@@ -64,4 +65,41 @@ class ScheduleDataTest {
             assertEquals("7D1C2B3A4@5?6>7", scheduleData.toString());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class Decode {
+
+        @Test
+        void shouldReturnNoMatchesGivenNoData() {
+            assertTrue(ScheduleData.decode(null).getMatches().isEmpty());
+            assertTrue(ScheduleData.decode("").getMatches().isEmpty());
+        }
+
+        @Test
+        void shouldDecodeEachMatchAsRoadFollowedByHome() {
+            final ScheduleData scheduleData = ScheduleData.decode("1E;");
+
+            assertEquals(1, scheduleData.getMatches().size());
+            assertEquals(11, scheduleData.getMatches().getFirst().getHomeTeam());
+            assertEquals(21, scheduleData.getMatches().getFirst().getRoadTeam());
+        }
+
+        @Test
+        void shouldDecodeWhatToStringEncodes() {
+            final ScheduleData scheduleData = new ScheduleData();
+
+            for (int team = 1; team <= 40; team += 2) {
+                scheduleData.getMatches().add(new ScheduleData.Match(team, team + 1));
+            }
+
+            final ScheduleData decoded = ScheduleData.decode(scheduleData.toString());
+
+            assertEquals(scheduleData.getMatches().size(), decoded.getMatches().size());
+
+            for (int match = 0; match < scheduleData.getMatches().size(); ++match) {
+                assertEquals(scheduleData.getMatches().get(match).getHomeTeam(), decoded.getMatches().get(match).getHomeTeam());
+                assertEquals(scheduleData.getMatches().get(match).getRoadTeam(), decoded.getMatches().get(match).getRoadTeam());
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package org.natc.app.filter;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.natc.app.metrics.LeagueMetrics;
+import org.natc.app.metrics.SqlStatementStats;
+import org.natc.app.metrics.SqlStatementTracker;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SqlStatementAsyncInterceptorTest {
+
+    private final SqlStatementTracker sqlStatementTracker = new SqlStatementTracker();
+
+    @Mock
+    private LeagueMetrics leagueMetrics;
+
+    private final Callable<Object> task = () -> null;
+
+    private SqlStatementAsyncInterceptor interceptor() {
+        return new SqlStatementAsyncInterceptor(sqlStatementTracker, leagueMetrics);
+    }
+
+    private NativeWebRequest request(final String pattern) {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/player-games/export");
+
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+
+        return new ServletWebRequest(request);
+    }
+
+    @Nested
+    class PreProcess {
+
+        @Test
+        void shouldOpenAScopeOnTheStreamingThread() {
+            interceptor().preProcess(request("/api/player-games/export"), task);
+
+            assertNotNull(sqlStatementTracker.current());
+
+            sqlStatementTracker.stop();
+        }
+    }
+
+    @Nested
+    class PostProcess {
+
+        @Test
+        void shouldRecordTheStatementsRunWhileStreamingAgainstTheUriPattern() {
+            final SqlStatementAsyncInterceptor interceptor = interceptor();
+            final NativeWebRequest request = request("/api/player-games/export");
+
+            interceptor.preProcess(request, task);
+            sqlStatementTracker.record(3, 1_000L);
+            interceptor.postProcess(request, task, null);
+
+            verify(leagueMetrics).recordRequestSqlStatements(eq("/api/player-games/export"), argThat((SqlStatementStats stats) -> stats.getStatements() == 3));
+        }
+
+        @Test
+        void shouldCloseTheScopeSoThePooledThreadIsLeftClean() {
+            final SqlStatementAsyncInterceptor interceptor = interceptor();
+            final NativeWebRequest request = request("/api/player-games/export");
+
+            interceptor.preProcess(request, task);
+            interceptor.postProcess(request, task, new IllegalStateException());
+
+            assertNull(sqlStatementTracker.current());
+        }
+
+        @Test
+        void shouldRecordANullPatternWhenNoHandlerMatched() {
+            final SqlStatementAsyncInterceptor interceptor = interceptor();
+            final NativeWebRequest request = new ServletWebRequest(new MockHttpServletRequest());
+
+            interceptor.preProcess(request, task);
+            interceptor.postProcess(request, task, null);
+
+            verify(leagueMetrics).recordRequestSqlStatements(isNull(), any());
+        }
+    }
+}
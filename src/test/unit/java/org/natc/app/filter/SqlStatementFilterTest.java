@@ -0,0 +1,58 @@
+package org.natc.app.filter;
+
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.natc.app.metrics.LeagueMetrics;
+import org.natc.app.metrics.SqlStatementTracker;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class SqlStatementFilterTest {
+
+    private final SqlStatementTracker sqlStatementTracker = new SqlStatementTracker();
+
+    @Mock
+    private LeagueMetrics leagueMetrics;
+
+    @Nested
+    class DoFilterInternal {
+
+        @Test
+        void shouldRecordTheStatementsAgainstTheUriPattern() throws ServletException, IOException {
+            final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/players/search");
+
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/players/search");
+
+            new SqlStatementFilter(sqlStatementTracker, leagueMetrics).doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+            verify(leagueMetrics).recordRequestSqlStatements(eq("/api/players/search"), any());
+        }
+
+        @Test
+        void shouldLeaveAStreamedResponseToTheAsyncInterceptor() throws ServletException, IOException {
+            final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/player-games/export");
+
+            request.setAsyncSupported(true);
+
+            new SqlStatementFilter(sqlStatementTracker, leagueMetrics).doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+
+            verifyNoInteractions(leagueMetrics);
+            assertNull(sqlStatementTracker.current());
+        }
+    }
+}
@@ -6,9 +6,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.natc.app.configuration.LeagueConfiguration;
 import org.natc.app.entity.domain.ScheduleData;
+import org.natc.app.random.RandomNumber;
 
 import java.util.List;
 import java.util.Set;
@@ -16,6 +18,7 @@ import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,6 +27,9 @@ class PreseasonScheduleDataGeneratorTest {
     @Mock
     private LeagueConfiguration leagueConfiguration;
 
+    @Spy
+    private RandomNumber randomNumber = new RandomNumber(new LeagueConfiguration());
+
     @InjectMocks
     private PreseasonScheduleDataGenerator generator;
 
@@ -39,21 +45,21 @@ class PreseasonScheduleDataGeneratorTest {
 
         @Test
         void shouldReturnAListOfScheduleDataObjects() {
-            final List<ScheduleData> scheduleDataList = generator.generate();
+            final List<ScheduleData> scheduleDataList = generator.generate("2001");
 
             assertFalse(scheduleDataList.isEmpty());
         }
 
         @Test
         void shouldReturnAsManyScheduleDataObjectsAsThereAreDaysInPreseason() {
-            final List<ScheduleData> scheduleDataList = generator.generate();
+            final List<ScheduleData> scheduleDataList = generator.generate("2001");
 
             assertEquals(leagueConfiguration.getDaysInPreseason(), scheduleDataList.size());
         }
 
         @Test
         void shouldReturnScheduleDataWhereEveryDayIsComprisedOfEveryTeam() {
-            final List<ScheduleData> scheduleDataList = generator.generate();
+            final List<ScheduleData> scheduleDataList = generator.generate("2001");
 
             assertFalse(scheduleDataList.isEmpty());
 
@@ -71,7 +77,7 @@ class PreseasonScheduleDataGeneratorTest {
 
         @Test
         void shouldReturnScheduleDataWhereEveryDayHasAConfiguredNumberOfGames() {
-            final List<ScheduleData> scheduleDataList = generator.generate();
+            final List<ScheduleData> scheduleDataList = generator.generate("2001");
 
             assertFalse(scheduleDataList.isEmpty());
 
@@ -82,7 +88,7 @@ class PreseasonScheduleDataGeneratorTest {
 
         @Test
         void shouldReturnScheduleDataWhereEveryTeamPlaysAConfiguredNumberOfGames() {
-            final List<ScheduleData> scheduleDataList = generator.generate();
+            final List<ScheduleData> scheduleDataList = generator.generate("2001");
 
             assertFalse(scheduleDataList.isEmpty());
 
@@ -96,7 +102,7 @@ class PreseasonScheduleDataGeneratorTest {
 
         @Test
         void shouldReturnScheduleDataWhereEveryTeamPlaysHalfTheGamesAtHome() {
-            final List<ScheduleData> scheduleDataList = generator.generate();
+            final List<ScheduleData> scheduleDataList = generator.generate("2001");
 
             assertFalse(scheduleDataList.isEmpty());
 
@@ -110,7 +116,7 @@ class PreseasonScheduleDataGeneratorTest {
 
         @Test
         void shouldReturnScheduleDataWhereEveryTeamPlaysHalfTheGamesOnTheRoad() {
-            final List<ScheduleData> scheduleDataList = generator.generate();
+            final List<ScheduleData> scheduleDataList = generator.generate("2001");
 
             assertFalse(scheduleDataList.isEmpty());
 
@@ -124,7 +130,7 @@ class PreseasonScheduleDataGeneratorTest {
 
         @Test
         void shouldReturnSchedleDateWhereEveryTeamPlaysADifferentTeamEveryGame() {
-            final List<ScheduleData> scheduleDataList = generator.generate();
+            final List<ScheduleData> scheduleDataList = generator.generate("2001");
 
             assertFalse(scheduleDataList.isEmpty());
 
@@ -140,18 +146,32 @@ class PreseasonScheduleDataGeneratorTest {
         }
 
         @Test
-        void shouldReturnADifferentResultEveryTime() {
-            final List<ScheduleData> firstRun = generator.generate();
-            final List<ScheduleData> secondRun = generator.generate();
-
-            assertNotEquals(
-                    firstRun.stream().flatMap(scheduleData -> scheduleData.getMatches().stream())
-                            .map(match -> match.getRoadTeam().toString() + match.getHomeTeam().toString())
-                            .toList(),
-                    secondRun.stream().flatMap(scheduleData -> scheduleData.getMatches().stream())
-                            .map(match -> match.getRoadTeam().toString() + match.getHomeTeam().toString())
-                            .toList()
-            );
+        void shouldDrawFromTheStreamForTheGivenSeason() {
+            generator.generate("2001");
+
+            verify(randomNumber).forSeason("2001");
+        }
+
+        @Test
+        void shouldReturnTheSameResultForTheSameSeason() {
+            final List<ScheduleData> firstRun = generator.generate("2001");
+            final List<ScheduleData> secondRun = generator.generate("2001");
+
+            assertEquals(matchesOf(firstRun), matchesOf(secondRun));
+        }
+
+        @Test
+        void shouldReturnADifferentResultForADifferentSeason() {
+            final List<ScheduleData> firstRun = generator.generate("2001");
+            final List<ScheduleData> secondRun = generator.generate("2002");
+
+            assertNotEquals(matchesOf(firstRun), matchesOf(secondRun));
+        }
+
+        private List<String> matchesOf(final List<ScheduleData> scheduleDataList) {
+            return scheduleDataList.stream().flatMap(scheduleData -> scheduleData.getMatches().stream())
+                    .map(match -> match.getRoadTeam().toString() + match.getHomeTeam().toString())
+                    .toList();
         }
     }
 }
\ No newline at end of file
@@ -6,9 +6,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.natc.app.configuration.LeagueConfiguration;
 import org.natc.app.entity.domain.ScheduleData;
+import org.natc.app.random.RandomNumber;
 
 import java.util.List;
 import java.util.Set;
@@ -16,6 +18,7 @@ import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,6 +27,9 @@ class RegularSeasonScheduleDataGeneratorTest {
     @Mock
     private LeagueConfiguration leagueConfiguration;
 
+    @Spy
+    private RandomNumber randomNumber = new RandomNumber(new LeagueConfiguration());
+
     @InjectMocks
     private RegularSeasonScheduleDataGenerator generator;
 
@@ -41,7 +47,7 @@ class RegularSeasonScheduleDataGeneratorTest {
 
         @Test
         void shouldReturnAListOfScheduleDataObjects() {
-            final List<ScheduleData> scheduleDataList = generator.generate();
+            final List<ScheduleData> scheduleDataList = generator.generate("2001");
 
             assertFalse(scheduleDataList.isEmpty());
         }
@@ -50,14 +56,14 @@ class RegularSeasonScheduleDataGeneratorTest {
         void shouldReturnAsManyScheduleDataObjectsAsThereAreDaysInRegularSeason() {
             when(leagueConfiguration.getDaysInRegularSeason()).thenReturn(100);
 
-            final List<ScheduleData> scheduleDataList = generator.generate();
+            final List<ScheduleData> scheduleDataList = generator.generate("2001");
 
             assertEquals(leagueConfiguration.getDaysInRegularSeason(), scheduleDataList.size());
         }
 
         @Test
         void shouldReturnScheduleDataWhereEveryDayIsComprisedOfEveryTeam() {
-            final List<ScheduleData> scheduleDataList = generator.generate();
+            final List<ScheduleData> scheduleDataList = generator.generate("2001");
 
             assertFalse(scheduleDataList.isEmpty());
 
@@ -75,7 +81,7 @@ class RegularSeasonScheduleDataGeneratorTest {
 
         @Test
         void shouldReturnScheduleDataWhereEveryDayHasAConfiguredNumberOfGames() {
-            final List<ScheduleData> scheduleDataList = generator.generate();
+            final List<ScheduleData> scheduleDataList = generator.generate("2001");
 
             assertFalse(scheduleDataList.isEmpty());
 
@@ -88,7 +94,7 @@ class RegularSeasonScheduleDataGeneratorTest {
         void shouldReturnScheduleDataWhereEveryTeamPlaysAConfiguredNumberOfGames() {
             when(leagueConfiguration.getDaysInRegularSeason()).thenReturn(100);
 
-            final List<ScheduleData> scheduleDataList = generator.generate();
+            final List<ScheduleData> scheduleDataList = generator.generate("2001");
 
             assertFalse(scheduleDataList.isEmpty());
 
@@ -104,7 +110,7 @@ class RegularSeasonScheduleDataGeneratorTest {
         void shouldReturnScheduleDataWhereEveryTeamPlaysHalfTheGamesAtHome() {
             when(leagueConfiguration.getDaysInRegularSeason()).thenReturn(100);
 
-            final List<ScheduleData> scheduleDataList = generator.generate();
+            final List<ScheduleData> scheduleDataList = generator.generate("2001");
 
             assertFalse(scheduleDataList.isEmpty());
 
@@ -120,7 +126,7 @@ class RegularSeasonScheduleDataGeneratorTest {
         void shouldReturnScheduleDataWhereEveryTeamPlaysHalfTheGamesOnTheRoad() {
             when(leagueConfiguration.getDaysInRegularSeason()).thenReturn(100);
 
-            final List<ScheduleData> scheduleDataList = generator.generate();
+            final List<ScheduleData> scheduleDataList = generator.generate("2001");
 
             assertFalse(scheduleDataList.isEmpty());
 
@@ -134,7 +140,7 @@ class RegularSeasonScheduleDataGeneratorTest {
 
         @Test
         void shouldReturnScheduleDataWhereEveryTeamPlaysOtherTeamsInOwnDivisionTeamsSevenTimes() {
-            final List<ScheduleData> scheduleDataList = generator.generate();
+            final List<ScheduleData> scheduleDataList = generator.generate("2001");
 
             assertFalse(scheduleDataList.isEmpty());
 
@@ -159,7 +165,7 @@ class RegularSeasonScheduleDataGeneratorTest {
 
         @Test
         void shouldReturnScheduleDataWhereEveryTeamPlaysThreeOrFourHomeAndRoadGamesWithinDivision() {
-            final List<ScheduleData> scheduleDataList = generator.generate();
+            final List<ScheduleData> scheduleDataList = generator.generate("2001");
 
             assertFalse(scheduleDataList.isEmpty());
 
@@ -199,7 +205,7 @@ class RegularSeasonScheduleDataGeneratorTest {
 
         @Test
         void shouldReturnScheduleDataWhereEveryTeamPlaysOtherTeamsInRivalDivisionTeamsThreeTimes() {
-            final List<ScheduleData> scheduleDataList = generator.generate();
+            final List<ScheduleData> scheduleDataList = generator.generate("2001");
 
             assertFalse(scheduleDataList.isEmpty());
 
@@ -224,7 +230,7 @@ class RegularSeasonScheduleDataGeneratorTest {
 
         @Test
         void shouldReturnScheduleDataWhereEveryTeamPlaysOneOrTwoHomeAndRoadGamesAgainstRivalDivision() {
-            final List<ScheduleData> scheduleDataList = generator.generate();
+            final List<ScheduleData> scheduleDataList = generator.generate("2001");
 
             assertFalse(scheduleDataList.isEmpty());
 
@@ -264,7 +270,7 @@ class RegularSeasonScheduleDataGeneratorTest {
 
         @Test
         void shouldReturnScheduleDataWhereEveryTeamPlaysSevenGamesAgainstCrossConferenceTeams() {
-            final List<ScheduleData> scheduleDataList = generator.generate();
+            final List<ScheduleData> scheduleDataList = generator.generate("2001");
 
             assertFalse(scheduleDataList.isEmpty());
 
@@ -281,7 +287,7 @@ class RegularSeasonScheduleDataGeneratorTest {
 
         @Test
         void shouldReturnScheduleDataWhereEveryTeamPlaysThreeOrFourHomeAndRoadGamesAgainstCrossConferenceTeams() {
-            final List<ScheduleData> scheduleDataList = generator.generate();
+            final List<ScheduleData> scheduleDataList = generator.generate("2001");
 
             assertFalse(scheduleDataList.isEmpty());
 
@@ -310,18 +316,32 @@ class RegularSeasonScheduleDataGeneratorTest {
         }
 
         @Test
-        void shouldReturnADifferentResultEveryTime() {
-            final List<ScheduleData> firstRun = generator.generate();
-            final List<ScheduleData> secondRun = generator.generate();
-
-            assertNotEquals(
-                    firstRun.stream().flatMap(scheduleData -> scheduleData.getMatches().stream())
-                            .map(match -> match.getRoadTeam().toString() + match.getHomeTeam().toString())
-                            .toList(),
-                    secondRun.stream().flatMap(scheduleData -> scheduleData.getMatches().stream())
-                            .map(match -> match.getRoadTeam().toString() + match.getHomeTeam().toString())
-                            .toList()
-            );
+        void shouldDrawFromTheStreamForTheGivenSeason() {
+            generator.generate("2001");
+
+            verify(randomNumber).forSeason("2001");
+        }
+
+        @Test
+        void shouldReturnTheSameResultForTheSameSeason() {
+            final List<ScheduleData> firstRun = generator.generate("2001");
+            final List<ScheduleData> secondRun = generator.generate("2001");
+
+            assertEquals(matchesOf(firstRun), matchesOf(secondRun));
+        }
+
+        @Test
+        void shouldReturnADifferentResultForADifferentSeason() {
+            final List<ScheduleData> firstRun = generator.generate("2001");
+            final List<ScheduleData> secondRun = generator.generate("2002");
+
+            assertNotEquals(matchesOf(firstRun), matchesOf(secondRun));
+        }
+
+        private List<String> matchesOf(final List<ScheduleData> scheduleDataList) {
+            return scheduleDataList.stream().flatMap(scheduleData -> scheduleData.getMatches().stream())
+                    .map(match -> match.getRoadTeam().toString() + match.getHomeTeam().toString())
+                    .toList();
         }
 
         private Boolean sameDivision(final Integer team, final Integer opponent) {
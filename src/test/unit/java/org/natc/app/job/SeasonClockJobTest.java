@@ -0,0 +1,110 @@
+package org.natc.app.job;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.natc.app.configuration.SeasonClockConfiguration;
+import org.natc.app.entity.domain.Schedule;
+import org.natc.app.exception.NATCException;
+import org.natc.app.exception.ScheduleProcessingException;
+import org.natc.app.manager.SeasonManager;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeasonClockJobTest {
+
+    @Mock
+    private SeasonManager seasonManager;
+
+    @Mock
+    private SeasonClockConfiguration seasonClockConfiguration;
+
+    @InjectMocks
+    private SeasonClockJob seasonClockJob;
+
+    @BeforeEach
+    void setup() {
+        lenient().when(seasonClockConfiguration.getMaxEntriesPerFiring()).thenReturn(5);
+    }
+
+    @Nested
+    class CatchUp {
+
+        @Test
+        void shouldProcessScheduledEventsUntilNoEntryIsProcessed() throws NATCException {
+            when(seasonManager.processScheduledEvent())
+                    .thenReturn(Schedule.builder().sequence(1).build())
+                    .thenReturn(Schedule.builder().sequence(2).build())
+                    .thenReturn(null);
+
+            final int processed = seasonClockJob.catchUp();
+
+            assertEquals(2, processed);
+            verify(seasonManager, times(3)).processScheduledEvent();
+        }
+
+        @Test
+        void shouldNotProcessMoreThanTheMaximumEntriesPerFiring() throws NATCException {
+            when(seasonManager.processScheduledEvent()).thenReturn(Schedule.builder().build());
+
+            final int processed = seasonClockJob.catchUp();
+
+            assertEquals(5, processed);
+            verify(seasonManager, times(5)).processScheduledEvent();
+        }
+
+        @Test
+        void shouldReturnZeroWhenNothingIsDue() throws NATCException {
+            when(seasonManager.processScheduledEvent()).thenReturn(null);
+
+            assertEquals(0, seasonClockJob.catchUp());
+            verify(seasonManager, times(1)).processScheduledEvent();
+        }
+
+        @Test
+        void shouldStopProcessingWhenAnEntryFails() throws NATCException {
+            when(seasonManager.processScheduledEvent())
+                    .thenReturn(Schedule.builder().build())
+                    .thenThrow(new ScheduleProcessingException());
+
+            assertThrows(ScheduleProcessingException.class, () -> seasonClockJob.catchUp());
+            verify(seasonManager, times(2)).processScheduledEvent();
+        }
+    }
+
+    @Nested
+    class ExecuteInternal {
+
+        @Test
+        void shouldRecordTheNumberOfProcessedEntriesAsTheJobResult() throws Exception {
+            final JobExecutionContext context = mock(JobExecutionContext.class);
+
+            when(seasonManager.processScheduledEvent())
+                    .thenReturn(Schedule.builder().build())
+                    .thenReturn(null);
+
+            seasonClockJob.executeInternal(context);
+
+            verify(context).setResult(1);
+        }
+
+        @Test
+        void shouldWrapScheduleFailuresInAJobExecutionException() throws NATCException {
+            final JobExecutionContext context = mock(JobExecutionContext.class);
+
+            when(seasonManager.processScheduledEvent()).thenThrow(new ScheduleProcessingException());
+
+            final JobExecutionException exception = assertThrows(JobExecutionException.class, () -> seasonClockJob.executeInternal(context));
+
+            assertInstanceOf(ScheduleProcessingException.class, exception.getCause());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.natc.app.job;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.natc.app.entity.domain.Schedule;
+import org.natc.app.service.ScheduleService;
+import org.natc.app.service.StatsSummaryService;
+import org.quartz.JobExecutionContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SummaryVerificationJobTest {
+
+    @Mock
+    private ScheduleService scheduleService;
+
+    @Mock
+    private StatsSummaryService statsSummaryService;
+
+    @InjectMocks
+    private SummaryVerificationJob summaryVerificationJob;
+
+    @Nested
+    class Verify {
+
+        @Test
+        void shouldVerifyTheSummariesForTheYearOfTheLastScheduleEntry() {
+            when(scheduleService.getLastScheduleEntry()).thenReturn(Schedule.builder().year("2003").sequence(12).build());
+
+            summaryVerificationJob.verify();
+
+            verify(statsSummaryService).verifySummaries("2003");
+        }
+
+        @Test
+        void shouldReturnTheNumberOfMismatchedSummaries() {
+            when(scheduleService.getLastScheduleEntry()).thenReturn(Schedule.builder().year("2003").sequence(12).build());
+            when(statsSummaryService.verifySummaries(anyString())).thenReturn(7);
+
+            assertEquals(7, summaryVerificationJob.verify());
+        }
+
+        @Test
+        void shouldNotVerifyAnythingWhenNoScheduleEntryHasBeenProcessed() {
+            when(scheduleService.getLastScheduleEntry()).thenReturn(null);
+
+            assertEquals(0, summaryVerificationJob.verify());
+
+            verifyNoInteractions(statsSummaryService);
+        }
+    }
+
+    @Nested
+    class ExecuteInternal {
+
+        @Test
+        void shouldRecordTheNumberOfMismatchedSummariesAsTheJobResult() {
+            final JobExecutionContext context = mock(JobExecutionContext.class);
+
+            when(scheduleService.getLastScheduleEntry()).thenReturn(Schedule.builder().year("2003").sequence(12).build());
+            when(statsSummaryService.verifySummaries(anyString())).thenReturn(2);
+
+            summaryVerificationJob.executeInternal(context);
+
+            verify(context).setResult(2);
+        }
+    }
+}
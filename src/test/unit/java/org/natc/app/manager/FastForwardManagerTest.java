@@ -0,0 +1,262 @@
+package org.natc.app.manager;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.natc.app.configuration.SeasonClockSchedulerConfiguration;
+import org.natc.app.entity.domain.Schedule;
+import org.natc.app.entity.domain.ScheduleType;
+import org.natc.app.entity.response.FastForwardResponse;
+import org.natc.app.exception.FastForwardException;
+import org.natc.app.exception.NATCException;
+import org.natc.app.exception.ScheduleProcessingException;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.TriggerKey;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FastForwardManagerTest {
+
+    @Mock
+    private SeasonManager seasonManager;
+
+    @Mock
+    private Scheduler scheduler;
+
+    @InjectMocks
+    private FastForwardManager fastForwardManager;
+
+    private Schedule entry(final String year, final int sequence, final ScheduleType type) {
+        return Schedule.builder().year(year).sequence(sequence).type(type.getValue()).build();
+    }
+
+    @Nested
+    class FastForward {
+
+        @Test
+        void shouldThrowFastForwardExceptionWhenNoTargetIsGiven() {
+            assertThrows(FastForwardException.class, () -> fastForwardManager.fastForward(null, null, null));
+        }
+
+        @Test
+        void shouldThrowFastForwardExceptionBeforeProcessingAnythingWhenTheTargetYearIsNotAYear() {
+            assertThrows(FastForwardException.class, () -> fastForwardManager.fastForward("next", null, null));
+            assertThrows(FastForwardException.class, () -> fastForwardManager.fastForward("19999", ScheduleType.END_OF_SEASON, null));
+
+            verifyNoInteractions(seasonManager, scheduler);
+        }
+
+        @Test
+        void shouldThrowFastForwardExceptionWhenAFastForwardIsAlreadyRunning() throws NATCException {
+            when(seasonManager.processScheduledEvent(any())).thenAnswer(invocation -> {
+                assertThrows(FastForwardException.class, () -> fastForwardManager.fastForward("2000", null, null));
+
+                return null;
+            });
+
+            fastForwardManager.fastForward("2000", null, null);
+
+            verify(seasonManager, times(1)).processScheduledEvent(any());
+        }
+
+        @Test
+        void shouldAllowAnotherFastForwardOnceTheFirstHasFinished() throws NATCException {
+            when(seasonManager.processScheduledEvent(any())).thenReturn(null);
+
+            fastForwardManager.fastForward("2000", null, null);
+            fastForwardManager.fastForward("2000", null, null);
+
+            verify(seasonManager, times(2)).processScheduledEvent(any());
+        }
+
+        @Test
+        void shouldPauseTheSeasonClockWhileProcessingAndResumeItAfterwards() throws NATCException, SchedulerException {
+            final TriggerKey seasonClockTrigger = TriggerKey.triggerKey(SeasonClockSchedulerConfiguration.SEASON_CLOCK_TRIGGER);
+
+            when(scheduler.getTriggerState(seasonClockTrigger)).thenReturn(Trigger.TriggerState.NORMAL);
+            when(seasonManager.processScheduledEvent(any())).thenReturn(null);
+
+            fastForwardManager.fastForward("2000", null, null);
+
+            final InOrder inOrder = inOrder(scheduler, seasonManager);
+
+            inOrder.verify(scheduler).pauseTrigger(seasonClockTrigger);
+            inOrder.verify(seasonManager).processScheduledEvent(any());
+            inOrder.verify(scheduler).resumeTrigger(seasonClockTrigger);
+        }
+
+        @Test
+        void shouldPauseTheSeasonClockWhenItIsInTheMiddleOfAFiring() throws NATCException, SchedulerException {
+            final TriggerKey seasonClockTrigger = TriggerKey.triggerKey(SeasonClockSchedulerConfiguration.SEASON_CLOCK_TRIGGER);
+
+            when(scheduler.getTriggerState(seasonClockTrigger)).thenReturn(Trigger.TriggerState.BLOCKED);
+
+            fastForwardManager.fastForward("2000", null, null);
+
+            verify(scheduler).pauseTrigger(seasonClockTrigger);
+            verify(scheduler).resumeTrigger(seasonClockTrigger);
+        }
+
+        @Test
+        void shouldResumeTheSeasonClockWhenProcessingFails() throws NATCException, SchedulerException {
+            final TriggerKey seasonClockTrigger = TriggerKey.triggerKey(SeasonClockSchedulerConfiguration.SEASON_CLOCK_TRIGGER);
+
+            when(scheduler.getTriggerState(seasonClockTrigger)).thenReturn(Trigger.TriggerState.NORMAL);
+            when(seasonManager.processScheduledEvent(any())).thenThrow(new ScheduleProcessingException());
+
+            assertThrows(ScheduleProcessingException.class, () -> fastForwardManager.fastForward("2000", null, null));
+
+            verify(scheduler).resumeTrigger(seasonClockTrigger);
+        }
+
+        @Test
+        void shouldLeaveASeasonClockThatWasAlreadyPausedPaused() throws NATCException, SchedulerException {
+            when(scheduler.getTriggerState(any())).thenReturn(Trigger.TriggerState.PAUSED);
+
+            fastForwardManager.fastForward("2000", null, null);
+
+            verify(scheduler, never()).pauseTrigger(any());
+            verify(scheduler, never()).resumeTrigger(any());
+        }
+
+        @Test
+        void shouldNotTouchTheSchedulerWhenTheSeasonClockIsNotScheduled() throws NATCException, SchedulerException {
+            when(scheduler.getTriggerState(any())).thenReturn(Trigger.TriggerState.NONE);
+
+            fastForwardManager.fastForward("2000", null, null);
+
+            verify(scheduler, never()).pauseTrigger(any());
+            verify(scheduler, never()).resumeTrigger(any());
+        }
+
+        @Test
+        void shouldProcessEntriesWithoutDateGating() throws NATCException {
+            when(seasonManager.processScheduledEvent(LocalDate.MAX)).thenReturn(entry("2000", 1, ScheduleType.ROOKIE_DRAFT_ROUND_1));
+
+            fastForwardManager.fastForward(null, ScheduleType.ROOKIE_DRAFT_ROUND_1, null);
+
+            verify(seasonManager).processScheduledEvent(LocalDate.MAX);
+            verify(seasonManager, never()).processScheduledEvent();
+        }
+
+        @Test
+        void shouldStopAfterProcessingTheTargetScheduleType() throws NATCException {
+            when(seasonManager.processScheduledEvent(any()))
+                    .thenReturn(entry("2000", 1, ScheduleType.BEGINNING_OF_SEASON))
+                    .thenReturn(entry("2000", 2, ScheduleType.MANAGER_CHANGES))
+                    .thenReturn(entry("2000", 3, ScheduleType.PLAYER_CHANGES))
+                    .thenReturn(entry("2000", 4, ScheduleType.ROOKIE_DRAFT_ROUND_1));
+
+            final FastForwardResponse response = fastForwardManager.fastForward(null, ScheduleType.PLAYER_CHANGES, null);
+
+            assertEquals(3, response.getEvents());
+            assertEquals(ScheduleType.PLAYER_CHANGES, response.getLastType());
+            assertEquals(3, response.getLastSequence());
+            assertTrue(response.getTargetReached());
+        }
+
+        @Test
+        void shouldStopAfterTheEndOfTheTargetSeasonWhenOnlyAYearIsGiven() throws NATCException {
+            when(seasonManager.processScheduledEvent(any()))
+                    .thenReturn(entry("2000", 5, ScheduleType.TRAINING_CAMP))
+                    .thenReturn(entry("2000", 6, ScheduleType.END_OF_SEASON))
+                    .thenReturn(entry("2001", 1, ScheduleType.BEGINNING_OF_SEASON))
+                    .thenReturn(entry("2001", 2, ScheduleType.END_OF_SEASON))
+                    .thenReturn(entry("2002", 1, ScheduleType.BEGINNING_OF_SEASON));
+
+            final FastForwardResponse response = fastForwardManager.fastForward("2001", null, null);
+
+            assertEquals(4, response.getEvents());
+            assertEquals(2, response.getSeasons());
+            assertEquals("2001", response.getLastYear());
+            assertEquals(ScheduleType.END_OF_SEASON, response.getLastType());
+            assertTrue(response.getTargetReached());
+        }
+
+        @Test
+        void shouldOnlyStopAtTheTargetScheduleTypeInTheTargetYear() throws NATCException {
+            when(seasonManager.processScheduledEvent(any()))
+                    .thenReturn(entry("2000", 4, ScheduleType.ROOKIE_DRAFT_ROUND_1))
+                    .thenReturn(entry("2000", 22, ScheduleType.END_OF_SEASON))
+                    .thenReturn(entry("2001", 4, ScheduleType.ROOKIE_DRAFT_ROUND_1))
+                    .thenReturn(entry("2001", 5, ScheduleType.ROOKIE_DRAFT_ROUND_2));
+
+            final FastForwardResponse response = fastForwardManager.fastForward("2001", ScheduleType.ROOKIE_DRAFT_ROUND_1, null);
+
+            assertEquals(3, response.getEvents());
+            assertEquals("2001", response.getLastYear());
+            assertTrue(response.getTargetReached());
+        }
+
+        @Test
+        void shouldStopWhenAnEntryIsProcessedForAYearPastTheTargetYear() throws NATCException {
+            when(seasonManager.processScheduledEvent(any()))
+                    .thenReturn(entry("2000", 4, ScheduleType.TRAINING_CAMP))
+                    .thenReturn(entry("2001", 1, ScheduleType.BEGINNING_OF_SEASON));
+
+            final FastForwardResponse response = fastForwardManager.fastForward("2000", ScheduleType.ALL_STARS, null);
+
+            assertEquals(2, response.getEvents());
+            assertEquals("2001", response.getLastYear());
+        }
+
+        @Test
+        void shouldStopWithoutReachingTheTargetWhenNoEntryIsProcessed() throws NATCException {
+            when(seasonManager.processScheduledEvent(any()))
+                    .thenReturn(entry("2000", 1, ScheduleType.BEGINNING_OF_SEASON))
+                    .thenReturn(null);
+
+            final FastForwardResponse response = fastForwardManager.fastForward("2005", null, null);
+
+            assertEquals(1, response.getEvents());
+            assertFalse(response.getTargetReached());
+        }
+
+        @Test
+        void shouldNotProcessMoreThanTheMaximumNumberOfEvents() throws NATCException {
+            when(seasonManager.processScheduledEvent(any())).thenReturn(entry("2000", 1, ScheduleType.REGULAR_SEASON));
+
+            final FastForwardResponse response = fastForwardManager.fastForward("2005", null, 10);
+
+            assertEquals(10, response.getEvents());
+            assertFalse(response.getTargetReached());
+            verify(seasonManager, times(10)).processScheduledEvent(any());
+        }
+
+        @Test
+        void shouldReportThroughput() throws NATCException {
+            when(seasonManager.processScheduledEvent(any()))
+                    .thenReturn(entry("2000", 1, ScheduleType.BEGINNING_OF_SEASON))
+                    .thenReturn(entry("2000", 2, ScheduleType.END_OF_SEASON));
+
+            final FastForwardResponse response = fastForwardManager.fastForward("2000", null, null);
+
+            assertNotNull(response.getElapsedMillis());
+            assertTrue(response.getEventsPerSecond() > 0.0);
+            assertTrue(response.getSeasonsPerMinute() > 0.0);
+        }
+
+        @Test
+        void shouldReturnEmptyResultsWhenNothingIsProcessed() throws NATCException {
+            when(seasonManager.processScheduledEvent(any())).thenReturn(null);
+
+            final FastForwardResponse response = fastForwardManager.fastForward("2000", null, null);
+
+            assertEquals(0, response.getEvents());
+            assertEquals(0, response.getSeasons());
+            assertNull(response.getLastYear());
+            assertNull(response.getLastType());
+            assertFalse(response.getTargetReached());
+        }
+    }
+}
@@ -17,13 +17,19 @@ import org.natc.app.entity.domain.ScheduleStatus;
 import org.natc.app.entity.domain.ScheduleType;
 import org.natc.app.exception.NATCException;
 import org.natc.app.exception.ScheduleProcessingException;
+import org.natc.app.metrics.LeagueMetrics;
+import org.natc.app.metrics.SqlStatementStats;
+import org.natc.app.metrics.SqlStatementTracker;
 import org.natc.app.processor.ScheduleProcessor;
+import org.natc.app.repository.ScheduleLockRepository;
 import org.natc.app.service.LeagueService;
 import org.natc.app.service.ScheduleService;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -38,12 +44,24 @@ class SeasonManagerTest {
     @Mock
     private ScheduleService scheduleService;
 
+    @Mock
+    private ScheduleLockRepository scheduleLockRepository;
+
     @Mock
     private ScheduleProcessorManager scheduleProcessorManager;
 
     @Mock
     private LeagueConfiguration leagueConfiguration;
     
+    @Mock
+    private LeagueMetrics leagueMetrics;
+
+    @Mock
+    private SqlStatementTracker sqlStatementTracker;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private SeasonManager seasonManager;
 
@@ -65,6 +83,16 @@ class SeasonManagerTest {
             when(scheduleService.getNextScheduleEntry(any())).thenReturn(validTodaySchedule);
         }
 
+        @Test
+        void shouldLockTheScheduleBeforeLookingAtIt() throws NATCException {
+            seasonManager.processScheduledEvent();
+
+            final InOrder inOrder = inOrder(scheduleLockRepository, scheduleService);
+
+            inOrder.verify(scheduleLockRepository).lockSchedule();
+            inOrder.verify(scheduleService).getCurrentScheduleEntry();
+        }
+
         @Test
         void shouldCallScheduleServiceToGetCurrentScheduleEntry() throws NATCException {
             seasonManager.processScheduledEvent();
@@ -428,5 +456,161 @@ class SeasonManagerTest {
 
             verify(scheduleProcessor).process(nextSchedule);
         }
+
+        @Test
+        void shouldReturnTheProcessedScheduleEntry() throws NATCException {
+            final Schedule nextSchedule = Schedule.builder()
+                    .year("2000")
+                    .sequence(1)
+                    .type(ScheduleType.REGULAR_SEASON.getValue())
+                    .status(ScheduleStatus.SCHEDULED.getValue())
+                    .scheduled(LocalDate.now())
+                    .build();
+
+            reset(scheduleService);
+            when(scheduleService.getNextScheduleEntry(any())).thenReturn(nextSchedule);
+
+            assertEquals(nextSchedule, seasonManager.processScheduledEvent());
+        }
+
+        @Test
+        void shouldRecordTheScheduleEntryBeingProcessedWithLeagueMetrics() throws NATCException {
+            final Schedule nextSchedule = Schedule.builder()
+                    .year("2000")
+                    .sequence(1)
+                    .type(ScheduleType.REGULAR_SEASON.getValue())
+                    .status(ScheduleStatus.SCHEDULED.getValue())
+                    .scheduled(LocalDate.now())
+                    .build();
+
+            reset(scheduleService);
+            when(scheduleService.getNextScheduleEntry(any())).thenReturn(nextSchedule);
+
+            seasonManager.processScheduledEvent();
+
+            verify(leagueMetrics).scheduleEntryStarted(nextSchedule);
+            verify(leagueMetrics).recordScheduleProcessing(eq(ScheduleType.REGULAR_SEASON), anyLong());
+        }
+
+        @Test
+        void shouldCountTheSqlStatementsIssuedWhileTheScheduleEntryIsProcessed() throws NATCException {
+            final ScheduleProcessor scheduleProcessor = mock(ScheduleProcessor.class);
+            final SqlStatementStats stats = new SqlStatementStats();
+
+            reset(scheduleProcessorManager);
+            when(scheduleProcessorManager.getProcessorFor(any())).thenReturn(scheduleProcessor);
+            when(sqlStatementTracker.stop()).thenReturn(stats);
+
+            seasonManager.processScheduledEvent();
+
+            final InOrder inOrder = inOrder(sqlStatementTracker, scheduleProcessor, leagueMetrics);
+
+            inOrder.verify(sqlStatementTracker).start();
+            inOrder.verify(scheduleProcessor).process(any());
+            inOrder.verify(sqlStatementTracker).stop();
+            inOrder.verify(leagueMetrics).recordScheduleSqlStatements(ScheduleType.REGULAR_SEASON, stats);
+        }
+
+        @Test
+        void shouldRecordScheduleProcessingTimeEvenWhenTheScheduleProcessorFails() throws NATCException {
+            final ScheduleProcessor scheduleProcessor = mock(ScheduleProcessor.class);
+
+            reset(scheduleProcessorManager);
+            when(scheduleProcessorManager.getProcessorFor(any())).thenReturn(scheduleProcessor);
+            doThrow(new ScheduleProcessingException()).when(scheduleProcessor).process(any());
+
+            assertThrows(ScheduleProcessingException.class, () -> seasonManager.processScheduledEvent());
+
+            verify(leagueMetrics).recordScheduleProcessing(eq(ScheduleType.REGULAR_SEASON), anyLong());
+        }
+
+        @Test
+        void shouldPublishTheProcessedScheduleEntryOnceItHasBeenProcessed() throws NATCException {
+            final ScheduleProcessor scheduleProcessor = mock(ScheduleProcessor.class);
+            final ArgumentCaptor<ScheduleEntryProcessedEvent> captor = ArgumentCaptor.forClass(ScheduleEntryProcessedEvent.class);
+
+            reset(scheduleProcessorManager);
+            when(scheduleProcessorManager.getProcessorFor(any())).thenReturn(scheduleProcessor);
+
+            final Schedule schedule = seasonManager.processScheduledEvent();
+
+            final InOrder inOrder = inOrder(scheduleProcessor, eventPublisher);
+
+            inOrder.verify(scheduleProcessor).process(any());
+            inOrder.verify(eventPublisher).publishEvent(captor.capture());
+
+            assertEquals(schedule, captor.getValue().getSchedule());
+        }
+
+        @Test
+        void shouldNotPublishTheScheduleEntryWhenTheScheduleProcessorFails() throws NATCException {
+            final ScheduleProcessor scheduleProcessor = mock(ScheduleProcessor.class);
+
+            reset(scheduleProcessorManager);
+            when(scheduleProcessorManager.getProcessorFor(any())).thenReturn(scheduleProcessor);
+            doThrow(new ScheduleProcessingException()).when(scheduleProcessor).process(any());
+
+            assertThrows(ScheduleProcessingException.class, () -> seasonManager.processScheduledEvent());
+
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        void shouldReturnNullIfCurrentScheduleEntryFound() throws NATCException {
+            final Schedule currentSchedule = Schedule.builder().year("2000").sequence(1).status(ScheduleStatus.IN_PROGRESS.getValue()).build();
+
+            when(scheduleService.getCurrentScheduleEntry()).thenReturn(currentSchedule);
+
+            assertNull(seasonManager.processScheduledEvent());
+        }
+
+        @Test
+        void shouldReturnNullWhenNextEntryScheduledDateIsInTheFuture() throws NATCException {
+            final Schedule nextSchedule = Schedule.builder()
+                    .year("2000")
+                    .sequence(1)
+                    .status(ScheduleStatus.SCHEDULED.getValue())
+                    .scheduled(LocalDate.now().plusDays(1))
+                    .build();
+
+            reset(scheduleService);
+            when(scheduleService.getNextScheduleEntry(any())).thenReturn(nextSchedule);
+
+            assertNull(seasonManager.processScheduledEvent());
+        }
+
+        @Test
+        void shouldProcessEntriesScheduledAfterTodayWhenGivenALaterProcessThroughDate() throws NATCException {
+            final Schedule nextSchedule = Schedule.builder()
+                    .year("2000")
+                    .sequence(1)
+                    .type(ScheduleType.REGULAR_SEASON.getValue())
+                    .status(ScheduleStatus.SCHEDULED.getValue())
+                    .scheduled(LocalDate.now().plusYears(10))
+                    .build();
+
+            reset(scheduleService);
+            when(scheduleService.getNextScheduleEntry(any())).thenReturn(nextSchedule);
+
+            assertEquals(nextSchedule, seasonManager.processScheduledEvent(LocalDate.MAX));
+            verify(scheduleService).updateScheduleEntry(nextSchedule);
+        }
+
+        @Test
+        void shouldNotProcessEntriesScheduledAfterTheProcessThroughDate() throws NATCException {
+            final Schedule nextSchedule = Schedule.builder()
+                    .year("2000")
+                    .sequence(1)
+                    .type(ScheduleType.REGULAR_SEASON.getValue())
+                    .status(ScheduleStatus.SCHEDULED.getValue())
+                    .scheduled(LocalDate.of(2000, 5, 2))
+                    .build();
+
+            reset(scheduleService);
+            when(scheduleService.getNextScheduleEntry(any())).thenReturn(nextSchedule);
+
+            assertNull(seasonManager.processScheduledEvent(LocalDate.of(2000, 5, 1)));
+            verify(scheduleService, never()).updateScheduleEntry(any());
+        }
     }
-}
\ No newline at end of file
+}
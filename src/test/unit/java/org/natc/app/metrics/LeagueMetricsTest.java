@@ -0,0 +1,171 @@
+package org.natc.app.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.natc.app.entity.domain.Schedule;
+import org.natc.app.entity.domain.ScheduleType;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.natc.app.metrics.LeagueMetrics.LeagueEvent.*;
+
+class LeagueMetricsTest {
+
+    private MeterRegistry meterRegistry;
+    private LeagueMetrics leagueMetrics;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        leagueMetrics = new LeagueMetrics(meterRegistry);
+    }
+
+    @Nested
+    class ScheduleEntryStarted {
+
+        @Test
+        void shouldSetTheCurrentSeasonAndScheduleSequenceGauges() {
+            leagueMetrics.scheduleEntryStarted(Schedule.builder().year("1984").sequence(17).build());
+
+            assertEquals(1984.0, meterRegistry.get(LeagueMetrics.CURRENT_SEASON_GAUGE).gauge().value());
+            assertEquals(17.0, meterRegistry.get(LeagueMetrics.SCHEDULE_SEQUENCE_GAUGE).gauge().value());
+        }
+
+        @Test
+        void shouldReplaceTheGaugeValuesWithTheLatestScheduleEntry() {
+            leagueMetrics.scheduleEntryStarted(Schedule.builder().year("1984").sequence(17).build());
+            leagueMetrics.scheduleEntryStarted(Schedule.builder().year("1985").sequence(1).build());
+
+            assertEquals(1985.0, meterRegistry.get(LeagueMetrics.CURRENT_SEASON_GAUGE).gauge().value());
+            assertEquals(1.0, meterRegistry.get(LeagueMetrics.SCHEDULE_SEQUENCE_GAUGE).gauge().value());
+        }
+    }
+
+    @Nested
+    class RecordScheduleProcessing {
+
+        @Test
+        void shouldRecordTheElapsedTimeAgainstATimerTaggedByScheduleType() {
+            leagueMetrics.recordScheduleProcessing(ScheduleType.REGULAR_SEASON, TimeUnit.MILLISECONDS.toNanos(250));
+            leagueMetrics.recordScheduleProcessing(ScheduleType.REGULAR_SEASON, TimeUnit.MILLISECONDS.toNanos(750));
+            leagueMetrics.recordScheduleProcessing(ScheduleType.AWARDS, TimeUnit.MILLISECONDS.toNanos(100));
+
+            final Timer regularSeason = meterRegistry.get(LeagueMetrics.SCHEDULE_PROCESS_TIMER).tag("type", "REGULAR_SEASON").timer();
+            final Timer awards = meterRegistry.get(LeagueMetrics.SCHEDULE_PROCESS_TIMER).tag("type", "AWARDS").timer();
+
+            assertEquals(2, regularSeason.count());
+            assertEquals(1000.0, regularSeason.totalTime(TimeUnit.MILLISECONDS));
+            assertEquals(1, awards.count());
+        }
+
+        @Test
+        void shouldTagUnknownScheduleTypes() {
+            leagueMetrics.recordScheduleProcessing(null, 1L);
+
+            assertEquals(1, meterRegistry.get(LeagueMetrics.SCHEDULE_PROCESS_TIMER).tag("type", "UNKNOWN").timer().count());
+        }
+    }
+
+    @Nested
+    class RecordRequestSqlStatements {
+
+        @Test
+        void shouldRecordStatementCountAndTimeTaggedByUri() {
+            final SqlStatementTracker tracker = new SqlStatementTracker();
+
+            tracker.start();
+            tracker.record(1, TimeUnit.MILLISECONDS.toNanos(3));
+            tracker.record(1, TimeUnit.MILLISECONDS.toNanos(5));
+
+            leagueMetrics.recordRequestSqlStatements("/api/teams/search", tracker.stop());
+
+            final DistributionSummary statements = meterRegistry.get(LeagueMetrics.HTTP_SQL_STATEMENTS_SUMMARY).tag("uri", "/api/teams/search").summary();
+            final Timer time = meterRegistry.get(LeagueMetrics.HTTP_SQL_TIME_TIMER).tag("uri", "/api/teams/search").timer();
+
+            assertEquals(1, statements.count());
+            assertEquals(2.0, statements.totalAmount());
+            assertEquals(8.0, time.totalTime(TimeUnit.MILLISECONDS));
+        }
+
+        @Test
+        void shouldTagUnmatchedRequests() {
+            leagueMetrics.recordRequestSqlStatements(null, new SqlStatementStats());
+
+            assertEquals(1, meterRegistry.get(LeagueMetrics.HTTP_SQL_STATEMENTS_SUMMARY).tag("uri", "UNKNOWN").summary().count());
+        }
+
+        @Test
+        void shouldIgnoreMissingStats() {
+            leagueMetrics.recordRequestSqlStatements("/api/teams/search", null);
+
+            assertNull(meterRegistry.find(LeagueMetrics.HTTP_SQL_STATEMENTS_SUMMARY).summary());
+        }
+    }
+
+    @Nested
+    class RecordScheduleSqlStatements {
+
+        @Test
+        void shouldRecordStatementCountAndTimeTaggedByScheduleType() {
+            final SqlStatementTracker tracker = new SqlStatementTracker();
+
+            tracker.start();
+            tracker.record(1, TimeUnit.MILLISECONDS.toNanos(2));
+
+            leagueMetrics.recordScheduleSqlStatements(ScheduleType.ROOKIE_DRAFT_ROUND_1, tracker.stop());
+
+            assertEquals(1.0, meterRegistry.get(LeagueMetrics.SCHEDULE_SQL_STATEMENTS_SUMMARY).tag("type", "ROOKIE_DRAFT_ROUND_1").summary().totalAmount());
+            assertEquals(2.0, meterRegistry.get(LeagueMetrics.SCHEDULE_SQL_TIME_TIMER).tag("type", "ROOKIE_DRAFT_ROUND_1").timer().totalTime(TimeUnit.MILLISECONDS));
+        }
+    }
+
+    @Nested
+    class RecordPlayers {
+
+        @Test
+        void shouldIncrementThePlayerCounterForTheGivenEvent() {
+            leagueMetrics.recordPlayers(GENERATED, 600);
+            leagueMetrics.recordPlayers(SIGNED, 3);
+            leagueMetrics.recordPlayers(SIGNED, 2);
+
+            assertEquals(600.0, meterRegistry.get(LeagueMetrics.PLAYERS_COUNTER).tag("event", "generated").counter().count());
+            assertEquals(5.0, meterRegistry.get(LeagueMetrics.PLAYERS_COUNTER).tag("event", "signed").counter().count());
+        }
+
+        @Test
+        void shouldNotRegisterACounterWhenNothingHappened() {
+            leagueMetrics.recordPlayers(RETIRED, 0);
+
+            assertNull(meterRegistry.find(LeagueMetrics.PLAYERS_COUNTER).tag("event", "retired").counter());
+        }
+    }
+
+    @Nested
+    class RecordManagers {
+
+        @Test
+        void shouldIncrementTheManagerCounterForTheGivenEvent() {
+            leagueMetrics.recordManagers(DRAFTED, 4);
+            leagueMetrics.recordManagers(RELEASED, 1);
+
+            assertEquals(4.0, meterRegistry.get(LeagueMetrics.MANAGERS_COUNTER).tag("event", "drafted").counter().count());
+            assertEquals(1.0, meterRegistry.get(LeagueMetrics.MANAGERS_COUNTER).tag("event", "released").counter().count());
+        }
+
+        @Test
+        void shouldKeepManagerAndPlayerCountersSeparate() {
+            leagueMetrics.recordManagers(GENERATED, 80);
+            leagueMetrics.recordPlayers(GENERATED, 600);
+
+            assertEquals(80.0, meterRegistry.get(LeagueMetrics.MANAGERS_COUNTER).tag("event", "generated").counter().count());
+            assertEquals(600.0, meterRegistry.get(LeagueMetrics.PLAYERS_COUNTER).tag("event", "generated").counter().count());
+        }
+    }
+}
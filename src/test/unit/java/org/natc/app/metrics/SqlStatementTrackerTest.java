@@ -0,0 +1,114 @@
+package org.natc.app.metrics;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlStatementTrackerTest {
+
+    private final SqlStatementTracker sqlStatementTracker = new SqlStatementTracker();
+
+    @Nested
+    class Start {
+
+        @Test
+        void shouldOpenAnEmptyScope() {
+            sqlStatementTracker.start();
+
+            final SqlStatementStats stats = sqlStatementTracker.stop();
+
+            assertEquals(0, stats.getStatements());
+            assertEquals(0L, stats.getElapsedNanos());
+        }
+    }
+
+    @Nested
+    class Current {
+
+        @Test
+        void shouldReturnNullWhenNoScopeIsOpen() {
+            assertNull(sqlStatementTracker.current());
+        }
+
+        @Test
+        void shouldReturnTheInnermostOpenScope() {
+            sqlStatementTracker.start();
+            final SqlStatementStats outer = sqlStatementTracker.current();
+            sqlStatementTracker.start();
+            final SqlStatementStats inner = sqlStatementTracker.current();
+
+            assertNotSame(outer, inner);
+            assertSame(inner, sqlStatementTracker.stop());
+            assertSame(outer, sqlStatementTracker.stop());
+        }
+    }
+
+    @Nested
+    class Stop {
+
+        @Test
+        void shouldReturnNullWhenNoScopeIsOpen() {
+            assertNull(sqlStatementTracker.stop());
+        }
+
+        @Test
+        void shouldCloseTheScope() {
+            sqlStatementTracker.start();
+            sqlStatementTracker.stop();
+
+            assertNull(sqlStatementTracker.current());
+        }
+    }
+
+    @Nested
+    class Record {
+
+        @Test
+        void shouldAccumulateStatementsAndElapsedTimeInTheOpenScope() {
+            sqlStatementTracker.start();
+            sqlStatementTracker.record(1, 100L);
+            sqlStatementTracker.record(1, 250L);
+
+            final SqlStatementStats stats = sqlStatementTracker.stop();
+
+            assertEquals(2, stats.getStatements());
+            assertEquals(350L, stats.getElapsedNanos());
+        }
+
+        @Test
+        void shouldRecordAgainstEveryOpenScope() {
+            sqlStatementTracker.start();
+            sqlStatementTracker.record(1, 10L);
+            sqlStatementTracker.start();
+            sqlStatementTracker.record(1, 20L);
+
+            final SqlStatementStats inner = sqlStatementTracker.stop();
+            final SqlStatementStats outer = sqlStatementTracker.stop();
+
+            assertEquals(1, inner.getStatements());
+            assertEquals(20L, inner.getElapsedNanos());
+            assertEquals(2, outer.getStatements());
+            assertEquals(30L, outer.getElapsedNanos());
+        }
+
+        @Test
+        void shouldIgnoreStatementsWhenNoScopeIsOpen() {
+            sqlStatementTracker.record(1, 10L);
+            sqlStatementTracker.start();
+
+            assertEquals(0, sqlStatementTracker.stop().getStatements());
+        }
+
+        @Test
+        void shouldNotRecordStatementsIssuedOnOtherThreads() {
+            sqlStatementTracker.start();
+
+            CompletableFuture.runAsync(() -> sqlStatementTracker.record(1, 10L)).join();
+
+            assertEquals(0, sqlStatementTracker.stop().getStatements());
+        }
+    }
+}
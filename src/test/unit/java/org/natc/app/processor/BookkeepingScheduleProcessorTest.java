@@ -0,0 +1,90 @@
+package org.natc.app.processor;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.natc.app.entity.domain.Schedule;
+import org.natc.app.entity.domain.ScheduleStatus;
+import org.natc.app.entity.domain.ScheduleType;
+import org.natc.app.exception.NATCException;
+import org.natc.app.exception.ScheduleProcessingException;
+import org.natc.app.service.ScheduleService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class BookkeepingScheduleProcessorTest {
+
+    @Mock
+    private ScheduleService scheduleService;
+
+    @InjectMocks
+    private BookkeepingScheduleProcessor processor;
+
+    @Nested
+    class Process {
+        @Test
+        void shouldThrowExceptionWhenScheduleTypeIsMissing() {
+            final Schedule schedule = Schedule.builder().year("2019").build();
+
+            assertThrows(ScheduleProcessingException.class, () -> processor.process(schedule));
+        }
+
+        @Test
+        void shouldThrowExceptionWhenGivenIncorrectScheduleEventType() {
+            final Schedule schedule = Schedule.builder()
+                    .type(ScheduleType.REGULAR_SEASON.getValue())
+                    .year("2019")
+                    .build();
+
+            assertThrows(ScheduleProcessingException.class, () -> processor.process(schedule));
+
+            verifyNoInteractions(scheduleService);
+        }
+
+        @Test
+        void shouldCompleteEveryScheduleTypeFromTheEndOfPreseasonThroughTheEndOfSeason() throws NATCException {
+            for (final ScheduleType scheduleType : ScheduleType.values()) {
+                if (scheduleType.getValue() < ScheduleType.END_OF_PRESEASON.getValue() || scheduleType == ScheduleType.REGULAR_SEASON) continue;
+
+                final Schedule schedule = Schedule.builder().type(scheduleType.getValue()).status(ScheduleStatus.IN_PROGRESS.getValue()).build();
+
+                processor.process(schedule);
+
+                assertEquals(ScheduleStatus.COMPLETED.getValue(), schedule.getStatus(), scheduleType.name());
+            }
+        }
+
+        @Test
+        void shouldUpdateTheScheduleEntryStatusToCompleted() throws NATCException {
+            final Schedule schedule = Schedule.builder()
+                    .type(ScheduleType.END_OF_SEASON.getValue())
+                    .year("2001")
+                    .sequence(1)
+                    .status(ScheduleStatus.IN_PROGRESS.getValue())
+                    .build();
+            final ArgumentCaptor<Schedule> captor = ArgumentCaptor.forClass(Schedule.class);
+
+            processor.process(schedule);
+
+            verify(scheduleService).updateScheduleEntry(captor.capture());
+
+            assertSame(schedule, captor.getValue());
+            assertEquals(ScheduleStatus.COMPLETED.getValue(), captor.getValue().getStatus());
+        }
+
+        @Test
+        void shouldCallTheScheduleServiceToUpdateTheScheduleEntry() throws NATCException {
+            processor.process(Schedule.builder().type(ScheduleType.END_OF_SEASON.getValue()).build());
+
+            verify(scheduleService).updateScheduleEntry(any());
+        }
+    }
+}
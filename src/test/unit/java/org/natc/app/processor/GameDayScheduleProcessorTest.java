@@ -0,0 +1,323 @@
+package org.natc.app.processor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.natc.app.entity.domain.*;
+import org.natc.app.exception.NATCException;
+import org.natc.app.exception.ScheduleProcessingException;
+import org.natc.app.random.RandomNumber;
+import org.natc.app.repository.GameStateRepository;
+import org.natc.app.repository.IdSequence;
+import org.natc.app.repository.PlayerGameRepository;
+import org.natc.app.repository.TeamGameRepository;
+import org.natc.app.service.IdBlockAllocator;
+import org.natc.app.service.PlayerService;
+import org.natc.app.service.ScheduleService;
+import org.natc.app.service.StatsSummaryService;
+import org.natc.app.simulation.GameSimulator;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GameDayScheduleProcessorTest {
+
+    private static final int TEAMS = 8;
+
+    @Mock
+    private PlayerService playerService;
+
+    @Mock
+    private ScheduleService scheduleService;
+
+    @Mock
+    private IdBlockAllocator idBlockAllocator;
+
+    @Mock
+    private TeamGameRepository teamGameRepository;
+
+    @Mock
+    private PlayerGameRepository playerGameRepository;
+
+    @Mock
+    private GameStateRepository gameStateRepository;
+
+    @Mock
+    private StatsSummaryService statsSummaryService;
+
+    @Mock
+    private RandomNumber randomNumber;
+
+    private ForkJoinPool gameSimulationPool;
+    private GameDayScheduleProcessor processor;
+
+    @BeforeEach
+    void setup() {
+        gameSimulationPool = new ForkJoinPool(4);
+        processor = createProcessor(gameSimulationPool);
+    }
+
+    @AfterEach
+    void teardown() {
+        gameSimulationPool.shutdown();
+    }
+
+    @Nested
+    class Process {
+
+        @Test
+        void shouldThrowExceptionWhenScheduleTypeIsMissing() {
+            final Schedule schedule = Schedule.builder().year("2019").build();
+
+            assertThrows(ScheduleProcessingException.class, () -> processor.process(schedule));
+        }
+
+        @Test
+        void shouldThrowExceptionWhenGivenIncorrectScheduleEventType() {
+            final Schedule schedule = Schedule.builder()
+                    .type(ScheduleType.TRAINING_CAMP.getValue())
+                    .year("2019")
+                    .build();
+
+            assertThrows(ScheduleProcessingException.class, () -> processor.process(schedule));
+        }
+
+        @Test
+        void shouldNotLoadPlayersWhenThereAreNoMatches() throws NATCException {
+            processor.process(generateSchedule(ScheduleType.REGULAR_SEASON, new ScheduleData()));
+
+            verifyNoInteractions(playerService, idBlockAllocator);
+        }
+
+        @Test
+        void shouldThrowExceptionWhenATeamHasNoActivePlayers() {
+            final ScheduleData scheduleData = new ScheduleData();
+
+            scheduleData.getMatches().add(new ScheduleData.Match(1, TEAMS + 1));
+
+            when(playerService.getActivePlayersForYear(anyString())).thenReturn(generatePlayers());
+            lenient().when(idBlockAllocator.allocate(eq(IdSequence.GAME), anyInt())).thenReturn(List.of(1));
+
+            assertThrows(ScheduleProcessingException.class, () -> processor.process(generateSchedule(ScheduleType.REGULAR_SEASON, scheduleData)));
+
+            verifyNoInteractions(teamGameRepository, playerGameRepository, gameStateRepository);
+        }
+
+        @Test
+        void shouldLoadTheActivePlayersForTheScheduleYear() throws NATCException {
+            stubGameDay();
+
+            processor.process(generateSchedule(ScheduleType.REGULAR_SEASON, generateScheduleData()));
+
+            verify(playerService).getActivePlayersForYear("2001");
+        }
+
+        @Test
+        void shouldAllocateAGameIdForEachMatch() throws NATCException {
+            stubGameDay();
+
+            processor.process(generateSchedule(ScheduleType.REGULAR_SEASON, generateScheduleData()));
+
+            verify(idBlockAllocator).allocate(IdSequence.GAME, TEAMS / 2);
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void shouldInsertTheResultsForTheWholeDayInOneBatchEach() throws NATCException {
+            stubGameDay();
+
+            final ArgumentCaptor<List<TeamGame>> teamGameCaptor = ArgumentCaptor.forClass(List.class);
+            final ArgumentCaptor<List<PlayerGame>> playerGameCaptor = ArgumentCaptor.forClass(List.class);
+            final ArgumentCaptor<List<GameState>> gameStateCaptor = ArgumentCaptor.forClass(List.class);
+
+            processor.process(generateSchedule(ScheduleType.REGULAR_SEASON, generateScheduleData()));
+
+            verify(teamGameRepository).insertAll(teamGameCaptor.capture());
+            verify(playerGameRepository).insertAll(playerGameCaptor.capture());
+            verify(gameStateRepository).insertAll(gameStateCaptor.capture());
+
+            assertEquals(TEAMS, teamGameCaptor.getValue().size());
+            assertEquals(TEAMS * 6, playerGameCaptor.getValue().size());
+            assertEquals(TEAMS / 2, gameStateCaptor.getValue().size());
+            assertEquals(List.of(1001, 1002, 1003, 1004), gameStateCaptor.getValue().stream().map(GameState::getGameId).toList());
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void shouldSetTheGameTypeAndDateFromTheScheduleEntry() throws NATCException {
+            stubGameDay();
+
+            final ArgumentCaptor<List<TeamGame>> captor = ArgumentCaptor.forClass(List.class);
+
+            processor.process(generateSchedule(ScheduleType.PRESEASON, generateScheduleData()));
+
+            verify(teamGameRepository).insertAll(captor.capture());
+
+            for (final TeamGame teamGame : captor.getValue()) {
+                assertEquals(GameType.PRESEASON.getValue(), teamGame.getType());
+                assertEquals(LocalDate.of(2001, 4, 1), teamGame.getDatestamp());
+                assertEquals("2001", teamGame.getYear());
+            }
+        }
+
+        @Test
+        void shouldProduceTheSameResultsAsASequentialRun() throws NATCException {
+            stubGameDay();
+
+            final List<String> parallel = captureScores(processor);
+
+            final ForkJoinPool sequentialPool = new ForkJoinPool(1);
+
+            try {
+                reset(teamGameRepository);
+
+                assertEquals(parallel, captureScores(createProcessor(sequentialPool)));
+            }
+            finally {
+                sequentialPool.shutdown();
+            }
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void shouldFoldTheBoxScoresOfTheDayIntoTheSummaries() throws NATCException {
+            stubGameDay();
+
+            final ArgumentCaptor<List<TeamGame>> teamGameCaptor = ArgumentCaptor.forClass(List.class);
+            final ArgumentCaptor<List<PlayerGame>> playerGameCaptor = ArgumentCaptor.forClass(List.class);
+
+            processor.process(generateSchedule(ScheduleType.REGULAR_SEASON, generateScheduleData()));
+
+            verify(teamGameRepository).insertAll(teamGameCaptor.capture());
+            verify(playerGameRepository).insertAll(playerGameCaptor.capture());
+            verify(statsSummaryService).foldGames(teamGameCaptor.getValue(), playerGameCaptor.getValue());
+        }
+
+        @Test
+        void shouldNotFoldAnythingIntoTheSummariesWhenTheGamesFail() {
+            final ScheduleData scheduleData = new ScheduleData();
+
+            scheduleData.getMatches().add(new ScheduleData.Match(1, TEAMS + 1));
+
+            when(playerService.getActivePlayersForYear(anyString())).thenReturn(generatePlayers());
+            lenient().when(idBlockAllocator.allocate(eq(IdSequence.GAME), anyInt())).thenReturn(List.of(1));
+
+            assertThrows(ScheduleProcessingException.class, () -> processor.process(generateSchedule(ScheduleType.REGULAR_SEASON, scheduleData)));
+
+            verifyNoInteractions(statsSummaryService);
+        }
+
+        @Test
+        void shouldUseTheRandomStreamForTheScheduleEntry() throws NATCException {
+            stubGameDay();
+
+            processor.process(generateSchedule(ScheduleType.REGULAR_SEASON, generateScheduleData()));
+
+            verify(randomNumber).forScheduleEntry("2001", 12);
+        }
+
+        @Test
+        void shouldUpdateTheScheduleEntryStatusToCompleted() throws NATCException {
+            stubGameDay();
+
+            final Schedule schedule = generateSchedule(ScheduleType.REGULAR_SEASON, generateScheduleData());
+            final ArgumentCaptor<Schedule> captor = ArgumentCaptor.forClass(Schedule.class);
+
+            processor.process(schedule);
+
+            verify(scheduleService).updateScheduleEntry(captor.capture());
+
+            assertSame(schedule, captor.getValue());
+            assertEquals(ScheduleStatus.COMPLETED.getValue(), captor.getValue().getStatus());
+        }
+    }
+
+    private GameDayScheduleProcessor createProcessor(final ForkJoinPool pool) {
+        return new GameDayScheduleProcessor(
+                playerService,
+                scheduleService,
+                idBlockAllocator,
+                new GameSimulator(),
+                teamGameRepository,
+                playerGameRepository,
+                gameStateRepository,
+                statsSummaryService,
+                randomNumber,
+                pool
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> captureScores(final GameDayScheduleProcessor gameDayScheduleProcessor) throws NATCException {
+        final ArgumentCaptor<List<TeamGame>> captor = ArgumentCaptor.forClass(List.class);
+
+        gameDayScheduleProcessor.process(generateSchedule(ScheduleType.REGULAR_SEASON, generateScheduleData()));
+
+        verify(teamGameRepository).insertAll(captor.capture());
+
+        return captor.getValue().stream()
+                .map(teamGame -> teamGame.getGameId() + ":" + teamGame.getTeamId() + ":" + teamGame.getTotalScore() + ":" + teamGame.getPossessions())
+                .toList();
+    }
+
+    private void stubGameDay() {
+        final List<Player> players = generatePlayers();
+
+        when(playerService.getActivePlayersForYear(anyString())).thenReturn(players);
+        when(idBlockAllocator.allocate(eq(IdSequence.GAME), anyInt())).thenAnswer(invocation ->
+                IntStream.rangeClosed(1001, 1000 + (int) invocation.getArgument(1)).boxed().toList());
+        when(randomNumber.forScheduleEntry(anyString(), anyInt())).thenAnswer(invocation -> new SplittableRandom(1971));
+    }
+
+    private Schedule generateSchedule(final ScheduleType type, final ScheduleData scheduleData) {
+        return Schedule.builder()
+                .year("2001")
+                .sequence(12)
+                .type(type.getValue())
+                .data(scheduleData.toString())
+                .scheduled(LocalDate.of(2001, 4, 1))
+                .status(ScheduleStatus.IN_PROGRESS.getValue())
+                .build();
+    }
+
+    private ScheduleData generateScheduleData() {
+        final ScheduleData scheduleData = new ScheduleData();
+
+        for (int team = 1; team <= TEAMS; team += 2) {
+            scheduleData.getMatches().add(new ScheduleData.Match(team, team + 1));
+        }
+
+        return scheduleData;
+    }
+
+    private List<Player> generatePlayers() {
+        final List<Player> players = new ArrayList<>();
+        final SplittableRandom random = new SplittableRandom(1971);
+
+        for (int team = 1; team <= TEAMS; ++team) {
+            for (int i = 0; i < 6; ++i) {
+                final Player player = Player.generate(random, team * 100 + i, "2001", "First", "Last");
+
+                player.setTeamId(team);
+                players.add(player);
+            }
+        }
+
+        players.add(Player.generate(random, 999, "2001", "Free", "Agent"));
+
+        return players;
+    }
+}
@@ -1,5 +1,6 @@
 package org.natc.app.processor;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,11 +10,14 @@ import org.natc.app.configuration.LeagueConfiguration;
 import org.natc.app.entity.domain.*;
 import org.natc.app.exception.NATCException;
 import org.natc.app.exception.ScheduleProcessingException;
+import org.natc.app.metrics.LeagueMetrics;
+import org.natc.app.random.RandomNumber;
 import org.natc.app.service.*;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -46,9 +50,24 @@ class ManagerChangesScheduleProcessorTest {
     @Mock
     private ScheduleService scheduleService;
 
+    @Mock
+    private RandomNumber randomNumber;
+
+    @Mock
+    private LeagueMetrics leagueMetrics;
+
+    @Mock
+    private TeamSeasonHistory teamSeasonHistory;
+
     @InjectMocks
     private ManagerChangesScheduleProcessor processor;
 
+    @BeforeEach
+    void setup() {
+        lenient().when(teamService.getTeamSeasonHistory(any(), anyInt())).thenReturn(teamSeasonHistory);
+        lenient().when(randomNumber.forScheduleEntry(any(), any())).thenAnswer(invocation -> new SplittableRandom(1));
+    }
+
     @Nested
     class Process {
         @Test
@@ -200,7 +219,7 @@ class ManagerChangesScheduleProcessorTest {
 
             processor.process(Schedule.builder().type(ScheduleType.MANAGER_CHANGES.getValue()).year("2005").build());
 
-            verify(teamService).willTeamReleaseManager(manager);
+            verify(teamService).willTeamReleaseManager(manager, teamSeasonHistory);
         }
 
         @Test
@@ -215,7 +234,7 @@ class ManagerChangesScheduleProcessorTest {
 
             processor.process(Schedule.builder().type(ScheduleType.MANAGER_CHANGES.getValue()).year("2005").build());
 
-            verify(teamService, times(3)).willTeamReleaseManager(any(Manager.class));
+            verify(teamService, times(3)).willTeamReleaseManager(any(Manager.class), any());
         }
 
         @Test
@@ -231,7 +250,7 @@ class ManagerChangesScheduleProcessorTest {
 
             processor.process(Schedule.builder().type(ScheduleType.MANAGER_CHANGES.getValue()).year("2005").build());
 
-            verify(teamService, never()).willTeamReleaseManager(manager);
+            verify(teamService, never()).willTeamReleaseManager(manager, teamSeasonHistory);
         }
 
         @Test
@@ -249,7 +268,7 @@ class ManagerChangesScheduleProcessorTest {
 
             processor.process(Schedule.builder().type(ScheduleType.MANAGER_CHANGES.getValue()).year("2005").build());
 
-            verify(teamService, never()).willTeamReleaseManager(manager);
+            verify(teamService, never()).willTeamReleaseManager(manager, teamSeasonHistory);
         }
 
         @Test
@@ -264,7 +283,7 @@ class ManagerChangesScheduleProcessorTest {
                     .build();
 
             when(managerService.getActiveManagersForYear(any())).thenReturn(Collections.singletonList(manager));
-            when(teamService.willTeamReleaseManager(manager)).thenReturn(true);
+            when(teamService.willTeamReleaseManager(manager, teamSeasonHistory)).thenReturn(true);
 
             processor.process(Schedule.builder().type(ScheduleType.MANAGER_CHANGES.getValue()).year("2005").build());
 
@@ -283,7 +302,7 @@ class ManagerChangesScheduleProcessorTest {
                     .build();
 
             when(managerService.getActiveManagersForYear(any())).thenReturn(Collections.singletonList(manager));
-            when(teamService.willTeamReleaseManager(manager)).thenReturn(false);
+            when(teamService.willTeamReleaseManager(manager, teamSeasonHistory)).thenReturn(false);
 
             processor.process(Schedule.builder().type(ScheduleType.MANAGER_CHANGES.getValue()).year("2005").build());
 
@@ -302,7 +321,7 @@ class ManagerChangesScheduleProcessorTest {
                     .build();
 
             when(managerService.getActiveManagersForYear(any())).thenReturn(Collections.singletonList(manager));
-            when(teamService.willTeamReleaseManager(manager)).thenReturn(true);
+            when(teamService.willTeamReleaseManager(manager, teamSeasonHistory)).thenReturn(true);
 
             processor.process(Schedule.builder().type(ScheduleType.MANAGER_CHANGES.getValue()).year("2005").build());
 
@@ -325,7 +344,23 @@ class ManagerChangesScheduleProcessorTest {
 
             processor.process(Schedule.builder().type(ScheduleType.MANAGER_CHANGES.getValue()).year("2005").build());
 
-            verify(managerService).generateManagers("2005", 8);
+            verify(managerService).generateManagers(any(), eq("2005"), eq(8));
+        }
+
+        @Test
+        void shouldGenerateNewManagersFromTheStreamForTheScheduleEntry() throws NATCException {
+            final Manager manager = Manager.builder().managerId(2).year("2005").teamId(123).age(45).vitality(0.2).retired(0).build();
+            final SplittableRandom random = new SplittableRandom(1971);
+
+            when(leagueConfiguration.getNewManagersPerSeason()).thenReturn(8);
+            when(managerService.getActiveManagersForYear(any())).thenReturn(Collections.singletonList(manager));
+            when(teamService.willTeamReleaseManager(manager, teamSeasonHistory)).thenReturn(true);
+            when(randomNumber.forScheduleEntry("2005", 6)).thenReturn(random);
+
+            processor.process(Schedule.builder().type(ScheduleType.MANAGER_CHANGES.getValue()).year("2005").sequence(6).build());
+
+            verify(managerService).generateManagers(random, "2005", 8);
+            verify(teamManagerDraftService).assignManagersToTeams(any(), any(), any(), same(random));
         }
 
         @Test
@@ -341,7 +376,7 @@ class ManagerChangesScheduleProcessorTest {
 
             when(leagueConfiguration.getNewManagerStartingAge()).thenReturn(44);
             when(managerService.getActiveManagersForYear(any())).thenReturn(Collections.emptyList());
-            when(managerService.generateManagers(any(), any())).thenReturn(Collections.singletonList(manager));
+            when(managerService.generateManagers(any(), any(), any())).thenReturn(Collections.singletonList(manager));
 
             processor.process(Schedule.builder().type(ScheduleType.MANAGER_CHANGES.getValue()).year("2005").build());
 
@@ -362,7 +397,7 @@ class ManagerChangesScheduleProcessorTest {
             );
 
             when(managerService.getActiveManagersForYear(any())).thenReturn(Collections.emptyList());
-            when(managerService.generateManagers(any(), any())).thenReturn(newManagers);
+            when(managerService.generateManagers(any(), any(), any())).thenReturn(newManagers);
 
             processor.process(Schedule.builder().type(ScheduleType.MANAGER_CHANGES.getValue()).year("2005").build());
 
@@ -399,21 +434,21 @@ class ManagerChangesScheduleProcessorTest {
             final Player player = Player.builder().build();
 
             when(playerService.getManagerialCandidates(any())).thenReturn(Collections.singletonList(player));
-            when(managerService.generateManagerFromPlayer(any(), any())).thenReturn(Manager.builder().build());
+            when(managerService.generateManagerFromPlayer(any(), any(), any())).thenReturn(Manager.builder().build());
 
             processor.process(Schedule.builder().type(ScheduleType.MANAGER_CHANGES.getValue()).year("2005").build());
 
-            verify(managerService).generateManagerFromPlayer(anyString(), eq(player));
+            verify(managerService).generateManagerFromPlayer(any(), anyString(), eq(player));
         }
 
         @Test
         void shouldCallManagerServiceToGenerateAManagerFromACandidatePlayerWithScheduleYear() throws NATCException {
             when(playerService.getManagerialCandidates(any())).thenReturn(Collections.singletonList(Player.builder().build()));
-            when(managerService.generateManagerFromPlayer(any(), any())).thenReturn(Manager.builder().build());
+            when(managerService.generateManagerFromPlayer(any(), any(), any())).thenReturn(Manager.builder().build());
 
             processor.process(Schedule.builder().type(ScheduleType.MANAGER_CHANGES.getValue()).year("2005").build());
 
-            verify(managerService).generateManagerFromPlayer(eq("2005"), any());
+            verify(managerService).generateManagerFromPlayer(any(), eq("2005"), any());
         }
 
         @Test
@@ -427,11 +462,11 @@ class ManagerChangesScheduleProcessorTest {
             );
 
             when(playerService.getManagerialCandidates(any())).thenReturn(playerList);
-            when(managerService.generateManagerFromPlayer(any(), any())).thenReturn(Manager.builder().build());
+            when(managerService.generateManagerFromPlayer(any(), any(), any())).thenReturn(Manager.builder().build());
 
             processor.process(Schedule.builder().type(ScheduleType.MANAGER_CHANGES.getValue()).year("2005").build());
 
-            verify(managerService, times(playerList.size())).generateManagerFromPlayer(any(), any());
+            verify(managerService, times(playerList.size())).generateManagerFromPlayer(any(), any(), any());
         }
 
         @Test
@@ -440,9 +475,9 @@ class ManagerChangesScheduleProcessorTest {
             final Manager managerFromPlayer = Manager.builder().playerId(player.getPlayerId()).build();
 
             when(managerService.getActiveManagersForYear(any())).thenReturn(Collections.emptyList());
-            when(managerService.generateManagers(any(), any())).thenReturn(Collections.emptyList());
+            when(managerService.generateManagers(any(), any(), any())).thenReturn(Collections.emptyList());
             when(playerService.getManagerialCandidates(any())).thenReturn(Collections.singletonList(player));
-            when(managerService.generateManagerFromPlayer(any(), eq(player))).thenReturn(managerFromPlayer);
+            when(managerService.generateManagerFromPlayer(any(), any(), eq(player))).thenReturn(managerFromPlayer);
 
             processor.process(Schedule.builder().type(ScheduleType.MANAGER_CHANGES.getValue()).year("2005").build());
 
@@ -461,15 +496,44 @@ class ManagerChangesScheduleProcessorTest {
 
             when(leagueConfiguration.getNewManagersPerSeason()).thenReturn(5);
             when(playerService.getManagerialCandidates(any())).thenReturn(playerList);
-            when(managerService.generateManagerFromPlayer(any(), any())).thenReturn(Manager.builder().build());
+            when(managerService.generateManagerFromPlayer(any(), any(), any())).thenReturn(Manager.builder().build());
+
+            processor.process(Schedule.builder().type(ScheduleType.MANAGER_CHANGES.getValue()).year("2005").build());
+
+            verify(managerService).generateManagers(any(), any(), eq(5 - playerList.size()));
+        }
+
+        @Test
+        void shouldCallTeamServiceToLoadTheTeamSeasonHistoryForTheScheduleYearOnce() throws NATCException {
+            final List<Manager> managerList = List.of(
+                    Manager.builder().managerId(1).year("2005").teamId(25).age(55).vitality(0.2).retired(0).build(),
+                    Manager.builder().managerId(2).year("2005").teamId(17).age(46).vitality(0.5).retired(0).build(),
+                    Manager.builder().managerId(3).year("2005").teamId(18).age(44).vitality(0.5).retired(0).build()
+            );
+
+            when(managerService.getActiveManagersForYear(any())).thenReturn(managerList);
+            when(teamService.willTeamReleaseManager(any(), any())).thenReturn(true);
+
+            processor.process(Schedule.builder().type(ScheduleType.MANAGER_CHANGES.getValue()).year("2005").build());
+
+            verify(teamService).getTeamSeasonHistory("2005", 3);
+            verify(teamService, never()).getTeamByTeamIdAndYear(any(), any());
+        }
+
+        @Test
+        void shouldPassTheTeamSeasonHistoryToTheTeamServiceAndTheTeamManagerDraftService() throws NATCException {
+            final Manager manager = Manager.builder().managerId(2).year("2005").teamId(123).age(45).vitality(0.2).retired(0).build();
+
+            when(managerService.getActiveManagersForYear(any())).thenReturn(Collections.singletonList(manager));
+            when(teamService.willTeamReleaseManager(manager, teamSeasonHistory)).thenReturn(true);
 
             processor.process(Schedule.builder().type(ScheduleType.MANAGER_CHANGES.getValue()).year("2005").build());
 
-            verify(managerService).generateManagers(any(), eq(5 - playerList.size()));
+            verify(teamManagerDraftService).assignManagersToTeams(any(), any(), same(teamSeasonHistory), any());
         }
 
         @Test
-        void shouldCallTeamServiceToRetrieveTeamRecordsForTeamsThatHadManagersRetire() throws NATCException {
+        void shouldLookUpTeamRecordsForTeamsThatHadManagersRetireInTheTeamSeasonHistory() throws NATCException {
             final Integer teamId = 123;
             final Manager manager = Manager.builder().managerId(2).year("2005").teamId(teamId).age(55).vitality(0.2).retired(0).build();
 
@@ -477,24 +541,24 @@ class ManagerChangesScheduleProcessorTest {
 
             processor.process(Schedule.builder().type(ScheduleType.MANAGER_CHANGES.getValue()).year("2005").build());
 
-            verify(teamService).getTeamByTeamIdAndYear(teamId, manager.getYear());
+            verify(teamSeasonHistory).getTeam(teamId, manager.getYear());
         }
 
         @Test
-        void shouldCallTeamServiceToRetrieveTeamRecordsForTeamsThatReleasedManagers() throws NATCException {
+        void shouldLookUpTeamRecordsForTeamsThatReleasedManagersInTheTeamSeasonHistory() throws NATCException {
             final Integer teamId = 123;
             final Manager manager = Manager.builder().managerId(1).year("2005").teamId(teamId).age(45).vitality(1.0).released(0).build();
 
             when(managerService.getActiveManagersForYear(any())).thenReturn(Collections.singletonList(manager));
-            when(teamService.willTeamReleaseManager(manager)).thenReturn(true);
+            when(teamService.willTeamReleaseManager(manager, teamSeasonHistory)).thenReturn(true);
 
             processor.process(Schedule.builder().type(ScheduleType.MANAGER_CHANGES.getValue()).year("2005").build());
 
-            verify(teamService).getTeamByTeamIdAndYear(teamId, manager.getYear());
+            verify(teamSeasonHistory).getTeam(teamId, manager.getYear());
         }
 
         @Test
-        void shouldOnlyCallTeamServiceToRetrieveTeamRecordsForReleasedOrRetiredManagersWithFormerTeams() throws NATCException {
+        void shouldOnlyLookUpTeamRecordsForReleasedOrRetiredManagersWithFormerTeams() throws NATCException {
             final ArgumentCaptor<Integer> captor = ArgumentCaptor.forClass(Integer.class);
             final Integer retiredManagerTeamId = 25;
             final Integer releasedManagerTeamId = 18;
@@ -510,12 +574,12 @@ class ManagerChangesScheduleProcessorTest {
             final Manager managerToRelease = managerList.get(4);
 
             when(managerService.getActiveManagersForYear(any())).thenReturn(managerList);
-            when(teamService.willTeamReleaseManager(any())).thenReturn(false);
-            when(teamService.willTeamReleaseManager(managerToRelease)).thenReturn(true);
+            when(teamService.willTeamReleaseManager(any(), any())).thenReturn(false);
+            when(teamService.willTeamReleaseManager(managerToRelease, teamSeasonHistory)).thenReturn(true);
 
             processor.process(Schedule.builder().type(ScheduleType.MANAGER_CHANGES.getValue()).year("2005").build());
 
-            verify(teamService, times(2)).getTeamByTeamIdAndYear(captor.capture(), any());
+            verify(teamSeasonHistory, times(2)).getTeam(captor.capture(), any());
 
             assertTrue(captor.getAllValues().contains(retiredManagerTeamId));
             assertTrue(captor.getAllValues().contains(releasedManagerTeamId));
@@ -529,7 +593,7 @@ class ManagerChangesScheduleProcessorTest {
 
             processor.process(Schedule.builder().type(ScheduleType.MANAGER_CHANGES.getValue()).year("2005").build());
 
-            verify(teamManagerDraftService).assignManagersToTeams(any(), any());
+            verify(teamManagerDraftService).assignManagersToTeams(any(), any(), any(), any());
         }
 
         @Test
@@ -537,11 +601,11 @@ class ManagerChangesScheduleProcessorTest {
             final Manager manager = Manager.builder().managerId(2).year("2005").teamId(123).age(45).vitality(0.2).retired(0).build();
 
             when(managerService.getActiveManagersForYear(any())).thenReturn(Collections.singletonList(manager));
-            when(teamService.willTeamReleaseManager(manager)).thenReturn(true);
+            when(teamService.willTeamReleaseManager(manager, teamSeasonHistory)).thenReturn(true);
 
             processor.process(Schedule.builder().type(ScheduleType.MANAGER_CHANGES.getValue()).year("2005").build());
 
-            verify(teamManagerDraftService).assignManagersToTeams(any(), any());
+            verify(teamManagerDraftService).assignManagersToTeams(any(), any(), any(), any());
         }
 
         @Test
@@ -552,11 +616,11 @@ class ManagerChangesScheduleProcessorTest {
 
             processor.process(Schedule.builder().type(ScheduleType.MANAGER_CHANGES.getValue()).year("2005").build());
 
-            verify(teamManagerDraftService, never()).assignManagersToTeams(any(), any());
+            verify(teamManagerDraftService, never()).assignManagersToTeams(any(), any(), any(), any());
         }
 
         @Test
-        void shouldPassTheTeamsReturnedByTheTeamServiceToTheTeamManagerDraftService() throws NATCException {
+        void shouldPassTheTeamsFoundInTheTeamSeasonHistoryToTheTeamManagerDraftService() throws NATCException {
             final Integer retiredManagerTeamId = 25;
             final Integer releasedManagerTeamId = 18;
             final List<Manager> managerList = List.of(
@@ -571,16 +635,16 @@ class ManagerChangesScheduleProcessorTest {
             final Manager managerToRelease = managerList.get(4);
 
             when(managerService.getActiveManagersForYear(any())).thenReturn(managerList);
-            when(teamService.willTeamReleaseManager(any())).thenReturn(false);
-            when(teamService.willTeamReleaseManager(managerToRelease)).thenReturn(true);
-            when(teamService.getTeamByTeamIdAndYear(retiredManagerTeamId, "2005"))
+            when(teamService.willTeamReleaseManager(any(), any())).thenReturn(false);
+            when(teamService.willTeamReleaseManager(managerToRelease, teamSeasonHistory)).thenReturn(true);
+            when(teamSeasonHistory.getTeam(retiredManagerTeamId, "2005"))
                     .thenReturn(Team.builder().teamId(retiredManagerTeamId).year("2005").build());
-            when(teamService.getTeamByTeamIdAndYear(releasedManagerTeamId, "2005"))
+            when(teamSeasonHistory.getTeam(releasedManagerTeamId, "2005"))
                     .thenReturn(Team.builder().teamId(releasedManagerTeamId).year("2005").build());
 
             processor.process(Schedule.builder().type(ScheduleType.MANAGER_CHANGES.getValue()).year("2005").build());
 
-            verify(teamManagerDraftService).assignManagersToTeams(teamCaptor.capture(), any());
+            verify(teamManagerDraftService).assignManagersToTeams(teamCaptor.capture(), any(), any(), any());
 
             assertEquals(2, teamCaptor.getValue().size());
 
@@ -618,13 +682,13 @@ class ManagerChangesScheduleProcessorTest {
             );
 
             when(managerService.getActiveManagersForYear(any())).thenReturn(managerList);
-            when(teamService.willTeamReleaseManager(any())).thenReturn(false);
-            when(teamService.willTeamReleaseManager(managerReleasedFromTeam)).thenReturn(true);
-            when(managerService.generateManagers(any(), any())).thenReturn(newManagers);
+            when(teamService.willTeamReleaseManager(any(), any())).thenReturn(false);
+            when(teamService.willTeamReleaseManager(managerReleasedFromTeam, teamSeasonHistory)).thenReturn(true);
+            when(managerService.generateManagers(any(), any(), any())).thenReturn(newManagers);
 
             processor.process(Schedule.builder().type(ScheduleType.MANAGER_CHANGES.getValue()).year("2005").build());
 
-            verify(teamManagerDraftService).assignManagersToTeams(any(), managerCaptor.capture());
+            verify(teamManagerDraftService).assignManagersToTeams(any(), managerCaptor.capture(), any(), any());
 
             assertEquals(7, managerCaptor.getValue().size());
 
@@ -649,14 +713,14 @@ class ManagerChangesScheduleProcessorTest {
             final Manager manager = Manager.builder().managerId(2).year("2005").teamId(123).age(45).vitality(0.2).retired(0).build();
 
             when(managerService.getActiveManagersForYear(any())).thenReturn(Collections.singletonList(manager));
-            when(teamService.willTeamReleaseManager(manager)).thenReturn(true);
+            when(teamService.willTeamReleaseManager(manager, teamSeasonHistory)).thenReturn(true);
 
             final InOrder inOrder = inOrder(teamService, teamManagerDraftService, managerService);
 
             processor.process(Schedule.builder().type(ScheduleType.MANAGER_CHANGES.getValue()).year("2005").build());
 
-            inOrder.verify(teamService).willTeamReleaseManager(manager);
-            inOrder.verify(teamManagerDraftService).assignManagersToTeams(any(), any());
+            inOrder.verify(teamService).willTeamReleaseManager(manager, teamSeasonHistory);
+            inOrder.verify(teamManagerDraftService).assignManagersToTeams(any(), any(), any(), any());
             inOrder.verify(managerService).updateManagers(any());
         }
 
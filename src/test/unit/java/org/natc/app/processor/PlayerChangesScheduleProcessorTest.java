@@ -1,5 +1,6 @@
 package org.natc.app.processor;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,7 +14,9 @@ import org.natc.app.configuration.LeagueConfiguration;
 import org.natc.app.entity.domain.*;
 import org.natc.app.exception.NATCException;
 import org.natc.app.exception.ScheduleProcessingException;
+import org.natc.app.metrics.LeagueMetrics;
 import org.natc.app.proxy.PlayerRetirementProxy;
+import org.natc.app.random.RandomNumber;
 import org.natc.app.service.ManagerService;
 import org.natc.app.service.PlayerService;
 import org.natc.app.service.ScheduleService;
@@ -49,9 +52,20 @@ class PlayerChangesScheduleProcessorTest {
     @Mock
     private LeagueConfiguration leagueConfiguration;
 
+    @Mock
+    private RandomNumber randomNumber;
+
+    @Mock
+    private LeagueMetrics leagueMetrics;
+
     @InjectMocks
     private PlayerChangesScheduleProcessor processor;
 
+    @BeforeEach
+    void setup() {
+        lenient().when(randomNumber.forScheduleEntry(any(), any())).thenAnswer(invocation -> new SplittableRandom(1));
+    }
+
     @Nested
     class Process {
         @Test
@@ -121,7 +135,20 @@ class PlayerChangesScheduleProcessorTest {
 
                 processor.process(Schedule.builder().type(ScheduleType.PLAYER_CHANGES.getValue()).year("2012").build());
 
-                verify(playerRetirementProxy).readyToRetire(player);
+                verify(playerRetirementProxy).readyToRetire(eq(player), any());
+            }
+
+            @Test
+            void shouldDrawRetirementsFromTheStreamForTheScheduleEntry() throws NATCException {
+                final Player player = Player.builder().playerId(1).teamId(1).year("2020").build();
+                final SplittableRandom random = new SplittableRandom(1971);
+
+                when(playerService.getActivePlayersForYear(anyString())).thenReturn(Collections.singletonList(player));
+                when(randomNumber.forScheduleEntry("2012", 4)).thenReturn(random);
+
+                processor.process(Schedule.builder().type(ScheduleType.PLAYER_CHANGES.getValue()).year("2012").sequence(4).build());
+
+                verify(playerRetirementProxy).readyToRetire(player, random);
             }
 
             @Test
@@ -136,7 +163,7 @@ class PlayerChangesScheduleProcessorTest {
 
                 processor.process(Schedule.builder().type(ScheduleType.PLAYER_CHANGES.getValue()).year("2012").build());
 
-                verify(playerRetirementProxy, times(playerList.size())).readyToRetire(any());
+                verify(playerRetirementProxy, times(playerList.size())).readyToRetire(any(), any());
             }
 
             @Test
@@ -151,7 +178,7 @@ class PlayerChangesScheduleProcessorTest {
 
                 processor.process(Schedule.builder().type(ScheduleType.PLAYER_CHANGES.getValue()).year("2012").build());
 
-                verify(playerRetirementProxy, times(2)).readyToRetire(any());
+                verify(playerRetirementProxy, times(2)).readyToRetire(any(), any());
             }
 
             @Test
@@ -160,7 +187,7 @@ class PlayerChangesScheduleProcessorTest {
                 final List<Player> playerList = Collections.singletonList(player);
 
                 when(playerService.getActivePlayersForYear(anyString())).thenReturn(playerList);
-                when(playerRetirementProxy.readyToRetire(any())).thenReturn(true);
+                when(playerRetirementProxy.readyToRetire(any(), any())).thenReturn(true);
 
                 processor.process(Schedule.builder().type(ScheduleType.PLAYER_CHANGES.getValue()).year("2012").build());
 
@@ -174,7 +201,7 @@ class PlayerChangesScheduleProcessorTest {
                 final List<Player> playerList = Collections.singletonList(player);
 
                 when(playerService.getActivePlayersForYear(anyString())).thenReturn(playerList);
-                when(playerRetirementProxy.readyToRetire(any())).thenReturn(true);
+                when(playerRetirementProxy.readyToRetire(any(), any())).thenReturn(true);
 
                 processor.process(Schedule.builder().type(ScheduleType.PLAYER_CHANGES.getValue()).year("2012").build());
 
@@ -727,7 +754,7 @@ class PlayerChangesScheduleProcessorTest {
 
                 when(playerService.getActivePlayersForYear(anyString())).thenReturn(playerList);
                 when(managerService.getActiveManagersForYear(anyString())).thenReturn(managerList);
-                when(playerRetirementProxy.readyToRetire(any())).then(invocation -> invocation.getArgument(0) == oldTeamPlayer);
+                when(playerRetirementProxy.readyToRetire(any(), any())).then(invocation -> invocation.getArgument(0) == oldTeamPlayer);
                 when(playerComparatorFactory.getPlayerComparatorForManager(any(), any())).thenCallRealMethod();
 
                 processor.process(Schedule.builder().type(ScheduleType.PLAYER_CHANGES.getValue()).year("2020").build());
@@ -837,7 +864,7 @@ class PlayerChangesScheduleProcessorTest {
 
                 processor.process(Schedule.builder().type(ScheduleType.PLAYER_CHANGES.getValue()).year("2020").build());
 
-                verify(playerRetirementProxy, times(1)).readyToRetire(teamPlayer);
+                verify(playerRetirementProxy, times(1)).readyToRetire(eq(teamPlayer), any());
                 verify(playerRetirementProxy, times(1)).shouldRetire(teamPlayer);
             }
         }
@@ -1,5 +1,6 @@
 package org.natc.app.processor;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,6 +16,8 @@ import org.natc.app.configuration.LeagueConfiguration;
 import org.natc.app.entity.domain.*;
 import org.natc.app.exception.NATCException;
 import org.natc.app.exception.ScheduleProcessingException;
+import org.natc.app.metrics.LeagueMetrics;
+import org.natc.app.random.RandomNumber;
 import org.natc.app.service.ManagerService;
 import org.natc.app.service.PlayerService;
 import org.natc.app.service.ScheduleService;
@@ -54,9 +57,21 @@ class RookieDraftScheduleProcessorTest {
     @Mock
     private TeamService teamService;
 
+    @Mock
+    private RandomNumber randomNumber;
+
+    @Mock
+    private LeagueMetrics leagueMetrics;
+
     @InjectMocks
     private RookieDraftScheduleProcessor processor;
 
+    @BeforeEach
+    void setup() {
+        lenient().when(teamComparator.forYear(anyString())).thenReturn(teamComparator);
+        lenient().when(randomNumber.forScheduleEntry(any(), any())).thenAnswer(invocation -> new SplittableRandom(1));
+    }
+
     @Nested
     class Process {
         @Test
@@ -135,7 +150,7 @@ class RookieDraftScheduleProcessorTest {
                     Manager.builder().managerId(2).teamId(2).style(ManagerStyle.DEFENSIVE.getValue()).build(),
                     Manager.builder().managerId(3).teamId(3).style(ManagerStyle.PENALTIES.getValue()).build()
             ));
-            when(playerService.generatePlayers(anyString(), anyInt())).thenReturn(playerList);
+            when(playerService.generatePlayers(any(), anyString(), anyInt())).thenReturn(playerList);
             when(playerComparatorFactory.getPlayerComparatorForManager(any())).thenCallRealMethod();
             when(teamComparator.compare(any(), any())).thenAnswer(invocation -> {
                final Team team1 = invocation.getArgument(0);
@@ -146,6 +161,7 @@ class RookieDraftScheduleProcessorTest {
 
             processor.process(Schedule.builder().type(ScheduleType.ROOKIE_DRAFT_ROUND_1.getValue()).year("2019").build());
 
+            verify(teamComparator).forYear("2018");
             verify(teamComparator, atLeastOnce()).compare(any(Team.class), any(Team.class));
 
             final Integer[] playerIdsOrderedByTeamId = playerList.stream()
@@ -181,7 +197,7 @@ class RookieDraftScheduleProcessorTest {
                     Manager.builder().managerId(4).teamId(4).style(ManagerStyle.INTANGIBLE.getValue()).build(),
                     Manager.builder().managerId(5).teamId(5).style(ManagerStyle.BALANCED.getValue()).build()
             ));
-            when(playerService.generatePlayers(anyString(), anyInt())).thenReturn(playerList);
+            when(playerService.generatePlayers(any(), anyString(), anyInt())).thenReturn(playerList);
             when(playerComparatorFactory.getPlayerComparatorForManager(any())).thenCallRealMethod();
 
             processor.process(Schedule.builder().type(ScheduleType.ROOKIE_DRAFT_ROUND_1.getValue()).year("2019").build());
@@ -205,7 +221,19 @@ class RookieDraftScheduleProcessorTest {
 
             processor.process(Schedule.builder().type(ScheduleType.ROOKIE_DRAFT_ROUND_1.getValue()).year("2019").build());
 
-            verify(playerService).generatePlayers("2019", 10);
+            verify(playerService).generatePlayers(any(), eq("2019"), eq(10));
+        }
+
+        @Test
+        void shouldGenerateRookiesFromTheStreamForTheScheduleEntry() throws NATCException {
+            final SplittableRandom random = new SplittableRandom(1971);
+
+            when(leagueConfiguration.getNewPlayersPerSeason()).thenReturn(10);
+            when(randomNumber.forScheduleEntry("2019", 3)).thenReturn(random);
+
+            processor.process(Schedule.builder().type(ScheduleType.ROOKIE_DRAFT_ROUND_1.getValue()).year("2019").sequence(3).build());
+
+            verify(playerService).generatePlayers(random, "2019", 10);
         }
 
         @Test
@@ -218,7 +246,7 @@ class RookieDraftScheduleProcessorTest {
                     Player.builder().playerId(5).build()
             );
 
-            when(playerService.generatePlayers(anyString(), any())).thenReturn(generatedPlayers);
+            when(playerService.generatePlayers(any(), anyString(), any())).thenReturn(generatedPlayers);
 
             processor.process(Schedule.builder().type(ScheduleType.ROOKIE_DRAFT_ROUND_1.getValue()).year("2019").build());
 
@@ -235,7 +263,7 @@ class RookieDraftScheduleProcessorTest {
                     Player.builder().playerId(5).build()
             );
 
-            when(playerService.generatePlayers(anyString(), any())).thenReturn(generatedPlayers);
+            when(playerService.generatePlayers(any(), anyString(), any())).thenReturn(generatedPlayers);
 
             processor.process(Schedule.builder().type(ScheduleType.ROOKIE_DRAFT_ROUND_1.getValue()).year("2019").build());
 
@@ -289,7 +317,7 @@ class RookieDraftScheduleProcessorTest {
                     .teamId(1)
                     .style(ManagerStyle.DEFENSIVE.getValue())
                     .build()));
-            when(playerService.generatePlayers(anyString(), anyInt())).thenReturn(Collections.singletonList(Player.builder().build()));
+            when(playerService.generatePlayers(any(), anyString(), anyInt())).thenReturn(Collections.singletonList(Player.builder().build()));
             when(playerComparatorFactory.getPlayerComparatorForManager(any())).thenReturn(mock(PlayerComparator.class));
 
             processor.process(Schedule.builder().type(ScheduleType.ROOKIE_DRAFT_ROUND_1.getValue()).year("2019").build());
@@ -318,7 +346,7 @@ class RookieDraftScheduleProcessorTest {
 
             when(teamService.getRegularTeamsByYear(anyString())).thenReturn(teamList);
             when(managerService.getActiveManagersForYear(anyString())).thenReturn(managerList);
-            when(playerService.generatePlayers(anyString(), anyInt())).thenReturn(playerList);
+            when(playerService.generatePlayers(any(), anyString(), anyInt())).thenReturn(playerList);
             when(playerComparatorFactory.getPlayerComparatorForManager(any())).thenReturn(mock(PlayerComparator.class));
 
             processor.process(Schedule.builder().type(ScheduleType.ROOKIE_DRAFT_ROUND_1.getValue()).year("2022").build());
@@ -328,6 +356,34 @@ class RookieDraftScheduleProcessorTest {
             verify(playerComparatorFactory, times(1)).getPlayerComparatorForManager(ManagerStyle.BALANCED);
         }
 
+        @Test
+        void shouldOnlyGetOnePlayerComparatorForTeamsWithManagersOfTheSameStyle() throws NATCException {
+            final List<Team> teamList = List.of(
+                    Team.builder().teamId(1).build(),
+                    Team.builder().teamId(2).build(),
+                    Team.builder().teamId(3).build()
+            );
+            final List<Manager> managerList = List.of(
+                    Manager.builder().managerId(1).teamId(1).style(ManagerStyle.OFFENSIVE.getValue()).build(),
+                    Manager.builder().managerId(2).teamId(2).style(ManagerStyle.OFFENSIVE.getValue()).build(),
+                    Manager.builder().managerId(3).teamId(3).style(ManagerStyle.OFFENSIVE.getValue()).build()
+            );
+            final List<Player> playerList = List.of(
+                    generatePlayer(1, 5.0),
+                    generatePlayer(2, 5.0),
+                    generatePlayer(3, 5.0)
+            );
+
+            when(teamService.getRegularTeamsByYear(anyString())).thenReturn(teamList);
+            when(managerService.getActiveManagersForYear(anyString())).thenReturn(managerList);
+            when(playerService.generatePlayers(any(), anyString(), anyInt())).thenReturn(playerList);
+            when(playerComparatorFactory.getPlayerComparatorForManager(any())).thenReturn(mock(PlayerComparator.class));
+
+            processor.process(Schedule.builder().type(ScheduleType.ROOKIE_DRAFT_ROUND_1.getValue()).year("2022").build());
+
+            verify(playerComparatorFactory, times(1)).getPlayerComparatorForManager(ManagerStyle.OFFENSIVE);
+        }
+
         @Test
         void shouldNotRetrievePlayerComparatorWithAnyAdjustments() throws NATCException {
             final PlayerRatingAdjustment[] adjustments = {};
@@ -338,7 +394,7 @@ class RookieDraftScheduleProcessorTest {
                     .teamId(1)
                     .style(ManagerStyle.DEFENSIVE.getValue())
                     .build()));
-            when(playerService.generatePlayers(anyString(), anyInt())).thenReturn(Collections.singletonList(Player.builder().build()));
+            when(playerService.generatePlayers(any(), anyString(), anyInt())).thenReturn(Collections.singletonList(Player.builder().build()));
             when(playerComparatorFactory.getPlayerComparatorForManager(any())).thenReturn(mock(PlayerComparator.class));
 
             processor.process(Schedule.builder().type(ScheduleType.ROOKIE_DRAFT_ROUND_1.getValue()).year("2019").build());
@@ -356,7 +412,7 @@ class RookieDraftScheduleProcessorTest {
                     .teamId(1)
                     .style(ManagerStyle.DEFENSIVE.getValue())
                     .build()));
-            when(playerService.generatePlayers(anyString(), anyInt())).thenReturn(List.of(
+            when(playerService.generatePlayers(any(), anyString(), anyInt())).thenReturn(List.of(
                     Player.builder().playerId(1).build(),
                     Player.builder().playerId(2).build()
             ));
@@ -364,7 +420,7 @@ class RookieDraftScheduleProcessorTest {
 
             processor.process(Schedule.builder().type(ScheduleType.ROOKIE_DRAFT_ROUND_1.getValue()).year("2019").build());
 
-            verify(playerComparator, atLeastOnce()).compare(any(Player.class), any(Player.class));
+            verify(playerComparator, times(2)).getRating(any(Player.class));
         }
 
         @Test
@@ -380,7 +436,7 @@ class RookieDraftScheduleProcessorTest {
                     .teamId(1)
                     .style(ManagerStyle.DEFENSIVE.getValue())
                     .build()));
-            when(playerService.generatePlayers(anyString(), anyInt())).thenReturn(rookies);
+            when(playerService.generatePlayers(any(), anyString(), anyInt())).thenReturn(rookies);
             when(playerComparatorFactory.getPlayerComparatorForManager(any())).thenCallRealMethod();
 
             processor.process(Schedule.builder().type(ScheduleType.ROOKIE_DRAFT_ROUND_1.getValue()).year("2019").build());
@@ -409,7 +465,7 @@ class RookieDraftScheduleProcessorTest {
 
             when(teamService.getRegularTeamsByYear(anyString())).thenReturn(teamList);
             when(managerService.getActiveManagersForYear(anyString())).thenReturn(managerList);
-            when(playerService.generatePlayers(anyString(), anyInt())).thenReturn(playerList);
+            when(playerService.generatePlayers(any(), anyString(), anyInt())).thenReturn(playerList);
             when(playerComparatorFactory.getPlayerComparatorForManager(any())).thenCallRealMethod();
 
             processor.process(Schedule.builder().type(ScheduleType.ROOKIE_DRAFT_ROUND_1.getValue()).year("2022").build());
@@ -427,7 +483,7 @@ class RookieDraftScheduleProcessorTest {
                     .teamId(1)
                     .style(ManagerStyle.DEFENSIVE.getValue())
                     .build()));
-            when(playerService.generatePlayers(anyString(), anyInt())).thenReturn(Collections.singletonList(rookie));
+            when(playerService.generatePlayers(any(), anyString(), anyInt())).thenReturn(Collections.singletonList(rookie));
             when(playerComparatorFactory.getPlayerComparatorForManager(any())).thenCallRealMethod();
 
             processor.process(Schedule.builder().type(ScheduleType.ROOKIE_DRAFT_ROUND_1.getValue()).year("2019").build());
@@ -476,7 +532,7 @@ class RookieDraftScheduleProcessorTest {
 
             when(teamService.getRegularTeamsByYear(anyString())).thenReturn(teamList);
             when(managerService.getActiveManagersForYear(anyString())).thenReturn(managerList);
-            when(playerService.generatePlayers(anyString(), anyInt())).thenReturn(playerList);
+            when(playerService.generatePlayers(any(), anyString(), anyInt())).thenReturn(playerList);
             when(playerComparatorFactory.getPlayerComparatorForManager(any())).thenCallRealMethod();
 
             processor.process(Schedule.builder().type(ScheduleType.ROOKIE_DRAFT_ROUND_1.getValue()).year("2022").build());
@@ -7,7 +7,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.natc.app.entity.domain.Player;
-import org.natc.app.random.RandomNumber;
+
+import java.util.random.RandomGenerator;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -19,7 +20,7 @@ import static org.natc.app.entity.domain.Player.MIN_RATING;
 class PlayerRetirementProxyTest {
 
     @Mock
-    private RandomNumber randomNumber;
+    private RandomGenerator random;
 
     @InjectMocks
     private PlayerRetirementProxy proxy;
@@ -28,147 +29,147 @@ class PlayerRetirementProxyTest {
     class ReadyToRetire {
 
         @Test
-        void shouldCallRandomNumberGenerator() {
-            proxy.readyToRetire(Player.builder().age(99).vitality(0.5).build());
+        void shouldDrawFromTheGivenGenerator() {
+            proxy.readyToRetire(Player.builder().age(99).vitality(0.5).build(), random);
 
-            verify(randomNumber).getRandomDouble();
+            verify(random).nextDouble();
         }
 
         // min vitality
 
         @Test
         void shouldReturnFalseIfPlayerAgeIsUnderTwentyOneAndHasMinimumVitalityWithMaxRandomReturned() {
-            lenient().when(randomNumber.getRandomDouble()).thenReturn(1.0);
+            lenient().when(random.nextDouble()).thenReturn(1.0);
 
-            assertFalse(proxy.readyToRetire(Player.builder().age(18).vitality(MIN_RATING).build()));
-            assertFalse(proxy.readyToRetire(Player.builder().age(19).vitality(MIN_RATING).build()));
-            assertFalse(proxy.readyToRetire(Player.builder().age(20).vitality(MIN_RATING).build()));
+            assertFalse(proxy.readyToRetire(Player.builder().age(18).vitality(MIN_RATING).build(), random));
+            assertFalse(proxy.readyToRetire(Player.builder().age(19).vitality(MIN_RATING).build(), random));
+            assertFalse(proxy.readyToRetire(Player.builder().age(20).vitality(MIN_RATING).build(), random));
         }
 
         @Test
         void shouldReturnTrueIfPlayerIsTwentyOneAndHasMinimumVitalityWithMaxRandomReturned() {
-            when(randomNumber.getRandomDouble()).thenReturn(1.0);
+            when(random.nextDouble()).thenReturn(1.0);
 
-            assertTrue(proxy.readyToRetire(Player.builder().age(21).vitality(MIN_RATING).build()));
+            assertTrue(proxy.readyToRetire(Player.builder().age(21).vitality(MIN_RATING).build(), random));
         }
 
         @Test
         void shouldReturnFalseIfPlayerIsTwentyOneAndHasMinimumVitalityWithNearMaxRandomReturned() {
-            when(randomNumber.getRandomDouble()).thenReturn(0.95);
+            when(random.nextDouble()).thenReturn(0.95);
 
-            assertFalse(proxy.readyToRetire(Player.builder().age(21).vitality(MIN_RATING).build()));
+            assertFalse(proxy.readyToRetire(Player.builder().age(21).vitality(MIN_RATING).build(), random));
         }
 
         @Test
         void shouldReturnFalseIfPlayerIsFortyAndHasMinimumVitalityWithMinRandomReturned() {
-            when(randomNumber.getRandomDouble()).thenReturn(0.0);
+            when(random.nextDouble()).thenReturn(0.0);
 
-            assertFalse(proxy.readyToRetire(Player.builder().age(40).vitality(MIN_RATING).build()));
+            assertFalse(proxy.readyToRetire(Player.builder().age(40).vitality(MIN_RATING).build(), random));
         }
 
         @Test
         void shouldReturnTrueIfPlayerIsFortyAndHasMinimumVitalityWithNearMinRandomReturned() {
-            when(randomNumber.getRandomDouble()).thenReturn(0.05);
+            when(random.nextDouble()).thenReturn(0.05);
 
-            assertTrue(proxy.readyToRetire(Player.builder().age(40).vitality(MIN_RATING).build()));
+            assertTrue(proxy.readyToRetire(Player.builder().age(40).vitality(MIN_RATING).build(), random));
         }
 
         @Test
         void shouldReturnTrueIfPlayerAgeIsOverFortyAndHasMinimumVitalityWithMinRandomReturned() {
-            when(randomNumber.getRandomDouble()).thenReturn(0.0);
+            when(random.nextDouble()).thenReturn(0.0);
 
-            assertTrue(proxy.readyToRetire(Player.builder().age(41).vitality(MIN_RATING).build()));
-            assertTrue(proxy.readyToRetire(Player.builder().age(42).vitality(MIN_RATING).build()));
-            assertTrue(proxy.readyToRetire(Player.builder().age(43).vitality(MIN_RATING).build()));
+            assertTrue(proxy.readyToRetire(Player.builder().age(41).vitality(MIN_RATING).build(), random));
+            assertTrue(proxy.readyToRetire(Player.builder().age(42).vitality(MIN_RATING).build(), random));
+            assertTrue(proxy.readyToRetire(Player.builder().age(43).vitality(MIN_RATING).build(), random));
         }
 
         // max vitality
 
         @Test
         void shouldReturnFalseIfPlayerAgeIsUnderThirtySixAndHasMaximumVitalityWithMaxRandomReturned() {
-            lenient().when(randomNumber.getRandomDouble()).thenReturn(1.0);
+            lenient().when(random.nextDouble()).thenReturn(1.0);
 
-            assertFalse(proxy.readyToRetire(Player.builder().age(33).vitality(MAX_RATING).build()));
-            assertFalse(proxy.readyToRetire(Player.builder().age(34).vitality(MAX_RATING).build()));
-            assertFalse(proxy.readyToRetire(Player.builder().age(35).vitality(MAX_RATING).build()));
+            assertFalse(proxy.readyToRetire(Player.builder().age(33).vitality(MAX_RATING).build(), random));
+            assertFalse(proxy.readyToRetire(Player.builder().age(34).vitality(MAX_RATING).build(), random));
+            assertFalse(proxy.readyToRetire(Player.builder().age(35).vitality(MAX_RATING).build(), random));
         }
 
         @Test
         void shouldReturnTrueIfPlayerIsThirtySixAndHasMaximumVitalityWithMaxRandomReturned() {
-            when(randomNumber.getRandomDouble()).thenReturn(1.0);
+            when(random.nextDouble()).thenReturn(1.0);
 
-            assertTrue(proxy.readyToRetire(Player.builder().age(36).vitality(MAX_RATING).build()));
+            assertTrue(proxy.readyToRetire(Player.builder().age(36).vitality(MAX_RATING).build(), random));
         }
 
         @Test
         void shouldReturnFalseIfPlayerIsThirtySixAndHasMaximumVitalityWithNearMaxRandomReturned() {
-            when(randomNumber.getRandomDouble()).thenReturn(0.9);
+            when(random.nextDouble()).thenReturn(0.9);
 
-            assertFalse(proxy.readyToRetire(Player.builder().age(36).vitality(MAX_RATING).build()));
+            assertFalse(proxy.readyToRetire(Player.builder().age(36).vitality(MAX_RATING).build(), random));
         }
 
         @Test
         void shouldReturnFalseIfPlayerIsFortyFiveAndHasMaximumVitalityWithMinRandomReturned() {
-            when(randomNumber.getRandomDouble()).thenReturn(0.0);
+            when(random.nextDouble()).thenReturn(0.0);
 
-            assertFalse(proxy.readyToRetire(Player.builder().age(45).vitality(MAX_RATING).build()));
+            assertFalse(proxy.readyToRetire(Player.builder().age(45).vitality(MAX_RATING).build(), random));
         }
 
         @Test
         void shouldReturnTrueIfPlayerIsFortyFiveAndHasMaximumVitalityWithNearMinRandomReturned() {
-            when(randomNumber.getRandomDouble()).thenReturn(0.1);
+            when(random.nextDouble()).thenReturn(0.1);
 
-            assertTrue(proxy.readyToRetire(Player.builder().age(45).vitality(MAX_RATING).build()));
+            assertTrue(proxy.readyToRetire(Player.builder().age(45).vitality(MAX_RATING).build(), random));
         }
 
         @Test
         void shouldReturnTrueIfPlayerAgeIsOverFortyFiveAndHasMaximumVitalityWithMinRandomReturned() {
-            when(randomNumber.getRandomDouble()).thenReturn(0.0);
+            when(random.nextDouble()).thenReturn(0.0);
 
-            assertTrue(proxy.readyToRetire(Player.builder().age(46).vitality(MAX_RATING).build()));
-            assertTrue(proxy.readyToRetire(Player.builder().age(47).vitality(MAX_RATING).build()));
-            assertTrue(proxy.readyToRetire(Player.builder().age(48).vitality(MAX_RATING).build()));
+            assertTrue(proxy.readyToRetire(Player.builder().age(46).vitality(MAX_RATING).build(), random));
+            assertTrue(proxy.readyToRetire(Player.builder().age(47).vitality(MAX_RATING).build(), random));
+            assertTrue(proxy.readyToRetire(Player.builder().age(48).vitality(MAX_RATING).build(), random));
         }
 
         @Test
         void shouldRetirePlayersWithLowerVitalityBeforeHigherVitalityGivenSameAgeAndSameRandomNumber() {
-            when(randomNumber.getRandomDouble()).thenReturn(0.5);
+            when(random.nextDouble()).thenReturn(0.5);
 
-            assertFalse(proxy.readyToRetire(Player.builder().age(35).vitality(1.0).build()));
-            assertFalse(proxy.readyToRetire(Player.builder().age(35).vitality(0.9).build()));
-            assertFalse(proxy.readyToRetire(Player.builder().age(35).vitality(0.8).build()));
-            assertFalse(proxy.readyToRetire(Player.builder().age(35).vitality(0.7).build()));
-            assertFalse(proxy.readyToRetire(Player.builder().age(35).vitality(0.6).build()));
+            assertFalse(proxy.readyToRetire(Player.builder().age(35).vitality(1.0).build(), random));
+            assertFalse(proxy.readyToRetire(Player.builder().age(35).vitality(0.9).build(), random));
+            assertFalse(proxy.readyToRetire(Player.builder().age(35).vitality(0.8).build(), random));
+            assertFalse(proxy.readyToRetire(Player.builder().age(35).vitality(0.7).build(), random));
+            assertFalse(proxy.readyToRetire(Player.builder().age(35).vitality(0.6).build(), random));
 
-            assertTrue(proxy.readyToRetire(Player.builder().age(35).vitality(0.5).build()));
-            assertTrue(proxy.readyToRetire(Player.builder().age(35).vitality(0.4).build()));
-            assertTrue(proxy.readyToRetire(Player.builder().age(35).vitality(0.3).build()));
-            assertTrue(proxy.readyToRetire(Player.builder().age(35).vitality(0.2).build()));
-            assertTrue(proxy.readyToRetire(Player.builder().age(35).vitality(0.1).build()));
-            assertTrue(proxy.readyToRetire(Player.builder().age(35).vitality(0.0).build()));
+            assertTrue(proxy.readyToRetire(Player.builder().age(35).vitality(0.5).build(), random));
+            assertTrue(proxy.readyToRetire(Player.builder().age(35).vitality(0.4).build(), random));
+            assertTrue(proxy.readyToRetire(Player.builder().age(35).vitality(0.3).build(), random));
+            assertTrue(proxy.readyToRetire(Player.builder().age(35).vitality(0.2).build(), random));
+            assertTrue(proxy.readyToRetire(Player.builder().age(35).vitality(0.1).build(), random));
+            assertTrue(proxy.readyToRetire(Player.builder().age(35).vitality(0.0).build(), random));
         }
 
         @Test
         void shouldRetirePlayersWithHigherAgeBeforeLowerAgeGivenSameVitalityAndSameRandomNumber() {
-            when(randomNumber.getRandomDouble()).thenReturn(0.5);
+            when(random.nextDouble()).thenReturn(0.5);
 
-            assertFalse(proxy.readyToRetire(Player.builder().age(30).vitality(0.5).build()));
-            assertFalse(proxy.readyToRetire(Player.builder().age(31).vitality(0.5).build()));
-            assertFalse(proxy.readyToRetire(Player.builder().age(32).vitality(0.5).build()));
-            assertFalse(proxy.readyToRetire(Player.builder().age(33).vitality(0.5).build()));
-            assertFalse(proxy.readyToRetire(Player.builder().age(34).vitality(0.5).build()));
+            assertFalse(proxy.readyToRetire(Player.builder().age(30).vitality(0.5).build(), random));
+            assertFalse(proxy.readyToRetire(Player.builder().age(31).vitality(0.5).build(), random));
+            assertFalse(proxy.readyToRetire(Player.builder().age(32).vitality(0.5).build(), random));
+            assertFalse(proxy.readyToRetire(Player.builder().age(33).vitality(0.5).build(), random));
+            assertFalse(proxy.readyToRetire(Player.builder().age(34).vitality(0.5).build(), random));
 
-            assertTrue(proxy.readyToRetire(Player.builder().age(35).vitality(0.5).build()));
-            assertTrue(proxy.readyToRetire(Player.builder().age(36).vitality(0.5).build()));
-            assertTrue(proxy.readyToRetire(Player.builder().age(37).vitality(0.5).build()));
-            assertTrue(proxy.readyToRetire(Player.builder().age(38).vitality(0.5).build()));
-            assertTrue(proxy.readyToRetire(Player.builder().age(39).vitality(0.5).build()));
-            assertTrue(proxy.readyToRetire(Player.builder().age(40).vitality(0.5).build()));
+            assertTrue(proxy.readyToRetire(Player.builder().age(35).vitality(0.5).build(), random));
+            assertTrue(proxy.readyToRetire(Player.builder().age(36).vitality(0.5).build(), random));
+            assertTrue(proxy.readyToRetire(Player.builder().age(37).vitality(0.5).build(), random));
+            assertTrue(proxy.readyToRetire(Player.builder().age(38).vitality(0.5).build(), random));
+            assertTrue(proxy.readyToRetire(Player.builder().age(39).vitality(0.5).build(), random));
+            assertTrue(proxy.readyToRetire(Player.builder().age(40).vitality(0.5).build(), random));
         }
 
         @Test
         void shouldRetirePlayersWhenRandomNumberIsHigherGivenSameAgeAndVitality() {
-            when(randomNumber.getRandomDouble())
+            when(random.nextDouble())
                     .thenReturn(0.0)
                     .thenReturn(0.1)
                     .thenReturn(0.2)
@@ -181,20 +182,20 @@ class PlayerRetirementProxyTest {
                     .thenReturn(0.9)
                     .thenReturn(1.0);
 
-            assertFalse(proxy.readyToRetire(Player.builder().age(35).vitality(0.5).build()));
-            assertFalse(proxy.readyToRetire(Player.builder().age(35).vitality(0.5).build()));
-            assertFalse(proxy.readyToRetire(Player.builder().age(35).vitality(0.5).build()));
-            assertFalse(proxy.readyToRetire(Player.builder().age(35).vitality(0.5).build()));
-            assertFalse(proxy.readyToRetire(Player.builder().age(35).vitality(0.5).build()));
+            assertFalse(proxy.readyToRetire(Player.builder().age(35).vitality(0.5).build(), random));
+            assertFalse(proxy.readyToRetire(Player.builder().age(35).vitality(0.5).build(), random));
+            assertFalse(proxy.readyToRetire(Player.builder().age(35).vitality(0.5).build(), random));
+            assertFalse(proxy.readyToRetire(Player.builder().age(35).vitality(0.5).build(), random));
+            assertFalse(proxy.readyToRetire(Player.builder().age(35).vitality(0.5).build(), random));
 
-            assertTrue(proxy.readyToRetire(Player.builder().age(35).vitality(0.5).build()));
-            assertTrue(proxy.readyToRetire(Player.builder().age(35).vitality(0.5).build()));
-            assertTrue(proxy.readyToRetire(Player.builder().age(35).vitality(0.5).build()));
-            assertTrue(proxy.readyToRetire(Player.builder().age(35).vitality(0.5).build()));
-            assertTrue(proxy.readyToRetire(Player.builder().age(35).vitality(0.5).build()));
-            assertTrue(proxy.readyToRetire(Player.builder().age(45).vitality(0.5).build()));
+            assertTrue(proxy.readyToRetire(Player.builder().age(35).vitality(0.5).build(), random));
+            assertTrue(proxy.readyToRetire(Player.builder().age(35).vitality(0.5).build(), random));
+            assertTrue(proxy.readyToRetire(Player.builder().age(35).vitality(0.5).build(), random));
+            assertTrue(proxy.readyToRetire(Player.builder().age(35).vitality(0.5).build(), random));
+            assertTrue(proxy.readyToRetire(Player.builder().age(35).vitality(0.5).build(), random));
+            assertTrue(proxy.readyToRetire(Player.builder().age(45).vitality(0.5).build(), random));
 
-            verify(randomNumber, times(11)).getRandomDouble();
+            verify(random, times(11)).nextDouble();
         }
     }
     
@@ -4,34 +4,108 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.natc.app.configuration.LeagueConfiguration;
 
-import static org.junit.jupiter.api.Assertions.assertNotEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class RandomNumberTest {
 
+    @Mock
+    private LeagueConfiguration leagueConfiguration;
+
     @InjectMocks
     private RandomNumber randomNumber;
 
     @Nested
-    class GetRandomDouble {
+    class Constructor {
+
+        @Test
+        void shouldUseTheLeagueSeedWhenConfigured() {
+            when(leagueConfiguration.getSeed()).thenReturn(1971L);
+
+            assertEquals(1971L, new RandomNumber(leagueConfiguration).getSeed());
+        }
+
+        @Test
+        void shouldPickADifferentSeedForEachInstanceWhenNoSeedIsConfigured() {
+            assertNotEquals(new RandomNumber(leagueConfiguration).getSeed(), new RandomNumber(leagueConfiguration).getSeed());
+        }
+    }
+
+    @Nested
+    class GetGenerator {
+
+        @Test
+        void shouldReturnTheSameGeneratorForTheSameThread() {
+            assertSame(randomNumber.getGenerator(), randomNumber.getGenerator());
+        }
+
+        @Test
+        void shouldGiveEachThreadItsOwnStream() throws ExecutionException, InterruptedException {
+            assertNotSame(randomNumber.getGenerator(), CompletableFuture.supplyAsync(randomNumber::getGenerator).get());
+        }
+    }
+
+    @Nested
+    class ForSeason {
+
+        @Test
+        void shouldReturnTheSameStreamForTheSameSeason() {
+            assertEquals(randomNumber.forSeason("2001").nextLong(), randomNumber.forSeason("2001").nextLong());
+        }
+
+        @Test
+        void shouldReturnADifferentStreamForEachSeason() {
+            assertNotEquals(randomNumber.forSeason("2001").nextLong(), randomNumber.forSeason("2002").nextLong());
+        }
+
+        @Test
+        void shouldNotBeAffectedByOtherDraws() {
+            final long expected = randomNumber.forSeason("2001").nextLong();
+
+            randomNumber.getGenerator().nextDouble();
+            randomNumber.forScheduleEntry("2001", 1).nextLong();
+
+            assertEquals(expected, randomNumber.forSeason("2001").nextLong());
+        }
+    }
+
+    @Nested
+    class ForScheduleEntry {
+
+        @Test
+        void shouldReturnTheSameStreamForTheSameEntry() {
+            assertEquals(randomNumber.forScheduleEntry("2001", 5).nextLong(), randomNumber.forScheduleEntry("2001", 5).nextLong());
+        }
+
+        @Test
+        void shouldReturnADifferentStreamForEachEntry() {
+            assertNotEquals(randomNumber.forScheduleEntry("2001", 5).nextLong(), randomNumber.forScheduleEntry("2001", 6).nextLong());
+            assertNotEquals(randomNumber.forScheduleEntry("2001", 5).nextLong(), randomNumber.forScheduleEntry("2002", 5).nextLong());
+        }
 
         @Test
-        void shouldReturnADoubleBetweenZeroAndOne() {
-            final Double result = randomNumber.getRandomDouble();
+        void shouldReturnTheSameStreamFromAnyThread() throws ExecutionException, InterruptedException {
+            final long expected = randomNumber.forScheduleEntry("2001", 5).nextLong();
 
-            assertTrue(result >= 0.0);
-            assertTrue(result <= 1.0);
+            assertEquals(expected, CompletableFuture.supplyAsync(() -> randomNumber.forScheduleEntry("2001", 5).nextLong()).get());
         }
 
         @Test
-        void shouldReturnADifferentNumberEachTime() {
-            final Double firstResult = randomNumber.getRandomDouble();
-            final Double secondResult = randomNumber.getRandomDouble();
+        void shouldReturnTheSameStreamForTheSameLeagueSeed() {
+            when(leagueConfiguration.getSeed()).thenReturn(1971L);
 
-            assertNotEquals(firstResult, secondResult);
+            assertEquals(
+                    new RandomNumber(leagueConfiguration).forScheduleEntry("2001", 5).nextLong(),
+                    new RandomNumber(leagueConfiguration).forScheduleEntry("2001", 5).nextLong()
+            );
         }
     }
-}
\ No newline at end of file
+}
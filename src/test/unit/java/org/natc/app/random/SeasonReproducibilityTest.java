@@ -0,0 +1,116 @@
+package org.natc.app.random;
+
+import org.junit.jupiter.api.Test;
+import org.natc.app.configuration.LeagueConfiguration;
+import org.natc.app.entity.domain.Manager;
+import org.natc.app.entity.domain.Player;
+import org.natc.app.entity.domain.ScheduleData;
+import org.natc.app.generator.PreseasonScheduleDataGenerator;
+import org.natc.app.generator.RegularSeasonScheduleDataGenerator;
+import org.natc.app.proxy.PlayerRetirementProxy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.random.RandomGenerator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class SeasonReproducibilityTest {
+
+    private static final String YEAR = "2001";
+    private static final int ROOKIE_DRAFT_SEQUENCE = 4;
+    private static final int PLAYER_CHANGES_SEQUENCE = 7;
+    private static final int MANAGER_CHANGES_SEQUENCE = 8;
+
+    @Test
+    void shouldGenerateTheSameSeasonOnDifferentThreadsGivenTheSameSeed() throws ExecutionException, InterruptedException {
+        final ExecutorService firstThread = Executors.newSingleThreadExecutor();
+        final ExecutorService secondThread = Executors.newSingleThreadExecutor();
+
+        try {
+            final CompletableFuture<List<String>> firstSeason = CompletableFuture.supplyAsync(() -> generateSeason(1971L, false), firstThread);
+            final CompletableFuture<List<String>> secondSeason = CompletableFuture.supplyAsync(() -> generateSeason(1971L, true), secondThread);
+
+            assertEquals(firstSeason.get(), secondSeason.get());
+        } finally {
+            firstThread.shutdownNow();
+            secondThread.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldGenerateADifferentSeasonGivenADifferentSeed() {
+        assertNotEquals(generateSeason(1971L, false), generateSeason(1972L, false));
+    }
+
+    // replays every seeded draw a season makes, in the order the schedule makes them
+    private List<String> generateSeason(final long seed, final boolean drawFromThreadStreamFirst) {
+        final LeagueConfiguration leagueConfiguration = createLeagueConfiguration(seed);
+        final RandomNumber randomNumber = new RandomNumber(leagueConfiguration);
+        final List<String> season = new ArrayList<>();
+
+        if (drawFromThreadStreamFirst) {
+            randomNumber.getGenerator().doubles(1000).sum();
+        }
+
+        new PreseasonScheduleDataGenerator(leagueConfiguration, randomNumber).generate(YEAR).forEach(data -> season.add(describe(data)));
+        new RegularSeasonScheduleDataGenerator(leagueConfiguration, randomNumber).generate(YEAR).forEach(data -> season.add(describe(data)));
+
+        final RandomGenerator rookieDraft = randomNumber.forScheduleEntry(YEAR, ROOKIE_DRAFT_SEQUENCE);
+        final List<Player> rookies = new ArrayList<>();
+
+        for (int i = 0; i < 25; ++i) {
+            final Player rookie = Player.generate(rookieDraft, i, YEAR, "First", "Last");
+
+            rookies.add(rookie);
+            season.add(describe(rookie));
+        }
+
+        final RandomGenerator playerChanges = randomNumber.forScheduleEntry(YEAR, PLAYER_CHANGES_SEQUENCE);
+        final PlayerRetirementProxy playerRetirementProxy = new PlayerRetirementProxy();
+
+        for (final Player rookie : rookies) {
+            season.add(rookie.getPlayerId() + " retires " + playerRetirementProxy.readyToRetire(rookie, playerChanges));
+        }
+
+        final RandomGenerator managerChanges = randomNumber.forScheduleEntry(YEAR, MANAGER_CHANGES_SEQUENCE);
+
+        for (int i = 0; i < 5; ++i) {
+            season.add(describe(Manager.generate(managerChanges, i, YEAR, "First", "Last")));
+        }
+
+        return season;
+    }
+
+    private LeagueConfiguration createLeagueConfiguration(final long seed) {
+        final LeagueConfiguration leagueConfiguration = new LeagueConfiguration();
+
+        leagueConfiguration.setNumberOfTeams(40);
+        leagueConfiguration.setTeamsPerDivision(10);
+        leagueConfiguration.setTeamsPerConference(20);
+        leagueConfiguration.setGamesPerDay(20);
+        leagueConfiguration.setOutOfConferenceGames(7);
+        leagueConfiguration.setDaysInPreseason(10);
+        leagueConfiguration.setDaysInRegularSeason(100);
+        leagueConfiguration.setSeed(seed);
+
+        return leagueConfiguration;
+    }
+
+    private String describe(final ScheduleData scheduleData) {
+        return scheduleData.getMatches().stream().map(match -> match.getRoadTeam() + "@" + match.getHomeTeam()).toList().toString();
+    }
+
+    private String describe(final Player player) {
+        return player.getPlayerId() + " " + player.getAge() + " " + player.getScoring() + " " + player.getVitality() + " " + player.getDurability();
+    }
+
+    private String describe(final Manager manager) {
+        return manager.getManagerId() + " " + manager.getAge() + " " + manager.getOffense() + " " + manager.getDefense() + " " + manager.getVitality();
+    }
+}
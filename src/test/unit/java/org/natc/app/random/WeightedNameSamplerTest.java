@@ -0,0 +1,182 @@
+package org.natc.app.random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.natc.app.entity.domain.FirstName;
+import org.natc.app.entity.domain.LastName;
+import org.natc.app.repository.FirstNameRepository;
+import org.natc.app.repository.LastNameRepository;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WeightedNameSamplerTest {
+
+    // chi-square critical value for 3 degrees of freedom at p = 0.001
+    private static final double CRITICAL_VALUE = 16.266;
+
+    @Mock
+    private FirstNameRepository firstNameRepository;
+
+    @Mock
+    private LastNameRepository lastNameRepository;
+
+    private final SplittableRandom random = new SplittableRandom(1971);
+    private WeightedNameSampler weightedNameSampler;
+
+    @BeforeEach
+    void setup() {
+        weightedNameSampler = new WeightedNameSampler(firstNameRepository, lastNameRepository);
+    }
+
+    @Nested
+    class DrawFirstName {
+
+        @Test
+        void shouldNotLoadTheNameTablesUntilTheFirstDraw() {
+            verifyNoInteractions(firstNameRepository, lastNameRepository);
+        }
+
+        @Test
+        void shouldReturnEmptyIfThereAreNoFirstNames() {
+            assertTrue(weightedNameSampler.drawFirstName(random).isEmpty());
+        }
+
+        @Test
+        void shouldReturnTheOnlyFirstNameAvailable() {
+            when(firstNameRepository.findAll()).thenReturn(List.of(FirstName.builder().name("Joe").frequency(1.0).build()));
+
+            assertEquals(Optional.of("Joe"), weightedNameSampler.drawFirstName(random));
+        }
+
+        @Test
+        void shouldOnlyLoadTheNameTablesOnceForManyDraws() {
+            when(firstNameRepository.findAll()).thenReturn(List.of(FirstName.builder().name("Joe").frequency(1.0).build()));
+
+            for (int i = 0; i < 100; i++) {
+                weightedNameSampler.drawFirstName(random);
+            }
+
+            verify(firstNameRepository).findAll();
+            verify(lastNameRepository).findAll();
+        }
+
+        @Test
+        void shouldReloadTheNameTablesAfterTheyHaveChanged() {
+            when(firstNameRepository.findAll())
+                    .thenReturn(List.of(FirstName.builder().name("Joe").frequency(1.0).build()))
+                    .thenReturn(List.of(FirstName.builder().name("Bob").frequency(1.0).build()));
+
+            assertEquals(Optional.of("Joe"), weightedNameSampler.drawFirstName(random));
+
+            WeightedNameSampler.nameTablesChanged();
+
+            assertEquals(Optional.of("Bob"), weightedNameSampler.drawFirstName(random));
+        }
+
+        @Test
+        void shouldNeverChooseFirstNamesWithoutAPositiveFrequency() {
+            when(firstNameRepository.findAll()).thenReturn(List.of(
+                    FirstName.builder().name("James").frequency(0.0).build(),
+                    FirstName.builder().name("John").frequency(null).build(),
+                    FirstName.builder().name("Thomas").frequency(1.0).build()
+            ));
+
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(Optional.of("Thomas"), weightedNameSampler.drawFirstName(random));
+            }
+        }
+
+        @Test
+        void shouldChooseFirstNamesInProportionToTheirFrequency() {
+            final Map<String, Double> frequencies = Map.of("James", 3.318, "John", 3.271, "Robert", 0.5, "Michael", 0.05);
+
+            when(firstNameRepository.findAll()).thenReturn(frequencies.entrySet().stream()
+                    .map(entry -> FirstName.builder().name(entry.getKey()).frequency(entry.getValue()).build())
+                    .toList());
+
+            final Map<String, Integer> observed = new HashMap<>();
+
+            for (int i = 0; i < 100000; i++) {
+                observed.merge(weightedNameSampler.drawFirstName(random).orElseThrow(), 1, Integer::sum);
+            }
+
+            assertTrue(chiSquare(frequencies, observed, 100000) < CRITICAL_VALUE);
+        }
+    }
+
+    @Nested
+    class DrawLastName {
+
+        @Test
+        void shouldReturnEmptyIfThereAreNoLastNames() {
+            assertTrue(weightedNameSampler.drawLastName(random).isEmpty());
+        }
+
+        @Test
+        void shouldReturnTheOnlyLastNameAvailable() {
+            when(lastNameRepository.findAll()).thenReturn(List.of(LastName.builder().name("Blow").frequency(1.0).build()));
+
+            assertEquals(Optional.of("Blow"), weightedNameSampler.drawLastName(random));
+        }
+
+        @Test
+        void shouldChooseLastNamesInProportionToTheirFrequency() {
+            final Map<String, Double> frequencies = Map.of("Smith", 1.006, "Johnson", 0.81, "Williams", 0.699, "Jones", 0.001);
+
+            when(lastNameRepository.findAll()).thenReturn(frequencies.entrySet().stream()
+                    .map(entry -> LastName.builder().name(entry.getKey()).frequency(entry.getValue()).build())
+                    .toList());
+
+            final Map<String, Integer> observed = new HashMap<>();
+
+            for (int i = 0; i < 100000; i++) {
+                observed.merge(weightedNameSampler.drawLastName(random).orElseThrow(), 1, Integer::sum);
+            }
+
+            assertTrue(chiSquare(frequencies, observed, 100000) < CRITICAL_VALUE);
+        }
+    }
+
+    @Nested
+    class GetNameCounts {
+
+        @Test
+        void shouldReturnTheNumberOfNamesWithAPositiveFrequency() {
+            when(firstNameRepository.findAll()).thenReturn(List.of(
+                    FirstName.builder().name("James").frequency(1.0).build(),
+                    FirstName.builder().name("John").frequency(0.0).build()
+            ));
+            when(lastNameRepository.findAll()).thenReturn(List.of(
+                    LastName.builder().name("Smith").frequency(1.0).build(),
+                    LastName.builder().name("Jones").frequency(2.0).build(),
+                    LastName.builder().name("Brown").frequency(3.0).build()
+            ));
+
+            assertEquals(1, weightedNameSampler.getFirstNameCount());
+            assertEquals(3, weightedNameSampler.getLastNameCount());
+        }
+    }
+
+    private double chiSquare(final Map<String, Double> frequencies, final Map<String, Integer> observed, final int draws) {
+        final double total = frequencies.values().stream().mapToDouble(Double::doubleValue).sum();
+
+        double chiSquare = 0.0;
+
+        for (final Map.Entry<String, Double> entry : frequencies.entrySet()) {
+            final double expected = draws * entry.getValue() / total;
+            final double difference = observed.getOrDefault(entry.getKey(), 0) - expected;
+
+            chiSquare += (difference * difference) / expected;
+        }
+
+        return chiSquare;
+    }
+}
@@ -0,0 +1,91 @@
+package org.natc.app.runner;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.natc.app.configuration.FastForwardConfiguration;
+import org.natc.app.entity.domain.ScheduleType;
+import org.natc.app.entity.response.FastForwardResponse;
+import org.natc.app.exception.FastForwardException;
+import org.natc.app.manager.FastForwardManager;
+import org.springframework.boot.DefaultApplicationArguments;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FastForwardRunnerTest {
+
+    @Mock
+    private FastForwardManager fastForwardManager;
+
+    @Mock
+    private FastForwardConfiguration fastForwardConfiguration;
+
+    @InjectMocks
+    private FastForwardRunner fastForwardRunner;
+
+    private FastForwardResponse response(final boolean targetReached) {
+        return FastForwardResponse.builder()
+                .events(13)
+                .seasons(1)
+                .elapsedMillis(20L)
+                .eventsPerSecond(650.0)
+                .seasonsPerMinute(3000.0)
+                .lastYear("2001")
+                .lastSequence(14)
+                .lastType(ScheduleType.END_OF_SEASON)
+                .targetReached(targetReached)
+                .build();
+    }
+
+    @Nested
+    class Run {
+
+        @Test
+        void shouldFastForwardToTheConfiguredTarget() throws Exception {
+            when(fastForwardConfiguration.getTargetYear()).thenReturn("2001");
+            when(fastForwardConfiguration.getTargetType()).thenReturn(ScheduleType.AWARDS);
+            when(fastForwardConfiguration.getMaxEvents()).thenReturn(50);
+            when(fastForwardManager.fastForward(any(), any(), any())).thenReturn(response(true));
+
+            fastForwardRunner.run(new DefaultApplicationArguments());
+
+            verify(fastForwardManager).fastForward("2001", ScheduleType.AWARDS, 50);
+        }
+
+        @Test
+        void shouldPassOnAFastForwardException() throws Exception {
+            when(fastForwardManager.fastForward(any(), any(), any())).thenThrow(new FastForwardException("Invalid target year: next"));
+
+            assertThrows(FastForwardException.class, () -> fastForwardRunner.run(new DefaultApplicationArguments()));
+        }
+    }
+
+    @Nested
+    class GetExitCode {
+
+        @Test
+        void shouldReturnZeroWhenTheTargetWasReached() throws Exception {
+            when(fastForwardManager.fastForward(any(), any(), any())).thenReturn(response(true));
+
+            fastForwardRunner.run(new DefaultApplicationArguments());
+
+            assertEquals(0, fastForwardRunner.getExitCode());
+        }
+
+        @Test
+        void shouldReturnOneWhenTheTargetWasNotReached() throws Exception {
+            when(fastForwardManager.fastForward(any(), any(), any())).thenReturn(response(false));
+
+            fastForwardRunner.run(new DefaultApplicationArguments());
+
+            assertEquals(1, fastForwardRunner.getExitCode());
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package org.natc.app.service;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.natc.app.repository.IdSequence;
+import org.natc.app.repository.IdSequenceRepository;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdBlockAllocatorTest {
+
+    @Mock
+    private IdSequenceRepository idSequenceRepository;
+
+    @InjectMocks
+    private IdBlockAllocator idBlockAllocator;
+
+    @Nested
+    class Next {
+
+        @Test
+        void shouldReturnTheStartOfTheBlockReservedFromTheSequence() {
+            when(idSequenceRepository.nextValue(IdSequence.PLAYER)).thenReturn(101L);
+
+            assertEquals(101, idBlockAllocator.next(IdSequence.PLAYER));
+        }
+
+        @Test
+        void shouldReturnConsecutiveIdsFromTheSameBlock() {
+            when(idSequenceRepository.nextValue(IdSequence.PLAYER)).thenReturn(101L);
+
+            assertEquals(101, idBlockAllocator.next(IdSequence.PLAYER));
+            assertEquals(102, idBlockAllocator.next(IdSequence.PLAYER));
+            assertEquals(103, idBlockAllocator.next(IdSequence.PLAYER));
+
+            verify(idSequenceRepository, times(1)).nextValue(IdSequence.PLAYER);
+        }
+
+        @Test
+        void shouldKeepSeparateBlocksForEachSequence() {
+            when(idSequenceRepository.nextValue(IdSequence.PLAYER)).thenReturn(101L);
+            when(idSequenceRepository.nextValue(IdSequence.MANAGER)).thenReturn(1L);
+
+            assertEquals(101, idBlockAllocator.next(IdSequence.PLAYER));
+            assertEquals(1, idBlockAllocator.next(IdSequence.MANAGER));
+            assertEquals(102, idBlockAllocator.next(IdSequence.PLAYER));
+            assertEquals(2, idBlockAllocator.next(IdSequence.MANAGER));
+        }
+    }
+
+    @Nested
+    class Allocate {
+
+        @Test
+        void shouldReturnTheGivenNumberOfIds() {
+            when(idSequenceRepository.nextValue(IdSequence.PLAYER)).thenReturn(1L);
+
+            assertEquals(10, idBlockAllocator.allocate(IdSequence.PLAYER, 10).size());
+        }
+
+        @Test
+        void shouldReturnAnEmptyListWithoutReservingABlockGivenZero() {
+            assertTrue(idBlockAllocator.allocate(IdSequence.PLAYER, 0).isEmpty());
+
+            verify(idSequenceRepository, never()).nextValue(any());
+        }
+
+        @Test
+        void shouldReserveANewBlockWhenTheCurrentBlockIsUsedUp() {
+            when(idSequenceRepository.nextValue(IdSequence.PLAYER)).thenReturn(1L, 51L);
+
+            final List<Integer> ids = idBlockAllocator.allocate(IdSequence.PLAYER, IdBlockAllocator.BLOCK_SIZE + 5);
+
+            assertEquals(IntStream.rangeClosed(1, 55).boxed().toList(), ids);
+            verify(idSequenceRepository, times(2)).nextValue(IdSequence.PLAYER);
+        }
+
+        @Test
+        void shouldSkipToTheNewBlockWhenTheSequenceHasMovedOn() {
+            when(idSequenceRepository.nextValue(IdSequence.PLAYER)).thenReturn(1L, 301L);
+
+            final List<Integer> ids = idBlockAllocator.allocate(IdSequence.PLAYER, IdBlockAllocator.BLOCK_SIZE + 2);
+
+            assertEquals(IdBlockAllocator.BLOCK_SIZE, ids.get(IdBlockAllocator.BLOCK_SIZE - 1));
+            assertEquals(301, ids.get(IdBlockAllocator.BLOCK_SIZE));
+            assertEquals(302, ids.get(IdBlockAllocator.BLOCK_SIZE + 1));
+        }
+
+        @Test
+        void shouldContinueFromThePreviousAllocation() {
+            when(idSequenceRepository.nextValue(IdSequence.MANAGER)).thenReturn(1L);
+
+            idBlockAllocator.allocate(IdSequence.MANAGER, 5);
+
+            assertEquals(List.of(6, 7, 8), idBlockAllocator.allocate(IdSequence.MANAGER, 3));
+        }
+    }
+}
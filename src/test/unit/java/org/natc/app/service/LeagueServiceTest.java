@@ -1,9 +1,12 @@
 package org.natc.app.service;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -14,11 +17,14 @@ import org.natc.app.entity.domain.Player;
 import org.natc.app.entity.domain.Team;
 import org.natc.app.exception.LeagueProcessingException;
 import org.natc.app.exception.NATCException;
+import org.natc.app.random.RandomNumber;
+import org.natc.app.repository.SeasonPartitionRepository;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -28,6 +34,12 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class LeagueServiceTest {
 
+    @Captor
+    private ArgumentCaptor<List<Manager>> managersCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<Player>> playersCaptor;
+
     @Mock
     private PlayerService playerService;
 
@@ -40,12 +52,37 @@ class LeagueServiceTest {
     @Mock
     private LeagueConfiguration leagueConfiguration;
 
+    @Mock
+    private SeasonPartitionRepository seasonPartitionRepository;
+
+    @Mock
+    private RandomNumber randomNumber;
+
     @InjectMocks
     private LeagueService leagueService;
 
+    @BeforeEach
+    void setup() {
+        lenient().when(randomNumber.forSeason(any())).thenAnswer(invocation -> new SplittableRandom(1));
+    }
+
     @Nested
     class GenerateNewLeague {
 
+        @Test
+        void shouldCreateThePartitionsForTheFirstSeasonBeforeGeneratingTheLeague() throws NATCException {
+            final String expectedYear = "2112";
+
+            when(leagueConfiguration.getFirstSeason()).thenReturn(expectedYear);
+
+            leagueService.generateNewLeague();
+
+            final InOrder inOrder = inOrder(seasonPartitionRepository, teamService);
+
+            inOrder.verify(seasonPartitionRepository).createPartitionsForYear(expectedYear);
+            inOrder.verify(teamService).generateTeams(expectedYear);
+        }
+
         @Test
         void shouldCallTeamServiceToGenerateTeams() throws NATCException {
             leagueService.generateNewLeague();
@@ -68,7 +105,7 @@ class LeagueServiceTest {
         void shouldCallManagerServiceToGenerateManagers() throws NATCException {
             leagueService.generateNewLeague();
 
-            verify(managerService).generateManagers(any(), any());
+            verify(managerService).generateManagers(any(), any(), any());
         }
 
         @Test
@@ -77,7 +114,7 @@ class LeagueServiceTest {
 
             leagueService.generateNewLeague();
 
-            verify(managerService).generateManagers(any(), eq(25));
+            verify(managerService).generateManagers(any(), any(), eq(25));
         }
 
         @Test
@@ -86,14 +123,14 @@ class LeagueServiceTest {
 
             leagueService.generateNewLeague();
 
-            verify(managerService).generateManagers(eq("1992"), any());
+            verify(managerService).generateManagers(any(), eq("1992"), any());
         }
 
         @Test
         void shouldCallPlayerServiceToGeneratePlayers() throws NATCException {
             leagueService.generateNewLeague();
 
-            verify(playerService).generatePlayers(any(), any());
+            verify(playerService).generatePlayers(any(), any(), any());
         }
 
         @Test
@@ -102,7 +139,7 @@ class LeagueServiceTest {
 
             leagueService.generateNewLeague();
 
-            verify(playerService).generatePlayers(any(), eq(100));
+            verify(playerService).generatePlayers(any(), any(), eq(100));
         }
 
         @Test
@@ -111,7 +148,20 @@ class LeagueServiceTest {
 
             leagueService.generateNewLeague();
 
-            verify(playerService).generatePlayers(eq("1992"), any());
+            verify(playerService).generatePlayers(any(), eq("1992"), any());
+        }
+
+        @Test
+        void shouldGenerateManagersAndPlayersFromTheStreamForTheFirstSeason() throws NATCException {
+            final SplittableRandom random = new SplittableRandom(1971);
+
+            when(leagueConfiguration.getFirstSeason()).thenReturn("1992");
+            when(randomNumber.forSeason("1992")).thenReturn(random);
+
+            leagueService.generateNewLeague();
+
+            verify(managerService).generateManagers(same(random), eq("1992"), any());
+            verify(playerService).generatePlayers(same(random), eq("1992"), any());
         }
 
         @Test
@@ -120,11 +170,11 @@ class LeagueServiceTest {
             final Manager manager = Manager.builder().managerId(321).build();
 
             when(teamService.generateTeams(any())).thenReturn(Collections.singletonList(team));
-            when(managerService.generateManagers(any(), any())).thenReturn(Collections.singletonList(manager));
+            when(managerService.generateManagers(any(), any(), any())).thenReturn(Collections.singletonList(manager));
 
             leagueService.generateNewLeague();
 
-            verify(managerService).updateManager(manager);
+            verify(managerService).updateManagers(List.of(manager));
 
             assertEquals(team.getTeamId(), manager.getTeamId());
         }
@@ -135,7 +185,7 @@ class LeagueServiceTest {
             final Manager manager = Manager.builder().managerId(321).build();
 
             when(teamService.generateTeams(any())).thenReturn(Collections.singletonList(team));
-            when(managerService.generateManagers(any(), any())).thenReturn(Collections.singletonList(manager));
+            when(managerService.generateManagers(any(), any(), any())).thenReturn(Collections.singletonList(manager));
 
             leagueService.generateNewLeague();
 
@@ -161,11 +211,13 @@ class LeagueServiceTest {
             );
 
             when(teamService.generateTeams(any())).thenReturn(teamList);
-            when(managerService.generateManagers(any(), any())).thenReturn(managerList);
+            when(managerService.generateManagers(any(), any(), any())).thenReturn(managerList);
 
             leagueService.generateNewLeague();
 
-            verify(managerService, times(teamList.size())).updateManager(any(Manager.class));
+            verify(managerService).updateManagers(managersCaptor.capture());
+
+            assertEquals(teamList.size(), managersCaptor.getValue().size());
 
             final List<Integer> expectedTeamIds = teamList.stream().map(Team::getTeamId).sorted().toList();
             final List<Integer> actualTeamIds = managerList.stream().map(Manager::getTeamId).sorted().toList();
@@ -173,17 +225,42 @@ class LeagueServiceTest {
             assertEquals(expectedTeamIds, actualTeamIds);
         }
 
+        @Test
+        void shouldSaveAllManagerAssignmentsInOneBatch() throws NATCException {
+            final List<Team> teamList = List.of(
+                    Team.builder().teamId(1).allstarTeam(0).build(),
+                    Team.builder().teamId(2).allstarTeam(0).build(),
+                    Team.builder().teamId(3).allstarTeam(0).build()
+            );
+
+            final List<Manager> managerList = List.of(
+                    Manager.builder().managerId(101).build(),
+                    Manager.builder().managerId(102).build(),
+                    Manager.builder().managerId(103).build()
+            );
+
+            when(teamService.generateTeams(any())).thenReturn(teamList);
+            when(managerService.generateManagers(any(), any(), any())).thenReturn(managerList);
+
+            leagueService.generateNewLeague();
+
+            verify(managerService, times(1)).updateManagers(any());
+            verify(managerService, never()).updateManager(any());
+        }
+
         @Test
         void shouldNotAssignAManagerToAnAllstarTeam() throws NATCException {
             final Team team = Team.builder().teamId(123).allstarTeam(1).build();
             final Manager manager = Manager.builder().managerId(321).build();
 
             when(teamService.generateTeams(any())).thenReturn(Collections.singletonList(team));
-            when(managerService.generateManagers(any(), any())).thenReturn(Collections.singletonList(manager));
+            when(managerService.generateManagers(any(), any(), any())).thenReturn(Collections.singletonList(manager));
 
             leagueService.generateNewLeague();
 
-            verify(managerService, never()).updateManager(manager);
+            verify(managerService).updateManagers(Collections.emptyList());
+
+            assertNull(manager.getTeamId());
         }
 
         @Test
@@ -203,11 +280,13 @@ class LeagueServiceTest {
             );
 
             when(teamService.generateTeams(any())).thenReturn(teamList);
-            when(managerService.generateManagers(any(), any())).thenReturn(managerList);
+            when(managerService.generateManagers(any(), any(), any())).thenReturn(managerList);
 
             leagueService.generateNewLeague();
 
-            verify(managerService, times(teamList.size())).updateManager(any(Manager.class));
+            verify(managerService).updateManagers(managersCaptor.capture());
+
+            assertEquals(teamList.size(), managersCaptor.getValue().size());
 
             assertEquals(teamList.size(), managerList.stream().filter(manager -> Objects.nonNull(manager.getTeamId())).count());
         }
@@ -229,7 +308,7 @@ class LeagueServiceTest {
             );
 
             when(teamService.generateTeams(any())).thenReturn(teamList);
-            when(managerService.generateManagers(any(), any())).thenReturn(managerList);
+            when(managerService.generateManagers(any(), any(), any())).thenReturn(managerList);
 
             assertThrows(LeagueProcessingException.class, () -> leagueService.generateNewLeague());
         }
@@ -241,16 +320,15 @@ class LeagueServiceTest {
             final Manager lowRatedManager = Manager.builder().managerId(322).offense(0.5).defense(0.5).intangible(0.3).penalties(0.2).build();
 
             when(teamService.generateTeams(any())).thenReturn(Collections.singletonList(team));
-            when(managerService.generateManagers(any(), any())).thenReturn(List.of(lowRatedManager, highRatedManager));
+            when(managerService.generateManagers(any(), any(), any())).thenReturn(List.of(lowRatedManager, highRatedManager));
 
             leagueService.generateNewLeague();
 
-            verify(managerService).updateManager(highRatedManager);
+            verify(managerService).updateManagers(List.of(highRatedManager));
         }
 
         @Test
         void shouldAssignManagersInOrderFromHighestRatedToLowestRated() throws NATCException {
-            final ArgumentCaptor<Manager> captor = ArgumentCaptor.forClass(Manager.class);
             final List<Team> teamList = List.of(
                     Team.builder().teamId(1).allstarTeam(0).build(),
                     Team.builder().teamId(2).allstarTeam(0).build(),
@@ -270,22 +348,21 @@ class LeagueServiceTest {
             Collections.shuffle(managerList);
 
             when(teamService.generateTeams(any())).thenReturn(teamList);
-            when(managerService.generateManagers(any(), any())).thenReturn(managerList);
+            when(managerService.generateManagers(any(), any(), any())).thenReturn(managerList);
 
             leagueService.generateNewLeague();
 
-            verify(managerService, times(5)).updateManager(captor.capture());
+            verify(managerService).updateManagers(managersCaptor.capture());
 
-            assertEquals(101, captor.getAllValues().get(0).getManagerId());
-            assertEquals(102, captor.getAllValues().get(1).getManagerId());
-            assertEquals(103, captor.getAllValues().get(2).getManagerId());
-            assertEquals(104, captor.getAllValues().get(3).getManagerId());
-            assertEquals(105, captor.getAllValues().get(4).getManagerId());
+            assertEquals(101, managersCaptor.getValue().get(0).getManagerId());
+            assertEquals(102, managersCaptor.getValue().get(1).getManagerId());
+            assertEquals(103, managersCaptor.getValue().get(2).getManagerId());
+            assertEquals(104, managersCaptor.getValue().get(3).getManagerId());
+            assertEquals(105, managersCaptor.getValue().get(4).getManagerId());
         }
 
         @Test
         void shouldRandomizeTeamOrderWhenAssigningManagers() throws NATCException {
-            final ArgumentCaptor<Manager> captor = ArgumentCaptor.forClass(Manager.class);
             final List<Team> teamList = List.of(
                     Team.builder().teamId(1).allstarTeam(0).build(),
                     Team.builder().teamId(2).allstarTeam(0).build(),
@@ -313,15 +390,15 @@ class LeagueServiceTest {
             );
 
             when(teamService.generateTeams(any())).thenReturn(teamList);
-            when(managerService.generateManagers(any(), any())).thenReturn(managerList);
+            when(managerService.generateManagers(any(), any(), any())).thenReturn(managerList);
 
             final List<Integer> startingTeamIds = teamList.stream().map(Team::getTeamId).toList();
 
             leagueService.generateNewLeague();
 
-            verify(managerService, times(10)).updateManager(captor.capture());
+            verify(managerService).updateManagers(managersCaptor.capture());
 
-            final List<Integer> actualTeamIds = captor.getAllValues().stream().map(Manager::getTeamId).toList();
+            final List<Integer> actualTeamIds = managersCaptor.getValue().stream().map(Manager::getTeamId).toList();
 
             assertNotEquals(startingTeamIds, actualTeamIds);
         }
@@ -333,20 +410,19 @@ class LeagueServiceTest {
             final Player player = Player.builder().playerId(555).build();
 
             when(teamService.generateTeams(any())).thenReturn(Collections.singletonList(team));
-            when(managerService.generateManagers(any(), any())).thenReturn(Collections.singletonList(manager));
-            when(playerService.generatePlayers(any(), any())).thenReturn(Collections.singletonList(player));
+            when(managerService.generateManagers(any(), any(), any())).thenReturn(Collections.singletonList(manager));
+            when(playerService.generatePlayers(any(), any(), any())).thenReturn(Collections.singletonList(player));
             when(leagueConfiguration.getPlayersPerTeam()).thenReturn(1);
 
             leagueService.generateNewLeague();
 
-            verify(playerService).updatePlayer(player);
+            verify(playerService).updatePlayers(List.of(player));
 
             assertEquals(team.getTeamId(), player.getTeamId());
         }
 
         @Test
         void shouldUpdateAsManyUniquePlayersWithSameTeamAsPlayersPerTeamConfiguration() throws NATCException {
-            final ArgumentCaptor<Player> captor = ArgumentCaptor.forClass(Player.class);
             final Team team = Team.builder().teamId(123).allstarTeam(0).build();
             final Manager manager = Manager.builder().managerId(321).style(ManagerStyle.BALANCED.getValue()).build();
             final List<Player> playerList = List.of(
@@ -358,18 +434,20 @@ class LeagueServiceTest {
             );
 
             when(teamService.generateTeams(any())).thenReturn(Collections.singletonList(team));
-            when(managerService.generateManagers(any(), any())).thenReturn(Collections.singletonList(manager));
-            when(playerService.generatePlayers(any(), any())).thenReturn(playerList);
+            when(managerService.generateManagers(any(), any(), any())).thenReturn(Collections.singletonList(manager));
+            when(playerService.generatePlayers(any(), any(), any())).thenReturn(playerList);
             when(leagueConfiguration.getPlayersPerTeam()).thenReturn(5);
 
             leagueService.generateNewLeague();
 
-            verify(playerService, times(5)).updatePlayer(captor.capture());
+            verify(playerService).updatePlayers(playersCaptor.capture());
 
-            assertEquals(5, captor.getAllValues().stream().filter(player -> player.getTeamId() == 123).count());
+            assertEquals(5, playersCaptor.getValue().size());
+
+            assertEquals(5, playersCaptor.getValue().stream().filter(player -> player.getTeamId() == 123).count());
 
             final List<Integer> expectedPlayerIds = playerList.stream().map(Player::getTeamId).sorted().toList();
-            final List<Integer> actualPlayerIds = captor.getAllValues().stream().map(Player::getTeamId).sorted().toList();
+            final List<Integer> actualPlayerIds = playersCaptor.getValue().stream().map(Player::getTeamId).sorted().toList();
 
             assertEquals(expectedPlayerIds, actualPlayerIds);
         }
@@ -401,13 +479,15 @@ class LeagueServiceTest {
             );
 
             when(teamService.generateTeams(any())).thenReturn(teamList);
-            when(managerService.generateManagers(any(), any())).thenReturn(managerList);
-            when(playerService.generatePlayers(any(), any())).thenReturn(playerList);
+            when(managerService.generateManagers(any(), any(), any())).thenReturn(managerList);
+            when(playerService.generatePlayers(any(), any(), any())).thenReturn(playerList);
             when(leagueConfiguration.getPlayersPerTeam()).thenReturn(1);
 
             leagueService.generateNewLeague();
 
-            verify(playerService, times(teamList.size())).updatePlayer(any(Player.class));
+            verify(playerService).updatePlayers(playersCaptor.capture());
+
+            assertEquals(teamList.size(), playersCaptor.getValue().size());
 
             final List<Integer> expectedTeamIds = teamList.stream().map(Team::getTeamId).sorted().toList();
             final List<Integer> actualTeamIds = playerList.stream().map(Player::getTeamId).sorted().toList();
@@ -442,13 +522,45 @@ class LeagueServiceTest {
             );
 
             when(teamService.generateTeams(any())).thenReturn(teamList);
-            when(managerService.generateManagers(any(), any())).thenReturn(managerList);
-            when(playerService.generatePlayers(any(), any())).thenReturn(playerList);
+            when(managerService.generateManagers(any(), any(), any())).thenReturn(managerList);
+            when(playerService.generatePlayers(any(), any(), any())).thenReturn(playerList);
             when(leagueConfiguration.getPlayersPerTeam()).thenReturn(3);
 
             leagueService.generateNewLeague();
 
-            verify(playerService, times(teamList.size() * 3)).updatePlayer(any(Player.class));
+            verify(playerService).updatePlayers(playersCaptor.capture());
+
+            assertEquals(teamList.size() * 3, playersCaptor.getValue().size());
+        }
+
+        @Test
+        void shouldSaveAllPlayerAssignmentsInOneBatch() throws NATCException {
+            final List<Team> teamList = List.of(
+                    Team.builder().teamId(1).allstarTeam(0).build(),
+                    Team.builder().teamId(2).allstarTeam(0).build()
+            );
+
+            final List<Manager> managerList = List.of(
+                    Manager.builder().managerId(101).style(ManagerStyle.BALANCED.getValue()).build(),
+                    Manager.builder().managerId(102).style(ManagerStyle.BALANCED.getValue()).build()
+            );
+
+            final List<Player> playerList = List.of(
+                    Player.builder().playerId(201).build(),
+                    Player.builder().playerId(202).build(),
+                    Player.builder().playerId(203).build(),
+                    Player.builder().playerId(204).build()
+            );
+
+            when(teamService.generateTeams(any())).thenReturn(teamList);
+            when(managerService.generateManagers(any(), any(), any())).thenReturn(managerList);
+            when(playerService.generatePlayers(any(), any(), any())).thenReturn(playerList);
+            when(leagueConfiguration.getPlayersPerTeam()).thenReturn(2);
+
+            leagueService.generateNewLeague();
+
+            verify(playerService, times(1)).updatePlayers(any());
+            verify(playerService, never()).updatePlayer(any());
         }
 
         @Test
@@ -458,13 +570,13 @@ class LeagueServiceTest {
             final Player player = Player.builder().playerId(555).build();
 
             when(teamService.generateTeams(any())).thenReturn(Collections.singletonList(team));
-            when(managerService.generateManagers(any(), any())).thenReturn(Collections.singletonList(manager));
-            when(playerService.generatePlayers(any(), any())).thenReturn(Collections.singletonList(player));
+            when(managerService.generateManagers(any(), any(), any())).thenReturn(Collections.singletonList(manager));
+            when(playerService.generatePlayers(any(), any(), any())).thenReturn(Collections.singletonList(player));
             when(leagueConfiguration.getPlayersPerTeam()).thenReturn(1);
 
             leagueService.generateNewLeague();
 
-            verify(playerService, never()).updatePlayer(any());
+            verify(playerService).updatePlayers(Collections.emptyList());
         }
 
         @Test
@@ -490,13 +602,15 @@ class LeagueServiceTest {
             );
 
             when(teamService.generateTeams(any())).thenReturn(teamList);
-            when(managerService.generateManagers(any(), any())).thenReturn(managerList);
-            when(playerService.generatePlayers(any(), any())).thenReturn(playerList);
+            when(managerService.generateManagers(any(), any(), any())).thenReturn(managerList);
+            when(playerService.generatePlayers(any(), any(), any())).thenReturn(playerList);
             when(leagueConfiguration.getPlayersPerTeam()).thenReturn(1);
 
             leagueService.generateNewLeague();
 
-            verify(playerService, times(teamList.size())).updatePlayer(any(Player.class));
+            verify(playerService).updatePlayers(playersCaptor.capture());
+
+            assertEquals(teamList.size(), playersCaptor.getValue().size());
 
             assertEquals(teamList.size(), playerList.stream().filter(player -> Objects.nonNull(player.getTeamId())).count());
         }
@@ -526,8 +640,8 @@ class LeagueServiceTest {
             );
 
             when(teamService.generateTeams(any())).thenReturn(teamList);
-            when(managerService.generateManagers(any(), any())).thenReturn(managerList);
-            when(playerService.generatePlayers(any(), any())).thenReturn(playerList);
+            when(managerService.generateManagers(any(), any(), any())).thenReturn(managerList);
+            when(playerService.generatePlayers(any(), any(), any())).thenReturn(playerList);
             when(leagueConfiguration.getPlayersPerTeam()).thenReturn(1);
 
             assertThrows(LeagueProcessingException.class, () -> leagueService.generateNewLeague());
@@ -565,8 +679,8 @@ class LeagueServiceTest {
             );
 
             when(teamService.generateTeams(any())).thenReturn(teamList);
-            when(managerService.generateManagers(any(), any())).thenReturn(managerList);
-            when(playerService.generatePlayers(any(), any())).thenReturn(playerList);
+            when(managerService.generateManagers(any(), any(), any())).thenReturn(managerList);
+            when(playerService.generatePlayers(any(), any(), any())).thenReturn(playerList);
             when(leagueConfiguration.getPlayersPerTeam()).thenReturn(3);
 
             assertThrows(LeagueProcessingException.class, () -> leagueService.generateNewLeague());
@@ -574,7 +688,6 @@ class LeagueServiceTest {
 
         @Test
         void shouldReverseTheTeamOrderForEachRoundOfPlayerAssignment() throws NATCException {
-            final ArgumentCaptor<Player> captor = ArgumentCaptor.forClass(Player.class);
             final List<Team> teamList = List.of(
                     Team.builder().teamId(1).allstarTeam(0).build(),
                     Team.builder().teamId(2).allstarTeam(0).build(),
@@ -600,17 +713,19 @@ class LeagueServiceTest {
             );
 
             when(teamService.generateTeams(any())).thenReturn(teamList);
-            when(managerService.generateManagers(any(), any())).thenReturn(managerList);
-            when(playerService.generatePlayers(any(), any())).thenReturn(playerList);
+            when(managerService.generateManagers(any(), any(), any())).thenReturn(managerList);
+            when(playerService.generatePlayers(any(), any(), any())).thenReturn(playerList);
             when(leagueConfiguration.getPlayersPerTeam()).thenReturn(3);
 
             leagueService.generateNewLeague();
 
-            verify(playerService, times(9)).updatePlayer(captor.capture());
+            verify(playerService).updatePlayers(playersCaptor.capture());
+
+            assertEquals(9, playersCaptor.getValue().size());
 
-            final List<Integer> firstRound = captor.getAllValues().subList(0, 3).stream().map(Player::getTeamId).toList();
-            final List<Integer> secondRound = captor.getAllValues().subList(3, 6).stream().map(Player::getTeamId).toList();
-            final List<Integer> thirdRound = captor.getAllValues().subList(6, 9).stream().map(Player::getTeamId).toList();
+            final List<Integer> firstRound = playersCaptor.getValue().subList(0, 3).stream().map(Player::getTeamId).toList();
+            final List<Integer> secondRound = playersCaptor.getValue().subList(3, 6).stream().map(Player::getTeamId).toList();
+            final List<Integer> thirdRound = playersCaptor.getValue().subList(6, 9).stream().map(Player::getTeamId).toList();
 
             assertEquals(firstRound.get(0), secondRound.get(2));
             assertEquals(firstRound.get(1), secondRound.get(1));
@@ -637,18 +752,17 @@ class LeagueServiceTest {
                     .build();
 
             when(teamService.generateTeams(any())).thenReturn(Collections.singletonList(team));
-            when(managerService.generateManagers(any(), any())).thenReturn(Collections.singletonList(manager));
-            when(playerService.generatePlayers(any(), any())).thenReturn(List.of(lowRatedPlayer, highRatedPlayer));
+            when(managerService.generateManagers(any(), any(), any())).thenReturn(Collections.singletonList(manager));
+            when(playerService.generatePlayers(any(), any(), any())).thenReturn(List.of(lowRatedPlayer, highRatedPlayer));
             when(leagueConfiguration.getPlayersPerTeam()).thenReturn(1);
 
             leagueService.generateNewLeague();
 
-            verify(playerService).updatePlayer(highRatedPlayer);
+            verify(playerService).updatePlayers(List.of(highRatedPlayer));
         }
 
         @Test
         void shouldAssignPlayersInOrderFromHighestRatedToLowestRatedAcrossTeams() throws NATCException {
-            final ArgumentCaptor<Player> captor = ArgumentCaptor.forClass(Player.class);
             final List<Team> teamList = List.of(
                     Team.builder().teamId(1).allstarTeam(0).build(),
                     Team.builder().teamId(2).allstarTeam(0).build(),
@@ -681,24 +795,25 @@ class LeagueServiceTest {
             Collections.shuffle(playerList);
 
             when(teamService.generateTeams(any())).thenReturn(teamList);
-            when(managerService.generateManagers(any(), any())).thenReturn(managerList);
-            when(playerService.generatePlayers(any(), any())).thenReturn(playerList);
+            when(managerService.generateManagers(any(), any(), any())).thenReturn(managerList);
+            when(playerService.generatePlayers(any(), any(), any())).thenReturn(playerList);
             when(leagueConfiguration.getPlayersPerTeam()).thenReturn(1);
 
             leagueService.generateNewLeague();
 
-            verify(playerService, times(teamList.size())).updatePlayer(captor.capture());
+            verify(playerService).updatePlayers(playersCaptor.capture());
+
+            assertEquals(teamList.size(), playersCaptor.getValue().size());
 
-            assertEquals(201, captor.getAllValues().get(0).getPlayerId());
-            assertEquals(202, captor.getAllValues().get(1).getPlayerId());
-            assertEquals(203, captor.getAllValues().get(2).getPlayerId());
-            assertEquals(204, captor.getAllValues().get(3).getPlayerId());
-            assertEquals(205, captor.getAllValues().get(4).getPlayerId());
+            assertEquals(201, playersCaptor.getValue().get(0).getPlayerId());
+            assertEquals(202, playersCaptor.getValue().get(1).getPlayerId());
+            assertEquals(203, playersCaptor.getValue().get(2).getPlayerId());
+            assertEquals(204, playersCaptor.getValue().get(3).getPlayerId());
+            assertEquals(205, playersCaptor.getValue().get(4).getPlayerId());
         }
 
         @Test
         void shouldAssignPlayersInOrderFromHighestRatedToLowestRatedForATeam() throws NATCException {
-            final ArgumentCaptor<Player> captor = ArgumentCaptor.forClass(Player.class);
             final List<Team> teamList = Collections.singletonList(
                     Team.builder().teamId(1).allstarTeam(0).build()
             );
@@ -723,19 +838,21 @@ class LeagueServiceTest {
             Collections.shuffle(playerList);
 
             when(teamService.generateTeams(any())).thenReturn(teamList);
-            when(managerService.generateManagers(any(), any())).thenReturn(managerList);
-            when(playerService.generatePlayers(any(), any())).thenReturn(playerList);
+            when(managerService.generateManagers(any(), any(), any())).thenReturn(managerList);
+            when(playerService.generatePlayers(any(), any(), any())).thenReturn(playerList);
             when(leagueConfiguration.getPlayersPerTeam()).thenReturn(5);
 
             leagueService.generateNewLeague();
 
-            verify(playerService, times(playerList.size())).updatePlayer(captor.capture());
+            verify(playerService).updatePlayers(playersCaptor.capture());
 
-            assertEquals(201, captor.getAllValues().get(0).getPlayerId());
-            assertEquals(202, captor.getAllValues().get(1).getPlayerId());
-            assertEquals(203, captor.getAllValues().get(2).getPlayerId());
-            assertEquals(204, captor.getAllValues().get(3).getPlayerId());
-            assertEquals(205, captor.getAllValues().get(4).getPlayerId());
+            assertEquals(playerList.size(), playersCaptor.getValue().size());
+
+            assertEquals(201, playersCaptor.getValue().get(0).getPlayerId());
+            assertEquals(202, playersCaptor.getValue().get(1).getPlayerId());
+            assertEquals(203, playersCaptor.getValue().get(2).getPlayerId());
+            assertEquals(204, playersCaptor.getValue().get(3).getPlayerId());
+            assertEquals(205, playersCaptor.getValue().get(4).getPlayerId());
         }
 
         @Test
@@ -752,13 +869,13 @@ class LeagueServiceTest {
                     .build();
 
             when(teamService.generateTeams(any())).thenReturn(Collections.singletonList(team));
-            when(managerService.generateManagers(any(), any())).thenReturn(Collections.singletonList(manager));
-            when(playerService.generatePlayers(any(), any())).thenReturn(List.of(lowRatedPlayer, highRatedPlayer));
+            when(managerService.generateManagers(any(), any(), any())).thenReturn(Collections.singletonList(manager));
+            when(playerService.generatePlayers(any(), any(), any())).thenReturn(List.of(lowRatedPlayer, highRatedPlayer));
             when(leagueConfiguration.getPlayersPerTeam()).thenReturn(1);
 
             leagueService.generateNewLeague();
 
-            verify(playerService).updatePlayer(highRatedPlayer);
+            verify(playerService).updatePlayers(List.of(highRatedPlayer));
         }
 
         @Test
@@ -775,13 +892,13 @@ class LeagueServiceTest {
                     .build();
 
             when(teamService.generateTeams(any())).thenReturn(Collections.singletonList(team));
-            when(managerService.generateManagers(any(), any())).thenReturn(Collections.singletonList(manager));
-            when(playerService.generatePlayers(any(), any())).thenReturn(List.of(lowRatedPlayer, highRatedPlayer));
+            when(managerService.generateManagers(any(), any(), any())).thenReturn(Collections.singletonList(manager));
+            when(playerService.generatePlayers(any(), any(), any())).thenReturn(List.of(lowRatedPlayer, highRatedPlayer));
             when(leagueConfiguration.getPlayersPerTeam()).thenReturn(1);
 
             leagueService.generateNewLeague();
 
-            verify(playerService).updatePlayer(highRatedPlayer);
+            verify(playerService).updatePlayers(List.of(highRatedPlayer));
         }
 
         @Test
@@ -798,13 +915,13 @@ class LeagueServiceTest {
                     .build();
 
             when(teamService.generateTeams(any())).thenReturn(Collections.singletonList(team));
-            when(managerService.generateManagers(any(), any())).thenReturn(Collections.singletonList(manager));
-            when(playerService.generatePlayers(any(), any())).thenReturn(List.of(lowRatedPlayer, highRatedPlayer));
+            when(managerService.generateManagers(any(), any(), any())).thenReturn(Collections.singletonList(manager));
+            when(playerService.generatePlayers(any(), any(), any())).thenReturn(List.of(lowRatedPlayer, highRatedPlayer));
             when(leagueConfiguration.getPlayersPerTeam()).thenReturn(1);
 
             leagueService.generateNewLeague();
 
-            verify(playerService).updatePlayer(highRatedPlayer);
+            verify(playerService).updatePlayers(List.of(highRatedPlayer));
         }
 
         @Test
@@ -821,13 +938,13 @@ class LeagueServiceTest {
                     .build();
 
             when(teamService.generateTeams(any())).thenReturn(Collections.singletonList(team));
-            when(managerService.generateManagers(any(), any())).thenReturn(Collections.singletonList(manager));
-            when(playerService.generatePlayers(any(), any())).thenReturn(List.of(lowRatedPlayer, highRatedPlayer));
+            when(managerService.generateManagers(any(), any(), any())).thenReturn(Collections.singletonList(manager));
+            when(playerService.generatePlayers(any(), any(), any())).thenReturn(List.of(lowRatedPlayer, highRatedPlayer));
             when(leagueConfiguration.getPlayersPerTeam()).thenReturn(1);
 
             leagueService.generateNewLeague();
 
-            verify(playerService).updatePlayer(highRatedPlayer);
+            verify(playerService).updatePlayers(List.of(highRatedPlayer));
         }
 
         @Test
@@ -844,19 +961,31 @@ class LeagueServiceTest {
                     .build();
 
             when(teamService.generateTeams(any())).thenReturn(Collections.singletonList(team));
-            when(managerService.generateManagers(any(), any())).thenReturn(Collections.singletonList(manager));
-            when(playerService.generatePlayers(any(), any())).thenReturn(List.of(lowRatedPlayer, highRatedPlayer));
+            when(managerService.generateManagers(any(), any(), any())).thenReturn(Collections.singletonList(manager));
+            when(playerService.generatePlayers(any(), any(), any())).thenReturn(List.of(lowRatedPlayer, highRatedPlayer));
             when(leagueConfiguration.getPlayersPerTeam()).thenReturn(1);
 
             leagueService.generateNewLeague();
 
-            verify(playerService).updatePlayer(highRatedPlayer);
+            verify(playerService).updatePlayers(List.of(highRatedPlayer));
         }
     }
 
     @Nested
     class UpdateLeagueForNewSeason {
 
+        @Test
+        void shouldCreateThePartitionsForTheNewYearBeforeCopyingTheLeague() {
+            leagueService.updateLeagueForNewSeason("2001", "2002");
+
+            final InOrder inOrder = inOrder(seasonPartitionRepository, teamService, managerService, playerService);
+
+            inOrder.verify(seasonPartitionRepository).createPartitionsForYear("2002");
+            inOrder.verify(teamService).updateTeamsForNewSeason("2001", "2002");
+            inOrder.verify(managerService).updateManagersForNewSeason("2001", "2002");
+            inOrder.verify(playerService).updatePlayersForNewSeason("2001", "2002");
+        }
+
         @Test
         void shouldCallTeamServiceToUpdateTeamsForNewSeason() {
             leagueService.updateLeagueForNewSeason(null, null);
@@ -11,14 +11,17 @@ import org.natc.app.entity.domain.Manager;
 import org.natc.app.entity.domain.ManagerStyle;
 import org.natc.app.entity.domain.Player;
 import org.natc.app.exception.NATCException;
+import org.natc.app.metrics.LeagueMetrics;
+import org.natc.app.repository.IdSequence;
 import org.natc.app.repository.ManagerRepository;
 import org.natc.app.service.analysis.ManagerAnalyzer;
 import org.springframework.data.domain.Example;
 
 import java.util.*;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,117 +39,106 @@ class ManagerServiceTest {
     @Mock
     private ManagerAnalyzer managerAnalyzer;
 
+    @Mock
+    private IdBlockAllocator idBlockAllocator;
+
+    @Mock
+    private LeagueMetrics leagueMetrics;
+
     @InjectMocks
     private ManagerService managerService;
 
+    private final SplittableRandom random = new SplittableRandom(1971);
+
     @Nested
     class GenerateManagers {
 
         @BeforeEach
         void setup() throws NATCException {
-            when(nameService.generateName()).thenReturn(FullName.builder().build());
+            when(nameService.generateNames(eq(random), anyInt()))
+                    .thenAnswer(invocation -> new ArrayList<>(Collections.nCopies(invocation.getArgument(1), FullName.builder().build())));
+            when(idBlockAllocator.allocate(eq(IdSequence.MANAGER), anyInt()))
+                    .thenAnswer(invocation -> IntStream.rangeClosed(1, invocation.getArgument(1)).boxed().toList());
         }
 
         @Test
         void shouldReturnAListOfManagersGenerated() throws NATCException {
-            final List<Manager> managerList = managerService.generateManagers(null, 1);
+            final List<Manager> managerList = managerService.generateManagers(random, null, 1);
 
             assertFalse(managerList.isEmpty());
         }
 
         @Test
         void shouldCreateTheGivenNumberOfManagers() throws NATCException {
-            final List<Manager> managerList = managerService.generateManagers(null, 10);
+            final List<Manager> managerList = managerService.generateManagers(random, null, 10);
 
             assertEquals(10, managerList.size());
         }
 
         @Test
         void shouldCreateManagersForTheGivenYear() throws NATCException {
-            final List<Manager> managerList = managerService.generateManagers("2017", 10);
+            final List<Manager> managerList = managerService.generateManagers(random, "2017", 10);
 
             assertEquals(1, managerList.stream().map(Manager::getYear).distinct().count());
             assertEquals("2017", managerList.getFirst().getYear());
         }
 
         @Test
-        void shouldCallManagerRepositoryToGetTheLastManagerId() throws NATCException {
-            managerService.generateManagers("2001", 1);
-
-            verify(managerRepository).findMaxManagerId();
-        }
-
-        @Test
-        void shouldSetTheManagerIdToTheNumberAfterTheMaxValueReturnedByRepository() throws NATCException {
-            when(managerRepository.findMaxManagerId()).thenReturn(Optional.of(27));
-
-            final List<Manager> managerList = managerService.generateManagers("2017", 1);
+        void shouldCallIdBlockAllocatorToGetAManagerIdForEveryManager() throws NATCException {
+            managerService.generateManagers(random, "2001", 10);
 
-            assertEquals(1, managerList.size());
-            assertEquals(28, managerList.getFirst().getManagerId());
+            verify(idBlockAllocator).allocate(IdSequence.MANAGER, 10);
         }
 
         @Test
-        void shouldSetTheManagerIdToOneIfNoValueIsFoundInTheRepository() throws NATCException {
-            when(managerRepository.findMaxManagerId()).thenReturn(Optional.empty());
-
-            final List<Manager> managerList = managerService.generateManagers("2017", 1);
-
-            assertEquals(1, managerList.size());
-            assertEquals(1, managerList.getFirst().getManagerId());
-        }
+        void shouldSetTheManagerIdsToTheValuesReturnedByTheIdBlockAllocator() throws NATCException {
+            when(idBlockAllocator.allocate(IdSequence.MANAGER, 3)).thenReturn(List.of(28, 29, 101));
 
-        @Test
-        void shouldOnlyGetTheMaxManagerIdOnceEvenWhenGeneratingMultipleManagers() throws NATCException {
-            managerService.generateManagers("2001", 10);
+            final List<Manager> managerList = managerService.generateManagers(random, "2017", 3);
 
-            verify(managerRepository, atMostOnce()).findMaxManagerId();
+            assertEquals(List.of(28, 29, 101), managerList.stream().map(Manager::getManagerId).toList());
         }
 
         @Test
         void shouldGenerateEveryManagerWithAManagerId() throws NATCException {
-            final List<Manager> managerList = managerService.generateManagers("2017", 10);
+            final List<Manager> managerList = managerService.generateManagers(random, "2017", 10);
 
             assertEquals(10, managerList.size());
             assertEquals(0, managerList.stream().filter(manager -> Objects.isNull(manager.getManagerId())).count());
         }
 
         @Test
-        void shouldGenerateManagersWithUniqueManagerIdsIncrementingFromMaxValueInRepository() throws NATCException {
-            when(managerRepository.findMaxManagerId()).thenReturn(Optional.of(27));
-
-            final List<Manager> managerList = managerService.generateManagers("2017", 5);
-
-            final List<Integer> expectedManagerIds = List.of(28, 29, 30, 31, 32);
+        void shouldGenerateManagersWithUniqueManagerIds() throws NATCException {
+            final List<Manager> managerList = managerService.generateManagers(random, "2017", 5);
 
-            assertEquals(5, managerList.size());
-            assertEquals(expectedManagerIds, managerList.stream().map(Manager::getManagerId).toList());
+            assertEquals(5, managerList.stream().map(Manager::getManagerId).distinct().count());
         }
 
         @Test
         void shouldCallNameServiceToGenerateANameForTheManager() throws NATCException {
-            managerService.generateManagers("2001", 1);
+            managerService.generateManagers(random, "2001", 1);
 
-            verify(nameService).generateName();
+            verify(nameService).generateNames(random, 1);
         }
 
         @Test
         void shouldGenerateANameForEveryManager() throws NATCException {
-            managerService.generateManagers("2001", 25);
+            managerService.generateManagers(random, "2001", 25);
 
-            verify(nameService, times(25)).generateName();
+            verify(nameService).generateNames(random, 25);
         }
 
         @Test
         void shouldSetTheNamesFromNameServiceOnTheGeneratedManagers() throws NATCException {
             reset(nameService);
 
-            when(nameService.generateName())
-                    .thenReturn(FullName.builder().firstName("James").lastName("Smith").build())
-                    .thenReturn(FullName.builder().firstName("John").lastName("Johnson").build())
-                    .thenReturn(FullName.builder().firstName("Robert").lastName("Williams").build());
+            when(nameService.generateNames(random, 3)).thenReturn(List.of(
+                    FullName.builder().firstName("James").lastName("Smith").build(),
+                    FullName.builder().firstName("John").lastName("Johnson").build(),
+                    FullName.builder().firstName("Robert").lastName("Williams").build()
+            ));
 
-            final List<Manager> managerList = managerService.generateManagers("2001", 3);
+            final List<Manager> managerList = managerService.generateManagers(random, "2001", 3);
 
             assertEquals(3, managerList.size());
 
@@ -162,7 +154,7 @@ class ManagerServiceTest {
 
         @Test
         void shouldGenerateManagersBetweenFortyAndFiftyYearsOld() throws NATCException {
-            final List<Manager> managerList = managerService.generateManagers("2001", 100);
+            final List<Manager> managerList = managerService.generateManagers(random, "2001", 100);
 
             assertEquals(100, managerList.size());
             assertEquals(100, managerList.stream()
@@ -171,7 +163,7 @@ class ManagerServiceTest {
 
         @Test
         void shouldGenerateManagersWithARandomAge() throws NATCException {
-            final List<Manager> managerList = managerService.generateManagers("2001", 100);
+            final List<Manager> managerList = managerService.generateManagers(random, "2001", 100);
 
             assertEquals(100, managerList.size());
             assertEquals(10, managerList.stream().map(Manager::getAge).distinct().count());
@@ -179,7 +171,7 @@ class ManagerServiceTest {
 
         @Test
         void shouldInitializeNewHireReleasedAndRetiredFlags() throws NATCException {
-            final List<Manager> managerList = managerService.generateManagers("2001", 1);
+            final List<Manager> managerList = managerService.generateManagers(random, "2001", 1);
 
             assertEquals(1, managerList.size());
 
@@ -192,7 +184,7 @@ class ManagerServiceTest {
 
         @Test
         void shouldInitializeSeasonsCountersToZero() throws NATCException {
-            final List<Manager> managerList = managerService.generateManagers("2001", 1);
+            final List<Manager> managerList = managerService.generateManagers(random, "2001", 1);
 
             assertEquals(1, managerList.size());
 
@@ -204,7 +196,7 @@ class ManagerServiceTest {
 
         @Test
         void shouldInitializeScoreAccumulatorsToZero() throws NATCException {
-            final List<Manager> managerList = managerService.generateManagers("2001", 1);
+            final List<Manager> managerList = managerService.generateManagers(random, "2001", 1);
 
             assertEquals(1, managerList.size());
 
@@ -216,7 +208,7 @@ class ManagerServiceTest {
 
         @Test
         void shouldSetManagerRatingsToRandomValueBetweenZeroAndOne() throws NATCException {
-            final List<Manager> managerList = managerService.generateManagers("2001", 1);
+            final List<Manager> managerList = managerService.generateManagers(random, "2001", 1);
 
             assertEquals(1, managerList.size());
 
@@ -231,7 +223,7 @@ class ManagerServiceTest {
 
         @Test
         void shouldCallManagerAnalyzerToGetTheAppropriateManagerStyle() throws NATCException {
-            managerService.generateManagers("2001", 1);
+            managerService.generateManagers(random, "2001", 1);
 
             verify(managerAnalyzer).determineManagerStyle(any(Manager.class));
         }
@@ -240,7 +232,7 @@ class ManagerServiceTest {
         void shouldPassTheGeneratedManagerToTheManagerAnalyzer() throws NATCException {
             final ArgumentCaptor<Manager> captor = ArgumentCaptor.forClass(Manager.class);
 
-            final List<Manager> managerList = managerService.generateManagers("2001", 1);
+            final List<Manager> managerList = managerService.generateManagers(random, "2001", 1);
 
             verify(managerAnalyzer).determineManagerStyle(captor.capture());
 
@@ -256,7 +248,7 @@ class ManagerServiceTest {
         void shouldSetTheManagerStyleWithTheValueReturnedFromTheManagerAnalyzer() throws NATCException {
             when(managerAnalyzer.determineManagerStyle(any())).thenReturn(ManagerStyle.DEFENSIVE);
 
-            final List<Manager> managerList = managerService.generateManagers("2001", 1);
+            final List<Manager> managerList = managerService.generateManagers(random, "2001", 1);
 
             assertEquals(1, managerList.size());
 
@@ -272,7 +264,7 @@ class ManagerServiceTest {
                     .thenReturn(ManagerStyle.PENALTIES)
                     .thenReturn(ManagerStyle.BALANCED);
 
-            final List<Manager> managerList = managerService.generateManagers("2001", 5);
+            final List<Manager> managerList = managerService.generateManagers(random, "2001", 5);
 
             assertEquals(5, managerList.size());
 
@@ -282,33 +274,25 @@ class ManagerServiceTest {
         }
 
         @Test
-        void shouldCallManagerRepositoryToPersistGeneratedManager() throws NATCException {
-            managerService.generateManagers("2001", 1);
+        void shouldCallManagerRepositoryToPersistGeneratedManagers() throws NATCException {
+            managerService.generateManagers(random, "2001", 1);
 
-            verify(managerRepository).save(any(Manager.class));
+            verify(managerRepository).insertAll(anyList());
         }
 
         @Test
-        void shouldCallManagerRepositoryWithGeneratedManager() throws NATCException {
-            final ArgumentCaptor<Manager> captor = ArgumentCaptor.forClass(Manager.class);
-
-            final List<Manager> managerList = managerService.generateManagers("2001", 1);
-
-            verify(managerRepository).save(captor.capture());
-
-            assertEquals(1, managerList.size());
+        void shouldCallManagerRepositoryWithGeneratedManagers() throws NATCException {
+            final List<Manager> managerList = managerService.generateManagers(random, "2001", 10);
 
-            final Manager expectedManager = managerList.getFirst();
-            final Manager actualManager = captor.getValue();
-
-            assertEquals(expectedManager, actualManager);
+            verify(managerRepository).insertAll(managerList);
         }
 
         @Test
-        void shouldCallManagerRepositoryForEveryManagerGenerated() throws NATCException {
-            managerService.generateManagers("2001", 10);
+        void shouldPersistAllGeneratedManagersInASingleCall() throws NATCException {
+            managerService.generateManagers(random, "2001", 10);
 
-            verify(managerRepository, times(10)).save(any(Manager.class));
+            verify(managerRepository, times(1)).insertAll(anyList());
+            verify(managerRepository, never()).save(any(Manager.class));
         }
     }
 
@@ -319,7 +303,7 @@ class ManagerServiceTest {
         void shouldGenerateAManagerForTheGivenYear() {
             final Player player = Player.builder().playerId(1).year("2006").age(35).build();
 
-            final Manager manager = managerService.generateManagerFromPlayer("2016", player);
+            final Manager manager = managerService.generateManagerFromPlayer(random, "2016", player);
 
             assertEquals("2016", manager.getYear());
         }
@@ -328,7 +312,7 @@ class ManagerServiceTest {
         void shouldReturnAManagerWithTheSameNameAsThePlayer() {
             final Player player = Player.builder().playerId(1).year("2006").age(35).firstName("Ralph").lastName("Johnson").build();
 
-            final Manager manager = managerService.generateManagerFromPlayer("2016", player);
+            final Manager manager = managerService.generateManagerFromPlayer(random, "2016", player);
 
             assertEquals(player.getFirstName(), manager.getFirstName());
             assertEquals(player.getLastName(), manager.getLastName());
@@ -338,7 +322,7 @@ class ManagerServiceTest {
         void shouldReturnAManagerWithTheSameAgeAsThePlayerWouldBeInCurrentYear() {
             final Player player = Player.builder().playerId(1).year("2006").age(32).build();
 
-            final Manager manager = managerService.generateManagerFromPlayer("2016", player);
+            final Manager manager = managerService.generateManagerFromPlayer(random, "2016", player);
 
             assertEquals(42, manager.getAge());
         }
@@ -364,7 +348,7 @@ class ManagerServiceTest {
                     .vitality(1.313)
                     .build();
 
-            final Manager manager = managerService.generateManagerFromPlayer("2016", player);
+            final Manager manager = managerService.generateManagerFromPlayer(random, "2016", player);
 
             assertEquals(player.getOffensiveRating(), manager.getOffense());
             assertEquals(player.getDefensiveRating(), manager.getDefense());
@@ -377,47 +361,36 @@ class ManagerServiceTest {
         void shouldReturnAManagerWithPlayerIdOfGivenPlayer() {
             final Player player = Player.builder().playerId(15243).year("2006").age(32).build();
 
-            final Manager manager = managerService.generateManagerFromPlayer("2016", player);
+            final Manager manager = managerService.generateManagerFromPlayer(random, "2016", player);
 
             assertEquals(player.getPlayerId(), manager.getPlayerId());
         }
 
         @Test
-        void shouldCallManagerRepositoryToGetTheLastManagerId() throws NATCException {
+        void shouldCallIdBlockAllocatorToGetTheManagerId() throws NATCException {
             final Player player = Player.builder().playerId(1).year("2006").age(32).build();
 
-            managerService.generateManagerFromPlayer("2016", player);
+            managerService.generateManagerFromPlayer(random, "2016", player);
 
-            verify(managerRepository).findMaxManagerId();
+            verify(idBlockAllocator).next(IdSequence.MANAGER);
         }
 
         @Test
-        void shouldSetTheManagerIdToTheNumberAfterTheMaxValueReturnedByRepository() throws NATCException {
-            when(managerRepository.findMaxManagerId()).thenReturn(Optional.of(27));
+        void shouldSetTheManagerIdToTheValueReturnedByTheIdBlockAllocator() throws NATCException {
+            when(idBlockAllocator.next(IdSequence.MANAGER)).thenReturn(28);
 
             final Player player = Player.builder().playerId(1).year("2006").age(32).build();
 
-            final Manager manager = managerService.generateManagerFromPlayer("2016", player);
+            final Manager manager = managerService.generateManagerFromPlayer(random, "2016", player);
 
             assertEquals(28, manager.getManagerId());
         }
 
-        @Test
-        void shouldSetTheManagerIdToOneIfNoValueIsFoundInTheRepository() throws NATCException {
-            when(managerRepository.findMaxManagerId()).thenReturn(Optional.empty());
-
-            final Player player = Player.builder().playerId(1).year("2006").age(32).build();
-
-            final Manager manager = managerService.generateManagerFromPlayer("2016", player);
-
-            assertEquals(1, manager.getManagerId());
-        }
-
         @Test
         void shouldCallManagerAnalyzerToGetTheAppropriateManagerStyle() throws NATCException {
             final Player player = Player.builder().playerId(1).year("2006").age(32).build();
 
-            managerService.generateManagerFromPlayer("2016", player);
+            managerService.generateManagerFromPlayer(random, "2016", player);
 
             verify(managerAnalyzer).determineManagerStyle(any(Manager.class));
         }
@@ -428,7 +401,7 @@ class ManagerServiceTest {
 
             final Player player = Player.builder().playerId(1).year("2006").age(32).build();
 
-            final Manager expectedManager = managerService.generateManagerFromPlayer("2016", player);
+            final Manager expectedManager = managerService.generateManagerFromPlayer(random, "2016", player);
 
             verify(managerAnalyzer).determineManagerStyle(captor.capture());
 
@@ -443,7 +416,7 @@ class ManagerServiceTest {
 
             final Player player = Player.builder().playerId(1).year("2006").age(32).build();
 
-            final Manager manager = managerService.generateManagerFromPlayer("2016", player);
+            final Manager manager = managerService.generateManagerFromPlayer(random, "2016", player);
 
             assertEquals(ManagerStyle.DEFENSIVE.getValue(), manager.getStyle());
         }
@@ -452,7 +425,7 @@ class ManagerServiceTest {
         void shouldCallManagerRepositoryToPersistGeneratedManager() throws NATCException {
             final Player player = Player.builder().playerId(1).year("2006").age(32).build();
 
-            managerService.generateManagerFromPlayer("2016", player);
+            managerService.generateManagerFromPlayer(random, "2016", player);
 
             verify(managerRepository).save(any(Manager.class));
         }
@@ -463,7 +436,7 @@ class ManagerServiceTest {
 
             final Player player = Player.builder().playerId(1).year("2006").age(32).build();
 
-            final Manager expectedManager = managerService.generateManagerFromPlayer("2016", player);
+            final Manager expectedManager = managerService.generateManagerFromPlayer(random, "2016", player);
 
             verify(managerRepository).save(captor.capture());
 
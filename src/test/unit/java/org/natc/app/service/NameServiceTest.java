@@ -8,33 +8,23 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.natc.app.entity.domain.*;
 import org.natc.app.exception.NATCException;
 import org.natc.app.exception.NameGenerationException;
-import org.natc.app.repository.FirstNameRepository;
-import org.natc.app.repository.LastNameRepository;
+import org.natc.app.random.WeightedNameSampler;
 import org.natc.app.repository.ManagerRepository;
 import org.natc.app.repository.PlayerRepository;
 import org.springframework.data.domain.Example;
 
-import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.SplittableRandom;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class NameServiceTest {
 
-    @Captor
-    private ArgumentCaptor<Example<Manager>> managerCaptor;
-
-    @Captor
-    private ArgumentCaptor<Example<Player>> playerCaptor;
-
-    @Mock
-    private FirstNameRepository firstNameRepository;
-
     @Mock
-    private LastNameRepository lastNameRepository;
+    private WeightedNameSampler weightedNameSampler;
 
     @Mock
     private ManagerRepository managerRepository;
@@ -45,128 +35,139 @@ class NameServiceTest {
     @InjectMocks
     private NameService nameService;
 
-    @Nested
-    class GenerateName {
-
-        @Test
-        void shouldCallFirstNameRepositoryToGetRandomFirstName() throws NATCException {
-            when(firstNameRepository.findRandomName()).thenReturn(Optional.of(FirstName.builder().build()));
-            when(lastNameRepository.findRandomName()).thenReturn(Optional.of(LastName.builder().build()));
+    private final SplittableRandom random = new SplittableRandom(1971);
 
-            nameService.generateName();
-
-            verify(firstNameRepository).findRandomName();
-        }
+    @Nested
+    class GenerateNames {
 
         @Test
-        void shouldCallLastNameRepositoryToGetRandomLastName() throws NATCException {
-            when(firstNameRepository.findRandomName()).thenReturn(Optional.of(FirstName.builder().build()));
-            when(lastNameRepository.findRandomName()).thenReturn(Optional.of(LastName.builder().build()));
+        void shouldReturnAnEmptyListWithoutSamplingWhenCountIsZero() throws NATCException {
+            final List<FullName> fullNames = nameService.generateNames(random, 0);
 
-            nameService.generateName();
+            assertTrue(fullNames.isEmpty());
 
-            verify(lastNameRepository).findRandomName();
+            verifyNoInteractions(weightedNameSampler, managerRepository, playerRepository);
         }
 
         @Test
-        void shouldReturnAFullName() throws NATCException {
-            final FirstName expectedFirstName = FirstName.builder().name("Isaac").build();
-            final LastName expectedLastName = LastName.builder().name("Jacobs").build();
+        void shouldDrawAFirstAndLastNameFromTheSamplerForEveryNameGenerated() throws NATCException {
+            when(weightedNameSampler.getFirstNameCount()).thenReturn(2);
+            when(weightedNameSampler.getLastNameCount()).thenReturn(2);
+            when(weightedNameSampler.drawFirstName(random)).thenReturn(Optional.of("James"), Optional.of("Thomas"));
+            when(weightedNameSampler.drawLastName(random)).thenReturn(Optional.of("Smith"));
 
-            when(firstNameRepository.findRandomName()).thenReturn(Optional.of(expectedFirstName));
-            when(lastNameRepository.findRandomName()).thenReturn(Optional.of(expectedLastName));
+            final List<FullName> fullNames = nameService.generateNames(random, 2);
 
-            final FullName fullName = nameService.generateName();
+            assertEquals(2, fullNames.size());
 
-            assertEquals(expectedFirstName.getName(), fullName.getFirstName());
-            assertEquals(expectedLastName.getName(), fullName.getLastName());
+            verify(weightedNameSampler, times(2)).drawFirstName(random);
+            verify(weightedNameSampler, times(2)).drawLastName(random);
         }
 
         @Test
-        void shouldThrowNameGenerationExceptionIfFirstNameCannotBeFound() {
-            when(firstNameRepository.findRandomName()).thenReturn(Optional.empty());
-
-            assertThrows(NameGenerationException.class, () -> nameService.generateName());
+        void shouldLoadExistingNamesOnlyOnceRegardlessOfCount() throws NATCException {
+            when(weightedNameSampler.getFirstNameCount()).thenReturn(2);
+            when(weightedNameSampler.getLastNameCount()).thenReturn(2);
+            when(weightedNameSampler.drawFirstName(random)).thenReturn(Optional.of("James"), Optional.of("James"), Optional.of("Thomas"), Optional.of("Thomas"));
+            when(weightedNameSampler.drawLastName(random)).thenReturn(Optional.of("Smith"), Optional.of("Taylor"));
+
+            nameService.generateNames(random, 4);
+
+            verify(managerRepository).findAllFullNames();
+            verify(playerRepository).findAllFullNames();
+            verify(managerRepository, never()).findAll(ArgumentMatchers.<Example<Manager>>any());
+            verify(playerRepository, never()).findAll(ArgumentMatchers.<Example<Player>>any());
         }
 
         @Test
-        void shouldThrowNameGenerationExceptionIfLastNameCannotBeFound() {
-            when(firstNameRepository.findRandomName()).thenReturn(Optional.of(FirstName.builder().build()));
-            when(lastNameRepository.findRandomName()).thenReturn(Optional.empty());
-
-            assertThrows(NameGenerationException.class, () -> nameService.generateName());
+        void shouldReturnTheNamesDrawnFromTheSampler() throws NATCException {
+            when(weightedNameSampler.getFirstNameCount()).thenReturn(2);
+            when(weightedNameSampler.getLastNameCount()).thenReturn(2);
+            when(weightedNameSampler.drawFirstName(random)).thenReturn(Optional.of("James"), Optional.of("Thomas"));
+            when(weightedNameSampler.drawLastName(random)).thenReturn(Optional.of("Smith"), Optional.of("Taylor"));
+
+            final List<FullName> fullNames = nameService.generateNames(random, 2);
+
+            assertEquals(
+                    List.of(
+                            FullName.builder().firstName("James").lastName("Smith").build(),
+                            FullName.builder().firstName("Thomas").lastName("Taylor").build()
+                    ),
+                    fullNames
+            );
         }
 
         @Test
-        void shouldCallManagerRepositoryToFindExistingManagerWithSameNameGenerated() throws NATCException {
-            final FirstName expectedFirstName = FirstName.builder().name("Isaac").build();
-            final LastName expectedLastName = LastName.builder().name("Jacobs").build();
-
-            when(firstNameRepository.findRandomName()).thenReturn(Optional.of(expectedFirstName));
-            when(lastNameRepository.findRandomName()).thenReturn(Optional.of(expectedLastName));
+        void shouldDrawAgainIfTheSameNameIsDrawnTwiceInTheBatch() throws NATCException {
+            when(weightedNameSampler.getFirstNameCount()).thenReturn(2);
+            when(weightedNameSampler.getLastNameCount()).thenReturn(2);
+            when(weightedNameSampler.drawFirstName(random)).thenReturn(Optional.of("James"), Optional.of("James"), Optional.of("Thomas"));
+            when(weightedNameSampler.drawLastName(random)).thenReturn(Optional.of("Smith"));
 
-            nameService.generateName();
+            final List<FullName> fullNames = nameService.generateNames(random, 2);
 
-            verify(managerRepository).findAll(managerCaptor.capture());
+            assertEquals(2, fullNames.size());
+            assertEquals(2, fullNames.stream().distinct().count());
 
-            final Manager manager = managerCaptor.getValue().getProbe();
-
-            assertEquals(expectedFirstName.getName(), manager.getFirstName());
-            assertEquals(expectedLastName.getName(), manager.getLastName());
+            verify(weightedNameSampler, times(3)).drawFirstName(random);
         }
 
         @Test
-        void shouldCallPlayerRepositoryToFindExistingPlayerWithSameNameGenerated() throws NATCException {
-            final FirstName expectedFirstName = FirstName.builder().name("Isaac").build();
-            final LastName expectedLastName = LastName.builder().name("Jacobs").build();
-
-            when(firstNameRepository.findRandomName()).thenReturn(Optional.of(expectedFirstName));
-            when(lastNameRepository.findRandomName()).thenReturn(Optional.of(expectedLastName));
-
-            nameService.generateName();
-
-            verify(playerRepository).findAll(playerCaptor.capture());
-
-            final Player player = playerCaptor.getValue().getProbe();
-
-            assertEquals(expectedFirstName.getName(), player.getFirstName());
-            assertEquals(expectedLastName.getName(), player.getLastName());
+        void shouldNotReturnNamesThatAlreadyExistAsManagersOrPlayers() throws NATCException {
+            when(weightedNameSampler.getFirstNameCount()).thenReturn(2);
+            when(weightedNameSampler.getLastNameCount()).thenReturn(2);
+            when(weightedNameSampler.drawFirstName(random)).thenReturn(Optional.of("James"), Optional.of("James"), Optional.of("Thomas"), Optional.of("Thomas"));
+            when(weightedNameSampler.drawLastName(random)).thenReturn(Optional.of("Smith"), Optional.of("Taylor"), Optional.of("Smith"), Optional.of("Taylor"));
+            when(managerRepository.findAllFullNames()).thenReturn(List.of(
+                    FullName.builder().firstName("James").lastName("Smith").build()
+            ));
+            when(playerRepository.findAllFullNames()).thenReturn(List.of(
+                    FullName.builder().firstName("James").lastName("Taylor").build(),
+                    FullName.builder().firstName("Thomas").lastName("Smith").build()
+            ));
+
+            final List<FullName> fullNames = nameService.generateNames(random, 1);
+
+            assertEquals(1, fullNames.size());
+            assertEquals("Thomas", fullNames.getFirst().getFirstName());
+            assertEquals("Taylor", fullNames.getFirst().getLastName());
         }
 
         @Test
-        void shouldRegenerateNameIfManagerIsFoundWithTheSameName() throws NATCException {
-            final FirstName expectedFirstName = FirstName.builder().name("Isaac").build();
-            final LastName expectedLastName = LastName.builder().name("Jacobs").build();
-
-            when(firstNameRepository.findRandomName()).thenReturn(Optional.of(expectedFirstName));
-            when(lastNameRepository.findRandomName()).thenReturn(Optional.of(expectedLastName));
+        void shouldThrowNameGenerationExceptionIfThereAreNoFirstNames() {
+            when(weightedNameSampler.getFirstNameCount()).thenReturn(0);
+            when(weightedNameSampler.getLastNameCount()).thenReturn(1);
 
-            when(managerRepository.findAll(ArgumentMatchers.<Example<Manager>>any()))
-                    .thenReturn(Collections.singletonList(Manager.builder().build()))
-                    .thenReturn(Collections.emptyList());
-
-            nameService.generateName();
-
-            verify(firstNameRepository, times(2)).findRandomName();
-            verify(lastNameRepository, times(2)).findRandomName();
+            assertThrows(NameGenerationException.class, () -> nameService.generateNames(random, 1));
         }
 
         @Test
-        void shouldRegenerateNameIfPlayerIsFoundWithTheSameName() throws NATCException {
-            final FirstName expectedFirstName = FirstName.builder().name("Isaac").build();
-            final LastName expectedLastName = LastName.builder().name("Jacobs").build();
+        void shouldThrowNameGenerationExceptionIfThereAreNoLastNames() {
+            when(weightedNameSampler.getFirstNameCount()).thenReturn(1);
+            when(weightedNameSampler.getLastNameCount()).thenReturn(0);
 
-            when(firstNameRepository.findRandomName()).thenReturn(Optional.of(expectedFirstName));
-            when(lastNameRepository.findRandomName()).thenReturn(Optional.of(expectedLastName));
+            assertThrows(NameGenerationException.class, () -> nameService.generateNames(random, 1));
+        }
 
-            when(playerRepository.findAll(ArgumentMatchers.<Example<Player>>any()))
-                    .thenReturn(Collections.singletonList(Player.builder().build()))
-                    .thenReturn(Collections.emptyList());
+        @Test
+        void shouldThrowNameGenerationExceptionIfMoreNamesAreRequestedThanCombinationsAvailable() {
+            when(weightedNameSampler.getFirstNameCount()).thenReturn(1);
+            when(weightedNameSampler.getLastNameCount()).thenReturn(1);
 
-            nameService.generateName();
+            assertThrows(NameGenerationException.class, () -> nameService.generateNames(random, 2));
+        }
 
-            verify(firstNameRepository, times(2)).findRandomName();
-            verify(lastNameRepository, times(2)).findRandomName();
+        @Test
+        void shouldThrowNameGenerationExceptionIfAllCombinationsAreAlreadyTaken() {
+            when(weightedNameSampler.getFirstNameCount()).thenReturn(1);
+            when(weightedNameSampler.getLastNameCount()).thenReturn(1);
+            when(weightedNameSampler.drawFirstName(random)).thenReturn(Optional.of("James"));
+            when(weightedNameSampler.drawLastName(random)).thenReturn(Optional.of("Smith"));
+            when(playerRepository.findAllFullNames()).thenReturn(List.of(
+                    FullName.builder().firstName("James").lastName("Smith").build()
+            ));
+
+            assertThrows(NameGenerationException.class, () -> nameService.generateNames(random, 1));
         }
     }
-}
\ No newline at end of file
+}
@@ -10,10 +10,13 @@ import org.natc.app.configuration.LeagueConfiguration;
 import org.natc.app.entity.domain.FullName;
 import org.natc.app.entity.domain.Player;
 import org.natc.app.exception.NATCException;
+import org.natc.app.metrics.LeagueMetrics;
+import org.natc.app.repository.IdSequence;
 import org.natc.app.repository.PlayerRepository;
 import org.springframework.data.domain.Example;
 
 import java.util.*;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -34,117 +37,113 @@ class PlayerServiceTest {
     @Mock
     private NameService nameService;
 
+    @Mock
+    private IdBlockAllocator idBlockAllocator;
+
+    @Mock
+    private LeagueMetrics leagueMetrics;
+
     @InjectMocks
     private PlayerService playerService;
 
+    private final SplittableRandom random = new SplittableRandom(1971);
+
     @Nested
     class GeneratePlayers {
 
         @BeforeEach
         void setup() throws NATCException {
-            when(nameService.generateName()).thenReturn(FullName.builder().build());
+            when(nameService.generateNames(eq(random), anyInt()))
+                    .thenAnswer(invocation -> new ArrayList<>(Collections.nCopies(invocation.getArgument(1), FullName.builder().build())));
+            when(idBlockAllocator.allocate(eq(IdSequence.PLAYER), anyInt()))
+                    .thenAnswer(invocation -> IntStream.rangeClosed(1, invocation.getArgument(1)).boxed().toList());
         }
 
         @Test
         void shouldReturnAListOfPlayersGenerated() throws NATCException {
-            final List<Player> playerList = playerService.generatePlayers(null, 1);
+            final List<Player> playerList = playerService.generatePlayers(random, null, 1);
 
             assertFalse(playerList.isEmpty());
         }
 
         @Test
         void shouldCreateTheGivenNumberOfPlayers() throws NATCException {
-            final List<Player> playerList = playerService.generatePlayers(null, 10);
+            final List<Player> playerList = playerService.generatePlayers(random, null, 10);
 
             assertEquals(10, playerList.size());
         }
 
         @Test
         void shouldCreatePlayersForTheGivenYear() throws NATCException {
-            final List<Player> playerList = playerService.generatePlayers("1995", 10);
+            final List<Player> playerList = playerService.generatePlayers(random, "1995", 10);
 
             assertEquals(1, playerList.stream().map(Player::getYear).distinct().count());
             assertEquals("1995", playerList.getFirst().getYear());
         }
 
         @Test
-        void shouldCallPlayerRepositoryToGetTheLastPlayerId() throws NATCException {
-            playerService.generatePlayers("2001", 10);
+        void shouldCallIdBlockAllocatorToGetAPlayerIdForEveryPlayer() throws NATCException {
+            playerService.generatePlayers(random, "2001", 10);
 
-            verify(playerRepository).findMaxPlayerId();
+            verify(idBlockAllocator).allocate(IdSequence.PLAYER, 10);
         }
 
         @Test
-        void shouldSetThePlayerIdToTheNumberAfterTheMaxValueReturnedByRepository() throws NATCException {
-            when(playerRepository.findMaxPlayerId()).thenReturn(Optional.of(123));
+        void shouldRecordTheNumberOfPlayersGeneratedWithLeagueMetrics() throws NATCException {
+            playerService.generatePlayers(random, "2001", 10);
 
-            final List<Player> playerList = playerService.generatePlayers("1995", 1);
-
-            assertEquals(1, playerList.size());
-            assertEquals(124, playerList.getFirst().getPlayerId());
+            verify(leagueMetrics).recordPlayers(LeagueMetrics.LeagueEvent.GENERATED, 10);
         }
 
         @Test
-        void shouldSetThePlayerIdToOneIfNoValueIsFoundInTheRepository() throws NATCException {
-            when(playerRepository.findMaxPlayerId()).thenReturn(Optional.empty());
+        void shouldSetThePlayerIdsToTheValuesReturnedByTheIdBlockAllocator() throws NATCException {
+            when(idBlockAllocator.allocate(IdSequence.PLAYER, 3)).thenReturn(List.of(124, 125, 201));
 
-            final List<Player> playerList = playerService.generatePlayers("1995", 1);
+            final List<Player> playerList = playerService.generatePlayers(random, "1995", 3);
 
-            assertEquals(1, playerList.size());
-            assertEquals(1, playerList.getFirst().getPlayerId());
-        }
-
-        @Test
-        void shouldOnlyGetTheMaxPlayerIdOnceEvenWhenGeneratingMultiplePlayers() throws NATCException {
-            playerService.generatePlayers("2001", 10);
-
-            verify(playerRepository, atMostOnce()).findMaxPlayerId();
+            assertEquals(List.of(124, 125, 201), playerList.stream().map(Player::getPlayerId).toList());
         }
 
         @Test
         void shouldGenerateEveryPlayerWithAPlayerId() throws NATCException {
-            final List<Player> playerList = playerService.generatePlayers("1995", 10);
+            final List<Player> playerList = playerService.generatePlayers(random, "1995", 10);
 
             assertEquals(10, playerList.size());
             assertEquals(0, playerList.stream().filter(player -> Objects.isNull(player.getPlayerId())).count());
         }
 
         @Test
-        void shouldGeneratePlayersWithUniquePlayerIdsIncrementingFromMaxValueInRepository() throws NATCException {
-            when(playerRepository.findMaxPlayerId()).thenReturn(Optional.of(123));
-
-            final List<Player> playerList = playerService.generatePlayers("1995", 5);
+        void shouldGeneratePlayersWithUniquePlayerIds() throws NATCException {
+            final List<Player> playerList = playerService.generatePlayers(random, "1995", 5);
 
-            final List<Integer> expectedPlayerIds = List.of(124, 125, 126, 127, 128);
-
-            assertEquals(5, playerList.size());
-            assertEquals(expectedPlayerIds, playerList.stream().map(Player::getPlayerId).toList());
+            assertEquals(5, playerList.stream().map(Player::getPlayerId).distinct().count());
         }
 
         @Test
         void shouldCallNameServiceToGenerateANameForThePlayer() throws NATCException {
-            playerService.generatePlayers("1995", 1);
+            playerService.generatePlayers(random, "1995", 1);
 
-            verify(nameService).generateName();
+            verify(nameService).generateNames(random, 1);
         }
 
         @Test
         void shouldGenerateANameForEveryPlayer() throws NATCException {
-            playerService.generatePlayers("1995", 25);
+            playerService.generatePlayers(random, "1995", 25);
 
-            verify(nameService, times(25)).generateName();
+            verify(nameService).generateNames(random, 25);
         }
 
         @Test
         void shouldSetTheNamesFromNameServiceOnTheGeneratedPlayers() throws NATCException {
             reset(nameService);
 
-            when(nameService.generateName())
-                    .thenReturn(FullName.builder().firstName("James").lastName("Smith").build())
-                    .thenReturn(FullName.builder().firstName("John").lastName("Johnson").build())
-                    .thenReturn(FullName.builder().firstName("Robert").lastName("Williams").build());
+            when(nameService.generateNames(random, 3)).thenReturn(List.of(
+                    FullName.builder().firstName("James").lastName("Smith").build(),
+                    FullName.builder().firstName("John").lastName("Johnson").build(),
+                    FullName.builder().firstName("Robert").lastName("Williams").build()
+            ));
 
-            final List<Player> playerList = playerService.generatePlayers("1995", 3);
+            final List<Player> playerList = playerService.generatePlayers(random, "1995", 3);
 
             assertEquals(3, playerList.size());
 
@@ -160,7 +159,7 @@ class PlayerServiceTest {
 
         @Test
         void shouldGeneratePlayersBetweenEighteenAndThirtyYearsOld() throws NATCException {
-            final List<Player> playerList = playerService.generatePlayers("1995", 100);
+            final List<Player> playerList = playerService.generatePlayers(random, "1995", 100);
 
             assertEquals(100, playerList.size());
             assertEquals(100, playerList.stream().filter(player -> player.getAge() >= 18 && player.getAge() <= 30).count());
@@ -168,7 +167,7 @@ class PlayerServiceTest {
 
         @Test
         void shouldGeneratePlayersWithARandomAge() throws NATCException {
-            final List<Player> playerList = playerService.generatePlayers("1995", 100);
+            final List<Player> playerList = playerService.generatePlayers(random, "1995", 100);
 
             assertEquals(100, playerList.size());
 
@@ -177,7 +176,7 @@ class PlayerServiceTest {
 
         @Test
         void shouldSetPlayerOffenseRatingsToRandomValueBetweenZeroAndOne() throws NATCException {
-            final List<Player> playerList = playerService.generatePlayers("1995", 1);
+            final List<Player> playerList = playerService.generatePlayers(random, "1995", 1);
 
             assertEquals(1, playerList.size());
 
@@ -190,7 +189,7 @@ class PlayerServiceTest {
 
         @Test
         void shouldSetPlayerDefenseRatingsToRandomValueBetweenZeroAndOne() throws NATCException {
-            final List<Player> playerList = playerService.generatePlayers("1995", 1);
+            final List<Player> playerList = playerService.generatePlayers(random, "1995", 1);
 
             assertEquals(1, playerList.size());
 
@@ -203,7 +202,7 @@ class PlayerServiceTest {
 
         @Test
         void shouldSetPlayerPenaltyRatingsToRandomValueBetweenZeroAndOne() throws NATCException {
-            final List<Player> playerList = playerService.generatePlayers("1995", 1);
+            final List<Player> playerList = playerService.generatePlayers(random, "1995", 1);
 
             assertEquals(1, playerList.size());
 
@@ -217,7 +216,7 @@ class PlayerServiceTest {
 
         @Test
         void shouldSetPlayerMiscellaneousRatingsToRandomValueBetweenZeroAndOne() throws NATCException {
-            final List<Player> playerList = playerService.generatePlayers("1995", 1);
+            final List<Player> playerList = playerService.generatePlayers(random, "1995", 1);
 
             assertEquals(1, playerList.size());
 
@@ -231,7 +230,7 @@ class PlayerServiceTest {
 
         @Test
         void shouldInitializeAllPlayerFlagsToFalse() throws NATCException {
-            final List<Player> playerList = playerService.generatePlayers("1995", 1);
+            final List<Player> playerList = playerService.generatePlayers(random, "1995", 1);
 
             assertEquals(1, playerList.size());
 
@@ -248,7 +247,7 @@ class PlayerServiceTest {
 
         @Test
         void shouldInitializeSeasonsPlayedCounterToZero() throws NATCException {
-            final List<Player> playerList = playerService.generatePlayers("1995", 1);
+            final List<Player> playerList = playerService.generatePlayers(random, "1995", 1);
 
             assertEquals(1, playerList.size());
 
@@ -258,33 +257,25 @@ class PlayerServiceTest {
         }
 
         @Test
-        void shouldCallPlayerRepositoryToPersistGeneratedPlayer() throws NATCException {
-            final List<Player> playerList = playerService.generatePlayers("1995", 1);
+        void shouldCallPlayerRepositoryToPersistGeneratedPlayers() throws NATCException {
+            final List<Player> playerList = playerService.generatePlayers(random, "1995", 1);
 
-            verify(playerRepository).save(any(Player.class));
+            verify(playerRepository).insertAll(anyList());
         }
 
         @Test
-        void shouldCallPlayerRepositoryWithGeneratedPlayer() throws NATCException {
-            final ArgumentCaptor<Player> captor = ArgumentCaptor.forClass(Player.class);
-
-            final List<Player> playerList = playerService.generatePlayers("1995", 1);
-
-            verify(playerRepository).save(captor.capture());
-
-            assertEquals(1, playerList.size());
-
-            final Player expectedPlayer = playerList.getFirst();
-            final Player actualPlayer = captor.getValue();
+        void shouldCallPlayerRepositoryWithGeneratedPlayers() throws NATCException {
+            final List<Player> playerList = playerService.generatePlayers(random, "1995", 10);
 
-            assertEquals(expectedPlayer, actualPlayer);
+            verify(playerRepository).insertAll(playerList);
         }
 
         @Test
-        void shouldCallPlayerRepositoryForEveryPlayerGenerated() throws NATCException {
-            final List<Player> playerList = playerService.generatePlayers("1995", 10);
+        void shouldPersistAllGeneratedPlayersInASingleCall() throws NATCException {
+            playerService.generatePlayers(random, "1995", 10);
 
-            verify(playerRepository, times(10)).save(any(Player.class));
+            verify(playerRepository, times(1)).insertAll(anyList());
+            verify(playerRepository, never()).save(any(Player.class));
         }
     }
 
@@ -335,7 +335,7 @@ class ScheduleServiceTest {
 
             scheduleService.generateSchedule("2005");
 
-            verify(generator).generate();
+            verify(generator).generate("2005");
         }
 
         @Test
@@ -345,7 +345,7 @@ class ScheduleServiceTest {
 
             when(scheduleDataGeneratorManager.getGeneratorFor(ScheduleType.PRESEASON)).thenReturn(generator);
             when(scheduleDataGeneratorManager.getGeneratorFor(ScheduleType.REGULAR_SEASON)).thenReturn(mock(ScheduleDataGenerator.class));
-            when(generator.generate()).thenReturn(preseasonScheduleData);
+            when(generator.generate(anyString())).thenReturn(preseasonScheduleData);
 
             scheduleService.generateSchedule("2005");
 
@@ -382,7 +382,7 @@ class ScheduleServiceTest {
 
             when(scheduleDataGeneratorManager.getGeneratorFor(ScheduleType.PRESEASON)).thenReturn(generator);
             when(scheduleDataGeneratorManager.getGeneratorFor(ScheduleType.REGULAR_SEASON)).thenReturn(mock(ScheduleDataGenerator.class));
-            when(generator.generate()).thenReturn(preseasonScheduleData);
+            when(generator.generate(anyString())).thenReturn(preseasonScheduleData);
 
             scheduleService.generateSchedule("2005");
 
@@ -404,7 +404,7 @@ class ScheduleServiceTest {
 
             when(scheduleDataGeneratorManager.getGeneratorFor(ScheduleType.PRESEASON)).thenReturn(generator);
             when(scheduleDataGeneratorManager.getGeneratorFor(ScheduleType.REGULAR_SEASON)).thenReturn(mock(ScheduleDataGenerator.class));
-            when(generator.generate()).thenReturn(preseasonScheduleData);
+            when(generator.generate(anyString())).thenReturn(preseasonScheduleData);
 
             scheduleService.generateSchedule("2005");
 
@@ -429,7 +429,7 @@ class ScheduleServiceTest {
 
             when(scheduleDataGeneratorManager.getGeneratorFor(ScheduleType.PRESEASON)).thenReturn(generator);
             when(scheduleDataGeneratorManager.getGeneratorFor(ScheduleType.REGULAR_SEASON)).thenReturn(mock(ScheduleDataGenerator.class));
-            when(generator.generate()).thenReturn(preseasonScheduleData);
+            when(generator.generate(anyString())).thenReturn(preseasonScheduleData);
 
             scheduleService.generateSchedule("2005");
 
@@ -469,7 +469,7 @@ class ScheduleServiceTest {
 
             when(scheduleDataGeneratorManager.getGeneratorFor(ScheduleType.PRESEASON)).thenReturn(generator);
             when(scheduleDataGeneratorManager.getGeneratorFor(ScheduleType.REGULAR_SEASON)).thenReturn(mock(ScheduleDataGenerator.class));
-            when(generator.generate()).thenReturn(generateFakePreseasonData());
+            when(generator.generate(anyString())).thenReturn(generateFakePreseasonData());
 
             scheduleService.generateSchedule("2005");
 
@@ -538,7 +538,7 @@ class ScheduleServiceTest {
 
             scheduleService.generateSchedule("2005");
 
-            verify(generator).generate();
+            verify(generator).generate("2005");
         }
 
         @Test
@@ -548,7 +548,7 @@ class ScheduleServiceTest {
 
             when(scheduleDataGeneratorManager.getGeneratorFor(ScheduleType.PRESEASON)).thenReturn(mock(ScheduleDataGenerator.class));
             when(scheduleDataGeneratorManager.getGeneratorFor(ScheduleType.REGULAR_SEASON)).thenReturn(generator);
-            when(generator.generate()).thenReturn(regularSeasonScheduleData);
+            when(generator.generate(anyString())).thenReturn(regularSeasonScheduleData);
 
             scheduleService.generateSchedule("2005");
 
@@ -590,7 +590,7 @@ class ScheduleServiceTest {
 
             when(scheduleDataGeneratorManager.getGeneratorFor(ScheduleType.PRESEASON)).thenReturn(mock(ScheduleDataGenerator.class));
             when(scheduleDataGeneratorManager.getGeneratorFor(ScheduleType.REGULAR_SEASON)).thenReturn(generator);
-            when(generator.generate()).thenReturn(regularSeasonScheduleData);
+            when(generator.generate(anyString())).thenReturn(regularSeasonScheduleData);
 
             scheduleService.generateSchedule("2005");
 
@@ -612,7 +612,7 @@ class ScheduleServiceTest {
 
             when(scheduleDataGeneratorManager.getGeneratorFor(ScheduleType.PRESEASON)).thenReturn(mock(ScheduleDataGenerator.class));
             when(scheduleDataGeneratorManager.getGeneratorFor(ScheduleType.REGULAR_SEASON)).thenReturn(generator);
-            when(generator.generate()).thenReturn(regularSeasonScheduleData);
+            when(generator.generate(anyString())).thenReturn(regularSeasonScheduleData);
 
             scheduleService.generateSchedule("2005");
 
@@ -637,7 +637,7 @@ class ScheduleServiceTest {
 
             when(scheduleDataGeneratorManager.getGeneratorFor(ScheduleType.PRESEASON)).thenReturn(mock(ScheduleDataGenerator.class));
             when(scheduleDataGeneratorManager.getGeneratorFor(ScheduleType.REGULAR_SEASON)).thenReturn(generator);
-            when(generator.generate()).thenReturn(regularSeasonScheduleData);
+            when(generator.generate(anyString())).thenReturn(regularSeasonScheduleData);
 
             scheduleService.generateSchedule("2005");
 
@@ -676,7 +676,7 @@ class ScheduleServiceTest {
 
             when(scheduleDataGeneratorManager.getGeneratorFor(ScheduleType.PRESEASON)).thenReturn(mock(ScheduleDataGenerator.class));
             when(scheduleDataGeneratorManager.getGeneratorFor(ScheduleType.REGULAR_SEASON)).thenReturn(generator);
-            when(generator.generate()).thenReturn(generateFakeRegularSeasonData());
+            when(generator.generate(anyString())).thenReturn(generateFakeRegularSeasonData());
 
             scheduleService.generateSchedule("2005");
 
@@ -0,0 +1,186 @@
+package org.natc.app.service;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.natc.app.entity.domain.*;
+import org.natc.app.repository.PlayerStatsSummaryRepository;
+import org.natc.app.repository.TeamDefenseSummaryRepository;
+import org.natc.app.repository.TeamOffenseSummaryRepository;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StatsSummaryServiceTest {
+
+    @Mock
+    private PlayerStatsSummaryRepository playerStatsSummaryRepository;
+
+    @Mock
+    private TeamOffenseSummaryRepository teamOffenseSummaryRepository;
+
+    @Mock
+    private TeamDefenseSummaryRepository teamDefenseSummaryRepository;
+
+    @Captor
+    private ArgumentCaptor<List<PlayerStatsSummary>> playerCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<TeamOffenseSummary>> offenseCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<TeamDefenseSummary>> defenseCaptor;
+
+    @InjectMocks
+    private StatsSummaryService statsSummaryService;
+
+    @Nested
+    class FoldGames {
+
+        @Test
+        void shouldUpsertOnePlayerSummaryPerYearTypeAndPlayer() {
+            statsSummaryService.foldGames(Collections.emptyList(), List.of(
+                    playerGame(1, 10, 1, 30),
+                    playerGame(1, 20, 1, 30),
+                    playerGame(2, 10, 1, 30)
+            ));
+
+            verify(playerStatsSummaryRepository).upsertAll(playerCaptor.capture());
+
+            assertEquals(List.of(10, 20), playerCaptor.getValue().stream().map(PlayerStatsSummary::getPlayerId).toList());
+        }
+
+        @Test
+        void shouldAddUpTheBoxScoresOfAPlayerAcrossTheGamesOfTheDay() {
+            statsSummaryService.foldGames(Collections.emptyList(), List.of(
+                    PlayerGame.builder().gameId(1).year("2001").type(1).playerId(10).teamId(1).started(1).playingTime(30).goals(2).assists(1).build(),
+                    PlayerGame.builder().gameId(2).year("2001").type(1).playerId(10).teamId(1).started(0).playingTime(12).goals(1).assists(3).build()
+            ));
+
+            verify(playerStatsSummaryRepository).upsertAll(playerCaptor.capture());
+
+            final PlayerStatsSummary summary = playerCaptor.getValue().getFirst();
+
+            assertEquals("2001", summary.getYear());
+            assertEquals(1, summary.getType());
+            assertEquals(2, summary.getGames());
+            assertEquals(1, summary.getGamesStarted());
+            assertEquals(42, summary.getPlayingTime());
+            assertEquals(3, summary.getGoals());
+            assertEquals(4, summary.getAssists());
+            assertEquals(1, summary.getTeamId());
+        }
+
+        @Test
+        void shouldNotCountAGameForAPlayerThatDidNotPlay() {
+            statsSummaryService.foldGames(Collections.emptyList(), List.of(playerGame(1, 10, 1, 0)));
+
+            verify(playerStatsSummaryRepository).upsertAll(playerCaptor.capture());
+
+            assertEquals(0, playerCaptor.getValue().getFirst().getGames());
+        }
+
+        @Test
+        void shouldKeepSeparatePlayerSummariesForEachGameType() {
+            statsSummaryService.foldGames(Collections.emptyList(), List.of(
+                    PlayerGame.builder().gameId(1).year("2001").type(GameType.PRESEASON.getValue()).playerId(10).playingTime(5).build(),
+                    PlayerGame.builder().gameId(2).year("2001").type(GameType.REGULAR_SEASON.getValue()).playerId(10).playingTime(5).build()
+            ));
+
+            verify(playerStatsSummaryRepository).upsertAll(playerCaptor.capture());
+
+            assertEquals(2, playerCaptor.getValue().size());
+        }
+
+        @Test
+        void shouldUpsertTheOffenseOfEachTeamFromItsOwnBoxScore() {
+            statsSummaryService.foldGames(List.of(
+                    teamGame(1, 1, 2, 20, 15),
+                    teamGame(2, 1, 3, 25, 18)
+            ), Collections.emptyList());
+
+            verify(teamOffenseSummaryRepository).upsertAll(offenseCaptor.capture());
+
+            assertEquals(1, offenseCaptor.getValue().size());
+
+            final TeamOffenseSummary summary = offenseCaptor.getValue().getFirst();
+
+            assertEquals(1, summary.getTeamId());
+            assertEquals(2, summary.getGames());
+            assertEquals(45, summary.getScore());
+            assertEquals(33, summary.getPossessions());
+        }
+
+        @Test
+        void shouldUpsertTheDefenseOfEachTeamFromItsOpponentsBoxScore() {
+            statsSummaryService.foldGames(List.of(
+                    teamGame(1, 1, 2, 20, 15),
+                    teamGame(1, 2, 1, 24, 17)
+            ), Collections.emptyList());
+
+            verify(teamDefenseSummaryRepository).upsertAll(defenseCaptor.capture());
+
+            final TeamDefenseSummary teamTwoDefense = defenseCaptor.getValue().stream().filter(summary -> summary.getTeamId().equals(2)).findFirst().orElseThrow();
+            final TeamDefenseSummary teamOneDefense = defenseCaptor.getValue().stream().filter(summary -> summary.getTeamId().equals(1)).findFirst().orElseThrow();
+
+            assertEquals(20, teamTwoDefense.getScore());
+            assertEquals(15, teamTwoDefense.getPossessions());
+            assertEquals(24, teamOneDefense.getScore());
+            assertEquals(17, teamOneDefense.getPossessions());
+        }
+
+        @Test
+        void shouldUpsertEmptyListsWhenThereAreNoGames() {
+            statsSummaryService.foldGames(Collections.emptyList(), Collections.emptyList());
+
+            verify(playerStatsSummaryRepository).upsertAll(playerCaptor.capture());
+            verify(teamOffenseSummaryRepository).upsertAll(offenseCaptor.capture());
+            verify(teamDefenseSummaryRepository).upsertAll(defenseCaptor.capture());
+
+            assertTrue(playerCaptor.getValue().isEmpty());
+            assertTrue(offenseCaptor.getValue().isEmpty());
+            assertTrue(defenseCaptor.getValue().isEmpty());
+        }
+    }
+
+    @Nested
+    class VerifySummaries {
+
+        @Test
+        void shouldCheckEachSummaryTableForTheGivenYear() {
+            statsSummaryService.verifySummaries("2001");
+
+            verify(playerStatsSummaryRepository).countMismatchedSummaries("2001");
+            verify(teamOffenseSummaryRepository).countMismatchedSummaries("2001");
+            verify(teamDefenseSummaryRepository).countMismatchedSummaries("2001");
+        }
+
+        @Test
+        void shouldReturnTheTotalNumberOfMismatchedSummaries() {
+            when(playerStatsSummaryRepository.countMismatchedSummaries("2001")).thenReturn(3);
+            when(teamOffenseSummaryRepository.countMismatchedSummaries("2001")).thenReturn(1);
+            when(teamDefenseSummaryRepository.countMismatchedSummaries("2001")).thenReturn(2);
+
+            assertEquals(6, statsSummaryService.verifySummaries("2001"));
+        }
+    }
+
+    private PlayerGame playerGame(final Integer gameId, final Integer playerId, final Integer teamId, final Integer playingTime) {
+        return PlayerGame.builder().gameId(gameId).year("2001").type(GameType.REGULAR_SEASON.getValue()).playerId(playerId).teamId(teamId).playingTime(playingTime).build();
+    }
+
+    private TeamGame teamGame(final Integer gameId, final Integer teamId, final Integer opponent, final Integer score, final Integer possessions) {
+        return TeamGame.builder().gameId(gameId).year("2001").type(GameType.REGULAR_SEASON.getValue()).teamId(teamId).opponent(opponent).totalScore(score).possessions(possessions).build();
+    }
+}
@@ -3,8 +3,6 @@ package org.natc.app.service;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -13,8 +11,7 @@ import org.natc.app.entity.domain.Manager;
 import org.natc.app.entity.domain.Team;
 import org.natc.app.exception.NATCException;
 import org.natc.app.exception.TeamManagerDraftException;
-import org.natc.app.repository.TeamRepository;
-import org.springframework.data.domain.Example;
+import org.natc.app.metrics.LeagueMetrics;
 
 import java.util.*;
 
@@ -25,40 +22,38 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class TeamManagerDraftServiceTest {
 
-    @Captor
-    private ArgumentCaptor<Example<Team>> teamCaptor;
-
     @Mock
     private TeamComparator teamComparator;
 
     @Mock
-    private TeamRepository teamRepository;
+    private LeagueMetrics leagueMetrics;
 
     @InjectMocks
     private TeamManagerDraftService teamManagerDraftService;
 
+    private final TeamSeasonHistory emptyTeamSeasonHistory = new TeamSeasonHistory(Collections.emptyList());
+    private final SplittableRandom random = new SplittableRandom(1971);
+
     @Nested
     class AssignManagersToTeams {
 
         @Test
-        void shouldCallTeamRepositoryToRetrieveTeamRecordsForPreviousSeason() throws NATCException {
+        void shouldLookUpTheTeamRecordsForThePreviousSeasonInTheTeamSeasonHistory() throws NATCException {
             final Team team = Team.builder().teamId(123).year("2011").build();
             final Manager manager = Manager.builder().managerId(1).year("2011").build();
             final List<Team> teams = Collections.singletonList(team);
             final List<Manager> managers = Collections.singletonList(manager);
+            final TeamSeasonHistory teamSeasonHistory = mock(TeamSeasonHistory.class);
 
-            teamManagerDraftService.assignManagersToTeams(teams, managers);
+            when(teamSeasonHistory.findTeam(any(), any())).thenReturn(Optional.empty());
 
-            verify(teamRepository).findOne(teamCaptor.capture());
+            teamManagerDraftService.assignManagersToTeams(teams, managers, teamSeasonHistory, random);
 
-            final Team exampleTeam = teamCaptor.getValue().getProbe();
-
-            assertEquals(team.getTeamId(), exampleTeam.getTeamId());
-            assertEquals("2010", exampleTeam.getYear());
+            verify(teamSeasonHistory).findTeam(team.getTeamId(), "2010");
         }
 
         @Test
-        void shouldCallTeamRepositoryForEveryTeamGiven() throws NATCException {
+        void shouldLookUpEveryTeamGivenInTheTeamSeasonHistory() throws NATCException {
             final List<Team> teams = List.of(
                     Team.builder().teamId(1).year("2000").build(),
                     Team.builder().teamId(2).year("2000").build(),
@@ -75,11 +70,15 @@ class TeamManagerDraftServiceTest {
                     Manager.builder().managerId(105).year("2000").seasons(0).build()
             );
 
-            teamManagerDraftService.assignManagersToTeams(teams, managers);
+            final TeamSeasonHistory teamSeasonHistory = mock(TeamSeasonHistory.class);
+
+            when(teamSeasonHistory.findTeam(any(), any())).thenReturn(Optional.empty());
 
-            verify(teamRepository, times(teams.size())).findOne(teamCaptor.capture());
+            teamManagerDraftService.assignManagersToTeams(teams, managers, teamSeasonHistory, random);
 
-            assertEquals(teams.size(), teamCaptor.getAllValues().stream().map(teamExample -> teamExample.getProbe().getTeamId()).distinct().count());
+            for (final Team team : teams) {
+                verify(teamSeasonHistory).findTeam(team.getTeamId(), "1999");
+            }
         }
 
         @Test
@@ -89,7 +88,7 @@ class TeamManagerDraftServiceTest {
             final List<Team> teams = Collections.singletonList(team);
             final List<Manager> managers = Collections.singletonList(manager);
 
-            teamManagerDraftService.assignManagersToTeams(teams, managers);
+            teamManagerDraftService.assignManagersToTeams(teams, managers, emptyTeamSeasonHistory, random);
 
             assertEquals(team.getTeamId(), manager.getTeamId());
         }
@@ -101,7 +100,7 @@ class TeamManagerDraftServiceTest {
             final List<Team> teams = Collections.singletonList(team);
             final List<Manager> managers = Collections.singletonList(manager);
 
-            teamManagerDraftService.assignManagersToTeams(teams, managers);
+            teamManagerDraftService.assignManagersToTeams(teams, managers, emptyTeamSeasonHistory, random);
 
             assertEquals(team.getTeamId(), manager.getTeamId());
             assertEquals(1, manager.getNewHire());
@@ -114,7 +113,7 @@ class TeamManagerDraftServiceTest {
             final List<Team> teams = Collections.singletonList(team);
             final List<Manager> managers = Collections.singletonList(manager);
 
-            teamManagerDraftService.assignManagersToTeams(teams, managers);
+            teamManagerDraftService.assignManagersToTeams(teams, managers, emptyTeamSeasonHistory, random);
 
             assertEquals(team.getTeamId(), manager.getTeamId());
             assertEquals(0, manager.getScore());
@@ -139,7 +138,7 @@ class TeamManagerDraftServiceTest {
                     Manager.builder().managerId(105).year("2000").seasons(0).build()
             );
 
-            teamManagerDraftService.assignManagersToTeams(teams, managers);
+            teamManagerDraftService.assignManagersToTeams(teams, managers, emptyTeamSeasonHistory, random);
 
             assertEquals(teams.size(), managers.stream().filter(manager -> Objects.nonNull(manager.getTeamId())).count());
             assertEquals(
@@ -164,7 +163,7 @@ class TeamManagerDraftServiceTest {
                     Manager.builder().managerId(105).year("2000").seasons(0).build()
             );
 
-            teamManagerDraftService.assignManagersToTeams(teams, managers);
+            teamManagerDraftService.assignManagersToTeams(teams, managers, emptyTeamSeasonHistory, random);
 
             assertEquals(teams.size(), managers.stream().filter(manager -> Objects.nonNull(manager.getTeamId())).count());
         }
@@ -185,7 +184,7 @@ class TeamManagerDraftServiceTest {
                     Manager.builder().managerId(105).year("2000").seasons(0).build()
             );
 
-            assertThrows(TeamManagerDraftException.class, () -> teamManagerDraftService.assignManagersToTeams(teams, managers));
+            assertThrows(TeamManagerDraftException.class, () -> teamManagerDraftService.assignManagersToTeams(teams, managers, emptyTeamSeasonHistory, random));
         }
 
         @Test
@@ -196,7 +195,7 @@ class TeamManagerDraftServiceTest {
             final List<Team> teams = Collections.singletonList(team);
             final List<Manager> managers = List.of(lowestRatedManager, highestRatedManager);
 
-            teamManagerDraftService.assignManagersToTeams(teams, managers);
+            teamManagerDraftService.assignManagersToTeams(teams, managers, emptyTeamSeasonHistory, random);
 
             assertEquals(team.getTeamId(), highestRatedManager.getTeamId());
         }
@@ -213,7 +212,7 @@ class TeamManagerDraftServiceTest {
             final List<Team> teams = Collections.singletonList(team);
             final List<Manager> managers = List.of(lowestRatedManager, highestRatedManager);
 
-            teamManagerDraftService.assignManagersToTeams(teams, managers);
+            teamManagerDraftService.assignManagersToTeams(teams, managers, emptyTeamSeasonHistory, random);
 
             assertEquals(team.getTeamId(), highestRatedManager.getTeamId());
         }
@@ -230,7 +229,7 @@ class TeamManagerDraftServiceTest {
             final List<Team> teams = Collections.singletonList(team);
             final List<Manager> managers = List.of(lowestRatedManager, highestRatedManager);
 
-            teamManagerDraftService.assignManagersToTeams(teams, managers);
+            teamManagerDraftService.assignManagersToTeams(teams, managers, emptyTeamSeasonHistory, random);
 
             assertEquals(team.getTeamId(), lowestRatedManager.getTeamId());
         }
@@ -255,7 +254,7 @@ class TeamManagerDraftServiceTest {
 
             final List<Integer> expectedTeamIdList = teams.stream().map(Team::getTeamId).toList();
 
-            teamManagerDraftService.assignManagersToTeams(teams, managers);
+            teamManagerDraftService.assignManagersToTeams(teams, managers, emptyTeamSeasonHistory, random);
 
             final List<Integer> actualTeamIdList = managers.stream().sorted(Comparator.comparing(Manager::getManagerId)).map(Manager::getTeamId).toList();
 
@@ -287,14 +286,9 @@ class TeamManagerDraftServiceTest {
                     Manager.builder().managerId(105).year("2000").seasons(0).offense(0.2).defense(0.2).intangible(0.2).penalties(0.2).build()
             );
 
-            when(teamRepository.findOne(any()))
-                    .thenReturn(Optional.of(previousYearTeams.get(0)))
-                    .thenReturn(Optional.of(previousYearTeams.get(1)))
-                    .thenReturn(Optional.of(previousYearTeams.get(2)))
-                    .thenReturn(Optional.of(previousYearTeams.get(3)))
-                    .thenReturn(Optional.empty());
+            final TeamSeasonHistory teamSeasonHistory = new TeamSeasonHistory(previousYearTeams);
 
-            assertThrows(TeamManagerDraftException.class, () -> teamManagerDraftService.assignManagersToTeams(teams, managers));
+            assertThrows(TeamManagerDraftException.class, () -> teamManagerDraftService.assignManagersToTeams(teams, managers, teamSeasonHistory, random));
         }
 
         @Nested
@@ -326,15 +320,13 @@ class TeamManagerDraftServiceTest {
                         Manager.builder().managerId(105).year("2000").seasons(0).offense(0.2).defense(0.2).intangible(0.2).penalties(0.2).build()
                 );
 
-                when(teamRepository.findOne(any()))
-                        .thenReturn(Optional.of(previousYearTeams.get(0)))
-                        .thenReturn(Optional.of(previousYearTeams.get(1)))
-                        .thenReturn(Optional.of(previousYearTeams.get(2)))
-                        .thenReturn(Optional.of(previousYearTeams.get(3)))
-                        .thenReturn(Optional.of(previousYearTeams.get(4)));
+                final TeamSeasonHistory teamSeasonHistory = new TeamSeasonHistory(previousYearTeams);
+
+                when(teamComparator.forYear("1999")).thenReturn(teamComparator);
 
-                teamManagerDraftService.assignManagersToTeams(teams, managers);
+                teamManagerDraftService.assignManagersToTeams(teams, managers, teamSeasonHistory, random);
 
+                verify(teamComparator).forYear("1999");
                 verify(teamComparator, atLeastOnce()).compare(any(), any());
             }
 
@@ -355,16 +347,16 @@ class TeamManagerDraftServiceTest {
                         Manager.builder().managerId(102).year("2000").seasons(0).offense(0.8).defense(0.8).intangible(0.8).penalties(0.8).build()
                 );
 
-                when(teamRepository.findOne(any()))
-                        .thenReturn(Optional.of(previousYearTeams.get(0)))
-                        .thenReturn(Optional.of(previousYearTeams.get(1)));
+                final TeamSeasonHistory teamSeasonHistory = new TeamSeasonHistory(previousYearTeams);
+
+                when(teamComparator.forYear("1999")).thenReturn(teamComparator);
 
                 // Team 2 should be sorted to first position
                 when(teamComparator.compare(previousYearTeams.get(1), previousYearTeams.get(0))).thenReturn(-1);
 
                 final Manager bestManager = managers.getFirst();
 
-                teamManagerDraftService.assignManagersToTeams(teams, managers);
+                teamManagerDraftService.assignManagersToTeams(teams, managers, teamSeasonHistory, random);
 
                 assertEquals(2, bestManager.getTeamId());
             }
@@ -386,16 +378,16 @@ class TeamManagerDraftServiceTest {
                         Manager.builder().managerId(102).year("2000").seasons(0).offense(0.8).defense(0.8).intangible(0.8).penalties(0.8).build()
                 );
 
-                when(teamRepository.findOne(any()))
-                        .thenReturn(Optional.of(previousYearTeams.get(0)))
-                        .thenReturn(Optional.of(previousYearTeams.get(1)));
+                final TeamSeasonHistory teamSeasonHistory = new TeamSeasonHistory(previousYearTeams);
+
+                when(teamComparator.forYear("1999")).thenReturn(teamComparator);
 
                 // Team 2 should be sorted to first position
                 when(teamComparator.compare(previousYearTeams.get(1), previousYearTeams.get(0))).thenReturn(1);
 
                 final Manager bestManager = managers.getFirst();
 
-                teamManagerDraftService.assignManagersToTeams(teams, managers);
+                teamManagerDraftService.assignManagersToTeams(teams, managers, teamSeasonHistory, random);
 
                 assertEquals(1, bestManager.getTeamId());
             }
@@ -0,0 +1,54 @@
+package org.natc.app.service;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.natc.app.entity.domain.Team;
+import org.natc.app.exception.TeamNotFoundException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TeamSeasonHistoryTest {
+
+    private final Team team2000 = Team.builder().teamId(1).year("2000").build();
+    private final Team team2001 = Team.builder().teamId(1).year("2001").build();
+    private final Team otherTeam2001 = Team.builder().teamId(2).year("2001").build();
+
+    private final TeamSeasonHistory teamSeasonHistory = new TeamSeasonHistory(List.of(team2000, team2001, otherTeam2001));
+
+    @Nested
+    class FindTeam {
+
+        @Test
+        void shouldReturnTheTeamRecordForTheGivenTeamAndYear() {
+            assertSame(team2000, teamSeasonHistory.findTeam(1, "2000").orElseThrow());
+            assertSame(team2001, teamSeasonHistory.findTeam(1, "2001").orElseThrow());
+            assertSame(otherTeam2001, teamSeasonHistory.findTeam(2, "2001").orElseThrow());
+        }
+
+        @Test
+        void shouldReturnEmptyWhenTheTeamHasNoRecordForTheYear() {
+            assertTrue(teamSeasonHistory.findTeam(2, "2000").isEmpty());
+        }
+
+        @Test
+        void shouldReturnEmptyWhenTheYearWasNotLoaded() {
+            assertTrue(teamSeasonHistory.findTeam(1, "1999").isEmpty());
+        }
+    }
+
+    @Nested
+    class GetTeam {
+
+        @Test
+        void shouldReturnTheTeamRecordForTheGivenTeamAndYear() throws TeamNotFoundException {
+            assertSame(team2001, teamSeasonHistory.getTeam(1, "2001"));
+        }
+
+        @Test
+        void shouldThrowTeamNotFoundExceptionWhenTheTeamHasNoRecordForTheYear() {
+            assertThrows(TeamNotFoundException.class, () -> teamSeasonHistory.getTeam(2, "2000"));
+        }
+    }
+}
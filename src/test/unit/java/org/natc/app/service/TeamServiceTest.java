@@ -241,6 +241,29 @@ class TeamServiceTest {
         }
     }
 
+    @Nested
+    class GetTeamSeasonHistory {
+
+        @Test
+        void shouldLoadTheGivenNumberOfSeasonsBackFromTheYearInOneQuery() {
+            teamService.getTeamSeasonHistory("2002", 3);
+
+            verify(teamRepository).findByYearIn(List.of("2002", "2001", "2000"));
+            verifyNoMoreInteractions(teamRepository);
+        }
+
+        @Test
+        void shouldReturnAHistoryOfTheTeamsReturnedByTheRepository() {
+            final Team team = Team.builder().teamId(5).year("2001").build();
+
+            when(teamRepository.findByYearIn(any())).thenReturn(List.of(team));
+
+            final TeamSeasonHistory teamSeasonHistory = teamService.getTeamSeasonHistory("2002", 3);
+
+            assertSame(team, teamSeasonHistory.findTeam(5, "2001").orElseThrow());
+        }
+    }
+
     @Nested
     class WillTeamReleaseManager {
 
@@ -248,76 +271,77 @@ class TeamServiceTest {
         void shouldReturnFalseIfManagerHasLessThanThreeSeasons() {
             final Manager manager = Manager.builder().managerId(1).year("2002").seasons(0).build();
 
-            assertFalse(teamService.willTeamReleaseManager(manager));
+            assertFalse(teamService.willTeamReleaseManager(manager, new TeamSeasonHistory(List.of())));
         }
 
         @Test
-        void shouldCallTeamRepositoryToGetManagersTeamsTwoPreviousYearRecords() {
+        void shouldLookUpTheManagersTeamsTwoPreviousYearRecordsInTheHistory() {
             final Manager manager = Manager.builder().managerId(1).year("2002").teamId(5).seasons(4).build();
+            final TeamSeasonHistory teamSeasonHistory = mock(TeamSeasonHistory.class);
 
-            teamService.willTeamReleaseManager(manager);
+            when(teamSeasonHistory.findTeam(any(), any())).thenReturn(Optional.empty());
 
-            verify(teamRepository, times(2)).findOne(captor.capture());
+            teamService.willTeamReleaseManager(manager, teamSeasonHistory);
 
-            final Team firstTeam = captor.getAllValues().get(0).getProbe();
-            final Team secondTeam = captor.getAllValues().get(1).getProbe();
+            verify(teamSeasonHistory).findTeam(manager.getTeamId(), "2001");
+            verify(teamSeasonHistory).findTeam(manager.getTeamId(), "2000");
+        }
 
-            assertEquals(manager.getTeamId(), firstTeam.getTeamId());
-            assertEquals("2001", firstTeam.getYear());
+        @Test
+        void shouldNotQueryTheRepository() {
+            final Manager manager = Manager.builder().managerId(1).year("2002").teamId(5).seasons(4).build();
 
-            assertEquals(manager.getTeamId(), secondTeam.getTeamId());
-            assertEquals("2000", secondTeam.getYear());
+            teamService.willTeamReleaseManager(manager, new TeamSeasonHistory(List.of()));
+
+            verifyNoInteractions(teamRepository);
         }
 
         @Test
-        void shouldNotCallRepositoryIfManagerHasLessThanThreeSeasons() {
+        void shouldNotLookAtTheHistoryIfManagerHasLessThanThreeSeasons() {
             final Manager manager = Manager.builder().managerId(1).year("2002").seasons(2).build();
+            final TeamSeasonHistory teamSeasonHistory = mock(TeamSeasonHistory.class);
 
-            teamService.willTeamReleaseManager(manager);
+            teamService.willTeamReleaseManager(manager, teamSeasonHistory);
 
-            verify(teamRepository, never()).findOne(any());
+            verifyNoInteractions(teamSeasonHistory);
         }
 
         @Test
         void shouldReturnFalseIfPreviousYearsTeamRecordIsNotFound() {
             final Manager manager = Manager.builder().managerId(1).year("2002").teamId(5).seasons(4).build();
 
-            when(teamRepository.findOne(any())).thenReturn(Optional.empty());
-
-            assertFalse(teamService.willTeamReleaseManager(manager));
+            assertFalse(teamService.willTeamReleaseManager(manager, new TeamSeasonHistory(List.of(
+                    Team.builder().teamId(5).year("2000").build()
+            ))));
         }
 
         @Test
         void shouldReturnFalseIfTwoYearsBackTeamRecordIsNotFound() {
             final Manager manager = Manager.builder().managerId(1).year("2002").teamId(5).seasons(4).build();
 
-            when(teamRepository.findOne(any()))
-                    .thenReturn(Optional.of(Team.builder().build()))
-                    .thenReturn(Optional.empty());
-
-            assertFalse(teamService.willTeamReleaseManager(manager));
+            assertFalse(teamService.willTeamReleaseManager(manager, new TeamSeasonHistory(List.of(
+                    Team.builder().teamId(5).year("2001").build()
+            ))));
         }
 
         @Test
         void shouldReturnFalseIfPlayoffRankImprovedBetweenYears() {
             final Manager manager = Manager.builder().managerId(1).year("2002").teamId(5).seasons(4).build();
 
-            when(teamRepository.findOne(any()))
-                    .thenReturn(Optional.of(Team.builder().playoffRank(3).build()))
-                    .thenReturn(Optional.of(Team.builder().playoffRank(2).build()));
-
-            assertFalse(teamService.willTeamReleaseManager(manager));
+            assertFalse(teamService.willTeamReleaseManager(manager, new TeamSeasonHistory(List.of(
+                    Team.builder().teamId(5).year("2001").playoffRank(3).build(),
+                    Team.builder().teamId(5).year("2000").playoffRank(2).build()
+            ))));
         }
 
         @Test
         void shouldReturnFalseIfWinsImprovedBetweenYears() {
             final Manager manager = Manager.builder().managerId(1).year("2002").teamId(5).seasons(4).build();
 
-            when(teamRepository.findOne(any()))
-                    .thenReturn(Optional.of(Team.builder().wins(65).playoffRank(0).build()))
-                    .thenReturn(Optional.of(Team.builder().wins(55).playoffRank(0).build()));
-
-            assertFalse(teamService.willTeamReleaseManager(manager));
+            assertFalse(teamService.willTeamReleaseManager(manager, new TeamSeasonHistory(List.of(
+                    Team.builder().teamId(5).year("2001").wins(65).playoffRank(0).build(),
+                    Team.builder().teamId(5).year("2000").wins(55).playoffRank(0).build()
+            ))));
         }
 
         @Test
@@ -332,11 +356,10 @@ class TeamServiceTest {
                     .totalScore(4)
                     .build();
 
-            when(teamRepository.findOne(any()))
-                    .thenReturn(Optional.of(Team.builder().wins(55).playoffRank(0).expectation(0.95).build()))
-                    .thenReturn(Optional.of(Team.builder().wins(55).playoffRank(0).expectation(0.95).build()));
-
-            assertFalse(teamService.willTeamReleaseManager(manager));
+            assertFalse(teamService.willTeamReleaseManager(manager, new TeamSeasonHistory(List.of(
+                    Team.builder().teamId(5).year("2001").wins(55).playoffRank(0).expectation(0.95).build(),
+                    Team.builder().teamId(5).year("2000").wins(55).playoffRank(0).expectation(0.95).build()
+            ))));
         }
 
         @Test
@@ -351,11 +374,28 @@ class TeamServiceTest {
                     .totalScore(4)
                     .build();
 
-            when(teamRepository.findOne(any()))
-                    .thenReturn(Optional.of(Team.builder().wins(55).playoffRank(0).expectation(1.05).build()))
-                    .thenReturn(Optional.of(Team.builder().wins(55).playoffRank(0).expectation(1.05).build()));
+            assertTrue(teamService.willTeamReleaseManager(manager, new TeamSeasonHistory(List.of(
+                    Team.builder().teamId(5).year("2001").wins(55).playoffRank(0).expectation(1.05).build(),
+                    Team.builder().teamId(5).year("2000").wins(55).playoffRank(0).expectation(1.05).build()
+            ))));
+        }
+
+        @Test
+        void shouldOnlyLookAtTheRecordsOfTheManagersTeam() {
+            final Manager manager = Manager.builder()
+                    .managerId(1)
+                    .year("2002")
+                    .teamId(5)
+                    .seasons(4)
+                    .score(4)
+                    .totalSeasons(4)
+                    .totalScore(4)
+                    .build();
 
-            assertTrue(teamService.willTeamReleaseManager(manager));
+            assertFalse(teamService.willTeamReleaseManager(manager, new TeamSeasonHistory(List.of(
+                    Team.builder().teamId(6).year("2001").wins(55).playoffRank(0).expectation(1.05).build(),
+                    Team.builder().teamId(6).year("2000").wins(55).playoffRank(0).expectation(1.05).build()
+            ))));
         }
     }
 
@@ -1,16 +1,21 @@
 package org.natc.app.service.search;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.natc.app.configuration.SearchConfiguration;
 import org.natc.app.entity.domain.GameState;
 import org.natc.app.entity.domain.Period;
 import org.natc.app.entity.domain.PossessionType;
 import org.natc.app.entity.request.GameStateSearchRequest;
 import org.natc.app.entity.response.GameStateResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Arrays;
@@ -18,6 +23,8 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -30,35 +37,43 @@ class GameStateSearchServiceTest {
     @Mock
     private JpaRepository repository;
 
+    @Spy
+    private KeysetPaginator keysetPaginator = new KeysetPaginator(new SearchConfiguration());
+
     @InjectMocks
     private GameStateSearchService service;
 
+    @BeforeEach
+    void setup() {
+        lenient().when(repository.findBy(any(), any())).thenReturn(Window.from(Collections.emptyList(), ScrollPosition::offset));
+    }
+
     @Nested
-    class FetchAll {
+    class FetchPage {
 
         @Test
-        void shouldReturnAListOfGameStateResponses() {
-            final List<GameStateResponse> result = service.fetchAll(new GameStateSearchRequest());
+        void shouldReturnAListOfGameStateResponses() throws InvalidCursorException {
+            final List<GameStateResponse> result = service.fetchPage(new GameStateSearchRequest(), null, null).getResources();
 
             assertEquals(0, result.size());
         }
 
         @Test
-        void shouldCallTheGameStateRepositoryWithAnExampleGameState() {
-            service.fetchAll(new GameStateSearchRequest());
+        void shouldCallTheGameStateRepositoryWithAnExampleGameState() throws InvalidCursorException {
+            service.fetchPage(new GameStateSearchRequest(), null, null);
 
-            verify(repository).findAll(ArgumentMatchers.<Example<GameState>>any());
+            verify(repository).findBy(ArgumentMatchers.<Example<GameState>>any(), any());
         }
 
         @Test
-        void shouldCallGameStateRepositoryWithExampleGameStateBasedOnRequest() {
+        void shouldCallGameStateRepositoryWithExampleGameStateBasedOnRequest() throws InvalidCursorException {
             final GameStateSearchRequest request = GameStateSearchRequest.builder()
                     .gameId(111)
                     .build();
 
-            service.fetchAll(request);
+            service.fetchPage(request, null, null);
 
-            verify(repository).findAll(captor.capture());
+            verify(repository).findBy(captor.capture(), any());
 
             final GameState gameState = captor.getValue().getProbe();
 
@@ -66,12 +81,12 @@ class GameStateSearchServiceTest {
         }
 
         @Test
-        void shouldReturnGameStateResponsesMappedFromTheGameStatesReturnedByRepository() {
+        void shouldReturnGameStateResponsesMappedFromTheGameStatesReturnedByRepository() throws InvalidCursorException {
             final GameState gameState = generateGameState(Period.FOURTH, PossessionType.ROAD);
 
-            when(repository.findAll(ArgumentMatchers.<Example<GameState>>any())).thenReturn(Collections.singletonList(gameState));
+            when(repository.findBy(ArgumentMatchers.<Example<GameState>>any(), any())).thenReturn(Window.from(Collections.singletonList(gameState), ScrollPosition::offset));
 
-            final List<GameStateResponse> result = service.fetchAll(new GameStateSearchRequest());
+            final List<GameStateResponse> result = service.fetchPage(new GameStateSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -91,12 +106,12 @@ class GameStateSearchServiceTest {
         }
 
         @Test
-        void shouldMapStartedValueFromIntegerToBooleanInResponseWhenFalse() {
+        void shouldMapStartedValueFromIntegerToBooleanInResponseWhenFalse() throws InvalidCursorException {
             final GameState gameState = GameState.builder().started(0).build();
 
-            when(repository.findAll(ArgumentMatchers.<Example<GameState>>any())).thenReturn(Collections.singletonList(gameState));
+            when(repository.findBy(ArgumentMatchers.<Example<GameState>>any(), any())).thenReturn(Window.from(Collections.singletonList(gameState), ScrollPosition::offset));
 
-            final List<GameStateResponse> result = service.fetchAll(new GameStateSearchRequest());
+            final List<GameStateResponse> result = service.fetchPage(new GameStateSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -106,12 +121,12 @@ class GameStateSearchServiceTest {
         }
 
         @Test
-        void shouldMapStartedValueFromIntegerToBooleanInResponseWhenTrue() {
+        void shouldMapStartedValueFromIntegerToBooleanInResponseWhenTrue() throws InvalidCursorException {
             final GameState gameState = GameState.builder().started(1).build();
 
-            when(repository.findAll(ArgumentMatchers.<Example<GameState>>any())).thenReturn(Collections.singletonList(gameState));
+            when(repository.findBy(ArgumentMatchers.<Example<GameState>>any(), any())).thenReturn(Window.from(Collections.singletonList(gameState), ScrollPosition::offset));
 
-            final List<GameStateResponse> result = service.fetchAll(new GameStateSearchRequest());
+            final List<GameStateResponse> result = service.fetchPage(new GameStateSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -121,12 +136,12 @@ class GameStateSearchServiceTest {
         }
 
         @Test
-        void shouldMapStartedValueFromIntegerToBooleanInResponseWhenNull() {
+        void shouldMapStartedValueFromIntegerToBooleanInResponseWhenNull() throws InvalidCursorException {
             final GameState gameState = GameState.builder().build();
 
-            when(repository.findAll(ArgumentMatchers.<Example<GameState>>any())).thenReturn(Collections.singletonList(gameState));
+            when(repository.findBy(ArgumentMatchers.<Example<GameState>>any(), any())).thenReturn(Window.from(Collections.singletonList(gameState), ScrollPosition::offset));
 
-            final List<GameStateResponse> result = service.fetchAll(new GameStateSearchRequest());
+            final List<GameStateResponse> result = service.fetchPage(new GameStateSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -136,12 +151,12 @@ class GameStateSearchServiceTest {
         }
 
         @Test
-        void shouldMapOvertimeValueFromIntegerToBooleanInResponseWhenFalse() {
+        void shouldMapOvertimeValueFromIntegerToBooleanInResponseWhenFalse() throws InvalidCursorException {
             final GameState gameState = GameState.builder().overtime(0).build();
 
-            when(repository.findAll(ArgumentMatchers.<Example<GameState>>any())).thenReturn(Collections.singletonList(gameState));
+            when(repository.findBy(ArgumentMatchers.<Example<GameState>>any(), any())).thenReturn(Window.from(Collections.singletonList(gameState), ScrollPosition::offset));
 
-            final List<GameStateResponse> result = service.fetchAll(new GameStateSearchRequest());
+            final List<GameStateResponse> result = service.fetchPage(new GameStateSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -151,12 +166,12 @@ class GameStateSearchServiceTest {
         }
 
         @Test
-        void shouldMapOvertimeValueFromIntegerToBooleanInResponseWhenTrue() {
+        void shouldMapOvertimeValueFromIntegerToBooleanInResponseWhenTrue() throws InvalidCursorException {
             final GameState gameState = GameState.builder().overtime(1).build();
 
-            when(repository.findAll(ArgumentMatchers.<Example<GameState>>any())).thenReturn(Collections.singletonList(gameState));
+            when(repository.findBy(ArgumentMatchers.<Example<GameState>>any(), any())).thenReturn(Window.from(Collections.singletonList(gameState), ScrollPosition::offset));
 
-            final List<GameStateResponse> result = service.fetchAll(new GameStateSearchRequest());
+            final List<GameStateResponse> result = service.fetchPage(new GameStateSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -166,12 +181,12 @@ class GameStateSearchServiceTest {
         }
 
         @Test
-        void shouldMapOvertimeValueFromIntegerToBooleanInResponseWhenNull() {
+        void shouldMapOvertimeValueFromIntegerToBooleanInResponseWhenNull() throws InvalidCursorException {
             final GameState gameState = GameState.builder().build();
 
-            when(repository.findAll(ArgumentMatchers.<Example<GameState>>any())).thenReturn(Collections.singletonList(gameState));
+            when(repository.findBy(ArgumentMatchers.<Example<GameState>>any(), any())).thenReturn(Window.from(Collections.singletonList(gameState), ScrollPosition::offset));
 
-            final List<GameStateResponse> result = service.fetchAll(new GameStateSearchRequest());
+            final List<GameStateResponse> result = service.fetchPage(new GameStateSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -181,12 +196,12 @@ class GameStateSearchServiceTest {
         }
 
         @Test
-        void shouldMapClockStoppedValueFromIntegerToBooleanInResponseWhenFalse() {
+        void shouldMapClockStoppedValueFromIntegerToBooleanInResponseWhenFalse() throws InvalidCursorException {
             final GameState gameState = GameState.builder().clockStopped(0).build();
 
-            when(repository.findAll(ArgumentMatchers.<Example<GameState>>any())).thenReturn(Collections.singletonList(gameState));
+            when(repository.findBy(ArgumentMatchers.<Example<GameState>>any(), any())).thenReturn(Window.from(Collections.singletonList(gameState), ScrollPosition::offset));
 
-            final List<GameStateResponse> result = service.fetchAll(new GameStateSearchRequest());
+            final List<GameStateResponse> result = service.fetchPage(new GameStateSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -196,12 +211,12 @@ class GameStateSearchServiceTest {
         }
 
         @Test
-        void shouldMapClockStoppedValueFromIntegerToBooleanInResponseWhenTrue() {
+        void shouldMapClockStoppedValueFromIntegerToBooleanInResponseWhenTrue() throws InvalidCursorException {
             final GameState gameState = GameState.builder().clockStopped(1).build();
 
-            when(repository.findAll(ArgumentMatchers.<Example<GameState>>any())).thenReturn(Collections.singletonList(gameState));
+            when(repository.findBy(ArgumentMatchers.<Example<GameState>>any(), any())).thenReturn(Window.from(Collections.singletonList(gameState), ScrollPosition::offset));
 
-            final List<GameStateResponse> result = service.fetchAll(new GameStateSearchRequest());
+            final List<GameStateResponse> result = service.fetchPage(new GameStateSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -211,12 +226,12 @@ class GameStateSearchServiceTest {
         }
 
         @Test
-        void shouldMapClockStoppedValueFromIntegerToBooleanInResponseWhenNull() {
+        void shouldMapClockStoppedValueFromIntegerToBooleanInResponseWhenNull() throws InvalidCursorException {
             final GameState gameState = GameState.builder().build();
 
-            when(repository.findAll(ArgumentMatchers.<Example<GameState>>any())).thenReturn(Collections.singletonList(gameState));
+            when(repository.findBy(ArgumentMatchers.<Example<GameState>>any(), any())).thenReturn(Window.from(Collections.singletonList(gameState), ScrollPosition::offset));
 
-            final List<GameStateResponse> result = service.fetchAll(new GameStateSearchRequest());
+            final List<GameStateResponse> result = service.fetchPage(new GameStateSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -226,7 +241,7 @@ class GameStateSearchServiceTest {
         }
 
         @Test
-        void shouldReturnSameNumberOfResponsesAsGameStatesReturnedByRepository() {
+        void shouldReturnSameNumberOfResponsesAsGameStatesReturnedByRepository() throws InvalidCursorException {
             final List<GameState> gameStateList = List.of(
                     new GameState(),
                     new GameState(),
@@ -234,9 +249,9 @@ class GameStateSearchServiceTest {
                     new GameState()
             );
 
-            when(repository.findAll(ArgumentMatchers.<Example<GameState>>any())).thenReturn(gameStateList);
+            when(repository.findBy(ArgumentMatchers.<Example<GameState>>any(), any())).thenReturn(Window.from(gameStateList, ScrollPosition::offset));
 
-            final List<GameStateResponse> result = service.fetchAll(new GameStateSearchRequest());
+            final List<GameStateResponse> result = service.fetchPage(new GameStateSearchRequest(), null, null).getResources();
 
             assertEquals(gameStateList.size(), result.size());
         }
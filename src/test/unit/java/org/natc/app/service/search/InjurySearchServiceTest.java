@@ -1,20 +1,27 @@
 package org.natc.app.service.search;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.natc.app.configuration.SearchConfiguration;
 import org.natc.app.entity.domain.Injury;
 import org.natc.app.entity.request.InjurySearchRequest;
 import org.natc.app.entity.response.InjuryResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -27,37 +34,45 @@ class InjurySearchServiceTest {
     @Mock
     private JpaRepository repository;
 
+    @Spy
+    private KeysetPaginator keysetPaginator = new KeysetPaginator(new SearchConfiguration());
+
     @InjectMocks
     private InjurySearchService service;
 
+    @BeforeEach
+    void setup() {
+        lenient().when(repository.findBy(any(), any())).thenReturn(Window.from(Collections.emptyList(), ScrollPosition::offset));
+    }
+
     @Nested
-    class FetchAll {
+    class FetchPage {
 
         @Test
-        void shouldReturnAListOfInjuryResponses() {
-            final List<InjuryResponse> result = service.fetchAll(new InjurySearchRequest());
+        void shouldReturnAListOfInjuryResponses() throws InvalidCursorException {
+            final List<InjuryResponse> result = service.fetchPage(new InjurySearchRequest(), null, null).getResources();
 
             assertEquals(0, result.size());
         }
 
         @Test
-        void shouldCallTheInjuryRepositoryWithAnExampleInjury() {
-            service.fetchAll(new InjurySearchRequest());
+        void shouldCallTheInjuryRepositoryWithAnExampleInjury() throws InvalidCursorException {
+            service.fetchPage(new InjurySearchRequest(), null, null);
 
-            verify(repository).findAll(ArgumentMatchers.<Example<Injury>>any());
+            verify(repository).findBy(ArgumentMatchers.<Example<Injury>>any(), any());
         }
 
         @Test
-        void shouldCallInjuryRepositoryWithExampleInjuryBasedOnRequest() {
+        void shouldCallInjuryRepositoryWithExampleInjuryBasedOnRequest() throws InvalidCursorException {
             final InjurySearchRequest request = InjurySearchRequest.builder()
                     .gameId(123)
                     .playerId(4321)
                     .teamId(56)
                     .build();
 
-            service.fetchAll(request);
+            service.fetchPage(request, null, null);
 
-            verify(repository).findAll(captor.capture());
+            verify(repository).findBy(captor.capture(), any());
 
             final Injury injury = captor.getValue().getProbe();
 
@@ -67,12 +82,12 @@ class InjurySearchServiceTest {
         }
 
         @Test
-        void shouldReturnInjuryResponsesMappedFromTheInjuriesReturnedByRepository() {
+        void shouldReturnInjuryResponsesMappedFromTheInjuriesReturnedByRepository() throws InvalidCursorException {
             final Injury injury = generateInjury();
 
-            when(repository.findAll(ArgumentMatchers.<Example<Injury>>any())).thenReturn(Collections.singletonList(injury));
+            when(repository.findBy(ArgumentMatchers.<Example<Injury>>any(), any())).thenReturn(Window.from(Collections.singletonList(injury), ScrollPosition::offset));
 
-            final List<InjuryResponse> result = service.fetchAll(new InjurySearchRequest());
+            final List<InjuryResponse> result = service.fetchPage(new InjurySearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -0,0 +1,189 @@
+package org.natc.app.service.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.natc.app.configuration.SearchConfiguration;
+import org.natc.app.entity.domain.Player;
+import org.natc.app.exception.InvalidCursorException;
+import org.springframework.data.domain.*;
+import org.springframework.data.repository.query.FluentQuery;
+import org.springframework.data.repository.query.QueryByExampleExecutor;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class KeysetPaginatorTest {
+
+    private static final Sort KEYSET = Sort.by("playerId", "year");
+
+    @Mock
+    private QueryByExampleExecutor<Player> repository;
+
+    @Mock
+    private FluentQuery.FetchableFluentQuery<Player> query;
+
+    private SearchConfiguration searchConfiguration;
+    private KeysetPaginator keysetPaginator;
+
+    @BeforeEach
+    void setup() {
+        searchConfiguration = new SearchConfiguration();
+        searchConfiguration.setDefaultPageSize(25);
+        searchConfiguration.setMaxPageSize(50);
+
+        keysetPaginator = new KeysetPaginator(searchConfiguration);
+
+        lenient().when(repository.findBy(any(), any())).thenAnswer(invocation -> invocation.<Function<FluentQuery.FetchableFluentQuery<Player>, ?>>getArgument(1).apply(query));
+        lenient().when(query.sortBy(any())).thenReturn(query);
+        lenient().when(query.limit(anyInt())).thenReturn(query);
+        lenient().when(query.scroll(any())).thenReturn(Window.from(Collections.emptyList(), ScrollPosition::offset));
+    }
+
+    @Nested
+    class FetchPage {
+
+        @Test
+        void shouldSearchUsingTheGivenExample() throws InvalidCursorException {
+            final Example<Player> example = Example.of(Player.builder().year("1990").build());
+
+            keysetPaginator.fetchPage(repository, example, KEYSET, null, null, Player::getPlayerId);
+
+            verify(repository).findBy(eq(example), any());
+        }
+
+        @Test
+        void shouldSortByTheGivenKeyset() throws InvalidCursorException {
+            keysetPaginator.fetchPage(repository, Example.of(new Player()), KEYSET, null, null, Player::getPlayerId);
+
+            verify(query).sortBy(KEYSET);
+        }
+
+        @Test
+        void shouldLimitToTheDefaultPageSizeWhenNoPageSizeIsGiven() throws InvalidCursorException {
+            keysetPaginator.fetchPage(repository, Example.of(new Player()), KEYSET, null, null, Player::getPlayerId);
+
+            verify(query).limit(25);
+        }
+
+        @Test
+        void shouldLimitToTheRequestedPageSize() throws InvalidCursorException {
+            keysetPaginator.fetchPage(repository, Example.of(new Player()), KEYSET, null, 10, Player::getPlayerId);
+
+            verify(query).limit(10);
+        }
+
+        @Test
+        void shouldNotExceedTheMaxPageSize() throws InvalidCursorException {
+            keysetPaginator.fetchPage(repository, Example.of(new Player()), KEYSET, null, 5000, Player::getPlayerId);
+
+            verify(query).limit(50);
+        }
+
+        @Test
+        void shouldScrollFromTheBeginningWhenNoCursorIsGiven() throws InvalidCursorException {
+            final ArgumentCaptor<ScrollPosition> captor = ArgumentCaptor.forClass(ScrollPosition.class);
+
+            keysetPaginator.fetchPage(repository, Example.of(new Player()), KEYSET, null, null, Player::getPlayerId);
+
+            verify(query).scroll(captor.capture());
+
+            assertTrue(captor.getValue().isInitial());
+        }
+
+        @Test
+        void shouldScrollFromThePositionInTheCursor() throws InvalidCursorException {
+            final Map<String, Object> keys = Map.of("playerId", 123, "year", "1990");
+            final ArgumentCaptor<ScrollPosition> captor = ArgumentCaptor.forClass(ScrollPosition.class);
+
+            keysetPaginator.fetchPage(repository, Example.of(new Player()), KEYSET, SearchCursor.encode(ScrollPosition.forward(keys)), null, Player::getPlayerId);
+
+            verify(query).scroll(captor.capture());
+
+            assertEquals(keys, ((KeysetScrollPosition) captor.getValue()).getKeys());
+        }
+
+        @Test
+        void shouldThrowInvalidCursorExceptionWithoutSearchingWhenTheCursorCannotBeDecoded() {
+            assertThrows(InvalidCursorException.class, () -> keysetPaginator.fetchPage(repository, Example.of(new Player()), KEYSET, "!!", null, Player::getPlayerId));
+
+            verifyNoInteractions(repository);
+        }
+
+        @Test
+        void shouldThrowInvalidCursorExceptionWithoutSearchingWhenTheCursorIsFromAnotherSearch() {
+            final String cursor = SearchCursor.encode(ScrollPosition.forward(Map.of("year", "1990", "type", 1, "teamId", 7)));
+
+            assertThrows(InvalidCursorException.class, () -> keysetPaginator.fetchPage(repository, Example.of(new Player()), KEYSET, cursor, null, Player::getPlayerId));
+
+            verifyNoInteractions(repository);
+        }
+
+        @Test
+        void shouldMapEveryRowInTheWindow() throws InvalidCursorException {
+            final List<Player> players = List.of(Player.builder().playerId(1).build(), Player.builder().playerId(2).build());
+
+            when(query.scroll(any())).thenReturn(Window.from(players, ScrollPosition::offset));
+
+            final SearchPage<Integer> page = keysetPaginator.fetchPage(repository, Example.of(new Player()), KEYSET, null, null, Player::getPlayerId);
+
+            assertEquals(List.of(1, 2), page.getResources());
+        }
+
+        @Test
+        void shouldReturnACursorForTheLastRowWhenThereAreMoreRows() throws InvalidCursorException {
+            final List<Player> players = List.of(Player.builder().playerId(1).year("1990").build(), Player.builder().playerId(2).year("1990").build());
+
+            when(query.scroll(any())).thenReturn(Window.from(players, index -> ScrollPosition.forward(Map.of("playerId", players.get(index).getPlayerId(), "year", "1990")), true));
+
+            final SearchPage<Integer> page = keysetPaginator.fetchPage(repository, Example.of(new Player()), KEYSET, null, null, Player::getPlayerId);
+
+            assertEquals(Map.of("playerId", 2, "year", "1990"), SearchCursor.decode(page.getNextCursor(), Player.class, KEYSET).getKeys());
+        }
+
+        @Test
+        void shouldNotReturnACursorOnTheLastPage() throws InvalidCursorException {
+            final List<Player> players = List.of(Player.builder().playerId(1).year("1990").build());
+
+            when(query.scroll(any())).thenReturn(Window.from(players, index -> ScrollPosition.forward(Map.of("playerId", 1, "year", "1990")), false));
+
+            final SearchPage<Integer> page = keysetPaginator.fetchPage(repository, Example.of(new Player()), KEYSET, null, null, Player::getPlayerId);
+
+            assertNull(page.getNextCursor());
+        }
+    }
+
+    @Nested
+    class ResolvePageSize {
+
+        @Test
+        void shouldUseTheDefaultPageSizeWhenPageSizeIsNull() {
+            assertEquals(25, keysetPaginator.resolvePageSize(null));
+        }
+
+        @Test
+        void shouldUseTheDefaultPageSizeWhenPageSizeIsNotPositive() {
+            assertEquals(25, keysetPaginator.resolvePageSize(0));
+        }
+
+        @Test
+        void shouldNeverExceedTheMaxPageSize() {
+            searchConfiguration.setDefaultPageSize(500);
+
+            assertEquals(50, keysetPaginator.resolvePageSize(null));
+            assertEquals(50, keysetPaginator.resolvePageSize(51));
+        }
+    }
+}
@@ -1,16 +1,21 @@
 package org.natc.app.service.search;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.natc.app.configuration.SearchConfiguration;
 import org.natc.app.entity.domain.Manager;
 import org.natc.app.entity.domain.ManagerAward;
 import org.natc.app.entity.domain.ManagerStyle;
 import org.natc.app.entity.request.ManagerSearchRequest;
 import org.natc.app.entity.response.ManagerResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Arrays;
@@ -18,6 +23,8 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -30,28 +37,36 @@ class ManagerSearchServiceTest {
     @Mock
     private JpaRepository managerRepository;
 
+    @Spy
+    private KeysetPaginator keysetPaginator = new KeysetPaginator(new SearchConfiguration());
+
     @InjectMocks
     private ManagerSearchService managerSearchService;
 
+    @BeforeEach
+    void setup() {
+        lenient().when(managerRepository.findBy(any(), any())).thenReturn(Window.from(Collections.emptyList(), ScrollPosition::offset));
+    }
+
     @Nested
-    class FetchAll {
+    class FetchPage {
 
         @Test
-        void shouldReturnAListOfManagerResponses() {
-            final List<ManagerResponse> managerList = managerSearchService.fetchAll(new ManagerSearchRequest());
+        void shouldReturnAListOfManagerResponses() throws InvalidCursorException {
+            final List<ManagerResponse> managerList = managerSearchService.fetchPage(new ManagerSearchRequest(), null, null).getResources();
 
             assertEquals(0, managerList.size());
         }
 
         @Test
-        void shouldCallTheManagerRepositoryWithAnExampleManager() {
-            managerSearchService.fetchAll(new ManagerSearchRequest());
+        void shouldCallTheManagerRepositoryWithAnExampleManager() throws InvalidCursorException {
+            managerSearchService.fetchPage(new ManagerSearchRequest(), null, null);
 
-            verify(managerRepository).findAll(ArgumentMatchers.<Example<Manager>>any());
+            verify(managerRepository).findBy(ArgumentMatchers.<Example<Manager>>any(), any());
         }
 
         @Test
-        void shouldCallManagerRepositoryWithExampleManagerBasedOnRequest() {
+        void shouldCallManagerRepositoryWithExampleManagerBasedOnRequest() throws InvalidCursorException {
             final ManagerSearchRequest request = ManagerSearchRequest.builder()
                     .managerId(123)
                     .teamId(321)
@@ -59,9 +74,9 @@ class ManagerSearchServiceTest {
                     .year("1991")
                     .build();
 
-            managerSearchService.fetchAll(request);
+            managerSearchService.fetchPage(request, null, null);
 
-            verify(managerRepository).findAll(captor.capture());
+            verify(managerRepository).findBy(captor.capture(), any());
 
             final Manager manager = captor.getValue().getProbe();
 
@@ -72,12 +87,12 @@ class ManagerSearchServiceTest {
         }
 
         @Test
-        void shouldReturnManagerResponsesMappedFromTheManagersReturnedByRepository() {
+        void shouldReturnManagerResponsesMappedFromTheManagersReturnedByRepository() throws InvalidCursorException {
             final Manager manager = generateManager(ManagerStyle.PENALTIES, ManagerAward.MANAGER_OF_THE_YEAR);
 
-            when(managerRepository.findAll(ArgumentMatchers.<Example<Manager>>any())).thenReturn(Collections.singletonList(manager));
+            when(managerRepository.findBy(ArgumentMatchers.<Example<Manager>>any(), any())).thenReturn(Window.from(Collections.singletonList(manager), ScrollPosition::offset));
 
-            final List<ManagerResponse> result = managerSearchService.fetchAll(new ManagerSearchRequest());
+            final List<ManagerResponse> result = managerSearchService.fetchPage(new ManagerSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -110,12 +125,12 @@ class ManagerSearchServiceTest {
         }
 
         @Test
-        void shouldMapNewHireValueFromIntegerToBooleanInReponseWhenFalse() {
+        void shouldMapNewHireValueFromIntegerToBooleanInReponseWhenFalse() throws InvalidCursorException {
             final Manager manager = Manager.builder().newHire(0).build();
 
-            when(managerRepository.findAll(ArgumentMatchers.<Example<Manager>>any())).thenReturn(Collections.singletonList(manager));
+            when(managerRepository.findBy(ArgumentMatchers.<Example<Manager>>any(), any())).thenReturn(Window.from(Collections.singletonList(manager), ScrollPosition::offset));
 
-            final List<ManagerResponse> result = managerSearchService.fetchAll(new ManagerSearchRequest());
+            final List<ManagerResponse> result = managerSearchService.fetchPage(new ManagerSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -125,12 +140,12 @@ class ManagerSearchServiceTest {
         }
 
         @Test
-        void shouldMapNewHireValueFromIntegerToBooleanInReponseWhenTrue() {
+        void shouldMapNewHireValueFromIntegerToBooleanInReponseWhenTrue() throws InvalidCursorException {
             final Manager manager = Manager.builder().newHire(1).build();
 
-            when(managerRepository.findAll(ArgumentMatchers.<Example<Manager>>any())).thenReturn(Collections.singletonList(manager));
+            when(managerRepository.findBy(ArgumentMatchers.<Example<Manager>>any(), any())).thenReturn(Window.from(Collections.singletonList(manager), ScrollPosition::offset));
 
-            final List<ManagerResponse> result = managerSearchService.fetchAll(new ManagerSearchRequest());
+            final List<ManagerResponse> result = managerSearchService.fetchPage(new ManagerSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -140,12 +155,12 @@ class ManagerSearchServiceTest {
         }
 
         @Test
-        void shouldMapNewHireValueFromIntegerToBooleanInReponseWhenNull() {
+        void shouldMapNewHireValueFromIntegerToBooleanInReponseWhenNull() throws InvalidCursorException {
             final Manager manager = new Manager();
 
-            when(managerRepository.findAll(ArgumentMatchers.<Example<Manager>>any())).thenReturn(Collections.singletonList(manager));
+            when(managerRepository.findBy(ArgumentMatchers.<Example<Manager>>any(), any())).thenReturn(Window.from(Collections.singletonList(manager), ScrollPosition::offset));
 
-            final List<ManagerResponse> result = managerSearchService.fetchAll(new ManagerSearchRequest());
+            final List<ManagerResponse> result = managerSearchService.fetchPage(new ManagerSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -155,12 +170,12 @@ class ManagerSearchServiceTest {
         }
 
         @Test
-        void shouldMapReleasedValueFromIntegerToBooleanInReponseWhenFalse() {
+        void shouldMapReleasedValueFromIntegerToBooleanInReponseWhenFalse() throws InvalidCursorException {
             final Manager manager = Manager.builder().released(0).build();
 
-            when(managerRepository.findAll(ArgumentMatchers.<Example<Manager>>any())).thenReturn(Collections.singletonList(manager));
+            when(managerRepository.findBy(ArgumentMatchers.<Example<Manager>>any(), any())).thenReturn(Window.from(Collections.singletonList(manager), ScrollPosition::offset));
 
-            final List<ManagerResponse> result = managerSearchService.fetchAll(new ManagerSearchRequest());
+            final List<ManagerResponse> result = managerSearchService.fetchPage(new ManagerSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -170,12 +185,12 @@ class ManagerSearchServiceTest {
         }
 
         @Test
-        void shouldMapReleasedValueFromIntegerToBooleanInReponseWhenTrue() {
+        void shouldMapReleasedValueFromIntegerToBooleanInReponseWhenTrue() throws InvalidCursorException {
             final Manager manager = Manager.builder().released(1).build();
 
-            when(managerRepository.findAll(ArgumentMatchers.<Example<Manager>>any())).thenReturn(Collections.singletonList(manager));
+            when(managerRepository.findBy(ArgumentMatchers.<Example<Manager>>any(), any())).thenReturn(Window.from(Collections.singletonList(manager), ScrollPosition::offset));
 
-            final List<ManagerResponse> result = managerSearchService.fetchAll(new ManagerSearchRequest());
+            final List<ManagerResponse> result = managerSearchService.fetchPage(new ManagerSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -185,12 +200,12 @@ class ManagerSearchServiceTest {
         }
 
         @Test
-        void shouldMapReleasedValueFromIntegerToBooleanInReponseWhenNull() {
+        void shouldMapReleasedValueFromIntegerToBooleanInReponseWhenNull() throws InvalidCursorException {
             final Manager manager = new Manager();
 
-            when(managerRepository.findAll(ArgumentMatchers.<Example<Manager>>any())).thenReturn(Collections.singletonList(manager));
+            when(managerRepository.findBy(ArgumentMatchers.<Example<Manager>>any(), any())).thenReturn(Window.from(Collections.singletonList(manager), ScrollPosition::offset));
 
-            final List<ManagerResponse> result = managerSearchService.fetchAll(new ManagerSearchRequest());
+            final List<ManagerResponse> result = managerSearchService.fetchPage(new ManagerSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -200,12 +215,12 @@ class ManagerSearchServiceTest {
         }
 
         @Test
-        void shouldMapRetiredValueFromIntegerToBooleanInReponseWhenFalse() {
+        void shouldMapRetiredValueFromIntegerToBooleanInReponseWhenFalse() throws InvalidCursorException {
             final Manager manager = Manager.builder().retired(0).build();
 
-            when(managerRepository.findAll(ArgumentMatchers.<Example<Manager>>any())).thenReturn(Collections.singletonList(manager));
+            when(managerRepository.findBy(ArgumentMatchers.<Example<Manager>>any(), any())).thenReturn(Window.from(Collections.singletonList(manager), ScrollPosition::offset));
 
-            final List<ManagerResponse> result = managerSearchService.fetchAll(new ManagerSearchRequest());
+            final List<ManagerResponse> result = managerSearchService.fetchPage(new ManagerSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -215,12 +230,12 @@ class ManagerSearchServiceTest {
         }
 
         @Test
-        void shouldMapRetiredValueFromIntegerToBooleanInReponseWhenTrue() {
+        void shouldMapRetiredValueFromIntegerToBooleanInReponseWhenTrue() throws InvalidCursorException {
             final Manager manager = Manager.builder().retired(1).build();
 
-            when(managerRepository.findAll(ArgumentMatchers.<Example<Manager>>any())).thenReturn(Collections.singletonList(manager));
+            when(managerRepository.findBy(ArgumentMatchers.<Example<Manager>>any(), any())).thenReturn(Window.from(Collections.singletonList(manager), ScrollPosition::offset));
 
-            final List<ManagerResponse> result = managerSearchService.fetchAll(new ManagerSearchRequest());
+            final List<ManagerResponse> result = managerSearchService.fetchPage(new ManagerSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -230,12 +245,12 @@ class ManagerSearchServiceTest {
         }
 
         @Test
-        void shouldMapRetiredValueFromIntegerToBooleanInReponseWhenNull() {
+        void shouldMapRetiredValueFromIntegerToBooleanInReponseWhenNull() throws InvalidCursorException {
             final Manager manager = new Manager();
 
-            when(managerRepository.findAll(ArgumentMatchers.<Example<Manager>>any())).thenReturn(Collections.singletonList(manager));
+            when(managerRepository.findBy(ArgumentMatchers.<Example<Manager>>any(), any())).thenReturn(Window.from(Collections.singletonList(manager), ScrollPosition::offset));
 
-            final List<ManagerResponse> result = managerSearchService.fetchAll(new ManagerSearchRequest());
+            final List<ManagerResponse> result = managerSearchService.fetchPage(new ManagerSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -245,12 +260,12 @@ class ManagerSearchServiceTest {
         }
 
         @Test
-        void shouldReturnSameNumberOfResponsesAsManagersReturnedByRepository() {
+        void shouldReturnSameNumberOfResponsesAsManagersReturnedByRepository() throws InvalidCursorException {
             final List<Manager> managerList = List.of(new Manager(), new Manager(), new Manager(), new Manager());
 
-            when(managerRepository.findAll(ArgumentMatchers.<Example<Manager>>any())).thenReturn(managerList);
+            when(managerRepository.findBy(ArgumentMatchers.<Example<Manager>>any(), any())).thenReturn(Window.from(managerList, ScrollPosition::offset));
 
-            final List<ManagerResponse> result = managerSearchService.fetchAll(new ManagerSearchRequest());
+            final List<ManagerResponse> result = managerSearchService.fetchPage(new ManagerSearchRequest(), null, null).getResources();
 
             assertEquals(managerList.size(), result.size());
         }
@@ -1,15 +1,20 @@
 package org.natc.app.service.search;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.natc.app.configuration.SearchConfiguration;
 import org.natc.app.entity.domain.GameType;
 import org.natc.app.entity.domain.PlayerGame;
 import org.natc.app.entity.request.PlayerGameSearchRequest;
 import org.natc.app.entity.response.PlayerGameResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.time.LocalDate;
@@ -18,6 +23,8 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -30,28 +37,36 @@ class PlayerGameSearchServiceTest {
     @Mock
     private JpaRepository repository;
 
+    @Spy
+    private KeysetPaginator keysetPaginator = new KeysetPaginator(new SearchConfiguration());
+
     @InjectMocks
     private PlayerGameSearchService service;
 
+    @BeforeEach
+    void setup() {
+        lenient().when(repository.findBy(any(), any())).thenReturn(Window.from(Collections.emptyList(), ScrollPosition::offset));
+    }
+
     @Nested
-    class FetchAll {
+    class FetchPage {
 
         @Test
-        void shouldReturnAListOfPlayerGameResponses() {
-            final List<PlayerGameResponse> result = service.fetchAll(new PlayerGameSearchRequest());
+        void shouldReturnAListOfPlayerGameResponses() throws InvalidCursorException {
+            final List<PlayerGameResponse> result = service.fetchPage(new PlayerGameSearchRequest(), null, null).getResources();
 
             assertEquals(0, result.size());
         }
 
         @Test
-        void shouldCallThePlayerGameRepositoryWithAnExamplePlayerGame() {
-            service.fetchAll(new PlayerGameSearchRequest());
+        void shouldCallThePlayerGameRepositoryWithAnExamplePlayerGame() throws InvalidCursorException {
+            service.fetchPage(new PlayerGameSearchRequest(), null, null);
 
-            verify(repository).findAll(ArgumentMatchers.<Example<PlayerGame>>any());
+            verify(repository).findBy(ArgumentMatchers.<Example<PlayerGame>>any(), any());
         }
 
         @Test
-        void shouldCallPlayerGameRepositoryWithExamplePlayerGameBasedOnRequest() {
+        void shouldCallPlayerGameRepositoryWithExamplePlayerGameBasedOnRequest() throws InvalidCursorException {
             final PlayerGameSearchRequest request = PlayerGameSearchRequest.builder()
                     .gameId(123)
                     .year("2014")
@@ -61,9 +76,9 @@ class PlayerGameSearchServiceTest {
                     .teamId(32)
                     .build();
 
-            service.fetchAll(request);
+            service.fetchPage(request, null, null);
 
-            verify(repository).findAll(captor.capture());
+            verify(repository).findBy(captor.capture(), any());
 
             final PlayerGame playerGame = captor.getValue().getProbe();
 
@@ -76,12 +91,12 @@ class PlayerGameSearchServiceTest {
         }
 
         @Test
-        void shouldReturnResponsesMappedFromThePlayerGamesReturnedByRepository() {
+        void shouldReturnResponsesMappedFromThePlayerGamesReturnedByRepository() throws InvalidCursorException {
             final PlayerGame playerGame = generatePlayerGame(GameType.REGULAR_SEASON);
 
-            when(repository.findAll(ArgumentMatchers.<Example<PlayerGame>>any())).thenReturn(Collections.singletonList(playerGame));
+            when(repository.findBy(ArgumentMatchers.<Example<PlayerGame>>any(), any())).thenReturn(Window.from(Collections.singletonList(playerGame), ScrollPosition::offset));
 
-            final List<PlayerGameResponse> result = service.fetchAll(new PlayerGameSearchRequest());
+            final List<PlayerGameResponse> result = service.fetchPage(new PlayerGameSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -114,12 +129,12 @@ class PlayerGameSearchServiceTest {
         }
 
         @Test
-        void shouldMapInjuredValueFromIntegerToBooleanInResponseWhenFalse() {
+        void shouldMapInjuredValueFromIntegerToBooleanInResponseWhenFalse() throws InvalidCursorException {
             final PlayerGame playerGame = PlayerGame.builder().injured(0).build();
 
-            when(repository.findAll(ArgumentMatchers.<Example<PlayerGame>>any())).thenReturn(Collections.singletonList(playerGame));
+            when(repository.findBy(ArgumentMatchers.<Example<PlayerGame>>any(), any())).thenReturn(Window.from(Collections.singletonList(playerGame), ScrollPosition::offset));
 
-            final List<PlayerGameResponse> result = service.fetchAll(new PlayerGameSearchRequest());
+            final List<PlayerGameResponse> result = service.fetchPage(new PlayerGameSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -129,12 +144,12 @@ class PlayerGameSearchServiceTest {
         }
 
         @Test
-        void shouldMapInjuredValueFromIntegerToBooleanInResponseWhenTrue() {
+        void shouldMapInjuredValueFromIntegerToBooleanInResponseWhenTrue() throws InvalidCursorException {
             final PlayerGame playerGame = PlayerGame.builder().injured(1).build();
 
-            when(repository.findAll(ArgumentMatchers.<Example<PlayerGame>>any())).thenReturn(Collections.singletonList(playerGame));
+            when(repository.findBy(ArgumentMatchers.<Example<PlayerGame>>any(), any())).thenReturn(Window.from(Collections.singletonList(playerGame), ScrollPosition::offset));
 
-            final List<PlayerGameResponse> result = service.fetchAll(new PlayerGameSearchRequest());
+            final List<PlayerGameResponse> result = service.fetchPage(new PlayerGameSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -144,12 +159,12 @@ class PlayerGameSearchServiceTest {
         }
 
         @Test
-        void shouldMapInjuredValueFromIntegerToBooleanInResponseWhenNull() {
+        void shouldMapInjuredValueFromIntegerToBooleanInResponseWhenNull() throws InvalidCursorException {
             final PlayerGame playerGame = PlayerGame.builder().build();
 
-            when(repository.findAll(ArgumentMatchers.<Example<PlayerGame>>any())).thenReturn(Collections.singletonList(playerGame));
+            when(repository.findBy(ArgumentMatchers.<Example<PlayerGame>>any(), any())).thenReturn(Window.from(Collections.singletonList(playerGame), ScrollPosition::offset));
 
-            final List<PlayerGameResponse> result = service.fetchAll(new PlayerGameSearchRequest());
+            final List<PlayerGameResponse> result = service.fetchPage(new PlayerGameSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -159,12 +174,12 @@ class PlayerGameSearchServiceTest {
         }
 
         @Test
-        void shouldMapStartedValueFromIntegerToBooleanInResponseWhenFalse() {
+        void shouldMapStartedValueFromIntegerToBooleanInResponseWhenFalse() throws InvalidCursorException {
             final PlayerGame playerGame = PlayerGame.builder().started(0).build();
 
-            when(repository.findAll(ArgumentMatchers.<Example<PlayerGame>>any())).thenReturn(Collections.singletonList(playerGame));
+            when(repository.findBy(ArgumentMatchers.<Example<PlayerGame>>any(), any())).thenReturn(Window.from(Collections.singletonList(playerGame), ScrollPosition::offset));
 
-            final List<PlayerGameResponse> result = service.fetchAll(new PlayerGameSearchRequest());
+            final List<PlayerGameResponse> result = service.fetchPage(new PlayerGameSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -174,12 +189,12 @@ class PlayerGameSearchServiceTest {
         }
 
         @Test
-        void shouldMapStartedValueFromIntegerToBooleanInResponseWhenTrue() {
+        void shouldMapStartedValueFromIntegerToBooleanInResponseWhenTrue() throws InvalidCursorException {
             final PlayerGame playerGame = PlayerGame.builder().started(1).build();
 
-            when(repository.findAll(ArgumentMatchers.<Example<PlayerGame>>any())).thenReturn(Collections.singletonList(playerGame));
+            when(repository.findBy(ArgumentMatchers.<Example<PlayerGame>>any(), any())).thenReturn(Window.from(Collections.singletonList(playerGame), ScrollPosition::offset));
 
-            final List<PlayerGameResponse> result = service.fetchAll(new PlayerGameSearchRequest());
+            final List<PlayerGameResponse> result = service.fetchPage(new PlayerGameSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -189,12 +204,12 @@ class PlayerGameSearchServiceTest {
         }
 
         @Test
-        void shouldMapStartedValueFromIntegerToBooleanInResponseWhenNull() {
+        void shouldMapStartedValueFromIntegerToBooleanInResponseWhenNull() throws InvalidCursorException {
             final PlayerGame playerGame = PlayerGame.builder().build();
 
-            when(repository.findAll(ArgumentMatchers.<Example<PlayerGame>>any())).thenReturn(Collections.singletonList(playerGame));
+            when(repository.findBy(ArgumentMatchers.<Example<PlayerGame>>any(), any())).thenReturn(Window.from(Collections.singletonList(playerGame), ScrollPosition::offset));
 
-            final List<PlayerGameResponse> result = service.fetchAll(new PlayerGameSearchRequest());
+            final List<PlayerGameResponse> result = service.fetchPage(new PlayerGameSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -204,7 +219,7 @@ class PlayerGameSearchServiceTest {
         }
 
         @Test
-        void shouldReturnSameNumberOfResponsesAsPlayerGamesReturnedByRepository() {
+        void shouldReturnSameNumberOfResponsesAsPlayerGamesReturnedByRepository() throws InvalidCursorException {
             final List<PlayerGame> playerGameList = List.of(
                     new PlayerGame(),
                     new PlayerGame(),
@@ -212,9 +227,9 @@ class PlayerGameSearchServiceTest {
                     new PlayerGame()
             );
 
-            when(repository.findAll(ArgumentMatchers.<Example<PlayerGame>>any())).thenReturn(playerGameList);
+            when(repository.findBy(ArgumentMatchers.<Example<PlayerGame>>any(), any())).thenReturn(Window.from(playerGameList, ScrollPosition::offset));
 
-            final List<PlayerGameResponse> result = service.fetchAll(new PlayerGameSearchRequest());
+            final List<PlayerGameResponse> result = service.fetchPage(new PlayerGameSearchRequest(), null, null).getResources();
 
             assertEquals(playerGameList.size(), result.size());
         }
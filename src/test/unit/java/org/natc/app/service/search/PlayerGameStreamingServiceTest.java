@@ -0,0 +1,90 @@
+package org.natc.app.service.search;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.natc.app.entity.domain.GameType;
+import org.natc.app.entity.domain.PlayerGame;
+import org.natc.app.entity.request.PlayerGameSearchRequest;
+import org.natc.app.entity.response.PlayerGameResponse;
+import org.natc.app.repository.PlayerGameRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PlayerGameStreamingServiceTest {
+
+    @Captor
+    private ArgumentCaptor<PlayerGame> captor;
+
+    @Mock
+    private PlayerGameRepository repository;
+
+    @InjectMocks
+    private PlayerGameStreamingService service;
+
+    @Nested
+    class StreamAll {
+
+        @Test
+        void shouldCallRepositoryWithProbeBasedOnRequest() {
+            final PlayerGameSearchRequest request = PlayerGameSearchRequest.builder()
+                    .gameId(123)
+                    .year("2014")
+                    .datestamp(LocalDate.now())
+                    .type(GameType.REGULAR_SEASON)
+                    .playerId(321)
+                    .teamId(32)
+                    .build();
+
+            service.streamAll(request, response -> {});
+
+            verify(repository).streamAll(captor.capture(), any());
+
+            final PlayerGame probe = captor.getValue();
+
+            assertEquals(request.getGameId(), probe.getGameId());
+            assertEquals(request.getYear(), probe.getYear());
+            assertEquals(request.getDatestamp(), probe.getDatestamp());
+            assertEquals(request.getPlayerId(), probe.getPlayerId());
+            assertEquals(request.getTeamId(), probe.getTeamId());
+            assertEquals(request.getType().getValue(), probe.getType());
+        }
+
+        @Test
+        void shouldPassEveryRowToTheConsumerMappedToAResponseInOrder() {
+            final PlayerGame first = PlayerGame.builder().playerId(1).year("2014").type(GameType.REGULAR_SEASON.getValue()).build();
+            final PlayerGame second = PlayerGame.builder().playerId(2).year("2014").type(GameType.REGULAR_SEASON.getValue()).build();
+            final List<PlayerGameResponse> responses = new ArrayList<>();
+
+            doAnswer(invocation -> {
+                final Consumer<PlayerGame> consumer = invocation.getArgument(1);
+
+                consumer.accept(first);
+                consumer.accept(second);
+
+                return null;
+            }).when(repository).streamAll(any(), any());
+
+            service.streamAll(new PlayerGameSearchRequest(), responses::add);
+
+            assertEquals(2, responses.size());
+            assertEquals(first.getPlayerId(), responses.get(0).getPlayerId());
+            assertEquals(second.getPlayerId(), responses.get(1).getPlayerId());
+            assertEquals(GameType.REGULAR_SEASON, responses.get(0).getType());
+        }
+    }
+}
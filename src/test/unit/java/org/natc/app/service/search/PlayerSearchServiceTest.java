@@ -1,15 +1,20 @@
 package org.natc.app.service.search;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.natc.app.configuration.SearchConfiguration;
 import org.natc.app.entity.domain.Player;
 import org.natc.app.entity.domain.PlayerAward;
 import org.natc.app.entity.request.PlayerSearchRequest;
 import org.natc.app.entity.response.PlayerResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.time.LocalDate;
@@ -18,6 +23,8 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -30,37 +37,45 @@ class PlayerSearchServiceTest {
     @Mock
     private JpaRepository playerRepository;
 
+    @Spy
+    private KeysetPaginator keysetPaginator = new KeysetPaginator(new SearchConfiguration());
+
     @InjectMocks
     private PlayerSearchService playerSearchService;
 
+    @BeforeEach
+    void setup() {
+        lenient().when(playerRepository.findBy(any(), any())).thenReturn(Window.from(Collections.emptyList(), ScrollPosition::offset));
+    }
+
     @Nested
-    class FetchAll {
+    class FetchPage {
 
         @Test
-        void shouldReturnAListOfPlayerResponses() {
-            final List<PlayerResponse> playerList = playerSearchService.fetchAll(new PlayerSearchRequest());
+        void shouldReturnAListOfPlayerResponses() throws InvalidCursorException {
+            final List<PlayerResponse> playerList = playerSearchService.fetchPage(new PlayerSearchRequest(), null, null).getResources();
 
             assertEquals(0, playerList.size());
         }
 
         @Test
-        void shouldCallThePlayerRepositoryWithAnExamplePlayer() {
-            playerSearchService.fetchAll(new PlayerSearchRequest());
+        void shouldCallThePlayerRepositoryWithAnExamplePlayer() throws InvalidCursorException {
+            playerSearchService.fetchPage(new PlayerSearchRequest(), null, null);
 
-            verify(playerRepository).findAll(ArgumentMatchers.<Example<Player>>any());
+            verify(playerRepository).findBy(ArgumentMatchers.<Example<Player>>any(), any());
         }
 
         @Test
-        void shouldCallPlayerRepositoryWithExamplePlayerBasedOnRequest() {
+        void shouldCallPlayerRepositoryWithExamplePlayerBasedOnRequest() throws InvalidCursorException {
             final PlayerSearchRequest request = PlayerSearchRequest.builder()
                     .playerId(123)
                     .teamId(321)
                     .year("1991")
                     .build();
 
-            playerSearchService.fetchAll(request);
+            playerSearchService.fetchPage(request, null, null);
 
-            verify(playerRepository).findAll(captor.capture());
+            verify(playerRepository).findBy(captor.capture(), any());
 
             final Player player = captor.getValue().getProbe();
 
@@ -70,12 +85,12 @@ class PlayerSearchServiceTest {
         }
 
         @Test
-        void shouldReturnPlayerResponsesMappedFromThePlayersReturnedByRepository() {
+        void shouldReturnPlayerResponsesMappedFromThePlayersReturnedByRepository() throws InvalidCursorException {
             final Player player = generatePlayer(PlayerAward.GOLD);
 
-            when(playerRepository.findAll(ArgumentMatchers.<Example<Player>>any())).thenReturn(Collections.singletonList(player));
+            when(playerRepository.findBy(ArgumentMatchers.<Example<Player>>any(), any())).thenReturn(Window.from(Collections.singletonList(player), ScrollPosition::offset));
 
-            final List<PlayerResponse> playerList = playerSearchService.fetchAll(new PlayerSearchRequest());
+            final List<PlayerResponse> playerList = playerSearchService.fetchPage(new PlayerSearchRequest(), null, null).getResources();
 
             assertEquals(1, playerList.size());
 
@@ -118,12 +133,12 @@ class PlayerSearchServiceTest {
         }
 
         @Test
-        void shouldMapRookieValueFromIntegerToBooleanInReponseWhenFalse() {
+        void shouldMapRookieValueFromIntegerToBooleanInReponseWhenFalse() throws InvalidCursorException {
             final Player player = Player.builder().rookie(0).build();
 
-            when(playerRepository.findAll(ArgumentMatchers.<Example<Player>>any())).thenReturn(Collections.singletonList(player));
+            when(playerRepository.findBy(ArgumentMatchers.<Example<Player>>any(), any())).thenReturn(Window.from(Collections.singletonList(player), ScrollPosition::offset));
 
-            final List<PlayerResponse> playerList = playerSearchService.fetchAll(new PlayerSearchRequest());
+            final List<PlayerResponse> playerList = playerSearchService.fetchPage(new PlayerSearchRequest(), null, null).getResources();
 
             assertEquals(1, playerList.size());
 
@@ -133,12 +148,12 @@ class PlayerSearchServiceTest {
         }
 
         @Test
-        void shouldMapRookieValueFromIntegerToBooleanInReponseWhenTrue() {
+        void shouldMapRookieValueFromIntegerToBooleanInReponseWhenTrue() throws InvalidCursorException {
             final Player player = Player.builder().rookie(1).build();
 
-            when(playerRepository.findAll(ArgumentMatchers.<Example<Player>>any())).thenReturn(Collections.singletonList(player));
+            when(playerRepository.findBy(ArgumentMatchers.<Example<Player>>any(), any())).thenReturn(Window.from(Collections.singletonList(player), ScrollPosition::offset));
 
-            final List<PlayerResponse> playerList = playerSearchService.fetchAll(new PlayerSearchRequest());
+            final List<PlayerResponse> playerList = playerSearchService.fetchPage(new PlayerSearchRequest(), null, null).getResources();
 
             assertEquals(1, playerList.size());
 
@@ -149,12 +164,12 @@ class PlayerSearchServiceTest {
         }
 
         @Test
-        void shouldMapRookieValueFromIntegerToBooleanInReponseWhenNull() {
+        void shouldMapRookieValueFromIntegerToBooleanInReponseWhenNull() throws InvalidCursorException {
             final Player player = Player.builder().build();
 
-            when(playerRepository.findAll(ArgumentMatchers.<Example<Player>>any())).thenReturn(Collections.singletonList(player));
+            when(playerRepository.findBy(ArgumentMatchers.<Example<Player>>any(), any())).thenReturn(Window.from(Collections.singletonList(player), ScrollPosition::offset));
 
-            final List<PlayerResponse> playerList = playerSearchService.fetchAll(new PlayerSearchRequest());
+            final List<PlayerResponse> playerList = playerSearchService.fetchPage(new PlayerSearchRequest(), null, null).getResources();
 
             assertEquals(1, playerList.size());
 
@@ -164,12 +179,12 @@ class PlayerSearchServiceTest {
         }
 
         @Test
-        void shouldMapInjuredValueFromIntegerToBooleanInReponseWhenFalse() {
+        void shouldMapInjuredValueFromIntegerToBooleanInReponseWhenFalse() throws InvalidCursorException {
             final Player player = Player.builder().injured(0).build();
 
-            when(playerRepository.findAll(ArgumentMatchers.<Example<Player>>any())).thenReturn(Collections.singletonList(player));
+            when(playerRepository.findBy(ArgumentMatchers.<Example<Player>>any(), any())).thenReturn(Window.from(Collections.singletonList(player), ScrollPosition::offset));
 
-            final List<PlayerResponse> playerList = playerSearchService.fetchAll(new PlayerSearchRequest());
+            final List<PlayerResponse> playerList = playerSearchService.fetchPage(new PlayerSearchRequest(), null, null).getResources();
 
             assertEquals(1, playerList.size());
 
@@ -179,12 +194,12 @@ class PlayerSearchServiceTest {
         }
 
         @Test
-        void shouldMapInjuredValueFromIntegerToBooleanInReponseWhenTrue() {
+        void shouldMapInjuredValueFromIntegerToBooleanInReponseWhenTrue() throws InvalidCursorException {
             final Player player = Player.builder().injured(1).build();
 
-            when(playerRepository.findAll(ArgumentMatchers.<Example<Player>>any())).thenReturn(Collections.singletonList(player));
+            when(playerRepository.findBy(ArgumentMatchers.<Example<Player>>any(), any())).thenReturn(Window.from(Collections.singletonList(player), ScrollPosition::offset));
 
-            final List<PlayerResponse> playerList = playerSearchService.fetchAll(new PlayerSearchRequest());
+            final List<PlayerResponse> playerList = playerSearchService.fetchPage(new PlayerSearchRequest(), null, null).getResources();
 
             assertEquals(1, playerList.size());
 
@@ -194,12 +209,12 @@ class PlayerSearchServiceTest {
         }
 
         @Test
-        void shouldMapInjuredValueFromIntegerToBooleanInReponseWhenNull() {
+        void shouldMapInjuredValueFromIntegerToBooleanInReponseWhenNull() throws InvalidCursorException {
             final Player player = Player.builder().build();
 
-            when(playerRepository.findAll(ArgumentMatchers.<Example<Player>>any())).thenReturn(Collections.singletonList(player));
+            when(playerRepository.findBy(ArgumentMatchers.<Example<Player>>any(), any())).thenReturn(Window.from(Collections.singletonList(player), ScrollPosition::offset));
 
-            final List<PlayerResponse> playerList = playerSearchService.fetchAll(new PlayerSearchRequest());
+            final List<PlayerResponse> playerList = playerSearchService.fetchPage(new PlayerSearchRequest(), null, null).getResources();
 
             assertEquals(1, playerList.size());
 
@@ -209,12 +224,12 @@ class PlayerSearchServiceTest {
         }
 
         @Test
-        void shouldMapFreeAgentValueFromIntegerToBooleanInReponseWhenFalse() {
+        void shouldMapFreeAgentValueFromIntegerToBooleanInReponseWhenFalse() throws InvalidCursorException {
             final Player player = Player.builder().freeAgent(0).build();
 
-            when(playerRepository.findAll(ArgumentMatchers.<Example<Player>>any())).thenReturn(Collections.singletonList(player));
+            when(playerRepository.findBy(ArgumentMatchers.<Example<Player>>any(), any())).thenReturn(Window.from(Collections.singletonList(player), ScrollPosition::offset));
 
-            final List<PlayerResponse> playerList = playerSearchService.fetchAll(new PlayerSearchRequest());
+            final List<PlayerResponse> playerList = playerSearchService.fetchPage(new PlayerSearchRequest(), null, null).getResources();
 
             assertEquals(1, playerList.size());
 
@@ -224,12 +239,12 @@ class PlayerSearchServiceTest {
         }
 
         @Test
-        void shouldMapFreeAgentValueFromIntegerToBooleanInReponseWhenTrue() {
+        void shouldMapFreeAgentValueFromIntegerToBooleanInReponseWhenTrue() throws InvalidCursorException {
             final Player player = Player.builder().freeAgent(1).build();
 
-            when(playerRepository.findAll(ArgumentMatchers.<Example<Player>>any())).thenReturn(Collections.singletonList(player));
+            when(playerRepository.findBy(ArgumentMatchers.<Example<Player>>any(), any())).thenReturn(Window.from(Collections.singletonList(player), ScrollPosition::offset));
 
-            final List<PlayerResponse> playerList = playerSearchService.fetchAll(new PlayerSearchRequest());
+            final List<PlayerResponse> playerList = playerSearchService.fetchPage(new PlayerSearchRequest(), null, null).getResources();
 
             assertEquals(1, playerList.size());
 
@@ -239,12 +254,12 @@ class PlayerSearchServiceTest {
         }
 
         @Test
-        void shouldMapFreeAgentValueFromIntegerToBooleanInReponseWhenNull() {
+        void shouldMapFreeAgentValueFromIntegerToBooleanInReponseWhenNull() throws InvalidCursorException {
             final Player player = Player.builder().build();
 
-            when(playerRepository.findAll(ArgumentMatchers.<Example<Player>>any())).thenReturn(Collections.singletonList(player));
+            when(playerRepository.findBy(ArgumentMatchers.<Example<Player>>any(), any())).thenReturn(Window.from(Collections.singletonList(player), ScrollPosition::offset));
 
-            final List<PlayerResponse> playerList = playerSearchService.fetchAll(new PlayerSearchRequest());
+            final List<PlayerResponse> playerList = playerSearchService.fetchPage(new PlayerSearchRequest(), null, null).getResources();
 
             assertEquals(1, playerList.size());
 
@@ -254,12 +269,12 @@ class PlayerSearchServiceTest {
         }
 
         @Test
-        void shouldMapSignedValueFromIntegerToBooleanInReponseWhenFalse() {
+        void shouldMapSignedValueFromIntegerToBooleanInReponseWhenFalse() throws InvalidCursorException {
             final Player player = Player.builder().signed(0).build();
 
-            when(playerRepository.findAll(ArgumentMatchers.<Example<Player>>any())).thenReturn(Collections.singletonList(player));
+            when(playerRepository.findBy(ArgumentMatchers.<Example<Player>>any(), any())).thenReturn(Window.from(Collections.singletonList(player), ScrollPosition::offset));
 
-            final List<PlayerResponse> playerList = playerSearchService.fetchAll(new PlayerSearchRequest());
+            final List<PlayerResponse> playerList = playerSearchService.fetchPage(new PlayerSearchRequest(), null, null).getResources();
 
             assertEquals(1, playerList.size());
 
@@ -269,12 +284,12 @@ class PlayerSearchServiceTest {
         }
 
         @Test
-        void shouldMapSignedValueFromIntegerToBooleanInReponseWhenTrue() {
+        void shouldMapSignedValueFromIntegerToBooleanInReponseWhenTrue() throws InvalidCursorException {
             final Player player = Player.builder().signed(1).build();
 
-            when(playerRepository.findAll(ArgumentMatchers.<Example<Player>>any())).thenReturn(Collections.singletonList(player));
+            when(playerRepository.findBy(ArgumentMatchers.<Example<Player>>any(), any())).thenReturn(Window.from(Collections.singletonList(player), ScrollPosition::offset));
 
-            final List<PlayerResponse> playerList = playerSearchService.fetchAll(new PlayerSearchRequest());
+            final List<PlayerResponse> playerList = playerSearchService.fetchPage(new PlayerSearchRequest(), null, null).getResources();
 
             assertEquals(1, playerList.size());
 
@@ -284,12 +299,12 @@ class PlayerSearchServiceTest {
         }
 
         @Test
-        void shouldMapSignedValueFromIntegerToBooleanInReponseWhenNull() {
+        void shouldMapSignedValueFromIntegerToBooleanInReponseWhenNull() throws InvalidCursorException {
             final Player player = Player.builder().build();
 
-            when(playerRepository.findAll(ArgumentMatchers.<Example<Player>>any())).thenReturn(Collections.singletonList(player));
+            when(playerRepository.findBy(ArgumentMatchers.<Example<Player>>any(), any())).thenReturn(Window.from(Collections.singletonList(player), ScrollPosition::offset));
 
-            final List<PlayerResponse> playerList = playerSearchService.fetchAll(new PlayerSearchRequest());
+            final List<PlayerResponse> playerList = playerSearchService.fetchPage(new PlayerSearchRequest(), null, null).getResources();
 
             assertEquals(1, playerList.size());
 
@@ -299,12 +314,12 @@ class PlayerSearchServiceTest {
         }
 
         @Test
-        void shouldMapReleasedValueFromIntegerToBooleanInReponseWhenFalse() {
+        void shouldMapReleasedValueFromIntegerToBooleanInReponseWhenFalse() throws InvalidCursorException {
             final Player player = Player.builder().released(0).build();
 
-            when(playerRepository.findAll(ArgumentMatchers.<Example<Player>>any())).thenReturn(Collections.singletonList(player));
+            when(playerRepository.findBy(ArgumentMatchers.<Example<Player>>any(), any())).thenReturn(Window.from(Collections.singletonList(player), ScrollPosition::offset));
 
-            final List<PlayerResponse> playerList = playerSearchService.fetchAll(new PlayerSearchRequest());
+            final List<PlayerResponse> playerList = playerSearchService.fetchPage(new PlayerSearchRequest(), null, null).getResources();
 
             assertEquals(1, playerList.size());
 
@@ -314,12 +329,12 @@ class PlayerSearchServiceTest {
         }
 
         @Test
-        void shouldMapReleasedValueFromIntegerToBooleanInReponseWhenTrue() {
+        void shouldMapReleasedValueFromIntegerToBooleanInReponseWhenTrue() throws InvalidCursorException {
             final Player player = Player.builder().released(1).build();
 
-            when(playerRepository.findAll(ArgumentMatchers.<Example<Player>>any())).thenReturn(Collections.singletonList(player));
+            when(playerRepository.findBy(ArgumentMatchers.<Example<Player>>any(), any())).thenReturn(Window.from(Collections.singletonList(player), ScrollPosition::offset));
 
-            final List<PlayerResponse> playerList = playerSearchService.fetchAll(new PlayerSearchRequest());
+            final List<PlayerResponse> playerList = playerSearchService.fetchPage(new PlayerSearchRequest(), null, null).getResources();
 
             assertEquals(1, playerList.size());
 
@@ -329,12 +344,12 @@ class PlayerSearchServiceTest {
         }
 
         @Test
-        void shouldMapReleasedValueFromIntegerToBooleanInReponseWhenNull() {
+        void shouldMapReleasedValueFromIntegerToBooleanInReponseWhenNull() throws InvalidCursorException {
             final Player player = Player.builder().build();
 
-            when(playerRepository.findAll(ArgumentMatchers.<Example<Player>>any())).thenReturn(Collections.singletonList(player));
+            when(playerRepository.findBy(ArgumentMatchers.<Example<Player>>any(), any())).thenReturn(Window.from(Collections.singletonList(player), ScrollPosition::offset));
 
-            final List<PlayerResponse> playerList = playerSearchService.fetchAll(new PlayerSearchRequest());
+            final List<PlayerResponse> playerList = playerSearchService.fetchPage(new PlayerSearchRequest(), null, null).getResources();
 
             assertEquals(1, playerList.size());
 
@@ -344,12 +359,12 @@ class PlayerSearchServiceTest {
         }
 
         @Test
-        void shouldMapRetiredValueFromIntegerToBooleanInReponseWhenFalse() {
+        void shouldMapRetiredValueFromIntegerToBooleanInReponseWhenFalse() throws InvalidCursorException {
             final Player player = Player.builder().retired(0).build();
 
-            when(playerRepository.findAll(ArgumentMatchers.<Example<Player>>any())).thenReturn(Collections.singletonList(player));
+            when(playerRepository.findBy(ArgumentMatchers.<Example<Player>>any(), any())).thenReturn(Window.from(Collections.singletonList(player), ScrollPosition::offset));
 
-            final List<PlayerResponse> playerList = playerSearchService.fetchAll(new PlayerSearchRequest());
+            final List<PlayerResponse> playerList = playerSearchService.fetchPage(new PlayerSearchRequest(), null, null).getResources();
 
             assertEquals(1, playerList.size());
 
@@ -359,12 +374,12 @@ class PlayerSearchServiceTest {
         }
 
         @Test
-        void shouldMapRetiredValueFromIntegerToBooleanInReponseWhenTrue() {
+        void shouldMapRetiredValueFromIntegerToBooleanInReponseWhenTrue() throws InvalidCursorException {
             final Player player = Player.builder().retired(1).build();
 
-            when(playerRepository.findAll(ArgumentMatchers.<Example<Player>>any())).thenReturn(Collections.singletonList(player));
+            when(playerRepository.findBy(ArgumentMatchers.<Example<Player>>any(), any())).thenReturn(Window.from(Collections.singletonList(player), ScrollPosition::offset));
 
-            final List<PlayerResponse> playerList = playerSearchService.fetchAll(new PlayerSearchRequest());
+            final List<PlayerResponse> playerList = playerSearchService.fetchPage(new PlayerSearchRequest(), null, null).getResources();
 
             assertEquals(1, playerList.size());
 
@@ -374,12 +389,12 @@ class PlayerSearchServiceTest {
         }
 
         @Test
-        void shouldMapRetiredValueFromIntegerToBooleanInReponseWhenNull() {
+        void shouldMapRetiredValueFromIntegerToBooleanInReponseWhenNull() throws InvalidCursorException {
             final Player player = Player.builder().build();
 
-            when(playerRepository.findAll(ArgumentMatchers.<Example<Player>>any())).thenReturn(Collections.singletonList(player));
+            when(playerRepository.findBy(ArgumentMatchers.<Example<Player>>any(), any())).thenReturn(Window.from(Collections.singletonList(player), ScrollPosition::offset));
 
-            final List<PlayerResponse> playerList = playerSearchService.fetchAll(new PlayerSearchRequest());
+            final List<PlayerResponse> playerList = playerSearchService.fetchPage(new PlayerSearchRequest(), null, null).getResources();
 
             assertEquals(1, playerList.size());
 
@@ -389,12 +404,12 @@ class PlayerSearchServiceTest {
         }
 
         @Test
-        void shouldMapAllstarAlternateValueFromIntegerToBooleanInReponseWhenFalse() {
+        void shouldMapAllstarAlternateValueFromIntegerToBooleanInReponseWhenFalse() throws InvalidCursorException {
             final Player player = Player.builder().allstarAlternate(0).build();
 
-            when(playerRepository.findAll(ArgumentMatchers.<Example<Player>>any())).thenReturn(Collections.singletonList(player));
+            when(playerRepository.findBy(ArgumentMatchers.<Example<Player>>any(), any())).thenReturn(Window.from(Collections.singletonList(player), ScrollPosition::offset));
 
-            final List<PlayerResponse> playerList = playerSearchService.fetchAll(new PlayerSearchRequest());
+            final List<PlayerResponse> playerList = playerSearchService.fetchPage(new PlayerSearchRequest(), null, null).getResources();
 
             assertEquals(1, playerList.size());
 
@@ -404,12 +419,12 @@ class PlayerSearchServiceTest {
         }
 
         @Test
-        void shouldMapAllstarAlternateValueFromIntegerToBooleanInReponseWhenTrue() {
+        void shouldMapAllstarAlternateValueFromIntegerToBooleanInReponseWhenTrue() throws InvalidCursorException {
             final Player player = Player.builder().allstarAlternate(1).build();
 
-            when(playerRepository.findAll(ArgumentMatchers.<Example<Player>>any())).thenReturn(Collections.singletonList(player));
+            when(playerRepository.findBy(ArgumentMatchers.<Example<Player>>any(), any())).thenReturn(Window.from(Collections.singletonList(player), ScrollPosition::offset));
 
-            final List<PlayerResponse> playerList = playerSearchService.fetchAll(new PlayerSearchRequest());
+            final List<PlayerResponse> playerList = playerSearchService.fetchPage(new PlayerSearchRequest(), null, null).getResources();
 
             assertEquals(1, playerList.size());
 
@@ -419,12 +434,12 @@ class PlayerSearchServiceTest {
         }
 
         @Test
-        void shouldMapAllstarAlternateValueFromIntegerToBooleanInReponseWhenNull() {
+        void shouldMapAllstarAlternateValueFromIntegerToBooleanInReponseWhenNull() throws InvalidCursorException {
             final Player player = Player.builder().build();
 
-            when(playerRepository.findAll(ArgumentMatchers.<Example<Player>>any())).thenReturn(Collections.singletonList(player));
+            when(playerRepository.findBy(ArgumentMatchers.<Example<Player>>any(), any())).thenReturn(Window.from(Collections.singletonList(player), ScrollPosition::offset));
 
-            final List<PlayerResponse> playerList = playerSearchService.fetchAll(new PlayerSearchRequest());
+            final List<PlayerResponse> playerList = playerSearchService.fetchPage(new PlayerSearchRequest(), null, null).getResources();
 
             assertEquals(1, playerList.size());
 
@@ -434,12 +449,12 @@ class PlayerSearchServiceTest {
         }
 
         @Test
-        void shouldReturnSameNumberOfResponsesAsPlayersReturnedByRepository() {
+        void shouldReturnSameNumberOfResponsesAsPlayersReturnedByRepository() throws InvalidCursorException {
             final List<Player> playerList = List.of(new Player(), new Player(), new Player(), new Player());
 
-            when(playerRepository.findAll(ArgumentMatchers.<Example<Player>>any())).thenReturn(playerList);
+            when(playerRepository.findBy(ArgumentMatchers.<Example<Player>>any(), any())).thenReturn(Window.from(playerList, ScrollPosition::offset));
 
-            final List<PlayerResponse> result = playerSearchService.fetchAll(new PlayerSearchRequest());
+            final List<PlayerResponse> result = playerSearchService.fetchPage(new PlayerSearchRequest(), null, null).getResources();
 
             assertEquals(playerList.size(), result.size());
         }
@@ -1,15 +1,20 @@
 package org.natc.app.service.search;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.natc.app.configuration.SearchConfiguration;
 import org.natc.app.entity.domain.GameType;
 import org.natc.app.entity.domain.PlayerStatsSummary;
 import org.natc.app.entity.request.PlayerStatsSummarySearchRequest;
 import org.natc.app.entity.response.PlayerStatsSummaryResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Arrays;
@@ -17,6 +22,8 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -29,28 +36,36 @@ class PlayerStatsSummarySearchServiceTest {
     @Mock
     private JpaRepository repository;
 
+    @Spy
+    private KeysetPaginator keysetPaginator = new KeysetPaginator(new SearchConfiguration());
+
     @InjectMocks
     private PlayerStatsSummarySearchService service;
 
+    @BeforeEach
+    void setup() {
+        lenient().when(repository.findBy(any(), any())).thenReturn(Window.from(Collections.emptyList(), ScrollPosition::offset));
+    }
+
     @Nested
-    class FetchAll {
+    class FetchPage {
 
         @Test
-        void shouldReturnAListOfPlayerStatsSummaryResponses() {
-            final List<PlayerStatsSummaryResponse> result = service.fetchAll(new PlayerStatsSummarySearchRequest());
+        void shouldReturnAListOfPlayerStatsSummaryResponses() throws InvalidCursorException {
+            final List<PlayerStatsSummaryResponse> result = service.fetchPage(new PlayerStatsSummarySearchRequest(), null, null).getResources();
 
             assertEquals(0, result.size());
         }
 
         @Test
-        void shouldCallTheRepositoryWithAnExamplePlayerStatsSummary() {
-            service.fetchAll(new PlayerStatsSummarySearchRequest());
+        void shouldCallTheRepositoryWithAnExamplePlayerStatsSummary() throws InvalidCursorException {
+            service.fetchPage(new PlayerStatsSummarySearchRequest(), null, null);
 
-            verify(repository).findAll(ArgumentMatchers.<Example<PlayerStatsSummary>>any());
+            verify(repository).findBy(ArgumentMatchers.<Example<PlayerStatsSummary>>any(), any());
         }
 
         @Test
-        void shouldCallRepositoryWithExampleBasedOnRequest() {
+        void shouldCallRepositoryWithExampleBasedOnRequest() throws InvalidCursorException {
             final PlayerStatsSummarySearchRequest request = PlayerStatsSummarySearchRequest.builder()
                     .year("1888")
                     .type(GameType.POSTSEASON)
@@ -58,9 +73,9 @@ class PlayerStatsSummarySearchServiceTest {
                     .teamId(22)
                     .build();
 
-            final List<PlayerStatsSummaryResponse> result = service.fetchAll(request);
+            final List<PlayerStatsSummaryResponse> result = service.fetchPage(request, null, null).getResources();
 
-            verify(repository).findAll(captor.capture());
+            verify(repository).findBy(captor.capture(), any());
 
             final PlayerStatsSummary playerStatsSummary = captor.getValue().getProbe();
 
@@ -71,13 +86,13 @@ class PlayerStatsSummarySearchServiceTest {
         }
 
         @Test
-        void shouldReturnResponsesMappedFromThePlayerStatsSummariesReturnedByRepository() {
+        void shouldReturnResponsesMappedFromThePlayerStatsSummariesReturnedByRepository() throws InvalidCursorException {
             final PlayerStatsSummary playerStatsSummary = generatePlayerStatsSummary(GameType.PRESEASON);
 
-            when(repository.findAll(ArgumentMatchers.<Example<PlayerStatsSummary>>any()))
-                    .thenReturn(Collections.singletonList(playerStatsSummary));
+            when(repository.findBy(ArgumentMatchers.<Example<PlayerStatsSummary>>any(), any()))
+                    .thenReturn(Window.from(Collections.singletonList(playerStatsSummary), ScrollPosition::offset));
 
-            final List<PlayerStatsSummaryResponse> result = service.fetchAll(new PlayerStatsSummarySearchRequest());
+            final List<PlayerStatsSummaryResponse> result = service.fetchPage(new PlayerStatsSummarySearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -105,7 +120,7 @@ class PlayerStatsSummarySearchServiceTest {
         }
 
         @Test
-        void shouldReturnSameNumberOfResponsesAsPlayerStatsSummariesReturnedByRepository() {
+        void shouldReturnSameNumberOfResponsesAsPlayerStatsSummariesReturnedByRepository() throws InvalidCursorException {
             final List<PlayerStatsSummary> playerStatsSummaryList = List.of(
                     new PlayerStatsSummary(),
                     new PlayerStatsSummary(),
@@ -113,10 +128,10 @@ class PlayerStatsSummarySearchServiceTest {
                     new PlayerStatsSummary()
             );
 
-            when(repository.findAll(ArgumentMatchers.<Example<PlayerStatsSummary>>any()))
-                    .thenReturn(playerStatsSummaryList);
+            when(repository.findBy(ArgumentMatchers.<Example<PlayerStatsSummary>>any(), any()))
+                    .thenReturn(Window.from(playerStatsSummaryList, ScrollPosition::offset));
 
-            final List<PlayerStatsSummaryResponse> result = service.fetchAll(new PlayerStatsSummarySearchRequest());
+            final List<PlayerStatsSummaryResponse> result = service.fetchPage(new PlayerStatsSummarySearchRequest(), null, null).getResources();
 
             assertEquals(playerStatsSummaryList.size(), result.size());
         }
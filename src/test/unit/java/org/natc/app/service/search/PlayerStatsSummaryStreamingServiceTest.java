@@ -0,0 +1,85 @@
+package org.natc.app.service.search;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.natc.app.entity.domain.GameType;
+import org.natc.app.entity.domain.PlayerStatsSummary;
+import org.natc.app.entity.request.PlayerStatsSummarySearchRequest;
+import org.natc.app.entity.response.PlayerStatsSummaryResponse;
+import org.natc.app.repository.PlayerStatsSummaryRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PlayerStatsSummaryStreamingServiceTest {
+
+    @Captor
+    private ArgumentCaptor<PlayerStatsSummary> captor;
+
+    @Mock
+    private PlayerStatsSummaryRepository repository;
+
+    @InjectMocks
+    private PlayerStatsSummaryStreamingService service;
+
+    @Nested
+    class StreamAll {
+
+        @Test
+        void shouldCallRepositoryWithProbeBasedOnRequest() {
+            final PlayerStatsSummarySearchRequest request = PlayerStatsSummarySearchRequest.builder()
+                    .year("2014")
+                    .type(GameType.REGULAR_SEASON)
+                    .playerId(321)
+                    .teamId(32)
+                    .build();
+
+            service.streamAll(request, response -> {});
+
+            verify(repository).streamAll(captor.capture(), any());
+
+            final PlayerStatsSummary probe = captor.getValue();
+
+            assertEquals(request.getYear(), probe.getYear());
+            assertEquals(request.getPlayerId(), probe.getPlayerId());
+            assertEquals(request.getTeamId(), probe.getTeamId());
+            assertEquals(request.getType().getValue(), probe.getType());
+        }
+
+        @Test
+        void shouldPassEveryRowToTheConsumerMappedToAResponseInOrder() {
+            final PlayerStatsSummary first = PlayerStatsSummary.builder().playerId(1).year("2014").type(GameType.REGULAR_SEASON.getValue()).build();
+            final PlayerStatsSummary second = PlayerStatsSummary.builder().playerId(2).year("2014").type(GameType.REGULAR_SEASON.getValue()).build();
+            final List<PlayerStatsSummaryResponse> responses = new ArrayList<>();
+
+            doAnswer(invocation -> {
+                final Consumer<PlayerStatsSummary> consumer = invocation.getArgument(1);
+
+                consumer.accept(first);
+                consumer.accept(second);
+
+                return null;
+            }).when(repository).streamAll(any(), any());
+
+            service.streamAll(new PlayerStatsSummarySearchRequest(), responses::add);
+
+            assertEquals(2, responses.size());
+            assertEquals(first.getPlayerId(), responses.get(0).getPlayerId());
+            assertEquals(second.getPlayerId(), responses.get(1).getPlayerId());
+            assertEquals(GameType.REGULAR_SEASON, responses.get(0).getType());
+        }
+    }
+}
@@ -1,16 +1,21 @@
 package org.natc.app.service.search;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.natc.app.configuration.SearchConfiguration;
 import org.natc.app.entity.domain.Schedule;
 import org.natc.app.entity.domain.ScheduleStatus;
 import org.natc.app.entity.domain.ScheduleType;
 import org.natc.app.entity.request.ScheduleSearchRequest;
 import org.natc.app.entity.response.ScheduleResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.time.LocalDate;
@@ -18,6 +23,8 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -30,33 +37,41 @@ class ScheduleSearchServiceTest {
     @Mock
     private JpaRepository scheduleRepository;
 
+    @Spy
+    private KeysetPaginator keysetPaginator = new KeysetPaginator(new SearchConfiguration());
+
     @InjectMocks
     private ScheduleSearchService scheduleSearchService;
 
+    @BeforeEach
+    void setup() {
+        lenient().when(scheduleRepository.findBy(any(), any())).thenReturn(Window.from(Collections.emptyList(), ScrollPosition::offset));
+    }
+
     @Nested
-    class FetchAll {
+    class FetchPage {
 
         @Test
-        void shouldReturnAListOfScheduleResponses() {
-            final List<ScheduleResponse> result = scheduleSearchService.fetchAll(new ScheduleSearchRequest());
+        void shouldReturnAListOfScheduleResponses() throws InvalidCursorException {
+            final List<ScheduleResponse> result = scheduleSearchService.fetchPage(new ScheduleSearchRequest(), null, null).getResources();
 
             assertEquals(0, result.size());
         }
 
         @Test
-        void shouldCallTheScheduleRepositoryWithAnExampleSchedule() {
-            scheduleSearchService.fetchAll(new ScheduleSearchRequest());
+        void shouldCallTheScheduleRepositoryWithAnExampleSchedule() throws InvalidCursorException {
+            scheduleSearchService.fetchPage(new ScheduleSearchRequest(), null, null);
 
-            verify(scheduleRepository).findAll(ArgumentMatchers.<Example<Schedule>>any());
+            verify(scheduleRepository).findBy(ArgumentMatchers.<Example<Schedule>>any(), any());
         }
 
         @Test
-        void shouldCallScheduleRepositoryWithExampleScheduleBasedOnRequest() {
+        void shouldCallScheduleRepositoryWithExampleScheduleBasedOnRequest() throws InvalidCursorException {
             final ScheduleSearchRequest request = ScheduleSearchRequest.builder().year("1999").sequence(5).build();
 
-            scheduleSearchService.fetchAll(request);
+            scheduleSearchService.fetchPage(request, null, null);
 
-            verify(scheduleRepository).findAll(captor.capture());
+            verify(scheduleRepository).findBy(captor.capture(), any());
 
             final Schedule schedule = captor.getValue().getProbe();
 
@@ -65,13 +80,13 @@ class ScheduleSearchServiceTest {
         }
 
         @Test
-        void shouldReturnScheduleResponsesMappedFromTheSchedulesReturnedByRepository() {
+        void shouldReturnScheduleResponsesMappedFromTheSchedulesReturnedByRepository() throws InvalidCursorException {
             final Schedule schedule = generateSchedule(ScheduleType.REGULAR_SEASON, ScheduleStatus.IN_PROGRESS);
 
-            when(scheduleRepository.findAll(ArgumentMatchers.<Example<Schedule>>any()))
-                    .thenReturn(Collections.singletonList(schedule));
+            when(scheduleRepository.findBy(ArgumentMatchers.<Example<Schedule>>any(), any()))
+                    .thenReturn(Window.from(Collections.singletonList(schedule), ScrollPosition::offset));
 
-            final List<ScheduleResponse> result = scheduleSearchService.fetchAll(new ScheduleSearchRequest());
+            final List<ScheduleResponse> result = scheduleSearchService.fetchPage(new ScheduleSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
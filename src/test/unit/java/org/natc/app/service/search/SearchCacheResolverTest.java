@@ -0,0 +1,153 @@
+package org.natc.app.service.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.natc.app.entity.domain.Schedule;
+import org.natc.app.entity.domain.ScheduleStatus;
+import org.natc.app.entity.domain.ScheduleType;
+import org.natc.app.entity.request.GameStateSearchRequest;
+import org.natc.app.entity.request.PlayerSearchRequest;
+import org.natc.app.manager.ScheduleEntryProcessedEvent;
+import org.natc.app.repository.ScheduleRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.CacheOperationInvocationContext;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+import static org.natc.app.service.search.SearchCacheResolver.COMPLETED_SEASONS_CACHE;
+import static org.natc.app.service.search.SearchCacheResolver.CURRENT_SEASON_CACHE;
+
+@ExtendWith(MockitoExtension.class)
+class SearchCacheResolverTest {
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    @Mock
+    private Cache completedSeasonsCache;
+
+    @Mock
+    private Cache currentSeasonCache;
+
+    @Mock
+    private CacheOperationInvocationContext<?> context;
+
+    private SearchCacheResolver searchCacheResolver;
+
+    @BeforeEach
+    void setup() {
+        searchCacheResolver = new SearchCacheResolver(cacheManager, scheduleRepository);
+
+        lenient().when(cacheManager.getCache(COMPLETED_SEASONS_CACHE)).thenReturn(completedSeasonsCache);
+        lenient().when(cacheManager.getCache(CURRENT_SEASON_CACHE)).thenReturn(currentSeasonCache);
+        lenient().when(scheduleRepository.findByTypeAndStatus(ScheduleType.END_OF_SEASON.getValue(), ScheduleStatus.COMPLETED.getValue()))
+                .thenReturn(List.of(Schedule.builder().year("2001").build()));
+    }
+
+    @Nested
+    class ResolveCaches {
+
+        @Test
+        void shouldUseTheCompletedSeasonsCacheWhenSearchingACompletedSeason() {
+            when(context.getArgs()).thenReturn(new Object[] { PlayerSearchRequest.builder().year("2001").build(), null, null });
+
+            assertEquals(List.of(completedSeasonsCache), searchCacheResolver.resolveCaches(context));
+        }
+
+        @Test
+        void shouldUseTheCurrentSeasonCacheWhenSearchingASeasonThatHasNotCompleted() {
+            when(context.getArgs()).thenReturn(new Object[] { PlayerSearchRequest.builder().year("2002").build(), null, null });
+
+            assertEquals(List.of(currentSeasonCache), searchCacheResolver.resolveCaches(context));
+        }
+
+        @Test
+        void shouldUseTheCurrentSeasonCacheWhenTheSearchIsNotNarrowedToASeason() {
+            when(context.getArgs()).thenReturn(new Object[] { new PlayerSearchRequest(), null, null });
+
+            assertEquals(List.of(currentSeasonCache), searchCacheResolver.resolveCaches(context));
+        }
+
+        @Test
+        void shouldUseTheCurrentSeasonCacheWhenTheSearchCannotBeNarrowedToASeason() {
+            when(context.getArgs()).thenReturn(new Object[] { GameStateSearchRequest.builder().gameId(1).build(), null, null });
+
+            assertEquals(List.of(currentSeasonCache), searchCacheResolver.resolveCaches(context));
+        }
+
+        @Test
+        void shouldOnlyLookUpTheCompletedSeasonsOnce() {
+            when(context.getArgs()).thenReturn(new Object[] { PlayerSearchRequest.builder().year("2001").build(), null, null });
+
+            searchCacheResolver.resolveCaches(context);
+            searchCacheResolver.resolveCaches(context);
+
+            verify(scheduleRepository, times(1)).findByTypeAndStatus(any(), any());
+        }
+    }
+
+    @Nested
+    class ScheduleEntryProcessed {
+
+        @Test
+        void shouldClearTheCurrentSeasonCache() {
+            searchCacheResolver.scheduleEntryProcessed(new ScheduleEntryProcessedEvent(Schedule.builder()
+                    .year("2002")
+                    .type(ScheduleType.REGULAR_SEASON.getValue())
+                    .status(ScheduleStatus.COMPLETED.getValue())
+                    .build()));
+
+            verify(currentSeasonCache).clear();
+            verifyNoInteractions(completedSeasonsCache);
+        }
+
+        @Test
+        void shouldTreatTheSeasonAsCompletedOnceItsEndOfSeasonEntryIsCompleted() {
+            when(context.getArgs()).thenReturn(new Object[] { PlayerSearchRequest.builder().year("2002").build(), null, null });
+
+            searchCacheResolver.scheduleEntryProcessed(new ScheduleEntryProcessedEvent(Schedule.builder()
+                    .year("2002")
+                    .type(ScheduleType.END_OF_SEASON.getValue())
+                    .status(ScheduleStatus.COMPLETED.getValue())
+                    .build()));
+
+            assertEquals(List.of(completedSeasonsCache), searchCacheResolver.resolveCaches(context));
+        }
+
+        @Test
+        void shouldNotTreatTheSeasonAsCompletedWhenItsEndOfSeasonEntryIsNotCompleted() {
+            when(context.getArgs()).thenReturn(new Object[] { PlayerSearchRequest.builder().year("2002").build(), null, null });
+
+            searchCacheResolver.scheduleEntryProcessed(new ScheduleEntryProcessedEvent(Schedule.builder()
+                    .year("2002")
+                    .type(ScheduleType.END_OF_SEASON.getValue())
+                    .status(ScheduleStatus.IN_PROGRESS.getValue())
+                    .build()));
+
+            assertEquals(List.of(currentSeasonCache), searchCacheResolver.resolveCaches(context));
+        }
+
+        @Test
+        void shouldKeepPreviouslyCompletedSeasonsWhenASeasonIsCompleted() {
+            when(context.getArgs()).thenReturn(new Object[] { PlayerSearchRequest.builder().year("2001").build(), null, null });
+
+            searchCacheResolver.scheduleEntryProcessed(new ScheduleEntryProcessedEvent(Schedule.builder()
+                    .year("2002")
+                    .type(ScheduleType.END_OF_SEASON.getValue())
+                    .status(ScheduleStatus.COMPLETED.getValue())
+                    .build()));
+
+            assertEquals(List.of(completedSeasonsCache), searchCacheResolver.resolveCaches(context));
+        }
+    }
+}
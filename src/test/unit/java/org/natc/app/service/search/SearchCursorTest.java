@@ -0,0 +1,119 @@
+package org.natc.app.service.search;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.natc.app.entity.domain.PlayerStatsSummary;
+import org.natc.app.exception.InvalidCursorException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchCursorTest {
+
+    private static final Sort KEYSET = Sort.by("year", "type", "playerId");
+
+    @Nested
+    class Encode {
+
+        @Test
+        void shouldProduceAUrlSafeCursor() {
+            final String cursor = SearchCursor.encode(ScrollPosition.forward(Map.of("year", "1990", "playerId", 123)));
+
+            assertTrue(cursor.matches("[A-Za-z0-9_-]+"));
+        }
+
+        @Test
+        void shouldRejectPositionsThatAreNotKeysets() {
+            assertThrows(IllegalArgumentException.class, () -> SearchCursor.encode(ScrollPosition.offset(10)));
+        }
+    }
+
+    @Nested
+    class Decode {
+
+        @Test
+        void shouldStartFromTheBeginningWhenCursorIsNull() throws InvalidCursorException {
+            assertTrue(SearchCursor.decode(null, PlayerStatsSummary.class, KEYSET).isInitial());
+        }
+
+        @Test
+        void shouldStartFromTheBeginningWhenCursorIsBlank() throws InvalidCursorException {
+            assertTrue(SearchCursor.decode(" ", PlayerStatsSummary.class, KEYSET).isInitial());
+        }
+
+        @Test
+        void shouldRestoreTheKeysOfAnEncodedPositionWithTheirTypes() throws InvalidCursorException {
+            final Map<String, Object> keys = new LinkedHashMap<>();
+
+            keys.put("year", "1990");
+            keys.put("type", 2);
+            keys.put("playerId", 123);
+
+            final KeysetScrollPosition position = SearchCursor.decode(SearchCursor.encode(ScrollPosition.forward(keys)), PlayerStatsSummary.class, KEYSET);
+
+            assertEquals(keys, position.getKeys());
+            assertEquals(ScrollPosition.Direction.FORWARD, position.getDirection());
+        }
+
+        @Test
+        void shouldThrowInvalidCursorExceptionWhenCursorIsNotBase64() {
+            assertThrows(InvalidCursorException.class, () -> SearchCursor.decode("not a cursor!", PlayerStatsSummary.class, KEYSET));
+        }
+
+        @Test
+        void shouldThrowInvalidCursorExceptionWhenCursorIsNotJson() {
+            final String cursor = Base64.getUrlEncoder().encodeToString("year=1990".getBytes(StandardCharsets.UTF_8));
+
+            assertThrows(InvalidCursorException.class, () -> SearchCursor.decode(cursor, PlayerStatsSummary.class, KEYSET));
+        }
+
+        @Test
+        void shouldThrowInvalidCursorExceptionWhenCursorHasNoKeys() {
+            final String cursor = Base64.getUrlEncoder().encodeToString("{}".getBytes(StandardCharsets.UTF_8));
+
+            assertThrows(InvalidCursorException.class, () -> SearchCursor.decode(cursor, PlayerStatsSummary.class, KEYSET));
+        }
+
+        @Test
+        void shouldThrowInvalidCursorExceptionWhenCursorIsMissingAKey() {
+            final String cursor = SearchCursor.encode(ScrollPosition.forward(Map.of("year", "1990", "playerId", 123)));
+
+            assertThrows(InvalidCursorException.class, () -> SearchCursor.decode(cursor, PlayerStatsSummary.class, KEYSET));
+        }
+
+        @Test
+        void shouldThrowInvalidCursorExceptionWhenCursorHasAKeyThatIsNotInTheKeyset() {
+            final Map<String, Object> keys = new LinkedHashMap<>();
+
+            keys.put("year", "1990");
+            keys.put("type", 2);
+            keys.put("playerId", 123);
+            keys.put("teamId", 4);
+
+            final String cursor = SearchCursor.encode(ScrollPosition.forward(keys));
+
+            assertThrows(InvalidCursorException.class, () -> SearchCursor.decode(cursor, PlayerStatsSummary.class, KEYSET));
+        }
+
+        @Test
+        void shouldThrowInvalidCursorExceptionWhenAKeyHasTheWrongType() {
+            final String cursor = SearchCursor.encode(ScrollPosition.forward(Map.of("year", 1990, "type", 2, "playerId", 123)));
+
+            assertThrows(InvalidCursorException.class, () -> SearchCursor.decode(cursor, PlayerStatsSummary.class, KEYSET));
+        }
+
+        @Test
+        void shouldThrowInvalidCursorExceptionWhenAKeyIsNull() {
+            final String cursor = Base64.getUrlEncoder().encodeToString("{\"year\":\"1990\",\"type\":null,\"playerId\":123}".getBytes(StandardCharsets.UTF_8));
+
+            assertThrows(InvalidCursorException.class, () -> SearchCursor.decode(cursor, PlayerStatsSummary.class, KEYSET));
+        }
+    }
+}
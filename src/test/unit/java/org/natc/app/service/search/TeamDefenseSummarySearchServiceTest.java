@@ -1,15 +1,20 @@
 package org.natc.app.service.search;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.natc.app.configuration.SearchConfiguration;
 import org.natc.app.entity.domain.GameType;
 import org.natc.app.entity.domain.TeamDefenseSummary;
 import org.natc.app.entity.request.TeamDefenseSummarySearchRequest;
 import org.natc.app.entity.response.TeamDefenseSummaryResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Arrays;
@@ -17,6 +22,8 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -29,37 +36,45 @@ class TeamDefenseSummarySearchServiceTest {
     @Mock
     private JpaRepository repository;
 
+    @Spy
+    private KeysetPaginator keysetPaginator = new KeysetPaginator(new SearchConfiguration());
+
     @InjectMocks
     private TeamDefenseSummarySearchService service;
 
+    @BeforeEach
+    void setup() {
+        lenient().when(repository.findBy(any(), any())).thenReturn(Window.from(Collections.emptyList(), ScrollPosition::offset));
+    }
+
     @Nested
-    class FetchAll {
+    class FetchPage {
 
         @Test
-        void shouldReturnAListOfTeamDefenseSummaryResponses() {
-            final List<TeamDefenseSummaryResponse> result = service.fetchAll(new TeamDefenseSummarySearchRequest());
+        void shouldReturnAListOfTeamDefenseSummaryResponses() throws InvalidCursorException {
+            final List<TeamDefenseSummaryResponse> result = service.fetchPage(new TeamDefenseSummarySearchRequest(), null, null).getResources();
 
             assertEquals(0, result.size());
         }
 
         @Test
-        void shouldCallTheRepositoryWithAnExampleTeamDefenseSummary() {
-            service.fetchAll(new TeamDefenseSummarySearchRequest());
+        void shouldCallTheRepositoryWithAnExampleTeamDefenseSummary() throws InvalidCursorException {
+            service.fetchPage(new TeamDefenseSummarySearchRequest(), null, null);
 
-            verify(repository).findAll(ArgumentMatchers.<Example<TeamDefenseSummary>>any());
+            verify(repository).findBy(ArgumentMatchers.<Example<TeamDefenseSummary>>any(), any());
         }
 
         @Test
-        void shouldCallRepositoryWithExampleBasedOnRequest() {
+        void shouldCallRepositoryWithExampleBasedOnRequest() throws InvalidCursorException {
             final TeamDefenseSummarySearchRequest request = TeamDefenseSummarySearchRequest.builder()
                     .year("1992")
                     .type(GameType.POSTSEASON)
                     .teamId(16)
                     .build();
 
-            service.fetchAll(request);
+            service.fetchPage(request, null, null);
 
-            verify(repository).findAll(captor.capture());
+            verify(repository).findBy(captor.capture(), any());
 
             final TeamDefenseSummary teamDefenseSummary = captor.getValue().getProbe();
 
@@ -69,13 +84,13 @@ class TeamDefenseSummarySearchServiceTest {
         }
 
         @Test
-        void shouldReturnResponsesMappedFromTheTeamDefenseSummariesReturnedByRepository() {
+        void shouldReturnResponsesMappedFromTheTeamDefenseSummariesReturnedByRepository() throws InvalidCursorException {
             final TeamDefenseSummary teamDefenseSummary = generateTeamDefenseSummary(GameType.ALLSTAR);
 
-            when(repository.findAll(ArgumentMatchers.<Example<TeamDefenseSummary>>any()))
-                    .thenReturn(Collections.singletonList(teamDefenseSummary));
+            when(repository.findBy(ArgumentMatchers.<Example<TeamDefenseSummary>>any(), any()))
+                    .thenReturn(Window.from(Collections.singletonList(teamDefenseSummary), ScrollPosition::offset));
 
-            final List<TeamDefenseSummaryResponse> result = service.fetchAll(new TeamDefenseSummarySearchRequest());
+            final List<TeamDefenseSummaryResponse> result = service.fetchPage(new TeamDefenseSummarySearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -101,7 +116,7 @@ class TeamDefenseSummarySearchServiceTest {
         }
 
         @Test
-        void shouldReturnSameNumberOfResponsesAsTeamDefenseSummariesReturnedByRepository() {
+        void shouldReturnSameNumberOfResponsesAsTeamDefenseSummariesReturnedByRepository() throws InvalidCursorException {
             final List<TeamDefenseSummary> teamDefenseSummaryList = List.of(
                     new TeamDefenseSummary(),
                     new TeamDefenseSummary(),
@@ -109,10 +124,10 @@ class TeamDefenseSummarySearchServiceTest {
                     new TeamDefenseSummary()
             );
 
-            when(repository.findAll(ArgumentMatchers.<Example<TeamDefenseSummary>>any()))
-                    .thenReturn(teamDefenseSummaryList);
+            when(repository.findBy(ArgumentMatchers.<Example<TeamDefenseSummary>>any(), any()))
+                    .thenReturn(Window.from(teamDefenseSummaryList, ScrollPosition::offset));
 
-            final List<TeamDefenseSummaryResponse> result = service.fetchAll(new TeamDefenseSummarySearchRequest());
+            final List<TeamDefenseSummaryResponse> result = service.fetchPage(new TeamDefenseSummarySearchRequest(), null, null).getResources();
 
             assertEquals(teamDefenseSummaryList.size(), result.size());
         }
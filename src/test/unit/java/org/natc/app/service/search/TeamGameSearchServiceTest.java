@@ -1,15 +1,20 @@
 package org.natc.app.service.search;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.natc.app.configuration.SearchConfiguration;
 import org.natc.app.entity.domain.GameType;
 import org.natc.app.entity.domain.TeamGame;
 import org.natc.app.entity.request.TeamGameSearchRequest;
 import org.natc.app.entity.response.TeamGameResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.time.LocalDate;
@@ -18,6 +23,8 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -30,28 +37,36 @@ class TeamGameSearchServiceTest {
     @Mock
     private JpaRepository repository;
 
+    @Spy
+    private KeysetPaginator keysetPaginator = new KeysetPaginator(new SearchConfiguration());
+
     @InjectMocks
     private TeamGameSearchService service;
 
+    @BeforeEach
+    void setup() {
+        lenient().when(repository.findBy(any(), any())).thenReturn(Window.from(Collections.emptyList(), ScrollPosition::offset));
+    }
+
     @Nested
-    class FetchAll {
+    class FetchPage {
 
         @Test
-        void shouldReturnAListOfTeamGameResponses() {
-            final List<TeamGameResponse> result = service.fetchAll(new TeamGameSearchRequest());
+        void shouldReturnAListOfTeamGameResponses() throws InvalidCursorException {
+            final List<TeamGameResponse> result = service.fetchPage(new TeamGameSearchRequest(), null, null).getResources();
 
             assertEquals(0, result.size());
         }
 
         @Test
-        void shouldCallTheTeamGameRepositoryWithAnExampleTeamGame() {
-            service.fetchAll(new TeamGameSearchRequest());
+        void shouldCallTheTeamGameRepositoryWithAnExampleTeamGame() throws InvalidCursorException {
+            service.fetchPage(new TeamGameSearchRequest(), null, null);
 
-            verify(repository).findAll(ArgumentMatchers.<Example<TeamGame>>any());
+            verify(repository).findBy(ArgumentMatchers.<Example<TeamGame>>any(), any());
         }
 
         @Test
-        void shouldCallTeamGameRepositoryWithExampleTeamGameBasedOnRequest() {
+        void shouldCallTeamGameRepositoryWithExampleTeamGameBasedOnRequest() throws InvalidCursorException {
             final TeamGameSearchRequest request = TeamGameSearchRequest.builder()
                     .gameId(25)
                     .year("1994")
@@ -61,9 +76,9 @@ class TeamGameSearchServiceTest {
                     .opponent(12)
                     .build();
 
-            service.fetchAll(request);
+            service.fetchPage(request, null, null);
 
-            verify(repository).findAll(captor.capture());
+            verify(repository).findBy(captor.capture(), any());
 
             final TeamGame teamGame = captor.getValue().getProbe();
 
@@ -76,12 +91,12 @@ class TeamGameSearchServiceTest {
         }
 
         @Test
-        void shouldReturnResponsesMappedFromTheTeamGamesReturnedByRepository() {
+        void shouldReturnResponsesMappedFromTheTeamGamesReturnedByRepository() throws InvalidCursorException {
             final TeamGame teamGame = generateTeamGame(GameType.PRESEASON);
 
-            when(repository.findAll(ArgumentMatchers.<Example<TeamGame>>any())).thenReturn(Collections.singletonList(teamGame));
+            when(repository.findBy(ArgumentMatchers.<Example<TeamGame>>any(), any())).thenReturn(Window.from(Collections.singletonList(teamGame), ScrollPosition::offset));
 
-            final List<TeamGameResponse> result = service.fetchAll(new TeamGameSearchRequest());
+            final List<TeamGameResponse> result = service.fetchPage(new TeamGameSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -120,12 +135,12 @@ class TeamGameSearchServiceTest {
         }
 
         @Test
-        void shouldMapRoadValueFromIntegerToBooleanInResponseWhenFalse() {
+        void shouldMapRoadValueFromIntegerToBooleanInResponseWhenFalse() throws InvalidCursorException {
             final TeamGame teamGame = TeamGame.builder().road(0).build();
 
-            when(repository.findAll(ArgumentMatchers.<Example<TeamGame>>any())).thenReturn(Collections.singletonList(teamGame));
+            when(repository.findBy(ArgumentMatchers.<Example<TeamGame>>any(), any())).thenReturn(Window.from(Collections.singletonList(teamGame), ScrollPosition::offset));
 
-            final List<TeamGameResponse> result = service.fetchAll(new TeamGameSearchRequest());
+            final List<TeamGameResponse> result = service.fetchPage(new TeamGameSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -135,12 +150,12 @@ class TeamGameSearchServiceTest {
         }
 
         @Test
-        void shouldMapRoadValueFromIntegerToBooleanInResponseWhenTrue() {
+        void shouldMapRoadValueFromIntegerToBooleanInResponseWhenTrue() throws InvalidCursorException {
             final TeamGame teamGame = TeamGame.builder().road(1).build();
 
-            when(repository.findAll(ArgumentMatchers.<Example<TeamGame>>any())).thenReturn(Collections.singletonList(teamGame));
+            when(repository.findBy(ArgumentMatchers.<Example<TeamGame>>any(), any())).thenReturn(Window.from(Collections.singletonList(teamGame), ScrollPosition::offset));
 
-            final List<TeamGameResponse> result = service.fetchAll(new TeamGameSearchRequest());
+            final List<TeamGameResponse> result = service.fetchPage(new TeamGameSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -150,12 +165,12 @@ class TeamGameSearchServiceTest {
         }
 
         @Test
-        void shouldMapRoadValueFromIntegerToBooleanInResponseWhenNull() {
+        void shouldMapRoadValueFromIntegerToBooleanInResponseWhenNull() throws InvalidCursorException {
             final TeamGame teamGame = TeamGame.builder().build();
 
-            when(repository.findAll(ArgumentMatchers.<Example<TeamGame>>any())).thenReturn(Collections.singletonList(teamGame));
+            when(repository.findBy(ArgumentMatchers.<Example<TeamGame>>any(), any())).thenReturn(Window.from(Collections.singletonList(teamGame), ScrollPosition::offset));
 
-            final List<TeamGameResponse> result = service.fetchAll(new TeamGameSearchRequest());
+            final List<TeamGameResponse> result = service.fetchPage(new TeamGameSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -165,12 +180,12 @@ class TeamGameSearchServiceTest {
         }
 
         @Test
-        void shouldMapOvertimeValueFromIntegerToBooleanInResponseWhenFalse() {
+        void shouldMapOvertimeValueFromIntegerToBooleanInResponseWhenFalse() throws InvalidCursorException {
             final TeamGame teamGame = TeamGame.builder().overtime(0).build();
 
-            when(repository.findAll(ArgumentMatchers.<Example<TeamGame>>any())).thenReturn(Collections.singletonList(teamGame));
+            when(repository.findBy(ArgumentMatchers.<Example<TeamGame>>any(), any())).thenReturn(Window.from(Collections.singletonList(teamGame), ScrollPosition::offset));
 
-            final List<TeamGameResponse> result = service.fetchAll(new TeamGameSearchRequest());
+            final List<TeamGameResponse> result = service.fetchPage(new TeamGameSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -180,12 +195,12 @@ class TeamGameSearchServiceTest {
         }
 
         @Test
-        void shouldMapOvertimeValueFromIntegerToBooleanInResponseWhenTrue() {
+        void shouldMapOvertimeValueFromIntegerToBooleanInResponseWhenTrue() throws InvalidCursorException {
             final TeamGame teamGame = TeamGame.builder().overtime(1).build();
 
-            when(repository.findAll(ArgumentMatchers.<Example<TeamGame>>any())).thenReturn(Collections.singletonList(teamGame));
+            when(repository.findBy(ArgumentMatchers.<Example<TeamGame>>any(), any())).thenReturn(Window.from(Collections.singletonList(teamGame), ScrollPosition::offset));
 
-            final List<TeamGameResponse> result = service.fetchAll(new TeamGameSearchRequest());
+            final List<TeamGameResponse> result = service.fetchPage(new TeamGameSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -195,12 +210,12 @@ class TeamGameSearchServiceTest {
         }
 
         @Test
-        void shouldMapOvertimeValueFromIntegerToBooleanInResponseWhenNull() {
+        void shouldMapOvertimeValueFromIntegerToBooleanInResponseWhenNull() throws InvalidCursorException {
             final TeamGame teamGame = TeamGame.builder().build();
 
-            when(repository.findAll(ArgumentMatchers.<Example<TeamGame>>any())).thenReturn(Collections.singletonList(teamGame));
+            when(repository.findBy(ArgumentMatchers.<Example<TeamGame>>any(), any())).thenReturn(Window.from(Collections.singletonList(teamGame), ScrollPosition::offset));
 
-            final List<TeamGameResponse> result = service.fetchAll(new TeamGameSearchRequest());
+            final List<TeamGameResponse> result = service.fetchPage(new TeamGameSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -210,12 +225,12 @@ class TeamGameSearchServiceTest {
         }
 
         @Test
-        void shouldMapWinValueFromIntegerToBooleanInResponseWhenFalse() {
+        void shouldMapWinValueFromIntegerToBooleanInResponseWhenFalse() throws InvalidCursorException {
             final TeamGame teamGame = TeamGame.builder().win(0).build();
 
-            when(repository.findAll(ArgumentMatchers.<Example<TeamGame>>any())).thenReturn(Collections.singletonList(teamGame));
+            when(repository.findBy(ArgumentMatchers.<Example<TeamGame>>any(), any())).thenReturn(Window.from(Collections.singletonList(teamGame), ScrollPosition::offset));
 
-            final List<TeamGameResponse> result = service.fetchAll(new TeamGameSearchRequest());
+            final List<TeamGameResponse> result = service.fetchPage(new TeamGameSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -225,12 +240,12 @@ class TeamGameSearchServiceTest {
         }
 
         @Test
-        void shouldMapWinValueFromIntegerToBooleanInResponseWhenTrue() {
+        void shouldMapWinValueFromIntegerToBooleanInResponseWhenTrue() throws InvalidCursorException {
             final TeamGame teamGame = TeamGame.builder().win(1).build();
 
-            when(repository.findAll(ArgumentMatchers.<Example<TeamGame>>any())).thenReturn(Collections.singletonList(teamGame));
+            when(repository.findBy(ArgumentMatchers.<Example<TeamGame>>any(), any())).thenReturn(Window.from(Collections.singletonList(teamGame), ScrollPosition::offset));
 
-            final List<TeamGameResponse> result = service.fetchAll(new TeamGameSearchRequest());
+            final List<TeamGameResponse> result = service.fetchPage(new TeamGameSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -240,12 +255,12 @@ class TeamGameSearchServiceTest {
         }
 
         @Test
-        void shouldMapWinValueFromIntegerToBooleanInResponseWhenNull() {
+        void shouldMapWinValueFromIntegerToBooleanInResponseWhenNull() throws InvalidCursorException {
             final TeamGame teamGame = TeamGame.builder().build();
 
-            when(repository.findAll(ArgumentMatchers.<Example<TeamGame>>any())).thenReturn(Collections.singletonList(teamGame));
+            when(repository.findBy(ArgumentMatchers.<Example<TeamGame>>any(), any())).thenReturn(Window.from(Collections.singletonList(teamGame), ScrollPosition::offset));
 
-            final List<TeamGameResponse> result = service.fetchAll(new TeamGameSearchRequest());
+            final List<TeamGameResponse> result = service.fetchPage(new TeamGameSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -255,7 +270,7 @@ class TeamGameSearchServiceTest {
         }
 
         @Test
-        void shouldReturnSameNumberOfResponsesAsTeamGamesReturnedByRepository() {
+        void shouldReturnSameNumberOfResponsesAsTeamGamesReturnedByRepository() throws InvalidCursorException {
             final List<TeamGame> teamGameList = List.of(
                     new TeamGame(),
                     new TeamGame(),
@@ -263,9 +278,9 @@ class TeamGameSearchServiceTest {
                     new TeamGame()
             );
 
-            when(repository.findAll(ArgumentMatchers.<Example<TeamGame>>any())).thenReturn(teamGameList);
+            when(repository.findBy(ArgumentMatchers.<Example<TeamGame>>any(), any())).thenReturn(Window.from(teamGameList, ScrollPosition::offset));
 
-            final List<TeamGameResponse> result = service.fetchAll(new TeamGameSearchRequest());
+            final List<TeamGameResponse> result = service.fetchPage(new TeamGameSearchRequest(), null, null).getResources();
 
             assertEquals(teamGameList.size(), result.size());
         }
@@ -0,0 +1,90 @@
+package org.natc.app.service.search;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.natc.app.entity.domain.GameType;
+import org.natc.app.entity.domain.TeamGame;
+import org.natc.app.entity.request.TeamGameSearchRequest;
+import org.natc.app.entity.response.TeamGameResponse;
+import org.natc.app.repository.TeamGameRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TeamGameStreamingServiceTest {
+
+    @Captor
+    private ArgumentCaptor<TeamGame> captor;
+
+    @Mock
+    private TeamGameRepository repository;
+
+    @InjectMocks
+    private TeamGameStreamingService service;
+
+    @Nested
+    class StreamAll {
+
+        @Test
+        void shouldCallRepositoryWithProbeBasedOnRequest() {
+            final TeamGameSearchRequest request = TeamGameSearchRequest.builder()
+                    .gameId(123)
+                    .year("2014")
+                    .datestamp(LocalDate.now())
+                    .type(GameType.REGULAR_SEASON)
+                    .teamId(32)
+                    .opponent(23)
+                    .build();
+
+            service.streamAll(request, response -> {});
+
+            verify(repository).streamAll(captor.capture(), any());
+
+            final TeamGame probe = captor.getValue();
+
+            assertEquals(request.getGameId(), probe.getGameId());
+            assertEquals(request.getYear(), probe.getYear());
+            assertEquals(request.getDatestamp(), probe.getDatestamp());
+            assertEquals(request.getTeamId(), probe.getTeamId());
+            assertEquals(request.getOpponent(), probe.getOpponent());
+            assertEquals(request.getType().getValue(), probe.getType());
+        }
+
+        @Test
+        void shouldPassEveryRowToTheConsumerMappedToAResponseInOrder() {
+            final TeamGame first = TeamGame.builder().teamId(1).year("2014").type(GameType.REGULAR_SEASON.getValue()).build();
+            final TeamGame second = TeamGame.builder().teamId(2).year("2014").type(GameType.REGULAR_SEASON.getValue()).build();
+            final List<TeamGameResponse> responses = new ArrayList<>();
+
+            doAnswer(invocation -> {
+                final Consumer<TeamGame> consumer = invocation.getArgument(1);
+
+                consumer.accept(first);
+                consumer.accept(second);
+
+                return null;
+            }).when(repository).streamAll(any(), any());
+
+            service.streamAll(new TeamGameSearchRequest(), responses::add);
+
+            assertEquals(2, responses.size());
+            assertEquals(first.getTeamId(), responses.get(0).getTeamId());
+            assertEquals(second.getTeamId(), responses.get(1).getTeamId());
+            assertEquals(GameType.REGULAR_SEASON, responses.get(0).getType());
+        }
+    }
+}
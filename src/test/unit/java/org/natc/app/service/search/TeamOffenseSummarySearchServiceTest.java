@@ -1,15 +1,20 @@
 package org.natc.app.service.search;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.natc.app.configuration.SearchConfiguration;
 import org.natc.app.entity.domain.GameType;
 import org.natc.app.entity.domain.TeamOffenseSummary;
 import org.natc.app.entity.request.TeamOffenseSummarySearchRequest;
 import org.natc.app.entity.response.TeamOffenseSummaryResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Arrays;
@@ -17,6 +22,8 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -29,37 +36,45 @@ class TeamOffenseSummarySearchServiceTest {
     @Mock
     private JpaRepository repository;
 
+    @Spy
+    private KeysetPaginator keysetPaginator = new KeysetPaginator(new SearchConfiguration());
+
     @InjectMocks
     private TeamOffenseSummarySearchService service;
 
+    @BeforeEach
+    void setup() {
+        lenient().when(repository.findBy(any(), any())).thenReturn(Window.from(Collections.emptyList(), ScrollPosition::offset));
+    }
+
     @Nested
-    class FetchAll {
+    class FetchPage {
 
         @Test
-        void shouldReturnAListOfTeamOffenseSummaryResponses() {
-            final List<TeamOffenseSummaryResponse> result = service.fetchAll(new TeamOffenseSummarySearchRequest());
+        void shouldReturnAListOfTeamOffenseSummaryResponses() throws InvalidCursorException {
+            final List<TeamOffenseSummaryResponse> result = service.fetchPage(new TeamOffenseSummarySearchRequest(), null, null).getResources();
 
             assertEquals(0, result.size());
         }
 
         @Test
-        void shouldCallTheRepositoryWithAnExampleTeamOffenseSummary() {
-            service.fetchAll(new TeamOffenseSummarySearchRequest());
+        void shouldCallTheRepositoryWithAnExampleTeamOffenseSummary() throws InvalidCursorException {
+            service.fetchPage(new TeamOffenseSummarySearchRequest(), null, null);
 
-            verify(repository).findAll(ArgumentMatchers.<Example<TeamOffenseSummary>>any());
+            verify(repository).findBy(ArgumentMatchers.<Example<TeamOffenseSummary>>any(), any());
         }
 
         @Test
-        void shouldCallRepositoryWithExampleBasedOnRequest() {
+        void shouldCallRepositoryWithExampleBasedOnRequest() throws InvalidCursorException {
             final TeamOffenseSummarySearchRequest request = TeamOffenseSummarySearchRequest.builder()
                     .year("2002")
                     .type(GameType.ALLSTAR)
                     .teamId(123)
                     .build();
 
-            service.fetchAll(request);
+            service.fetchPage(request, null, null);
 
-            verify(repository).findAll(captor.capture());
+            verify(repository).findBy(captor.capture(), any());
 
             final TeamOffenseSummary teamOffenseSummary = captor.getValue().getProbe();
 
@@ -69,13 +84,13 @@ class TeamOffenseSummarySearchServiceTest {
         }
 
         @Test
-        void shouldReturnResponsesMappedFromTheTeamOffenseSummariesReturnedByRepository() {
+        void shouldReturnResponsesMappedFromTheTeamOffenseSummariesReturnedByRepository() throws InvalidCursorException {
             final TeamOffenseSummary teamOffenseSummary = generateTeamOffenseSummary(GameType.REGULAR_SEASON);
 
-            when(repository.findAll(ArgumentMatchers.<Example<TeamOffenseSummary>>any()))
-                    .thenReturn(Collections.singletonList(teamOffenseSummary));
+            when(repository.findBy(ArgumentMatchers.<Example<TeamOffenseSummary>>any(), any()))
+                    .thenReturn(Window.from(Collections.singletonList(teamOffenseSummary), ScrollPosition::offset));
 
-            final List<TeamOffenseSummaryResponse> result = service.fetchAll(new TeamOffenseSummarySearchRequest());
+            final List<TeamOffenseSummaryResponse> result = service.fetchPage(new TeamOffenseSummarySearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -101,7 +116,7 @@ class TeamOffenseSummarySearchServiceTest {
         }
 
         @Test
-        void shouldReturnSameNumberOfResponsesAsTeamOffenseSummariesReturnedByRepository() {
+        void shouldReturnSameNumberOfResponsesAsTeamOffenseSummariesReturnedByRepository() throws InvalidCursorException {
             final List<TeamOffenseSummary> teamOffenseSummaryList = List.of(
                     new TeamOffenseSummary(),
                     new TeamOffenseSummary(),
@@ -109,9 +124,9 @@ class TeamOffenseSummarySearchServiceTest {
                     new TeamOffenseSummary()
             );
 
-            when(repository.findAll(ArgumentMatchers.<Example<TeamOffenseSummary>>any())).thenReturn(teamOffenseSummaryList);
+            when(repository.findBy(ArgumentMatchers.<Example<TeamOffenseSummary>>any(), any())).thenReturn(Window.from(teamOffenseSummaryList, ScrollPosition::offset));
 
-            final List<TeamOffenseSummaryResponse> result = service.fetchAll(new TeamOffenseSummarySearchRequest());
+            final List<TeamOffenseSummaryResponse> result = service.fetchPage(new TeamOffenseSummarySearchRequest(), null, null).getResources();
 
             assertEquals(teamOffenseSummaryList.size(), result.size());
         }
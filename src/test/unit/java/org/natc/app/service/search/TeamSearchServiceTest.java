@@ -1,14 +1,19 @@
 package org.natc.app.service.search;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.natc.app.configuration.SearchConfiguration;
 import org.natc.app.entity.domain.Team;
 import org.natc.app.entity.request.TeamSearchRequest;
 import org.natc.app.entity.response.TeamResponse;
+import org.natc.app.exception.InvalidCursorException;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Arrays;
@@ -16,6 +21,8 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -27,28 +34,36 @@ class TeamSearchServiceTest {
     @Mock
     private JpaRepository teamRepository;
 
+    @Spy
+    private KeysetPaginator keysetPaginator = new KeysetPaginator(new SearchConfiguration());
+
     @InjectMocks
     private TeamSearchService teamSearchService;
 
+    @BeforeEach
+    void setup() {
+        lenient().when(teamRepository.findBy(any(), any())).thenReturn(Window.from(Collections.emptyList(), ScrollPosition::offset));
+    }
+
     @Nested
-    class FetchAll {
+    class FetchPage {
 
         @Test
-        void shouldReturnAListOfTeamResponses() {
-            final List<TeamResponse> result = teamSearchService.fetchAll(new TeamSearchRequest());
+        void shouldReturnAListOfTeamResponses() throws InvalidCursorException {
+            final List<TeamResponse> result = teamSearchService.fetchPage(new TeamSearchRequest(), null, null).getResources();
 
             assertEquals(0, result.size());
         }
 
         @Test
-        void shouldCallTheTeamRepositoryWithAnExampleTeam() {
-            teamSearchService.fetchAll(new TeamSearchRequest());
+        void shouldCallTheTeamRepositoryWithAnExampleTeam() throws InvalidCursorException {
+            teamSearchService.fetchPage(new TeamSearchRequest(), null, null);
 
-            verify(teamRepository).findAll(ArgumentMatchers.<Example<Team>>any());
+            verify(teamRepository).findBy(ArgumentMatchers.<Example<Team>>any(), any());
         }
 
         @Test
-        void shouldCallTeamRepositoryWithExampleTeamBasedOnRequest() {
+        void shouldCallTeamRepositoryWithExampleTeamBasedOnRequest() throws InvalidCursorException {
             final TeamSearchRequest request = TeamSearchRequest.builder()
                     .teamId(123)
                     .year("1999")
@@ -57,9 +72,9 @@ class TeamSearchServiceTest {
                     .allstarTeam(false)
                     .build();
 
-            teamSearchService.fetchAll(request);
+            teamSearchService.fetchPage(request, null, null);
 
-            verify(teamRepository).findAll(captor.capture());
+            verify(teamRepository).findBy(captor.capture(), any());
 
             final Team team = captor.getValue().getProbe();
 
@@ -72,43 +87,43 @@ class TeamSearchServiceTest {
         }
 
         @Test
-        void shouldSetAllstarTeamTo0WhenArgIsFalse() {
+        void shouldSetAllstarTeamTo0WhenArgIsFalse() throws InvalidCursorException {
             final TeamSearchRequest request = TeamSearchRequest.builder().allstarTeam(false).build();
 
-            teamSearchService.fetchAll(request);
+            teamSearchService.fetchPage(request, null, null);
 
-            verify(teamRepository).findAll(captor.capture());
+            verify(teamRepository).findBy(captor.capture(), any());
 
             assertEquals(0, captor.getValue().getProbe().getAllstarTeam());
         }
 
         @Test
-        void shouldSetAllstarTeamTo1WhenArgIsTrue() {
+        void shouldSetAllstarTeamTo1WhenArgIsTrue() throws InvalidCursorException {
             final TeamSearchRequest request = TeamSearchRequest.builder().allstarTeam(true).build();
 
-            teamSearchService.fetchAll(request);
+            teamSearchService.fetchPage(request, null, null);
 
-            verify(teamRepository).findAll(captor.capture());
+            verify(teamRepository).findBy(captor.capture(), any());
 
             assertEquals(1, captor.getValue().getProbe().getAllstarTeam());
         }
 
         @Test
-        void shouldSetAllstarTeamToNullWhenArgIsNull() {
-            teamSearchService.fetchAll(new TeamSearchRequest());
+        void shouldSetAllstarTeamToNullWhenArgIsNull() throws InvalidCursorException {
+            teamSearchService.fetchPage(new TeamSearchRequest(), null, null);
 
-            verify(teamRepository).findAll(captor.capture());
+            verify(teamRepository).findBy(captor.capture(), any());
 
             assertNull(captor.getValue().getProbe().getAllstarTeam());
         }
 
         @Test
-        void shouldReturnTeamResponsesMappedFromTheTeamsReturnedByRepository() {
+        void shouldReturnTeamResponsesMappedFromTheTeamsReturnedByRepository() throws InvalidCursorException {
             final Team team = generateTeam();
 
-            when(teamRepository.findAll(ArgumentMatchers.<Example<Team>>any())).thenReturn(Collections.singletonList(team));
+            when(teamRepository.findBy(ArgumentMatchers.<Example<Team>>any(), any())).thenReturn(Window.from(Collections.singletonList(team), ScrollPosition::offset));
 
-            final List<TeamResponse> result = teamSearchService.fetchAll(new TeamSearchRequest());
+            final List<TeamResponse> result = teamSearchService.fetchPage(new TeamSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -152,12 +167,12 @@ class TeamSearchServiceTest {
         }
 
         @Test
-        void shouldMapAllstarTeamValueFromIntegerToBooleanInResponseWhenFalse() {
+        void shouldMapAllstarTeamValueFromIntegerToBooleanInResponseWhenFalse() throws InvalidCursorException {
             final Team team = Team.builder().allstarTeam(0).build();
 
-            when(teamRepository.findAll(ArgumentMatchers.<Example<Team>>any())).thenReturn(Collections.singletonList(team));
+            when(teamRepository.findBy(ArgumentMatchers.<Example<Team>>any(), any())).thenReturn(Window.from(Collections.singletonList(team), ScrollPosition::offset));
 
-            final List<TeamResponse> result = teamSearchService.fetchAll(new TeamSearchRequest());
+            final List<TeamResponse> result = teamSearchService.fetchPage(new TeamSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -167,12 +182,12 @@ class TeamSearchServiceTest {
         }
 
         @Test
-        void shouldMapAllstarTeamValueFromIntegerToBooleanInResponseWhenTrue() {
+        void shouldMapAllstarTeamValueFromIntegerToBooleanInResponseWhenTrue() throws InvalidCursorException {
             final Team team = Team.builder().allstarTeam(1).build();
 
-            when(teamRepository.findAll(ArgumentMatchers.<Example<Team>>any())).thenReturn(Collections.singletonList(team));
+            when(teamRepository.findBy(ArgumentMatchers.<Example<Team>>any(), any())).thenReturn(Window.from(Collections.singletonList(team), ScrollPosition::offset));
 
-            final List<TeamResponse> result = teamSearchService.fetchAll(new TeamSearchRequest());
+            final List<TeamResponse> result = teamSearchService.fetchPage(new TeamSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -182,12 +197,12 @@ class TeamSearchServiceTest {
         }
 
         @Test
-        void shouldMapAllstarTeamValueFromIntegerToBooleanInResponseWhenNull() {
+        void shouldMapAllstarTeamValueFromIntegerToBooleanInResponseWhenNull() throws InvalidCursorException {
             final Team team = new Team();
 
-            when(teamRepository.findAll(ArgumentMatchers.<Example<Team>>any())).thenReturn(Collections.singletonList(team));
+            when(teamRepository.findBy(ArgumentMatchers.<Example<Team>>any(), any())).thenReturn(Window.from(Collections.singletonList(team), ScrollPosition::offset));
 
-            final List<TeamResponse> result = teamSearchService.fetchAll(new TeamSearchRequest());
+            final List<TeamResponse> result = teamSearchService.fetchPage(new TeamSearchRequest(), null, null).getResources();
 
             assertEquals(1, result.size());
 
@@ -197,12 +212,12 @@ class TeamSearchServiceTest {
         }
 
         @Test
-        void shouldReturnSameNumberOfResponsesAsTeamsReturnedByRepository() {
+        void shouldReturnSameNumberOfResponsesAsTeamsReturnedByRepository() throws InvalidCursorException {
             final List<Team> teamList = List.of(new Team(), new Team(), new Team());
 
-            when(teamRepository.findAll(ArgumentMatchers.<Example<Team>>any())).thenReturn(teamList);
+            when(teamRepository.findBy(ArgumentMatchers.<Example<Team>>any(), any())).thenReturn(Window.from(teamList, ScrollPosition::offset));
 
-            final List<TeamResponse> result = teamSearchService.fetchAll(new TeamSearchRequest());
+            final List<TeamResponse> result = teamSearchService.fetchPage(new TeamSearchRequest(), null, null).getResources();
 
             assertEquals(teamList.size(), result.size());
         }
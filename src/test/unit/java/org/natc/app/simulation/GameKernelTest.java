@@ -0,0 +1,158 @@
+package org.natc.app.simulation;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.natc.app.entity.domain.GameType;
+import org.natc.app.entity.domain.Player;
+import org.natc.app.entity.domain.PlayerGame;
+import org.natc.app.entity.domain.TeamGame;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.natc.app.simulation.GameKernel.*;
+
+class GameKernelTest {
+
+    @Nested
+    class Play {
+
+        @Test
+        void shouldPlayEverySecondOfRegulation() {
+            for (int seed = 0; seed < 20; ++seed) {
+                final GameKernel kernel = playGame(13, 13, seed);
+                final GameSetup setup = generateSetup(13, 13);
+                final TeamGame home = kernel.toTeamGame(setup, HOME);
+                final TeamGame road = kernel.toTeamGame(setup, ROAD);
+
+                if (!kernel.isOvertime()) {
+                    assertEquals(PERIODS * SECONDS_PER_PERIOD, home.getPossessionTime() + road.getPossessionTime());
+                }
+                else {
+                    assertTrue(home.getPossessionTime() + road.getPossessionTime() > PERIODS * SECONDS_PER_PERIOD);
+                }
+            }
+        }
+
+        @Test
+        void shouldKeepAFullLineupOnTheCourtForEveryPossession() {
+            final GameKernel kernel = playGame(13, 13, 5);
+            final GameSetup setup = generateSetup(13, 13);
+            final List<PlayerGame> playerGames = new ArrayList<>();
+
+            kernel.addPlayerGames(setup, HOME, playerGames);
+
+            final TeamGame home = kernel.toTeamGame(setup, HOME);
+            final TeamGame road = kernel.toTeamGame(setup, ROAD);
+
+            assertEquals(LINEUP_SIZE * (home.getPossessionTime() + road.getPossessionTime()), playerGames.stream().mapToInt(PlayerGame::getPlayingTime).sum());
+        }
+
+        @Test
+        void shouldStartTheBestPlayers() {
+            final GameKernel kernel = playGame(13, 13, 1);
+            final List<PlayerGame> playerGames = new ArrayList<>();
+
+            kernel.addPlayerGames(generateSetup(13, 13), HOME, playerGames);
+
+            // ratings rise with the player id, so the five highest ids start
+            for (final PlayerGame playerGame : playerGames) {
+                assertEquals(playerGame.getPlayerId() >= 108 ? 1 : 0, playerGame.getStarted());
+            }
+        }
+
+        @Test
+        void shouldRotateTiredStartersToTheBench() {
+            final GameKernel kernel = playGame(13, 13, 1);
+            final List<PlayerGame> playerGames = new ArrayList<>();
+
+            kernel.addPlayerGames(generateSetup(13, 13), HOME, playerGames);
+
+            assertTrue(playerGames.stream().filter(playerGame -> playerGame.getStarted() == 0).anyMatch(playerGame -> playerGame.getPlayingTime() > 0));
+            assertTrue(playerGames.stream().filter(playerGame -> playerGame.getStarted() == 1).allMatch(playerGame -> playerGame.getPlayingTime() < PERIODS * SECONDS_PER_PERIOD));
+        }
+
+        @Test
+        void shouldProduceTheSameResultWhenTheKernelIsReused() {
+            final GameSetup setup = generateSetup(13, 13);
+            final GameKernel reused = playGame(13, 13, 99);
+
+            reused.load(setup.getHomePlayers(), setup.getRoadPlayers());
+            reused.play(new SplittableRandom(7));
+
+            final GameKernel fresh = playGame(13, 13, 7);
+
+            assertEquals(fresh.getSequence(), reused.getSequence());
+            assertEquals(fresh.getScore(HOME), reused.getScore(HOME));
+            assertEquals(fresh.getScore(ROAD), reused.getScore(ROAD));
+        }
+
+        @Test
+        void shouldGrowToFitLargerRosters() {
+            final GameKernel kernel = playGame(30, 4, 3);
+            final GameSetup setup = generateSetup(30, 4);
+            final List<PlayerGame> playerGames = new ArrayList<>();
+
+            kernel.addPlayerGames(setup, HOME, playerGames);
+            kernel.addPlayerGames(setup, ROAD, playerGames);
+
+            assertEquals(34, playerGames.size());
+        }
+    }
+
+    private GameKernel playGame(final int homeCount, final int roadCount, final long seed) {
+        final GameSetup setup = generateSetup(homeCount, roadCount);
+        final GameKernel kernel = new GameKernel();
+
+        kernel.load(setup.getHomePlayers(), setup.getRoadPlayers());
+        kernel.play(new SplittableRandom(seed));
+
+        return kernel;
+    }
+
+    private GameSetup generateSetup(final int homeCount, final int roadCount) {
+        return GameSetup.builder()
+                .gameId(1)
+                .year("2001")
+                .datestamp(LocalDate.of(2001, 6, 1))
+                .gameType(GameType.REGULAR_SEASON)
+                .homeTeamId(1)
+                .roadTeamId(2)
+                .homePlayers(generatePlayers(100, homeCount))
+                .roadPlayers(generatePlayers(200, roadCount))
+                .build();
+    }
+
+    private List<Player> generatePlayers(final int firstPlayerId, final int count) {
+        final List<Player> players = new ArrayList<>();
+
+        for (int i = 0; i < count; ++i) {
+            final double rating = 0.2 + (0.6 * i / count);
+
+            players.add(Player.builder()
+                    .playerId(firstPlayerId + i)
+                    .year("2001")
+                    .age(25)
+                    .scoring(rating)
+                    .passing(rating)
+                    .blocking(rating)
+                    .tackling(rating)
+                    .stealing(rating)
+                    .presence(rating)
+                    .discipline(rating)
+                    .penaltyShot(rating)
+                    .penaltyOffense(rating)
+                    .penaltyDefense(rating)
+                    .endurance(rating)
+                    .confidence(rating)
+                    .vitality(rating)
+                    .durability(rating)
+                    .build());
+        }
+
+        return players;
+    }
+}
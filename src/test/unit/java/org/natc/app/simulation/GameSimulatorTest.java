@@ -0,0 +1,273 @@
+package org.natc.app.simulation;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.natc.app.entity.domain.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSimulatorTest {
+
+    private static final int HOME_TEAM = 1;
+    private static final int ROAD_TEAM = 2;
+
+    private final GameSimulator gameSimulator = new GameSimulator();
+
+    @Nested
+    class Simulate {
+
+        @Test
+        void shouldReturnATeamGameForEachTeam() {
+            final GameResult result = gameSimulator.simulate(generateSetup(), new SplittableRandom(1));
+
+            assertEquals(2, result.getTeamGames().size());
+
+            final TeamGame home = result.getTeamGames().get(0);
+            final TeamGame road = result.getTeamGames().get(1);
+
+            assertEquals(HOME_TEAM, home.getTeamId());
+            assertEquals(ROAD_TEAM, home.getOpponent());
+            assertEquals(0, home.getRoad());
+            assertEquals(ROAD_TEAM, road.getTeamId());
+            assertEquals(HOME_TEAM, road.getOpponent());
+            assertEquals(1, road.getRoad());
+        }
+
+        @Test
+        void shouldCopyTheGameDetailsFromTheSetupToTheTeamGames() {
+            final GameSetup setup = generateSetup();
+            final GameResult result = gameSimulator.simulate(setup, new SplittableRandom(1));
+
+            for (final TeamGame teamGame : result.getTeamGames()) {
+                assertEquals(setup.getGameId(), teamGame.getGameId());
+                assertEquals(setup.getYear(), teamGame.getYear());
+                assertEquals(setup.getDatestamp(), teamGame.getDatestamp());
+                assertEquals(GameType.REGULAR_SEASON.getValue(), teamGame.getType());
+                assertEquals(0, teamGame.getPlayoffRound());
+            }
+        }
+
+        @Test
+        void shouldAlwaysProduceExactlyOneWinner() {
+            for (int seed = 0; seed < 200; ++seed) {
+                final GameResult result = gameSimulator.simulate(generateSetup(), new SplittableRandom(seed));
+                final TeamGame home = result.getTeamGames().get(0);
+                final TeamGame road = result.getTeamGames().get(1);
+
+                assertEquals(1, home.getWin() + road.getWin());
+                assertNotEquals(home.getTotalScore(), road.getTotalScore());
+                assertEquals(home.getOvertime(), road.getOvertime());
+            }
+        }
+
+        @Test
+        void shouldTotalThePeriodAndOvertimeScores() {
+            for (int seed = 0; seed < 50; ++seed) {
+                final GameResult result = gameSimulator.simulate(generateSetup(), new SplittableRandom(seed));
+
+                for (final TeamGame teamGame : result.getTeamGames()) {
+                    assertEquals(
+                            teamGame.getPeriod1Score() + teamGame.getPeriod2Score() + teamGame.getPeriod3Score() +
+                                    teamGame.getPeriod4Score() + teamGame.getPeriod5Score() + teamGame.getOvertimeScore(),
+                            teamGame.getTotalScore()
+                    );
+                }
+            }
+        }
+
+        @Test
+        void shouldReturnAPlayerGameForEveryPlayerOnBothTeams() {
+            final GameResult result = gameSimulator.simulate(generateSetup(), new SplittableRandom(1));
+
+            assertEquals(26, result.getPlayerGames().size());
+            assertEquals(13, result.getPlayerGames().stream().filter(playerGame -> playerGame.getTeamId() == HOME_TEAM).count());
+            assertEquals(13, result.getPlayerGames().stream().filter(playerGame -> playerGame.getTeamId() == ROAD_TEAM).count());
+        }
+
+        @Test
+        void shouldStartFivePlayersForEachTeam() {
+            final GameResult result = gameSimulator.simulate(generateSetup(), new SplittableRandom(1));
+
+            assertEquals(5, result.getPlayerGames().stream().filter(playerGame -> playerGame.getTeamId() == HOME_TEAM && playerGame.getStarted() == 1).count());
+            assertEquals(5, result.getPlayerGames().stream().filter(playerGame -> playerGame.getTeamId() == ROAD_TEAM && playerGame.getStarted() == 1).count());
+        }
+
+        @Test
+        void shouldMatchTeamTotalsToTheSumOfThePlayerStats() {
+            final GameResult result = gameSimulator.simulate(generateSetup(), new SplittableRandom(7));
+
+            for (final TeamGame teamGame : result.getTeamGames()) {
+                final List<PlayerGame> playerGames = result.getPlayerGames().stream().filter(playerGame -> playerGame.getTeamId().equals(teamGame.getTeamId())).toList();
+
+                assertEquals(teamGame.getGoals(), playerGames.stream().mapToInt(PlayerGame::getGoals).sum());
+                assertEquals(teamGame.getAttempts(), playerGames.stream().mapToInt(PlayerGame::getAttempts).sum());
+                assertEquals(teamGame.getTurnovers(), playerGames.stream().mapToInt(PlayerGame::getTurnovers).sum());
+                assertEquals(teamGame.getPenaltyShotsMade(), playerGames.stream().mapToInt(PlayerGame::getPenaltyShotsMade).sum());
+            }
+        }
+
+        @Test
+        void shouldSetPointsToGoalsPlusAssists() {
+            final GameResult result = gameSimulator.simulate(generateSetup(), new SplittableRandom(3));
+
+            for (final PlayerGame playerGame : result.getPlayerGames()) {
+                assertEquals(playerGame.getGoals() + playerGame.getAssists(), playerGame.getPoints());
+            }
+        }
+
+        @Test
+        void shouldReturnAFinalGameState() {
+            final GameSetup setup = generateSetup();
+            final GameState gameState = gameSimulator.simulate(setup, new SplittableRandom(1)).getGameState();
+
+            assertEquals(setup.getGameId(), gameState.getGameId());
+            assertEquals(1, gameState.getStarted());
+            assertEquals(Period.FIFTH.getValue(), gameState.getPeriod());
+            assertEquals(0, gameState.getTimeRemaining());
+            assertEquals(1, gameState.getClockStopped());
+            assertEquals(PossessionType.NONE.getValue(), gameState.getPossession());
+            assertEquals(GameSimulator.FINAL_EVENT, gameState.getLastEvent());
+            assertTrue(gameState.getSequence() > 0);
+        }
+
+        @Test
+        void shouldProduceIdenticalResultsGivenTheSameSeed() {
+            final GameResult first = gameSimulator.simulate(generateSetup(), new SplittableRandom(42));
+            final GameResult second = gameSimulator.simulate(generateSetup(), new SplittableRandom(42));
+
+            assertEquals(summarize(first), summarize(second));
+        }
+
+        @Test
+        void shouldProduceIdenticalResultsRegardlessOfRosterOrder() {
+            final GameSetup setup = generateSetup();
+            final List<Player> homePlayers = new ArrayList<>(setup.getHomePlayers());
+            final List<Player> roadPlayers = new ArrayList<>(setup.getRoadPlayers());
+
+            Collections.reverse(homePlayers);
+            Collections.reverse(roadPlayers);
+
+            final GameSetup reversed = GameSetup.builder()
+                    .gameId(setup.getGameId())
+                    .year(setup.getYear())
+                    .datestamp(setup.getDatestamp())
+                    .gameType(setup.getGameType())
+                    .homeTeamId(HOME_TEAM)
+                    .roadTeamId(ROAD_TEAM)
+                    .homePlayers(homePlayers)
+                    .roadPlayers(roadPlayers)
+                    .build();
+
+            assertEquals(summarize(gameSimulator.simulate(setup, new SplittableRandom(42))), summarize(gameSimulator.simulate(reversed, new SplittableRandom(42))));
+        }
+
+        @Test
+        void shouldProduceDifferentResultsGivenDifferentSeeds() {
+            final List<String> summaries = new ArrayList<>();
+
+            for (int seed = 0; seed < 10; ++seed) {
+                summaries.add(summarize(gameSimulator.simulate(generateSetup(), new SplittableRandom(seed))));
+            }
+
+            assertTrue(summaries.stream().distinct().count() > 1);
+        }
+
+        @Test
+        void shouldPlayWithFewerPlayersThanAFullLineup() {
+            final GameSetup setup = GameSetup.builder()
+                    .gameId(1)
+                    .year("2001")
+                    .datestamp(LocalDate.of(2001, 5, 1))
+                    .gameType(GameType.PRESEASON)
+                    .homeTeamId(HOME_TEAM)
+                    .roadTeamId(ROAD_TEAM)
+                    .homePlayers(generatePlayers(HOME_TEAM, 100, 3))
+                    .roadPlayers(generatePlayers(ROAD_TEAM, 200, 3))
+                    .build();
+
+            final GameResult result = gameSimulator.simulate(setup, new SplittableRandom(1));
+
+            assertEquals(6, result.getPlayerGames().size());
+            assertEquals(GameType.PRESEASON.getValue(), result.getTeamGames().getFirst().getType());
+        }
+    }
+
+    private GameSetup generateSetup() {
+        return GameSetup.builder()
+                .gameId(1001)
+                .year("2001")
+                .datestamp(LocalDate.of(2001, 6, 1))
+                .gameType(GameType.REGULAR_SEASON)
+                .homeTeamId(HOME_TEAM)
+                .roadTeamId(ROAD_TEAM)
+                .homePlayers(generatePlayers(HOME_TEAM, 100, 13))
+                .roadPlayers(generatePlayers(ROAD_TEAM, 200, 13))
+                .build();
+    }
+
+    private List<Player> generatePlayers(final int teamId, final int firstPlayerId, final int count) {
+        final List<Player> players = new ArrayList<>();
+
+        for (int i = 0; i < count; ++i) {
+            final double rating = 0.3 + (i % 7) * 0.1;
+
+            players.add(Player.builder()
+                    .playerId(firstPlayerId + i)
+                    .teamId(teamId)
+                    .year("2001")
+                    .age(25)
+                    .scoring(rating)
+                    .passing(rating)
+                    .blocking(rating)
+                    .tackling(rating)
+                    .stealing(rating)
+                    .presence(rating)
+                    .discipline(rating)
+                    .penaltyShot(rating)
+                    .penaltyOffense(rating)
+                    .penaltyDefense(rating)
+                    .endurance(rating)
+                    .confidence(rating)
+                    .vitality(rating)
+                    .durability(rating)
+                    .build());
+        }
+
+        return players;
+    }
+
+    private String summarize(final GameResult result) {
+        final StringBuilder buffer = new StringBuilder();
+
+        for (final TeamGame teamGame : result.getTeamGames()) {
+            buffer.append(teamGame.getTeamId()).append(':')
+                    .append(teamGame.getPeriod1Score()).append(',')
+                    .append(teamGame.getPeriod2Score()).append(',')
+                    .append(teamGame.getPeriod3Score()).append(',')
+                    .append(teamGame.getPeriod4Score()).append(',')
+                    .append(teamGame.getPeriod5Score()).append(',')
+                    .append(teamGame.getOvertimeScore()).append(',')
+                    .append(teamGame.getPossessions()).append(',')
+                    .append(teamGame.getPossessionTime()).append(';');
+        }
+
+        for (final PlayerGame playerGame : result.getPlayerGames()) {
+            buffer.append(playerGame.getPlayerId()).append(':')
+                    .append(playerGame.getPlayingTime()).append(',')
+                    .append(playerGame.getAttempts()).append(',')
+                    .append(playerGame.getGoals()).append(',')
+                    .append(playerGame.getAssists()).append(',')
+                    .append(playerGame.getStops()).append(',')
+                    .append(playerGame.getSteals()).append(',')
+                    .append(playerGame.getPenalties()).append(';');
+        }
+
+        return buffer.append(result.getGameState().getSequence()).toString();
+    }
+}